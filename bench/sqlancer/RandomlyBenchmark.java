@@ -0,0 +1,142 @@
+package sqlancer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the helpers of {@link Randomly} that the generators call for almost every node. The legacy* benchmarks
+ * measure the primitives of the java.util.Random-based implementation that {@link RandomSource} replaced, next to the
+ * corresponding {@link RandomSource} benchmarks, as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomlyBenchmark {
+
+    private static final long SEED = 42;
+
+    // like the former Randomly.THREAD_RANDOM, which was looked up on each call
+    private static final ThreadLocal<Random> LEGACY_RANDOM = new ThreadLocal<>();
+
+    private Randomly r;
+    private RandomSource source;
+    private final List<Integer> list = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        r = new Randomly(SEED);
+        source = new RandomSource(SEED);
+        LEGACY_RANDOM.set(new Random(SEED));
+        for (int i = 0; i < 16; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public long getInteger() {
+        return r.getInteger();
+    }
+
+    @Benchmark
+    public long getIntegerInRange() {
+        return r.getInteger(-100, 100);
+    }
+
+    @Benchmark
+    public String getString() {
+        return r.getString();
+    }
+
+    @Benchmark
+    public double getDouble() {
+        return r.getDouble();
+    }
+
+    @Benchmark
+    public boolean getBoolean() {
+        return r.getBoolean();
+    }
+
+    @Benchmark
+    public int smallNumber() {
+        return r.smallNumber();
+    }
+
+    @Benchmark
+    public Integer fromList() {
+        return r.fromList(list);
+    }
+
+    @Benchmark
+    public long getNotCachedInteger() {
+        return r.getNotCachedInteger(0, 1000);
+    }
+
+    @Benchmark
+    public long legacyLongInRange() {
+        // see https://stackoverflow.com/a/2546158
+        return LEGACY_RANDOM.get().longs(-100, 100).findFirst().getAsLong();
+    }
+
+    @Benchmark
+    public long longInRange() {
+        return source.nextLong(-100, 100);
+    }
+
+    @Benchmark
+    public int legacyIntInRange() {
+        return LEGACY_RANDOM.get().nextInt(100);
+    }
+
+    @Benchmark
+    public int intInRange() {
+        return source.nextInt(100);
+    }
+
+    @Benchmark
+    public boolean legacyBoolean() {
+        return LEGACY_RANDOM.get().nextBoolean();
+    }
+
+    @Benchmark
+    public boolean nextBoolean() {
+        return source.nextBoolean();
+    }
+
+    @Benchmark
+    public double legacyDouble() {
+        return LEGACY_RANDOM.get().nextDouble();
+    }
+
+    @Benchmark
+    public double nextDouble() {
+        return source.nextDouble();
+    }
+
+    @Benchmark
+    public int legacySmallNumber() {
+        return (int) (Math.abs(LEGACY_RANDOM.get().nextGaussian()) * 2);
+    }
+
+    @Benchmark
+    public int gaussianSmallNumber() {
+        return (int) (Math.abs(source.nextGaussian()) * 2);
+    }
+
+}
@@ -0,0 +1,77 @@
+package sqlancer.clickhouse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.yandex.clickhouse.domain.ClickHouseDataType;
+import sqlancer.Randomly;
+import sqlancer.clickhouse.ast.ClickHouseConstant;
+
+/**
+ * Measures casting ClickHouse constants of all numeric and string types to each other.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClickHouseConstantBenchmark {
+
+    private static final long SEED = 42;
+    private static final int NR_VALUES = 100;
+    private static final ClickHouseDataType[] TYPES = { ClickHouseDataType.UInt8, ClickHouseDataType.Int8,
+            ClickHouseDataType.UInt16, ClickHouseDataType.Int16, ClickHouseDataType.UInt32, ClickHouseDataType.Int32,
+            ClickHouseDataType.UInt64, ClickHouseDataType.Int64 };
+    private static final ClickHouseDataType[] TARGET_TYPES = { ClickHouseDataType.UInt8, ClickHouseDataType.Int8,
+            ClickHouseDataType.UInt16, ClickHouseDataType.Int16, ClickHouseDataType.UInt32, ClickHouseDataType.Int32,
+            ClickHouseDataType.UInt64, ClickHouseDataType.Int64, ClickHouseDataType.Float32, ClickHouseDataType.Float64,
+            ClickHouseDataType.String };
+
+    private final List<ClickHouseConstant> constants = new ArrayList<>();
+    private final List<ClickHouseDataType> targetTypes = new ArrayList<>();
+    private int next;
+
+    @Setup
+    public void setup() {
+        Randomly r = new Randomly(SEED);
+        List<ClickHouseConstant> values = new ArrayList<>();
+        for (int i = 0; i < NR_VALUES; i++) {
+            values.add(ClickHouseConstant.createIntConstant(r.fromOptions(TYPES), r.getInteger()));
+            values.add(ClickHouseConstant.createFloat64Constant(r.getDouble()));
+            values.add(ClickHouseConstant.createFloat32Constant((float) r.getDouble()));
+            values.add(ClickHouseConstant.createStringConstant(r.getString()));
+        }
+        for (ClickHouseConstant value : values) {
+            for (ClickHouseDataType type : TARGET_TYPES) {
+                try {
+                    value.cast(type);
+                } catch (RuntimeException | AssertionError e) {
+                    // the cast is not supported
+                    continue;
+                }
+                constants.add(value);
+                targetTypes.add(type);
+            }
+        }
+    }
+
+    @Benchmark
+    public ClickHouseConstant cast() {
+        next = (next + 1) % constants.size();
+        return constants.get(next).cast(targetTypes.get(next));
+    }
+
+}
@@ -0,0 +1,80 @@
+package sqlancer.duckdb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sqlancer.MainOptions;
+import sqlancer.Randomly;
+import sqlancer.ast.newast.Node;
+import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
+import sqlancer.duckdb.DuckDBSchema.DuckDBColumn;
+import sqlancer.duckdb.DuckDBSchema.DuckDBCompositeDataType;
+import sqlancer.duckdb.DuckDBSchema.DuckDBDataType;
+import sqlancer.duckdb.DuckDBSchema.DuckDBTable;
+import sqlancer.duckdb.ast.DuckDBExpression;
+import sqlancer.duckdb.gen.DuckDBExpressionGenerator;
+
+/**
+ * Measures generating DuckDB expressions and rendering them by the {@link sqlancer.ast.newast.NewToStringVisitor} for a
+ * fixed schema and seed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuckDBBenchmark {
+
+    private static final long SEED = 42;
+    private static final int NR_EXPRESSIONS = 1000;
+
+    private DuckDBExpressionGenerator generator;
+    private List<Node<DuckDBExpression>> expressions;
+    private int next;
+
+    @Setup
+    public void setup() {
+        DuckDBGlobalState state = new DuckDBGlobalState();
+        state.setRandomly(new Randomly(SEED));
+        state.setMainOptions(new MainOptions());
+        state.setDmbsSpecificOptions(new DuckDBOptions());
+        List<DuckDBColumn> columns = Arrays.asList(
+                new DuckDBColumn("c0", new DuckDBCompositeDataType(DuckDBDataType.INT, 4), false, true),
+                new DuckDBColumn("c1", new DuckDBCompositeDataType(DuckDBDataType.VARCHAR), false, true),
+                new DuckDBColumn("c2", new DuckDBCompositeDataType(DuckDBDataType.FLOAT, 8), false, true),
+                new DuckDBColumn("c3", new DuckDBCompositeDataType(DuckDBDataType.DATE), false, true));
+        DuckDBTable table = new DuckDBTable("t0", columns, false);
+        for (DuckDBColumn c : columns) {
+            c.setTable(table);
+        }
+        state.setSchema(new DuckDBSchema(Arrays.asList(table)));
+        generator = new DuckDBExpressionGenerator(state).setColumns(columns);
+        expressions = new ArrayList<>(generator.generateExpressions(NR_EXPRESSIONS));
+    }
+
+    @Benchmark
+    public Node<DuckDBExpression> generateExpression() {
+        return generator.generateExpression();
+    }
+
+    @Benchmark
+    public String renderExpression() {
+        next = (next + 1) % NR_EXPRESSIONS;
+        return DuckDBToStringVisitor.asString(expressions.get(next));
+    }
+
+}
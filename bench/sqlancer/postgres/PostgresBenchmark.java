@@ -0,0 +1,90 @@
+package sqlancer.postgres;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sqlancer.IgnoreMeException;
+import sqlancer.MainOptions;
+import sqlancer.Randomly;
+import sqlancer.postgres.PostgresSchema.PostgresColumn;
+import sqlancer.postgres.PostgresSchema.PostgresDataType;
+import sqlancer.postgres.PostgresSchema.PostgresTable;
+import sqlancer.postgres.PostgresSchema.PostgresTable.TableType;
+import sqlancer.postgres.ast.PostgresExpression;
+import sqlancer.postgres.gen.PostgresExpressionGenerator;
+
+/**
+ * Measures generating PostgreSQL expressions and rendering them for a fixed schema and seed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostgresBenchmark {
+
+    private static final long SEED = 42;
+    private static final int NR_EXPRESSIONS = 1000;
+
+    private PostgresGlobalState state;
+    private List<PostgresColumn> columns;
+    private final List<PostgresExpression> expressions = new ArrayList<>();
+    private int next;
+
+    @Setup
+    public void setup() {
+        state = new PostgresGlobalState();
+        state.setRandomly(new Randomly(SEED));
+        state.setMainOptions(new MainOptions());
+        PostgresOptions options = new PostgresOptions();
+        // the collations are otherwise loaded from the server
+        options.testCollations = false;
+        state.setDmbsSpecificOptions(options);
+        columns = Arrays.asList(new PostgresColumn("c0", PostgresDataType.INT),
+                new PostgresColumn("c1", PostgresDataType.TEXT), new PostgresColumn("c2", PostgresDataType.BOOLEAN),
+                new PostgresColumn("c3", PostgresDataType.DECIMAL));
+        PostgresTable table = new PostgresTable("t0", columns, Collections.emptyList(), TableType.STANDARD,
+                Collections.emptyList(), false, true);
+        for (PostgresColumn c : columns) {
+            c.setTable(table);
+        }
+        state.setSchema(new PostgresSchema(Arrays.asList(table), "database0"));
+        while (expressions.size() < NR_EXPRESSIONS) {
+            PostgresExpression expression = generateExpression();
+            if (expression != null) {
+                expressions.add(expression);
+            }
+        }
+    }
+
+    @Benchmark
+    public PostgresExpression generateExpression() {
+        try {
+            return PostgresExpressionGenerator.generateExpression(state, columns, PostgresDataType.BOOLEAN);
+        } catch (IgnoreMeException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String renderExpression() {
+        next = (next + 1) % NR_EXPRESSIONS;
+        return PostgresVisitor.asString(expressions.get(next), state.getRandomly());
+    }
+
+}
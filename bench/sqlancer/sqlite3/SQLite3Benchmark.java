@@ -0,0 +1,187 @@
+package sqlancer.sqlite3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sqlancer.IgnoreMeException;
+import sqlancer.MainOptions;
+import sqlancer.Randomly;
+import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
+import sqlancer.sqlite3.ast.SQLite3Constant;
+import sqlancer.sqlite3.ast.SQLite3Expression;
+import sqlancer.sqlite3.ast.SQLite3Expression.SQLite3ColumnName;
+import sqlancer.sqlite3.ast.SQLite3Expression.SQLite3PostfixUnaryOperation;
+import sqlancer.sqlite3.ast.SQLite3Expression.SQLite3PostfixUnaryOperation.PostfixUnaryOperator;
+import sqlancer.sqlite3.ast.SQLite3Expression.SQLite3TableReference;
+import sqlancer.sqlite3.ast.SQLite3Select;
+import sqlancer.sqlite3.ast.SQLite3UnaryOperation;
+import sqlancer.sqlite3.ast.SQLite3UnaryOperation.UnaryOperator;
+import sqlancer.sqlite3.gen.SQLite3ExpressionGenerator;
+import sqlancer.sqlite3.schema.SQLite3DataType;
+import sqlancer.sqlite3.schema.SQLite3Schema;
+import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Column;
+import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Column.SQLite3CollateSequence;
+import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Table;
+import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Table.TableKind;
+import sqlancer.visitor.RenderCache;
+
+/**
+ * Measures generating SQLite expressions, rendering them and queries that use them (SQLite3ToStringVisitor), and
+ * computing their expected value (as done by the PQS oracle) for a fixed schema and seed. Run with {@code -prof gc} to
+ * see the bytes allocated per rendered query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLite3Benchmark {
+
+    private static final long SEED = 42;
+    private static final int NR_EXPRESSIONS = 1000;
+
+    private SQLite3GlobalState state;
+    private SQLite3ExpressionGenerator generator;
+    private final List<SQLite3Expression> expressions = new ArrayList<>();
+    private final List<SQLite3Expression> constantExpressions = new ArrayList<>();
+    private final List<SQLite3Select> queries = new ArrayList<>();
+    private int next;
+
+    @Setup
+    public void setup() {
+        state = createGlobalState();
+        generator = new SQLite3ExpressionGenerator(state)
+                .setColumns(state.getSchema().getDatabaseTables().get(0).getColumns());
+        while (expressions.size() < NR_EXPRESSIONS) {
+            try {
+                expressions.add(generator.generateExpression());
+            } catch (IgnoreMeException e) {
+                continue;
+            }
+        }
+        SQLite3Table table = state.getSchema().getDatabaseTables().get(0);
+        List<SQLite3Expression> fetchColumns = new ArrayList<>();
+        for (SQLite3Column c : table.getColumns()) {
+            fetchColumns.add(new SQLite3ColumnName(c, null));
+        }
+        for (SQLite3Expression expression : expressions) {
+            SQLite3Select select = new SQLite3Select();
+            select.setFetchColumns(fetchColumns);
+            select.setFromTables(Arrays.asList(new SQLite3TableReference(table)));
+            select.setWhereClause(expression);
+            queries.add(select);
+        }
+        SQLite3ExpressionGenerator constantGenerator = new SQLite3ExpressionGenerator(state).deterministicOnly()
+                .setColumns(Collections.emptyList());
+        while (constantExpressions.size() < NR_EXPRESSIONS) {
+            try {
+                SQLite3Expression expression = constantGenerator.generateExpression();
+                expression.getExpectedValue();
+                SQLite3Visitor.asExpectedValues(expression, state.getRandomly());
+                constantExpressions.add(expression);
+            } catch (IgnoreMeException | AssertionError e) {
+                // casts whose result is computed by an SQLite connection are not evaluated in the benchmark
+                continue;
+            }
+        }
+    }
+
+    private static SQLite3GlobalState createGlobalState() {
+        SQLite3GlobalState state = new SQLite3GlobalState();
+        state.setRandomly(new Randomly(SEED));
+        state.setMainOptions(new MainOptions());
+        SQLite3Options options = new SQLite3Options();
+        state.setDmbsSpecificOptions(options);
+        state.setSqliteOptions(options);
+        List<SQLite3Column> columns = Arrays.asList(
+                new SQLite3Column("c0", SQLite3DataType.INT, true, false, SQLite3CollateSequence.BINARY),
+                new SQLite3Column("c1", SQLite3DataType.TEXT, false, false, SQLite3CollateSequence.NOCASE),
+                new SQLite3Column("c2", SQLite3DataType.REAL, false, false, SQLite3CollateSequence.RTRIM),
+                new SQLite3Column("c3", SQLite3DataType.NONE, false, false, SQLite3CollateSequence.BINARY));
+        SQLite3Table table = new SQLite3Table("t0", columns, TableKind.MAIN, false, 0, false, false, false);
+        for (SQLite3Column c : columns) {
+            c.setTable(table);
+        }
+        state.setSchema(new SQLite3Schema(Arrays.asList(table), Collections.emptyList()));
+        return state;
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % NR_EXPRESSIONS;
+        return next;
+    }
+
+    @Benchmark
+    public SQLite3Expression generateExpression() {
+        try {
+            return generator.generateExpression();
+        } catch (IgnoreMeException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String renderExpression() {
+        return SQLite3Visitor.asString(expressions.get(nextIndex()), state.getRandomly());
+    }
+
+    @Benchmark
+    public String renderQuery() {
+        return SQLite3Visitor.asString(queries.get(nextIndex()), state.getRandomly());
+    }
+
+    @Benchmark
+    public int renderPartitions() {
+        nextIndex();
+        return renderPartitions(null);
+    }
+
+    @Benchmark
+    public int renderPartitionsCached() {
+        SQLite3Select select = queries.get(nextIndex());
+        // as in the TLP oracles, the unchanged subtrees are added when the query is created
+        RenderCache<SQLite3Expression> renderCache = new RenderCache<>();
+        renderCache.addAll(select.getFetchColumns());
+        renderCache.add(select.getWhereClause());
+        return renderPartitions(renderCache);
+    }
+
+    // renders the three partitions of a query like the TLP WHERE oracle
+    private int renderPartitions(RenderCache<SQLite3Expression> renderCache) {
+        SQLite3Select select = queries.get(next);
+        SQLite3Expression predicate = select.getWhereClause();
+        int length = SQLite3Visitor.asString(select, renderCache, state.getRandomly()).length();
+        select.setWhereClause(new SQLite3UnaryOperation(UnaryOperator.NOT, predicate));
+        length += SQLite3Visitor.asString(select, renderCache, state.getRandomly()).length();
+        select.setWhereClause(new SQLite3PostfixUnaryOperation(PostfixUnaryOperator.ISNULL, predicate));
+        length += SQLite3Visitor.asString(select, renderCache, state.getRandomly()).length();
+        select.setWhereClause(predicate);
+        return length;
+    }
+
+    @Benchmark
+    public String renderExpectedValues() {
+        return SQLite3Visitor.asExpectedValues(constantExpressions.get(nextIndex()), state.getRandomly());
+    }
+
+    @Benchmark
+    public SQLite3Constant getExpectedValue() {
+        return constantExpressions.get(nextIndex()).getExpectedValue();
+    }
+
+}
@@ -0,0 +1,289 @@
+package sqlancer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A compact, append-only log of the statements that were executed on a database (see --binary-log), which can be
+ * replayed by the replay command. The format is as follows (all numbers are big-endian):
+ *
+ * <pre>
+ * log    := "SQLRLOG1" databaseName:string seed:long block* index?
+ * block  := nrRecords:int uncompressedLength:int compressedLength:int deflatedRecords:byte[compressedLength]
+ * record := length:int seed:long timestampMillis:long thread:string success:byte statement:string
+ * string := length:int utf8:byte[length]
+ * index  := -1:int nrBlocks:int blockOffset:long[nrBlocks] indexOffset:long "SQLRIDX1"
+ * </pre>
+ *
+ * The length of a record does not include the length field itself. The index is only written when the log is closed; a
+ * log whose writer did not finish ends after its last complete block.
+ */
+public final class BinaryStatementLog {
+
+    private static final byte[] MAGIC = "SQLRLOG1".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INDEX_MAGIC = "SQLRIDX1".getBytes(StandardCharsets.US_ASCII);
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int INDEX_MARKER = -1;
+
+    private BinaryStatementLog() {
+    }
+
+    public static final class Record {
+
+        private final long seed;
+        private final long timestamp;
+        private final String thread;
+        private final boolean success;
+        private final String statement;
+
+        Record(long seed, long timestamp, String thread, boolean success, String statement) {
+            this.seed = seed;
+            this.timestamp = timestamp;
+            this.thread = thread;
+            this.success = success;
+            this.statement = statement;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getStatement() {
+            return statement;
+        }
+
+    }
+
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final long seed;
+        private final ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_SIZE * 2);
+        private final DataOutputStream blockOut = new DataOutputStream(block);
+        private final Deflater deflater = new Deflater();
+        private final byte[] deflateBuffer = new byte[BLOCK_SIZE];
+        private final List<Long> blockOffsets = new ArrayList<>();
+        private int nrBlockRecords;
+        private long offset;
+
+        public Writer(File file, String databaseName, long seed) throws IOException {
+            this.seed = seed;
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            out.write(MAGIC);
+            offset = MAGIC.length;
+            offset += writeString(out, databaseName);
+            out.writeLong(seed);
+            offset += Long.BYTES;
+        }
+
+        public synchronized void write(String statement, boolean success) throws IOException {
+            byte[] thread = Thread.currentThread().getName().getBytes(StandardCharsets.UTF_8);
+            byte[] sql = statement.getBytes(StandardCharsets.UTF_8);
+            int length = Long.BYTES + Long.BYTES + Integer.BYTES + thread.length + 1 + Integer.BYTES + sql.length;
+            blockOut.writeInt(length);
+            blockOut.writeLong(seed);
+            blockOut.writeLong(System.currentTimeMillis());
+            blockOut.writeInt(thread.length);
+            blockOut.write(thread);
+            blockOut.writeByte(success ? 1 : 0);
+            blockOut.writeInt(sql.length);
+            blockOut.write(sql);
+            nrBlockRecords++;
+            if (block.size() >= BLOCK_SIZE) {
+                writeBlock();
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (nrBlockRecords == 0) {
+                return;
+            }
+            byte[] data = block.toByteArray();
+            deflater.reset();
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 4);
+            while (!deflater.finished()) {
+                int n = deflater.deflate(deflateBuffer);
+                compressed.write(deflateBuffer, 0, n);
+            }
+            blockOffsets.add(offset);
+            out.writeInt(nrBlockRecords);
+            out.writeInt(data.length);
+            out.writeInt(compressed.size());
+            compressed.writeTo(out);
+            offset += 3 * Integer.BYTES + compressed.size();
+            block.reset();
+            nrBlockRecords = 0;
+        }
+
+        /**
+         * Writes the buffered records as a block, so that they are not lost if the process terminates.
+         */
+        public synchronized void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            writeBlock();
+            long indexOffset = offset;
+            out.writeInt(INDEX_MARKER);
+            out.writeInt(blockOffsets.size());
+            for (long blockOffset : blockOffsets) {
+                out.writeLong(blockOffset);
+            }
+            out.writeLong(indexOffset);
+            out.write(INDEX_MAGIC);
+            out.close();
+            deflater.end();
+        }
+
+    }
+
+    public static final class Reader implements Closeable {
+
+        private final DataInputStream in;
+        private final String databaseName;
+        private final long seed;
+        private final Inflater inflater = new Inflater();
+        private DataInputStream block;
+        private int nrRemainingBlockRecords;
+        private boolean complete;
+
+        public Reader(File file) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                in.close();
+                throw new IOException(file + " is not a binary statement log");
+            }
+            databaseName = readString(in);
+            seed = in.readLong();
+        }
+
+        public String getDatabaseName() {
+            return databaseName;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Returns whether the log was closed properly, which is only known after all records have been read.
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * Returns the next record, or null if all records have been read.
+         */
+        public Record next() throws IOException {
+            while (nrRemainingBlockRecords == 0) {
+                if (!readBlock()) {
+                    return null;
+                }
+            }
+            nrRemainingBlockRecords--;
+            int length = block.readInt();
+            long recordSeed = block.readLong();
+            long timestamp = block.readLong();
+            String thread = readString(block);
+            boolean success = block.readByte() != 0;
+            String statement = readString(block);
+            int remaining = length
+                    - (Long.BYTES + Long.BYTES + Integer.BYTES + thread.getBytes(StandardCharsets.UTF_8).length + 1
+                            + Integer.BYTES + statement.getBytes(StandardCharsets.UTF_8).length);
+            // skip fields that were added by later versions of the format
+            block.skipBytes(remaining);
+            return new Record(recordSeed, timestamp, thread, success, statement);
+        }
+
+        private boolean readBlock() throws IOException {
+            byte[] compressed;
+            int nrRecords;
+            int length;
+            try {
+                nrRecords = in.readInt();
+                if (nrRecords == INDEX_MARKER) {
+                    complete = true;
+                    return false;
+                }
+                length = in.readInt();
+                compressed = new byte[in.readInt()];
+                in.readFully(compressed);
+            } catch (EOFException e) {
+                // the writer did not finish the log
+                return false;
+            }
+            byte[] data = new byte[length];
+            inflater.reset();
+            inflater.setInput(compressed);
+            try {
+                int n = 0;
+                while (n < length && !inflater.finished()) {
+                    n += inflater.inflate(data, n, length - n);
+                }
+            } catch (DataFormatException e) {
+                throw new IOException(e);
+            }
+            block = new DataInputStream(new ByteArrayInputStream(data));
+            nrRemainingBlockRecords = nrRecords;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+            inflater.end();
+        }
+
+    }
+
+    private static int writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        return Integer.BYTES + bytes.length;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -4,13 +4,17 @@ import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import sqlancer.IgnoreMeException.Reason;
+
 public final class ComparatorHelper {
 
+    private static final int MAX_MISSES = 100;
+
     private ComparatorHelper() {
     }
 
@@ -32,28 +36,52 @@ public final class ComparatorHelper {
         return Math.abs(a - b) < 0.0001 * Math.max(Math.abs(a), Math.abs(b));
     }
 
-    public static List<String> getResultSetFirstColumnAsString(String queryString, Set<String> errors,
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Computes the fingerprint of all columns of the rows that the query fetches, without keeping the rows in memory.
+     * If --server-side-digests is enabled, the DBMS computes the fingerprint, so that the rows are not transferred.
+     */
+    public static ResultSetFingerprint getResultSetFingerprint(String queryString, Set<String> errors,
             GlobalState<?> state) throws SQLException {
+        String digestQuery = state.getOptions().useServerSideDigests() ? state.getResultDigestQuery(queryString) : null;
+        if (digestQuery != null) {
+            long[] digest = new long[3];
+            executeAndConsume(digestQuery, errors, state, rs -> {
+                for (int i = 0; i < digest.length; i++) {
+                    digest[i] = rs.getLong(i + 1);
+                }
+            });
+            return ResultSetFingerprint.fromDigest(digest[0], digest[1], digest[2]);
+        }
+        ResultSetFingerprint fingerprint = new ResultSetFingerprint();
+        int[] nrColumns = { -1 };
+        executeAndConsume(queryString, errors, state, rs -> {
+            if (nrColumns[0] == -1) {
+                nrColumns[0] = rs.getMetaData().getColumnCount();
+            }
+            fingerprint.addRow(rs, nrColumns[0]);
+        });
+        return fingerprint;
+    }
+
+    private static void executeAndConsume(String queryString, Set<String> errors, GlobalState<?> state,
+            RowConsumer consumer) throws SQLException {
         if (state.getOptions().logEachSelect()) {
-            // TODO: refactor me
             state.getLogger().writeCurrent(queryString);
-            try {
-                state.getLogger().getCurrentFileWriter().flush();
-            } catch (IOException e) {
-                // TODO Auto-generated catch block
-                e.printStackTrace();
-            }
         }
         QueryAdapter q = new QueryAdapter(queryString, errors);
-        List<String> resultSet = new ArrayList<>();
         ResultSet result = null;
         try {
             result = q.executeAndGet(state);
             if (result == null) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
             while (result.next()) {
-                resultSet.add(result.getString(1));
+                consumer.accept(result);
             }
             result.getStatement().close();
         } catch (Exception e) {
@@ -62,15 +90,10 @@ public final class ComparatorHelper {
             }
             if (e instanceof NumberFormatException) {
                 // https://github.com/tidb-challenge-program/bug-hunting-issue/issues/57
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
-            if (e.getMessage() == null) {
-                throw new AssertionError(queryString, e);
-            }
-            for (String error : errors) {
-                if (e.getMessage().contains(error)) {
-                    throw new IgnoreMeException();
-                }
+            if (ExpectedErrors.from(errors).errorIsExpected(e.getMessage())) {
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
             throw new AssertionError(queryString, e);
         } finally {
@@ -79,31 +102,42 @@ public final class ComparatorHelper {
                 result.close();
             }
         }
-        return resultSet;
     }
 
-    public static void assumeResultSetsAreEqual(List<String> resultSet, List<String> secondResultSet,
-            String originalQueryString, List<String> combinedString, GlobalState<?> state) {
-        if (resultSet.size() != secondResultSet.size()) {
+    /**
+     * Checks that two fingerprints describe the same multiset of rows. If they do not, the queries are executed again
+     * to determine the rows by which the result sets differ, which are sorted on disk if necessary. If the rows of the
+     * second execution do not differ (e.g., since the fingerprints of different values collided), no bug is reported.
+     */
+    public static void assumeResultSetsAreEqual(ResultSetFingerprint resultSet, ResultSetFingerprint secondResultSet,
+            String originalQueryString, List<String> combinedString, GlobalState<?> state, Set<String> errors)
+            throws SQLException {
+        if (resultSet.getNrRows() != secondResultSet.getNrRows()) {
             String queryFormatString = "%s; -- cardinality: %d";
-            String firstQueryString = String.format(queryFormatString, originalQueryString, resultSet.size());
+            String firstQueryString = String.format(queryFormatString, originalQueryString, resultSet.getNrRows());
             String secondQueryString = String.format(queryFormatString,
-                    combinedString.stream().collect(Collectors.joining(";")), secondResultSet.size());
+                    combinedString.stream().collect(Collectors.joining(";")), secondResultSet.getNrRows());
             state.getState().statements.add(new QueryAdapter(firstQueryString));
             state.getState().statements.add(new QueryAdapter(secondQueryString));
             String assertionMessage = String.format("the size of the result sets mismatch (%d and %d)!\n%s\n%s",
-                    resultSet.size(), secondResultSet.size(), firstQueryString, secondQueryString);
+                    resultSet.getNrRows(), secondResultSet.getNrRows(), firstQueryString, secondQueryString);
             throw new AssertionError(assertionMessage);
         }
-
-        Set<String> firstHashSet = new HashSet<>(resultSet);
-        Set<String> secondHashSet = new HashSet<>(secondResultSet);
-
-        if (!firstHashSet.equals(secondHashSet)) {
-            Set<String> firstResultSetMisses = new HashSet<>(firstHashSet);
-            firstResultSetMisses.removeAll(secondHashSet);
-            Set<String> secondResultSetMisses = new HashSet<>(secondHashSet);
-            secondResultSetMisses.removeAll(firstHashSet);
+        if (!resultSet.equals(secondResultSet)) {
+            List<String> firstResultSetMisses = new ArrayList<>();
+            List<String> secondResultSetMisses = new ArrayList<>();
+            try (SortedRun firstRun = new SortedRun(); SortedRun secondRun = new SortedRun()) {
+                addRowsToRun(originalQueryString, firstRun, state, errors);
+                for (String query : combinedString) {
+                    addRowsToRun(query, secondRun, state, errors);
+                }
+                computeMisses(firstRun.iterator(), secondRun.iterator(), firstResultSetMisses, secondResultSetMisses);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            if (firstResultSetMisses.isEmpty() && secondResultSetMisses.isEmpty()) {
+                return;
+            }
             String queryFormatString = "%s; -- misses: %s";
             String firstQueryString = String.format(queryFormatString, originalQueryString, firstResultSetMisses);
             String secondQueryString = String.format(queryFormatString,
@@ -116,20 +150,72 @@ public final class ComparatorHelper {
         }
     }
 
-    public static List<String> getCombinedResultSet(String firstQueryString, String secondQueryString,
+    private static void addRowsToRun(String queryString, SortedRun run, GlobalState<?> state, Set<String> errors)
+            throws SQLException {
+        executeAndConsume(queryString, errors, state, rs -> {
+            StringBuilder sb = new StringBuilder();
+            int nrColumns = rs.getMetaData().getColumnCount();
+            for (int i = 1; i <= nrColumns; i++) {
+                if (i != 1) {
+                    sb.append(", ");
+                }
+                String value = rs.getString(i);
+                if (value == null) {
+                    sb.append("NULL");
+                } else {
+                    // rows are stored as lines
+                    sb.append(value.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r"));
+                }
+            }
+            try {
+                run.add(sb.toString());
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    private static void computeMisses(Iterator<String> first, Iterator<String> second, List<String> firstMisses,
+            List<String> secondMisses) {
+        String firstRow = first.hasNext() ? first.next() : null;
+        String secondRow = second.hasNext() ? second.next() : null;
+        while ((firstRow != null || secondRow != null) && firstMisses.size() + secondMisses.size() < MAX_MISSES) {
+            int comparison;
+            if (firstRow == null) {
+                comparison = 1;
+            } else if (secondRow == null) {
+                comparison = -1;
+            } else {
+                comparison = firstRow.compareTo(secondRow);
+            }
+            if (comparison <= 0) {
+                if (comparison < 0) {
+                    firstMisses.add(firstRow);
+                }
+                firstRow = first.hasNext() ? first.next() : null;
+            }
+            if (comparison >= 0) {
+                if (comparison > 0) {
+                    secondMisses.add(secondRow);
+                }
+                secondRow = second.hasNext() ? second.next() : null;
+            }
+        }
+    }
+
+    public static ResultSetFingerprint getCombinedResultSet(String firstQueryString, String secondQueryString,
             String thirdQueryString, List<String> combinedString, boolean asUnion, GlobalState<?> state,
             Set<String> errors) throws SQLException {
-        List<String> secondResultSet;
+        ResultSetFingerprint secondResultSet;
         if (asUnion) {
             String unionString = firstQueryString + " UNION ALL " + secondQueryString + " UNION ALL "
                     + thirdQueryString;
             combinedString.add(unionString);
-            secondResultSet = getResultSetFirstColumnAsString(unionString, errors, state);
+            secondResultSet = getResultSetFingerprint(unionString, errors, state);
         } else {
-            secondResultSet = new ArrayList<>();
-            secondResultSet.addAll(getResultSetFirstColumnAsString(firstQueryString, errors, state));
-            secondResultSet.addAll(getResultSetFirstColumnAsString(secondQueryString, errors, state));
-            secondResultSet.addAll(getResultSetFirstColumnAsString(thirdQueryString, errors, state));
+            secondResultSet = getResultSetFingerprint(firstQueryString, errors, state);
+            secondResultSet.add(getResultSetFingerprint(secondQueryString, errors, state));
+            secondResultSet.add(getResultSetFingerprint(thirdQueryString, errors, state));
             combinedString.add(firstQueryString);
             combinedString.add(secondQueryString);
             combinedString.add(thirdQueryString);
@@ -137,9 +223,9 @@ public final class ComparatorHelper {
         return secondResultSet;
     }
 
-    public static List<String> getCombinedResultSetNoDuplicates(String firstQueryString, String secondQueryString,
-            String thirdQueryString, List<String> combinedString, boolean asUnion, GlobalState<?> state,
-            Set<String> errors) throws SQLException {
+    public static ResultSetFingerprint getCombinedResultSetNoDuplicates(String firstQueryString,
+            String secondQueryString, String thirdQueryString, List<String> combinedString, boolean asUnion,
+            GlobalState<?> state, Set<String> errors) throws SQLException {
         String unionString;
         if (asUnion) {
             unionString = firstQueryString + " UNION " + secondQueryString + " UNION " + thirdQueryString;
@@ -147,10 +233,8 @@ public final class ComparatorHelper {
             unionString = "SELECT DISTINCT * FROM (" + firstQueryString + " UNION ALL " + secondQueryString
                     + " UNION ALL " + thirdQueryString + ")";
         }
-        List<String> secondResultSet;
         combinedString.add(unionString);
-        secondResultSet = getResultSetFirstColumnAsString(unionString, errors, state);
-        return secondResultSet;
+        return getResultSetFingerprint(unionString, errors, state);
     }
 
 }
@@ -1,9 +1,10 @@
 package sqlancer;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 
-public class CompositeTestOracle implements TestOracle {
+public class CompositeTestOracle implements PipelinedTestOracle {
 
     private final TestOracle[] oracles;
     private int i;
@@ -15,9 +16,32 @@ public class CompositeTestOracle implements TestOracle {
     @Override
     public void check() throws SQLException {
         try {
-            oracles[i].check();
+            Metrics.check(oracles[i]);
         } finally {
             i = (i + 1) % oracles.length;
         }
     }
+
+    @Override
+    public void finishChecks() throws SQLException {
+        for (TestOracle oracle : oracles) {
+            oracle.finishChecks();
+        }
+    }
+
+    @Override
+    public CheckExecution generateCheck() throws SQLException {
+        try {
+            return Metrics.generateCheck((PipelinedTestOracle) oracles[i]);
+        } finally {
+            i = (i + 1) % oracles.length;
+        }
+    }
+
+    @Override
+    public boolean canBePipelined() {
+        return Arrays.stream(oracles)
+                .allMatch(o -> o instanceof PipelinedTestOracle && ((PipelinedTestOracle) o).canBePipelined());
+    }
+
 }
@@ -0,0 +1,106 @@
+package sqlancer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one open connection per JDBC URL and thread, so that a thread that creates many databases does not have to open
+ * a new connection for each of them. Connections obtained from the pool ignore {@link Connection#close()}; they are
+ * only closed by {@link #closeConnections()}, which is called when a thread stops testing.
+ */
+public final class ConnectionPool {
+
+    private static final ThreadLocal<Map<String, Connection>> CONNECTIONS = ThreadLocal.withInitial(HashMap::new);
+    private static final AtomicLong NR_OPENED_CONNECTIONS = new AtomicLong();
+    private static final AtomicLong NR_REUSED_CONNECTIONS = new AtomicLong();
+
+    private ConnectionPool() {
+    }
+
+    /**
+     * Returns this thread's open connection for the given URL, or opens a new one.
+     *
+     * @param url
+     *            the JDBC URL
+     * @param options
+     *            the options that provide the user name and password
+     *
+     * @return a connection whose close() method has no effect
+     */
+    public static Connection getConnection(String url, MainOptions options) throws SQLException {
+        Map<String, Connection> connections = CONNECTIONS.get();
+        Connection con = connections.get(url);
+        if (con != null && !con.isClosed()) {
+            NR_REUSED_CONNECTIONS.incrementAndGet();
+        } else {
+            con = DriverManager.getConnection(url, options.getUserName(), options.getPassword());
+            NR_OPENED_CONNECTIONS.incrementAndGet();
+            connections.put(url, con);
+        }
+        return keepOpen(con);
+    }
+
+    /**
+     * Returns a connection for administrative statements such as CREATE DATABASE, which is taken from the pool if
+     * --pool-connections is enabled.
+     */
+    public static Connection getAdminConnection(String url, MainOptions options) throws SQLException {
+        if (options.poolConnections()) {
+            return getConnection(url, options);
+        } else {
+            return DriverManager.getConnection(url, options.getUserName(), options.getPassword());
+        }
+    }
+
+    /**
+     * Whether the current thread already holds an open connection for the given URL.
+     */
+    public static boolean hasConnection(String url) throws SQLException {
+        Connection con = CONNECTIONS.get().get(url);
+        return con != null && !con.isClosed();
+    }
+
+    /**
+     * Closes all connections that the current thread has obtained from the pool.
+     */
+    public static void closeConnections() {
+        Map<String, Connection> connections = CONNECTIONS.get();
+        for (Connection con : connections.values()) {
+            try {
+                con.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+        connections.clear();
+    }
+
+    public static long getNrOpenedConnections() {
+        return NR_OPENED_CONNECTIONS.get();
+    }
+
+    public static long getNrReusedConnections() {
+        return NR_REUSED_CONNECTIONS.get();
+    }
+
+    private static Connection keepOpen(Connection con) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        return null;
+                    }
+                    try {
+                        return method.invoke(con, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+}
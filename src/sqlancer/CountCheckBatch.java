@@ -0,0 +1,133 @@
+package sqlancer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import sqlancer.PipelinedTestOracle.CheckExecution;
+
+/**
+ * Packs the count queries of several independent checks into a single statement, so that a batch of checks needs a
+ * single round trip to the DBMS (see --check-batch-size). Each check compares two counts (e.g., the counts of the
+ * optimized and the unoptimized query of NoREC), which are computed as scalar subqueries:
+ *
+ * <pre>
+ * SELECT (first count of check 0), (second count of check 0), (first count of check 1), ...
+ * </pre>
+ *
+ * The columns of the result identify the checks. If the statement fails, or the counts of a check differ, the affected
+ * checks are executed individually, so that expected errors are isolated and bugs are reported for the queries of a
+ * single check.
+ */
+public final class CountCheckBatch {
+
+    private final GlobalState<?> globalState;
+    private final Collection<String> expectedErrors;
+    private final List<CountCheck> checks = new ArrayList<>();
+
+    public static final class CountCheck {
+
+        private final String firstCountQuery;
+        private final String secondCountQuery;
+        private final CheckExecution individualExecution;
+
+        /**
+         * @param firstCountQuery
+         *            a query that returns a single count
+         * @param secondCountQuery
+         *            a query that returns a single count, which is expected to be equal to the first count
+         * @param individualExecution
+         *            executes the check without batching, and reports a bug if the counts differ
+         */
+        public CountCheck(String firstCountQuery, String secondCountQuery, CheckExecution individualExecution) {
+            this.firstCountQuery = firstCountQuery;
+            this.secondCountQuery = secondCountQuery;
+            this.individualExecution = individualExecution;
+        }
+
+    }
+
+    public CountCheckBatch(GlobalState<?> globalState, Collection<String> expectedErrors) {
+        this.globalState = globalState;
+        this.expectedErrors = expectedErrors;
+    }
+
+    /**
+     * Adds the check to the batch, and executes the batch once it is full. Without batching, the check is executed
+     * immediately.
+     */
+    public void add(CountCheck check) throws SQLException {
+        int batchSize = globalState.getOptions().getCheckBatchSize();
+        if (batchSize <= 1) {
+            check.individualExecution.execute();
+            return;
+        }
+        checks.add(check);
+        if (checks.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Executes the checks of the batch. Checks that cannot be executed due to an expected error are skipped, while an
+     * AssertionError is thrown for the first check that fails.
+     */
+    public void flush() throws SQLException {
+        if (checks.isEmpty()) {
+            return;
+        }
+        List<CountCheck> batch = new ArrayList<>(checks);
+        checks.clear();
+        long[] counts = getCounts(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            if (counts == null || counts[2 * i] != counts[2 * i + 1]) {
+                try {
+                    batch.get(i).individualExecution.execute();
+                } catch (IgnoreMeException e) {
+                    continue;
+                }
+            }
+        }
+    }
+
+    private long[] getCounts(List<CountCheck> batch) {
+        StringBuilder sb = new StringBuilder("SELECT ");
+        for (int i = 0; i < batch.size(); i++) {
+            if (i != 0) {
+                sb.append(", ");
+            }
+            sb.append('(');
+            sb.append(batch.get(i).firstCountQuery);
+            sb.append("), (");
+            sb.append(batch.get(i).secondCountQuery);
+            sb.append(')');
+        }
+        String query = sb.toString();
+        if (globalState.getOptions().logEachSelect()) {
+            globalState.getLogger().writeCurrent(query);
+        }
+        QueryAdapter q = new QueryAdapter(query, expectedErrors);
+        try (ResultSet rs = q.executeAndGet(globalState)) {
+            if (rs == null) {
+                return null;
+            }
+            try (Statement s = rs.getStatement()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long[] counts = new long[batch.size() * 2];
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] = rs.getLong(i + 1);
+                }
+                return counts;
+            }
+        } catch (SQLException e) {
+            // the failing check is determined by executing the checks individually
+            return null;
+        }
+    }
+
+}
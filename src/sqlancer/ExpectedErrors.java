@@ -0,0 +1,239 @@
+package sqlancer;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A set of expected error messages, which are matched as substrings of the message of an exception. The messages are
+ * compiled into an Aho-Corasick automaton, so that an error message is matched against all expected errors in a single
+ * pass. Test oracles build their expected errors once as an instance created by {@link #ExpectedErrors()} and pass it
+ * to the queries they execute, which compiles the automaton at the first match and again only after errors were added.
+ * Other collections of expected errors are compiled by {@link #from(Collection)}, which interns the compiled sets, so
+ * that generators that build the same sets again and again compile each of them only once.
+ */
+public final class ExpectedErrors extends AbstractSet<String> {
+
+    // bounds the memory of the interned sets; beyond it, sets are compiled but not interned, as they likely contain
+    // dynamic parts (e.g., names)
+    private static final long MAX_INTERNED_STATES = 1000000;
+    private static final Map<Set<String>, ExpectedErrors> INTERNED = new ConcurrentHashMap<>();
+    private static final AtomicLong NR_INTERNED_STATES = new AtomicLong();
+
+    private final Set<String> errors;
+    private final boolean isMutable;
+    private Automaton automaton;
+
+    /**
+     * Creates an empty set of expected errors to which errors can be added. The set is not thread-safe.
+     */
+    public ExpectedErrors() {
+        errors = new HashSet<>();
+        isMutable = true;
+    }
+
+    private ExpectedErrors(Set<String> errors) {
+        this.errors = Collections.unmodifiableSet(errors);
+        isMutable = false;
+        automaton = new Automaton(errors);
+    }
+
+    /**
+     * Returns the compiled form of the given expected errors. Equal sets of expected errors share the same compiled
+     * form, so that each set is compiled only once.
+     */
+    @SuppressWarnings("unchecked")
+    public static ExpectedErrors from(Collection<String> errors) {
+        if (errors instanceof ExpectedErrors) {
+            return (ExpectedErrors) errors;
+        }
+        Set<String> key = errors instanceof Set ? (Set<String>) errors : new HashSet<>(errors);
+        ExpectedErrors compiled = INTERNED.get(key);
+        if (compiled == null) {
+            compiled = new ExpectedErrors(new HashSet<>(key));
+            int nrStates = compiled.automaton.getNrStates();
+            if (NR_INTERNED_STATES.get() + nrStates <= MAX_INTERNED_STATES) {
+                ExpectedErrors previous = INTERNED.putIfAbsent(compiled.errors, compiled);
+                if (previous == null) {
+                    NR_INTERNED_STATES.addAndGet(nrStates);
+                } else {
+                    compiled = previous;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    public static ExpectedErrors compile(String... errors) {
+        return from(Arrays.asList(errors));
+    }
+
+    @Override
+    public boolean add(String error) {
+        if (!isMutable) {
+            throw new UnsupportedOperationException();
+        }
+        boolean isNew = errors.add(error);
+        if (isNew) {
+            automaton = null;
+        }
+        return isNew;
+    }
+
+    /**
+     * Returns an expected error that is contained in the given message, or null if there is none.
+     */
+    public String findMatch(String message) {
+        if (automaton == null) {
+            // interned sets are shared, so that the same set is compiled once for all oracles
+            automaton = from(errors).automaton;
+        }
+        return automaton.findMatch(message);
+    }
+
+    /**
+     * Returns whether the message contains one of the expected errors, and counts the matched error (see
+     * {@link Metrics#recordExpectedError}).
+     */
+    public boolean errorIsExpected(String message) {
+        String match = findMatch(message);
+        if (match == null) {
+            return false;
+        }
+        Metrics.recordExpectedError(match);
+        return true;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return Collections.unmodifiableSet(errors).iterator();
+    }
+
+    @Override
+    public int size() {
+        return errors.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return errors.contains(o);
+    }
+
+    private static final class Automaton {
+
+        // for each state, the characters of its transitions in ascending order and the corresponding target states
+        private final char[][] transitionChars;
+        private final int[][] transitionTargets;
+        private final int[] failure;
+        // for each state, an expected error that ends at this state or at one of its failure states, or null
+        private final String[] output;
+
+        Automaton(Set<String> errors) {
+            List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+            List<String> outputs = new ArrayList<>();
+            trie.add(new TreeMap<>());
+            outputs.add(null);
+            for (String error : errors) {
+                int state = 0;
+                for (int i = 0; i < error.length(); i++) {
+                    Integer next = trie.get(state).get(error.charAt(i));
+                    if (next == null) {
+                        next = trie.size();
+                        trie.add(new TreeMap<>());
+                        outputs.add(null);
+                        trie.get(state).put(error.charAt(i), next);
+                    }
+                    state = next;
+                }
+                if (outputs.get(state) == null) {
+                    outputs.set(state, error);
+                }
+            }
+            int nrStates = trie.size();
+            transitionChars = new char[nrStates][];
+            transitionTargets = new int[nrStates][];
+            failure = new int[nrStates];
+            output = outputs.toArray(new String[nrStates]);
+            for (int state = 0; state < nrStates; state++) {
+                TreeMap<Character, Integer> transitions = trie.get(state);
+                transitionChars[state] = new char[transitions.size()];
+                transitionTargets[state] = new int[transitions.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                    transitionChars[state][i] = transition.getKey();
+                    transitionTargets[state][i] = transition.getValue();
+                    i++;
+                }
+            }
+            // compute the failure states breadth-first, so that the failure states of shorter prefixes are known
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int target : transitionTargets[0]) {
+                queue.add(target);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.remove();
+                for (int i = 0; i < transitionChars[state].length; i++) {
+                    char c = transitionChars[state][i];
+                    int target = transitionTargets[state][i];
+                    int fallback = failure[state];
+                    while (fallback != 0 && getTransition(fallback, c) == -1) {
+                        fallback = failure[fallback];
+                    }
+                    int fallbackTarget = getTransition(fallback, c);
+                    failure[target] = fallbackTarget == -1 ? 0 : fallbackTarget;
+                    if (output[target] == null) {
+                        output[target] = output[failure[target]];
+                    }
+                    queue.add(target);
+                }
+            }
+        }
+
+        int getNrStates() {
+            return failure.length;
+        }
+
+        private int getTransition(int state, char c) {
+            int i = Arrays.binarySearch(transitionChars[state], c);
+            return i < 0 ? -1 : transitionTargets[state][i];
+        }
+
+        String findMatch(String message) {
+            if (output[0] != null) {
+                // the empty string is expected
+                return output[0];
+            }
+            if (message == null) {
+                return null;
+            }
+            int state = 0;
+            for (int i = 0; i < message.length(); i++) {
+                char c = message.charAt(i);
+                int next = getTransition(state, c);
+                while (next == -1 && state != 0) {
+                    state = failure[state];
+                    next = getTransition(state, c);
+                }
+                state = next == -1 ? 0 : next;
+                if (output[state] != null) {
+                    return output[state];
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -21,6 +21,7 @@ public class GlobalState<O> {
     private StateToReproduce state;
     private QueryManager manager;
     private String databaseName;
+    private PivotRowCache pivotRowCache;
 
     public void setConnection(Connection con) {
         this.con = con;
@@ -39,6 +40,42 @@ public class GlobalState<O> {
         return con;
     }
 
+    /**
+     * Returns the pivot rows that have been sampled from the current database (see --pivot-row-sample-size).
+     */
+    public PivotRowCache getPivotRowCache() {
+        if (pivotRowCache == null) {
+            pivotRowCache = new PivotRowCache(options.getPivotRowSampleSize());
+        }
+        return pivotRowCache;
+    }
+
+    /**
+     * Returns a query that computes the digest of the result of the given query on the server (see
+     * --server-side-digests), which consists of the number of rows and two order-independent sums of row hashes.
+     *
+     * @return the digest query, or null if the DBMS does not support computing digests
+     */
+    public String getResultDigestQuery(String queryString) {
+        return null;
+    }
+
+    /**
+     * Initializes the state of a worker that executes test oracle checks on its own connection (see
+     * --oracle-workers). The worker shares the options, database name, and logger of this state.
+     */
+    public void initializeWorker(GlobalState<O> worker, Connection workerCon, Randomly workerRandomly,
+            StateToReproduce workerState) {
+        worker.setConnection(workerCon);
+        worker.setRandomly(workerRandomly);
+        worker.setMainOptions(options);
+        worker.setDmbsSpecificOptions(dmbsSpecificOptions);
+        worker.setDatabaseName(databaseName);
+        worker.setStateLogger(logger);
+        worker.setState(workerState);
+        worker.setManager(new QueryManager(worker));
+    }
+
     public void setRandomly(Randomly r) {
         this.r = r;
     }
@@ -1,7 +1,51 @@
 package sqlancer;
 
+/**
+ * Signals that the current action or test oracle check cannot be performed and should be skipped. Since it is thrown as
+ * part of the normal control flow, it does not record a stack trace; instead, it carries a {@link Reason}, which is
+ * counted (see the progress information) to show which bailouts waste most of the generation effort.
+ */
 public class IgnoreMeException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
+    public enum Reason {
+        UNSPECIFIED("unspecified"), //
+        MISSING_SCHEMA_OBJECT("no suitable table, view, column, or index"), //
+        EMPTY_TABLE("empty table"), //
+        EXPECTED_ERROR("expected error"), //
+        KNOWN_BUG("known bug"), //
+        UNSUPPORTED("unsupported by the generator"), //
+        DISABLED_BY_OPTION("disabled by an option"), //
+        CANCELLED("cancelled after a bug or an interrupt");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+
+    }
+
+    private final Reason reason;
+
+    public IgnoreMeException() {
+        this(Reason.UNSPECIFIED);
+    }
+
+    public IgnoreMeException(Reason reason) {
+        super(reason.toString(), null, false, false);
+        this.reason = reason;
+        Metrics.recordIgnored(reason);
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
 }
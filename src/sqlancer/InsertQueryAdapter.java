@@ -0,0 +1,53 @@
+package sqlancer;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An INSERT statement of the form {@code <prefix> VALUES <rows>}, which can be merged with other INSERT statements that
+ * have the same prefix into a single multi-row INSERT statement (see --insert-batch-size). Generators should only use
+ * this class if the DBMS executes a failing multi-row INSERT statement atomically, that is, if none of its rows are
+ * inserted when it fails.
+ */
+public class InsertQueryAdapter extends QueryAdapter {
+
+    private final String prefix;
+    private final String rows;
+
+    /**
+     * @param prefix
+     *            the statement up to and including the VALUES keyword, for example, "INSERT INTO t0(c0) VALUES "
+     * @param rows
+     *            the comma-separated rows, for example, "(1), (2)"
+     * @param expectedErrors
+     *            the errors that are expected for the statement
+     */
+    public InsertQueryAdapter(String prefix, String rows, Collection<String> expectedErrors) {
+        super(prefix + rows, expectedErrors);
+        this.prefix = prefix;
+        this.rows = rows;
+    }
+
+    public boolean canBeMergedWith(InsertQueryAdapter other) {
+        return prefix.equals(other.prefix);
+    }
+
+    /**
+     * Merges INSERT statements with the same prefix into one statement that inserts all their rows and expects all
+     * their errors.
+     */
+    public static InsertQueryAdapter merge(List<InsertQueryAdapter> inserts) {
+        InsertQueryAdapter first = inserts.get(0);
+        Set<String> expectedErrors = new LinkedHashSet<>();
+        for (InsertQueryAdapter insert : inserts) {
+            assert first.canBeMergedWith(insert);
+            expectedErrors.addAll(insert.getExpectedErrors());
+        }
+        String mergedRows = inserts.stream().map(i -> i.rows).collect(Collectors.joining(", "));
+        return new InsertQueryAdapter(first.prefix, mergedRows, expectedErrors);
+    }
+
+}
@@ -10,22 +10,29 @@ import java.nio.file.Files;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.JCommander.Builder;
 
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.clickhouse.ClickHouseProvider;
 import sqlancer.cockroachdb.CockroachDBProvider;
 import sqlancer.duckdb.DuckDBProvider;
@@ -38,11 +45,8 @@ import sqlancer.tidb.TiDBProvider;
 public final class Main {
 
     public static final File LOG_DIRECTORY = new File("logs");
-    public static volatile AtomicLong nrQueries = new AtomicLong();
-    public static volatile AtomicLong nrDatabases = new AtomicLong();
-    public static volatile AtomicLong nrSuccessfulActions = new AtomicLong();
-    public static volatile AtomicLong nrUnsuccessfulActions = new AtomicLong();
-    static int threadsShutdown;
+    static final AtomicInteger THREADS_SHUTDOWN = new AtomicInteger();
+    private static final int NR_SHOWN_IGNORE_REASONS = 3;
 
     static {
         System.setProperty(org.slf4j.impl.SimpleLogger.DEFAULT_LOG_LEVEL_KEY, "ERROR");
@@ -56,13 +60,42 @@ public final class Main {
 
     public static final class StateLogger {
 
+        private static final int MAX_BUFFERED_CHARS = 1 << 20;
+        private static final long FLUSH_INTERVAL_MILLIS = 100;
+        // the loggers whose statements have not been written yet
+        private static final Set<StateLogger> PENDING_LOGGERS = ConcurrentHashMap.newKeySet();
+        // the loggers whose binary statement log is open
+        private static final Set<StateLogger> BINARY_LOGGERS = ConcurrentHashMap.newKeySet();
+        private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "log-writer");
+            t.setDaemon(true);
+            return t;
+        });
+
+        static {
+            WRITER.scheduleWithFixedDelay(StateLogger::flushPendingLoggers, FLUSH_INTERVAL_MILLIS,
+                    FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                flushPendingLoggers();
+                for (StateLogger logger : BINARY_LOGGERS) {
+                    logger.flushBinaryLog();
+                }
+            }));
+        }
+
         private final File loggerFile;
         private File curFile;
         private FileWriter logFileWriter;
-        public FileWriter currentFileWriter;
+        private FileWriter currentFileWriter;
+        // the statements of --log-each-select that still need to be written to the current file
+        private final StringBuilder currentBuffer = new StringBuilder();
         private static final List<String> INITIALIZED_PROVIDER_NAMES = new ArrayList<>();
         private final boolean logEachSelect;
         private final DatabaseProvider<?, ?> provider;
+        private final String databaseName;
+        private final long seed;
+        private final File binaryLogFile;
+        private BinaryStatementLog.Writer binaryLogWriter;
 
         private static final class AlsoWriteToConsoleFileWriter extends FileWriter {
 
@@ -83,8 +116,10 @@ public final class Main {
             }
         }
 
-        public StateLogger(String databaseName, DatabaseProvider<?, ?> provider, MainOptions options) {
+        public StateLogger(String databaseName, long seed, DatabaseProvider<?, ?> provider, MainOptions options) {
             this.provider = provider;
+            this.databaseName = databaseName;
+            this.seed = seed;
             File dir = new File(LOG_DIRECTORY, provider.getDBMSName());
             if (dir.exists() && !dir.isDirectory()) {
                 throw new AssertionError(dir);
@@ -95,6 +130,7 @@ public final class Main {
             if (logEachSelect) {
                 curFile = new File(dir, databaseName + "-cur.log");
             }
+            binaryLogFile = options.useBinaryLog() ? new File(dir, databaseName + ".sqlrlog") : null;
         }
 
         private synchronized void ensureExistsAndIsEmpty(File dir, DatabaseProvider<?, ?> provider) {
@@ -129,7 +165,7 @@ public final class Main {
             return logFileWriter;
         }
 
-        public FileWriter getCurrentFileWriter() {
+        private FileWriter getCurrentFileWriter() {
             if (!logEachSelect) {
                 throw new UnsupportedOperationException();
             }
@@ -143,10 +179,11 @@ public final class Main {
             return currentFileWriter;
         }
 
-        public void writeCurrent(StateToReproduce state) {
+        public synchronized void writeCurrent(StateToReproduce state) {
             if (!logEachSelect) {
                 throw new UnsupportedOperationException();
             }
+            flushCurrent();
             printState(getCurrentFileWriter(), state);
             try {
                 currentFileWriter.flush();
@@ -156,17 +193,117 @@ public final class Main {
             }
         }
 
+        /**
+         * Logs a statement to the current file. The statement is buffered and written by a background thread, unless
+         * the buffer is full.
+         */
         public void writeCurrent(String queryString) {
             if (!logEachSelect) {
                 throw new UnsupportedOperationException();
             }
+            boolean isFull;
+            synchronized (this) {
+                currentBuffer.append(queryString).append(";\n");
+                isFull = currentBuffer.length() >= MAX_BUFFERED_CHARS;
+            }
+            if (isFull) {
+                flushCurrent();
+            } else {
+                PENDING_LOGGERS.add(this);
+            }
+        }
+
+        /**
+         * Writes the buffered statements to the current file.
+         */
+        public synchronized void flushCurrent() {
+            PENDING_LOGGERS.remove(this);
+            if (currentBuffer.length() == 0) {
+                return;
+            }
             try {
-                getCurrentFileWriter().write(queryString + ";\n");
+                getCurrentFileWriter().write(currentBuffer.toString());
                 currentFileWriter.flush();
             } catch (IOException e) {
-                // TODO Auto-generated catch block
                 e.printStackTrace();
             }
+            currentBuffer.setLength(0);
+        }
+
+        /**
+         * Writes the buffered statements and closes the current file, which is truncated when the next statement is
+         * logged.
+         */
+        public synchronized void closeCurrentFile() {
+            if (!logEachSelect) {
+                return;
+            }
+            flushCurrent();
+            if (currentFileWriter != null) {
+                try {
+                    currentFileWriter.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                currentFileWriter = null;
+            }
+        }
+
+        /**
+         * Returns whether {@link #logStatement} writes the statements to a binary statement log.
+         */
+        public boolean logsStatements() {
+            return binaryLogFile != null;
+        }
+
+        /**
+         * Appends a statement and whether it was executed successfully to the binary statement log, if it is enabled.
+         */
+        public void logStatement(String statement, boolean success) {
+            if (binaryLogFile == null) {
+                return;
+            }
+            synchronized (this) {
+                try {
+                    if (binaryLogWriter == null) {
+                        binaryLogWriter = new BinaryStatementLog.Writer(binaryLogFile, databaseName, seed);
+                        BINARY_LOGGERS.add(this);
+                    }
+                    binaryLogWriter.write(statement, success);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }
+
+        public synchronized void flushBinaryLog() {
+            if (binaryLogWriter == null) {
+                return;
+            }
+            try {
+                binaryLogWriter.flush();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        public synchronized void closeBinaryLog() {
+            if (binaryLogWriter == null) {
+                return;
+            }
+            BINARY_LOGGERS.remove(this);
+            try {
+                binaryLogWriter.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            binaryLogWriter = null;
+        }
+
+        private static void flushPendingLoggers() {
+            for (StateLogger logger : PENDING_LOGGERS) {
+                logger.flushCurrent();
+            }
         }
 
         public void logRowNotFound(StateToReproduce state) {
@@ -242,17 +379,18 @@ public final class Main {
 
         public boolean execute(Query q) throws SQLException {
             globalState.getState().statements.add(q);
+            globalState.getPivotRowCache().invalidate(q);
             boolean success = q.execute(globalState);
-            Main.nrSuccessfulActions.addAndGet(1);
+            Metrics.SUCCESSFUL_STATEMENTS.increment();
             return success;
         }
 
         public void incrementSelectQueryCount() {
-            Main.nrQueries.addAndGet(1);
+            Metrics.QUERIES.increment();
         }
 
         public void incrementCreateDatabase() {
-            Main.nrDatabases.addAndGet(1);
+            Metrics.DATABASES.increment();
         }
 
     }
@@ -298,17 +436,22 @@ public final class Main {
             return command;
         }
 
-        public void run() throws SQLException {
+        private G initializeGlobalState() {
             G state = createGlobalState();
             stateToRepro = provider.getStateToReproduce(databaseName);
             stateToRepro.seedValue = seed;
             state.setState(stateToRepro);
-            logger = new StateLogger(databaseName, provider, options);
             Randomly r = new Randomly(seed);
             state.setRandomly(r);
             state.setDatabaseName(databaseName);
             state.setMainOptions(options);
             state.setDmbsSpecificOptions(command);
+            return state;
+        }
+
+        public void run() throws SQLException {
+            logger = new StateLogger(databaseName, seed, provider, options);
+            G state = initializeGlobalState();
             try (Connection con = provider.createDatabase(state)) {
                 QueryManager manager = new QueryManager(state);
                 try {
@@ -324,6 +467,38 @@ public final class Main {
             }
         }
 
+        /**
+         * Executes the statements of a binary statement log on a newly created database, and prints how many statements
+         * were executed and how many of them succeeded or failed while the opposite was logged.
+         */
+        public void replay(BinaryStatementLog.Reader reader) throws SQLException, IOException {
+            G state = initializeGlobalState();
+            long nrStatements = 0;
+            long nrDifferentOutcomes = 0;
+            long startTime = System.currentTimeMillis();
+            try (Connection con = provider.createDatabase(state)) {
+                BinaryStatementLog.Record record;
+                while ((record = reader.next()) != null) {
+                    boolean success;
+                    try (Statement s = con.createStatement()) {
+                        s.execute(record.getStatement());
+                        success = true;
+                    } catch (SQLException e) {
+                        success = false;
+                    }
+                    nrStatements++;
+                    if (success != record.isSuccess()) {
+                        nrDifferentOutcomes++;
+                    }
+                }
+            }
+            long elapsedMillis = Math.max(1, System.currentTimeMillis() - startTime);
+            System.out.println(
+                    String.format("%s: replayed %d statements (%d statements/s), %d with a different outcome%s",
+                            databaseName, nrStatements, nrStatements * 1000 / elapsedMillis, nrDifferentOutcomes,
+                            reader.isComplete() ? "" : " (the log is incomplete)"));
+        }
+
         public StateLogger getLogger() {
             return logger;
         }
@@ -373,7 +548,9 @@ public final class Main {
         List<DatabaseProvider<?, ?>> providers = getDBMSProviders();
         Map<String, DBMSExecutorFactory<?, ?>> nameToProvider = new HashMap<>();
         MainOptions options = new MainOptions();
+        ReplayOptions replayOptions = new ReplayOptions();
         Builder commandBuilder = JCommander.newBuilder().addObject(options);
+        commandBuilder = commandBuilder.addCommand(ReplayOptions.COMMAND_NAME, replayOptions);
         for (DatabaseProvider<?, ?> provider : providers) {
             String name = provider.getDBMSName();
             if (!name.toLowerCase().equals(name)) {
@@ -391,11 +568,27 @@ public final class Main {
             return options.getErrorExitCode();
         }
 
-        if (options.printProgressInformation()) {
-            startProgressMonitor();
+        if (ReplayOptions.COMMAND_NAME.equals(jc.getParsedCommand())) {
+            return replay(replayOptions, nameToProvider.get(replayOptions.getDBMS()), options);
         }
 
-        ExecutorService execService = Executors.newFixedThreadPool(options.getNumberConcurrentThreads());
+        if (options.printProgressInformation()) {
+            startProgressMonitor(options);
+        }
+        Metrics.startExporting(options, jc.getParsedCommand());
+
+        ExecutorService virtualThreadExecutor = options.useVirtualThreads() ? getVirtualThreadPerTaskExecutor() : null;
+        final ExecutorService execService;
+        final Semaphore runningThreads;
+        if (virtualThreadExecutor == null) {
+            execService = Executors.newFixedThreadPool(options.getNumberConcurrentThreads());
+            runningThreads = null;
+        } else {
+            // each database name gets its own virtual thread, of which at most --num-threads test a database at a time;
+            // the permits are fair, since the threads take turns after each database
+            execService = virtualThreadExecutor;
+            runningThreads = new Semaphore(options.getNumberConcurrentThreads(), true);
+        }
         DBMSExecutorFactory<?, ?> executorFactory = nameToProvider.get(jc.getParsedCommand());
         for (int i = 0; i < options.getTotalNumberTries(); i++) {
             final String databaseName = "database" + i;
@@ -417,6 +610,16 @@ public final class Main {
                 private void runThread(final String databaseName) {
                     while (true) {
                         DBMSExecutor<?, ?> executor = executorFactory.getDBMSExecutor(databaseName, seed);
+                        if (runningThreads != null) {
+                            // the permit is only held while testing a single database, since this loop never ends
+                            // unless a bug is found
+                            try {
+                                runningThreads.acquire();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                break;
+                            }
+                        }
                         try {
                             executor.run();
                         } catch (IgnoreMeException e) {
@@ -424,26 +627,27 @@ public final class Main {
                         } catch (Throwable reduce) {
                             reduce.printStackTrace();
                             executor.getStateToReproduce().exception = reduce.getMessage();
+                            if (options.logEachSelect()) {
+                                // make sure that the statements that led to the bug are written
+                                executor.getLogger().flushCurrent();
+                            }
+                            executor.getLogger().flushBinaryLog();
                             executor.getLogger().logFileWriter = null;
                             executor.getLogger().logException(reduce, executor.getStateToReproduce());
-                            threadsShutdown++;
+                            THREADS_SHUTDOWN.incrementAndGet();
                             break;
                         } finally {
-                            try {
-                                if (options.logEachSelect()) {
-                                    if (executor.getLogger().currentFileWriter != null) {
-                                        executor.getLogger().currentFileWriter.close();
-                                    }
-                                    executor.getLogger().currentFileWriter = null;
-                                }
-                            } catch (IOException e) {
-                                e.printStackTrace();
+                            if (runningThreads != null) {
+                                runningThreads.release();
                             }
-                            if (threadsShutdown == options.getTotalNumberTries()) {
+                            executor.getLogger().closeCurrentFile();
+                            executor.getLogger().closeBinaryLog();
+                            if (THREADS_SHUTDOWN.get() == options.getTotalNumberTries()) {
                                 execService.shutdown();
                             }
                         }
                     }
+                    ConnectionPool.closeConnections();
                 }
             });
         }
@@ -456,7 +660,24 @@ public final class Main {
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
-        return threadsShutdown == 0 ? 0 : options.getErrorExitCode();
+        return THREADS_SHUTDOWN.get() == 0 ? 0 : options.getErrorExitCode();
+    }
+
+    private static int replay(ReplayOptions replayOptions, DBMSExecutorFactory<?, ?> executorFactory,
+            MainOptions options) {
+        if (executorFactory == null) {
+            System.err.println("Unknown DBMS: " + replayOptions.getDBMS());
+            return options.getErrorExitCode();
+        }
+        for (String logFile : replayOptions.getLogFiles()) {
+            try (BinaryStatementLog.Reader reader = new BinaryStatementLog.Reader(new File(logFile))) {
+                executorFactory.getDBMSExecutor(reader.getDatabaseName() + "_replay", reader.getSeed()).replay(reader);
+            } catch (IOException | SQLException e) {
+                e.printStackTrace();
+                return options.getErrorExitCode();
+            }
+        }
+        return 0;
     }
 
     static List<DatabaseProvider<?, ?>> getDBMSProviders() {
@@ -472,7 +693,21 @@ public final class Main {
         return providers;
     }
 
-    private static void startProgressMonitor() {
+    /**
+     * Returns an executor that starts a new virtual thread for each task, or null if the JVM does not support virtual
+     * threads. The executor is created by reflection, since SQLancer is compiled for Java 8.
+     */
+    private static ExecutorService getVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            System.err.println(
+                    "Virtual threads are not supported by this JVM (Java 21 or later is required); using platform threads instead.");
+            return null;
+        }
+    }
+
+    private static void startProgressMonitor(MainOptions options) {
         final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
         scheduler.scheduleAtFixedRate(new Runnable() {
 
@@ -487,20 +722,35 @@ public final class Main {
             @Override
             public void run() {
                 long elapsedTimeMillis = System.currentTimeMillis() - timeMillis;
-                long currentNrQueries = nrQueries.get();
+                long currentNrQueries = Metrics.QUERIES.get();
                 long nrCurrentQueries = currentNrQueries - lastNrQueries;
                 double throughput = nrCurrentQueries / (elapsedTimeMillis / 1000d);
-                long currentNrDbs = nrDatabases.get();
+                long currentNrDbs = Metrics.DATABASES.get();
                 long nrCurrentDbs = currentNrDbs - lastNrDbs;
                 double throughputDbs = nrCurrentDbs / (elapsedTimeMillis / 1000d);
-                long successfulStatementsRatio = (long) (100.0 * nrSuccessfulActions.get()
-                        / (nrSuccessfulActions.get() + nrUnsuccessfulActions.get()));
+                long nrSuccessfulStatements = Metrics.SUCCESSFUL_STATEMENTS.get();
+                long successfulStatementsRatio = (long) (100.0 * nrSuccessfulStatements
+                        / (nrSuccessfulStatements + Metrics.FAILED_STATEMENTS.get()));
                 DateFormat dateFormat = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
                 Date date = new Date();
-                System.out.println(String.format(
+                String progress = String.format(
                         "[%s] Executed %d queries (%d queries/s; %.2f/s dbs, successful statements: %2d%%). Threads shut down: %d.",
                         dateFormat.format(date), currentNrQueries, (int) throughput, throughputDbs,
-                        successfulStatementsRatio, threadsShutdown));
+                        successfulStatementsRatio, THREADS_SHUTDOWN.get());
+                if (options.poolConnections() || options.recycleDatabases()) {
+                    progress += String.format(" Pooled connections: %d opened, %d reused.",
+                            ConnectionPool.getNrOpenedConnections(), ConnectionPool.getNrReusedConnections());
+                }
+                if (MetadataCache.getNrMisses() != 0) {
+                    progress += String.format(" Metadata cache: %d hits, %d misses.", MetadataCache.getNrHits(),
+                            MetadataCache.getNrMisses());
+                }
+                if (Metrics.BULK_LOADED_ROWS.get() != 0 || Metrics.STOPPED_BULK_LOADS.get() != 0) {
+                    progress += String.format(" Bulk loaded rows: %d (%d loads stopped early).",
+                            Metrics.BULK_LOADED_ROWS.get(), Metrics.STOPPED_BULK_LOADS.get());
+                }
+                progress += getIgnoredProgress();
+                System.out.println(progress);
                 timeMillis = System.currentTimeMillis();
                 lastNrQueries = currentNrQueries;
                 lastNrDbs = currentNrDbs;
@@ -508,4 +758,24 @@ public final class Main {
         }, 5, 5, TimeUnit.SECONDS);
     }
 
+    // shows the most frequent reasons for which actions and checks were skipped
+    private static String getIgnoredProgress() {
+        List<Reason> reasons = new ArrayList<>(Arrays.asList(Reason.values()));
+        reasons.sort(Comparator.comparingLong(Metrics::getNrIgnored).reversed());
+        long nrIgnored = reasons.stream().mapToLong(Metrics::getNrIgnored).sum();
+        if (nrIgnored == 0) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(String.format(" Skipped: %d (", nrIgnored));
+        for (int i = 0; i < NR_SHOWN_IGNORE_REASONS && Metrics.getNrIgnored(reasons.get(i)) != 0; i++) {
+            if (i != 0) {
+                sb.append(", ");
+            }
+            sb.append(String.format("%s: %.0f%%", reasons.get(i),
+                    100.0 * Metrics.getNrIgnored(reasons.get(i)) / nrIgnored));
+        }
+        sb.append(").");
+        return sb.toString();
+    }
+
 }
@@ -21,6 +21,30 @@ public class MainOptions {
     @Parameter(names = { "--max-num-inserts" }, description = "Specifies how many INSERT statements should be issued")
     private int maxNumberInserts = 30; // NOPMD
 
+    @Parameter(names = {
+            "--insert-batch-size" }, description = "Specifies how many consecutive INSERT statements into the same table and columns are merged into a single multi-row INSERT statement (1 = disabled)")
+    private int insertBatchSize = 1; // NOPMD
+
+    @Parameter(names = {
+            "--pipeline-depth" }, description = "Specifies how many checks of a test oracle can be generated ahead of the check whose queries are being executed (0 = no pipelining); only supported by some test oracles")
+    private int pipelineDepth; // NOPMD
+
+    @Parameter(names = {
+            "--check-batch-size" }, description = "Specifies how many checks of the NoREC oracle are packed into a single statement that computes all their counts (1 = disabled); supported for CockroachDB, Postgres, and SQLite (only for the checks whose optimized query uses COUNT(*))")
+    private int checkBatchSize = 1; // NOPMD
+
+    @Parameter(names = {
+            "--oracle-workers" }, description = "Specifies how many threads execute the test oracle checks on a database after it has been generated, each on its own copy of the database (DuckDB and SQLite) or its own session to it, on which the session settings are replayed (CockroachDB, MySQL, Postgres, and TiDB) (0 = the checks are executed by the thread that generated the database)")
+    private int nrOracleWorkers; // NOPMD
+
+    @Parameter(names = {
+            "--pivot-row-sample-size" }, description = "Specifies how many rows of each table (or cross product of tables) are sampled once to choose the pivot rows of the PQS oracles from (0 = select a random row by a query for each pivot row)")
+    private int pivotRowSampleSize; // NOPMD
+
+    @Parameter(names = {
+            "--bulk-load-rows" }, description = "Specifies how many rows are bulk loaded into each table after the tables have been created (0 = disabled); supported for ClickHouse, DuckDB, Postgres, and SQLite")
+    private long nrBulkLoadRows; // NOPMD
+
     @Parameter(names = {
             "--max-expression-depth" }, description = "Specifies the maximum depth of randomly-generated expressions")
     private int maxExpressionDepth = 3; // NOPMD
@@ -36,6 +60,15 @@ public class MainOptions {
     @Parameter(names = "--log-each-select", description = "Logs every statement issued", arity = 1)
     private boolean logEachSelect = true; // NOPMD
 
+    @Parameter(names = "--binary-log", description = "Logs every executed statement and whether it succeeded to a compressed binary log (logs/<dbms>/<database>.sqlrlog), which can be replayed by the replay command", arity = 1)
+    private boolean binaryLog; // NOPMD
+
+    @Parameter(names = "--metrics-file", description = "Appends a snapshot of the metrics (e.g., the number and duration of the statements of each action and of the checks of each test oracle) as a line of JSON to this file every five seconds")
+    private String metricsFile; // NOPMD
+
+    @Parameter(names = "--metrics-port", description = "Serves the metrics in the Prometheus text format at http://localhost:<port>/metrics (0 = disabled)")
+    private int metricsPort; // NOPMD
+
     @Parameter(names = "--username", description = "The user name used to log into the DBMS")
     private String userName = "sqlancer"; // NOPMD
 
@@ -51,6 +84,24 @@ public class MainOptions {
     @Parameter(names = "--exit-code-error", description = "The exit code that should be returned when an error is encountered (or a bug is found)")
     private int errorExitCode = -1; // NOPMD
 
+    @Parameter(names = "--server-side-digests", description = "Let the DBMS compute digests (the row count and hashes of the rows) of the results that the TLP and NoREC oracles compare, and only fetch the rows if the digests differ; supported for Postgres", arity = 1)
+    private boolean useServerSideDigests; // NOPMD
+
+    @Parameter(names = "--incremental-schema", description = "Apply the known effects of generated schema-changing statements to the in-memory schema rather than re-reading the schema from the DBMS after each of them; supported for CREATE TABLE and CREATE INDEX on DuckDB, CREATE INDEX on TiDB, and CREATE VIEW on CockroachDB, while all other statements re-read the schema", arity = 1)
+    private boolean incrementalSchema; // NOPMD
+
+    @Parameter(names = "--verify-incremental-schema", description = "Compare each incrementally updated schema with the schema read from the DBMS (for debugging --incremental-schema)", arity = 1)
+    private boolean verifyIncrementalSchema; // NOPMD
+
+    @Parameter(names = "--pool-connections", description = "Keep the administrative connections that are used to create databases open and reuse them for each database that a thread creates", arity = 1)
+    private boolean poolConnections; // NOPMD
+
+    @Parameter(names = "--recycle-databases", description = "Reuse each thread's database and connection by dropping the objects created in it, rather than dropping and creating the whole database (only for PostgreSQL and CockroachDB)", arity = 1)
+    private boolean recycleDatabases; // NOPMD
+
+    @Parameter(names = "--virtual-threads", description = "Test each database in its own virtual thread, of which at most --num-threads run at the same time, rather than in a pool of --num-threads platform threads; this allows a much higher --num-threads when the DBMS runs remotely (requires Java 21 or later; otherwise, platform threads are used)", arity = 1)
+    private boolean useVirtualThreads; // NOPMD
+
     public int getMaxExpressionDepth() {
         return maxExpressionDepth;
     }
@@ -75,6 +126,30 @@ public class MainOptions {
         return maxNumberInserts;
     }
 
+    public int getPipelineDepth() {
+        return pipelineDepth;
+    }
+
+    public int getNrOracleWorkers() {
+        return nrOracleWorkers;
+    }
+
+    public int getCheckBatchSize() {
+        return checkBatchSize;
+    }
+
+    public int getPivotRowSampleSize() {
+        return pivotRowSampleSize;
+    }
+
+    public long getNrBulkLoadRows() {
+        return nrBulkLoadRows;
+    }
+
+    public int getInsertBatchSize() {
+        return insertBatchSize;
+    }
+
     public int getNrStatementRetryCount() {
         return nrStatementRetryCount;
     }
@@ -114,4 +189,40 @@ public class MainOptions {
         return randomSeed;
     }
 
+    public boolean useIncrementalSchema() {
+        return incrementalSchema;
+    }
+
+    public boolean verifyIncrementalSchema() {
+        return verifyIncrementalSchema;
+    }
+
+    public boolean poolConnections() {
+        return poolConnections;
+    }
+
+    public boolean recycleDatabases() {
+        return recycleDatabases;
+    }
+
+    public boolean useBinaryLog() {
+        return binaryLog;
+    }
+
+    public String getMetricsFile() {
+        return metricsFile;
+    }
+
+    public int getMetricsPort() {
+        return metricsPort;
+    }
+
+    public boolean useServerSideDigests() {
+        return useServerSideDigests;
+    }
+
+    public boolean useVirtualThreads() {
+        return useVirtualThreads;
+    }
+
 }
@@ -0,0 +1,86 @@
+package sqlancer;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches metadata that does not change for a server instance, such as the operators that a DBMS supports, so that it is
+ * loaded only once per process rather than for every database and thread. Entries are identified by the JDBC URL and
+ * version of the server as well as by a name for the metadata.
+ */
+public final class MetadataCache {
+
+    private static final Map<String, Object> ENTRIES = new ConcurrentHashMap<>();
+    private static final AtomicLong NR_HITS = new AtomicLong();
+    private static final AtomicLong NR_MISSES = new AtomicLong();
+
+    @FunctionalInterface
+    public interface MetadataLoader<T> {
+        T load() throws SQLException;
+    }
+
+    private MetadataCache() {
+    }
+
+    /**
+     * Returns the cached metadata, or loads it if it has not been loaded for the given server yet.
+     *
+     * @param serverUrl
+     *            the JDBC URL that identifies the server
+     * @param serverVersion
+     *            the version of the server, for example, as returned by DatabaseMetaData#getDatabaseProductVersion()
+     * @param name
+     *            the name of the metadata
+     * @param loader
+     *            loads the metadata; the result must not be modified after it has been cached
+     *
+     * @return the cached metadata
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String serverUrl, String serverVersion, String name, MetadataLoader<T> loader)
+            throws SQLException {
+        String key = getKey(serverUrl, serverVersion, name);
+        Object value = ENTRIES.get(key);
+        if (value == null) {
+            synchronized (ENTRIES) {
+                value = ENTRIES.get(key);
+                if (value == null) {
+                    NR_MISSES.incrementAndGet();
+                    value = loader.load();
+                    ENTRIES.put(key, value);
+                    return (T) value;
+                }
+            }
+        }
+        NR_HITS.incrementAndGet();
+        return (T) value;
+    }
+
+    /**
+     * Removes all metadata of the given server, for example, after it has been restarted with a different
+     * configuration.
+     */
+    public static void invalidate(String serverUrl) {
+        String prefix = serverUrl + "\n";
+        ENTRIES.keySet().removeIf(k -> k.startsWith(prefix));
+    }
+
+    public static void invalidateAll() {
+        ENTRIES.clear();
+    }
+
+    private static String getKey(String serverUrl, String serverVersion, String name) {
+        return serverUrl + "\n" + serverVersion + "\n" + name;
+    }
+
+    public static long getNrHits() {
+        return NR_HITS.get();
+    }
+
+    public static long getNrMisses() {
+        return NR_MISSES.get();
+    }
+
+}
@@ -0,0 +1,484 @@
+package sqlancer;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpServer;
+
+import sqlancer.IgnoreMeException.Reason;
+import sqlancer.PipelinedTestOracle.CheckExecution;
+
+/**
+ * A registry of counters and latency histograms that are updated by all threads. Counters are striped (see
+ * {@link LongAdder}), so that threads that update the same counter do not contend. The global counters are always
+ * maintained, since they are used for the progress information. The counters and histograms per action and per test
+ * oracle are only maintained when the metrics are exported (see --metrics-file and --metrics-port).
+ */
+public final class Metrics {
+
+    private static final long EXPORT_INTERVAL_SECONDS = 5;
+    // bucket i counts the durations of less than 2^i microseconds; the last bucket counts all longer durations
+    private static final int NR_BUCKETS = 28;
+
+    private static final Map<String, Family> FAMILIES = new ConcurrentSkipListMap<>();
+    private static final Map<Enum<?>, ActionMetrics> ACTIONS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, OracleMetrics> ORACLES = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> EXPECTED_ERRORS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+    private static volatile String dbms = "";
+
+    public static final Counter SUCCESSFUL_STATEMENTS = counter("sqlancer_statements_total",
+            "The number of executed statements", "status", "successful");
+    public static final Counter FAILED_STATEMENTS = counter("sqlancer_statements_total",
+            "The number of executed statements", "status", "failed");
+    public static final Counter QUERIES = counter("sqlancer_queries_total",
+            "The number of test oracle checks that were performed");
+    public static final Counter DATABASES = counter("sqlancer_databases_total",
+            "The number of databases that were generated");
+    public static final Counter BULK_LOADED_ROWS = counter("sqlancer_bulk_loaded_rows_total",
+            "The number of rows that were bulk loaded (see --bulk-load-rows)");
+    public static final Counter STOPPED_BULK_LOADS = counter("sqlancer_bulk_loads_stopped_total",
+            "The number of bulk loads that stopped at an expected error before all rows were loaded");
+    private static final Counter[] IGNORED = new Counter[Reason.values().length];
+
+    static {
+        for (Reason reason : Reason.values()) {
+            IGNORED[reason.ordinal()] = counter("sqlancer_ignored_total",
+                    "The number of actions and checks that were skipped (see IgnoreMeException)", "reason",
+                    reason.name().toLowerCase());
+        }
+    }
+
+    private Metrics() {
+    }
+
+    public static final class Counter {
+
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long x) {
+            value.add(x);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+
+    }
+
+    public static final class Histogram {
+
+        private final LongAdder[] buckets = new LongAdder[NR_BUCKETS];
+        private final LongAdder sumNanos = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < NR_BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void record(long nanos) {
+            long micros = nanos / 1000;
+            int bucket = Math.min(NR_BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros));
+            buckets[bucket].increment();
+            sumNanos.add(nanos);
+        }
+
+        private long[] getBuckets() {
+            long[] counts = new long[NR_BUCKETS];
+            for (int i = 0; i < NR_BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+
+    }
+
+    private static final class ActionMetrics {
+
+        private final Histogram latency;
+        private final Counter successful;
+        private final Counter failed;
+        private final Counter ignored;
+
+        ActionMetrics(Enum<?> action) {
+            Class<?> provider = action.getDeclaringClass().getEnclosingClass();
+            String providerName = provider == null ? action.getDeclaringClass().getSimpleName()
+                    : provider.getSimpleName();
+            latency = histogram("sqlancer_action_duration_seconds",
+                    "The time to generate and execute the statements of an action", "provider", providerName, "action",
+                    action.name());
+            successful = counter("sqlancer_actions_total", "The number of executed actions", "provider", providerName,
+                    "action", action.name(), "status", "successful");
+            failed = counter("sqlancer_actions_total", "The number of executed actions", "provider", providerName,
+                    "action", action.name(), "status", "failed");
+            ignored = counter("sqlancer_actions_total", "The number of executed actions", "provider", providerName,
+                    "action", action.name(), "status", "ignored");
+        }
+
+    }
+
+    private static final class OracleMetrics {
+
+        private final Histogram latency;
+        private final Counter passed;
+        private final Counter ignored;
+        private final Counter failed;
+
+        OracleMetrics(Class<?> oracle) {
+            latency = histogram("sqlancer_check_duration_seconds", "The time to perform a test oracle check", "oracle",
+                    oracle.getSimpleName());
+            passed = counter("sqlancer_checks_total", "The number of test oracle checks", "oracle",
+                    oracle.getSimpleName(), "status", "passed");
+            ignored = counter("sqlancer_checks_total", "The number of test oracle checks", "oracle",
+                    oracle.getSimpleName(), "status", "ignored");
+            failed = counter("sqlancer_checks_total", "The number of test oracle checks", "oracle",
+                    oracle.getSimpleName(), "status", "failed");
+        }
+
+        void record(long startNanos, Counter outcome) {
+            latency.record(System.nanoTime() - startNanos);
+            outcome.increment();
+        }
+
+    }
+
+    private static final class Family {
+
+        private final String name;
+        private final String help;
+        private final boolean isHistogram;
+        private final List<Series> series = new CopyOnWriteArrayList<>();
+
+        Family(String name, String help, boolean isHistogram) {
+            this.name = name;
+            this.help = help;
+            this.isHistogram = isHistogram;
+        }
+
+    }
+
+    private static final class Series {
+
+        private final String[] labels;
+        private final Object metric;
+
+        Series(String[] labels, Object metric) {
+            this.labels = labels.clone();
+            this.metric = metric;
+        }
+
+    }
+
+    private static synchronized <T> T register(String name, String help, boolean isHistogram, T metric,
+            String... labels) {
+        Family family = FAMILIES.computeIfAbsent(name, n -> new Family(n, help, isHistogram));
+        family.series.add(new Series(labels, metric));
+        return metric;
+    }
+
+    /**
+     * Creates a counter. A counter with the same name and labels must only be created once.
+     *
+     * @param labels
+     *            alternating label names and values
+     */
+    public static Counter counter(String name, String help, String... labels) {
+        return register(name, help, false, new Counter(), labels);
+    }
+
+    public static Histogram histogram(String name, String help, String... labels) {
+        return register(name, help, true, new Histogram(), labels);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start time for {@link #recordAction}, or 0 if the metrics are not exported.
+     */
+    public static long startAction() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the duration and outcome of an action that was started by {@link #startAction}.
+     *
+     * @param success
+     *            whether the statement of the action was executed successfully, or null if the action was skipped
+     *            (i.e., an {@link IgnoreMeException} was thrown)
+     */
+    public static void recordAction(Enum<?> action, long startNanos, Boolean success) {
+        if (startNanos == 0) {
+            return;
+        }
+        ActionMetrics metrics = ACTIONS.get(action);
+        if (metrics == null) {
+            metrics = ACTIONS.computeIfAbsent(action, ActionMetrics::new);
+        }
+        metrics.latency.record(System.nanoTime() - startNanos);
+        if (success == null) {
+            metrics.ignored.increment();
+        } else if (success) {
+            metrics.successful.increment();
+        } else {
+            metrics.failed.increment();
+        }
+    }
+
+    /**
+     * Counts a statement that failed with the given expected error.
+     */
+    public static void recordExpectedError(String error) {
+        if (!enabled) {
+            return;
+        }
+        Counter counter = EXPECTED_ERRORS.get(error);
+        if (counter == null) {
+            counter = EXPECTED_ERRORS.computeIfAbsent(error, e -> counter("sqlancer_expected_errors_total",
+                    "The number of statements that failed with an expected error", "error", e));
+        }
+        counter.increment();
+    }
+
+    /**
+     * Counts an action or check that was skipped for the given reason.
+     */
+    public static void recordIgnored(Reason reason) {
+        IGNORED[reason.ordinal()].increment();
+    }
+
+    public static long getNrIgnored(Reason reason) {
+        return IGNORED[reason.ordinal()].get();
+    }
+
+    private static OracleMetrics getOracleMetrics(TestOracle oracle) {
+        OracleMetrics metrics = ORACLES.get(oracle.getClass());
+        if (metrics == null) {
+            metrics = ORACLES.computeIfAbsent(oracle.getClass(), OracleMetrics::new);
+        }
+        return metrics;
+    }
+
+    /**
+     * Performs a check of the test oracle and records its duration and outcome.
+     */
+    public static void check(TestOracle oracle) throws SQLException {
+        if (!enabled || oracle instanceof CompositeTestOracle) {
+            // a composite oracle records the metrics of the oracle that it delegates to
+            oracle.check();
+            return;
+        }
+        OracleMetrics metrics = getOracleMetrics(oracle);
+        long start = System.nanoTime();
+        try {
+            oracle.check();
+        } catch (IgnoreMeException e) {
+            metrics.record(start, metrics.ignored);
+            throw e;
+        } catch (SQLException | RuntimeException | Error e) {
+            metrics.record(start, metrics.failed);
+            throw e;
+        }
+        metrics.record(start, metrics.passed);
+    }
+
+    /**
+     * Generates a check of the test oracle whose execution records its duration and outcome.
+     */
+    public static CheckExecution generateCheck(PipelinedTestOracle oracle) throws SQLException {
+        CheckExecution check = oracle.generateCheck();
+        if (!enabled || oracle instanceof CompositeTestOracle) {
+            return check;
+        }
+        OracleMetrics metrics = getOracleMetrics(oracle);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                check.execute();
+            } catch (IgnoreMeException e) {
+                metrics.record(start, metrics.ignored);
+                throw e;
+            } catch (SQLException | RuntimeException | Error e) {
+                metrics.record(start, metrics.failed);
+                throw e;
+            }
+            metrics.record(start, metrics.passed);
+        };
+    }
+
+    /**
+     * Starts exporting the metrics as JSON lines to the --metrics-file and in the Prometheus text format on the
+     * --metrics-port, if they are set.
+     */
+    public static void startExporting(MainOptions options, String dbmsName) {
+        if (options.getMetricsFile() == null && options.getMetricsPort() == 0) {
+            return;
+        }
+        dbms = dbmsName;
+        enabled = true;
+        if (options.getMetricsFile() != null) {
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "metrics-writer");
+                t.setDaemon(true);
+                return t;
+            });
+            scheduler.scheduleAtFixedRate(() -> {
+                try (FileWriter writer = new FileWriter(options.getMetricsFile(), true)) {
+                    writer.write(toJsonLine(System.currentTimeMillis()));
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }, EXPORT_INTERVAL_SECONDS, EXPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+        if (options.getMetricsPort() != 0) {
+            try {
+                HttpServer server = HttpServer.create(new InetSocketAddress(options.getMetricsPort()), 0);
+                server.createContext("/metrics", exchange -> {
+                    byte[] response = toPrometheusText().getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                    exchange.sendResponseHeaders(200, response.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(response);
+                    }
+                });
+                server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+                    Thread t = new Thread(r, "metrics-server");
+                    t.setDaemon(true);
+                    return t;
+                }));
+                server.start();
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    static String toPrometheusText() {
+        StringBuilder sb = new StringBuilder();
+        for (Family family : FAMILIES.values()) {
+            sb.append("# HELP ").append(family.name).append(' ').append(family.help).append('\n');
+            sb.append("# TYPE ").append(family.name).append(family.isHistogram ? " histogram\n" : " counter\n");
+            for (Series series : family.series) {
+                if (family.isHistogram) {
+                    Histogram histogram = (Histogram) series.metric;
+                    long[] buckets = histogram.getBuckets();
+                    long count = 0;
+                    for (int i = 0; i < NR_BUCKETS; i++) {
+                        count += buckets[i];
+                        String le = i == NR_BUCKETS - 1 ? "+Inf" : Double.toString(getUpperBoundSeconds(i));
+                        sb.append(family.name).append("_bucket");
+                        appendPrometheusLabels(sb, series.labels, le);
+                        sb.append(' ').append(count).append('\n');
+                    }
+                    sb.append(family.name).append("_sum");
+                    appendPrometheusLabels(sb, series.labels, null);
+                    sb.append(' ').append(histogram.sumNanos.sum() / 1e9).append('\n');
+                    sb.append(family.name).append("_count");
+                    appendPrometheusLabels(sb, series.labels, null);
+                    sb.append(' ').append(count).append('\n');
+                } else {
+                    sb.append(family.name);
+                    appendPrometheusLabels(sb, series.labels, null);
+                    sb.append(' ').append(((Counter) series.metric).get()).append('\n');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendPrometheusLabels(StringBuilder sb, String[] labels, String le) {
+        sb.append("{dbms=\"").append(escape(dbms)).append('"');
+        for (int i = 0; i < labels.length; i += 2) {
+            sb.append(',').append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+        if (le != null) {
+            sb.append(",le=\"").append(le).append('"');
+        }
+        sb.append('}');
+    }
+
+    /**
+     * Returns a snapshot of all metrics as a single line of JSON. Histograms are summarized by their count, sum, and
+     * estimated percentiles (i.e., the upper bounds of the buckets that contain them).
+     */
+    static String toJsonLine(long timestampMillis) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"timestamp\":").append(timestampMillis).append(",\"dbms\":\"").append(escape(dbms))
+                .append("\",\"metrics\":[");
+        boolean first = true;
+        for (Family family : FAMILIES.values()) {
+            for (Series series : family.series) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                sb.append("{\"name\":\"").append(family.name).append("\",\"labels\":{");
+                for (int i = 0; i < series.labels.length; i += 2) {
+                    if (i != 0) {
+                        sb.append(',');
+                    }
+                    sb.append('"').append(series.labels[i]).append("\":\"").append(escape(series.labels[i + 1]))
+                            .append('"');
+                }
+                sb.append('}');
+                if (family.isHistogram) {
+                    Histogram histogram = (Histogram) series.metric;
+                    long[] buckets = histogram.getBuckets();
+                    long count = 0;
+                    for (long bucket : buckets) {
+                        count += bucket;
+                    }
+                    sb.append(",\"count\":").append(count);
+                    sb.append(",\"sum_seconds\":").append(histogram.sumNanos.sum() / 1e9);
+                    sb.append(",\"p50_seconds\":").append(getPercentile(buckets, count, 0.5));
+                    sb.append(",\"p99_seconds\":").append(getPercentile(buckets, count, 0.99));
+                } else {
+                    sb.append(",\"value\":").append(((Counter) series.metric).get());
+                }
+                sb.append('}');
+            }
+        }
+        sb.append("]}\n");
+        return sb.toString();
+    }
+
+    private static double getPercentile(long[] buckets, long count, double percentile) {
+        long rank = (long) Math.ceil(count * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < NR_BUCKETS - 1; i++) {
+            cumulative += buckets[i];
+            if (cumulative >= rank) {
+                return getUpperBoundSeconds(i);
+            }
+        }
+        return getUpperBoundSeconds(NR_BUCKETS - 2);
+    }
+
+    private static double getUpperBoundSeconds(int bucket) {
+        return (1L << bucket) / 1e6;
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+}
@@ -0,0 +1,232 @@
+package sqlancer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import sqlancer.IgnoreMeException.Reason;
+
+/**
+ * Executes the checks of a test oracle on a generated database by multiple worker threads (see --oracle-workers). The
+ * workers take the indices of the checks from a shared queue and execute the checks on their own connection, which the
+ * DBMS-specific {@link WorkerFactory} provides (e.g., to a copy of the database, or another session to it), using their
+ * own test oracle. Before each check, the worker's {@link Randomly} is reseeded with a seed that is derived from the
+ * seed of the database and the index of the check, so that the queries of a check do not depend on which worker
+ * executes it or on the checks that the worker executed before. If a worker finds a bug, the other workers stop, and
+ * the state of the worker that found the bug in the check with the lowest index is merged into the current state
+ * before the bug is rethrown.
+ */
+public final class ParallelOracleExecutor {
+
+    /**
+     * Creates the state of a worker, which is called on the worker's thread.
+     */
+    @FunctionalInterface
+    public interface WorkerFactory<G extends GlobalState<?>> {
+
+        /**
+         * @param globalState
+         *            the state of the thread that generated the database
+         * @param seed
+         *            the seed for the worker's {@link Randomly}
+         *
+         * @return the worker's state, initialized by {@link GlobalState#initializeWorker}
+         */
+        G createWorker(G globalState, long seed) throws SQLException;
+
+    }
+
+    @FunctionalInterface
+    public interface OracleFactory<G extends GlobalState<?>> {
+        TestOracle create(G globalState) throws SQLException;
+    }
+
+    private ParallelOracleExecutor() {
+    }
+
+    /**
+     * Executes the checks of the given oracle, or distributes them to --oracle-workers workers.
+     *
+     * @param oracle
+     *            the oracle of the current thread, which executes the checks if there are no workers
+     * @param workerFactory
+     *            the factory for the workers' states, or null if the database cannot be shared with workers
+     * @param oracleFactory
+     *            the factory for the oracles of the workers
+     */
+    public static <G extends GlobalState<?>> void executeChecks(G globalState, TestOracle oracle,
+            WorkerFactory<G> workerFactory, OracleFactory<G> oracleFactory) throws SQLException {
+        int nrWorkers = globalState.getOptions().getNrOracleWorkers();
+        if (nrWorkers == 0 || workerFactory == null) {
+            PipelinedOracleExecutor.executeChecks(globalState, oracle);
+            return;
+        }
+        String threadName = Thread.currentThread().getName();
+        AtomicInteger nrThreads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(nrWorkers, r -> {
+            Thread t = new Thread(r, threadName + "-worker" + nrThreads.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        long databaseSeed = globalState.getState().getSeedValue();
+        CheckQueue queue = new CheckQueue(globalState.getOptions().getNrQueries());
+        List<Worker<G>> workers = new ArrayList<>();
+        for (int i = 0; i < nrWorkers; i++) {
+            // negative indices, so that the seeds of the workers differ from those of the checks
+            workers.add(new Worker<>(globalState, databaseSeed, getCheckSeed(databaseSeed, -1 - i), queue));
+        }
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Worker<G> worker : workers) {
+                futures.add(executor.submit(() -> {
+                    worker.run(workerFactory, oracleFactory);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IgnoreMeException(Reason.CANCELLED);
+                } catch (ExecutionException e) {
+                    // the bug is rethrown below, after all workers have stopped
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Worker<G> failedWorker = null;
+        for (Worker<G> worker : workers) {
+            if (worker.bug != null && (failedWorker == null || worker.currentCheck < failedWorker.currentCheck)) {
+                failedWorker = worker;
+            }
+        }
+        if (failedWorker != null) {
+            if (failedWorker.state != null) {
+                globalState.getState().merge(failedWorker.state.getState());
+            }
+            PipelinedOracleExecutor.rethrow(failedWorker.bug);
+        }
+    }
+
+    /**
+     * Derives the seed of a check from the seed of the database and the index of the check. Multiplying by an odd
+     * constant spreads the seeds of consecutive databases (see --random-seed), so that they do not overlap.
+     */
+    static long getCheckSeed(long databaseSeed, long checkIndex) {
+        return databaseSeed * 0x9E3779B97F4A7C15L + checkIndex;
+    }
+
+    /**
+     * Opens another session to the database of the given state for a worker. The statements of the state that change
+     * the settings of the session (e.g., SET statements), as selected by the given predicate, are replayed on it in
+     * their original order.
+     */
+    public static Connection openSession(GlobalState<?> globalState, Predicate<String> isSessionStatement)
+            throws SQLException {
+        MainOptions options = globalState.getOptions();
+        Connection con = DriverManager.getConnection(globalState.getConnection().getMetaData().getURL(),
+                options.getUserName(), options.getPassword());
+        for (Query q : globalState.getState().getStatements()) {
+            if (isSessionStatement.test(q.getQueryString())) {
+                try (Statement s = con.createStatement()) {
+                    s.execute(q.getQueryString());
+                } catch (SQLException e) {
+                    // failing statements are ignored, as when the database was generated
+                }
+            }
+        }
+        return con;
+    }
+
+    /**
+     * Hands out the indices of the checks in ascending order, until all checks have been taken or a worker has found a
+     * bug.
+     */
+    private static final class CheckQueue {
+
+        private final int nrChecks;
+        private final AtomicInteger nextCheck = new AtomicInteger();
+        private volatile boolean failed;
+
+        CheckQueue(int nrChecks) {
+            this.nrChecks = nrChecks;
+        }
+
+        /**
+         * @return the index of the next check, or -1 if there are no more checks to execute
+         */
+        int take() {
+            if (failed) {
+                return -1;
+            }
+            int check = nextCheck.getAndIncrement();
+            return check < nrChecks ? check : -1;
+        }
+
+        void fail() {
+            failed = true;
+        }
+
+    }
+
+    private static final class Worker<G extends GlobalState<?>> {
+
+        private final G globalState;
+        private final long databaseSeed;
+        private final long seed;
+        private final CheckQueue queue;
+        private volatile G state;
+        private volatile Throwable bug;
+        private volatile int currentCheck = -1;
+
+        Worker(G globalState, long databaseSeed, long seed, CheckQueue queue) {
+            this.globalState = globalState;
+            this.databaseSeed = databaseSeed;
+            this.seed = seed;
+            this.queue = queue;
+        }
+
+        void run(WorkerFactory<G> workerFactory, OracleFactory<G> oracleFactory) throws SQLException {
+            try {
+                state = workerFactory.createWorker(globalState, seed);
+                TestOracle oracle = oracleFactory.create(state);
+                int check;
+                while ((check = queue.take()) != -1) {
+                    currentCheck = check;
+                    state.getRandomly().reseed(getCheckSeed(databaseSeed, check));
+                    try {
+                        Metrics.check(oracle);
+                    } catch (IgnoreMeException e) {
+                        continue;
+                    }
+                    state.getManager().incrementSelectQueryCount();
+                }
+                currentCheck = Integer.MAX_VALUE;
+                oracle.finishChecks();
+            } catch (IgnoreMeException e) {
+                // the oracle cannot be used on this database
+            } catch (Throwable t) {
+                bug = t;
+                queue.fail();
+                throw t;
+            } finally {
+                if (state != null) {
+                    state.getConnection().close();
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package sqlancer;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import sqlancer.IgnoreMeException.Reason;
+import sqlancer.PipelinedTestOracle.CheckExecution;
+
+/**
+ * Executes the checks of a test oracle. If --pipeline-depth is set and the oracle supports it, the checks are generated
+ * on the current thread while the previously generated checks are executed, one after the other, by a separate thread
+ * that uses the same connection. Since the checks are generated in the same order and on the same thread as without
+ * pipelining, and their generation does not depend on the results of previous checks, a run is still deterministic for
+ * a given --random-seed.
+ */
+public final class PipelinedOracleExecutor {
+
+    private final ExecutorService executor;
+    private final Deque<Future<?>> pendingChecks = new ArrayDeque<>();
+    private final int depth;
+    private volatile boolean failed;
+
+    private PipelinedOracleExecutor(String threadName, int depth) {
+        this.depth = depth;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, threadName + "-pipeline");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public static void executeChecks(GlobalState<?> globalState, TestOracle oracle) throws SQLException {
+        int depth = globalState.getOptions().getPipelineDepth();
+        int nrChecks = globalState.getOptions().getNrQueries();
+        if (depth == 0 || !(oracle instanceof PipelinedTestOracle)
+                || !((PipelinedTestOracle) oracle).canBePipelined()) {
+            for (int i = 0; i < nrChecks; i++) {
+                try {
+                    Metrics.check(oracle);
+                } catch (IgnoreMeException e) {
+                    continue;
+                }
+                globalState.getManager().incrementSelectQueryCount();
+            }
+            oracle.finishChecks();
+            return;
+        }
+        PipelinedOracleExecutor pipeline = new PipelinedOracleExecutor(Thread.currentThread().getName(), depth);
+        try {
+            pipeline.execute(globalState, (PipelinedTestOracle) oracle, nrChecks);
+        } finally {
+            pipeline.executor.shutdownNow();
+        }
+    }
+
+    private void execute(GlobalState<?> globalState, PipelinedTestOracle oracle, int nrChecks) throws SQLException {
+        for (int i = 0; i < nrChecks; i++) {
+            CheckExecution check;
+            try {
+                check = Metrics.generateCheck(oracle);
+            } catch (IgnoreMeException e) {
+                continue;
+            }
+            if (pendingChecks.size() >= depth) {
+                awaitCheck(globalState);
+            }
+            pendingChecks.add(executor.submit(() -> {
+                if (failed) {
+                    // do not execute further queries after a bug was found, so that they are not logged
+                    throw new IgnoreMeException(Reason.CANCELLED);
+                }
+                try {
+                    check.execute();
+                } catch (Throwable t) {
+                    if (!(t instanceof IgnoreMeException)) {
+                        failed = true;
+                    }
+                    throw t;
+                }
+                return null;
+            }));
+        }
+        while (!pendingChecks.isEmpty()) {
+            awaitCheck(globalState);
+        }
+    }
+
+    private void awaitCheck(GlobalState<?> globalState) throws SQLException {
+        Future<?> check = pendingChecks.removeFirst();
+        try {
+            check.get();
+            globalState.getManager().incrementSelectQueryCount();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IgnoreMeException(Reason.CANCELLED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IgnoreMeException) {
+                return;
+            }
+            rethrow(e.getCause());
+        }
+    }
+
+    static void rethrow(Throwable t) throws SQLException {
+        if (t instanceof SQLException) {
+            throw (SQLException) t;
+        } else if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else {
+            throw new AssertionError(t);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package sqlancer;
+
+import java.sql.SQLException;
+
+/**
+ * A test oracle whose checks are split into generating the queries and executing them, so that the next checks can be
+ * generated while the queries of the current check are executed by the DBMS (see --pipeline-depth). All random
+ * decisions must be made by {@link #generateCheck()}, since the returned execution is run on another thread.
+ */
+public interface PipelinedTestOracle extends TestOracle {
+
+    @FunctionalInterface
+    interface CheckExecution {
+        void execute() throws SQLException;
+    }
+
+    /**
+     * Generates the queries of a check without executing them.
+     *
+     * @return the execution that issues the queries and validates their results
+     */
+    CheckExecution generateCheck() throws SQLException;
+
+    @Override
+    default void check() throws SQLException {
+        generateCheck().execute();
+    }
+
+    default boolean canBePipelined() {
+        return true;
+    }
+
+}
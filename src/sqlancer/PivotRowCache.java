@@ -0,0 +1,92 @@
+package sqlancer;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps random samples of the rows from which the Pivoted Query Synthesis oracles choose their pivot rows (see
+ * --pivot-row-sample-size). Rather than sorting the (cross product of the) tables by a random number for every pivot
+ * row, the rows are scanned once and sampled using reservoir sampling. All samples are discarded when a statement other
+ * than a SELECT statement is executed, since a statement can change the rows of tables that it does not refer to (e.g.,
+ * by a trigger or a foreign key action).
+ */
+public class PivotRowCache {
+
+    private final Map<String, List<Object>> samples = new HashMap<>();
+    private final int sampleSize;
+
+    /**
+     * Converts the current row of a result set to the representation that is stored in the cache.
+     *
+     * @param <R>
+     *            the row representation
+     */
+    @FunctionalInterface
+    public interface RowReader<R> {
+        R read(ResultSet rs) throws SQLException;
+    }
+
+    public PivotRowCache(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Returns a random row of the given query, or null if the query does not fetch any rows.
+     *
+     * @param query
+     *            a query without ORDER BY and LIMIT clauses
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R getRandomRow(Connection con, String query, RowReader<R> reader, Randomly r) throws SQLException {
+        List<Object> sample = samples.get(query);
+        if (sample == null) {
+            sample = new ArrayList<>();
+            try (Statement s = con.createStatement()) {
+                try (ResultSet rs = s.executeQuery(query)) {
+                    long nrRows = 0;
+                    while (rs.next()) {
+                        nrRows++;
+                        if (sample.size() < sampleSize) {
+                            sample.add(reader.read(rs));
+                        } else {
+                            long i = r.getNotCachedInteger(0, (int) Math.min(nrRows, Integer.MAX_VALUE));
+                            if (i < sampleSize) {
+                                sample.set((int) i, reader.read(rs));
+                            }
+                        }
+                    }
+                }
+            }
+            samples.put(query, sample);
+        }
+        if (sample.isEmpty()) {
+            return null;
+        }
+        return (R) r.fromList(sample);
+    }
+
+    public boolean isEnabled() {
+        return sampleSize != 0;
+    }
+
+    public void invalidate(Query q) {
+        if (q.couldAffectSchema() || !isSelect(q.getQueryString())) {
+            samples.clear();
+        }
+    }
+
+    private static boolean isSelect(String statement) {
+        return statement.regionMatches(true, 0, "SELECT", 0, "SELECT".length());
+    }
+
+    public void invalidateAll() {
+        samples.clear();
+    }
+
+}
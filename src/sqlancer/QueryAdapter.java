@@ -6,6 +6,8 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 
+import sqlancer.Main.StateLogger;
+
 public class QueryAdapter extends Query {
 
     private final String query;
@@ -41,24 +43,26 @@ public class QueryAdapter extends Query {
     public boolean execute(GlobalState<?> globalState) throws SQLException {
         try (Statement s = globalState.getConnection().createStatement()) {
             s.execute(query);
-            Main.nrSuccessfulActions.addAndGet(1);
+            Metrics.SUCCESSFUL_STATEMENTS.increment();
+            logStatement(globalState, true);
             return true;
         } catch (Exception e) {
-            Main.nrUnsuccessfulActions.addAndGet(1);
+            Metrics.FAILED_STATEMENTS.increment();
+            logStatement(globalState, false);
             checkException(e);
             return false;
         }
     }
 
-    public void checkException(Exception e) throws AssertionError {
-        boolean isExcluded = false;
-        for (String expectedError : expectedErrors) {
-            if (e.getMessage().contains(expectedError)) {
-                isExcluded = true;
-                break;
-            }
+    private void logStatement(GlobalState<?> globalState, boolean success) {
+        StateLogger logger = globalState.getLogger();
+        if (logger != null) {
+            logger.logStatement(query, success);
         }
-        if (!isExcluded) {
+    }
+
+    public void checkException(Exception e) throws AssertionError {
+        if (!ExpectedErrors.from(expectedErrors).errorIsExpected(e.getMessage())) {
             throw new AssertionError(query, e);
         }
     }
@@ -69,19 +73,14 @@ public class QueryAdapter extends Query {
         ResultSet result = null;
         try {
             result = s.executeQuery(query);
-            Main.nrSuccessfulActions.addAndGet(1);
+            Metrics.SUCCESSFUL_STATEMENTS.increment();
+            logStatement(globalState, true);
             return result;
         } catch (Exception e) {
             s.close();
-            boolean isExcluded = false;
-            Main.nrUnsuccessfulActions.addAndGet(1);
-            for (String expectedError : expectedErrors) {
-                if (e.getMessage().contains(expectedError)) {
-                    isExcluded = true;
-                    break;
-                }
-            }
-            if (!isExcluded) {
+            logStatement(globalState, false);
+            Metrics.FAILED_STATEMENTS.increment();
+            if (!ExpectedErrors.from(expectedErrors).errorIsExpected(e.getMessage())) {
                 throw e;
             }
         }
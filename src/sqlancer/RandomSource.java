@@ -0,0 +1,135 @@
+package sqlancer;
+
+/**
+ * A pseudo-random number generator based on xoshiro256** (see https://prng.di.unimi.it/), whose state is seeded by
+ * SplitMix64. In contrast to {@link java.util.Random}, it is not synchronized and none of its methods allocate objects.
+ * The sequence of generated numbers only depends on the seed, so each {@link Randomly} instance owns its own generator
+ * to make runs with --random-seed reproducible. RandomlyBenchmark (in the benchmarks profile) compares it with the
+ * previous java.util.Random-based implementation.
+ */
+public final class RandomSource {
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+    private double nextNextGaussian;
+    private boolean haveNextNextGaussian;
+
+    public RandomSource(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Resets the generator, so that it generates the same sequence of numbers as a generator created with the given
+     * seed.
+     */
+    public void setSeed(long seed) {
+        haveNextNextGaussian = false;
+        long x = seed;
+        x += 0x9E3779B97F4A7C15L;
+        s0 = mix(x);
+        x += 0x9E3779B97F4A7C15L;
+        s1 = mix(x);
+        x += 0x9E3779B97F4A7C15L;
+        s2 = mix(x);
+        x += 0x9E3779B97F4A7C15L;
+        s3 = mix(x);
+    }
+
+    private static long mix(long z) {
+        long x = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Returns a number in [0, bound). The number is computed as the upper 32 bits of the 64-bit product of a 32-bit
+     * random number and the bound, which avoids a division; the resulting bias is negligible for our purposes.
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Returns a number in [lower, upper).
+     */
+    public long nextLong(long lower, long upper) {
+        // the difference can be interpreted as an unsigned number, even if it overflows
+        return lower + multiplyHighUnsigned(nextLong(), upper - lower);
+    }
+
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Returns a normally-distributed number using the polar method (as {@link java.util.Random#nextGaussian()} does).
+     */
+    public double nextGaussian() {
+        if (haveNextNextGaussian) {
+            haveNextNextGaussian = false;
+            return nextNextGaussian;
+        }
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        nextNextGaussian = v2 * multiplier;
+        haveNextNextGaussian = true;
+        return v1 * multiplier;
+    }
+
+    public void nextBytes(byte[] bytes) {
+        int i = 0;
+        while (i < bytes.length) {
+            long value = nextLong();
+            for (int j = 0; j < Long.BYTES && i < bytes.length; j++) {
+                bytes[i++] = (byte) value;
+                value >>>= Byte.SIZE;
+            }
+        }
+    }
+
+    static long multiplyHighUnsigned(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long p00 = x0 * y0;
+        long p01 = x0 * y1;
+        long p10 = x1 * y0;
+        long p11 = x1 * y1;
+        long middle = p10 + (p00 >>> 32) + (p01 & 0xFFFFFFFFL);
+        return p11 + (middle >>> 32) + (p01 >>> 32);
+    }
+
+}
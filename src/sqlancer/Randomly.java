@@ -4,8 +4,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
-import java.util.function.Supplier;
+import java.util.function.Function;
 
 public final class Randomly {
 
@@ -17,9 +16,8 @@ public final class Randomly {
     private final List<Double> cachedDoubles = new ArrayList<>();
     private final List<byte[]> cachedBytes = new ArrayList<>();
     private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyzöß!#<>/.,~-+'*()[]{} ^*?%_\t\n\r|&\\";
-    private Supplier<String> provider;
-
-    private static final ThreadLocal<Random> THREAD_RANDOM = new ThreadLocal<>();
+    private Function<Randomly, String> provider;
+    private final RandomSource source;
 
     private void addToCache(long val) {
         if (USE_CACHING && cachedLongs.size() < CACHE_SIZE && !cachedLongs.contains(val)) {
@@ -43,7 +41,7 @@ public final class Randomly {
         if (!USE_CACHING || cachedLongs.isEmpty()) {
             return null;
         } else {
-            return Randomly.fromList(cachedLongs);
+            return fromList(cachedLongs);
         }
     }
 
@@ -51,10 +49,10 @@ public final class Randomly {
         if (!USE_CACHING) {
             return null;
         }
-        if (Randomly.getBoolean() && !cachedLongs.isEmpty()) {
-            return (double) Randomly.fromList(cachedLongs);
+        if (getBoolean() && !cachedLongs.isEmpty()) {
+            return (double) fromList(cachedLongs);
         } else if (!cachedDoubles.isEmpty()) {
-            return Randomly.fromList(cachedDoubles);
+            return fromList(cachedDoubles);
         } else {
             return null;
         }
@@ -64,25 +62,25 @@ public final class Randomly {
         if (!USE_CACHING) {
             return null;
         }
-        if (Randomly.getBoolean() && !cachedLongs.isEmpty()) {
-            return String.valueOf(Randomly.fromList(cachedLongs));
-        } else if (Randomly.getBoolean() && !cachedDoubles.isEmpty()) {
-            return String.valueOf(Randomly.fromList(cachedDoubles));
-        } else if (Randomly.getBoolean() && !cachedBytes.isEmpty()) {
-            return new String(Randomly.fromList(cachedBytes));
+        if (getBoolean() && !cachedLongs.isEmpty()) {
+            return String.valueOf(fromList(cachedLongs));
+        } else if (getBoolean() && !cachedDoubles.isEmpty()) {
+            return String.valueOf(fromList(cachedDoubles));
+        } else if (getBoolean() && !cachedBytes.isEmpty()) {
+            return new String(fromList(cachedBytes));
         } else if (!cachedStrings.isEmpty()) {
-            String randomString = Randomly.fromList(cachedStrings);
-            if (Randomly.getBoolean()) {
+            String randomString = fromList(cachedStrings);
+            if (getBoolean()) {
                 return randomString;
             } else {
-                if (Randomly.getBoolean()) {
+                if (getBoolean()) {
                     return randomString.toLowerCase();
-                } else if (Randomly.getBoolean()) {
+                } else if (getBoolean()) {
                     return randomString.toUpperCase();
                 } else {
                     char[] chars = randomString.toCharArray();
                     if (chars.length != 0) {
-                        for (int i = 0; i < Randomly.smallNumber(); i++) {
+                        for (int i = 0; i < smallNumber(); i++) {
                             chars[getInteger(0, chars.length)] = ALPHABET.charAt(getInteger(0, ALPHABET.length()));
                         }
                     }
@@ -94,53 +92,53 @@ public final class Randomly {
         }
     }
 
-    private static boolean cacheProbability() {
+    private boolean cacheProbability() {
         return USE_CACHING && getNextLong(0, 3) == 1;
     }
 
     // CACHING END
 
-    public static <T> T fromList(List<T> list) {
+    public <T> T fromList(List<T> list) {
         return list.get((int) getNextLong(0, list.size()));
     }
 
     @SafeVarargs
-    public static <T> T fromOptions(T... options) {
+    public final <T> T fromOptions(T... options) {
         return options[getNextInt(0, options.length)];
     }
 
     @SafeVarargs
-    public static <T> List<T> nonEmptySubset(T... options) {
+    public final <T> List<T> nonEmptySubset(T... options) {
         int nr = 1 + getNextInt(0, options.length);
         return extractNrRandomColumns(Arrays.asList(options), nr);
     }
 
-    public static <T> List<T> nonEmptySubset(List<T> columns) {
+    public <T> List<T> nonEmptySubset(List<T> columns) {
         int nr = 1 + getNextInt(0, columns.size());
         return nonEmptySubset(columns, nr);
     }
 
-    public static <T> List<T> nonEmptySubset(List<T> columns, int nr) {
+    public <T> List<T> nonEmptySubset(List<T> columns, int nr) {
         if (nr > columns.size()) {
             throw new AssertionError(columns + " " + nr);
         }
         return extractNrRandomColumns(columns, nr);
     }
 
-    public static <T> List<T> nonEmptySubsetPotentialDuplicates(List<T> columns) {
+    public <T> List<T> nonEmptySubsetPotentialDuplicates(List<T> columns) {
         List<T> arr = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
-            arr.add(Randomly.fromList(columns));
+        for (int i = 0; i < smallNumber() + 1; i++) {
+            arr.add(fromList(columns));
         }
         return arr;
     }
 
-    public static <T> List<T> subset(List<T> columns) {
+    public <T> List<T> subset(List<T> columns) {
         int nr = getNextInt(0, columns.size() + 1);
         return extractNrRandomColumns(columns, nr);
     }
 
-    public static <T> List<T> subset(int nr, @SuppressWarnings("unchecked") T... values) {
+    public <T> List<T> subset(int nr, @SuppressWarnings("unchecked") T... values) {
         List<T> list = new ArrayList<>();
         for (T val : values) {
             list.add(val);
@@ -148,7 +146,7 @@ public final class Randomly {
         return extractNrRandomColumns(list, nr);
     }
 
-    public static <T> List<T> subset(@SuppressWarnings("unchecked") T... values) {
+    public <T> List<T> subset(@SuppressWarnings("unchecked") T... values) {
         List<T> list = new ArrayList<>();
         for (T val : values) {
             list.add(val);
@@ -156,7 +154,7 @@ public final class Randomly {
         return subset(list);
     }
 
-    public static <T> List<T> extractNrRandomColumns(List<T> columns, int nr) {
+    public <T> List<T> extractNrRandomColumns(List<T> columns, int nr) {
         assert nr >= 0;
         List<T> selectedColumns = new ArrayList<>();
         List<T> remainingColumns = new ArrayList<>(columns);
@@ -166,26 +164,18 @@ public final class Randomly {
         return selectedColumns;
     }
 
-    public static int smallNumber() {
+    public int smallNumber() {
         // no need to cache for small numbers
-        return (int) (Math.abs(getThreadRandom().get().nextGaussian()) * 2);
-    }
-
-    public static boolean getBoolean() {
-        return getThreadRandom().get().nextBoolean();
+        return (int) (Math.abs(source.nextGaussian()) * 2);
     }
 
-    private static ThreadLocal<Random> getThreadRandom() {
-        if (THREAD_RANDOM.get() == null) {
-            // a static method has been called, before Randomly was instantiated
-            THREAD_RANDOM.set(new Random());
-        }
-        return THREAD_RANDOM;
+    public boolean getBoolean() {
+        return source.nextBoolean();
     }
 
     public long getInteger() {
         if (smallBiasProbability()) {
-            return Randomly.fromOptions(-1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L, 0L);
+            return fromOptions(-1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L, 0L);
         } else {
             if (cacheProbability()) {
                 Long l = getFromLongCache();
@@ -193,7 +183,7 @@ public final class Randomly {
                     return l;
                 }
             }
-            long nextLong = getThreadRandom().get().nextInt();
+            long nextLong = source.nextInt();
             addToCache(nextLong);
             return nextLong;
         }
@@ -201,7 +191,7 @@ public final class Randomly {
 
     public String getString() {
         if (smallBiasProbability()) {
-            return Randomly.fromOptions("TRUE", "FALSE", "0.0", "-0.0", "1e500", "-1e500");
+            return fromOptions("TRUE", "FALSE", "0.0", "-0.0", "1e500", "-1e500");
         }
         if (cacheProbability()) {
             String s = getFromStringCache();
@@ -215,13 +205,13 @@ public final class Randomly {
         StringBuilder sb = new StringBuilder();
 
         int chars;
-        if (Randomly.getBoolean()) {
-            chars = Randomly.smallNumber();
+        if (getBoolean()) {
+            chars = smallNumber();
         } else {
             chars = getInteger(0, 30);
         }
         for (int i = 0; i < chars; i++) {
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (getBooleanWithRatherLowProbability()) {
                 char val = (char) getInteger();
                 if (val != 0) {
                     sb.append(val);
@@ -230,20 +220,20 @@ public final class Randomly {
                 sb.append(ALPHABET.charAt(getNextInt(0, n)));
             }
         }
-        while (Randomly.getBooleanWithSmallProbability()) {
+        while (getBooleanWithSmallProbability()) {
             String[][] pairs = { { "{", "}" }, { "[", "]" }, { "(", ")" } };
-            int idx = (int) Randomly.getNotCachedInteger(0, pairs.length);
-            int left = (int) Randomly.getNotCachedInteger(0, sb.length() + 1);
+            int idx = (int) getNotCachedInteger(0, pairs.length);
+            int left = (int) getNotCachedInteger(0, sb.length() + 1);
             sb.insert(left, pairs[idx][0]);
-            int right = (int) Randomly.getNotCachedInteger(left + 1, sb.length() + 1);
+            int right = (int) getNotCachedInteger(left + 1, sb.length() + 1);
             sb.insert(right, pairs[idx][1]);
         }
         if (provider != null) {
-            while (Randomly.getBooleanWithSmallProbability()) {
+            while (getBooleanWithSmallProbability()) {
                 if (sb.length() == 0) {
-                    sb.append(provider.get());
+                    sb.append(provider.apply(this));
                 } else {
-                    sb.insert((int) Randomly.getNotCachedInteger(0, sb.length()), provider.get());
+                    sb.insert((int) getNotCachedInteger(0, sb.length()), provider.apply(this));
                 }
             }
         }
@@ -255,16 +245,16 @@ public final class Randomly {
     }
 
     public byte[] getBytes() {
-        int size = Randomly.smallNumber();
+        int size = smallNumber();
         byte[] arr = new byte[size];
-        getThreadRandom().get().nextBytes(arr);
+        source.nextBytes(arr);
         return arr;
     }
 
     public long getNonZeroInteger() {
         long value;
         if (smallBiasProbability()) {
-            return Randomly.fromOptions(-1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L);
+            return fromOptions(-1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L);
         }
         if (cacheProbability()) {
             Long l = getFromLongCache();
@@ -289,7 +279,7 @@ public final class Randomly {
         }
         long value;
         if (smallBiasProbability()) {
-            value = Randomly.fromOptions(0L, Long.MAX_VALUE, 1L);
+            value = fromOptions(0L, Long.MAX_VALUE, 1L);
         } else {
             value = getNextLong(0, Long.MAX_VALUE);
         }
@@ -309,7 +299,7 @@ public final class Randomly {
 
     public double getDouble() {
         if (smallBiasProbability()) {
-            return Randomly.fromOptions(0.0, -0.0, Double.MAX_VALUE, -Double.MAX_VALUE, Double.POSITIVE_INFINITY,
+            return fromOptions(0.0, -0.0, Double.MAX_VALUE, -Double.MAX_VALUE, Double.POSITIVE_INFINITY,
                     Double.NEGATIVE_INFINITY);
         } else if (cacheProbability()) {
             Double d = getFromDoubleCache();
@@ -317,20 +307,20 @@ public final class Randomly {
                 return d;
             }
         }
-        double value = getThreadRandom().get().nextDouble();
+        double value = source.nextDouble();
         addToCache(value);
         return value;
     }
 
-    private static boolean smallBiasProbability() {
-        return getThreadRandom().get().nextInt(100) == 1;
+    private boolean smallBiasProbability() {
+        return source.nextInt(100) == 1;
     }
 
-    public static boolean getBooleanWithRatherLowProbability() {
-        return getThreadRandom().get().nextInt(10) == 1;
+    public boolean getBooleanWithRatherLowProbability() {
+        return source.nextInt(10) == 1;
     }
 
-    public static boolean getBooleanWithSmallProbability() {
+    public boolean getBooleanWithSmallProbability() {
         return smallBiasProbability();
     }
 
@@ -350,7 +340,7 @@ public final class Randomly {
     }
 
     public BigDecimal getRandomBigDecimal() {
-        return new BigDecimal(getThreadRandom().get().nextDouble());
+        return new BigDecimal(source.nextDouble());
     }
 
     public long getPositiveIntegerNotNull() {
@@ -362,36 +352,58 @@ public final class Randomly {
         }
     }
 
-    public static long getNonCachedInteger() {
-        return getThreadRandom().get().nextLong();
+    public long getNonCachedInteger() {
+        return source.nextLong();
     }
 
-    public static long getPositiveNonCachedInteger() {
+    public long getPositiveNonCachedInteger() {
         return getNextLong(1, Long.MAX_VALUE);
     }
 
-    public static long getPositiveOrZeroNonCachedInteger() {
+    public long getPositiveOrZeroNonCachedInteger() {
         return getNextLong(0, Long.MAX_VALUE);
     }
 
-    public static long getNotCachedInteger(int lower, int upper) {
+    public long getNotCachedInteger(int lower, int upper) {
         return getNextLong(lower, upper);
     }
 
-    public Randomly(Supplier<String> provider) {
+    public Randomly() {
+        this(System.nanoTime());
+    }
+
+    public Randomly(long seed) {
+        this.source = new RandomSource(seed);
+    }
+
+    public Randomly(Function<Randomly, String> provider, long seed) {
+        this(seed);
         this.provider = provider;
     }
 
-    public Randomly() {
-        getThreadRandom().set(new Random());
+    /**
+     * Creates an instance that draws from the same generator as the given one, but that also generates the strings of
+     * the given provider.
+     */
+    public Randomly(Function<Randomly, String> provider, Randomly r) {
+        this.source = r.source;
+        this.provider = provider;
     }
 
-    public Randomly(long seed) {
-        getThreadRandom().set(new Random(seed));
+    /**
+     * Resets the generator of this instance with the given seed and clears the caches of generated values, so that the
+     * values generated afterwards only depend on the seed.
+     */
+    public void reseed(long seed) {
+        source.setSeed(seed);
+        cachedLongs.clear();
+        cachedStrings.clear();
+        cachedDoubles.clear();
+        cachedBytes.clear();
     }
 
-    public static double getUncachedDouble() {
-        return getThreadRandom().get().nextDouble();
+    public double getUncachedDouble() {
+        return source.nextDouble();
     }
 
     public String getChar() {
@@ -403,20 +415,19 @@ public final class Randomly {
         }
     }
 
-    // see https://stackoverflow.com/a/2546158
     // uniformity does not seem to be important for us
     // SQLancer previously used ThreadLocalRandom.current().nextLong(lower, upper)
-    private static long getNextLong(long lower, long upper) {
+    private long getNextLong(long lower, long upper) {
         if (lower > upper) {
             throw new IllegalArgumentException(lower + " " + upper);
         }
         if (lower == upper) {
             return lower;
         }
-        return (long) (getThreadRandom().get().longs(lower, upper).findFirst().getAsLong());
+        return source.nextLong(lower, upper);
     }
 
-    private static int getNextInt(int lower, int upper) {
+    private int getNextInt(int lower, int upper) {
         return (int) getNextLong(lower, upper);
     }
 
@@ -0,0 +1,28 @@
+package sqlancer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+
+@Parameters(separators = "=", commandDescription = "Executes the statements of binary statement logs (see --binary-log) on a new database as fast as possible")
+public class ReplayOptions {
+
+    public static final String COMMAND_NAME = "replay";
+
+    @Parameter(names = "--dbms", description = "The DBMS on which the statements are executed (e.g., sqlite3)", required = true)
+    private String dbms; // NOPMD
+
+    @Parameter(description = "The binary statement logs to replay", required = true)
+    private List<String> logFiles = new ArrayList<>(); // NOPMD
+
+    public String getDBMS() {
+        return dbms;
+    }
+
+    public List<String> getLogFiles() {
+        return logFiles;
+    }
+
+}
@@ -0,0 +1,83 @@
+package sqlancer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * An order-insensitive fingerprint of the multiset of rows of one or more result sets, which consists of the number of
+ * rows and two sums of row hashes. Since addition is commutative, the fingerprint does not depend on the order of the
+ * rows, but, in contrast to a set, it depends on how often each row occurs. All columns of a row contribute to its
+ * hash.
+ */
+public final class ResultSetFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long NULL_MARKER = 0x9E3779B97F4A7C15L;
+
+    private long nrRows;
+    private long firstHashSum;
+    private long secondHashSum;
+
+    /**
+     * Creates a fingerprint from a digest that the DBMS computed (see {@link GlobalState#getResultDigestQuery}). It can
+     * only be compared to fingerprints that were computed by the same digest query.
+     */
+    static ResultSetFingerprint fromDigest(long nrRows, long firstHashSum, long secondHashSum) {
+        ResultSetFingerprint fingerprint = new ResultSetFingerprint();
+        fingerprint.nrRows = nrRows;
+        fingerprint.firstHashSum = firstHashSum;
+        fingerprint.secondHashSum = secondHashSum;
+        return fingerprint;
+    }
+
+    public void addRow(ResultSet rs, int nrColumns) throws SQLException {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 1; i <= nrColumns; i++) {
+            String value = rs.getString(i);
+            if (value == null) {
+                hash = (hash ^ NULL_MARKER) * FNV_PRIME;
+            } else {
+                for (int j = 0; j < value.length(); j++) {
+                    hash = (hash ^ value.charAt(j)) * FNV_PRIME;
+                }
+            }
+            // separate the columns, so that ('a', 'bc') and ('ab', 'c') differ
+            hash = (hash ^ 0xFFFF) * FNV_PRIME;
+        }
+        nrRows++;
+        firstHashSum += mix(hash);
+        secondHashSum += mix(hash + NULL_MARKER);
+    }
+
+    public void add(ResultSetFingerprint other) {
+        nrRows += other.nrRows;
+        firstHashSum += other.firstHashSum;
+        secondHashSum += other.secondHashSum;
+    }
+
+    public long getNrRows() {
+        return nrRows;
+    }
+
+    private static long mix(long z) {
+        long x = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ResultSetFingerprint)) {
+            return false;
+        }
+        ResultSetFingerprint other = (ResultSetFingerprint) obj;
+        return nrRows == other.nrRows && firstHashSum == other.firstHashSum && secondHashSum == other.secondHashSum;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(firstHashSum);
+    }
+
+}
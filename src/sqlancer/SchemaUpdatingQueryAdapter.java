@@ -0,0 +1,60 @@
+package sqlancer;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+import sqlancer.schema.AbstractSchema;
+
+/**
+ * A schema-changing statement whose effect on the schema is already known when it is generated. After a successful
+ * execution, this effect can be applied to the in-memory schema instead of re-reading the whole schema from the DBMS.
+ *
+ * @param <S>
+ *            the schema type that the statement modifies
+ */
+public class SchemaUpdatingQueryAdapter<S extends AbstractSchema<?>> extends QueryAdapter {
+
+    private final SchemaUpdate<S> schemaUpdate;
+    private boolean executedSuccessfully;
+
+    @FunctionalInterface
+    public interface SchemaUpdate<S> {
+
+        /**
+         * Computes the schema after the statement has been executed.
+         *
+         * @param schema
+         *            the schema before the statement was executed
+         *
+         * @return the updated schema, or null if the effect of the statement cannot be determined
+         */
+        S apply(S schema);
+    }
+
+    public SchemaUpdatingQueryAdapter(String query, Collection<String> expectedErrors, SchemaUpdate<S> schemaUpdate) {
+        super(query, expectedErrors, true);
+        this.schemaUpdate = schemaUpdate;
+    }
+
+    @Override
+    public boolean execute(GlobalState<?> globalState) throws SQLException {
+        executedSuccessfully = super.execute(globalState);
+        return executedSuccessfully;
+    }
+
+    /**
+     * Applies the statement's effect to the given schema.
+     *
+     * @param schema
+     *            the schema before the statement was executed
+     *
+     * @return the updated schema, or null if the statement failed or its effect is unknown
+     */
+    public S applyTo(S schema) {
+        if (!executedSuccessfully) {
+            return null;
+        }
+        return schemaUpdate.apply(schema);
+    }
+
+}
@@ -0,0 +1,129 @@
+package sqlancer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts a potentially large number of rows, each of which is encoded as a single-line string. Rows are buffered in
+ * memory and written to sorted temporary files once the buffer is full; the rows are then returned by merging the
+ * files.
+ */
+final class SortedRun implements Closeable {
+
+    private static final int MAX_BUFFERED_ROWS = 100000;
+
+    private final List<String> buffer = new ArrayList<>();
+    private final List<Path> files = new ArrayList<>();
+    private final List<BufferedReader> readers = new ArrayList<>();
+
+    void add(String row) throws IOException {
+        buffer.add(row);
+        if (buffer.size() >= MAX_BUFFERED_ROWS) {
+            spill();
+        }
+    }
+
+    private void spill() throws IOException {
+        Collections.sort(buffer);
+        Path file = Files.createTempFile("sqlancer-run", ".txt");
+        files.add(file);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (String row : buffer) {
+                writer.write(row);
+                writer.newLine();
+            }
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Returns the rows in ascending order. The rows can only be iterated once.
+     */
+    Iterator<String> iterator() throws IOException {
+        if (files.isEmpty()) {
+            Collections.sort(buffer);
+            return buffer.iterator();
+        }
+        if (!buffer.isEmpty()) {
+            spill();
+        }
+        PriorityQueue<RunHead> heads = new PriorityQueue<>();
+        for (Path file : files) {
+            BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            readers.add(reader);
+            RunHead head = new RunHead(reader);
+            if (head.row != null) {
+                heads.add(head);
+            }
+        }
+        return new Iterator<String>() {
+
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public String next() {
+                RunHead head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                String row = head.row;
+                try {
+                    head.advance();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (head.row != null) {
+                    heads.add(head);
+                }
+                return row;
+            }
+        };
+    }
+
+    private static final class RunHead implements Comparable<RunHead> {
+
+        private final BufferedReader reader;
+        private String row;
+
+        RunHead(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            advance();
+        }
+
+        void advance() throws IOException {
+            row = reader.readLine();
+        }
+
+        @Override
+        public int compareTo(RunHead o) {
+            return row.compareTo(o.row);
+        }
+
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (BufferedReader reader : readers) {
+            reader.close();
+        }
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
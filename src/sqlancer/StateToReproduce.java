@@ -64,6 +64,18 @@ public class StateToReproduce {
         return seedValue;
     }
 
+    /**
+     * Adds the statements and the last query of a worker's state (see --oracle-workers) to this state, so that a bug
+     * found by the worker is logged after the statements that generated the database.
+     */
+    public void merge(StateToReproduce workerState) {
+        statements.addAll(workerState.statements);
+        queryString = workerState.queryString;
+        values = workerState.values;
+        queryTargetedTablesString = workerState.queryTargetedTablesString;
+        queryTargetedColumnsString = workerState.queryTargetedColumnsString;
+    }
+
     public static class MySQLStateToReproduce extends StateToReproduce {
 
         public Map<MySQLColumn, MySQLConstant> randomRowValues;
@@ -3,6 +3,7 @@ package sqlancer;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class StatementExecutor<G extends GlobalState<?>, A extends AbstractAction<G>> {
 
@@ -10,6 +11,26 @@ public class StatementExecutor<G extends GlobalState<?>, A extends AbstractActio
     private final A[] actions;
     private final ActionMapper<G, A> mapping;
     private final AfterQueryAction queryConsumer;
+    // consecutive INSERT statements that are executed as a single multi-row INSERT statement
+    private final List<PendingInsert> pendingInserts = new ArrayList<>();
+
+    /**
+     * An INSERT statement whose execution is deferred until the pending INSERT statements are executed. The outcome of
+     * its action is recorded once it has been executed.
+     */
+    private final class PendingInsert {
+
+        private final A action;
+        private final InsertQueryAdapter insert;
+        private final long start;
+
+        PendingInsert(A action, InsertQueryAdapter insert, long start) {
+            this.action = action;
+            this.insert = insert;
+            this.start = start;
+        }
+
+    }
 
     @FunctionalInterface
     public interface AfterQueryAction {
@@ -59,11 +80,18 @@ public class StatementExecutor<G extends GlobalState<?>, A extends AbstractActio
             assert nrRemaining[i] > 0;
             nrRemaining[i]--;
             Query query = null;
+            long start = Metrics.startAction();
+            Boolean success = null;
+            boolean isPending = false;
             try {
-                boolean success;
                 int nrTries = 0;
                 do {
                     query = nextAction.getQuery(globalState);
+                    if (addToInsertBatch(nextAction, query, start)) {
+                        // the outcome is recorded and the retries are performed when the batch is executed
+                        isPending = true;
+                        break;
+                    }
                     if (globalState.getOptions().logEachSelect()) {
                         globalState.getLogger().writeCurrent(query.getQueryString());
                     }
@@ -71,11 +99,118 @@ public class StatementExecutor<G extends GlobalState<?>, A extends AbstractActio
                 } while (!success && nrTries++ < globalState.getOptions().getNrStatementRetryCount());
             } catch (IgnoreMeException e) {
 
+            }
+            if (!isPending) {
+                recordAction(nextAction, start, success);
             }
             if (query != null && query.couldAffectSchema()) {
                 queryConsumer.notify(query);
             }
             total--;
         }
+        flushInserts();
+    }
+
+    /**
+     * Adds the query to the pending INSERT statements if it can be merged with them, and executes the pending INSERT
+     * statements before any other query.
+     *
+     * @return whether the query was added to the pending INSERT statements
+     */
+    private boolean addToInsertBatch(A action, Query query, long start) throws SQLException {
+        int batchSize = globalState.getOptions().getInsertBatchSize();
+        if (batchSize <= 1 || !(query instanceof InsertQueryAdapter)) {
+            flushInserts();
+            return false;
+        }
+        InsertQueryAdapter insert = (InsertQueryAdapter) query;
+        if (!pendingInserts.isEmpty() && !pendingInserts.get(0).insert.canBeMergedWith(insert)) {
+            flushInserts();
+        }
+        pendingInserts.add(new PendingInsert(action, insert, start));
+        if (pendingInserts.size() >= batchSize) {
+            flushInserts();
+        }
+        return true;
     }
+
+    private void flushInserts() throws SQLException {
+        if (!pendingInserts.isEmpty()) {
+            executeInserts(new ArrayList<>(pendingInserts));
+            pendingInserts.clear();
+        }
+    }
+
+    /**
+     * Executes the INSERT statements as a single multi-row INSERT statement. If that statement fails with an expected
+     * error, the batch is split into halves that are executed separately, so that the statements that are logged for
+     * reproduction are exactly those that inserted rows (or failed individually).
+     */
+    private void executeInserts(List<PendingInsert> inserts) throws SQLException {
+        if (inserts.size() == 1) {
+            executeInsert(inserts.get(0));
+            return;
+        }
+        InsertQueryAdapter merged = InsertQueryAdapter
+                .merge(inserts.stream().map(i -> i.insert).collect(Collectors.toList()));
+        List<Query> statements = globalState.getState().statements;
+        // the manager appends the statement to the logged statements
+        int index = statements.size();
+        boolean success;
+        try {
+            success = globalState.getManager().execute(merged);
+        } catch (AssertionError e) {
+            writeInsert(merged);
+            throw e;
+        }
+        if (success) {
+            writeInsert(merged);
+            for (PendingInsert insert : inserts) {
+                recordAction(insert.action, insert.start, true);
+            }
+        } else {
+            // the failed statement did not insert any rows, so it is replaced by the halves in the logged statements
+            statements.remove(index);
+            int half = inserts.size() / 2;
+            executeInserts(inserts.subList(0, half));
+            executeInserts(inserts.subList(half, inserts.size()));
+        }
+    }
+
+    /**
+     * Executes a single INSERT statement, and, like {@link #executeStatements}, retries its action with a newly
+     * generated statement if it fails.
+     */
+    private void executeInsert(PendingInsert pending) throws SQLException {
+        Query query = pending.insert;
+        boolean success = false;
+        try {
+            int nrTries = 0;
+            do {
+                if (nrTries != 0) {
+                    query = pending.action.getQuery(globalState);
+                }
+                if (globalState.getOptions().logEachSelect()) {
+                    globalState.getLogger().writeCurrent(query.getQueryString());
+                }
+                success = globalState.getManager().execute(query);
+            } while (!success && nrTries++ < globalState.getOptions().getNrStatementRetryCount());
+        } catch (IgnoreMeException e) {
+
+        }
+        recordAction(pending.action, pending.start, success);
+    }
+
+    private void recordAction(A action, long start, Boolean success) {
+        if (action instanceof Enum) {
+            Metrics.recordAction((Enum<?>) action, start, success);
+        }
+    }
+
+    private void writeInsert(InsertQueryAdapter insert) {
+        if (globalState.getOptions().logEachSelect()) {
+            globalState.getLogger().writeCurrent(insert.getQueryString());
+        }
+    }
+
 }
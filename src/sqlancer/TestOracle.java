@@ -10,4 +10,11 @@ public interface TestOracle {
         return false;
     }
 
+    /**
+     * Executes the checks that the oracle has deferred (e.g., to batch their queries, see --check-batch-size). Called
+     * after the last check on a database.
+     */
+    default void finishChecks() throws SQLException {
+    }
+
 }
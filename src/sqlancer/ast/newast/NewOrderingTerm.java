@@ -10,8 +10,8 @@ public class NewOrderingTerm<T> implements Node<T> {
     public enum Ordering {
         ASC, DESC;
 
-        public static Ordering getRandom() {
-            return Randomly.fromOptions(values());
+        public static Ordering getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
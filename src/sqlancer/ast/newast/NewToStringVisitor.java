@@ -1,14 +1,34 @@
 package sqlancer.ast.newast;
 
 import java.util.List;
+import java.util.function.Consumer;
+
+import sqlancer.visitor.RenderBuffers;
+import sqlancer.visitor.RenderCache;
 
 public abstract class NewToStringVisitor<E> {
 
-    protected final StringBuilder sb = new StringBuilder();
+    protected final StringBuilder sb = RenderBuffers.acquire();
+    private boolean released;
+    private RenderCache<Node<E>> renderCache;
+    private Consumer<Node<E>> dispatcher;
+
+    public void setRenderCache(RenderCache<Node<E>> renderCache) {
+        this.renderCache = renderCache;
+        dispatcher = this::dispatch;
+    }
 
-    @SuppressWarnings("unchecked")
     public void visit(Node<E> expr) {
         assert expr != null;
+        if (renderCache == null) {
+            dispatch(expr);
+        } else {
+            renderCache.render(expr, sb, dispatcher);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(Node<E> expr) {
         if (expr instanceof ColumnReferenceNode<?, ?>) {
             sb.append(((ColumnReferenceNode<?, ?>) expr).getColumn().getFullQualifiedName());
         } else if (expr instanceof NewUnaryPostfixOperatorNode<?>) {
@@ -165,6 +185,17 @@ public abstract class NewToStringVisitor<E> {
         return sb.toString();
     }
 
+    /**
+     * Returns the rendering buffer to the pool of the current thread (see {@link RenderBuffers}). The visitor must not
+     * be used afterwards.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            RenderBuffers.release(sb);
+        }
+    }
+
     public abstract void visitSpecific(Node<E> expr);
 
 }
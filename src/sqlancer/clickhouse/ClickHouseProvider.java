@@ -1,6 +1,5 @@
 package sqlancer.clickhouse;
 
-import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -10,10 +9,13 @@ import java.util.stream.Collectors;
 
 import sqlancer.AbstractAction;
 import sqlancer.CompositeTestOracle;
+import sqlancer.ConnectionPool;
 import sqlancer.GlobalState;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.QueryManager;
 import sqlancer.Main.StateLogger;
+import sqlancer.Metrics;
 import sqlancer.ProviderAdapter;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
@@ -22,6 +24,8 @@ import sqlancer.Randomly;
 import sqlancer.StatementExecutor;
 import sqlancer.TestOracle;
 import sqlancer.clickhouse.ClickHouseProvider.ClickHouseGlobalState;
+import sqlancer.clickhouse.ClickHouseSchema.ClickHouseTable;
+import sqlancer.clickhouse.gen.ClickHouseBulkLoader;
 import sqlancer.clickhouse.gen.ClickHouseInsertGenerator;
 import sqlancer.clickhouse.gen.ClickHouseTableGenerator;
 
@@ -95,7 +99,7 @@ public class ClickHouseProvider extends ProviderAdapter<ClickHouseGlobalState, C
         QueryManager manager = globalState.getManager();
         globalState
                 .setSchema(ClickHouseSchema.fromConnection(globalState.getConnection(), globalState.getDatabaseName()));
-        for (int i = 0; i < Randomly.fromOptions(1); i++) {
+        for (int i = 0; i < globalState.getRandomly().fromOptions(1); i++) {
             boolean success = false;
             do {
                 Query qt = new ClickHouseTableGenerator().getQuery(globalState);
@@ -103,16 +107,17 @@ public class ClickHouseProvider extends ProviderAdapter<ClickHouseGlobalState, C
                 logger.writeCurrent(globalState.getState());
                 globalState.setSchema(
                         ClickHouseSchema.fromConnection(globalState.getConnection(), globalState.getDatabaseName()));
-                try {
-                    logger.getCurrentFileWriter().close();
-                } catch (IOException e) {
-                    // TODO Auto-generated catch block
-                    e.printStackTrace();
-                }
-                logger.currentFileWriter = null;
+                logger.closeCurrentFile();
             } while (!success);
         }
 
+        if (globalState.getOptions().getNrBulkLoadRows() != 0) {
+            for (ClickHouseTable table : globalState.getSchema().getDatabaseTables()) {
+                new ClickHouseBulkLoader(globalState).load(table.getName(), table.getColumns(),
+                        globalState.getOptions().getNrBulkLoadRows());
+            }
+        }
+
         StatementExecutor<ClickHouseGlobalState, Action> se = new StatementExecutor<>(globalState, Action.values(),
                 ClickHouseProvider::mapActions, (q) -> {
                     if (q.couldAffectSchema()) {
@@ -120,7 +125,7 @@ public class ClickHouseProvider extends ProviderAdapter<ClickHouseGlobalState, C
                                 globalState.getDatabaseName()));
                     }
                     if (globalState.getSchema().getDatabaseTables().isEmpty()) {
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                     }
                 });
         se.executeStatements();
@@ -137,22 +142,14 @@ public class ClickHouseProvider extends ProviderAdapter<ClickHouseGlobalState, C
 
         for (int i = 0; i < globalState.getOptions().getNrQueries(); i++) {
             try {
-                oracle.check();
+                Metrics.check(oracle);
             } catch (IgnoreMeException e) {
                 continue;
             }
             manager.incrementSelectQueryCount();
         }
 
-        try {
-            if (globalState.getOptions().logEachSelect()) {
-                logger.getCurrentFileWriter().close();
-                logger.currentFileWriter = null;
-            }
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        logger.closeCurrentFile();
     }
 
     @Override
@@ -161,8 +158,7 @@ public class ClickHouseProvider extends ProviderAdapter<ClickHouseGlobalState, C
         globalState.setClickHouseOptions(clickHouseOptions);
         String url = "jdbc:clickhouse://localhost:8123/test";
         String databaseName = globalState.getDatabaseName();
-        Connection con = DriverManager.getConnection(url, globalState.getOptions().getUserName(),
-                globalState.getOptions().getPassword());
+        Connection con = ConnectionPool.getAdminConnection(url, globalState.getOptions());
         String dropDatabaseCommand = "DROP DATABASE IF EXISTS " + databaseName;
         globalState.getState().statements.add(new QueryAdapter(dropDatabaseCommand));
         String createDatabaseCommand = "CREATE DATABASE IF NOT EXISTS " + databaseName;
@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 import ru.yandex.clickhouse.domain.ClickHouseDataType;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.StateToReproduce;
 import sqlancer.clickhouse.ClickHouseSchema.ClickHouseTable;
@@ -41,9 +42,9 @@ public class ClickHouseSchema extends AbstractSchema<ClickHouseTable> {
             this.textRepr = textRepr;
         }
 
-        public static ClickHouseLancerDataType getRandom() {
+        public static ClickHouseLancerDataType getRandom(Randomly r) {
             return new ClickHouseLancerDataType(
-                    Randomly.fromOptions(ClickHouseDataType.Int32, ClickHouseDataType.String));
+                    r.fromOptions(ClickHouseDataType.Int32, ClickHouseDataType.String));
         }
 
         public ClickHouseDataType getType() {
@@ -223,7 +224,7 @@ public class ClickHouseSchema extends AbstractSchema<ClickHouseTable> {
                 try {
                     randomRowValues = s.executeQuery(randomRow);
                 } catch (SQLException e) {
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.EXPECTED_ERROR);
                 }
                 if (!randomRowValues.next()) {
                     throw new AssertionError("could not find random row! " + randomRow + "\n" + state);
@@ -250,8 +251,8 @@ public class ClickHouseSchema extends AbstractSchema<ClickHouseTable> {
         super(databaseTables);
     }
 
-    public ClickHouseTables getRandomTableNonEmptyTables() {
-        return new ClickHouseTables(Randomly.nonEmptySubset(getDatabaseTables()));
+    public ClickHouseTables getRandomTableNonEmptyTables(Randomly r) {
+        return new ClickHouseTables(r.nonEmptySubset(getDatabaseTables()));
     }
 
     private static ClickHouseLancerDataType getColumnType(String typeString) {
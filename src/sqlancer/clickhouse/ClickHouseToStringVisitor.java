@@ -25,7 +25,7 @@ public class ClickHouseToStringVisitor extends ToStringVisitor<ClickHouseExpress
         sb.append("(");
         visit(op.getLeft());
         sb.append(") ");
-        sb.append(op.getOperator().getTextRepresentation());
+        sb.append(op.getOperatorRepresentation());
         sb.append(" (");
         visit(op.getRight());
         sb.append(")");
@@ -132,7 +132,11 @@ public class ClickHouseToStringVisitor extends ToStringVisitor<ClickHouseExpress
 
     public static String asString(ClickHouseExpression expr) {
         ClickHouseToStringVisitor visitor = new ClickHouseToStringVisitor();
-        visitor.visit(expr);
-        return visitor.get();
+        try {
+            visitor.visit(expr);
+            return visitor.get();
+        } finally {
+            visitor.release();
+        }
     }
 }
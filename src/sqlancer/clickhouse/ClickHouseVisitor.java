@@ -82,12 +82,16 @@ public interface ClickHouseVisitor {
             throw new AssertionError();
         }
         ClickHouseToStringVisitor visitor = new ClickHouseToStringVisitor();
-        if (expr instanceof ClickHouseSelect) {
-            visitor.visit((ClickHouseSelect) expr, false);
-        } else {
-            visitor.visit(expr);
+        try {
+            if (expr instanceof ClickHouseSelect) {
+                visitor.visit((ClickHouseSelect) expr, false);
+            } else {
+                visitor.visit(expr);
+            }
+            return visitor.get();
+        } finally {
+            visitor.release();
         }
-        return visitor.get();
     }
 
 }
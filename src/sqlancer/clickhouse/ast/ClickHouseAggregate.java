@@ -33,12 +33,12 @@ public class ClickHouseAggregate extends ClickHouseExpression {
             this.supportedReturnTypes = supportedReturnTypes.clone();
         }
 
-        public static ClickHouseAggregateFunction getRandom() {
-            return Randomly.fromOptions(values());
+        public static ClickHouseAggregateFunction getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
-        public static ClickHouseAggregateFunction getRandom(ClickHouseDataType type) {
-            return Randomly.fromOptions(values());
+        public static ClickHouseAggregateFunction getRandom(ClickHouseDataType type, Randomly r) {
+            return r.fromOptions(values());
         }
 
         public List<ClickHouseDataType> getTypes(ClickHouseDataType returnType) {
@@ -55,11 +55,11 @@ public class ClickHouseAggregate extends ClickHouseExpression {
                     .collect(Collectors.toList());
         }
 
-        public ClickHouseSchema.ClickHouseLancerDataType getRandomReturnType() {
+        public ClickHouseSchema.ClickHouseLancerDataType getRandomReturnType(Randomly r) {
             if (supportedReturnTypes.length == 0) {
-                return ClickHouseSchema.ClickHouseLancerDataType.getRandom();
+                return ClickHouseSchema.ClickHouseLancerDataType.getRandom(r);
             } else {
-                return new ClickHouseSchema.ClickHouseLancerDataType(Randomly.fromOptions(supportedReturnTypes));
+                return new ClickHouseSchema.ClickHouseLancerDataType(r.fromOptions(supportedReturnTypes));
             }
         }
 
@@ -11,12 +11,14 @@ public class ClickHouseBinaryComparisonOperation extends ClickHouseExpression
     private final ClickHouseBinaryComparisonOperator operation;
     private final ClickHouseExpression left;
     private final ClickHouseExpression right;
+    private final String textRepresentation;
 
     public ClickHouseBinaryComparisonOperation(ClickHouseExpression left, ClickHouseExpression right,
-            ClickHouseBinaryComparisonOperator operation) {
+            ClickHouseBinaryComparisonOperator operation, Randomly r) {
         this.left = left;
         this.right = right;
         this.operation = operation;
+        this.textRepresentation = operation.getTextRepresentation(r);
     }
 
     public ClickHouseBinaryComparisonOperator getOperator() {
@@ -35,7 +37,7 @@ public class ClickHouseBinaryComparisonOperation extends ClickHouseExpression
 
     @Override
     public String getOperatorRepresentation() {
-        return operation.getTextRepresentation();
+        return textRepresentation;
     }
 
     @Override
@@ -50,8 +52,8 @@ public class ClickHouseBinaryComparisonOperation extends ClickHouseExpression
     }
 
     public static ClickHouseBinaryComparisonOperation create(ClickHouseExpression leftVal,
-            ClickHouseExpression rightVal, ClickHouseBinaryComparisonOperator op) {
-        return new ClickHouseBinaryComparisonOperation(leftVal, rightVal, op);
+            ClickHouseExpression rightVal, ClickHouseBinaryComparisonOperator op, Randomly r) {
+        return new ClickHouseBinaryComparisonOperation(leftVal, rightVal, op, r);
     }
 
     public enum ClickHouseBinaryComparisonOperator {
@@ -188,16 +190,16 @@ public class ClickHouseBinaryComparisonOperation extends ClickHouseExpression
             this.textRepresentation = textRepresentation.clone();
         }
 
-        public static ClickHouseBinaryComparisonOperator getRandomOperator() {
-            return Randomly.fromOptions(values());
+        public static ClickHouseBinaryComparisonOperator getRandomOperator(Randomly r) {
+            return r.fromOptions(values());
         }
 
-        public static ClickHouseBinaryComparisonOperator getRandomRowValueOperator() {
-            return Randomly.fromOptions(SMALLER, SMALLER_EQUALS, GREATER, GREATER_EQUALS, EQUALS, NOT_EQUALS);
+        public static ClickHouseBinaryComparisonOperator getRandomRowValueOperator(Randomly r) {
+            return r.fromOptions(SMALLER, SMALLER_EQUALS, GREATER, GREATER_EQUALS, EQUALS, NOT_EQUALS);
         }
 
-        public String getTextRepresentation() {
-            return Randomly.fromOptions(textRepresentation);
+        public String getTextRepresentation(Randomly r) {
+            return r.fromOptions(textRepresentation);
         }
     }
 }
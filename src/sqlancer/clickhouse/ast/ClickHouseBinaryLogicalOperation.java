@@ -54,23 +54,23 @@ public class ClickHouseBinaryLogicalOperation extends ClickHouseExpression {
             this.textRepresentations = textRepresentations.clone();
         }
 
-        String getTextRepresentation() {
-            return Randomly.fromOptions(textRepresentations);
+        String getTextRepresentation(Randomly r) {
+            return r.fromOptions(textRepresentations);
         }
 
         public abstract ClickHouseConstant apply(ClickHouseConstant left, ClickHouseConstant right);
 
-        public static ClickHouseBinaryLogicalOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static ClickHouseBinaryLogicalOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
     public ClickHouseBinaryLogicalOperation(ClickHouseExpression left, ClickHouseExpression right,
-            ClickHouseBinaryLogicalOperator op) {
+            ClickHouseBinaryLogicalOperator op, Randomly r) {
         this.left = left;
         this.right = right;
         this.op = op;
-        this.textRepresentation = op.getTextRepresentation();
+        this.textRepresentation = op.getTextRepresentation(r);
     }
 
     public ClickHouseExpression getLeft() {
@@ -2,6 +2,7 @@ package sqlancer.clickhouse.ast;
 
 import ru.yandex.clickhouse.domain.ClickHouseDataType;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 
 import java.math.BigInteger;
 
@@ -94,7 +95,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asInt() < right.asInt() ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
@@ -202,7 +203,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asInt() < right.asInt() ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
@@ -310,7 +311,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asInt() < right.asInt() ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
@@ -418,7 +419,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asInt() < right.asInt() ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
@@ -526,7 +527,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asInt() < right.asInt() ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
@@ -634,7 +635,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asInt() < right.asInt() ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
@@ -742,7 +743,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asInt() < right.asInt() ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
@@ -851,7 +852,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asInt() < right.asInt() ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
@@ -1190,7 +1191,7 @@ public abstract class ClickHouseConstant extends ClickHouseExpression {
                 return this.asString().compareTo(right.asString()) <= 0 ? ClickHouseConstant.createTrue()
                         : ClickHouseConstant.createFalse();
             }
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
 
         @Override
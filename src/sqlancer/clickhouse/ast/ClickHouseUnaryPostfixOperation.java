@@ -20,8 +20,8 @@ public class ClickHouseUnaryPostfixOperation extends ClickHouseExpression
             this.s = s;
         }
 
-        public static ClickHouseUnaryPostfixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static ClickHouseUnaryPostfixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
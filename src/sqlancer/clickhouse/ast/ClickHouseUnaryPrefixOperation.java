@@ -43,8 +43,8 @@ public class ClickHouseUnaryPrefixOperation extends ClickHouseExpression
             this.s = s;
         }
 
-        public static ClickHouseUnaryPrefixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static ClickHouseUnaryPrefixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -0,0 +1,36 @@
+package sqlancer.clickhouse.gen;
+
+import sqlancer.clickhouse.ClickHouseProvider.ClickHouseGlobalState;
+import sqlancer.clickhouse.ClickHouseSchema.ClickHouseColumn;
+import sqlancer.gen.AbstractBulkLoader;
+
+/**
+ * Loads rows using batched prepared statements, which the ClickHouse JDBC driver sends as a single INSERT statement
+ * with the rows in TabSeparated format.
+ */
+public class ClickHouseBulkLoader extends AbstractBulkLoader<ClickHouseColumn> {
+
+    public ClickHouseBulkLoader(ClickHouseGlobalState globalState) {
+        super(globalState);
+        errors.add("Cannot parse");
+        errors.add("Cannot insert NULL");
+    }
+
+    @Override
+    protected boolean canBeNull(ClickHouseColumn column) {
+        return column.getType().toString().startsWith("Nullable");
+    }
+
+    @Override
+    protected Object getValue(ClickHouseColumn column, long number) {
+        switch (column.getType().getType()) {
+        case Int32:
+            return (int) number;
+        case Float64:
+            return number / 4.0;
+        default:
+            return String.valueOf(number);
+        }
+    }
+
+}
@@ -1,7 +1,6 @@
 package sqlancer.clickhouse.gen;
 
 import ru.yandex.clickhouse.domain.ClickHouseDataType;
-import sqlancer.Randomly;
 import sqlancer.clickhouse.ClickHouseProvider.ClickHouseGlobalState;
 import sqlancer.clickhouse.ClickHouseSchema;
 import sqlancer.clickhouse.ClickHouseSchema.ClickHouseColumn;
@@ -28,6 +27,7 @@ public class ClickHouseExpressionGenerator
     public boolean allowAggregateFunctions;
 
     public ClickHouseExpressionGenerator(ClickHouseGlobalState globalState) {
+        super(globalState.getRandomly());
         this.globalState = globalState;
     }
 
@@ -37,28 +37,28 @@ public class ClickHouseExpressionGenerator
 
     @Override
     protected ClickHouseExpression generateExpression(ClickHouseLancerDataType type, int depth) {
-        if (allowAggregateFunctions && Randomly.getBoolean()) {
+        if (allowAggregateFunctions && globalState.getRandomly().getBoolean()) {
             return generateAggregate();
         }
-        if (depth >= globalState.getOptions().getMaxExpressionDepth() || Randomly.getBoolean()) {
+        if (depth >= globalState.getOptions().getMaxExpressionDepth() || globalState.getRandomly().getBoolean()) {
             return generateLeafNode(type);
         }
-        Expression expr = Randomly.fromOptions(Expression.values());
+        Expression expr = globalState.getRandomly().fromOptions(Expression.values());
         switch (expr) {
         case UNARY_PREFIX:
             return new ClickHouseUnaryPrefixOperation(generateExpression(type, depth + 1),
-                    ClickHouseUnaryPrefixOperation.ClickHouseUnaryPrefixOperator.getRandom());
+                    ClickHouseUnaryPrefixOperation.ClickHouseUnaryPrefixOperator.getRandom(r));
         case UNARY_POSTFIX:
             return new ClickHouseUnaryPostfixOperation(generateExpression(type, depth + 1),
-                    ClickHouseUnaryPostfixOperation.ClickHouseUnaryPostfixOperator.getRandom(), false);
+                    ClickHouseUnaryPostfixOperation.ClickHouseUnaryPostfixOperator.getRandom(r), false);
         case BINARY_COMPARISON:
             return new ClickHouseBinaryComparisonOperation(generateExpression(type, depth + 1),
                     generateExpression(type, depth + 1),
-                    ClickHouseBinaryComparisonOperation.ClickHouseBinaryComparisonOperator.getRandomOperator());
+                    ClickHouseBinaryComparisonOperation.ClickHouseBinaryComparisonOperator.getRandomOperator(r), r);
         case BINARY_LOGICAL:
             return new ClickHouseBinaryLogicalOperation(generateExpression(type, depth + 1),
                     generateExpression(type, depth + 1),
-                    ClickHouseBinaryLogicalOperation.ClickHouseBinaryLogicalOperator.getRandom());
+                    ClickHouseBinaryLogicalOperation.ClickHouseBinaryLogicalOperator.getRandom(r), r);
         default:
             throw new AssertionError(expr);
         }
@@ -68,14 +68,14 @@ public class ClickHouseExpressionGenerator
     protected ClickHouseExpression generateColumn(ClickHouseLancerDataType type) {
         List<ClickHouseColumn> filteredColumns = columns.stream()
                 .filter(c -> c.getType().getType().name().equals(type.getType().name())).collect(Collectors.toList());
-        ClickHouseColumn column = filteredColumns.isEmpty() ? Randomly.fromList(columns)
-                : Randomly.fromList(filteredColumns);
+        ClickHouseColumn column = filteredColumns.isEmpty() ? globalState.getRandomly().fromList(columns)
+                : globalState.getRandomly().fromList(filteredColumns);
         return new ClickHouseColumnReference(column, null);
     }
 
     @Override
     protected ClickHouseLancerDataType getRandomType() {
-        return ClickHouseLancerDataType.getRandom();
+        return ClickHouseLancerDataType.getRandom(r);
     }
 
     public List<ClickHouseExpression.ClickHouseJoin> getRandomJoinClauses(
@@ -84,14 +84,14 @@ public class ClickHouseExpressionGenerator
         if (!globalState.getDmbsSpecificOptions().testJoins) {
             return joinStatements;
         }
-        if (Randomly.getBoolean() && tables.size() > 1) {
-            int nrJoinClauses = (int) Randomly.getNotCachedInteger(0, tables.size());
+        if (globalState.getRandomly().getBoolean() && tables.size() > 1) {
+            int nrJoinClauses = (int) globalState.getRandomly().getNotCachedInteger(0, tables.size());
             for (int i = 0; i < nrJoinClauses; i++) {
-                ClickHouseExpression joinClause = generateExpression(ClickHouseLancerDataType.getRandom());
-                ClickHouseSchema.ClickHouseTable table = Randomly.fromList(tables);
+                ClickHouseExpression joinClause = generateExpression(ClickHouseLancerDataType.getRandom(r));
+                ClickHouseSchema.ClickHouseTable table = globalState.getRandomly().fromList(tables);
                 tables.remove(table);
                 ClickHouseExpression.ClickHouseJoin.JoinType options;
-                options = Randomly.fromOptions(ClickHouseExpression.ClickHouseJoin.JoinType.values());
+                options = globalState.getRandomly().fromOptions(ClickHouseExpression.ClickHouseJoin.JoinType.values());
                 if (options == ClickHouseExpression.ClickHouseJoin.JoinType.NATURAL) {
                     // NATURAL joins do not have an ON clause
                     joinClause = null;
@@ -156,13 +156,13 @@ public class ClickHouseExpressionGenerator
     }
 
     public ClickHouseExpression generateAggregate() {
-        return getAggregate(ClickHouseLancerDataType.getRandom().getType());
+        return getAggregate(ClickHouseLancerDataType.getRandom(r).getType());
     }
 
     private ClickHouseExpression getAggregate(ClickHouseDataType dataType) {
         List<ClickHouseAggregate.ClickHouseAggregateFunction> aggregates = ClickHouseAggregate.ClickHouseAggregateFunction
                 .getAggregates(dataType);
-        ClickHouseAggregate.ClickHouseAggregateFunction agg = Randomly.fromList(aggregates);
+        ClickHouseAggregate.ClickHouseAggregateFunction agg = globalState.getRandomly().fromList(aggregates);
         return generateArgsForAggregate(dataType, agg);
     }
 }
@@ -35,15 +35,15 @@ public class ClickHouseInsertGenerator extends AbstractInsertGenerator<ClickHous
     }
 
     private Query get() {
-        ClickHouseTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
-        List<ClickHouseColumn> columns = table.getRandomNonEmptyColumnSubset();
+        ClickHouseTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        List<ClickHouseColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         sb.append("INSERT INTO ");
         sb.append(table.getName());
         sb.append("(");
         sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
         sb.append(")");
         sb.append(" VALUES ");
-        insertColumns(columns);
+        insertColumns(columns, globalState.getRandomly());
         return new QueryAdapter(sb.toString(), errors);
     }
 
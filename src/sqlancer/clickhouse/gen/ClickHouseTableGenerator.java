@@ -19,24 +19,24 @@ public class ClickHouseTableGenerator {
     Set<String> errors = new HashSet<>();
 
     public Query getQuery(ClickHouseGlobalState globalState) {
-        ClickHouseEngine engine = Randomly.fromOptions(ClickHouseEngine.values());
-        sb.append(globalState.getSchema().getFreeTableName());
+        ClickHouseEngine engine = globalState.getRandomly().fromOptions(ClickHouseEngine.values());
+        sb.append(globalState.getSchema().getFreeTableName(globalState.getRandomly()));
         sb.append("(");
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
             if (i != 0) {
                 sb.append(", ");
             }
             sb.append("c");
             sb.append(i);
             sb.append(" ");
-            if (Randomly.getBoolean()) {
-                sb.append(ClickHouseLancerDataType.getRandom());
+            if (globalState.getRandomly().getBoolean()) {
+                sb.append(ClickHouseLancerDataType.getRandom(globalState.getRandomly()));
             } else {
                 // sb.append("Nullable(");
-                sb.append(ClickHouseLancerDataType.getRandom());
+                sb.append(ClickHouseLancerDataType.getRandom(globalState.getRandomly()));
                 // sb.append(")");
             }
-            potentiallyAppendCodec();
+            potentiallyAppendCodec(globalState.getRandomly());
         }
         sb.append(") ENGINE = ");
         sb.append(engine);
@@ -49,11 +49,11 @@ public class ClickHouseTableGenerator {
         return new QueryAdapter(sb.toString(), errors);
     }
 
-    private void potentiallyAppendCodec() {
-        if (Randomly.getBoolean()) {
+    private void potentiallyAppendCodec(Randomly r) {
+        if (r.getBoolean()) {
             sb.append(" CODEC(");
             errors.add(" in memory is not of fixed size");
-            sb.append(Randomly.fromOptions("NONE", "ZSTD", "LZ4HC"));
+            sb.append(r.fromOptions("NONE", "ZSTD", "LZ4HC"));
             sb.append(")");
         }
     }
@@ -1,7 +1,7 @@
 package sqlancer.clickhouse.oracle.tlp;
 
 import ru.yandex.clickhouse.domain.ClickHouseDataType;
-import sqlancer.Randomly;
+import sqlancer.ExpectedErrors;
 import sqlancer.TestOracle;
 import sqlancer.clickhouse.ClickHouseErrors;
 import sqlancer.clickhouse.ClickHouseProvider.ClickHouseGlobalState;
@@ -21,15 +21,13 @@ import sqlancer.clickhouse.ClickHouseSchema.ClickHouseTables;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 public class ClickHouseTLPBase implements TestOracle {
 
     final ClickHouseGlobalState state;
-    final Set<String> errors = new HashSet<>();
+    final ExpectedErrors errors = new ExpectedErrors();
 
     ClickHouseSchema s;
     ClickHouseTables targetTables;
@@ -48,7 +46,7 @@ public class ClickHouseTLPBase implements TestOracle {
     @Override
     public void check() throws SQLException {
         s = state.getSchema();
-        targetTables = s.getRandomTableNonEmptyTables();
+        targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new ClickHouseExpressionGenerator(state).setColumns(targetTables.getColumns());
         select = new ClickHouseSelect();
         select.setFetchColumns(generateFetchColumns());
@@ -65,7 +63,7 @@ public class ClickHouseTLPBase implements TestOracle {
 
     List<ClickHouseExpression> generateFetchColumns() {
         List<ClickHouseExpression> columns = new ArrayList<>();
-        columns = Randomly.nonEmptySubset(targetTables.getColumns()).stream()
+        columns = state.getRandomly().nonEmptySubset(targetTables.getColumns()).stream()
                 .map(c -> new ClickHouseColumnReference(c, null)).collect(Collectors.toList());
         return columns;
     }
@@ -1,7 +1,7 @@
 package sqlancer.clickhouse.oracle.tlp;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.clickhouse.ClickHouseProvider;
 import sqlancer.clickhouse.ClickHouseVisitor;
 import sqlancer.clickhouse.ast.ClickHouseColumnReference;
@@ -25,7 +25,7 @@ public class ClickHouseTLPGroupByOracle extends ClickHouseTLPBase {
         select.setWhereClause(null);
         String originalQueryString = ClickHouseVisitor.asString(select);
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         select.setWhereClause(predicate);
         String firstQueryString = ClickHouseVisitor.asString(select);
@@ -34,16 +34,16 @@ public class ClickHouseTLPGroupByOracle extends ClickHouseTLPBase {
         select.setWhereClause(isNullPredicate);
         String thirdQueryString = ClickHouseVisitor.asString(select);
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
                 secondQueryString, thirdQueryString, combinedString, false, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     @Override
     List<ClickHouseExpression> generateFetchColumns() {
         List<ClickHouseExpression> columns;
-        columns = Randomly.nonEmptySubset(targetTables.getColumns()).stream()
+        columns = state.getRandomly().nonEmptySubset(targetTables.getColumns()).stream()
                 .map(c -> new ClickHouseColumnReference(c, null)).collect(Collectors.toList());
         return columns;
     }
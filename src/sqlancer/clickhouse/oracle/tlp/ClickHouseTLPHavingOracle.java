@@ -1,7 +1,7 @@
 package sqlancer.clickhouse.oracle.tlp;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.clickhouse.ClickHouseErrors;
 import sqlancer.clickhouse.ClickHouseProvider;
 import sqlancer.clickhouse.ClickHouseSchema;
@@ -15,7 +15,7 @@ import sqlancer.clickhouse.gen.ClickHouseCommon;
 import sqlancer.clickhouse.gen.ClickHouseExpressionGenerator;
 
 import java.sql.SQLException;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,15 +29,16 @@ public class ClickHouseTLPHavingOracle extends ClickHouseTLPBase {
     @Override
     public void check() throws SQLException {
         ClickHouseSchema s = state.getSchema();
-        ClickHouseSchema.ClickHouseTables targetTables = s.getRandomTableNonEmptyTables();
-        List<ClickHouseExpression> groupByColumns = Randomly.nonEmptySubset(targetTables.getColumns()).stream()
+        ClickHouseSchema.ClickHouseTables targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
+        List<ClickHouseExpression> groupByColumns = state.getRandomly().nonEmptySubset(targetTables.getColumns())
+                .stream()
                 .map(c -> new ClickHouseColumnReference(c, null)).collect(Collectors.toList());
         List<ClickHouseSchema.ClickHouseColumn> columns = targetTables.getColumns();
         ClickHouseExpressionGenerator gen = new ClickHouseExpressionGenerator(state).setColumns(columns);
         ClickHouseExpressionGenerator aggrGen = new ClickHouseExpressionGenerator(state).allowAggregates(true)
                 .setColumns(columns);
         ClickHouseSelect select = new ClickHouseSelect();
-        select.setFetchColumns(aggrGen.generateExpressions(Randomly.smallNumber() + 1));
+        select.setFetchColumns(aggrGen.generateExpressions(state.getRandomly().smallNumber() + 1));
         List<ClickHouseSchema.ClickHouseTable> tables = targetTables.getTables();
         List<ClickHouseExpression.ClickHouseJoin> joinStatements = gen.getRandomJoinClauses(tables);
         List<ClickHouseExpression> from = ClickHouseCommon.getTableRefs(tables, state.getSchema());
@@ -49,7 +50,7 @@ public class ClickHouseTLPHavingOracle extends ClickHouseTLPBase {
         select.setHavingClause(null);
         String originalQueryString = ClickHouseVisitor.asString(select);
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         ClickHouseExpression predicate = aggrGen.getHavingClause();
         select.setHavingClause(predicate);
@@ -60,20 +61,11 @@ public class ClickHouseTLPHavingOracle extends ClickHouseTLPBase {
         select.setHavingClause(new ClickHouseUnaryPostfixOperation(predicate,
                 ClickHouseUnaryPostfixOperation.ClickHouseUnaryPostfixOperator.IS_NULL, false));
         String thirdQueryString = ClickHouseVisitor.asString(select);
-        String combinedString = firstQueryString + " UNION ALL " + secondQueryString + " UNION ALL " + thirdQueryString;
-        List<String> secondResultSet = ComparatorHelper.getResultSetFirstColumnAsString(combinedString, errors, state);
-        if (state.getOptions().logEachSelect()) {
-            state.getLogger().writeCurrent(originalQueryString);
-            state.getLogger().writeCurrent(combinedString);
-        }
-        if (new HashSet<>(resultSet).size() != new HashSet<>(secondResultSet).size()) {
-            HashSet<String> diffLeft = new HashSet<>(resultSet);
-            HashSet<String> tmpLeft = new HashSet<>(resultSet);
-            HashSet<String> diffRight = new HashSet<>(secondResultSet);
-            diffLeft.removeAll(diffRight);
-            diffRight.removeAll(tmpLeft);
-            throw new AssertionError(originalQueryString + ";\n" + combinedString + ";\n" + "Left: "
-                    + diffLeft.toString() + "\nRight: " + diffRight.toString());
-        }
+        // each group is in exactly one of the partitions, so the result sets are compared as multisets
+        List<String> combinedString = new ArrayList<>();
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, true, state, errors);
+        ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
+                state, errors);
     }
 }
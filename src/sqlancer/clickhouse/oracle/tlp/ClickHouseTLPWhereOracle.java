@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.clickhouse.ClickHouseProvider;
 import sqlancer.clickhouse.ClickHouseVisitor;
 
@@ -18,13 +18,13 @@ public class ClickHouseTLPWhereOracle extends ClickHouseTLPBase {
     @Override
     public void check() throws SQLException {
         super.check();
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (state.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
         String originalQueryString = ClickHouseVisitor.asString(select);
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
-        boolean orderBy = Randomly.getBooleanWithRatherLowProbability();
+        boolean orderBy = state.getRandomly().getBooleanWithRatherLowProbability();
         if (orderBy) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
@@ -35,9 +35,9 @@ public class ClickHouseTLPWhereOracle extends ClickHouseTLPBase {
         select.setWhereClause(isNullPredicate);
         String thirdQueryString = ClickHouseVisitor.asString(select);
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !orderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !orderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 }
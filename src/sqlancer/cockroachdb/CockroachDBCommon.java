@@ -14,16 +14,17 @@ public final class CockroachDBCommon {
     private CockroachDBCommon() {
     }
 
-    public static String getRandomCollate() {
-        return Randomly.fromOptions("en", "de", "es", "cmn");
+    public static String getRandomCollate(Randomly r) {
+        return r.fromOptions("en", "de", "es", "cmn");
     }
 
-    public static List<CockroachDBExpression> getTableReferences(List<CockroachDBTableReference> tableList) {
+    public static List<CockroachDBExpression> getTableReferences(List<CockroachDBTableReference> tableList,
+            Randomly r) {
         List<CockroachDBExpression> from = new ArrayList<>();
         for (CockroachDBTableReference t : tableList) {
             CockroachDBTable table = t.getTable();
-            if (!table.getIndexes().isEmpty() && Randomly.getBooleanWithSmallProbability()) {
-                from.add(new CockroachDBIndexReference(t, table.getRandomIndex()));
+            if (!table.getIndexes().isEmpty() && r.getBooleanWithSmallProbability()) {
+                from.add(new CockroachDBIndexReference(t, table.getRandomIndex(r), r));
             } else {
                 from.add(t);
             }
@@ -1,8 +1,8 @@
 package sqlancer.cockroachdb;
 
-import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -12,11 +12,15 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import sqlancer.ConnectionPool;
 import sqlancer.GlobalState;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.QueryManager;
 import sqlancer.Main.StateLogger;
 import sqlancer.MainOptions;
+import sqlancer.Metrics;
+import sqlancer.ParallelOracleExecutor;
 import sqlancer.ProviderAdapter;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
@@ -39,6 +43,7 @@ import sqlancer.cockroachdb.gen.CockroachDBTableGenerator;
 import sqlancer.cockroachdb.gen.CockroachDBTruncateGenerator;
 import sqlancer.cockroachdb.gen.CockroachDBUpdateGenerator;
 import sqlancer.cockroachdb.gen.CockroachDBViewGenerator;
+import sqlancer.schema.IncrementalSchemaUpdater;
 
 public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState, CockroachDBOptions> {
 
@@ -59,7 +64,7 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
         COMMENT_ON(CockroachDBCommentOnGenerator::comment), //
         SHOW(CockroachDBShowGenerator::show), //
         TRANSACTION((g) -> {
-            String s = Randomly.fromOptions("BEGIN", "ROLLBACK", "COMMIT");
+            String s = g.getRandomly().fromOptions("BEGIN", "ROLLBACK", "COMMIT");
             return new QueryAdapter(s,
                     Arrays.asList("there is no transaction in progress", "there is already a transaction in progress",
                             "current transaction is aborted", "does not exist" /* interleaved indexes */));
@@ -67,9 +72,9 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
         EXPLAIN((g) -> {
             StringBuilder sb = new StringBuilder("EXPLAIN ");
             Set<String> errors = new HashSet<>();
-            if (Randomly.getBoolean()) {
+            if (g.getRandomly().getBoolean()) {
                 sb.append("(");
-                sb.append(Randomly.nonEmptySubset("VERBOSE", "TYPES", "OPT", "DISTSQL", "VEC").stream()
+                sb.append(g.getRandomly().nonEmptySubset("VERBOSE", "TYPES", "OPT", "DISTSQL", "VEC").stream()
                         .collect(Collectors.joining(", ")));
                 sb.append(") ");
                 errors.add("cannot set EXPLAIN mode more than once");
@@ -77,12 +82,12 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
                 errors.add("unsupported type");
                 errors.add("vectorize is set to 'off'");
             }
-            sb.append(CockroachDBRandomQuerySynthesizer.generate(g, Randomly.smallNumber() + 1));
+            sb.append(CockroachDBRandomQuerySynthesizer.generate(g, g.getRandomly().smallNumber() + 1));
             CockroachDBErrors.addExpressionErrors(errors);
             return new QueryAdapter(sb.toString(), errors);
         }), //
         SCRUB((g) -> new QueryAdapter(
-                "EXPERIMENTAL SCRUB table " + g.getSchema().getRandomTable(t -> !t.isView()).getName(),
+                "EXPERIMENTAL SCRUB table " + g.getSchema().getRandomTable(t -> !t.isView(), g.getRandomly()).getName(),
                 // https://github.com/cockroachdb/cockroach/issues/46401
                 Arrays.asList("scrub-fk: column \"t.rowid\" does not exist",
                         "check-constraint: cannot access temporary tables of other sessions" /*
@@ -92,11 +97,11 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
                                                                                               */))), //
         SPLIT((g) -> {
             StringBuilder sb = new StringBuilder("ALTER INDEX ");
-            CockroachDBTable randomTable = g.getSchema().getRandomTable();
+            CockroachDBTable randomTable = g.getSchema().getRandomTable(g.getRandomly());
             sb.append(randomTable.getName());
             sb.append("@");
-            sb.append(randomTable.getRandomIndex());
-            if (Randomly.getBoolean()) {
+            sb.append(randomTable.getRandomIndex(g.getRandomly()));
+            if (g.getRandomly().getBoolean()) {
                 sb.append(" SPLIT AT VALUES (true), (false);");
             } else {
                 sb.append(" SPLIT AT VALUES (NULL);");
@@ -131,14 +136,17 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
 
     @Override
     public void generateAndTestDatabase(CockroachDBGlobalState globalState) throws SQLException {
-        Randomly r = new Randomly();
+        Randomly r = globalState.getRandomly();
         Connection con = globalState.getConnection();
         String databaseName = globalState.getDatabaseName();
         QueryManager manager = globalState.getManager();
         StateLogger logger = globalState.getLogger();
         StateToReproduce state = globalState.getState();
         MainOptions options = globalState.getOptions();
-        globalState.setSchema(CockroachDBSchema.fromConnection(con, databaseName));
+        IncrementalSchemaUpdater<CockroachDBSchema> schemaUpdater = new IncrementalSchemaUpdater<>(
+                () -> CockroachDBSchema.fromConnection(con, databaseName), options.useIncrementalSchema(),
+                options.verifyIncrementalSchema());
+        globalState.setSchema(schemaUpdater.loadSchema());
 
         List<String> standardSettings = new ArrayList<>();
         standardSettings.add("--Don't send automatic bug reports\n"
@@ -162,25 +170,19 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
             manager.execute(new QueryAdapter(s));
         }
 
-        for (int i = 0; i < Randomly.fromOptions(2, 3); i++) {
+        for (int i = 0; i < r.fromOptions(2, 3); i++) {
             boolean success = false;
             do {
                 try {
                     Query q = CockroachDBTableGenerator.generate(globalState);
                     success = manager.execute(q);
                     logger.writeCurrent(state);
-                    try {
-                        logger.getCurrentFileWriter().close();
-                    } catch (IOException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    }
-                    logger.currentFileWriter = null;
+                    logger.closeCurrentFile();
                 } catch (IgnoreMeException e) {
                     // continue trying
                 }
             } while (!success);
-            globalState.setSchema(CockroachDBSchema.fromConnection(con, databaseName));
+            globalState.setSchema(schemaUpdater.loadSchema());
         }
         logger.writeCurrent(state);
 
@@ -253,8 +255,9 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
             assert nrRemaining[nextAction.ordinal()] > 0;
             nrRemaining[nextAction.ordinal()]--;
             Query query = null;
+            long start = Metrics.startAction();
+            Boolean success = null;
             try {
-                boolean success;
                 int nrTries = 0;
                 do {
                     query = nextAction.getQuery(globalState);
@@ -266,50 +269,76 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
             } catch (IgnoreMeException e) {
 
             }
+            Metrics.recordAction(nextAction, start, success);
             if (query != null && query.couldAffectSchema()) {
-                globalState.setSchema(CockroachDBSchema.fromConnection(con, databaseName));
+                globalState.setSchema(schemaUpdater.getUpdatedSchema(query, globalState.getSchema()));
                 if (globalState.getSchema().getDatabaseTables().isEmpty()) {
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                 }
             }
             total--;
         }
         manager.incrementCreateDatabase();
-        if (globalState.getDmbsSpecificOptions().makeVectorizationMoreLikely && Randomly.getBoolean()) {
+        if (globalState.getDmbsSpecificOptions().makeVectorizationMoreLikely && r.getBoolean()) {
             manager.execute(new QueryAdapter("SET vectorize=on;"));
         }
         TestOracle oracle = globalState.getDmbsSpecificOptions().oracle.create(globalState);
-        for (int i = 0; i < options.getNrQueries(); i++) {
-            try {
-                oracle.check();
-                manager.incrementSelectQueryCount();
-            } catch (IgnoreMeException e) {
+        boolean useWorkers = options.getNrOracleWorkers() != 0 && !hasTemporaryTables(con);
+        ParallelOracleExecutor.executeChecks(globalState, oracle, useWorkers ? CockroachDBProvider::createWorker : null,
+                g -> g.getDmbsSpecificOptions().oracle.create(g));
+        logger.closeCurrentFile();
 
+    }
+
+    private static boolean hasTemporaryTables(Connection con) throws SQLException {
+        try (Statement s = con.createStatement()) {
+            try (ResultSet rs = s.executeQuery(
+                    "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema LIKE 'pg_temp%'")) {
+                rs.next();
+                return rs.getInt(1) != 0;
             }
         }
-        try {
-            if (options.logEachSelect()) {
-                logger.getCurrentFileWriter().close();
-                logger.currentFileWriter = null;
-            }
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+    }
 
+    /**
+     * Creates an oracle worker on another session to the database (see --oracle-workers). Since temporary tables are
+     * only visible in the session that created them, databases with temporary tables are checked without workers.
+     */
+    private static CockroachDBGlobalState createWorker(CockroachDBGlobalState globalState, long seed)
+            throws SQLException {
+        Connection con = ParallelOracleExecutor.openSession(globalState, CockroachDBProvider::isSessionStatement);
+        CockroachDBGlobalState worker = new CockroachDBGlobalState();
+        globalState.initializeWorker(worker, con, new Randomly(seed),
+                new StateToReproduce(globalState.getDatabaseName()));
+        worker.setSchema(globalState.getSchema());
+        return worker;
+    }
+
+    // cluster settings apply to all sessions, so they are not replayed
+    private static boolean isSessionStatement(String s) {
+        String statement = s.trim().toUpperCase();
+        return statement.startsWith("SET ") && !statement.startsWith("SET CLUSTER SETTING")
+                || statement.startsWith("USE ");
     }
 
     @Override
     public Connection createDatabase(CockroachDBGlobalState globalState) throws SQLException {
         String databaseName = globalState.getDatabaseName();
-        String url = "jdbc:postgresql://localhost:26257/test";
-        Connection con = DriverManager.getConnection(url, globalState.getOptions().getUserName(),
-                globalState.getOptions().getPassword());
+        MainOptions options = globalState.getOptions();
+        String databaseUrl = "jdbc:postgresql://localhost:26257/" + databaseName;
         globalState.getState().statements.add(new QueryAdapter("USE test"));
         globalState.getState().statements.add(new QueryAdapter("DROP DATABASE IF EXISTS " + databaseName + " CASCADE"));
         String createDatabaseCommand = "CREATE DATABASE " + databaseName;
         globalState.getState().statements.add(new QueryAdapter(createDatabaseCommand));
         globalState.getState().statements.add(new QueryAdapter("USE " + databaseName));
+        if (options.recycleDatabases() && ConnectionPool.hasConnection(databaseUrl)) {
+            // the cleaned-up database has none of the objects of the previous run, but is not identical to a new one
+            // (see recycleDatabase()); the log records the CREATE DATABASE that reproduces the run
+            Connection con = ConnectionPool.getConnection(databaseUrl, options);
+            recycleDatabase(con);
+            return con;
+        }
+        Connection con = ConnectionPool.getAdminConnection("jdbc:postgresql://localhost:26257/test", options);
         try (Statement s = con.createStatement()) {
             s.execute("DROP DATABASE IF EXISTS " + databaseName);
         }
@@ -317,9 +346,48 @@ public class CockroachDBProvider extends ProviderAdapter<CockroachDBGlobalState,
             s.execute(createDatabaseCommand);
         }
         con.close();
-        con = DriverManager.getConnection("jdbc:postgresql://localhost:26257/" + databaseName,
-                globalState.getOptions().getUserName(), globalState.getOptions().getPassword());
-        return con;
+        if (options.recycleDatabases()) {
+            return ConnectionPool.getConnection(databaseUrl, options);
+        }
+        return DriverManager.getConnection(databaseUrl, options.getUserName(), options.getPassword());
+    }
+
+    /**
+     * Resets the session and drops every kind of object of the previous test run that information_schema.tables lists
+     * (tables, temporary tables, views, materialized views, and sequences); indexes, statistics, and comments are
+     * dropped together with their tables. The database is not identical to a newly created one: for example, its
+     * descriptor IDs carry over, and cluster settings (SET CLUSTER SETTING) are not reset in either case.
+     */
+    private static void recycleDatabase(Connection con) throws SQLException {
+        try (Statement s = con.createStatement()) {
+            try {
+                s.execute("ROLLBACK");
+            } catch (SQLException e) {
+                // there is no transaction in progress
+            }
+            s.execute("DISCARD ALL");
+            List<String> dropStatements = new ArrayList<>();
+            try (ResultSet rs = s.executeQuery(
+                    "SELECT table_name, table_type FROM information_schema.tables WHERE table_type IN ('BASE TABLE', 'LOCAL TEMPORARY', 'VIEW', 'MATERIALIZED VIEW', 'SEQUENCE');")) {
+                while (rs.next()) {
+                    String kind;
+                    switch (rs.getString(2)) {
+                    case "VIEW":
+                    case "MATERIALIZED VIEW":
+                    case "SEQUENCE":
+                        kind = rs.getString(2);
+                        break;
+                    default:
+                        kind = "TABLE";
+                        break;
+                    }
+                    dropStatements.add(String.format("DROP %s IF EXISTS %s CASCADE", kind, rs.getString(1)));
+                }
+            }
+            for (String dropStatement : dropStatements) {
+                s.execute(dropStatement);
+            }
+        }
     }
 
     @Override
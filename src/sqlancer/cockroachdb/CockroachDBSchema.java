@@ -6,6 +6,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBTable;
@@ -22,12 +23,12 @@ public class CockroachDBSchema extends AbstractSchema<CockroachDBTable> {
         INT, BOOL, STRING, FLOAT, BYTES, BIT, VARBIT, SERIAL, INTERVAL, TIMESTAMP, TIMESTAMPTZ, DECIMAL, JSONB, TIME,
         TIMETZ, ARRAY;
 
-        public static CockroachDBDataType getRandom() {
-            return Randomly.fromOptions(values());
+        public static CockroachDBDataType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
-        public CockroachDBCompositeDataType get() {
-            return CockroachDBCompositeDataType.getRandomForType(this);
+        public CockroachDBCompositeDataType get(Randomly r) {
+            return CockroachDBCompositeDataType.getRandomForType(this, r);
         }
 
     }
@@ -40,6 +41,9 @@ public class CockroachDBSchema extends AbstractSchema<CockroachDBTable> {
 
         private CockroachDBCompositeDataType elementType;
 
+        // one of the equivalent names of the type (e.g., INT64 for INT8), or null for the first one
+        private String name;
+
         public CockroachDBCompositeDataType(CockroachDBDataType dataType) {
             this.dataType = dataType;
             this.size = -1;
@@ -50,6 +54,12 @@ public class CockroachDBSchema extends AbstractSchema<CockroachDBTable> {
             this.size = size;
         }
 
+        public CockroachDBCompositeDataType(CockroachDBDataType dataType, int size, Randomly r) {
+            this.dataType = dataType;
+            this.size = size;
+            this.name = r.fromOptions(getNames());
+        }
+
         public CockroachDBCompositeDataType(CockroachDBDataType dataType, CockroachDBCompositeDataType elementType) {
             if (dataType != CockroachDBDataType.ARRAY) {
                 throw new IllegalArgumentException();
@@ -78,77 +88,95 @@ public class CockroachDBSchema extends AbstractSchema<CockroachDBTable> {
             return new CockroachDBCompositeDataType(CockroachDBDataType.INT, size);
         }
 
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CockroachDBCompositeDataType)) {
+                return false;
+            }
+            CockroachDBCompositeDataType other = (CockroachDBCompositeDataType) obj;
+            return dataType == other.dataType && size == other.size && Objects.equals(elementType, other.elementType);
+        }
+
+        @Override
+        public int hashCode() {
+            return dataType.hashCode() + 31 * size + 961 * Objects.hashCode(elementType);
+        }
+
         public static CockroachDBCompositeDataType getBit(int size) {
             return new CockroachDBCompositeDataType(CockroachDBDataType.BIT, size);
         }
 
         @Override
         public String toString() {
+            return name == null ? getNames()[0] : name;
+        }
+
+        private String[] getNames() {
             switch (dataType) {
             case INT:
                 switch (size) {
                 case 2:
-                    return Randomly.fromOptions("INT2", "SMALLINT");
+                    return new String[] { "INT2", "SMALLINT" };
                 case 4:
-                    return "INT4";
+                    return new String[] { "INT4" };
                 case 8:
                     // "INTEGER": can be affected by a session variable
-                    return Randomly.fromOptions("INT8", "INT64", "BIGINT");
+                    return new String[] { "INT8", "INT64", "BIGINT" };
                 default:
-                    return "INT";
+                    return new String[] { "INT" };
                 }
             case SERIAL:
                 switch (size) {
                 case 2:
-                    return Randomly.fromOptions("SERIAL2", "SMALLSERIAL");
+                    return new String[] { "SERIAL2", "SMALLSERIAL" };
                 case 4:
-                    return "SERIAL4";
+                    return new String[] { "SERIAL4" };
                 case 8:
-                    return Randomly.fromOptions("SERIAL8", "BIGSERIAL");
+                    return new String[] { "SERIAL8", "BIGSERIAL" };
                 default:
                     throw new AssertionError();
                 }
             case BIT:
-                if (size == 1 && Randomly.getBoolean()) {
-                    return "BIT";
+                if (size == 1) {
+                    return new String[] { "BIT(1)", "BIT" };
                 } else {
-                    return String.format("BIT(%d)", size);
+                    return new String[] { String.format("BIT(%d)", size) };
                 }
             case VARBIT:
                 if (size == -1) {
-                    return String.format("VARBIT");
+                    return new String[] { "VARBIT" };
                 } else {
-                    return String.format("VARBIT(%d)", size);
+                    return new String[] { String.format("VARBIT(%d)", size) };
                 }
             case ARRAY:
-                return String.format("%s[]", elementType.toString());
+                return new String[] { String.format("%s[]", elementType.toString()) };
             default:
-                return dataType.toString();
+                return new String[] { dataType.toString() };
             }
         }
 
-        public static CockroachDBCompositeDataType getRandom() {
-            CockroachDBDataType randomDataType = CockroachDBDataType.getRandom();
-            return getRandomForType(randomDataType);
+        public static CockroachDBCompositeDataType getRandom(Randomly r) {
+            CockroachDBDataType randomDataType = CockroachDBDataType.getRandom(r);
+            return getRandomForType(randomDataType, r);
         }
 
-        private static CockroachDBCompositeDataType getRandomForType(CockroachDBDataType randomDataType) {
+        private static CockroachDBCompositeDataType getRandomForType(CockroachDBDataType randomDataType, Randomly r) {
             if (randomDataType == CockroachDBDataType.INT || randomDataType == CockroachDBDataType.SERIAL) {
-                return new CockroachDBCompositeDataType(randomDataType, Randomly.fromOptions(2, 4, 8));
+                return new CockroachDBCompositeDataType(randomDataType, r.fromOptions(2, 4, 8), r);
             } else if (randomDataType == CockroachDBDataType.BIT) {
-                return new CockroachDBCompositeDataType(randomDataType, (int) Randomly.getNotCachedInteger(1, 200));
+                return new CockroachDBCompositeDataType(randomDataType, (int) r.getNotCachedInteger(1, 200), r);
             } else if (randomDataType == CockroachDBDataType.VARBIT) {
-                return new CockroachDBCompositeDataType(randomDataType, (int) Randomly.getNotCachedInteger(1, 200));
+                return new CockroachDBCompositeDataType(randomDataType, (int) r.getNotCachedInteger(1, 200));
             } else if (randomDataType == CockroachDBDataType.ARRAY) {
-                return new CockroachDBCompositeDataType(randomDataType, getRandomForType(getArrayElementType()));
+                return new CockroachDBCompositeDataType(randomDataType, getRandomForType(getArrayElementType(r), r));
             } else {
                 return new CockroachDBCompositeDataType(randomDataType);
             }
         }
 
-        private static CockroachDBDataType getArrayElementType() {
+        private static CockroachDBDataType getArrayElementType(Randomly r) {
             while (true) {
-                CockroachDBDataType type = CockroachDBDataType.getRandom();
+                CockroachDBDataType type = CockroachDBDataType.getRandom(r);
                 if (type != CockroachDBDataType.ARRAY && type != CockroachDBDataType.JSONB) {
                     // nested arrays are not supported:
                     // https://github.com/cockroachdb/cockroach/issues/32552
@@ -203,8 +231,8 @@ public class CockroachDBSchema extends AbstractSchema<CockroachDBTable> {
         super(databaseTables);
     }
 
-    public CockroachDBTables getRandomTableNonEmptyTables() {
-        return new CockroachDBTables(Randomly.nonEmptySubset(getDatabaseTables()));
+    public CockroachDBTables getRandomTableNonEmptyTables(Randomly r) {
+        return new CockroachDBTables(r.nonEmptySubset(getDatabaseTables()));
     }
 
     private static CockroachDBCompositeDataType getColumnType(String typeString) {
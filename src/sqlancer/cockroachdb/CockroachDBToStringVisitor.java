@@ -19,6 +19,12 @@ import sqlancer.visitor.ToStringVisitor;
 
 public class CockroachDBToStringVisitor extends ToStringVisitor<CockroachDBExpression> implements CockroachDBVisitor {
 
+    private final Randomly r;
+
+    public CockroachDBToStringVisitor(Randomly r) {
+        this.r = r;
+    }
+
     @Override
     public void visitSpecific(CockroachDBExpression expr) {
         CockroachDBVisitor.super.visit(expr);
@@ -78,7 +84,7 @@ public class CockroachDBToStringVisitor extends ToStringVisitor<CockroachDBExpre
         sb.append("SELECT ");
         if (select.isDistinct()) {
             sb.append("DISTINCT ");
-        } else if (Randomly.getBoolean()) {
+        } else if (r.getBoolean()) {
             sb.append("ALL ");
         }
         visit(select.getFetchColumns());
@@ -188,8 +194,8 @@ public class CockroachDBToStringVisitor extends ToStringVisitor<CockroachDBExpre
     }
 
     private void potentiallyAddHint() {
-        if (Randomly.getBoolean()) {
-            sb.append(Randomly.fromOptions("HASH", "MERGE", "LOOKUP"));
+        if (r.getBoolean()) {
+            sb.append(r.fromOptions("HASH", "MERGE", "LOOKUP"));
             sb.append(" ");
         }
     }
@@ -1,5 +1,6 @@
 package sqlancer.cockroachdb;
 
+import sqlancer.Randomly;
 import sqlancer.cockroachdb.ast.CockroachDBAggregate;
 import sqlancer.cockroachdb.ast.CockroachDBBetweenOperation;
 import sqlancer.cockroachdb.ast.CockroachDBCaseOperation;
@@ -12,6 +13,7 @@ import sqlancer.cockroachdb.ast.CockroachDBJoin;
 import sqlancer.cockroachdb.ast.CockroachDBMultiValuedComparison;
 import sqlancer.cockroachdb.ast.CockroachDBSelect;
 import sqlancer.cockroachdb.ast.CockroachDBTableReference;
+import sqlancer.visitor.RenderCache;
 
 public interface CockroachDBVisitor {
 
@@ -65,10 +67,20 @@ public interface CockroachDBVisitor {
         }
     }
 
-    static String asString(CockroachDBExpression expr) {
-        CockroachDBToStringVisitor v = new CockroachDBToStringVisitor();
-        v.visit(expr);
-        return v.getString();
+    static String asString(CockroachDBExpression expr, Randomly r) {
+        return asString(expr, null, r);
+    }
+
+    static String asString(CockroachDBExpression expr, RenderCache<CockroachDBExpression> renderCache,
+            Randomly r) {
+        CockroachDBToStringVisitor v = new CockroachDBToStringVisitor(r);
+        v.setRenderCache(renderCache);
+        try {
+            v.visit(expr);
+            return v.getString();
+        } finally {
+            v.release();
+        }
     }
 
 }
@@ -31,15 +31,15 @@ public class CockroachDBAggregate implements CockroachDBExpression {
         }, //
         COUNT_ROWS(CockroachDBDataType.INT) {
             @Override
-            public List<CockroachDBDataType> getTypes(CockroachDBDataType returnType) {
+            public List<CockroachDBDataType> getTypes(CockroachDBDataType returnType, Randomly r) {
                 return Collections.emptyList();
             }
         }, //
         COUNT(CockroachDBDataType.INT) {
 
             @Override
-            public List<CockroachDBDataType> getTypes(CockroachDBDataType returnType) {
-                return Arrays.asList(CockroachDBDataType.getRandom());
+            public List<CockroachDBDataType> getTypes(CockroachDBDataType returnType, Randomly r) {
+                return Arrays.asList(CockroachDBDataType.getRandom(r));
             }
         }, //
         SQRDIFF(CockroachDBDataType.INT, CockroachDBDataType.FLOAT, CockroachDBDataType.DECIMAL), //
@@ -51,7 +51,7 @@ public class CockroachDBAggregate implements CockroachDBExpression {
         BOOL_AND(CockroachDBDataType.BOOL), //
         BOOL_OR(CockroachDBDataType.BOOL), STRING_AGG(CockroachDBDataType.STRING, CockroachDBDataType.BYTES) {
             @Override
-            public List<CockroachDBDataType> getTypes(CockroachDBDataType returnType) {
+            public List<CockroachDBDataType> getTypes(CockroachDBDataType returnType, Randomly r) {
                 return Arrays.asList(returnType, returnType);
             }
         }, //
@@ -59,7 +59,7 @@ public class CockroachDBAggregate implements CockroachDBExpression {
 
         private CockroachDBDataType[] supportedReturnTypes;
 
-        public List<CockroachDBDataType> getTypes(CockroachDBDataType returnType) {
+        public List<CockroachDBDataType> getTypes(CockroachDBDataType returnType, Randomly r) {
             return Arrays.asList(returnType);
         }
 
@@ -78,21 +78,21 @@ public class CockroachDBAggregate implements CockroachDBExpression {
             this.supportedReturnTypes = supportedReturnTypes.clone();
         }
 
-        public static CockroachDBAggregateFunction getRandom() {
-            return Randomly.fromOptions(values());
+        public static CockroachDBAggregateFunction getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
-        public static CockroachDBAggregateFunction getRandomMetamorphicOracle() {
+        public static CockroachDBAggregateFunction getRandomMetamorphicOracle(Randomly r) {
             // not: VARIANCE, STDDEV, SQRDIFF
-            return Randomly.fromOptions(SUM, SUM_INT, MIN, MAX, XOR_AGG, BIT_AND, BIT_OR, BOOL_AND, BOOL_OR, COUNT, AVG,
+            return r.fromOptions(SUM, SUM_INT, MIN, MAX, XOR_AGG, BIT_AND, BIT_OR, BOOL_AND, BOOL_OR, COUNT, AVG,
                     COUNT_ROWS);
         }
 
-        public CockroachDBDataType getRandomReturnType() {
+        public CockroachDBDataType getRandomReturnType(Randomly r) {
             if (supportedReturnTypes.length == 0) {
-                return Randomly.fromOptions(CockroachDBDataType.getRandom());
+                return r.fromOptions(CockroachDBDataType.getRandom(r));
             } else {
-                return Randomly.fromOptions(supportedReturnTypes);
+                return r.fromOptions(supportedReturnTypes);
             }
         }
     }
@@ -23,8 +23,8 @@ public class CockroachDBBetweenOperation implements CockroachDBExpression {
             return s;
         }
 
-        public static CockroachDBBetweenOperatorType getRandom() {
-            return Randomly.fromOptions(values());
+        public static CockroachDBBetweenOperatorType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     };
 
@@ -18,8 +18,8 @@ public class CockroachDBBinaryArithmeticOperation
             this.textRepresentation = textRepresentation;
         }
 
-        public static CockroachDBBinaryArithmeticOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static CockroachDBBinaryArithmeticOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -18,8 +18,8 @@ public class CockroachDBBinaryComparisonOperator extends
             this.textRepr = textRepr;
         }
 
-        public static CockroachDBComparisonOperator getRandom() {
-            return Randomly.fromOptions(CockroachDBComparisonOperator.values());
+        public static CockroachDBComparisonOperator getRandom(Randomly r) {
+            return r.fromOptions(CockroachDBComparisonOperator.values());
         }
 
         @Override
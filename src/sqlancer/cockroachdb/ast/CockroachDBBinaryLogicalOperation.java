@@ -17,8 +17,8 @@ public class CockroachDBBinaryLogicalOperation extends
             this.textRepr = textRepr;
         }
 
-        public static CockroachDBBinaryLogicalOperator getRandom() {
-            return Randomly.fromOptions(CockroachDBBinaryLogicalOperator.values());
+        public static CockroachDBBinaryLogicalOperator getRandom(Randomly r) {
+            return r.fromOptions(CockroachDBBinaryLogicalOperator.values());
         }
 
         @Override
@@ -5,7 +5,6 @@ import java.text.SimpleDateFormat;
 import java.util.List;
 
 import sqlancer.Randomly;
-import sqlancer.cockroachdb.CockroachDBVisitor;
 
 public class CockroachDBConstant implements CockroachDBExpression {
 
@@ -144,7 +143,8 @@ public class CockroachDBConstant implements CockroachDBExpression {
                 if (i != 0) {
                     sb.append(", ");
                 }
-                sb.append(CockroachDBVisitor.asString(elements.get(i)));
+                // the elements are constants, which are rendered by their toString()
+                sb.append(elements.get(i).toString());
             }
             sb.append("]");
             return sb.toString();
@@ -221,10 +221,10 @@ public class CockroachDBConstant implements CockroachDBExpression {
         return new CockroachDBBitConstant(integer);
     }
 
-    public static CockroachDBExpression createBitConstantWithSize(int size) {
+    public static CockroachDBExpression createBitConstantWithSize(int size, Randomly r) {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < size; i++) {
-            sb.append(Randomly.getBoolean() ? 0 : 1);
+            sb.append(r.getBoolean() ? 0 : 1);
         }
         return new CockroachDBBitConstant(sb.toString());
     }
@@ -19,7 +19,7 @@ public enum CockroachDBFunction {
         }
 
         @Override
-        public CockroachDBDataType[] getArgumentTypes(CockroachDBCompositeDataType returnType) {
+        public CockroachDBDataType[] getArgumentTypes(CockroachDBCompositeDataType returnType, Randomly r) {
             return new CockroachDBDataType[] { CockroachDBDataType.BOOL, returnType.getPrimitiveDataType(),
                     returnType.getPrimitiveDataType() };
         }
@@ -31,7 +31,7 @@ public enum CockroachDBFunction {
         }
 
         @Override
-        public CockroachDBDataType[] getArgumentTypes(CockroachDBCompositeDataType returnType) {
+        public CockroachDBDataType[] getArgumentTypes(CockroachDBCompositeDataType returnType, Randomly r) {
             return new CockroachDBDataType[] { returnType.getPrimitiveDataType(), returnType.getPrimitiveDataType() };
         }
     },
@@ -112,8 +112,8 @@ public enum CockroachDBFunction {
 
     MD5(CockroachDBDataType.STRING) {
         @Override
-        public CockroachDBDataType[] getArgumentTypes(CockroachDBCompositeDataType returnType) {
-            int nrArgs = Randomly.smallNumber() + 1;
+        public CockroachDBDataType[] getArgumentTypes(CockroachDBCompositeDataType returnType, Randomly r) {
+            int nrArgs = r.smallNumber() + 1;
             CockroachDBDataType[] argTypes = new CockroachDBDataType[nrArgs];
             for (int i = 0; i < nrArgs; i++) {
                 argTypes[i] = CockroachDBDataType.STRING;
@@ -156,13 +156,13 @@ public enum CockroachDBFunction {
         return this.returnType == returnType.getPrimitiveDataType();
     }
 
-    public CockroachDBDataType[] getArgumentTypes(CockroachDBCompositeDataType returnType) {
+    public CockroachDBDataType[] getArgumentTypes(CockroachDBCompositeDataType returnType, Randomly r) {
         return argumentTypes.clone();
     }
 
     public CockroachDBFunctionCall getCall(CockroachDBCompositeDataType returnType, CockroachDBExpressionGenerator gen,
             int depth) {
-        CockroachDBDataType[] argumentTypes2 = getArgumentTypes(returnType);
+        CockroachDBDataType[] argumentTypes2 = getArgumentTypes(returnType, gen.getGlobalState().getRandomly());
         List<CockroachDBExpression> arguments = getArgumentsForReturnType(gen, depth, argumentTypes2, returnType);
         return new CockroachDBFunctionCall(this, arguments);
     }
@@ -181,11 +181,11 @@ public enum CockroachDBFunction {
             CockroachDBCompositeDataType type;
             if (arg == CockroachDBDataType.ARRAY) {
                 if (savedArrayType == null) {
-                    savedArrayType = arg.get();
+                    savedArrayType = arg.get(gen.getGlobalState().getRandomly());
                 }
                 type = savedArrayType;
             } else {
-                type = arg.get();
+                type = arg.get(gen.getGlobalState().getRandomly());
             }
             arguments.add(gen.generateExpression(type, depth + 1));
         }
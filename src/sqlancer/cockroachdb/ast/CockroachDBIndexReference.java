@@ -8,12 +8,17 @@ public class CockroachDBIndexReference extends CockroachDBTableReference
         implements UnaryOperation<CockroachDBExpression> {
 
     private final CockroachDBTableReference tableReference;
-    private final TableIndex index;
+    private final String operatorRepresentation;
 
-    public CockroachDBIndexReference(CockroachDBTableReference tableReference, TableIndex index) {
+    public CockroachDBIndexReference(CockroachDBTableReference tableReference, TableIndex index, Randomly r) {
         super(tableReference.getTable());
         this.tableReference = tableReference;
-        this.index = index;
+        if (r.getBoolean()) {
+            this.operatorRepresentation = String.format("@{FORCE_INDEX=%s}", index.getIndexName());
+        } else {
+            this.operatorRepresentation = String.format("@{FORCE_INDEX=%s,%s}", index.getIndexName(),
+                    r.fromOptions("ASC", "DESC"));
+        }
     }
 
     @Override
@@ -23,11 +28,7 @@ public class CockroachDBIndexReference extends CockroachDBTableReference
 
     @Override
     public String getOperatorRepresentation() {
-        if (Randomly.getBoolean()) {
-            return String.format("@{FORCE_INDEX=%s}", index.getIndexName());
-        } else {
-            return String.format("@{FORCE_INDEX=%s,%s}", index.getIndexName(), Randomly.fromOptions("ASC", "DESC"));
-        }
+        return operatorRepresentation;
     }
 
     @Override
@@ -13,16 +13,16 @@ public class CockroachDBJoin implements CockroachDBExpression {
     public enum JoinType {
         INNER, NATURAL, CROSS, OUTER;
 
-        public static JoinType getRandom() {
-            return Randomly.fromOptions(values());
+        public static JoinType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
     public enum OuterType {
         FULL, LEFT, RIGHT;
 
-        public static OuterType getRandom() {
-            return Randomly.fromOptions(values());
+        public static OuterType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
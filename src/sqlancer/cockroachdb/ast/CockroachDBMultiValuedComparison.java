@@ -14,8 +14,8 @@ public class CockroachDBMultiValuedComparison implements CockroachDBExpression {
     public enum MultiValuedComparisonType {
         ANY, SOME, ALL;
 
-        public static MultiValuedComparisonType getRandom() {
-            return Randomly.fromOptions(values());
+        public static MultiValuedComparisonType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
@@ -32,8 +32,8 @@ public class CockroachDBMultiValuedComparison implements CockroachDBExpression {
             return stringRepr;
         }
 
-        public static MultiValuedComparisonOperator getRandomGenericComparisonOperator() {
-            return Randomly.fromOptions(SMALLER, GREATER);
+        public static MultiValuedComparisonOperator getRandomGenericComparisonOperator(Randomly r) {
+            return r.fromOptions(SMALLER, GREATER);
         }
     }
 
@@ -20,8 +20,8 @@ public class CockroachDBRegexOperation extends BinaryNode<CockroachDBExpression>
             this.textRepr = textRepr;
         }
 
-        public static CockroachDBRegexOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static CockroachDBRegexOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
@@ -17,8 +17,8 @@ public class CockroachDBUnaryArithmeticOperation extends
             this.textRepr = textRepr;
         }
 
-        public static CockroachDBUnaryAritmeticOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static CockroachDBUnaryAritmeticOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
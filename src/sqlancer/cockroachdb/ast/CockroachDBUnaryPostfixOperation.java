@@ -21,8 +21,8 @@ public class CockroachDBUnaryPostfixOperation extends
             this.s = s;
         }
 
-        public static CockroachDBUnaryPostfixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static CockroachDBUnaryPostfixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -5,9 +5,9 @@ import java.util.List;
 import java.util.Set;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBColumn;
@@ -25,25 +25,26 @@ public final class CockroachDBCommentOnGenerator {
 
     public static Query comment(CockroachDBGlobalState globalState) {
         StringBuilder sb = new StringBuilder("COMMENT ON ");
-        CockroachDBTable randomTable = globalState.getSchema().getRandomTable(t -> !t.isView());
-        switch (Randomly.fromOptions(Option.values())) {
+        CockroachDBTable randomTable = globalState.getSchema()
+                .getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        switch (globalState.getRandomly().fromOptions(Option.values())) {
         case TABLE:
             sb.append("TABLE " + randomTable.getName());
             break;
         case INDEX:
             List<TableIndex> indexes = randomTable.getIndexes();
             if (indexes.isEmpty()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
-            TableIndex index = Randomly.fromList(indexes);
+            TableIndex index = globalState.getRandomly().fromList(indexes);
             if (index.getIndexName().contains("primary")) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
             sb.append("INDEX " + index.getIndexName());
             break;
         case COLUMN:
             sb.append("COLUMN ");
-            CockroachDBColumn randomColumn = randomTable.getRandomColumn();
+            CockroachDBColumn randomColumn = randomTable.getRandomColumn(globalState.getRandomly());
 
             sb.append(randomColumn.getFullQualifiedName());
             break;
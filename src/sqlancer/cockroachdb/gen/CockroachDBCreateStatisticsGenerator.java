@@ -4,7 +4,6 @@ import java.util.Arrays;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBTable;
 
@@ -14,12 +13,13 @@ public final class CockroachDBCreateStatisticsGenerator {
     }
 
     public static Query create(CockroachDBGlobalState globalState) {
-        CockroachDBTable randomTable = globalState.getSchema().getRandomTable(t -> !t.isView());
+        CockroachDBTable randomTable = globalState.getSchema()
+                .getRandomTable(t -> !t.isView(), globalState.getRandomly());
         StringBuilder sb = new StringBuilder("CREATE STATISTICS s");
-        sb.append(Randomly.smallNumber());
-        if (Randomly.getBoolean()) {
+        sb.append(globalState.getRandomly().smallNumber());
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ON ");
-            sb.append(randomTable.getRandomColumn().getName());
+            sb.append(randomTable.getRandomColumn(globalState.getRandomly()).getName());
         }
         sb.append(" FROM ");
         sb.append(randomTable.getName());
@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBDataType;
@@ -20,14 +19,16 @@ public final class CockroachDBDeleteGenerator {
     public static Query delete(CockroachDBGlobalState globalState) {
         Set<String> errors = new HashSet<>();
         StringBuilder sb = new StringBuilder();
-        CockroachDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        CockroachDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         sb.append("DELETE FROM ");
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
             CockroachDBErrors.addExpressionErrors(errors);
             sb.append(CockroachDBVisitor.asString(new CockroachDBExpressionGenerator(globalState)
-                    .setColumns(table.getColumns()).generateExpression(CockroachDBDataType.BOOL.get())));
+                    .setColumns(table.getColumns())
+                    .generateExpression(CockroachDBDataType.BOOL.get(globalState.getRandomly())),
+                    globalState.getRandomly()));
         } else {
             errors.add("rejected: DELETE without WHERE clause (sql_safe_updates = true)");
         }
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBCommon;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBColumn;
@@ -47,6 +46,7 @@ public class CockroachDBExpressionGenerator
     private final CockroachDBGlobalState globalState;
 
     public CockroachDBExpressionGenerator(CockroachDBGlobalState globalState) {
+        super(globalState.getRandomly());
         this.globalState = globalState;
     }
 
@@ -61,7 +61,7 @@ public class CockroachDBExpressionGenerator
 
     public CockroachDBExpression generateHavingClause() {
         allowAggregates = true;
-        CockroachDBExpression expression = generateExpression(CockroachDBDataType.BOOL.get());
+        CockroachDBExpression expression = generateExpression(CockroachDBDataType.BOOL.get(r));
         allowAggregates = false;
         return expression;
     }
@@ -69,13 +69,13 @@ public class CockroachDBExpressionGenerator
     public List<CockroachDBExpression> getOrderingTerms() {
         List<CockroachDBExpression> orderingTerms = new ArrayList<>();
         int nr = 1;
-        while (Randomly.getBooleanWithSmallProbability()) {
+        while (globalState.getRandomly().getBooleanWithSmallProbability()) {
             nr++;
         }
         for (int i = 0; i < nr; i++) {
             CockroachDBExpression expr = generateExpression(getRandomType());
-            if (Randomly.getBoolean()) {
-                expr = new CockroachDBOrderingTerm(expr, Randomly.getBoolean());
+            if (globalState.getRandomly().getBoolean()) {
+                expr = new CockroachDBOrderingTerm(expr, globalState.getRandomly().getBoolean());
             }
             orderingTerms.add(expr);
         }
@@ -87,35 +87,35 @@ public class CockroachDBExpressionGenerator
         // if (type == CockroachDBDataType.FLOAT && Randomly.getBooleanWithRatherLowProbability()) {
         // type = CockroachDBDataType.INT;
         // }
-        if (allowAggregates && Randomly.getBoolean()) {
+        if (allowAggregates && globalState.getRandomly().getBoolean()) {
             return getAggregate(type);
         }
-        if (depth >= globalState.getOptions().getMaxExpressionDepth() || Randomly.getBoolean()) {
+        if (depth >= globalState.getOptions().getMaxExpressionDepth() || globalState.getRandomly().getBoolean()) {
             return generateLeafNode(type);
         } else {
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 List<CockroachDBFunction> applicableFunctions = CockroachDBFunction.getFunctionsCompatibleWith(type);
                 if (!applicableFunctions.isEmpty()) {
-                    CockroachDBFunction function = Randomly.fromList(applicableFunctions);
+                    CockroachDBFunction function = globalState.getRandomly().fromList(applicableFunctions);
                     return function.getCall(type, this, depth + 1);
                 }
             }
-            if (Randomly.getBooleanWithRatherLowProbability()) {
-                if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+                if (globalState.getRandomly().getBoolean()) {
                     return new CockroachDBCast(generateExpression(getRandomType(), depth + 1), type);
                 } else {
                     return new CockroachDBTypeAnnotation(generateExpression(type, depth + 1), type);
                 }
             }
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 List<CockroachDBExpression> conditions = new ArrayList<>();
                 List<CockroachDBExpression> cases = new ArrayList<>();
-                for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
-                    conditions.add(generateExpression(CockroachDBDataType.BOOL.get(), depth + 1));
+                for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
+                    conditions.add(generateExpression(CockroachDBDataType.BOOL.get(r), depth + 1));
                     cases.add(generateExpression(type, depth + 1));
                 }
                 CockroachDBExpression elseExpr = null;
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     elseExpr = generateExpression(type, depth + 1);
                 }
                 return new CockroachDBCaseOperation(conditions, cases, elseExpr);
@@ -128,14 +128,14 @@ public class CockroachDBExpressionGenerator
             case INT:
             case SERIAL:
                 return new CockroachDBBinaryArithmeticOperation(
-                        generateExpression(CockroachDBDataType.INT.get(), depth + 1),
-                        generateExpression(CockroachDBDataType.INT.get(), depth + 1),
-                        CockroachDBBinaryArithmeticOperator.getRandom());
+                        generateExpression(CockroachDBDataType.INT.get(r), depth + 1),
+                        generateExpression(CockroachDBDataType.INT.get(r), depth + 1),
+                        CockroachDBBinaryArithmeticOperator.getRandom(r));
             case STRING:
             case BYTES: // TODO split
                 CockroachDBExpression stringExpr = generateStringExpression(depth);
-                if (Randomly.getBoolean()) {
-                    stringExpr = new CockroachDBCollate(stringExpr, CockroachDBCommon.getRandomCollate());
+                if (globalState.getRandomly().getBoolean()) {
+                    stringExpr = new CockroachDBCollate(stringExpr, CockroachDBCommon.getRandomCollate(r));
                 }
                 return stringExpr; // TODO
             case FLOAT:
@@ -157,18 +157,18 @@ public class CockroachDBExpressionGenerator
     }
 
     private CockroachDBExpression getAggregate(CockroachDBCompositeDataType type) {
-        CockroachDBAggregateFunction agg = Randomly
+        CockroachDBAggregateFunction agg = globalState.getRandomly()
                 .fromList(CockroachDBAggregate.CockroachDBAggregateFunction.getAggregates(type.getPrimitiveDataType()));
         return generateArgsForAggregate(type, agg);
     }
 
     public CockroachDBAggregate generateArgsForAggregate(CockroachDBCompositeDataType type,
             CockroachDBAggregateFunction agg) {
-        List<CockroachDBDataType> types = agg.getTypes(type.getPrimitiveDataType());
+        List<CockroachDBDataType> types = agg.getTypes(type.getPrimitiveDataType(), r);
         List<CockroachDBExpression> args = new ArrayList<>();
         allowAggregates = false; //
         for (CockroachDBDataType argType : types) {
-            args.add(generateExpression(argType.get()));
+            args.add(generateExpression(argType.get(r)));
         }
         return new CockroachDBAggregate(agg, args);
     }
@@ -182,36 +182,37 @@ public class CockroachDBExpressionGenerator
     }
 
     private CockroachDBExpression generateStringExpression(int depth) {
-        StringExpression exprType = Randomly.fromOptions(StringExpression.values());
+        StringExpression exprType = globalState.getRandomly().fromOptions(StringExpression.values());
         switch (exprType) {
         case CONCAT:
-            return new CockroachDBConcatOperation(generateExpression(CockroachDBDataType.STRING.get(), depth + 1),
-                    generateExpression(CockroachDBDataType.STRING.get(), depth + 1));
+            return new CockroachDBConcatOperation(generateExpression(CockroachDBDataType.STRING.get(r), depth + 1),
+                    generateExpression(CockroachDBDataType.STRING.get(r), depth + 1));
         default:
             throw new AssertionError(exprType);
         }
     }
 
     private CockroachDBExpression generateBooleanExpression(int depth) {
-        BooleanExpression exprType = Randomly.fromOptions(BooleanExpression.values());
+        BooleanExpression exprType = globalState.getRandomly().fromOptions(BooleanExpression.values());
         CockroachDBExpression expr;
         switch (exprType) {
         case NOT:
-            return new CockroachDBNotOperation(generateExpression(CockroachDBDataType.BOOL.get(), depth + 1));
+            return new CockroachDBNotOperation(generateExpression(CockroachDBDataType.BOOL.get(r), depth + 1));
         case COMPARISON:
             return getBinaryComparison(depth);
         case AND_OR_CHAIN:
             return getAndOrChain(depth);
         case REGEX:
-            return new CockroachDBRegexOperation(generateExpression(CockroachDBDataType.STRING.get(), depth + 1),
-                    generateExpression(CockroachDBDataType.STRING.get(), depth + 1),
-                    CockroachDBRegexOperator.getRandom());
+            return new CockroachDBRegexOperation(generateExpression(CockroachDBDataType.STRING.get(r), depth + 1),
+                    generateExpression(CockroachDBDataType.STRING.get(r), depth + 1),
+                    CockroachDBRegexOperator.getRandom(r));
         case IS_NULL:
-            return new CockroachDBUnaryPostfixOperation(generateExpression(getRandomType(), depth + 1), Randomly
-                    .fromOptions(CockroachDBUnaryPostfixOperator.IS_NULL, CockroachDBUnaryPostfixOperator.IS_NOT_NULL));
+            return new CockroachDBUnaryPostfixOperation(generateExpression(getRandomType(), depth + 1),
+                    globalState.getRandomly().fromOptions(CockroachDBUnaryPostfixOperator.IS_NULL,
+                            CockroachDBUnaryPostfixOperator.IS_NOT_NULL));
         case IS_NAN:
-            return new CockroachDBUnaryPostfixOperation(generateExpression(CockroachDBDataType.FLOAT.get(), depth + 1),
-                    Randomly.fromOptions(CockroachDBUnaryPostfixOperator.IS_NAN,
+            return new CockroachDBUnaryPostfixOperation(generateExpression(CockroachDBDataType.FLOAT.get(r), depth + 1),
+                    globalState.getRandomly().fromOptions(CockroachDBUnaryPostfixOperator.IS_NAN,
                             CockroachDBUnaryPostfixOperator.IS_NOT_NAN));
         case IN:
             return getInOperation(depth);
@@ -220,23 +221,24 @@ public class CockroachDBExpressionGenerator
             expr = generateExpression(type, depth + 1);
             CockroachDBExpression left = generateExpression(type, depth + 1);
             CockroachDBExpression right = generateExpression(type, depth + 1);
-            return new CockroachDBBetweenOperation(expr, left, right, CockroachDBBetweenOperatorType.getRandom());
+            return new CockroachDBBetweenOperation(expr, left, right, CockroachDBBetweenOperatorType.getRandom(r));
         case MULTI_VALUED_COMPARISON: // TODO other operators
             type = getRandomType();
             left = generateExpression(type, depth + 1);
-            List<CockroachDBExpression> rightList = generateExpressions(type, Randomly.smallNumber() + 2, depth + 1);
-            return new CockroachDBMultiValuedComparison(left, rightList, MultiValuedComparisonType.getRandom(),
-                    MultiValuedComparisonOperator.getRandomGenericComparisonOperator());
+            List<CockroachDBExpression> rightList =
+                    generateExpressions(type, globalState.getRandomly().smallNumber() + 2, depth + 1);
+            return new CockroachDBMultiValuedComparison(left, rightList, MultiValuedComparisonType.getRandom(r),
+                    MultiValuedComparisonOperator.getRandomGenericComparisonOperator(r));
         default:
             throw new AssertionError(exprType);
         }
     }
 
     private CockroachDBExpression getAndOrChain(int depth) {
-        CockroachDBExpression left = generateExpression(CockroachDBDataType.BOOL.get(), depth + 1);
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
-            CockroachDBExpression right = generateExpression(CockroachDBDataType.BOOL.get(), depth + 1);
-            left = new CockroachDBBinaryLogicalOperation(left, right, CockroachDBBinaryLogicalOperator.getRandom());
+        CockroachDBExpression left = generateExpression(CockroachDBDataType.BOOL.get(r), depth + 1);
+        for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
+            CockroachDBExpression right = generateExpression(CockroachDBDataType.BOOL.get(r), depth + 1);
+            left = new CockroachDBBinaryLogicalOperation(left, right, CockroachDBBinaryLogicalOperator.getRandom(r));
         }
         return left;
     }
@@ -244,15 +246,15 @@ public class CockroachDBExpressionGenerator
     private CockroachDBExpression getInOperation(int depth) {
         CockroachDBCompositeDataType type = getRandomType();
         return new CockroachDBInOperation(generateExpression(type, depth + 1),
-                generateExpressions(type, Randomly.smallNumber() + 1, depth + 1));
+                generateExpressions(type, globalState.getRandomly().smallNumber() + 1, depth + 1));
     }
 
     @Override
     protected CockroachDBCompositeDataType getRandomType() {
-        if (columns.isEmpty() || Randomly.getBooleanWithRatherLowProbability()) {
-            return CockroachDBCompositeDataType.getRandom();
+        if (columns.isEmpty() || globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+            return CockroachDBCompositeDataType.getRandom(r);
         } else {
-            return Randomly.fromList(columns).getType();
+            return globalState.getRandomly().fromList(columns).getType();
         }
     }
 
@@ -260,7 +262,7 @@ public class CockroachDBExpressionGenerator
         CockroachDBCompositeDataType type = getRandomType();
         CockroachDBExpression left = generateExpression(type, depth + 1);
         CockroachDBExpression right = generateExpression(type, depth + 1);
-        return new CockroachDBBinaryComparisonOperator(left, right, CockroachDBComparisonOperator.getRandom());
+        return new CockroachDBBinaryComparisonOperator(left, right, CockroachDBComparisonOperator.getRandom(r));
     }
 
     @Override
@@ -270,7 +272,7 @@ public class CockroachDBExpressionGenerator
 
     @Override
     public CockroachDBExpression generateConstant(CockroachDBCompositeDataType type) {
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             return CockroachDBConstant.createNullConstant();
         }
         switch (type.getPrimitiveDataType()) {
@@ -279,19 +281,20 @@ public class CockroachDBExpressionGenerator
         case DECIMAL: // TODO: generate random decimals
             return CockroachDBConstant.createIntConstant(globalState.getRandomly().getInteger());
         case BOOL:
-            return CockroachDBConstant.createBooleanConstant(Randomly.getBoolean());
+            return CockroachDBConstant.createBooleanConstant(globalState.getRandomly().getBoolean());
         case STRING:
         case BYTES: // TODO: also generate byte constants
             return getStringConstant();
         case FLOAT:
             return CockroachDBConstant.createFloatConstant(globalState.getRandomly().getDouble());
         case BIT:
-            return CockroachDBConstant.createBitConstantWithSize(type.getSize());
+            return CockroachDBConstant.createBitConstantWithSize(type.getSize(), r);
         case VARBIT:
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 return CockroachDBConstant.createBitConstant(globalState.getRandomly().getInteger());
             } else {
-                return CockroachDBConstant.createBitConstantWithSize((int) Randomly.getNotCachedInteger(1, 10));
+                return CockroachDBConstant
+                        .createBitConstantWithSize((int) globalState.getRandomly().getNotCachedInteger(1, 10), r);
             }
         case INTERVAL:
             return CockroachDBConstant.createIntervalConstant(globalState.getRandomly().getInteger(),
@@ -308,7 +311,7 @@ public class CockroachDBExpressionGenerator
             return CockroachDBConstant.createTimetz(globalState.getRandomly().getInteger());
         case ARRAY:
             List<CockroachDBExpression> elements = new ArrayList<>();
-            for (int i = 0; i < Randomly.smallNumber(); i++) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber(); i++) {
                 elements.add(generateConstant(type.getElementType()));
             }
             return CockroachDBConstant.createArrayConstant(elements);
@@ -322,8 +325,8 @@ public class CockroachDBExpressionGenerator
     private CockroachDBExpression getStringConstant() {
         CockroachDBExpression strConst = CockroachDBConstant
                 .createStringConstant(globalState.getRandomly().getString());
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            strConst = new CockroachDBCollate(strConst, CockroachDBCommon.getRandomCollate());
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+            strConst = new CockroachDBCollate(strConst, CockroachDBCommon.getRandomCollate(r));
         }
         return strConst;
     }
@@ -334,11 +337,11 @@ public class CockroachDBExpressionGenerator
 
     @Override
     protected CockroachDBExpression generateColumn(CockroachDBCompositeDataType type) {
-        CockroachDBColumn column = Randomly
+        CockroachDBColumn column = globalState.getRandomly()
                 .fromList(columns.stream().filter(c -> c.getType() == type).collect(Collectors.toList()));
         CockroachDBExpression columnReference = new CockroachDBColumnReference(column);
-        if (column.getType().isString() && Randomly.getBooleanWithRatherLowProbability()) {
-            columnReference = new CockroachDBCollate(columnReference, CockroachDBCommon.getRandomCollate());
+        if (column.getType().isString() && globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+            columnReference = new CockroachDBCollate(columnReference, CockroachDBCommon.getRandomCollate(r));
         }
         return columnReference;
     }
@@ -17,16 +17,16 @@ public abstract class CockroachDBGenerator extends AbstractGenerator {
         this.globalState = globalState;
     }
 
-    static void addColumns(StringBuilder sb, List<CockroachDBColumn> columns, boolean allowOrdering) {
+    static void addColumns(StringBuilder sb, List<CockroachDBColumn> columns, boolean allowOrdering, Randomly r) {
         sb.append("(");
         for (int i = 0; i < columns.size(); i++) {
             if (i != 0) {
                 sb.append(", ");
             }
             sb.append(columns.get(i).getName());
-            if (allowOrdering && Randomly.getBoolean()) {
+            if (allowOrdering && r.getBoolean()) {
                 sb.append(" ");
-                sb.append(Randomly.fromOptions("ASC", "DESC"));
+                sb.append(r.fromOptions("ASC", "DESC"));
             }
         }
         sb.append(")");
@@ -34,8 +34,9 @@ public abstract class CockroachDBGenerator extends AbstractGenerator {
 
     void generateInterleave() {
         // TODO make this more likely to succeed
-        CockroachDBTable parentTable = globalState.getSchema().getRandomTable(t -> !t.isView());
-        List<CockroachDBColumn> parentColumns = parentTable.getRandomNonEmptyColumnSubset();
+        CockroachDBTable parentTable = globalState.getSchema()
+                .getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        List<CockroachDBColumn> parentColumns = parentTable.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         sb.append(" INTERLEAVE IN PARENT ");
         sb.append(parentTable.getName());
         sb.append("(");
@@ -3,7 +3,6 @@ package sqlancer.cockroachdb.gen;
 import java.util.List;
 
 import sqlancer.Query;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBColumn;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBTable;
@@ -28,30 +27,32 @@ public class CockroachDBIndexGenerator extends CockroachDBGenerator {
         errors.add("schema change statement cannot follow a statement that has written in the same transaction");
         errors.add("https://github.com/cockroachdb/cockroach/issues/35730"); // some array types are not indexable
         errors.add("cannot determine type of empty array. Consider annotating with the desired type");
-        CockroachDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        CockroachDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         sb.append("CREATE ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("UNIQUE ");
         }
         sb.append("INDEX ON ");
         sb.append(table.getName());
-        List<CockroachDBColumn> columns = table.getRandomNonEmptyColumnSubset();
-        addColumns(sb, columns, true);
+        List<CockroachDBColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
+        addColumns(sb, columns, true, globalState.getRandomly());
         boolean hashSharded = globalState.getDmbsSpecificOptions().testHashIndexes
-                && Randomly.getBooleanWithSmallProbability();
+                && globalState.getRandomly().getBooleanWithSmallProbability();
         if (hashSharded) {
             sb.append(" USING HASH WITH BUCKET_COUNT=");
-            sb.append(Randomly.getNotCachedInteger(2, Short.MAX_VALUE));
+            sb.append(globalState.getRandomly().getNotCachedInteger(2, Short.MAX_VALUE));
             errors.add("null value in column");
             errors.add("cannot create a sharded index on a computed column");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("STORING", "COVERING"));
+            sb.append(globalState.getRandomly().fromOptions("STORING", "COVERING"));
             sb.append(" ");
-            addColumns(sb, table.getRandomNonEmptyColumnSubset(), false);
+            addColumns(sb, table.getRandomNonEmptyColumnSubset(globalState.getRandomly()), false,
+                    globalState.getRandomly());
         }
-        if (!hashSharded /* interleaved indexes cannot also be hash sharded */ && Randomly.getBoolean()) {
+        if (!hashSharded /* interleaved indexes cannot also be hash sharded */
+                && globalState.getRandomly().getBoolean()) {
             generateInterleave();
         }
     }
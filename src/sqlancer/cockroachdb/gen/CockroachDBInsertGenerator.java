@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBColumn;
@@ -34,8 +33,8 @@ public final class CockroachDBInsertGenerator {
         errors.add("foreign key violation");
         errors.add("multi-part foreign key");
         StringBuilder sb = new StringBuilder();
-        CockroachDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
-        boolean isUpsert = Randomly.getBoolean();
+        CockroachDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        boolean isUpsert = globalState.getRandomly().getBoolean();
         if (!isUpsert) {
             sb.append("INSERT INTO ");
         } else {
@@ -45,15 +44,15 @@ public final class CockroachDBInsertGenerator {
         sb.append(table.getName());
         sb.append(" ");
         CockroachDBExpressionGenerator gen = new CockroachDBExpressionGenerator(globalState);
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
             sb.append("DEFAULT VALUES");
         } else {
-            List<CockroachDBColumn> columns = table.getRandomNonEmptyColumnSubset();
+            List<CockroachDBColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
             sb.append("(");
             sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(")");
             sb.append(" VALUES");
-            for (int j = 0; j < Randomly.smallNumber() + 1; j++) {
+            for (int j = 0; j < globalState.getRandomly().smallNumber() + 1; j++) {
                 if (j != 0) {
                     sb.append(", ");
                 }
@@ -63,26 +62,27 @@ public final class CockroachDBInsertGenerator {
                     if (i++ != 0) {
                         sb.append(", ");
                     }
-                    sb.append(CockroachDBVisitor.asString(gen.generateConstant(c.getType())));
+                    sb.append(CockroachDBVisitor
+                            .asString(gen.generateConstant(c.getType()), globalState.getRandomly()));
                 }
                 sb.append(")");
             }
         }
-        if (Randomly.getBoolean() && !isUpsert) {
+        if (globalState.getRandomly().getBoolean() && !isUpsert) {
             sb.append(" ON CONFLICT (");
-            sb.append(table.getRandomNonEmptyColumnSubset().stream().map(c -> c.getName())
+            sb.append(table.getRandomNonEmptyColumnSubset(globalState.getRandomly()).stream().map(c -> c.getName())
                     .collect(Collectors.joining(", ")));
             sb.append(")");
             // WHERE clause not yet implemented, see
             // https://github.com/cockroachdb/cockroach/issues/32557
             sb.append(" DO ");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" NOTHING ");
             } else {
                 // TODO: also support excluded. (see
                 // https://www.cockroachlabs.com/docs/stable/insert.html)
                 sb.append(" UPDATE SET ");
-                List<CockroachDBColumn> columns = table.getRandomNonEmptyColumnSubset();
+                List<CockroachDBColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
                 int i = 0;
                 for (CockroachDBColumn c : columns) {
                     if (i++ != 0) {
@@ -90,7 +90,8 @@ public final class CockroachDBInsertGenerator {
                     }
                     sb.append(c.getName());
                     sb.append(" = ");
-                    sb.append(CockroachDBVisitor.asString(gen.generateConstant(c.getType())));
+                    sb.append(CockroachDBVisitor
+                            .asString(gen.generateConstant(c.getType()), globalState.getRandomly()));
                 }
                 errors.add("UPSERT or INSERT...ON CONFLICT command cannot affect row a second time");
             }
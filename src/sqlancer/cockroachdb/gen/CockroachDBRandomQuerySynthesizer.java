@@ -6,7 +6,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBCommon;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBDataType;
@@ -24,21 +23,22 @@ public final class CockroachDBRandomQuerySynthesizer {
 
     public static Query generate(CockroachDBGlobalState globalState, int nrColumns) {
         CockroachDBSelect select = generateSelect(globalState, nrColumns);
-        return new QueryAdapter(CockroachDBVisitor.asString(select));
+        return new QueryAdapter(CockroachDBVisitor.asString(select, globalState.getRandomly()));
     }
 
     public static CockroachDBSelect generateSelect(CockroachDBGlobalState globalState, int nrColumns) {
-        CockroachDBTables tables = globalState.getSchema().getRandomTableNonEmptyTables();
+        CockroachDBTables tables = globalState.getSchema().getRandomTableNonEmptyTables(globalState.getRandomly());
         CockroachDBExpressionGenerator gen = new CockroachDBExpressionGenerator(globalState)
                 .setColumns(tables.getColumns());
         CockroachDBSelect select = new CockroachDBSelect();
-        select.setDistinct(Randomly.getBoolean());
-        boolean allowAggregates = Randomly.getBooleanWithSmallProbability();
+        select.setDistinct(globalState.getRandomly().getBoolean());
+        boolean allowAggregates = globalState.getRandomly().getBooleanWithSmallProbability();
         List<CockroachDBExpression> columns = new ArrayList<>();
         List<CockroachDBExpression> columnsWithoutAggregates = new ArrayList<>();
         for (int i = 0; i < nrColumns; i++) {
-            if (allowAggregates && Randomly.getBoolean()) {
-                CockroachDBExpression expression = gen.generateExpression(CockroachDBDataType.getRandom().get());
+            if (allowAggregates && globalState.getRandomly().getBoolean()) {
+                CockroachDBExpression expression = gen.generateExpression(
+                        CockroachDBDataType.getRandom(globalState.getRandomly()).get(globalState.getRandomly()));
                 columns.add(expression);
                 columnsWithoutAggregates.add(expression);
             } else {
@@ -48,28 +48,29 @@ public final class CockroachDBRandomQuerySynthesizer {
         select.setFetchColumns(columns);
         List<CockroachDBTableReference> tableList = tables.getTables().stream()
                 .map(t -> new CockroachDBTableReference(t)).collect(Collectors.toList());
-        List<CockroachDBExpression> updatedTableList = CockroachDBCommon.getTableReferences(tableList);
-        if (Randomly.getBoolean()) {
+        List<CockroachDBExpression> updatedTableList = CockroachDBCommon
+                .getTableReferences(tableList, globalState.getRandomly());
+        if (globalState.getRandomly().getBoolean()) {
             select.setJoinList(CockroachDBNoRECOracle.getJoins(updatedTableList, globalState));
         }
         select.setFromList(updatedTableList);
-        if (Randomly.getBoolean()) {
-            select.setWhereClause(gen.generateExpression(CockroachDBDataType.BOOL.get()));
+        if (globalState.getRandomly().getBoolean()) {
+            select.setWhereClause(gen.generateExpression(CockroachDBDataType.BOOL.get(globalState.getRandomly())));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setOrderByExpressions(gen.getOrderingTerms());
         }
-        if (Randomly.getBoolean()) {
-            select.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        if (globalState.getRandomly().getBoolean()) {
+            select.setGroupByExpressions(gen.generateExpressions(globalState.getRandomly().smallNumber() + 1));
         }
 
-        if (Randomly.getBoolean()) { // TODO expression
-            select.setLimitClause(gen.generateConstant(CockroachDBDataType.INT.get()));
+        if (globalState.getRandomly().getBoolean()) { // TODO expression
+            select.setLimitClause(gen.generateConstant(CockroachDBDataType.INT.get(globalState.getRandomly())));
         }
-        if (Randomly.getBoolean()) {
-            select.setOffsetClause(gen.generateConstant(CockroachDBDataType.INT.get()));
+        if (globalState.getRandomly().getBoolean()) {
+            select.setOffsetClause(gen.generateConstant(CockroachDBDataType.INT.get(globalState.getRandomly())));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setHavingClause(gen.generateHavingClause());
         }
         return select;
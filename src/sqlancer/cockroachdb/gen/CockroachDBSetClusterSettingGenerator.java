@@ -6,7 +6,6 @@ import java.util.function.Function;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 
@@ -18,12 +17,12 @@ public final class CockroachDBSetClusterSettingGenerator {
     // https://www.cockroachlabs.com/docs/stable/set-vars.html
     private enum CockroachDBClusterSetting {
         COMPATOR_ENABLED("compactor.enabled", CockroachDBSetSessionGenerator::onOff), //
-        BUFFER_INCREMENT("kv.bulk_ingest.buffer_increment", (g) -> "'" + Randomly.getUncachedDouble() + "'"), //
+        BUFFER_INCREMENT("kv.bulk_ingest.buffer_increment", (g) -> "'" + g.getRandomly().getUncachedDouble() + "'"), //
         BACKPRESSURE_RANGE_SIZE_MULTIPLIER(" kv.range.backpressure_range_size_multiplier",
-                (g) -> Randomly.getNotCachedInteger(0, Integer.MAX_VALUE)), //
-        RANGE_DESCRIPTOR_CACHE_SIZE("kv.range_descriptor_cache.size", (g) -> Randomly.getNonCachedInteger()), //
+                (g) -> g.getRandomly().getNotCachedInteger(0, Integer.MAX_VALUE)), //
+        RANGE_DESCRIPTOR_CACHE_SIZE("kv.range_descriptor_cache.size", (g) -> g.getRandomly().getNonCachedInteger()), //
         SQL_DEFAULTS_VECTORIZE_ROW_COUNT_THRESHOLD("sql.defaults.vectorize_row_count_threshold",
-                (g) -> Randomly.getNotCachedInteger(0, Integer.MAX_VALUE)),
+                (g) -> g.getRandomly().getNotCachedInteger(0, Integer.MAX_VALUE)),
         // SQL_DEFAULTS_EXPERIMENTAL_OPTIMIZER_FOREIGN_KEYS_ENABLED("sql.defaults.experimental_optimizer_foreign_keys.enabled",
         // CockroachDBSetSessionGenerator::onOff),
         MERGE_JOINS_ENABLED("sql.distsql.merge_joins.enabled", CockroachDBSetSessionGenerator::onOff), //
@@ -42,11 +41,11 @@ public final class CockroachDBSetClusterSettingGenerator {
     }
 
     public static Query create(CockroachDBGlobalState globalState) {
-        CockroachDBClusterSetting s = Randomly.fromOptions(CockroachDBClusterSetting.values());
+        CockroachDBClusterSetting s = globalState.getRandomly().fromOptions(CockroachDBClusterSetting.values());
         StringBuilder sb = new StringBuilder("SET CLUSTER SETTING ");
         sb.append(s.name);
         sb.append("=");
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             sb.append("DEFAULT");
         } else {
             sb.append(s.f.apply(globalState));
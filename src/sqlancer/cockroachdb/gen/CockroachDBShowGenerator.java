@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 
@@ -22,10 +21,10 @@ public final class CockroachDBShowGenerator {
     public static Query show(CockroachDBGlobalState globalState) {
         Set<String> errors = new HashSet<>();
         StringBuilder sb = new StringBuilder();
-        switch (Randomly.fromOptions(Option.values())) {
+        switch (globalState.getRandomly().fromOptions(Option.values())) {
         case EXPERIMENTAL_FINGERPRINTS:
             sb.append("SHOW EXPERIMENTAL_FINGERPRINTS FROM TABLE "
-                    + globalState.getSchema().getRandomTable(t -> !t.isView()).getName());
+                    + globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly()).getName());
             errors.add("as type bytes: bytea encoded value ends with incomplete escape sequence");
             errors.add("invalid bytea escape sequence");
             break;
@@ -36,7 +35,8 @@ public final class CockroachDBShowGenerator {
             sb.append("SHOW JOBS");
             break;
         case RANGES:
-            sb.append("SHOW RANGES FROM TABLE " + globalState.getSchema().getRandomTable(t -> !t.isView()).getName());
+            sb.append("SHOW RANGES FROM TABLE "
+                    + globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly()).getName());
             break;
         case LOCALITY:
             sb.append("SHOW LOCALITY");
@@ -46,10 +46,10 @@ public final class CockroachDBShowGenerator {
             break;
         case TRACE_FOR_SESSION:
             sb.append("SHOW ");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("COMPACT ");
             }
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("KV ");
             }
             sb.append("TRACE FOR SESSION;");
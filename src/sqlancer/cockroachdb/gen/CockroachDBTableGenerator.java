@@ -5,8 +5,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBCommon;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
@@ -18,9 +18,9 @@ import sqlancer.cockroachdb.CockroachDBVisitor;
 
 public class CockroachDBTableGenerator extends CockroachDBGenerator {
 
-    private final boolean primaryKey = Randomly.getBoolean();
+    private final boolean primaryKey = globalState.getRandomly().getBoolean();
     private final List<CockroachDBColumn> columns = new ArrayList<>();
-    private boolean singleColumnPrimaryKey = primaryKey && Randomly.getBoolean();
+    private boolean singleColumnPrimaryKey = primaryKey && globalState.getRandomly().getBoolean();
     private final boolean compoundPrimaryKey = primaryKey && !singleColumnPrimaryKey;
 
     public CockroachDBTableGenerator(CockroachDBGlobalState globalState) {
@@ -39,18 +39,18 @@ public class CockroachDBTableGenerator extends CockroachDBGenerator {
             errors.add("constraints on temporary tables may reference only temporary tables");
             errors.add("constraints on permanent tables may reference only permanent tables");
         }
-        String tableName = globalState.getSchema().getFreeTableName();
+        String tableName = globalState.getSchema().getFreeTableName(globalState.getRandomly());
         sb.append("CREATE ");
-        if (Randomly.getBoolean() && globalState.getDmbsSpecificOptions().testTempTables) {
+        if (globalState.getRandomly().getBoolean() && globalState.getDmbsSpecificOptions().testTempTables) {
             sb.append("TEMP ");
         }
         sb.append("TABLE ");
         sb.append(tableName);
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
             String columnName = "c" + i;
-            CockroachDBCompositeDataType columnType = CockroachDBCompositeDataType.getRandom();
+            CockroachDBCompositeDataType columnType = CockroachDBCompositeDataType.getRandom(globalState.getRandomly());
             while (columnType.getPrimitiveDataType() == CockroachDBDataType.JSONB) {
-                columnType = CockroachDBCompositeDataType.getRandom(); // TODO
+                columnType = CockroachDBCompositeDataType.getRandom(globalState.getRandomly()); // TODO
             }
             columns.add(new CockroachDBColumn(columnName, columnType, false, false));
 
@@ -65,99 +65,102 @@ public class CockroachDBTableGenerator extends CockroachDBGenerator {
             sb.append(cockroachDBColumn.getName());
             sb.append(" ");
             sb.append(cockroachDBColumn.getType());
-            if (cockroachDBColumn.getType().isString() && Randomly.getBoolean()) {
-                sb.append(" COLLATE " + CockroachDBCommon.getRandomCollate());
+            if (cockroachDBColumn.getType().isString() && globalState.getRandomly().getBoolean()) {
+                sb.append(" COLLATE " + CockroachDBCommon.getRandomCollate(globalState.getRandomly()));
             }
-            boolean generatedColumn = Randomly.getBooleanWithRatherLowProbability()
+            boolean generatedColumn = globalState.getRandomly().getBooleanWithRatherLowProbability()
                     && cockroachDBColumn.getType().getPrimitiveDataType() != CockroachDBDataType.SERIAL;
             if (generatedColumn) {
                 sb.append(" AS (");
-                sb.append(CockroachDBVisitor.asString(gen.generateExpression(cockroachDBColumn.getType())));
+                sb.append(CockroachDBVisitor.asString(gen.generateExpression(cockroachDBColumn.getType()),
+                        globalState.getRandomly()));
                 sb.append(") STORED");
                 errors.add("computed columns cannot reference other computed columns");
                 errors.add("has type unknown");
             }
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 sb.append(" UNIQUE ");
             }
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 sb.append(" NOT NULL ");
             }
-            if (singleColumnPrimaryKey && Randomly.getBooleanWithRatherLowProbability()) {
+            if (singleColumnPrimaryKey && globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 sb.append(" PRIMARY KEY");
                 singleColumnPrimaryKey = false;
             }
             if (!generatedColumn && cockroachDBColumn.getType().getPrimitiveDataType() != CockroachDBDataType.SERIAL
-                    && Randomly.getBoolean()) {
+                    && globalState.getRandomly().getBoolean()) {
                 sb.append(" DEFAULT (");
                 sb.append(CockroachDBVisitor.asString(new CockroachDBExpressionGenerator(globalState)
-                        .generateExpression(cockroachDBColumn.getType())));
+                        .generateExpression(cockroachDBColumn.getType()), globalState.getRandomly()));
                 sb.append(")");
                 errors.add("has type unknown"); // NULLIF
             }
-            if (Randomly.getBooleanWithRatherLowProbability()
+            if (globalState.getRandomly().getBooleanWithRatherLowProbability()
                     && !globalState.getSchema().getDatabaseTables().isEmpty()) {
                 // TODO: also allow referencing itself
                 sb.append(" REFERENCES ");
-                CockroachDBTable otherTable = globalState.getSchema().getRandomTable();
+                CockroachDBTable otherTable = globalState.getSchema().getRandomTable(globalState.getRandomly());
                 List<CockroachDBColumn> applicableColumns = otherTable.getColumns().stream()
                         .filter(c -> c.getType() == cockroachDBColumn.getType()).collect(Collectors.toList());
                 if (applicableColumns.isEmpty()) {
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                 }
                 sb.append(otherTable.getName());
                 sb.append("(");
-                sb.append(Randomly.fromList(applicableColumns).getName());
+                sb.append(globalState.getRandomly().fromList(applicableColumns).getName());
                 sb.append(")");
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     sb.append(" MATCH ");
-                    sb.append(Randomly.fromOptions("SIMPLE", "FULL"));
+                    sb.append(globalState.getRandomly().fromOptions("SIMPLE", "FULL"));
                 }
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     errors.add("cannot add a SET DEFAULT cascading action on column");
                     errors.add("cannot add a SET NULL cascading action on column ");
-                    List<String> options = Randomly.nonEmptySubset("UPDATE", "DELETE");
+                    List<String> options = globalState.getRandomly().nonEmptySubset("UPDATE", "DELETE");
                     for (String s : options) {
                         sb.append(" ON ");
                         sb.append(s);
                         sb.append(" ");
-                        sb.append(Randomly.fromOptions("CASCADE", "SET NULL", "SET DEFAULT"));
+                        sb.append(globalState.getRandomly().fromOptions("CASCADE", "SET NULL", "SET DEFAULT"));
                     }
                 }
                 errors.add("there is no unique constraint matching given keys for referenced table");
             }
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 errors.add("has type unknown");
                 sb.append(" CHECK (");
-                sb.append(CockroachDBVisitor.asString(gen.generateExpression(CockroachDBDataType.BOOL.get())));
+                sb.append(CockroachDBVisitor.asString(
+                        gen.generateExpression(CockroachDBDataType.BOOL.get(globalState.getRandomly())),
+                        globalState.getRandomly()));
                 sb.append(")");
             }
         }
         if (compoundPrimaryKey) {
             sb.append(", CONSTRAINT \"primary\" PRIMARY KEY");
-            List<CockroachDBColumn> primaryKeyColumns = Randomly.nonEmptySubset(columns);
-            addColumns(sb, primaryKeyColumns, true);
+            List<CockroachDBColumn> primaryKeyColumns = globalState.getRandomly().nonEmptySubset(columns);
+            addColumns(sb, primaryKeyColumns, true, globalState.getRandomly());
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(", FAMILY \"primary\" (");
             sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(")");
         }
-        if (Randomly.getBoolean() && !globalState.getSchema().getDatabaseTables().isEmpty()) {
+        if (globalState.getRandomly().getBoolean() && !globalState.getSchema().getDatabaseTables().isEmpty()) {
             sb.append(", ");
             // TODO: also allow referencing itself
-            List<CockroachDBColumn> subset = Randomly.nonEmptySubset(columns);
+            List<CockroachDBColumn> subset = globalState.getRandomly().nonEmptySubset(columns);
             sb.append(" FOREIGN KEY (");
             sb.append(subset.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(") REFERENCES ");
-            CockroachDBTable otherTable = globalState.getSchema().getRandomTable();
+            CockroachDBTable otherTable = globalState.getSchema().getRandomTable(globalState.getRandomly());
             sb.append(otherTable.getName());
             sb.append("(");
             for (int i = 0; i < subset.size(); i++) {
                 if (i != 0) {
                     sb.append(", ");
                 }
-                sb.append(otherTable.getRandomColumn().getName());
+                sb.append(otherTable.getRandomColumn(globalState.getRandomly()).getName());
             }
             sb.append(")");
             // TODO: ensure that the column types match
@@ -166,7 +169,8 @@ public class CockroachDBTableGenerator extends CockroachDBGenerator {
             errors.add("there is no unique constraint matching given keys for referenced table");
         }
         sb.append(")");
-        if (Randomly.getBooleanWithRatherLowProbability() && !globalState.getSchema().getDatabaseTables().isEmpty()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()
+                && !globalState.getSchema().getDatabaseTables().isEmpty()) {
             generateInterleave();
         }
         errors.add("collatedstring");
@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 
 public final class CockroachDBTruncateGenerator {
@@ -23,23 +22,24 @@ public final class CockroachDBTruncateGenerator {
         errors.add("unexpected value: <nil>");
         StringBuilder sb = new StringBuilder();
         sb.append("TRUNCATE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" TABLE");
         }
         sb.append(" ");
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
                 if (i != 0) {
                     sb.append(", ");
                 }
-                sb.append(globalState.getSchema().getRandomTable(t -> !t.isView()).getName());
+                sb.append(globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly())
+                        .getName());
             }
         } else {
-            sb.append(globalState.getSchema().getRandomTable(t -> !t.isView()).getName());
+            sb.append(globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly()).getName());
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("CASCADE", "RESTRICT"));
+            sb.append(globalState.getRandomly().fromOptions("CASCADE", "RESTRICT"));
         }
         return new QueryAdapter(sb.toString(), errors);
     }
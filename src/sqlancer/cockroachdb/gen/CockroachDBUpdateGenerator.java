@@ -6,7 +6,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBColumn;
@@ -21,14 +20,14 @@ public final class CockroachDBUpdateGenerator {
 
     public static Query gen(CockroachDBGlobalState globalState) {
         Set<String> errors = new HashSet<>();
-        CockroachDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
-        List<CockroachDBColumn> columns = table.getRandomNonEmptyColumnSubset();
+        CockroachDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        List<CockroachDBColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         CockroachDBExpressionGenerator gen = new CockroachDBExpressionGenerator(globalState).setColumns(columns);
         StringBuilder sb = new StringBuilder("UPDATE ");
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("@{FORCE_INDEX=");
-            sb.append(Randomly.fromList(table.getIndexes()).getIndexName());
+            sb.append(globalState.getRandomly().fromList(table.getIndexes()).getIndexName());
             sb.append("}");
         }
         sb.append(" SET ");
@@ -39,11 +38,13 @@ public final class CockroachDBUpdateGenerator {
             }
             sb.append(c.getName());
             sb.append("=");
-            sb.append(CockroachDBVisitor.asString(gen.generateExpression(c.getType())));
+            sb.append(CockroachDBVisitor.asString(gen.generateExpression(c.getType()), globalState.getRandomly()));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
-            sb.append(CockroachDBVisitor.asString(gen.generateExpression(CockroachDBDataType.BOOL.get())));
+            sb.append(CockroachDBVisitor.asString(
+                    gen.generateExpression(CockroachDBDataType.BOOL.get(globalState.getRandomly())),
+                    globalState.getRandomly()));
         }
         errors.add("violates unique constraint");
         errors.add("violates not-null constraint");
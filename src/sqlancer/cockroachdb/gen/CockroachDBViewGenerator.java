@@ -4,10 +4,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 import sqlancer.Query;
-import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
+import sqlancer.SchemaUpdatingQueryAdapter;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
+import sqlancer.cockroachdb.CockroachDBSchema;
 
 public final class CockroachDBViewGenerator {
 
@@ -15,10 +15,10 @@ public final class CockroachDBViewGenerator {
     }
 
     public static Query generate(CockroachDBGlobalState globalState) {
-        int nrColumns = Randomly.smallNumber() + 1;
+        int nrColumns = globalState.getRandomly().smallNumber() + 1;
         StringBuilder sb = new StringBuilder("CREATE ");
         sb.append("VIEW ");
-        sb.append(globalState.getSchema().getFreeViewName());
+        sb.append(globalState.getSchema().getFreeViewName(globalState.getRandomly()));
         sb.append("(");
         for (int i = 0; i < nrColumns; i++) {
             if (i != 0) {
@@ -33,7 +33,8 @@ public final class CockroachDBViewGenerator {
         CockroachDBErrors.addTransactionErrors(errors);
         errors.add("value type unknown cannot be used for table columns");
         errors.add("already exists");
-        return new QueryAdapter(sb.toString(), errors, true);
+        // views are not part of the schema (see CockroachDBSchema.getTableNames)
+        return new SchemaUpdatingQueryAdapter<CockroachDBSchema>(sb.toString(), errors, s -> s);
     }
 
 }
@@ -4,16 +4,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import sqlancer.GlobalState;
+import sqlancer.CountCheckBatch;
+import sqlancer.CountCheckBatch.CountCheck;
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.TestOracle;
 import sqlancer.cockroachdb.CockroachDBCommon;
 import sqlancer.cockroachdb.CockroachDBErrors;
@@ -33,9 +33,8 @@ import sqlancer.cockroachdb.gen.CockroachDBExpressionGenerator;
 public class CockroachDBNoRECOracle implements TestOracle {
 
     private final CockroachDBGlobalState globalState;
-    private final Set<String> errors = new HashSet<>();
-    private String optimizableQueryString;
-    private String unoptimizedQuery;
+    private final ExpectedErrors errors = new ExpectedErrors();
+    private final CountCheckBatch batch;
     private CockroachDBExpressionGenerator gen;
 
     public CockroachDBNoRECOracle(CockroachDBGlobalState globalState) {
@@ -44,46 +43,56 @@ public class CockroachDBNoRECOracle implements TestOracle {
         CockroachDBErrors.addTransactionErrors(errors);
         errors.add("unable to vectorize execution plan"); // SET vectorize=experimental_always;
         errors.add(" mismatched physical types at index"); // SET vectorize=experimental_always;
-
+        batch = new CountCheckBatch(globalState, errors);
     }
 
     @Override
     public void check() throws SQLException {
-        CockroachDBTables tables = globalState.getSchema().getRandomTableNonEmptyTables();
+        CockroachDBTables tables = globalState.getSchema().getRandomTableNonEmptyTables(globalState.getRandomly());
         List<CockroachDBTableReference> tableL = tables.getTables().stream().map(t -> new CockroachDBTableReference(t))
                 .collect(Collectors.toList());
-        List<CockroachDBExpression> tableList = CockroachDBCommon.getTableReferences(tableL);
+        List<CockroachDBExpression> tableList = CockroachDBCommon.getTableReferences(tableL, globalState.getRandomly());
         gen = new CockroachDBExpressionGenerator(globalState).setColumns(tables.getColumns());
         List<CockroachDBExpression> joinExpressions = getJoins(tableList, globalState);
-        CockroachDBExpression whereCondition = gen.generateExpression(CockroachDBDataType.BOOL.get());
-        int optimizableCount = getOptimizedResult(whereCondition, tableList, errors, joinExpressions);
-        if (optimizableCount == -1) {
-            throw new IgnoreMeException();
-        }
-        int nonOptimizableCount = getNonOptimizedResult(whereCondition, tableList, errors, joinExpressions);
-        if (nonOptimizableCount == -1) {
-            throw new IgnoreMeException();
-        }
-        if (optimizableCount != nonOptimizableCount) {
-            globalState.getState().queryString = optimizableQueryString + ";\n" + unoptimizedQuery + ";";
-            throw new AssertionError(CockroachDBVisitor.asString(whereCondition));
-        }
+        CockroachDBExpression whereCondition = gen
+                .generateExpression(CockroachDBDataType.BOOL.get(globalState.getRandomly()));
+        String optimizedQuery = getOptimizedQuery(whereCondition, tableList, joinExpressions);
+        String unoptimizedQuery = getUnoptimizedQuery(whereCondition, tableList, joinExpressions);
+        batch.add(new CountCheck(optimizedQuery, unoptimizedQuery, () -> {
+            int optimizableCount = getCount(optimizedQuery);
+            if (optimizableCount == -1) {
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
+            }
+            int nonOptimizableCount = getCount(unoptimizedQuery);
+            if (nonOptimizableCount == -1) {
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
+            }
+            if (optimizableCount != nonOptimizableCount) {
+                globalState.getState().queryString = optimizedQuery + ";\n" + unoptimizedQuery + ";";
+                throw new AssertionError(CockroachDBVisitor.asString(whereCondition, globalState.getRandomly()));
+            }
+        }));
+    }
+
+    @Override
+    public void finishChecks() throws SQLException {
+        batch.flush();
     }
 
     public static List<CockroachDBExpression> getJoins(List<CockroachDBExpression> tableList,
             CockroachDBGlobalState globalState) throws AssertionError {
         List<CockroachDBExpression> joinExpressions = new ArrayList<>();
-        while (tableList.size() >= 2 && Randomly.getBoolean()) {
+        while (tableList.size() >= 2 && globalState.getRandomly().getBoolean()) {
             CockroachDBTableReference leftTable = (CockroachDBTableReference) tableList.remove(0);
             CockroachDBTableReference rightTable = (CockroachDBTableReference) tableList.remove(0);
             List<CockroachDBColumn> columns = new ArrayList<>(leftTable.getTable().getColumns());
             columns.addAll(rightTable.getTable().getColumns());
             CockroachDBExpressionGenerator joinGen = new CockroachDBExpressionGenerator(globalState)
                     .setColumns(columns);
-            switch (CockroachDBJoin.JoinType.getRandom()) {
+            switch (CockroachDBJoin.JoinType.getRandom(globalState.getRandomly())) {
             case INNER:
                 joinExpressions.add(new CockroachDBJoin(leftTable, rightTable, CockroachDBJoin.JoinType.INNER,
-                        joinGen.generateExpression(CockroachDBDataType.BOOL.get())));
+                        joinGen.generateExpression(CockroachDBDataType.BOOL.get(globalState.getRandomly()))));
                 break;
             case NATURAL:
                 joinExpressions.add(CockroachDBJoin.createNaturalJoin(leftTable, rightTable));
@@ -92,8 +101,9 @@ public class CockroachDBNoRECOracle implements TestOracle {
                 joinExpressions.add(CockroachDBJoin.createCrossJoin(leftTable, rightTable));
                 break;
             case OUTER:
-                joinExpressions.add(CockroachDBJoin.createOuterJoin(leftTable, rightTable, OuterType.getRandom(),
-                        joinGen.generateExpression(CockroachDBDataType.BOOL.get())));
+                joinExpressions.add(CockroachDBJoin.createOuterJoin(leftTable, rightTable,
+                        OuterType.getRandom(globalState.getRandomly()),
+                        joinGen.generateExpression(CockroachDBDataType.BOOL.get(globalState.getRandomly()))));
                 break;
             default:
                 throw new AssertionError();
@@ -102,45 +112,39 @@ public class CockroachDBNoRECOracle implements TestOracle {
         return joinExpressions;
     }
 
-    private int getOptimizedResult(CockroachDBExpression whereCondition, List<CockroachDBExpression> tableList,
-            Set<String> errors, List<CockroachDBExpression> joinExpressions) throws SQLException {
+    private String getOptimizedQuery(CockroachDBExpression whereCondition, List<CockroachDBExpression> tableList,
+            List<CockroachDBExpression> joinExpressions) {
         CockroachDBSelect select = new CockroachDBSelect();
         CockroachDBColumn c = new CockroachDBColumn("COUNT(*)", null, false, false);
         select.setFetchColumns(Arrays.asList(new CockroachDBColumnReference(c)));
         select.setFromList(tableList);
         select.setWhereClause(whereCondition);
         select.setJoinList(joinExpressions);
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setOrderByExpressions(gen.getOrderingTerms());
         }
-        String s = CockroachDBVisitor.asString(select);
-        if (globalState.getOptions().logEachSelect()) {
-            globalState.getLogger().writeCurrent(s);
-        }
-        this.optimizableQueryString = s;
-        Query q = new QueryAdapter(s, errors);
-        return getCount(globalState, q);
+        return CockroachDBVisitor.asString(select, globalState.getRandomly());
     }
 
-    private int getNonOptimizedResult(CockroachDBExpression whereCondition, List<CockroachDBExpression> tableList,
-            Set<String> errors, List<CockroachDBExpression> joinList) throws SQLException {
+    private String getUnoptimizedQuery(CockroachDBExpression whereCondition, List<CockroachDBExpression> tableList,
+            List<CockroachDBExpression> joinList) {
         String fromString = tableList.stream().map(t -> ((CockroachDBTableReference) t).getTable().getName())
                 .collect(Collectors.joining(", "));
         if (!tableList.isEmpty() && !joinList.isEmpty()) {
             fromString += ", ";
         }
-        String s = "SELECT SUM(count) FROM (SELECT CAST(" + CockroachDBVisitor.asString(whereCondition)
+        return "SELECT SUM(count) FROM (SELECT CAST("
+                + CockroachDBVisitor.asString(whereCondition, globalState.getRandomly())
                 + " IS TRUE AS INT) as count FROM " + fromString + " "
-                + joinList.stream().map(j -> CockroachDBVisitor.asString(j)).collect(Collectors.joining(", ")) + ")";
-        if (globalState.getOptions().logEachSelect()) {
-            globalState.getLogger().writeCurrent(s);
-        }
-        this.unoptimizedQuery = s;
-        Query q = new QueryAdapter(s, errors);
-        return getCount(globalState, q);
+                + joinList.stream().map(j -> CockroachDBVisitor.asString(j, globalState.getRandomly()))
+                .collect(Collectors.joining(", ")) + ")";
     }
 
-    private int getCount(GlobalState<?> globalState, Query q) throws AssertionError {
+    private int getCount(String queryString) throws AssertionError {
+        if (globalState.getOptions().logEachSelect()) {
+            globalState.getLogger().writeCurrent(queryString);
+        }
+        Query q = new QueryAdapter(queryString, errors);
         int count = 0;
         try (ResultSet rs = q.executeAndGet(globalState)) {
             if (rs == null) {
@@ -4,17 +4,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.postgresql.util.PSQLException;
 
 import sqlancer.ComparatorHelper;
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.TestOracle;
 import sqlancer.cockroachdb.CockroachDBCommon;
 import sqlancer.cockroachdb.CockroachDBErrors;
@@ -39,7 +38,7 @@ import sqlancer.cockroachdb.oracle.CockroachDBNoRECOracle;
 public class CockroachDBTLPAggregateOracle implements TestOracle {
 
     private final CockroachDBGlobalState state;
-    private final Set<String> errors = new HashSet<>();
+    private final ExpectedErrors errors = new ExpectedErrors();
     private CockroachDBExpressionGenerator gen;
     private String firstResult;
     private String secondResult;
@@ -56,30 +55,30 @@ public class CockroachDBTLPAggregateOracle implements TestOracle {
     @Override
     public void check() throws SQLException {
         CockroachDBSchema s = state.getSchema();
-        CockroachDBTables targetTables = s.getRandomTableNonEmptyTables();
+        CockroachDBTables targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new CockroachDBExpressionGenerator(state).setColumns(targetTables.getColumns());
         CockroachDBSelect select = new CockroachDBSelect();
-        CockroachDBAggregateFunction windowFunction = Randomly
-                .fromOptions(CockroachDBAggregate.CockroachDBAggregateFunction.getRandomMetamorphicOracle());
-        CockroachDBAggregate aggregate = gen.generateArgsForAggregate(windowFunction.getRandomReturnType().get(),
-                windowFunction);
+        CockroachDBAggregateFunction windowFunction = state.getRandomly().fromOptions(
+                CockroachDBAggregate.CockroachDBAggregateFunction.getRandomMetamorphicOracle(state.getRandomly()));
+        CockroachDBAggregate aggregate = gen.generateArgsForAggregate(
+                windowFunction.getRandomReturnType(state.getRandomly()).get(state.getRandomly()), windowFunction);
         List<CockroachDBExpression> fetchColumns = new ArrayList<>();
         fetchColumns.add(aggregate);
-        while (Randomly.getBooleanWithRatherLowProbability()) {
+        while (state.getRandomly().getBooleanWithRatherLowProbability()) {
             fetchColumns.add(gen.generateAggregate());
         }
         select.setFetchColumns(Arrays.asList(aggregate));
         List<CockroachDBTableReference> tableList = targetTables.getTables().stream()
                 .map(t -> new CockroachDBTableReference(t)).collect(Collectors.toList());
-        List<CockroachDBExpression> from = CockroachDBCommon.getTableReferences(tableList);
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        List<CockroachDBExpression> from = CockroachDBCommon.getTableReferences(tableList, state.getRandomly());
+        if (state.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setJoinList(CockroachDBNoRECOracle.getJoins(from, state));
         }
         select.setFromList(from);
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (state.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setOrderByExpressions(gen.getOrderingTerms());
         }
-        originalQuery = CockroachDBVisitor.asString(select);
+        originalQuery = CockroachDBVisitor.asString(select, state.getRandomly());
         firstResult = getAggregateResult(originalQuery);
         metamorphicQuery = createMetamorphicUnionQuery(select, aggregate, from);
         secondResult = getAggregateResult(metamorphicQuery);
@@ -90,7 +89,7 @@ public class CockroachDBTLPAggregateOracle implements TestOracle {
                 || firstResult != null && (!firstResult.contentEquals(secondResult)
                         && !ComparatorHelper.isEqualDouble(firstResult, secondResult))) {
             if (secondResult.contains("Inf")) {
-                throw new IgnoreMeException(); // FIXME: average computation
+                throw new IgnoreMeException(Reason.UNSUPPORTED); // FIXME: average computation
             }
             throw new AssertionError();
         }
@@ -100,7 +99,7 @@ public class CockroachDBTLPAggregateOracle implements TestOracle {
     private String createMetamorphicUnionQuery(CockroachDBSelect select, CockroachDBAggregate aggregate,
             List<CockroachDBExpression> from) {
         String metamorphicQuery;
-        CockroachDBExpression whereClause = gen.generateExpression(CockroachDBDataType.BOOL.get());
+        CockroachDBExpression whereClause = gen.generateExpression(CockroachDBDataType.BOOL.get(state.getRandomly()));
         CockroachDBNotOperation negatedClause = new CockroachDBNotOperation(whereClause);
         CockroachDBUnaryPostfixOperation notNullClause = new CockroachDBUnaryPostfixOperation(whereClause,
                 CockroachDBUnaryPostfixOperator.IS_NULL);
@@ -109,8 +108,9 @@ public class CockroachDBTLPAggregateOracle implements TestOracle {
         CockroachDBSelect middleSelect = getSelect(mappedAggregate, from, negatedClause, select.getJoinList());
         CockroachDBSelect rightSelect = getSelect(mappedAggregate, from, notNullClause, select.getJoinList());
         metamorphicQuery = "SELECT " + getOuterAggregateFunction(aggregate).toString() + " FROM (";
-        metamorphicQuery += CockroachDBVisitor.asString(leftSelect) + " UNION ALL "
-                + CockroachDBVisitor.asString(middleSelect) + " UNION ALL " + CockroachDBVisitor.asString(rightSelect);
+        metamorphicQuery += CockroachDBVisitor.asString(leftSelect, state.getRandomly()) + " UNION ALL "
+                + CockroachDBVisitor.asString(middleSelect, state.getRandomly()) + " UNION ALL "
+                + CockroachDBVisitor.asString(rightSelect, state.getRandomly());
         metamorphicQuery += ")";
         return metamorphicQuery;
     }
@@ -120,7 +120,7 @@ public class CockroachDBTLPAggregateOracle implements TestOracle {
         QueryAdapter q = new QueryAdapter(queryString, errors);
         try (ResultSet result = q.executeAndGet(state)) {
             if (result == null) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
             if (!result.next()) {
                 resultString = null;
@@ -153,7 +153,7 @@ public class CockroachDBTLPAggregateOracle implements TestOracle {
             CockroachDBAggregate sum = new CockroachDBAggregate(CockroachDBAggregateFunction.SUM, aggregate.getExpr());
             CockroachDBCast count = new CockroachDBCast(
                     new CockroachDBAggregate(CockroachDBAggregateFunction.COUNT, aggregate.getExpr()),
-                    CockroachDBDataType.DECIMAL.get());
+                    CockroachDBDataType.DECIMAL.get(state.getRandomly()));
             // CockroachDBBinaryArithmeticOperation avg = new CockroachDBBinaryArithmeticOperation(sum, count,
             // CockroachDBBinaryArithmeticOperator.DIV);
             return aliasArgs(Arrays.asList(sum, count));
@@ -190,8 +190,8 @@ public class CockroachDBTLPAggregateOracle implements TestOracle {
         leftSelect.setFromList(from);
         leftSelect.setWhereClause(whereClause);
         leftSelect.setJoinList(joinList);
-        if (Randomly.getBooleanWithSmallProbability()) {
-            leftSelect.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        if (state.getRandomly().getBooleanWithSmallProbability()) {
+            leftSelect.setGroupByExpressions(gen.generateExpressions(state.getRandomly().smallNumber() + 1));
         }
         return leftSelect;
     }
@@ -2,12 +2,10 @@ package sqlancer.cockroachdb.oracle.tlp;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
+import sqlancer.ExpectedErrors;
 import sqlancer.TestOracle;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
@@ -25,11 +23,12 @@ import sqlancer.cockroachdb.ast.CockroachDBUnaryPostfixOperation;
 import sqlancer.cockroachdb.ast.CockroachDBUnaryPostfixOperation.CockroachDBUnaryPostfixOperator;
 import sqlancer.cockroachdb.gen.CockroachDBExpressionGenerator;
 import sqlancer.cockroachdb.oracle.CockroachDBNoRECOracle;
+import sqlancer.visitor.RenderCache;
 
 public class CockroachDBTLPBase implements TestOracle {
 
     final CockroachDBGlobalState state;
-    final Set<String> errors = new HashSet<>();
+    final ExpectedErrors errors = new ExpectedErrors();
 
     CockroachDBSchema s;
     CockroachDBTables targetTables;
@@ -38,6 +37,7 @@ public class CockroachDBTLPBase implements TestOracle {
     CockroachDBExpression predicate;
     CockroachDBExpression negatedPredicate;
     CockroachDBExpression isNullPredicate;
+    RenderCache<CockroachDBExpression> renderCache;
 
     public CockroachDBTLPBase(CockroachDBGlobalState state) {
         this.state = state;
@@ -47,7 +47,7 @@ public class CockroachDBTLPBase implements TestOracle {
     @Override
     public void check() throws SQLException {
         s = state.getSchema();
-        targetTables = s.getRandomTableNonEmptyTables();
+        targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new CockroachDBExpressionGenerator(state).setColumns(targetTables.getColumns());
         select = new CockroachDBSelect();
         select.setFetchColumns(generateFetchColumns());
@@ -61,21 +61,26 @@ public class CockroachDBTLPBase implements TestOracle {
         predicate = generatePredicate();
         negatedPredicate = new CockroachDBNotOperation(predicate);
         isNullPredicate = new CockroachDBUnaryPostfixOperation(predicate, CockroachDBUnaryPostfixOperator.IS_NULL);
+        // the joins are rendered again for each query, since their rendering randomly adds join hints
+        renderCache = new RenderCache<>();
+        renderCache.addAll(select.getFetchColumns());
+        renderCache.addAll(tableList);
+        renderCache.add(predicate);
     }
 
     List<CockroachDBExpression> generateFetchColumns() {
         List<CockroachDBExpression> columns = new ArrayList<>();
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             columns.add(new CockroachDBColumnReference(new CockroachDBColumn("*", null, false, false)));
         } else {
-            columns.addAll(Randomly.nonEmptySubset(targetTables.getColumns()).stream()
+            columns.addAll(state.getRandomly().nonEmptySubset(targetTables.getColumns()).stream()
                     .map(c -> new CockroachDBColumnReference(c)).collect(Collectors.toList()));
         }
         return columns;
     }
 
     CockroachDBExpression generatePredicate() {
-        return gen.generateExpression(CockroachDBDataType.BOOL.get());
+        return gen.generateExpression(CockroachDBDataType.BOOL.get(state.getRandomly()));
     }
 
 }
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBDataType;
 import sqlancer.cockroachdb.CockroachDBVisitor;
@@ -24,21 +25,22 @@ public class CockroachDBTLPDistinctOracle extends CockroachDBTLPBase {
     public void check() throws SQLException {
         super.check();
         select.setDistinct(true);
-        String originalQueryString = CockroachDBVisitor.asString(select);
+        String originalQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
         select.setDistinct(false);
-        CockroachDBExpression predicate = gen.generateExpression(CockroachDBDataType.BOOL.get());
+        CockroachDBExpression predicate = gen.generateExpression(CockroachDBDataType.BOOL.get(state.getRandomly()));
+        renderCache.add(predicate);
         select.setWhereClause(predicate);
-        String firstQueryString = CockroachDBVisitor.asString(select);
+        String firstQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(new CockroachDBNotOperation(predicate));
-        String secondQueryString = CockroachDBVisitor.asString(select);
+        String secondQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(new CockroachDBUnaryPostfixOperation(predicate, CockroachDBUnaryPostfixOperator.IS_NULL));
-        String thirdQueryString = CockroachDBVisitor.asString(select);
+        String thirdQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
                 secondQueryString, thirdQueryString, combinedString, true, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 }
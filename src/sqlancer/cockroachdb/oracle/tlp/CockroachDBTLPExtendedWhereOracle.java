@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBVisitor;
@@ -30,26 +30,27 @@ public class CockroachDBTLPExtendedWhereOracle extends CockroachDBTLPBase {
     public void check() throws SQLException {
         super.check();
         originalPredicate = generatePredicate();
+        renderCache.add(originalPredicate);
         select.setWhereClause(originalPredicate);
-        String originalQueryString = CockroachDBVisitor.asString(select);
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        String originalQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
-        boolean allowOrderBy = Randomly.getBoolean();
+        boolean allowOrderBy = state.getRandomly().getBoolean();
         if (allowOrderBy) {
             select.setOrderByExpressions(gen.getOrderingTerms());
         }
         select.setWhereClause(combinePredicate(predicate));
-        String firstQueryString = CockroachDBVisitor.asString(select);
+        String firstQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(combinePredicate(new CockroachDBNotOperation(predicate)));
-        String secondQueryString = CockroachDBVisitor.asString(select);
+        String secondQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(combinePredicate(
                 new CockroachDBUnaryPostfixOperation(predicate, CockroachDBUnaryPostfixOperator.IS_NULL)));
-        String thirdQueryString = CockroachDBVisitor.asString(select);
+        String thirdQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !allowOrderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !allowOrderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     public CockroachDBExpression combinePredicate(CockroachDBExpression expr) {
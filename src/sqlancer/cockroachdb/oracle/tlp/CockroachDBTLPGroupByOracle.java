@@ -6,7 +6,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBVisitor;
 import sqlancer.cockroachdb.ast.CockroachDBColumnReference;
@@ -23,27 +23,28 @@ public class CockroachDBTLPGroupByOracle extends CockroachDBTLPBase {
         super.check();
         select.setGroupByExpressions(select.getFetchColumns());
         select.setWhereClause(null);
-        String originalQueryString = CockroachDBVisitor.asString(select);
+        String originalQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         select.setWhereClause(predicate);
-        String firstQueryString = CockroachDBVisitor.asString(select);
+        String firstQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = CockroachDBVisitor.asString(select);
+        String secondQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = CockroachDBVisitor.asString(select);
+        String thirdQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
                 secondQueryString, thirdQueryString, combinedString, true, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     @Override
     List<CockroachDBExpression> generateFetchColumns() {
         List<CockroachDBExpression> columns = new ArrayList<>();
-        columns = Randomly.nonEmptySubset(targetTables.getColumns().stream().map(c -> new CockroachDBColumnReference(c))
+        columns = state.getRandomly()
+                .nonEmptySubset(targetTables.getColumns().stream().map(c -> new CockroachDBColumnReference(c))
                 .collect(Collectors.toList()));
         return columns;
     }
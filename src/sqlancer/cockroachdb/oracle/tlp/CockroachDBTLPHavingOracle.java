@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBDataType;
 import sqlancer.cockroachdb.CockroachDBVisitor;
@@ -21,29 +21,31 @@ public class CockroachDBTLPHavingOracle extends CockroachDBTLPBase {
     @Override
     public void check() throws SQLException {
         super.check();
-        if (Randomly.getBoolean()) {
-            select.setWhereClause(gen.generateExpression(CockroachDBDataType.BOOL.get()));
+        if (state.getRandomly().getBoolean()) {
+            select.setWhereClause(gen.generateExpression(CockroachDBDataType.BOOL.get(state.getRandomly())));
         }
-        boolean orderBy = Randomly.getBoolean();
+        boolean orderBy = state.getRandomly().getBoolean();
         if (orderBy) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
-        select.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        select.setGroupByExpressions(gen.generateExpressions(state.getRandomly().smallNumber() + 1));
         select.setHavingClause(null);
-        String originalQueryString = CockroachDBVisitor.asString(select);
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        renderCache.add(select.getWhereClause());
+        renderCache.addAll(select.getGroupByExpressions());
+        String originalQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         select.setHavingClause(predicate);
-        String firstQueryString = CockroachDBVisitor.asString(select);
+        String firstQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setHavingClause(negatedPredicate);
-        String secondQueryString = CockroachDBVisitor.asString(select);
+        String secondQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setHavingClause(isNullPredicate);
-        String thirdQueryString = CockroachDBVisitor.asString(select);
+        String thirdQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !orderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !orderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     @Override
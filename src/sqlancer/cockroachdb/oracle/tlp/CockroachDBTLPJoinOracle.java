@@ -3,13 +3,12 @@ package sqlancer.cockroachdb.oracle.tlp;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ExpectedErrors;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.TestOracle;
 import sqlancer.cockroachdb.CockroachDBErrors;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
@@ -29,11 +28,12 @@ import sqlancer.cockroachdb.ast.CockroachDBTableReference;
 import sqlancer.cockroachdb.ast.CockroachDBUnaryPostfixOperation;
 import sqlancer.cockroachdb.ast.CockroachDBUnaryPostfixOperation.CockroachDBUnaryPostfixOperator;
 import sqlancer.cockroachdb.gen.CockroachDBExpressionGenerator;
+import sqlancer.visitor.RenderCache;
 
 public class CockroachDBTLPJoinOracle implements TestOracle {
 
     final CockroachDBGlobalState state;
-    final Set<String> errors = new HashSet<>();
+    final ExpectedErrors errors = new ExpectedErrors();
 
     CockroachDBSchema s;
     CockroachDBTables targetTables;
@@ -52,7 +52,7 @@ public class CockroachDBTLPJoinOracle implements TestOracle {
     @Override
     public void check() throws SQLException {
         s = state.getSchema();
-        targetTables = s.getRandomTableNonEmptyTables();
+        targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new CockroachDBExpressionGenerator(state).setColumns(targetTables.getColumns());
         select = new CockroachDBSelect();
         select.setFetchColumns(generateFetchColumns());
@@ -73,17 +73,24 @@ public class CockroachDBTLPJoinOracle implements TestOracle {
         predicate = generatePredicate();
         negatedPredicate = new CockroachDBNotOperation(predicate);
         isNullPredicate = new CockroachDBUnaryPostfixOperation(predicate, CockroachDBUnaryPostfixOperator.IS_NULL);
+        RenderCache<CockroachDBExpression> renderCache = new RenderCache<>();
+        renderCache.addAll(select.getFetchColumns());
+        renderCache.addAll(tableList);
+        renderCache.add(leftTable);
+        renderCache.add(rightTable);
+        renderCache.add(predicate);
 
-        String originalQueryString1 = CockroachDBVisitor.asString(select);
+        String originalQueryString1 = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
 
         CockroachDBJoin leftJoinFalse = CockroachDBJoin.createOuterJoin(leftTable, rightTable, OuterType.LEFT,
                 CockroachDBConstant.createBooleanConstant(false));
         select.setJoinList(Arrays.asList(leftJoinFalse));
-        String originalQueryString2 = CockroachDBVisitor.asString(select);
-        String originalQueryString = originalQueryString1 + " UNION ALL " + originalQueryString2 + " UNION ALL "
-                + originalQueryString2;
+        String originalQueryString2 = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
+        // a left row for which p, NOT p, and p IS NULL each match a right row is fetched by all three partitions, so
+        // the partitions only yield the rows of the original query as a set
+        String originalQueryString = originalQueryString1 + " UNION " + originalQueryString2;
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         // boolean allowOrderBy = Randomly.getBoolean();
         // if (allowOrderBy) {
@@ -92,20 +99,20 @@ public class CockroachDBTLPJoinOracle implements TestOracle {
 
         select.setJoinList(
                 Arrays.asList(CockroachDBJoin.createOuterJoin(leftTable, rightTable, OuterType.LEFT, predicate)));
-        String firstQueryString = CockroachDBVisitor.asString(select);
+        String firstQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
 
         select.setJoinList(Arrays
                 .asList(CockroachDBJoin.createOuterJoin(leftTable, rightTable, OuterType.LEFT, negatedPredicate)));
-        String secondQueryString = CockroachDBVisitor.asString(select);
+        String secondQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
 
         select.setJoinList(
                 Arrays.asList(CockroachDBJoin.createOuterJoin(leftTable, rightTable, OuterType.LEFT, isNullPredicate)));
-        String thirdQueryString = CockroachDBVisitor.asString(select);
+        String thirdQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, Randomly.getBoolean(), state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, state.getRandomly().getBoolean(), state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     List<CockroachDBExpression> generateFetchColumns() {
@@ -113,7 +120,7 @@ public class CockroachDBTLPJoinOracle implements TestOracle {
     }
 
     CockroachDBExpression generatePredicate() {
-        return gen.generateExpression(CockroachDBDataType.BOOL.get());
+        return gen.generateExpression(CockroachDBDataType.BOOL.get(state.getRandomly()));
     }
 
 }
@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.cockroachdb.CockroachDBProvider.CockroachDBGlobalState;
 import sqlancer.cockroachdb.CockroachDBSchema.CockroachDBDataType;
 import sqlancer.cockroachdb.CockroachDBVisitor;
@@ -24,25 +24,26 @@ public class CockroachDBTLPWhereOracle extends CockroachDBTLPBase {
     @Override
     public void check() throws SQLException {
         super.check();
-        String originalQueryString = CockroachDBVisitor.asString(select);
+        String originalQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
-        boolean allowOrderBy = Randomly.getBoolean();
+        boolean allowOrderBy = state.getRandomly().getBoolean();
         if (allowOrderBy) {
             select.setOrderByExpressions(gen.getOrderingTerms());
         }
-        CockroachDBExpression predicate = gen.generateExpression(CockroachDBDataType.BOOL.get());
+        CockroachDBExpression predicate = gen.generateExpression(CockroachDBDataType.BOOL.get(state.getRandomly()));
+        renderCache.add(predicate);
         select.setWhereClause(predicate);
-        String firstQueryString = CockroachDBVisitor.asString(select);
+        String firstQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(new CockroachDBNotOperation(predicate));
-        String secondQueryString = CockroachDBVisitor.asString(select);
+        String secondQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(new CockroachDBUnaryPostfixOperation(predicate, CockroachDBUnaryPostfixOperator.IS_NULL));
-        String thirdQueryString = CockroachDBVisitor.asString(select);
+        String thirdQueryString = CockroachDBVisitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !allowOrderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !allowOrderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 }
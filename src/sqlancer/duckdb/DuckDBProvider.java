@@ -1,27 +1,35 @@
 package sqlancer.duckdb;
 
-import java.io.IOException;
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import sqlancer.AbstractAction;
 import sqlancer.CompositeTestOracle;
 import sqlancer.GlobalState;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.QueryManager;
 import sqlancer.Main.StateLogger;
+import sqlancer.ParallelOracleExecutor;
 import sqlancer.ProviderAdapter;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
 import sqlancer.QueryProvider;
 import sqlancer.Randomly;
+import sqlancer.StateToReproduce;
 import sqlancer.StatementExecutor;
 import sqlancer.TestOracle;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
+import sqlancer.duckdb.DuckDBSchema.DuckDBColumn;
+import sqlancer.duckdb.DuckDBSchema.DuckDBTable;
+import sqlancer.duckdb.gen.DuckDBBulkLoader;
 import sqlancer.duckdb.gen.DuckDBDeleteGenerator;
 import sqlancer.duckdb.gen.DuckDBIndexGenerator;
 import sqlancer.duckdb.gen.DuckDBInsertGenerator;
@@ -29,9 +37,13 @@ import sqlancer.duckdb.gen.DuckDBRandomQuerySynthesizer;
 import sqlancer.duckdb.gen.DuckDBTableGenerator;
 import sqlancer.duckdb.gen.DuckDBUpdateGenerator;
 import sqlancer.duckdb.gen.DuckDBViewGenerator;
+import sqlancer.schema.IncrementalSchemaUpdater;
 
 public class DuckDBProvider extends ProviderAdapter<DuckDBGlobalState, DuckDBOptions> {
 
+    // the missing DuckDBConnection.duplicate() method is reported only once rather than for each database
+    private static final AtomicBoolean WARNED_ABOUT_MISSING_DUPLICATE = new AtomicBoolean();
+
     public DuckDBProvider() {
         super(DuckDBGlobalState.class, DuckDBOptions.class);
     }
@@ -50,8 +62,8 @@ public class DuckDBProvider extends ProviderAdapter<DuckDBGlobalState, DuckDBOpt
             DuckDBErrors.addExpressionErrors(errors);
             DuckDBErrors.addGroupByErrors(errors);
             return new QueryAdapter(
-                    "EXPLAIN " + DuckDBToStringVisitor
-                            .asString(DuckDBRandomQuerySynthesizer.generateSelect(g, Randomly.smallNumber() + 1)),
+                    "EXPLAIN " + DuckDBToStringVisitor.asString(
+                            DuckDBRandomQuerySynthesizer.generateSelect(g, g.getRandomly().smallNumber() + 1)),
                     errors);
         });
 
@@ -110,11 +122,14 @@ public class DuckDBProvider extends ProviderAdapter<DuckDBGlobalState, DuckDBOpt
     public void generateAndTestDatabase(DuckDBGlobalState globalState) throws SQLException {
         StateLogger logger = globalState.getLogger();
         QueryManager manager = globalState.getManager();
-        globalState.setSchema(DuckDBSchema.fromConnection(globalState.getConnection(), globalState.getDatabaseName()));
+        IncrementalSchemaUpdater<DuckDBSchema> schemaUpdater = new IncrementalSchemaUpdater<>(
+                () -> DuckDBSchema.fromConnection(globalState.getConnection(), globalState.getDatabaseName()),
+                globalState.getOptions().useIncrementalSchema(), globalState.getOptions().verifyIncrementalSchema());
+        globalState.setSchema(schemaUpdater.loadSchema());
         if (globalState.getOptions().logEachSelect()) {
             globalState.getLogger().writeCurrent(globalState.getState());
         }
-        for (int i = 0; i < Randomly.fromOptions(1, 2); i++) {
+        for (int i = 0; i < globalState.getRandomly().fromOptions(1, 2); i++) {
             boolean success = false;
             do {
                 Query qt = new DuckDBTableGenerator().getQuery(globalState);
@@ -122,52 +137,91 @@ public class DuckDBProvider extends ProviderAdapter<DuckDBGlobalState, DuckDBOpt
                     globalState.getLogger().writeCurrent(qt.getQueryString());
                 }
                 success = manager.execute(qt);
-                globalState.setSchema(
-                        DuckDBSchema.fromConnection(globalState.getConnection(), globalState.getDatabaseName()));
+                globalState.setSchema(schemaUpdater.getUpdatedSchema(qt, globalState.getSchema()));
             } while (!success);
         }
         if (globalState.getSchema().getDatabaseTables().size() == 0) {
-            throw new IgnoreMeException(); // TODO
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT); // TODO
+        }
+        if (globalState.getOptions().getNrBulkLoadRows() != 0) {
+            // the tables are created before any view, so there are no views yet
+            for (DuckDBTable table : globalState.getSchema().getDatabaseTables()) {
+                List<DuckDBColumn> columns = table.getColumns().stream().filter(c -> !c.getName().equals("rowid"))
+                        .collect(Collectors.toList());
+                new DuckDBBulkLoader(globalState).load(table.getName(), columns,
+                        globalState.getOptions().getNrBulkLoadRows());
+            }
         }
         StatementExecutor<DuckDBGlobalState, Action> se = new StatementExecutor<>(globalState, Action.values(),
                 DuckDBProvider::mapActions, (q) -> {
                     if (q.couldAffectSchema()) {
-                        globalState.setSchema(DuckDBSchema.fromConnection(globalState.getConnection(),
-                                globalState.getDatabaseName()));
+                        globalState.setSchema(schemaUpdater.getUpdatedSchema(q, globalState.getSchema()));
                     }
                     if (globalState.getSchema().getDatabaseTables().isEmpty()) {
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                     }
                 });
         se.executeStatements();
         manager.incrementCreateDatabase();
 
-        TestOracle oracle = new CompositeTestOracle(globalState.getDmbsSpecificOptions().oracle.stream().map(o -> {
+        TestOracle oracle = createOracle(globalState);
+
+        Method duplicate = getDuplicateMethod(globalState);
+        ParallelOracleExecutor.executeChecks(globalState, oracle,
+                duplicate == null ? null : (g, seed) -> createWorker(g, duplicate, seed),
+                DuckDBProvider::createOracle);
+        logger.closeCurrentFile();
+        globalState.getConnection().close();
+    }
+
+    private static TestOracle createOracle(DuckDBGlobalState globalState) {
+        return new CompositeTestOracle(globalState.getDmbsSpecificOptions().oracle.stream().map(o -> {
             try {
                 return o.create(globalState);
             } catch (SQLException e1) {
                 throw new AssertionError(e1);
             }
         }).collect(Collectors.toList()));
+    }
 
-        for (int i = 0; i < globalState.getOptions().getNrQueries(); i++) {
-            try {
-                oracle.check();
-                manager.incrementSelectQueryCount();
-            } catch (IgnoreMeException e) {
-
-            }
+    /**
+     * Returns the method that opens another connection to the same in-memory database, or null if there are no oracle
+     * workers (see --oracle-workers) or the driver does not provide it. It is looked up by reflection, since it is not
+     * part of the JDBC API and older versions of the DuckDB driver do not have it.
+     */
+    private static Method getDuplicateMethod(DuckDBGlobalState globalState) {
+        if (globalState.getOptions().getNrOracleWorkers() == 0) {
+            return null;
         }
         try {
-            if (globalState.getOptions().logEachSelect()) {
-                logger.getCurrentFileWriter().close();
-                logger.currentFileWriter = null;
+            return globalState.getConnection().getClass().getMethod("duplicate");
+        } catch (NoSuchMethodException e) {
+            if (!WARNED_ABOUT_MISSING_DUPLICATE.getAndSet(true)) {
+                System.err.println(String.format(
+                        "%s.duplicate() is not provided by this version of the DuckDB driver, so --oracle-workers is ignored for DuckDB and the checks are executed by the generating thread.",
+                        globalState.getConnection().getClass().getName()));
             }
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+            return null;
         }
-        globalState.getConnection().close();
+    }
+
+    /**
+     * Creates an oracle worker on another connection to the database. The workers only read the database, so rather
+     * than copying it, they share it, and each of their transactions sees a consistent snapshot of it.
+     */
+    private static DuckDBGlobalState createWorker(DuckDBGlobalState globalState, Method duplicate, long seed)
+            throws SQLException {
+        Connection con;
+        try {
+            con = (Connection) duplicate.invoke(globalState.getConnection());
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+        DuckDBGlobalState worker = new DuckDBGlobalState();
+        globalState.initializeWorker(worker, con, new Randomly(seed),
+                new StateToReproduce(globalState.getDatabaseName()));
+        worker.setSchema(globalState.getSchema());
+        return worker;
     }
 
     @Override
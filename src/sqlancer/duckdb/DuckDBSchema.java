@@ -22,8 +22,8 @@ public class DuckDBSchema extends AbstractSchema<DuckDBTable> {
 
         INT, VARCHAR, BOOLEAN, FLOAT, DATE, TIMESTAMP;
 
-        public static DuckDBDataType getRandom() {
-            return Randomly.fromOptions(values());
+        public static DuckDBDataType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
@@ -34,14 +34,25 @@ public class DuckDBSchema extends AbstractSchema<DuckDBTable> {
 
         private final int size;
 
+        // one of the equivalent names of the type (e.g., INT8 for BIGINT), or null for the first one
+        private final String name;
+
         public DuckDBCompositeDataType(DuckDBDataType dataType) {
             this.dataType = dataType;
             this.size = -1;
+            this.name = null;
         }
 
         public DuckDBCompositeDataType(DuckDBDataType dataType, int size) {
             this.dataType = dataType;
             this.size = size;
+            this.name = null;
+        }
+
+        public DuckDBCompositeDataType(DuckDBDataType dataType, int size, Randomly r) {
+            this.dataType = dataType;
+            this.size = size;
+            this.name = r.fromOptions(getNames());
         }
 
         public DuckDBDataType getPrimitiveDataType() {
@@ -55,27 +66,41 @@ public class DuckDBSchema extends AbstractSchema<DuckDBTable> {
             return size;
         }
 
-        public static DuckDBCompositeDataType getRandom() {
-            DuckDBDataType type = DuckDBDataType.getRandom();
+        public static DuckDBCompositeDataType getRandom(Randomly r) {
+            DuckDBDataType type = DuckDBDataType.getRandom(r);
             int size = -1;
             switch (type) {
             case INT:
-                size = Randomly.fromOptions(1, 2, 4, 8);
+                size = r.fromOptions(1, 2, 4, 8);
                 break;
             case FLOAT:
-                size = Randomly.fromOptions(4, 8);
+                size = r.fromOptions(4, 8);
                 break;
             case BOOLEAN:
             case VARCHAR:
             case DATE:
             case TIMESTAMP:
-                size = 0;
+                // like getColumnType(), which does not assign a size to these types
                 break;
             default:
                 throw new AssertionError(type);
             }
 
-            return new DuckDBCompositeDataType(type, size);
+            return new DuckDBCompositeDataType(type, size, r);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof DuckDBCompositeDataType)) {
+                return false;
+            }
+            DuckDBCompositeDataType other = (DuckDBCompositeDataType) obj;
+            return dataType == other.dataType && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return dataType.hashCode() + 31 * size;
         }
 
         public static DuckDBCompositeDataType getInt(int size) {
@@ -84,37 +109,41 @@ public class DuckDBSchema extends AbstractSchema<DuckDBTable> {
 
         @Override
         public String toString() {
+            return name == null ? getNames()[0] : name;
+        }
+
+        private String[] getNames() {
             switch (getPrimitiveDataType()) {
             case INT:
                 switch (size) {
                 case 8:
-                    return Randomly.fromOptions("BIGINT", "INT8");
+                    return new String[] { "BIGINT", "INT8" };
                 case 4:
-                    return Randomly.fromOptions("INTEGER", "INT", "INT4", "SIGNED");
+                    return new String[] { "INTEGER", "INT", "INT4", "SIGNED" };
                 case 2:
-                    return Randomly.fromOptions("SMALLINT", "INT2");
+                    return new String[] { "SMALLINT", "INT2" };
                 case 1:
-                    return Randomly.fromOptions("TINYINT", "INT1");
+                    return new String[] { "TINYINT", "INT1" };
                 default:
                     throw new AssertionError(size);
                 }
             case VARCHAR:
-                return "VARCHAR";
+                return new String[] { "VARCHAR" };
             case FLOAT:
                 switch (size) {
                 case 8:
-                    return Randomly.fromOptions("DOUBLE", "NUMERIC");
+                    return new String[] { "DOUBLE", "NUMERIC" };
                 case 4:
-                    return Randomly.fromOptions("REAL", "FLOAT4");
+                    return new String[] { "REAL", "FLOAT4" };
                 default:
                     throw new AssertionError(size);
                 }
             case BOOLEAN:
-                return Randomly.fromOptions("BOOLEAN", "BOOL");
+                return new String[] { "BOOLEAN", "BOOL" };
             case TIMESTAMP:
-                return Randomly.fromOptions("TIMESTAMP", "DATETIME");
+                return new String[] { "TIMESTAMP", "DATETIME" };
             case DATE:
-                return Randomly.fromOptions("DATE");
+                return new String[] { "DATE" };
             default:
                 throw new AssertionError(getPrimitiveDataType());
             }
@@ -155,8 +184,8 @@ public class DuckDBSchema extends AbstractSchema<DuckDBTable> {
         super(databaseTables);
     }
 
-    public DuckDBTables getRandomTableNonEmptyTables() {
-        return new DuckDBTables(Randomly.nonEmptySubset(getDatabaseTables()));
+    public DuckDBTables getRandomTableNonEmptyTables(Randomly r) {
+        return new DuckDBTables(r.nonEmptySubset(getDatabaseTables()));
     }
 
     private static DuckDBCompositeDataType getColumnType(String typeString) {
@@ -223,16 +252,37 @@ public class DuckDBSchema extends AbstractSchema<DuckDBTable> {
         for (String tableName : tableNames) {
             List<DuckDBColumn> databaseColumns = getTableColumns(con, tableName);
             boolean isView = tableName.startsWith("v");
-            DuckDBTable t = new DuckDBTable(tableName, databaseColumns, isView);
-            for (DuckDBColumn c : databaseColumns) {
-                c.setTable(t);
-            }
-            databaseTables.add(t);
-
+            databaseTables.add(createTable(tableName, databaseColumns, isView));
         }
         return new DuckDBSchema(databaseTables);
     }
 
+    /**
+     * Creates a table as it would be read from the database, that is, with an additional rowid column if none of its
+     * columns is a primary key.
+     */
+    public static DuckDBTable createTable(String tableName, List<DuckDBColumn> columns, boolean isView) {
+        List<DuckDBColumn> tableColumns = new ArrayList<>(columns);
+        if (tableColumns.stream().noneMatch(c -> c.isPrimaryKey())) {
+            // https://github.com/cwida/duckdb/issues/589
+            // https://github.com/cwida/duckdb/issues/588
+            // TODO: implement an option to enable/disable rowids
+            tableColumns
+                    .add(new DuckDBColumn("rowid", new DuckDBCompositeDataType(DuckDBDataType.INT, 4), false, false));
+        }
+        DuckDBTable t = new DuckDBTable(tableName, tableColumns, isView);
+        for (DuckDBColumn c : tableColumns) {
+            c.setTable(t);
+        }
+        return t;
+    }
+
+    public DuckDBSchema addTable(DuckDBTable table) {
+        List<DuckDBTable> tables = new ArrayList<>(getDatabaseTables());
+        tables.add(table);
+        return new DuckDBSchema(tables);
+    }
+
     private static List<String> getTableNames(Connection con) throws SQLException {
         List<String> tableNames = new ArrayList<>();
         try (Statement s = con.createStatement()) {
@@ -259,12 +309,6 @@ public class DuckDBSchema extends AbstractSchema<DuckDBTable> {
                 }
             }
         }
-        if (columns.stream().noneMatch(c -> c.isPrimaryKey())) {
-            // https://github.com/cwida/duckdb/issues/589
-            // https://github.com/cwida/duckdb/issues/588
-            // TODO: implement an option to enable/disable rowids
-            columns.add(new DuckDBColumn("rowid", new DuckDBCompositeDataType(DuckDBDataType.INT, 4), false, false));
-        }
         return columns;
     }
 
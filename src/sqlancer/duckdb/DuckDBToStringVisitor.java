@@ -6,6 +6,7 @@ import sqlancer.duckdb.ast.DuckDBConstant;
 import sqlancer.duckdb.ast.DuckDBExpression;
 import sqlancer.duckdb.ast.DuckDBJoin;
 import sqlancer.duckdb.ast.DuckDBSelect;
+import sqlancer.visitor.RenderCache;
 
 public class DuckDBToStringVisitor extends NewToStringVisitor<DuckDBExpression> {
 
@@ -83,9 +84,18 @@ public class DuckDBToStringVisitor extends NewToStringVisitor<DuckDBExpression>
     }
 
     public static String asString(Node<DuckDBExpression> expr) {
+        return asString(expr, null);
+    }
+
+    public static String asString(Node<DuckDBExpression> expr, RenderCache<Node<DuckDBExpression>> renderCache) {
         DuckDBToStringVisitor visitor = new DuckDBToStringVisitor();
-        visitor.visit(expr);
-        return visitor.get();
+        visitor.setRenderCache(renderCache);
+        try {
+            visitor.visit(expr);
+            return visitor.get();
+        } finally {
+            visitor.release();
+        }
     }
 
 }
@@ -22,16 +22,16 @@ public class DuckDBJoin implements Node<DuckDBExpression> {
     public enum JoinType {
         INNER, NATURAL, LEFT, RIGHT;
 
-        public static JoinType getRandom() {
-            return Randomly.fromOptions(values());
+        public static JoinType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
     public enum OuterType {
         FULL, LEFT, RIGHT;
 
-        public static OuterType getRandom() {
-            return Randomly.fromOptions(values());
+        public static OuterType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
@@ -71,18 +71,19 @@ public class DuckDBJoin implements Node<DuckDBExpression> {
     public static List<Node<DuckDBExpression>> getJoins(
             List<TableReferenceNode<DuckDBExpression, DuckDBTable>> tableList, DuckDBGlobalState globalState) {
         List<Node<DuckDBExpression>> joinExpressions = new ArrayList<>();
-        while (tableList.size() >= 2 && Randomly.getBooleanWithRatherLowProbability()) {
+        while (tableList.size() >= 2 && globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             TableReferenceNode<DuckDBExpression, DuckDBTable> leftTable = tableList.remove(0);
             TableReferenceNode<DuckDBExpression, DuckDBTable> rightTable = tableList.remove(0);
             List<DuckDBColumn> columns = new ArrayList<>(leftTable.getTable().getColumns());
             columns.addAll(rightTable.getTable().getColumns());
             DuckDBExpressionGenerator joinGen = new DuckDBExpressionGenerator(globalState).setColumns(columns);
-            switch (DuckDBJoin.JoinType.getRandom()) {
+            switch (DuckDBJoin.JoinType.getRandom(globalState.getRandomly())) {
             case INNER:
                 joinExpressions.add(DuckDBJoin.createInnerJoin(leftTable, rightTable, joinGen.generateExpression()));
                 break;
             case NATURAL:
-                joinExpressions.add(DuckDBJoin.createNaturalJoin(leftTable, rightTable, OuterType.getRandom()));
+                joinExpressions.add(DuckDBJoin.createNaturalJoin(leftTable, rightTable,
+                        OuterType.getRandom(globalState.getRandomly())));
                 break;
             case LEFT:
                 joinExpressions
@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.duckdb.DuckDBErrors;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
 import sqlancer.duckdb.DuckDBSchema.DuckDBCompositeDataType;
@@ -26,25 +25,25 @@ public final class DuckDBAlterTableGenerator {
         errors.add(" does not have a column with name \"rowid\"");
         errors.add("Table does not contain column rowid referenced in alter statement");
         StringBuilder sb = new StringBuilder("ALTER TABLE ");
-        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         DuckDBExpressionGenerator gen = new DuckDBExpressionGenerator(globalState).setColumns(table.getColumns());
         sb.append(table.getName());
         sb.append(" ");
-        Action action = Randomly.fromOptions(Action.values());
+        Action action = globalState.getRandomly().fromOptions(Action.values());
         switch (action) {
         case ADD_COLUMN:
             sb.append("ADD COLUMN ");
-            String columnName = table.getFreeColumnName();
+            String columnName = table.getFreeColumnName(globalState.getRandomly());
             sb.append(columnName);
             sb.append(" ");
-            sb.append(DuckDBCompositeDataType.getRandom().toString());
+            sb.append(DuckDBCompositeDataType.getRandom(globalState.getRandomly()).toString());
             break;
         case ALTER_COLUMN:
             sb.append("ALTER COLUMN ");
-            sb.append(table.getRandomColumn().getName());
+            sb.append(table.getRandomColumn(globalState.getRandomly()).getName());
             sb.append(" SET DATA TYPE ");
-            sb.append(DuckDBCompositeDataType.getRandom().toString());
-            if (Randomly.getBoolean()) {
+            sb.append(DuckDBCompositeDataType.getRandom(globalState.getRandomly()).toString());
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" USING ");
                 DuckDBErrors.addExpressionErrors(errors);
                 sb.append(DuckDBToStringVisitor.asString(gen.generateExpression()));
@@ -57,7 +56,7 @@ public final class DuckDBAlterTableGenerator {
             break;
         case DROP_COLUMN:
             sb.append("DROP COLUMN ");
-            sb.append(table.getRandomColumn().getName());
+            sb.append(table.getRandomColumn(globalState.getRandomly()).getName());
             errors.add("named in key does not exist"); // TODO
             errors.add("Cannot drop this column:");
             errors.add("Cannot drop column: table only has one column remaining!");
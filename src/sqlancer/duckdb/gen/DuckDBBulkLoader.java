@@ -0,0 +1,45 @@
+package sqlancer.duckdb.gen;
+
+import sqlancer.duckdb.DuckDBErrors;
+import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
+import sqlancer.duckdb.DuckDBSchema.DuckDBColumn;
+import sqlancer.gen.AbstractBulkLoader;
+
+/**
+ * Loads rows using batched prepared statements in a transaction, since the DuckDB JDBC driver that we use does not yet
+ * provide an appender.
+ */
+public class DuckDBBulkLoader extends AbstractBulkLoader<DuckDBColumn> {
+
+    public DuckDBBulkLoader(DuckDBGlobalState globalState) {
+        super(globalState);
+        DuckDBErrors.addInsertErrors(errors);
+    }
+
+    @Override
+    protected boolean canBeNull(DuckDBColumn column) {
+        return column.isNullable();
+    }
+
+    @Override
+    protected Object getValue(DuckDBColumn column, long number) {
+        switch (column.getType().getPrimitiveDataType()) {
+        case INT:
+            return number;
+        case VARCHAR:
+            return String.valueOf(number);
+        case BOOLEAN:
+            return number % 2 == 0;
+        case FLOAT:
+            return number / 4.0;
+        case DATE:
+            return String.format("%04d-%02d-%02d", 1970 + number % 100, 1 + number % 12, 1 + number % 28);
+        case TIMESTAMP:
+            return String.format("%04d-%02d-%02d %02d:%02d:%02d", 1970 + number % 100, 1 + number % 12, 1 + number % 28,
+                    number % 24, number % 60, number / 60 % 60);
+        default:
+            throw new AssertionError(column.getType());
+        }
+    }
+
+}
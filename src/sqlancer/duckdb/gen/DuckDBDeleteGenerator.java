@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.duckdb.DuckDBErrors;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
 import sqlancer.duckdb.DuckDBSchema.DuckDBTable;
@@ -19,9 +18,9 @@ public final class DuckDBDeleteGenerator {
     public static Query generate(DuckDBGlobalState globalState) {
         StringBuilder sb = new StringBuilder("DELETE FROM ");
         Set<String> errors = new HashSet<>();
-        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
             sb.append(DuckDBToStringVisitor.asString(
                     new DuckDBExpressionGenerator(globalState).setColumns(table.getColumns()).generateExpression()));
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.ast.BinaryOperatorNode.Operator;
 import sqlancer.ast.newast.ColumnReferenceNode;
@@ -32,6 +33,7 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
     private final DuckDBGlobalState globalState;
 
     public DuckDBExpressionGenerator(DuckDBGlobalState globalState) {
+        super(globalState.getRandomly());
         this.globalState = globalState;
     }
 
@@ -42,11 +44,11 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
 
     @Override
     protected Node<DuckDBExpression> generateExpression(int depth) {
-        if (depth >= globalState.getOptions().getMaxExpressionDepth() || Randomly.getBoolean()) {
+        if (depth >= globalState.getOptions().getMaxExpressionDepth() || globalState.getRandomly().getBoolean()) {
             return generateLeafNode();
         }
-        if (allowAggregates && Randomly.getBoolean()) {
-            DuckDBAggregateFunction aggregate = DuckDBAggregateFunction.getRandom();
+        if (allowAggregates && globalState.getRandomly().getBoolean()) {
+            DuckDBAggregateFunction aggregate = DuckDBAggregateFunction.getRandom(r);
             allowAggregates = false;
             return new NewFunctionNode<>(generateExpressions(depth + 1, aggregate.getNrArgs()), aggregate);
         }
@@ -75,41 +77,43 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
         if (!globalState.getDmbsSpecificOptions().testBinaryLogicals) {
             possibleOptions.remove(Expression.BINARY_LOGICAL);
         }
-        Expression expr = Randomly.fromList(possibleOptions);
+        Expression expr = globalState.getRandomly().fromList(possibleOptions);
         switch (expr) {
         case COLLATE:
             return new NewUnaryPostfixOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
-                    DuckDBCollate.getRandom());
+                    DuckDBCollate.getRandom(r));
         case UNARY_PREFIX:
             return new NewUnaryPrefixOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
-                    DuckDBUnaryPrefixOperator.getRandom());
+                    DuckDBUnaryPrefixOperator.getRandom(r));
         case UNARY_POSTFIX:
             return new NewUnaryPostfixOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
-                    DuckDBUnaryPostfixOperator.getRandom());
+                    DuckDBUnaryPostfixOperator.getRandom(r));
         case BINARY_COMPARISON:
-            Operator op = DuckDBBinaryComparisonOperator.getRandom();
+            Operator op = DuckDBBinaryComparisonOperator.getRandom(r);
             return new NewBinaryOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
                     generateExpression(depth + 1), op);
         case BINARY_LOGICAL:
-            op = DuckDBBinaryLogicalOperator.getRandom();
+            op = DuckDBBinaryLogicalOperator.getRandom(r);
             return new NewBinaryOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
                     generateExpression(depth + 1), op);
         case BINARY_ARITHMETIC:
             return new NewBinaryOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
-                    generateExpression(depth + 1), DuckDBBinaryArithmeticOperator.getRandom());
+                    generateExpression(depth + 1), DuckDBBinaryArithmeticOperator.getRandom(r));
         case CAST:
-            return new DuckDBCastOperation(generateExpression(depth + 1), DuckDBCompositeDataType.getRandom());
+            return new DuckDBCastOperation(generateExpression(depth + 1), DuckDBCompositeDataType.getRandom(r));
         case FUNC:
-            DBFunction func = DBFunction.getRandom();
-            return new NewFunctionNode<DuckDBExpression, DBFunction>(generateExpressions(func.getNrArgs()), func);
+            DBFunction func = DBFunction.getRandom(r);
+            return new NewFunctionNode<DuckDBExpression, DBFunction>(generateExpressions(func.getNrArgs(r)), func);
         case BETWEEN:
             return new NewBetweenOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
-                    generateExpression(depth + 1), generateExpression(depth + 1), Randomly.getBoolean());
+                    generateExpression(depth + 1), generateExpression(depth + 1),
+                    globalState.getRandomly().getBoolean());
         case IN:
             return new NewInOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
-                    generateExpressions(depth + 1, Randomly.smallNumber() + 1), Randomly.getBoolean());
+                    generateExpressions(depth + 1, globalState.getRandomly().smallNumber() + 1),
+                    globalState.getRandomly().getBoolean());
         case CASE:
-            int nr = Randomly.smallNumber() + 1;
+            int nr = globalState.getRandomly().smallNumber() + 1;
             return new NewCaseOperatorNode<DuckDBExpression>(generateExpression(depth + 1),
                     generateExpressions(depth + 1, nr), generateExpressions(depth + 1, nr),
                     generateExpression(depth + 1));
@@ -123,45 +127,45 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
 
     @Override
     protected Node<DuckDBExpression> generateColumn() {
-        DuckDBColumn column = Randomly.fromList(columns);
+        DuckDBColumn column = globalState.getRandomly().fromList(columns);
         return new ColumnReferenceNode<DuckDBExpression, DuckDBColumn>(column);
     }
 
     @Override
     public Node<DuckDBExpression> generateConstant() {
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
             return DuckDBConstant.createNullConstant();
         }
-        DuckDBDataType type = DuckDBDataType.getRandom();
+        DuckDBDataType type = DuckDBDataType.getRandom(r);
         switch (type) {
         case INT:
             if (!globalState.getDmbsSpecificOptions().testIntConstants) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.DISABLED_BY_OPTION);
             }
             return DuckDBConstant.createIntConstant(globalState.getRandomly().getInteger());
         case DATE:
             if (!globalState.getDmbsSpecificOptions().testDateConstants) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.DISABLED_BY_OPTION);
             }
             return DuckDBConstant.createDateConstant(globalState.getRandomly().getInteger());
         case TIMESTAMP:
             if (!globalState.getDmbsSpecificOptions().testTimestampConstants) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.DISABLED_BY_OPTION);
             }
             return DuckDBConstant.createTimestampConstant(globalState.getRandomly().getInteger());
         case VARCHAR:
             if (!globalState.getDmbsSpecificOptions().testStringConstants) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.DISABLED_BY_OPTION);
             }
             return DuckDBConstant.createStringConstant(globalState.getRandomly().getString());
         case BOOLEAN:
             if (!globalState.getDmbsSpecificOptions().testBooleanConstants) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.DISABLED_BY_OPTION);
             }
-            return DuckDBConstant.createBooleanConstant(Randomly.getBoolean());
+            return DuckDBConstant.createBooleanConstant(globalState.getRandomly().getBoolean());
         case FLOAT:
             if (!globalState.getDmbsSpecificOptions().testFloatConstants) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.DISABLED_BY_OPTION);
             }
             return DuckDBConstant.createFloatConstant(globalState.getRandomly().getDouble());
         default:
@@ -174,8 +178,8 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
         List<Node<DuckDBExpression>> expr = super.generateOrderBys();
         List<Node<DuckDBExpression>> newExpr = new ArrayList<>(expr.size());
         for (Node<DuckDBExpression> curExpr : expr) {
-            if (Randomly.getBoolean()) {
-                curExpr = new NewOrderingTerm<>(curExpr, Ordering.getRandom());
+            if (globalState.getRandomly().getBoolean()) {
+                curExpr = new NewOrderingTerm<>(curExpr, Ordering.getRandom(r));
             }
             newExpr.add(curExpr);
         }
@@ -206,8 +210,8 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
             this.nrArgs = nrArgs;
         }
 
-        public static DuckDBAggregateFunction getRandom() {
-            return Randomly.fromOptions(values());
+        public static DuckDBAggregateFunction getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         public int getNrArgs() {
@@ -288,13 +292,13 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
             this.isVariadic = isVariadic;
         }
 
-        public static DBFunction getRandom() {
-            return Randomly.fromOptions(values());
+        public static DBFunction getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
-        public int getNrArgs() {
+        public int getNrArgs(Randomly r) {
             if (isVariadic) {
-                return Randomly.smallNumber() + nrArgs;
+                return r.smallNumber() + nrArgs;
             } else {
                 return nrArgs;
             }
@@ -317,8 +321,8 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
             return textRepr;
         }
 
-        public static DuckDBUnaryPostfixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static DuckDBUnaryPostfixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
@@ -336,8 +340,8 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
             return "COLLATE " + textRepr;
         }
 
-        public static DuckDBCollate getRandom() {
-            return new DuckDBCollate(DuckDBTableGenerator.getRandomCollate());
+        public static DuckDBCollate getRandom(Randomly r) {
+            return new DuckDBCollate(DuckDBTableGenerator.getRandomCollate(r));
         }
 
     }
@@ -357,8 +361,8 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
             return textRepr;
         }
 
-        public static DuckDBUnaryPrefixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static DuckDBUnaryPrefixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
@@ -372,8 +376,8 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
             return toString();
         }
 
-        public static Operator getRandom() {
-            return Randomly.fromOptions(values());
+        public static Operator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
@@ -388,8 +392,8 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
             this.textRepr = textRepr;
         }
 
-        public static Operator getRandom() {
-            return Randomly.fromOptions(values());
+        public static Operator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -411,8 +415,8 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
             this.textRepr = textRepr;
         }
 
-        public static Operator getRandom() {
-            return Randomly.fromOptions(values());
+        public static Operator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -429,7 +433,7 @@ public final class DuckDBExpressionGenerator extends UntypedExpressionGenerator<
     }
 
     public Node<DuckDBExpression> generateAggregate() {
-        DuckDBAggregateFunction aggrFunc = DuckDBAggregateFunction.getRandom();
+        DuckDBAggregateFunction aggrFunc = DuckDBAggregateFunction.getRandom(r);
         return generateArgsForAggregate(aggrFunc);
     }
 
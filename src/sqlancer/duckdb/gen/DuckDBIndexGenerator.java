@@ -5,10 +5,10 @@ import java.util.List;
 import java.util.Set;
 
 import sqlancer.Query;
-import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
+import sqlancer.SchemaUpdatingQueryAdapter;
 import sqlancer.ast.newast.Node;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
+import sqlancer.duckdb.DuckDBSchema;
 import sqlancer.duckdb.DuckDBSchema.DuckDBColumn;
 import sqlancer.duckdb.DuckDBSchema.DuckDBTable;
 import sqlancer.duckdb.DuckDBToStringVisitor;
@@ -23,29 +23,29 @@ public final class DuckDBIndexGenerator {
         Set<String> errors = new HashSet<>();
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             errors.add("Cant create unique index, table contains duplicate data on indexed column(s)");
             sb.append("UNIQUE ");
         }
         sb.append("INDEX ");
-        sb.append(Randomly.fromOptions("i0", "i1", "i2", "i3", "i4")); // cannot query this information
+        sb.append(globalState.getRandomly().fromOptions("i0", "i1", "i2", "i3", "i4")); // cannot query this information
         sb.append(" ON ");
-        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         sb.append(table.getName());
         sb.append("(");
-        List<DuckDBColumn> columns = table.getRandomNonEmptyColumnSubset();
+        List<DuckDBColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         for (int i = 0; i < columns.size(); i++) {
             if (i != 0) {
                 sb.append(", ");
             }
             sb.append(columns.get(i).getName());
             sb.append(" ");
-            if (Randomly.getBooleanWithRatherLowProbability()) {
-                sb.append(Randomly.fromOptions("ASC", "DESC"));
+            if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+                sb.append(globalState.getRandomly().fromOptions("ASC", "DESC"));
             }
         }
         sb.append(")");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
             Node<DuckDBExpression> expr = new DuckDBExpressionGenerator(globalState).setColumns(table.getColumns())
                     .generateExpression();
@@ -55,7 +55,8 @@ public final class DuckDBIndexGenerator {
         if (globalState.getDmbsSpecificOptions().testRowid) {
             errors.add("Cannot create an index on the rowid!");
         }
-        return new QueryAdapter(sb.toString(), errors, true);
+        // the index names cannot be queried, so the schema does not track them
+        return new SchemaUpdatingQueryAdapter<DuckDBSchema>(sb.toString(), errors, s -> s);
     }
 
 }
@@ -5,9 +5,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import sqlancer.InsertQueryAdapter;
 import sqlancer.Query;
-import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.duckdb.DuckDBErrors;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
 import sqlancer.duckdb.DuckDBSchema.DuckDBColumn;
@@ -30,22 +29,23 @@ public class DuckDBInsertGenerator extends AbstractInsertGenerator<DuckDBColumn>
 
     private Query generate() {
         sb.append("INSERT INTO ");
-        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
-        List<DuckDBColumn> columns = table.getRandomNonEmptyColumnSubset();
+        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        List<DuckDBColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         sb.append(table.getName());
         sb.append("(");
         sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
         sb.append(")");
         sb.append(" VALUES ");
-        insertColumns(columns);
+        String prefix = sb.toString();
+        insertColumns(columns, globalState.getRandomly());
         DuckDBErrors.addInsertErrors(errors);
-        return new QueryAdapter(sb.toString(), errors);
+        return new InsertQueryAdapter(prefix, sb.substring(prefix.length()), errors);
     }
 
     @Override
     protected void insertValue(DuckDBColumn tiDBColumn) {
         // TODO: select a more meaningful value
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             sb.append("DEFAULT");
         } else {
             sb.append(DuckDBToStringVisitor.asString(new DuckDBExpressionGenerator(globalState).generateConstant()));
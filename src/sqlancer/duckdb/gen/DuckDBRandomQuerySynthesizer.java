@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
 import sqlancer.ast.newast.Node;
 import sqlancer.ast.newast.TableReferenceNode;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
@@ -21,7 +20,7 @@ public final class DuckDBRandomQuerySynthesizer {
     }
 
     public static DuckDBSelect generateSelect(DuckDBGlobalState globalState, int nrColumns) {
-        DuckDBTables targetTables = globalState.getSchema().getRandomTableNonEmptyTables();
+        DuckDBTables targetTables = globalState.getSchema().getRandomTableNonEmptyTables(globalState.getRandomly());
         DuckDBExpressionGenerator gen = new DuckDBExpressionGenerator(globalState)
                 .setColumns(targetTables.getColumns());
         DuckDBSelect select = new DuckDBSelect();
@@ -44,24 +43,25 @@ public final class DuckDBRandomQuerySynthesizer {
         List<Node<DuckDBExpression>> joins = DuckDBJoin.getJoins(tableList, globalState);
         select.setJoinList(joins.stream().collect(Collectors.toList()));
         select.setFromList(tableList.stream().collect(Collectors.toList()));
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setWhereClause(gen.generateExpression());
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
-        if (Randomly.getBoolean()) {
-            select.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        if (globalState.getRandomly().getBoolean()) {
+            select.setGroupByExpressions(gen.generateExpressions(globalState.getRandomly().smallNumber() + 1));
         }
 
-        if (Randomly.getBoolean()) {
-            select.setLimitClause(DuckDBConstant.createIntConstant(Randomly.getNotCachedInteger(0, Integer.MAX_VALUE)));
+        if (globalState.getRandomly().getBoolean()) {
+            select.setLimitClause(DuckDBConstant
+                    .createIntConstant(globalState.getRandomly().getNotCachedInteger(0, Integer.MAX_VALUE)));
         }
-        if (Randomly.getBoolean()) {
-            select.setOffsetClause(
-                    DuckDBConstant.createIntConstant(Randomly.getNotCachedInteger(0, Integer.MAX_VALUE)));
+        if (globalState.getRandomly().getBoolean()) {
+            select.setOffsetClause(DuckDBConstant
+                    .createIntConstant(globalState.getRandomly().getNotCachedInteger(0, Integer.MAX_VALUE)));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setHavingClause(gen.generateHavingClause());
         }
         return select;
@@ -7,11 +7,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import sqlancer.Query;
-import sqlancer.QueryAdapter;
 import sqlancer.Randomly;
+import sqlancer.SchemaUpdatingQueryAdapter;
 import sqlancer.ast.newast.Node;
 import sqlancer.duckdb.DuckDBErrors;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
+import sqlancer.duckdb.DuckDBSchema;
 import sqlancer.duckdb.DuckDBSchema.DuckDBColumn;
 import sqlancer.duckdb.DuckDBSchema.DuckDBCompositeDataType;
 import sqlancer.duckdb.DuckDBSchema.DuckDBDataType;
@@ -24,11 +25,12 @@ public class DuckDBTableGenerator {
     public Query getQuery(DuckDBGlobalState globalState) {
         Set<String> errors = new HashSet<>();
         StringBuilder sb = new StringBuilder();
-        String tableName = globalState.getSchema().getFreeTableName();
+        String tableName = globalState.getSchema().getFreeTableName(globalState.getRandomly());
         sb.append("CREATE TABLE ");
         sb.append(tableName);
         sb.append("(");
-        List<DuckDBColumn> columns = getNewColumns();
+        List<DuckDBColumn> columns = getNewColumns(globalState.getRandomly());
+        boolean[] notNull = new boolean[columns.size()];
         UntypedExpressionGenerator<Node<DuckDBExpression>, DuckDBColumn> gen = new DuckDBExpressionGenerator(
                 globalState).setColumns(columns);
         for (int i = 0; i < columns.size(); i++) {
@@ -38,51 +40,63 @@ public class DuckDBTableGenerator {
             sb.append(columns.get(i).getName());
             sb.append(" ");
             sb.append(columns.get(i).getType());
-            if (globalState.getDmbsSpecificOptions().testCollate && Randomly.getBooleanWithRatherLowProbability()
+            if (globalState.getDmbsSpecificOptions().testCollate
+                    && globalState.getRandomly().getBooleanWithRatherLowProbability()
                     && columns.get(i).getType().getPrimitiveDataType() == DuckDBDataType.VARCHAR) {
                 sb.append(" COLLATE ");
-                sb.append(getRandomCollate());
+                sb.append(getRandomCollate(globalState.getRandomly()));
             }
-            if (globalState.getDmbsSpecificOptions().testIndexes && Randomly.getBooleanWithRatherLowProbability()) {
+            if (globalState.getDmbsSpecificOptions().testIndexes
+                    && globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 sb.append(" UNIQUE");
             }
             if (globalState.getDmbsSpecificOptions().testNotNullConstraints
-                    && Randomly.getBooleanWithRatherLowProbability()) {
+                    && globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 sb.append(" NOT NULL");
+                notNull[i] = true;
             }
             if (globalState.getDmbsSpecificOptions().testCheckConstraints
-                    && Randomly.getBooleanWithRatherLowProbability()) {
+                    && globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                 sb.append(" CHECK(");
                 sb.append(DuckDBToStringVisitor.asString(gen.generateExpression()));
                 DuckDBErrors.addExpressionErrors(errors);
                 sb.append(")");
             }
-            if (Randomly.getBoolean() && globalState.getDmbsSpecificOptions().testDefaultValues) {
+            if (globalState.getRandomly().getBoolean() && globalState.getDmbsSpecificOptions().testDefaultValues) {
                 sb.append(" DEFAULT(");
                 sb.append(DuckDBToStringVisitor.asString(gen.generateConstant()));
                 sb.append(")");
             }
         }
-        if (globalState.getDmbsSpecificOptions().testIndexes && Randomly.getBoolean()) {
+        List<DuckDBColumn> primaryKeyColumns = new ArrayList<>();
+        if (globalState.getDmbsSpecificOptions().testIndexes && globalState.getRandomly().getBoolean()) {
             errors.add("Invalid type for index");
-            List<DuckDBColumn> primaryKeyColumns = Randomly.nonEmptySubset(columns);
+            primaryKeyColumns = globalState.getRandomly().nonEmptySubset(columns);
             sb.append(", PRIMARY KEY(");
             sb.append(primaryKeyColumns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(")");
         }
         sb.append(")");
-        return new QueryAdapter(sb.toString(), errors, true);
+        List<DuckDBColumn> tableColumns = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            DuckDBColumn c = columns.get(i);
+            // compare by name, since DuckDBColumn.equals() requires the column's table to be set
+            boolean isPrimaryKey = primaryKeyColumns.stream().anyMatch(pk -> pk.getName().equals(c.getName()));
+            tableColumns.add(new DuckDBColumn(c.getName(), c.getType(), isPrimaryKey, !notNull[i] && !isPrimaryKey));
+        }
+        return new SchemaUpdatingQueryAdapter<DuckDBSchema>(sb.toString(), errors,
+                s -> s.addTable(DuckDBSchema.createTable(tableName, tableColumns, false)));
     }
 
-    public static String getRandomCollate() {
-        return Randomly.fromOptions("NOCASE", "NOACCENT", "NOACCENT.NOCASE", "C", "POSIX");
+    public static String getRandomCollate(Randomly r) {
+        return r.fromOptions("NOCASE", "NOACCENT", "NOACCENT.NOCASE", "C", "POSIX");
     }
 
-    private static List<DuckDBColumn> getNewColumns() {
+    private static List<DuckDBColumn> getNewColumns(Randomly r) {
         List<DuckDBColumn> columns = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < r.smallNumber() + 1; i++) {
             String columnName = String.format("c%d", i);
-            DuckDBCompositeDataType columnType = DuckDBCompositeDataType.getRandom();
+            DuckDBCompositeDataType columnType = DuckDBCompositeDataType.getRandom(r);
             columns.add(new DuckDBColumn(columnName, columnType, false, false));
         }
         return columns;
@@ -6,7 +6,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.ast.newast.Node;
 import sqlancer.duckdb.DuckDBErrors;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
@@ -23,11 +22,11 @@ public final class DuckDBUpdateGenerator {
     public static Query getQuery(DuckDBGlobalState globalState) {
         StringBuilder sb = new StringBuilder("UPDATE ");
         Set<String> errors = new HashSet<>();
-        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        DuckDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         sb.append(table.getName());
         DuckDBExpressionGenerator gen = new DuckDBExpressionGenerator(globalState).setColumns(table.getColumns());
         sb.append(" SET ");
-        List<DuckDBColumn> columns = table.getRandomNonEmptyColumnSubset();
+        List<DuckDBColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         for (int i = 0; i < columns.size(); i++) {
             if (i != 0) {
                 sb.append(", ");
@@ -35,7 +34,7 @@ public final class DuckDBUpdateGenerator {
             sb.append(columns.get(i).getName());
             sb.append("=");
             Node<DuckDBExpression> expr;
-            if (Randomly.getBooleanWithSmallProbability()) {
+            if (globalState.getRandomly().getBooleanWithSmallProbability()) {
                 expr = gen.generateExpression();
                 DuckDBErrors.addExpressionErrors(errors);
             } else {
@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.duckdb.DuckDBErrors;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
 import sqlancer.duckdb.DuckDBToStringVisitor;
@@ -16,10 +15,10 @@ public final class DuckDBViewGenerator {
     }
 
     public static Query generate(DuckDBGlobalState globalState) {
-        int nrColumns = Randomly.smallNumber() + 1;
+        int nrColumns = globalState.getRandomly().smallNumber() + 1;
         StringBuilder sb = new StringBuilder("CREATE ");
         sb.append("VIEW ");
-        sb.append(globalState.getSchema().getFreeViewName());
+        sb.append(globalState.getSchema().getFreeViewName(globalState.getRandomly()));
         sb.append("(");
         for (int i = 0; i < nrColumns; i++) {
             if (i != 0) {
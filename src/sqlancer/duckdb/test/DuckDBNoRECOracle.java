@@ -5,17 +5,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.StateLogger;
 import sqlancer.MainOptions;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.TestOracle;
 import sqlancer.ast.newast.ColumnReferenceNode;
 import sqlancer.ast.newast.NewPostfixTextNode;
@@ -44,7 +43,7 @@ public class DuckDBNoRECOracle implements TestOracle {
     private String secondQueryString;
     private final StateLogger logger;
     private final MainOptions options;
-    private final Set<String> errors = new HashSet<>();
+    private final ExpectedErrors errors = new ExpectedErrors();
     private final DuckDBGlobalState globalState;
 
     public DuckDBNoRECOracle(DuckDBGlobalState globalState) {
@@ -60,7 +59,7 @@ public class DuckDBNoRECOracle implements TestOracle {
     public void check() throws SQLException {
         // DuckDBCommon.addCommonExpressionErrors(errors);
         // DuckDBCommon.addCommonFetchErrors(errors);
-        DuckDBTables randomTables = s.getRandomTableNonEmptyTables();
+        DuckDBTables randomTables = s.getRandomTableNonEmptyTables(globalState.getRandomly());
         List<DuckDBColumn> columns = randomTables.getColumns();
         DuckDBExpressionGenerator gen = new DuckDBExpressionGenerator(globalState).setColumns(columns);
         Node<DuckDBExpression> randomWhereCondition = gen.generateExpression();
@@ -72,7 +71,7 @@ public class DuckDBNoRECOracle implements TestOracle {
         int firstCount = getFirstQueryCount(con, tableList.stream().collect(Collectors.toList()), columns,
                 randomWhereCondition, joins);
         if (firstCount == -1 || secondCount == -1) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.EXPECTED_ERROR);
         }
         if (firstCount != secondCount) {
             throw new AssertionError(
@@ -89,7 +88,7 @@ public class DuckDBNoRECOracle implements TestOracle {
         Node<DuckDBExpression> asText = new NewPostfixTextNode<>(new DuckDBCastOperation(
                 new NewPostfixTextNode<DuckDBExpression>(randomWhereCondition,
                         " IS NOT NULL AND " + DuckDBToStringVisitor.asString(randomWhereCondition)),
-                new DuckDBCompositeDataType(DuckDBDataType.INT, 8)), "as count");
+                new DuckDBCompositeDataType(DuckDBDataType.INT, 8, globalState.getRandomly())), "as count");
         select.setFetchColumns(Arrays.asList(asText));
         select.setFromList(tableList);
         // select.setSelectType(SelectType.ALL);
@@ -126,7 +125,7 @@ public class DuckDBNoRECOracle implements TestOracle {
         select.setFetchColumns(allColumns);
         select.setFromList(tableList);
         select.setWhereClause(randomWhereCondition);
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
             select.setOrderByExpressions(
                     new DuckDBExpressionGenerator(globalState).setColumns(columns).generateOrderBys());
         }
@@ -144,7 +143,7 @@ public class DuckDBNoRECOracle implements TestOracle {
                 }
             }
         } catch (SQLException e) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.EXPECTED_ERROR);
         }
         return firstCount;
     }
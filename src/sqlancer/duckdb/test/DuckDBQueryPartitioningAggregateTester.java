@@ -8,8 +8,8 @@ import java.util.List;
 
 import sqlancer.ComparatorHelper;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.TestOracle;
 import sqlancer.ast.newast.NewAliasNode;
 import sqlancer.ast.newast.NewBinaryOperatorNode;
@@ -45,18 +45,18 @@ public class DuckDBQueryPartitioningAggregateTester extends DuckDBQueryPartition
     @Override
     public void check() throws SQLException {
         super.check();
-        DuckDBAggregateFunction aggregateFunction = Randomly.fromOptions(DuckDBAggregateFunction.MAX,
+        DuckDBAggregateFunction aggregateFunction = state.getRandomly().fromOptions(DuckDBAggregateFunction.MAX,
                 DuckDBAggregateFunction.MIN, DuckDBAggregateFunction.SUM, DuckDBAggregateFunction.COUNT,
                 DuckDBAggregateFunction.AVG/* , DuckDBAggregateFunction.STDDEV_POP */);
         NewFunctionNode<DuckDBExpression, DuckDBAggregateFunction> aggregate = gen
                 .generateArgsForAggregate(aggregateFunction);
         List<Node<DuckDBExpression>> fetchColumns = new ArrayList<>();
         fetchColumns.add(aggregate);
-        while (Randomly.getBooleanWithRatherLowProbability()) {
+        while (state.getRandomly().getBooleanWithRatherLowProbability()) {
             fetchColumns.add(gen.generateAggregate());
         }
         select.setFetchColumns(Arrays.asList(aggregate));
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (state.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
         originalQuery = DuckDBToStringVisitor.asString(select);
@@ -70,7 +70,7 @@ public class DuckDBQueryPartitioningAggregateTester extends DuckDBQueryPartition
                 || firstResult != null && (!firstResult.contentEquals(secondResult)
                         && !ComparatorHelper.isEqualDouble(firstResult, secondResult))) {
             if (secondResult.contains("Inf")) {
-                throw new IgnoreMeException(); // FIXME: average computation
+                throw new IgnoreMeException(Reason.UNSUPPORTED); // FIXME: average computation
             }
             throw new AssertionError();
         }
@@ -102,7 +102,7 @@ public class DuckDBQueryPartitioningAggregateTester extends DuckDBQueryPartition
         QueryAdapter q = new QueryAdapter(queryString, errors);
         try (ResultSet result = q.executeAndGet(state)) {
             if (result == null) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
             if (!result.next()) {
                 resultString = null;
@@ -114,7 +114,7 @@ public class DuckDBQueryPartitioningAggregateTester extends DuckDBQueryPartition
             if (!e.getMessage().contains("Not implemented type")) {
                 throw new AssertionError(queryString, e);
             } else {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
         }
     }
@@ -179,8 +179,8 @@ public class DuckDBQueryPartitioningAggregateTester extends DuckDBQueryPartition
         leftSelect.setFromList(from);
         leftSelect.setWhereClause(whereClause);
         leftSelect.setJoinList(joinList);
-        if (Randomly.getBooleanWithSmallProbability()) {
-            leftSelect.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        if (state.getRandomly().getBooleanWithSmallProbability()) {
+            leftSelect.setGroupByExpressions(gen.generateExpressions(state.getRandomly().smallNumber() + 1));
         }
         return leftSelect;
     }
@@ -2,12 +2,10 @@ package sqlancer.duckdb.test;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
+import sqlancer.ExpectedErrors;
 import sqlancer.TestOracle;
 import sqlancer.ast.newast.ColumnReferenceNode;
 import sqlancer.ast.newast.NewUnaryPostfixOperatorNode;
@@ -26,11 +24,12 @@ import sqlancer.duckdb.ast.DuckDBSelect;
 import sqlancer.duckdb.gen.DuckDBExpressionGenerator;
 import sqlancer.duckdb.gen.DuckDBExpressionGenerator.DuckDBUnaryPostfixOperator;
 import sqlancer.duckdb.gen.DuckDBExpressionGenerator.DuckDBUnaryPrefixOperator;
+import sqlancer.visitor.RenderCache;
 
 public class DuckDBQueryPartitioningBase implements TestOracle {
 
     final DuckDBGlobalState state;
-    final Set<String> errors = new HashSet<>();
+    final ExpectedErrors errors = new ExpectedErrors();
 
     DuckDBSchema s;
     DuckDBTables targetTables;
@@ -39,6 +38,7 @@ public class DuckDBQueryPartitioningBase implements TestOracle {
     Node<DuckDBExpression> predicate;
     Node<DuckDBExpression> negatedPredicate;
     Node<DuckDBExpression> isNullPredicate;
+    RenderCache<Node<DuckDBExpression>> renderCache;
 
     public DuckDBQueryPartitioningBase(DuckDBGlobalState state) {
         this.state = state;
@@ -48,7 +48,7 @@ public class DuckDBQueryPartitioningBase implements TestOracle {
     @Override
     public void check() throws SQLException {
         s = state.getSchema();
-        targetTables = s.getRandomTableNonEmptyTables();
+        targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new DuckDBExpressionGenerator(state).setColumns(targetTables.getColumns());
         select = new DuckDBSelect();
         select.setFetchColumns(generateFetchColumns());
@@ -62,14 +62,19 @@ public class DuckDBQueryPartitioningBase implements TestOracle {
         predicate = generatePredicate();
         negatedPredicate = new NewUnaryPrefixOperatorNode<>(predicate, DuckDBUnaryPrefixOperator.NOT);
         isNullPredicate = new NewUnaryPostfixOperatorNode<>(predicate, DuckDBUnaryPostfixOperator.IS_NULL);
+        renderCache = new RenderCache<>();
+        renderCache.addAll(select.getFetchColumns());
+        renderCache.addAll(tableList);
+        renderCache.addAll(joins);
+        renderCache.add(predicate);
     }
 
     List<Node<DuckDBExpression>> generateFetchColumns() {
         List<Node<DuckDBExpression>> columns = new ArrayList<>();
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             columns.add(new ColumnReferenceNode<>(new DuckDBColumn("*", null, false, false)));
         } else {
-            columns = Randomly.nonEmptySubset(targetTables.getColumns()).stream()
+            columns = state.getRandomly().nonEmptySubset(targetTables.getColumns()).stream()
                     .map(c -> new ColumnReferenceNode<DuckDBExpression, DuckDBColumn>(c)).collect(Collectors.toList());
         }
         return columns;
@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.duckdb.DuckDBErrors;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
 import sqlancer.duckdb.DuckDBToStringVisitor;
@@ -22,23 +22,23 @@ public class DuckDBQueryPartitioningDistinctTester extends DuckDBQueryPartitioni
         super.check();
         select.setDistinct(true);
         select.setWhereClause(null);
-        String originalQueryString = DuckDBToStringVisitor.asString(select);
+        String originalQueryString = DuckDBToStringVisitor.asString(select, renderCache);
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
-        if (Randomly.getBoolean()) {
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
+        if (state.getRandomly().getBoolean()) {
             select.setDistinct(false);
         }
         select.setWhereClause(predicate);
-        String firstQueryString = DuckDBToStringVisitor.asString(select);
+        String firstQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = DuckDBToStringVisitor.asString(select);
+        String secondQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = DuckDBToStringVisitor.asString(select);
+        String thirdQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
                 secondQueryString, thirdQueryString, combinedString, true, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
 }
@@ -6,7 +6,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.ast.newast.ColumnReferenceNode;
 import sqlancer.ast.newast.Node;
 import sqlancer.duckdb.DuckDBErrors;
@@ -27,27 +27,27 @@ public class DuckDBQueryPartitioningGroupByTester extends DuckDBQueryPartitionin
         super.check();
         select.setGroupByExpressions(select.getFetchColumns());
         select.setWhereClause(null);
-        String originalQueryString = DuckDBToStringVisitor.asString(select);
+        String originalQueryString = DuckDBToStringVisitor.asString(select, renderCache);
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         select.setWhereClause(predicate);
-        String firstQueryString = DuckDBToStringVisitor.asString(select);
+        String firstQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = DuckDBToStringVisitor.asString(select);
+        String secondQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = DuckDBToStringVisitor.asString(select);
+        String thirdQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
                 secondQueryString, thirdQueryString, combinedString, true, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     @Override
     List<Node<DuckDBExpression>> generateFetchColumns() {
         List<Node<DuckDBExpression>> columns = new ArrayList<>();
-        columns = Randomly.nonEmptySubset(targetTables.getColumns()).stream()
+        columns = state.getRandomly().nonEmptySubset(targetTables.getColumns()).stream()
                 .map(c -> new ColumnReferenceNode<DuckDBExpression, DuckDBColumn>(c)).collect(Collectors.toList());
         return columns;
     }
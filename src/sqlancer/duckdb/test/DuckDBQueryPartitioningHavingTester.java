@@ -6,7 +6,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.TestOracle;
 import sqlancer.ast.newast.Node;
 import sqlancer.duckdb.DuckDBErrors;
@@ -24,29 +24,31 @@ public class DuckDBQueryPartitioningHavingTester extends DuckDBQueryPartitioning
     @Override
     public void check() throws SQLException {
         super.check();
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             select.setWhereClause(gen.generateExpression());
         }
-        boolean orderBy = Randomly.getBoolean();
+        boolean orderBy = state.getRandomly().getBoolean();
         if (orderBy) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
-        select.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        select.setGroupByExpressions(gen.generateExpressions(state.getRandomly().smallNumber() + 1));
         select.setHavingClause(null);
-        String originalQueryString = DuckDBToStringVisitor.asString(select);
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        renderCache.add(select.getWhereClause());
+        renderCache.addAll(select.getGroupByExpressions());
+        String originalQueryString = DuckDBToStringVisitor.asString(select, renderCache);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         select.setHavingClause(predicate);
-        String firstQueryString = DuckDBToStringVisitor.asString(select);
+        String firstQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         select.setHavingClause(negatedPredicate);
-        String secondQueryString = DuckDBToStringVisitor.asString(select);
+        String secondQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         select.setHavingClause(isNullPredicate);
-        String thirdQueryString = DuckDBToStringVisitor.asString(select);
+        String thirdQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !orderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !orderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     @Override
@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.duckdb.DuckDBErrors;
 import sqlancer.duckdb.DuckDBProvider.DuckDBGlobalState;
 import sqlancer.duckdb.DuckDBToStringVisitor;
@@ -21,25 +21,25 @@ public class DuckDBQueryPartitioningWhereTester extends DuckDBQueryPartitioningB
     public void check() throws SQLException {
         super.check();
         select.setWhereClause(null);
-        String originalQueryString = DuckDBToStringVisitor.asString(select);
+        String originalQueryString = DuckDBToStringVisitor.asString(select, renderCache);
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
-        boolean orderBy = Randomly.getBooleanWithRatherLowProbability();
+        boolean orderBy = state.getRandomly().getBooleanWithRatherLowProbability();
         if (orderBy) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
         select.setWhereClause(predicate);
-        String firstQueryString = DuckDBToStringVisitor.asString(select);
+        String firstQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = DuckDBToStringVisitor.asString(select);
+        String secondQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = DuckDBToStringVisitor.asString(select);
+        String thirdQueryString = DuckDBToStringVisitor.asString(select, renderCache);
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !orderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !orderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
 }
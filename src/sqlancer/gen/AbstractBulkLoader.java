@@ -0,0 +1,267 @@
+package sqlancer.gen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import sqlancer.ExpectedErrors;
+import sqlancer.GlobalState;
+import sqlancer.Main.StateLogger;
+import sqlancer.Metrics;
+import sqlancer.Query;
+import sqlancer.QueryAdapter;
+import sqlancer.RandomSource;
+import sqlancer.Randomly;
+import sqlancer.schema.AbstractTableColumn;
+
+/**
+ * Loads a large number of randomly-generated rows into a table (see --bulk-load-rows), so that the DBMS has to pick
+ * query plans for realistically-sized tables. The rows are generated and loaded chunk by chunk, so that the memory
+ * consumption does not depend on the number of rows. By default, each chunk is inserted by a batched prepared statement
+ * in a transaction; subclasses can override {@link #loadChunk} to use a DBMS-specific bulk loading mechanism. The rows
+ * of a chunk are derived from a seed, so each chunk is recorded as a statement that only keeps the seed and renders the
+ * chunk as a multi-row INSERT statement when the logs are written.
+ *
+ * @param <C>
+ *            the column type
+ */
+public abstract class AbstractBulkLoader<C extends AbstractTableColumn<?, ?>> {
+
+    private static final int CHUNK_SIZE = 10000;
+    private static final int BATCH_SIZE = 1000;
+
+    protected final GlobalState<?> globalState;
+    protected final ExpectedErrors errors = new ExpectedErrors();
+
+    /**
+     * Determines the numbers from which the values of a column are derived.
+     */
+    private enum ValueDistribution {
+        SEQUENTIAL, FEW_DISTINCT, UNIFORM
+    }
+
+    protected AbstractBulkLoader(GlobalState<?> globalState) {
+        this.globalState = globalState;
+    }
+
+    /**
+     * Converts a randomly-generated number to a value of the given column.
+     *
+     * @param column
+     *            the column
+     * @param number
+     *            the number, which is drawn from a distribution that is randomly chosen for the column
+     *
+     * @return a value that the JDBC driver can bind to the column, or null
+     */
+    protected abstract Object getValue(C column, long number);
+
+    protected boolean canBeNull(C column) {
+        return true;
+    }
+
+    /**
+     * Loads up to the given number of rows into the table. Loading stops at the first chunk that fails with an expected
+     * error, for example, because a value violates a constraint; such loads are counted (see
+     * {@link Metrics#STOPPED_BULK_LOADS}).
+     *
+     * @return the number of loaded rows
+     */
+    public long load(String tableName, List<C> columns, long nrRows) throws SQLException {
+        Randomly r = globalState.getRandomly();
+        ValueDistribution[] distributions = new ValueDistribution[columns.size()];
+        boolean[] nullable = new boolean[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            distributions[i] = r.fromOptions(ValueDistribution.values());
+            nullable[i] = canBeNull(columns.get(i)) && r.getBooleanWithRatherLowProbability();
+        }
+        for (long firstRow = 0; firstRow < nrRows; firstRow += CHUNK_SIZE) {
+            BulkInsert insert = new BulkInsert(tableName, columns, distributions, nullable, nrRows,
+                    r.getLong(Long.MIN_VALUE, Long.MAX_VALUE), firstRow, Math.min(CHUNK_SIZE, nrRows - firstRow));
+            globalState.getState().statements.add(insert);
+            globalState.getPivotRowCache().invalidateAll();
+            try {
+                loadChunk(tableName, columns, insert.generateRows());
+                Metrics.SUCCESSFUL_STATEMENTS.increment();
+                logStatement(insert, true);
+            } catch (SQLException e) {
+                Metrics.FAILED_STATEMENTS.increment();
+                logStatement(insert, false);
+                if (!ExpectedErrors.from(errors).errorIsExpected(e.getMessage())) {
+                    throw new AssertionError(insert.getQueryString(), e);
+                }
+                Metrics.STOPPED_BULK_LOADS.increment();
+                return firstRow;
+            }
+            Metrics.BULK_LOADED_ROWS.add(insert.nrRows);
+        }
+        return nrRows;
+    }
+
+    private void logStatement(BulkInsert insert, boolean success) {
+        StateLogger logger = globalState.getLogger();
+        // the INSERT statement is only rendered if the statements are logged
+        if (logger != null && logger.logsStatements()) {
+            logger.logStatement(insert.getQueryString(), success);
+        }
+    }
+
+    /**
+     * A chunk of bulk-loaded rows, which are generated from a seed whenever they are needed.
+     */
+    private final class BulkInsert extends Query {
+
+        private final String tableName;
+        private final List<C> columns;
+        private final ValueDistribution[] distributions;
+        private final boolean[] nullable;
+        private final long nrTableRows;
+        private final long seed;
+        private final long firstRow;
+        private final long nrRows;
+
+        BulkInsert(String tableName, List<C> columns, ValueDistribution[] distributions, boolean[] nullable,
+                long nrTableRows, long seed, long firstRow, long nrRows) {
+            this.tableName = tableName;
+            this.columns = columns;
+            this.distributions = distributions;
+            this.nullable = nullable;
+            this.nrTableRows = nrTableRows;
+            this.seed = seed;
+            this.firstRow = firstRow;
+            this.nrRows = nrRows;
+        }
+
+        List<Object[]> generateRows() {
+            RandomSource random = new RandomSource(seed);
+            List<Object[]> rows = new ArrayList<>((int) nrRows);
+            for (long row = firstRow; row < firstRow + nrRows; row++) {
+                Object[] values = new Object[columns.size()];
+                for (int i = 0; i < columns.size(); i++) {
+                    if (!nullable[i] || random.nextInt(10) != 0) {
+                        values[i] = getValue(columns.get(i), getNumber(random, distributions[i], row));
+                    }
+                }
+                rows.add(values);
+            }
+            return rows;
+        }
+
+        private long getNumber(RandomSource random, ValueDistribution distribution, long rowNr) {
+            switch (distribution) {
+            case SEQUENTIAL:
+                return rowNr;
+            case FEW_DISTINCT:
+                return random.nextInt(10);
+            case UNIFORM:
+                return random.nextLong(0, nrTableRows * 10);
+            default:
+                throw new AssertionError(distribution);
+            }
+        }
+
+        @Override
+        public String getQueryString() {
+            return getInsertString(tableName, columns, generateRows());
+        }
+
+        @Override
+        public boolean couldAffectSchema() {
+            return false;
+        }
+
+        @Override
+        public boolean execute(GlobalState<?> state) throws SQLException {
+            return new QueryAdapter(getQueryString(), errors).execute(state);
+        }
+
+        @Override
+        public Collection<String> getExpectedErrors() {
+            return errors;
+        }
+
+    }
+
+    private String getInsertString(String tableName, List<C> columns, List<Object[]> rows) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("INSERT INTO ");
+        sb.append(tableName);
+        sb.append("(");
+        sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
+        sb.append(") VALUES ");
+        for (int i = 0; i < rows.size(); i++) {
+            if (i != 0) {
+                sb.append(", ");
+            }
+            sb.append("(");
+            Object[] row = rows.get(i);
+            for (int j = 0; j < row.length; j++) {
+                if (j != 0) {
+                    sb.append(", ");
+                }
+                appendLiteral(sb, row[j]);
+            }
+            sb.append(")");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Appends a value returned by {@link #getValue} as an SQL literal, which the DBMS implicitly casts to the type of
+     * the column.
+     */
+    protected void appendLiteral(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("NULL");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+        } else if (value instanceof byte[]) {
+            sb.append("X'");
+            for (byte b : (byte[]) value) {
+                sb.append(String.format("%02X", b));
+            }
+            sb.append("'");
+        } else {
+            sb.append("'");
+            sb.append(value.toString().replace("'", "''"));
+            sb.append("'");
+        }
+    }
+
+    /**
+     * Inserts the rows of a chunk. Subclasses that override this method must ensure that either all or none of the rows
+     * are inserted.
+     */
+    protected void loadChunk(String tableName, List<C> columns, List<Object[]> rows) throws SQLException {
+        Connection con = globalState.getConnection();
+        String insert = String.format("INSERT INTO %s(%s) VALUES (%s)", tableName,
+                columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")),
+                columns.stream().map(c -> "?").collect(Collectors.joining(", ")));
+        boolean autoCommit = con.getAutoCommit();
+        con.setAutoCommit(false);
+        try (PreparedStatement s = con.prepareStatement(insert)) {
+            int nrBatchedRows = 0;
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    s.setObject(i + 1, row[i]);
+                }
+                s.addBatch();
+                if (++nrBatchedRows % BATCH_SIZE == 0) {
+                    s.executeBatch();
+                }
+            }
+            s.executeBatch();
+            con.commit();
+        } catch (SQLException e) {
+            con.rollback();
+            throw e;
+        } finally {
+            con.setAutoCommit(autoCommit);
+        }
+    }
+
+}
@@ -8,8 +8,8 @@ public abstract class AbstractInsertGenerator<C> {
 
     protected StringBuilder sb = new StringBuilder();
 
-    protected void insertColumns(List<C> columns) {
-        for (int nrRows = 0; nrRows < Randomly.smallNumber() + 1; nrRows++) {
+    protected void insertColumns(List<C> columns, Randomly r) {
+        for (int nrRows = 0; nrRows < r.smallNumber() + 1; nrRows++) {
             if (nrRows != 0) {
                 sb.append(", ");
             }
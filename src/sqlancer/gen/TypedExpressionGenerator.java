@@ -8,9 +8,14 @@ import sqlancer.Randomly;
 
 public abstract class TypedExpressionGenerator<E, C, T> {
 
+    protected final Randomly r;
     protected List<C> columns = Collections.emptyList();
     protected boolean allowAggregates;
 
+    protected TypedExpressionGenerator(Randomly r) {
+        this.r = r;
+    }
+
     public E generateExpression(T type) {
         return generateExpression(type, 0);
     }
@@ -32,7 +37,7 @@ public abstract class TypedExpressionGenerator<E, C, T> {
     }
 
     public E generateLeafNode(T type) {
-        if (Randomly.getBooleanWithRatherLowProbability() || !canGenerateColumnOfType(type)) {
+        if (r.getBooleanWithRatherLowProbability() || !canGenerateColumnOfType(type)) {
             return generateConstant(type);
         } else {
             return generateColumn(type);
@@ -65,7 +70,7 @@ public abstract class TypedExpressionGenerator<E, C, T> {
 
     // override this class to also generate ASC, DESC
     public List<E> generateOrderBys() {
-        return generateExpressions(Randomly.smallNumber() + 1);
+        return generateExpressions(r.smallNumber() + 1);
     }
 
     // override this class to generate aggregate functions
@@ -7,9 +7,14 @@ import sqlancer.Randomly;
 
 public abstract class UntypedExpressionGenerator<E, C> {
 
+    protected final Randomly r;
     protected List<C> columns;
     protected boolean allowAggregates;
 
+    protected UntypedExpressionGenerator(Randomly r) {
+        this.r = r;
+    }
+
     public E generateExpression() {
         return generateExpression(0);
     }
@@ -27,7 +32,7 @@ public abstract class UntypedExpressionGenerator<E, C> {
     }
 
     public E generateLeafNode() {
-        if (Randomly.getBoolean() && !columns.isEmpty()) {
+        if (r.getBoolean() && !columns.isEmpty()) {
             return generateColumn();
         } else {
             return generateConstant();
@@ -52,7 +57,7 @@ public abstract class UntypedExpressionGenerator<E, C> {
 
     // override this class to also generate ASC, DESC
     public List<E> generateOrderBys() {
-        return generateExpressions(Randomly.smallNumber() + 1);
+        return generateExpressions(r.smallNumber() + 1);
     }
 
     // override this class to generate aggregate functions
@@ -31,7 +31,6 @@ import sqlancer.sqlite3.gen.SQLite3Common;
 public class MariaDBProvider extends ProviderAdapter<MariaDBGlobalState, MariaDBOptions> {
 
     public static final int MAX_EXPRESSION_DEPTH = 3;
-    private final Randomly r = new Randomly();
     private String databaseName;
 
     public MariaDBProvider() {
@@ -54,6 +53,7 @@ public class MariaDBProvider extends ProviderAdapter<MariaDBGlobalState, MariaDB
     @Override
     public void generateAndTestDatabase(MariaDBGlobalState globalState) throws SQLException {
         this.databaseName = globalState.getDatabaseName();
+        Randomly r = globalState.getRandomly();
         MainOptions options = globalState.getOptions();
         Connection con = globalState.getConnection();
         StateLogger logger = globalState.getLogger();
@@ -65,7 +65,7 @@ public class MariaDBProvider extends ProviderAdapter<MariaDBGlobalState, MariaDB
             logger.writeCurrent(state);
         }
 
-        while (newSchema.getDatabaseTables().size() < Randomly.smallNumber() + 1) {
+        while (newSchema.getDatabaseTables().size() < globalState.getRandomly().smallNumber() + 1) {
             String tableName = SQLite3Common.createTableName(newSchema.getDatabaseTables().size());
             Query createTable = MariaDBTableGenerator.generate(tableName, r, newSchema);
             if (options.logEachSelect()) {
@@ -127,31 +127,31 @@ public class MariaDBProvider extends ProviderAdapter<MariaDBGlobalState, MariaDB
             try {
                 switch (nextAction) {
                 case CHECKSUM:
-                    query = MariaDBTableAdminCommandGenerator.checksumTable(newSchema);
+                    query = MariaDBTableAdminCommandGenerator.checksumTable(newSchema, r);
                     break;
                 case CHECK_TABLE:
-                    query = MariaDBTableAdminCommandGenerator.checkTable(newSchema);
+                    query = MariaDBTableAdminCommandGenerator.checkTable(newSchema, r);
                     break;
                 case TRUNCATE:
-                    query = MariaDBTruncateGenerator.truncate(newSchema);
+                    query = MariaDBTruncateGenerator.truncate(newSchema, r);
                     break;
                 case REPAIR_TABLE:
-                    query = MariaDBTableAdminCommandGenerator.repairTable(newSchema);
+                    query = MariaDBTableAdminCommandGenerator.repairTable(newSchema, r);
                     break;
                 case INSERT:
                     query = MariaDBInsertGenerator.insert(newSchema, r);
                     break;
                 case OPTIMIZE:
-                    query = MariaDBTableAdminCommandGenerator.optimizeTable(newSchema);
+                    query = MariaDBTableAdminCommandGenerator.optimizeTable(newSchema, r);
                     break;
                 case ANALYZE_TABLE:
-                    query = MariaDBTableAdminCommandGenerator.analyzeTable(newSchema);
+                    query = MariaDBTableAdminCommandGenerator.analyzeTable(newSchema, r);
                     break;
                 case UPDATE:
                     query = MariaDBUpdateGenerator.update(newSchema, r);
                     break;
                 case CREATE_INDEX:
-                    query = MariaDBIndexGenerator.generate(newSchema);
+                    query = MariaDBIndexGenerator.generate(newSchema, r);
                     break;
                 case SET:
                     query = MariaDBSetGenerator.set(r, options);
@@ -35,8 +35,8 @@ public class MariaDBSchema {
         public enum CollateSequence {
             NOCASE, RTRIM, BINARY;
 
-            public static CollateSequence random() {
-                return Randomly.fromOptions(values());
+            public static CollateSequence random(Randomly r) {
+                return r.fromOptions(values());
             }
         }
 
@@ -183,8 +183,8 @@ public class MariaDBSchema {
                 return Stream.of(values()).filter(engine -> engine.s.equalsIgnoreCase(val)).findFirst().get();
             }
 
-            public static MariaDBEngine getRandomEngine() {
-                return Randomly.fromOptions(MariaDBEngine.values());
+            public static MariaDBEngine getRandomEngine(Randomly r) {
+                return r.fromOptions(MariaDBEngine.values());
             }
 
         }
@@ -232,16 +232,16 @@ public class MariaDBSchema {
             return columns.stream().map(function).collect(Collectors.joining(", "));
         }
 
-        public MariaDBColumn getRandomColumn() {
-            return Randomly.fromList(columns);
+        public MariaDBColumn getRandomColumn(Randomly r) {
+            return r.fromList(columns);
         }
 
         public boolean hasIndexes() {
             return !indexes.isEmpty();
         }
 
-        public MariaDBIndex getRandomIndex() {
-            return Randomly.fromList(indexes);
+        public MariaDBIndex getRandomIndex(Randomly r) {
+            return r.fromList(indexes);
         }
 
         @Override
@@ -249,8 +249,8 @@ public class MariaDBSchema {
             return o.getName().compareTo(tableName);
         }
 
-        public List<MariaDBColumn> getRandomNonEmptyColumnSubset() {
-            return Randomly.nonEmptySubset(getColumns());
+        public List<MariaDBColumn> getRandomNonEmptyColumnSubset(Randomly r) {
+            return r.nonEmptySubset(getColumns());
         }
 
         public MariaDBEngine getEngine() {
@@ -364,20 +364,20 @@ public class MariaDBSchema {
         return sb.toString();
     }
 
-    public MariaDBTable getRandomTable() {
-        return Randomly.fromList(getDatabaseTables());
+    public MariaDBTable getRandomTable(Randomly r) {
+        return r.fromList(getDatabaseTables());
     }
 
-    public MariaDBTables getRandomTableNonEmptyTables() {
-        return new MariaDBTables(Randomly.nonEmptySubset(databaseTables));
+    public MariaDBTables getRandomTableNonEmptyTables(Randomly r) {
+        return new MariaDBTables(r.nonEmptySubset(databaseTables));
     }
 
     public List<MariaDBTable> getDatabaseTables() {
         return databaseTables;
     }
 
-    public List<MariaDBTable> getDatabaseTablesRandomSubsetNotEmpty() {
-        return Randomly.nonEmptySubset(databaseTables);
+    public List<MariaDBTable> getDatabaseTablesRandomSubsetNotEmpty(Randomly r) {
+        return r.nonEmptySubset(databaseTables);
     }
 
 }
@@ -29,8 +29,8 @@ public class MariaDBBinaryOperator extends MariaDBExpression {
             return op;
         }
 
-        public static MariaDBBinaryComparisonOperator getRandom() {
-            return Randomly.fromOptions(MariaDBBinaryComparisonOperator.values());
+        public static MariaDBBinaryComparisonOperator getRandom(Randomly r) {
+            return r.fromOptions(MariaDBBinaryComparisonOperator.values());
         }
 
     };
@@ -53,7 +53,7 @@ public enum MariaDBFunctionName {
         return functionAttributes.stream().anyMatch(p -> p == FunctionAttribute.VARIADIC);
     }
 
-    public static MariaDBFunctionName getRandom() {
-        return Randomly.fromOptions(MariaDBFunctionName.values());
+    public static MariaDBFunctionName getRandom(Randomly r) {
+        return r.fromOptions(MariaDBFunctionName.values());
     }
 }
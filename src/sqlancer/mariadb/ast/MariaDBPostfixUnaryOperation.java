@@ -25,8 +25,8 @@ public class MariaDBPostfixUnaryOperation extends MariaDBExpression {
             return textRepr;
         }
 
-        public static MariaDBPostfixUnaryOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static MariaDBPostfixUnaryOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
@@ -17,8 +17,8 @@ public class MariaDBUnaryPrefixOperation extends MariaDBExpression {
             this.textRepresentation = textRepresentation;
         }
 
-        public static MariaDBUnaryPrefixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static MariaDBUnaryPrefixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
@@ -7,10 +7,10 @@ public final class MariaDBCommon {
     private MariaDBCommon() {
     }
 
-    public static void addWaitClause(StringBuilder sb) {
-        if (Randomly.getBoolean()) {
+    public static void addWaitClause(StringBuilder sb, Randomly r) {
+        if (r.getBoolean()) {
             sb.append(" WAIT 1");
-        } else if (Randomly.getBoolean()) {
+        } else if (r.getBoolean()) {
             sb.append(" NOWAIT");
         }
     }
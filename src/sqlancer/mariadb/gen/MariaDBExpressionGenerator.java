@@ -33,12 +33,12 @@ public class MariaDBExpressionGenerator {
     }
 
     public static MariaDBConstant getRandomConstant(Randomly r) {
-        MariaDBDataType option = Randomly.fromOptions(MariaDBDataType.values());
+        MariaDBDataType option = r.fromOptions(MariaDBDataType.values());
         return getRandomConstant(r, option);
     }
 
     public static MariaDBConstant getRandomConstant(Randomly r, MariaDBDataType option) throws AssertionError {
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (r.getBooleanWithSmallProbability()) {
             return MariaDBConstant.createNullConstant();
         }
         switch (option) {
@@ -55,7 +55,7 @@ public class MariaDBExpressionGenerator {
         case VARCHAR:
             return MariaDBConstant.createTextConstant(r.getString());
         case BOOLEAN:
-            return MariaDBConstant.createBooleanConstant(Randomly.getBoolean());
+            return MariaDBConstant.createBooleanConstant(r.getBoolean());
         default:
             throw new AssertionError(option);
         }
@@ -79,8 +79,8 @@ public class MariaDBExpressionGenerator {
     }
 
     public MariaDBExpression getRandomExpression(int depth) {
-        if (depth >= MariaDBProvider.MAX_EXPRESSION_DEPTH || Randomly.getBoolean()) {
-            if (Randomly.getBoolean() || columns.isEmpty()) {
+        if (depth >= MariaDBProvider.MAX_EXPRESSION_DEPTH || r.getBoolean()) {
+            if (r.getBoolean() || columns.isEmpty()) {
                 return getRandomConstant(r);
             } else {
                 return getRandomColumn();
@@ -90,7 +90,7 @@ public class MariaDBExpressionGenerator {
         if (columns.isEmpty()) {
             expressionTypes.remove(ExpressionType.COLUMN);
         }
-        ExpressionType expressionType = Randomly.fromList(expressionTypes);
+        ExpressionType expressionType = r.fromList(expressionTypes);
         switch (expressionType) {
         case COLUMN:
             getRandomColumn();
@@ -98,19 +98,19 @@ public class MariaDBExpressionGenerator {
             return getRandomConstant(r);
         case BINARY_COMPARISON:
             return new MariaDBBinaryOperator(getRandomExpression(depth + 1), getRandomExpression(depth + 1),
-                    MariaDBBinaryComparisonOperator.getRandom());
+                    MariaDBBinaryComparisonOperator.getRandom(r));
         case UNARY_PREFIX_OPERATOR:
             return new MariaDBUnaryPrefixOperation(getRandomExpression(depth + 1),
-                    MariaDBUnaryPrefixOperator.getRandom());
+                    MariaDBUnaryPrefixOperator.getRandom(r));
         case UNARY_POSTFIX_OPERATOR:
-            return new MariaDBPostfixUnaryOperation(MariaDBPostfixUnaryOperator.getRandom(),
+            return new MariaDBPostfixUnaryOperation(MariaDBPostfixUnaryOperator.getRandom(r),
                     getRandomExpression(depth + 1));
         case FUNCTION:
-            MariaDBFunctionName func = MariaDBFunctionName.getRandom();
+            MariaDBFunctionName func = MariaDBFunctionName.getRandom(r);
             return new MariaDBFunction(func, getArgs(func, depth + 1));
         case IN:
             return new MariaDBInOperation(getRandomExpression(depth + 1), getSmallNumberRandomExpressions(depth + 1),
-                    Randomly.getBoolean());
+                    r.getBoolean());
         default:
             throw new AssertionError(expressionType);
         }
@@ -118,7 +118,7 @@ public class MariaDBExpressionGenerator {
 
     private List<MariaDBExpression> getSmallNumberRandomExpressions(int depth) {
         List<MariaDBExpression> expressions = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < r.smallNumber() + 1; i++) {
             expressions.add(getRandomExpression(depth + 1));
         }
         return expressions;
@@ -130,7 +130,7 @@ public class MariaDBExpressionGenerator {
             expressions.add(getRandomExpression(depth + 1));
         }
         if (func.isVariadic()) {
-            for (int i = 0; i < Randomly.smallNumber(); i++) {
+            for (int i = 0; i < r.smallNumber(); i++) {
                 expressions.add(getRandomExpression(depth + 1));
             }
         }
@@ -138,7 +138,7 @@ public class MariaDBExpressionGenerator {
     }
 
     private MariaDBExpression getRandomColumn() {
-        MariaDBColumn randomColumn = Randomly.fromList(columns);
+        MariaDBColumn randomColumn = r.fromList(columns);
         return new MariaDBColumnName(randomColumn);
     }
 
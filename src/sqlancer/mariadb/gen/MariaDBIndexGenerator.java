@@ -16,35 +16,35 @@ public final class MariaDBIndexGenerator {
     private MariaDBIndexGenerator() {
     }
 
-    public static Query generate(MariaDBSchema s) {
+    public static Query generate(MariaDBSchema s, Randomly r) {
         List<String> errors = new ArrayList<>();
         StringBuilder sb = new StringBuilder("CREATE ");
         errors.add("Key/Index cannot be defined on a virtual generated column");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             errors.add("Duplicate entry");
             errors.add("Key/Index cannot be defined on a virtual generated column");
             sb.append("UNIQUE ");
         }
         sb.append("INDEX ");
-        sb.append("i" + SQLite3Common.createColumnName(Randomly.smallNumber()));
-        if (Randomly.getBoolean()) {
+        sb.append("i" + SQLite3Common.createColumnName(r.smallNumber()));
+        if (r.getBoolean()) {
             sb.append(" USING ");
-            sb.append(Randomly.fromOptions("BTREE", "HASH")); // , "RTREE")
+            sb.append(r.fromOptions("BTREE", "HASH")); // , "RTREE")
         }
 
         sb.append(" ON ");
-        MariaDBTable randomTable = s.getRandomTable();
+        MariaDBTable randomTable = s.getRandomTable(r);
         sb.append(randomTable.getName());
         sb.append("(");
-        List<MariaDBColumn> columns = Randomly.nonEmptySubset(randomTable.getColumns());
+        List<MariaDBColumn> columns = r.nonEmptySubset(randomTable.getColumns());
         for (int i = 0; i < columns.size(); i++) {
             if (i != 0) {
                 sb.append(", ");
             }
             sb.append(columns.get(i).getName());
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" ");
-                sb.append(Randomly.fromOptions("ASC", "DESC"));
+                sb.append(r.fromOptions("ASC", "DESC"));
             }
         }
         sb.append(")");
@@ -17,7 +17,7 @@ public final class MariaDBInsertGenerator {
     }
 
     public static Query insert(MariaDBSchema s, Randomly r) {
-        MariaDBTable randomTable = s.getRandomTable();
+        MariaDBTable randomTable = s.getRandomTable(r);
         StringBuilder sb = new StringBuilder();
         sb.append("INSERT INTO ");
         sb.append(randomTable.getName());
@@ -26,7 +26,7 @@ public final class MariaDBInsertGenerator {
             if (i != 0) {
                 sb.append(", ");
             }
-            if (Randomly.getBooleanWithSmallProbability()) {
+            if (r.getBooleanWithSmallProbability()) {
                 sb.append(MariaDBVisitor.asString(MariaDBExpressionGenerator.getRandomConstant(r)));
             } else {
                 sb.append(MariaDBVisitor.asString(MariaDBExpressionGenerator.getRandomConstant(r,
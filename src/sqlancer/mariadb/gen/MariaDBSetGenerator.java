@@ -34,18 +34,18 @@ public class MariaDBSetGenerator {
     private enum Action {
 
         AUTOCOMMIT("autocommit", (r) -> 1, Scope.GLOBAL, Scope.SESSION), //
-        BIG_TABLES("big_tables", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION), //
-        COMPLETION_TYPE("completion_type", (r) -> Randomly.fromOptions("'NO_CHAIN'", "'CHAIN'", "'RELEASE'", 0, 1, 2),
+        BIG_TABLES("big_tables", (r) -> r.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION), //
+        COMPLETION_TYPE("completion_type", (r) -> r.fromOptions("'NO_CHAIN'", "'CHAIN'", "'RELEASE'", 0, 1, 2),
                 Scope.GLOBAL), //
         // BULK_INSERT_CACHE_SIZE("bulk_insert_buffer_size", (r) -> r.getLong(0, Long.MAX_VALUE), Scope.GLOBAL,
         // Scope.SESSION),
-        CONCURRENT_INSERT("concurrent_insert", (r) -> Randomly.fromOptions("NEVER", "AUTO", "ALWAYS", 0, 1, 2),
+        CONCURRENT_INSERT("concurrent_insert", (r) -> r.fromOptions("NEVER", "AUTO", "ALWAYS", 0, 1, 2),
                 Scope.GLOBAL),
         CTE_MAX_RECURSION_DEPTH("cte_max_recursion_depth", (r) -> r.getLong(0, 4294967295L), Scope.GLOBAL),
-        DELAY_KEY_WRITE("delay_key_write", (r) -> Randomly.fromOptions("ON", "OFF", "ALL"), Scope.GLOBAL),
+        DELAY_KEY_WRITE("delay_key_write", (r) -> r.fromOptions("ON", "OFF", "ALL"), Scope.GLOBAL),
         EQ_RANGE_INDEX_DIVE_LIMIT("eq_range_index_dive_limit", (r) -> r.getLong(0, 4294967295L), Scope.GLOBAL),
-        FLUSH("flush", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL),
-        FOREIGN_KEY_CHECKS("foreign_key_checks", (r) -> Randomly.fromOptions(1, 0), Scope.GLOBAL, Scope.SESSION),
+        FLUSH("flush", (r) -> r.fromOptions("OFF", "ON"), Scope.GLOBAL),
+        FOREIGN_KEY_CHECKS("foreign_key_checks", (r) -> r.fromOptions(1, 0), Scope.GLOBAL, Scope.SESSION),
         HOST_CACHE_SIZE("host_cache_size", (r) -> r.getLong(0, 65536), Scope.GLOBAL),
         JOIN_BUFFER_SIZE("join_buffer_size", (r) -> r.getLong(128, Long.MAX_VALUE), Scope.GLOBAL, Scope.SESSION),
         /* disabled as a workaround for https://bugs.mysql.com/bug.php?id=95987 */
@@ -66,10 +66,10 @@ public class MariaDBSetGenerator {
         // MYISAM_SORT_BUFFER_SIZE("myisam_sort_buffer_size", (r) -> r.getLong(4096, Long.MAX_VALUE), Scope.GLOBAL,
         // Scope.SESSION),
         MYISAM_STATS_METHOD("myisam_stats_method",
-                (r) -> Randomly.fromOptions("nulls_equal", "nulls_unequal", "nulls_ignored"), Scope.GLOBAL,
+                (r) -> r.fromOptions("nulls_equal", "nulls_unequal", "nulls_ignored"), Scope.GLOBAL,
                 Scope.SESSION),
-        MYISAM_USE_MMAP("myisam_use_mmap", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL),
-        OPTIMIZER_PRUNE_LEVEL("optimizer_prune_level", (r) -> Randomly.fromOptions(0, 1), Scope.GLOBAL, Scope.SESSION),
+        MYISAM_USE_MMAP("myisam_use_mmap", (r) -> r.fromOptions("OFF", "ON"), Scope.GLOBAL),
+        OPTIMIZER_PRUNE_LEVEL("optimizer_prune_level", (r) -> r.fromOptions(0, 1), Scope.GLOBAL, Scope.SESSION),
         OPTIMIZER_SEARCH_DEPTH("optimizer_search_depth", (r) -> r.getLong(0, 62), Scope.GLOBAL, Scope.SESSION),
         OPTIMIZER_SWITCH("optimizer_switch", (r) -> getOptimizerSwitchConfiguration(r), Scope.GLOBAL, Scope.SESSION),
         // PRELOAD_BUFFER_SIZE("preload_buffer_size", (r) -> r.getLong(1024, 1073741824), Scope.GLOBAL, Scope.SESSION),
@@ -91,14 +91,14 @@ public class MariaDBSetGenerator {
          * sort_buffer_size is commented out as a workaround for https://bugs.mysql.com/bug.php?id=95969
          */
         // SORT_BUFFER_SIZE("sort_buffer_size", (r) -> r.getLong(32768, Long.MAX_VALUE)),
-        SQL_AUTO_IS_NULL("sql_auto_is_null", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION),
-        SQL_BUFFER_RESULT("sql_buffer_result", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION),
-        SQL_LOG_OFF("sql_log_off", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION),
-        SQL_QUOTE_SHOW_CREATE("sql_quote_show_create", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL,
+        SQL_AUTO_IS_NULL("sql_auto_is_null", (r) -> r.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION),
+        SQL_BUFFER_RESULT("sql_buffer_result", (r) -> r.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION),
+        SQL_LOG_OFF("sql_log_off", (r) -> r.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION),
+        SQL_QUOTE_SHOW_CREATE("sql_quote_show_create", (r) -> r.fromOptions("OFF", "ON"), Scope.GLOBAL,
                 Scope.SESSION),
         // SQL_REQUIRE_PRIMARY_KEY("sql_require_primary_key", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL),
         // TMP_TABLE_SIZE("tmp_table_size", (r) -> r.getLong(1024, Long.MAX_VALUE), Scope.GLOBAL, Scope.SESSION),
-        UNIQUE_CHECKS("unique_checks", (r) -> Randomly.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION),
+        UNIQUE_CHECKS("unique_checks", (r) -> r.fromOptions("OFF", "ON"), Scope.GLOBAL, Scope.SESSION),
         // TODO: https://dev.mysql.com/doc/refman/8.0/en/switchable-optimizations.html
 
         // MariaDB-specific
@@ -141,8 +141,8 @@ public class MariaDBSetGenerator {
                                                                                                             * "duplicateweedout",
                                                                                                             */
                     "firstmatch", "loosescan", "materialization", /* "subquery_materialization_cost_based" */ };
-            List<String> optionSubset = Arrays.asList(Randomly.fromOptions(options));
-            sb.append(optionSubset.stream().map(s -> s + "=" + Randomly.fromOptions("on", "off"))
+            List<String> optionSubset = Arrays.asList(r.fromOptions(options));
+            sb.append(optionSubset.stream().map(s -> s + "=" + r.fromOptions("on", "off"))
                     .collect(Collectors.joining(",")));
             sb.append("'");
             return sb.toString();
@@ -166,9 +166,9 @@ public class MariaDBSetGenerator {
         sb.append("SET ");
         Action a;
         if (isSingleThreaded) {
-            a = Randomly.fromOptions(Action.values());
+            a = r.fromOptions(Action.values());
             Scope[] scopes = a.getScopes();
-            Scope randomScope = Randomly.fromOptions(scopes);
+            Scope randomScope = r.fromOptions(scopes);
             switch (randomScope) {
             case GLOBAL:
                 sb.append("GLOBAL");
@@ -182,7 +182,7 @@ public class MariaDBSetGenerator {
 
         } else {
             do {
-                a = Randomly.fromOptions(Action.values());
+                a = r.fromOptions(Action.values());
             } while (!a.canBeUsedInScope(Scope.SESSION));
             sb.append("SESSION");
         }
@@ -17,19 +17,19 @@ public final class MariaDBTableAdminCommandGenerator {
     private MariaDBTableAdminCommandGenerator() {
     }
 
-    public static Query checksumTable(MariaDBSchema newSchema) {
-        StringBuilder sb = addCommandAndTables(newSchema, "CHECKSUM TABLE");
-        if (Randomly.getBoolean()) {
+    public static Query checksumTable(MariaDBSchema newSchema, Randomly r) {
+        StringBuilder sb = addCommandAndTables(newSchema, "CHECKSUM TABLE", r);
+        if (r.getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("QUICK", "EXTENDED"));
+            sb.append(r.fromOptions("QUICK", "EXTENDED"));
         }
         return new QueryAdapter(sb.toString());
     }
 
-    public static Query repairTable(MariaDBSchema newSchema) {
-        StringBuilder sb = addCommandAndTables(newSchema, "REPAIR TABLE");
-        if (Randomly.getBoolean()) {
-            List<String> subset = Randomly.nonEmptySubset("QUICK", "EXTENDED"); // , "USE_FRM"
+    public static Query repairTable(MariaDBSchema newSchema, Randomly r) {
+        StringBuilder sb = addCommandAndTables(newSchema, "REPAIR TABLE", r);
+        if (r.getBoolean()) {
+            List<String> subset = r.nonEmptySubset("QUICK", "EXTENDED"); // , "USE_FRM"
             sb.append(" ");
             sb.append(subset.stream().collect(Collectors.joining(" ")));
         }
@@ -37,15 +37,15 @@ public final class MariaDBTableAdminCommandGenerator {
                 s -> s.equals("OK") || s.equals("The storage engine for the table doesn't support repair"));
     }
 
-    public static Query analyzeTable(MariaDBSchema newSchema) {
-        StringBuilder sb = addCommandAndTables(newSchema, "ANALYZE TABLE");
+    public static Query analyzeTable(MariaDBSchema newSchema, Randomly r) {
+        StringBuilder sb = addCommandAndTables(newSchema, "ANALYZE TABLE", r);
         return checkForMsgText(sb, s -> s.equals("OK") || s.equals("Table is already up to date"));
     }
 
-    public static Query checkTable(MariaDBSchema newSchema) {
-        StringBuilder sb = addCommandAndTables(newSchema, "CHECK TABLE");
-        if (Randomly.getBoolean()) {
-            List<String> subset = Randomly.nonEmptySubset("FOR UPGRADE", "QUICK", "FAST", "MEDIUM", "EXTENDED",
+    public static Query checkTable(MariaDBSchema newSchema, Randomly r) {
+        StringBuilder sb = addCommandAndTables(newSchema, "CHECK TABLE", r);
+        if (r.getBoolean()) {
+            List<String> subset = r.nonEmptySubset("FOR UPGRADE", "QUICK", "FAST", "MEDIUM", "EXTENDED",
                     "CHANGED");
             sb.append(" ");
             sb.append(subset.stream().collect(Collectors.joining(" ")));
@@ -53,9 +53,9 @@ public final class MariaDBTableAdminCommandGenerator {
         return checkForMsgText(sb, s -> s.equals("OK") || s.equals("Table is already up to date"));
     }
 
-    public static Query optimizeTable(MariaDBSchema newSchema) {
-        StringBuilder sb = addCommandAndTables(newSchema, "OPTIMIZE TABLE");
-        MariaDBCommon.addWaitClause(sb);
+    public static Query optimizeTable(MariaDBSchema newSchema, Randomly r) {
+        StringBuilder sb = addCommandAndTables(newSchema, "OPTIMIZE TABLE", r);
+        MariaDBCommon.addWaitClause(sb, r);
         return checkForMsgText(sb,
                 s -> s.equals("OK") || s.equals("Table does not support optimize, doing recreate + analyze instead")
                         || s.contentEquals("Table is already up to date"));
@@ -76,10 +76,10 @@ public final class MariaDBTableAdminCommandGenerator {
         });
     }
 
-    private static StringBuilder addCommandAndTables(MariaDBSchema newSchema, String command) {
+    private static StringBuilder addCommandAndTables(MariaDBSchema newSchema, String command, Randomly r) {
         StringBuilder sb = new StringBuilder(command);
         sb.append(" ");
-        List<MariaDBTable> tableSubset = newSchema.getDatabaseTablesRandomSubsetNotEmpty();
+        List<MariaDBTable> tableSubset = newSchema.getDatabaseTablesRandomSubsetNotEmpty(r);
         sb.append(tableSubset.stream().map(t -> t.getName()).collect(Collectors.joining(", ")));
         return sb;
     }
@@ -19,7 +19,7 @@ public class MariaDBTableGenerator {
     private final StringBuilder sb = new StringBuilder();
     private final String tableName;
     private final MariaDBSchema s;
-    private PrimaryKeyState primaryKeyState = Randomly.fromOptions(PrimaryKeyState.values());
+    private PrimaryKeyState primaryKeyState;
     private final List<String> columnNames = new ArrayList<>();
     private final Randomly r;
     private final List<String> errors = new ArrayList<>();
@@ -28,6 +28,7 @@ public class MariaDBTableGenerator {
         this.tableName = tableName;
         this.s = newSchema;
         this.r = r;
+        this.primaryKeyState = r.fromOptions(PrimaryKeyState.values());
     }
 
     public static Query generate(String tableName, Randomly r, MariaDBSchema newSchema) {
@@ -35,7 +36,7 @@ public class MariaDBTableGenerator {
     }
 
     private Query gen() {
-        if (Randomly.getBoolean() || s.getDatabaseTables().isEmpty()) {
+        if (r.getBoolean() || s.getDatabaseTables().isEmpty()) {
             newTable();
         } else {
             likeOtherTable();
@@ -50,7 +51,7 @@ public class MariaDBTableGenerator {
     private void newTable() {
         createOrReplaceTable();
         sb.append("(");
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < r.smallNumber() + 1; i++) {
             if (i != 0) {
                 sb.append(", ");
             }
@@ -58,14 +59,14 @@ public class MariaDBTableGenerator {
             columnNames.add(columnName);
             sb.append(columnName);
             sb.append(" ");
-            MariaDBDataType dataType = Randomly.fromOptions(MariaDBDataType.values());
+            MariaDBDataType dataType = r.fromOptions(MariaDBDataType.values());
             switch (dataType) {
             case INT:
-                sb.append(Randomly.fromOptions("SMALLINT", "MEDIUMINT", "INT", "BIGINT"));
+                sb.append(r.fromOptions("SMALLINT", "MEDIUMINT", "INT", "BIGINT"));
                 addSignedness();
                 break;
             case VARCHAR:
-                sb.append(Randomly.fromOptions("VARCHAR(100)", "CHAR(100)"));
+                sb.append(r.fromOptions("VARCHAR(100)", "CHAR(100)"));
                 break;
             case REAL:
                 sb.append("REAL");
@@ -78,7 +79,7 @@ public class MariaDBTableGenerator {
                 throw new AssertionError(dataType);
             }
             final boolean isGeneratedColumn;
-            if (Randomly.getBoolean() && !MariaDBBugs.bug21058) {
+            if (r.getBoolean() && !MariaDBBugs.bug21058) {
                 sb.append(" GENERATED ALWAYS AS(");
                 // TODO columns
                 sb.append(MariaDBVisitor.asString(new MariaDBExpressionGenerator(r).getRandomExpression()));
@@ -88,48 +89,48 @@ public class MariaDBTableGenerator {
                 isGeneratedColumn = false;
             }
             sb.append(" ");
-            if (Randomly.getBoolean() && !isGeneratedColumn) {
+            if (r.getBoolean() && !isGeneratedColumn) {
                 sb.append(" UNIQUE");
             }
-            if (Randomly.getBoolean() && primaryKeyState == PrimaryKeyState.COLUMN_CONSTRAINT && !isGeneratedColumn) {
+            if (r.getBoolean() && primaryKeyState == PrimaryKeyState.COLUMN_CONSTRAINT && !isGeneratedColumn) {
                 sb.append(" PRIMARY KEY");
                 primaryKeyState = PrimaryKeyState.NO_PRIMARY_KEY;
             }
-            if (Randomly.getBoolean() && !isGeneratedColumn) {
+            if (r.getBoolean() && !isGeneratedColumn) {
                 sb.append(" NOT NULL");
             }
         }
         if (primaryKeyState == PrimaryKeyState.TABLE_CONSTRAINT) {
             sb.append(", PRIMARY KEY(");
-            sb.append(Randomly.nonEmptySubset(columnNames).stream().collect(Collectors.joining(", ")));
+            sb.append(r.nonEmptySubset(columnNames).stream().collect(Collectors.joining(", ")));
             sb.append(")");
             errors.add("Primary key cannot be defined upon a generated column");
 
         }
         sb.append(")");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" engine=");
-            sb.append(MariaDBEngine.getRandomEngine().getTextRepresentation());
+            sb.append(MariaDBEngine.getRandomEngine(r).getTextRepresentation());
         }
     }
 
     private void addSignedness() {
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("SIGNED", "UNSIGNED", "ZEROFILL"));
+            sb.append(r.fromOptions("SIGNED", "UNSIGNED", "ZEROFILL"));
         }
     }
 
     private void likeOtherTable() {
         createOrReplaceTable();
         sb.append(" LIKE ");
-        sb.append(s.getRandomTable().getName());
+        sb.append(s.getRandomTable(r).getName());
     }
 
     private void createOrReplaceTable() {
         sb.append("CREATE ");
         boolean replace = false;
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append("OR REPLACE ");
             replace = true;
         }
@@ -138,7 +139,7 @@ public class MariaDBTableGenerator {
         // sb.append("TEMPORARY ");
         // }
         sb.append("TABLE ");
-        if (Randomly.getBoolean() && !replace) {
+        if (r.getBoolean() && !replace) {
             sb.append("IF NOT EXISTS ");
         }
         sb.append(tableName);
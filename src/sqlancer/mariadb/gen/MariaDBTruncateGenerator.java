@@ -2,6 +2,7 @@ package sqlancer.mariadb.gen;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
+import sqlancer.Randomly;
 import sqlancer.mariadb.MariaDBSchema;
 
 public final class MariaDBTruncateGenerator {
@@ -9,11 +10,11 @@ public final class MariaDBTruncateGenerator {
     private MariaDBTruncateGenerator() {
     }
 
-    public static Query truncate(MariaDBSchema s) {
+    public static Query truncate(MariaDBSchema s, Randomly r) {
         StringBuilder sb = new StringBuilder("TRUNCATE ");
-        sb.append(s.getRandomTable().getName());
+        sb.append(s.getRandomTable(r).getName());
         sb.append(" ");
-        MariaDBCommon.addWaitClause(sb);
+        MariaDBCommon.addWaitClause(sb, r);
         return new QueryAdapter(sb.toString());
     }
 
@@ -17,23 +17,23 @@ public final class MariaDBUpdateGenerator {
     }
 
     public static Query update(MariaDBSchema s, Randomly r) {
-        MariaDBTable randomTable = s.getRandomTable();
+        MariaDBTable randomTable = s.getRandomTable(r);
         StringBuilder sb = new StringBuilder("UPDATE ");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append("LOW_PRIORITY ");
         }
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append("IGNORE ");
         }
         sb.append(randomTable.getName());
         sb.append(" SET ");
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < r.smallNumber() + 1; i++) {
             if (i != 0) {
                 sb.append(", ");
             }
-            sb.append(randomTable.getRandomColumn().getName());
+            sb.append(randomTable.getRandomColumn(r).getName());
             sb.append("=");
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(MariaDBVisitor.asString(MariaDBExpressionGenerator.getRandomConstant(r)));
             } else {
                 sb.append("DEFAULT");
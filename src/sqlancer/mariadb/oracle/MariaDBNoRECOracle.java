@@ -3,12 +3,13 @@ package sqlancer.mariadb.oracle;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.QueryAdapter;
 import sqlancer.Randomly;
 import sqlancer.StateToReproduce;
@@ -36,7 +37,7 @@ public class MariaDBNoRECOracle {
     private final Connection con;
     private String firstQueryString;
     private String secondQueryString;
-    private final List<String> errors = new ArrayList<>();
+    private final ExpectedErrors errors = new ExpectedErrors();
     private static final int NOT_FOUND = -1;
     private final StateToReproduce state;
     private final MariaDBGlobalState globalState;
@@ -62,7 +63,7 @@ public class MariaDBNoRECOracle {
     }
 
     public void generateAndCheck() throws SQLException {
-        MariaDBTable randomTable = s.getRandomTable();
+        MariaDBTable randomTable = s.getRandomTable(r);
         List<MariaDBColumn> columns = randomTable.getColumns();
         MariaDBExpressionGenerator gen = new MariaDBExpressionGenerator(r).setColumns(columns).setCon(con)
                 .setState(state);
@@ -71,7 +72,7 @@ public class MariaDBNoRECOracle {
         int optimizedCount = getOptimizedQuery(randomTable, randomWhereCondition, groupBys);
         int unoptimizedCount = getUnoptimizedQuery(randomTable, randomWhereCondition, groupBys);
         if (optimizedCount == NOT_FOUND || unoptimizedCount == NOT_FOUND) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.EXPECTED_ERROR);
         }
         if (optimizedCount != unoptimizedCount) {
             state.queryString = firstQueryString + ";\n" + secondQueryString + ";";
@@ -1,6 +1,7 @@
 package sqlancer.mysql;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.Randomly;
 import sqlancer.mysql.ast.MySQLBetweenOperation;
 import sqlancer.mysql.ast.MySQLBinaryComparisonOperation;
 import sqlancer.mysql.ast.MySQLBinaryLogicalOperation;
@@ -22,15 +23,25 @@ import sqlancer.mysql.ast.MySQLUnaryPostfixOperation;
 public class MySQLExpectedValueVisitor implements MySQLVisitor {
 
     private final StringBuilder sb = new StringBuilder();
+    private final MySQLToStringVisitor renderer;
     private int nrTabs;
 
+    public MySQLExpectedValueVisitor(Randomly r) {
+        renderer = new MySQLToStringVisitor(r);
+        renderer.recordSubtrees();
+    }
+
     private void print(MySQLExpression expr) {
-        MySQLToStringVisitor v = new MySQLToStringVisitor();
-        v.visit(expr);
+        CharSequence text = renderer.getText(expr);
+        if (text == null) {
+            // rendering the expression also records the text of its subexpressions, which are printed next
+            renderer.visit(expr);
+            text = renderer.getText(expr);
+        }
         for (int i = 0; i < nrTabs; i++) {
             sb.append("\t");
         }
-        sb.append(v.get());
+        sb.append(text);
         sb.append(" -- " + expr.getExpectedValue());
         sb.append("\n");
     }
@@ -12,9 +12,11 @@ import java.util.stream.Collectors;
 
 import sqlancer.AbstractAction;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.QueryManager;
 import sqlancer.Main.StateLogger;
 import sqlancer.MainOptions;
+import sqlancer.ParallelOracleExecutor;
 import sqlancer.ProviderAdapter;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
@@ -114,11 +116,11 @@ public class MySQLProvider extends ProviderAdapter<MySQLGlobalState, MySQLOption
             nrPerformed = r.getInteger(0, 5);
             break;
         case FLUSH:
-            nrPerformed = Randomly.getBooleanWithSmallProbability() ? r.getInteger(0, 1) : 0;
+            nrPerformed = r.getBooleanWithSmallProbability() ? r.getInteger(0, 1) : 0;
             break;
         case OPTIMIZE:
             // seems to yield low CPU utilization
-            nrPerformed = Randomly.getBooleanWithSmallProbability() ? r.getInteger(0, 1) : 0;
+            nrPerformed = r.getBooleanWithSmallProbability() ? r.getInteger(0, 1) : 0;
             break;
         case RESET:
             // affects the global state, so do not execute
@@ -161,7 +163,7 @@ public class MySQLProvider extends ProviderAdapter<MySQLGlobalState, MySQLOption
             logger.writeCurrent(state);
         }
 
-        while (globalState.getSchema().getDatabaseTables().size() < Randomly.smallNumber() + 1) {
+        while (globalState.getSchema().getDatabaseTables().size() < r.smallNumber() + 1) {
             String tableName = SQLite3Common.createTableName(globalState.getSchema().getDatabaseTables().size());
             Query createTable = MySQLTableGenerator.generate(tableName, r, globalState.getSchema());
             if (options.logEachSelect()) {
@@ -177,7 +179,7 @@ public class MySQLProvider extends ProviderAdapter<MySQLGlobalState, MySQLOption
                         globalState.setSchema(MySQLSchema.fromConnection(con, databaseName));
                     }
                     if (globalState.getSchema().getDatabaseTables().isEmpty()) {
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                     }
                 });
         se.executeStatements();
@@ -192,14 +194,8 @@ public class MySQLProvider extends ProviderAdapter<MySQLGlobalState, MySQLOption
         globalState.setSchema(MySQLSchema.fromConnection(con, databaseName));
 
         TestOracle oracle = new MySQLTLPWhereOracle(globalState);
-        for (int i = 0; i < options.getNrQueries(); i++) {
-            try {
-                oracle.check();
-                manager.incrementSelectQueryCount();
-            } catch (IgnoreMeException e) {
-
-            }
-        }
+        ParallelOracleExecutor.executeChecks(globalState, oracle, MySQLProvider::createWorker,
+                MySQLTLPWhereOracle::new);
 
         // MySQLQueryGenerator queryGenerator = new MySQLQueryGenerator(manager, r, con, databaseName);
         // for (int i = 0; i < options.getNrQueries(); i++) {
@@ -230,6 +226,24 @@ public class MySQLProvider extends ProviderAdapter<MySQLGlobalState, MySQLOption
     // return nrRows != 0;
     // }
 
+    /**
+     * Creates an oracle worker on another session to the database (see --oracle-workers).
+     */
+    private static MySQLGlobalState createWorker(MySQLGlobalState globalState, long seed) throws SQLException {
+        Connection con = ParallelOracleExecutor.openSession(globalState, MySQLProvider::isSessionStatement);
+        MySQLGlobalState worker = new MySQLGlobalState();
+        globalState.initializeWorker(worker, con, new Randomly(seed),
+                new MySQLStateToReproduce(globalState.getDatabaseName()));
+        worker.setSchema(globalState.getSchema());
+        return worker;
+    }
+
+    // global variables apply to all sessions, so they are not replayed
+    private static boolean isSessionStatement(String s) {
+        String statement = s.trim().toUpperCase();
+        return statement.startsWith("SET ") && !statement.startsWith("SET GLOBAL") || statement.startsWith("USE ");
+    }
+
     public static int getNrRows(Connection con, MySQLTable table) throws SQLException {
         try (Statement s = con.createStatement()) {
             try (ResultSet query = s.executeQuery("SELECT COUNT(*) FROM " + table.getName())) {
@@ -292,7 +306,9 @@ public class MySQLProvider extends ProviderAdapter<MySQLGlobalState, MySQLOption
                 }
             }
             sb.append("expected values: \n");
-            sb.append(MySQLVisitor.asExpectedValues(((MySQLStateToReproduce) state).getWhereClause()));
+            // the spelling of the rendered values does not matter here, so a fresh generator suffices
+            sb.append(MySQLVisitor.asExpectedValues(((MySQLStateToReproduce) state).getWhereClause(),
+                    new Randomly(state.getSeedValue())));
         }
         try {
             writer.write(sb.toString());
@@ -29,8 +29,8 @@ public class MySQLSchema extends AbstractSchema<MySQLTable> {
     public enum MySQLDataType {
         INT, VARCHAR, FLOAT, DOUBLE, DECIMAL;
 
-        public static MySQLDataType getRandom() {
-            return Randomly.fromOptions(values());
+        public static MySQLDataType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         public boolean isNumeric() {
@@ -57,8 +57,8 @@ public class MySQLSchema extends AbstractSchema<MySQLTable> {
         public enum CollateSequence {
             NOCASE, RTRIM, BINARY;
 
-            public static CollateSequence random() {
-                return Randomly.fromOptions(values());
+            public static CollateSequence random(Randomly r) {
+                return r.fromOptions(values());
             }
         }
 
@@ -84,60 +84,60 @@ public class MySQLSchema extends AbstractSchema<MySQLTable> {
             super(tables);
         }
 
-        public MySQLRowValue getRandomRowValue(Connection con, MySQLStateToReproduce state) throws SQLException {
-            String randomRow = String.format("SELECT %s FROM %s ORDER BY RAND() LIMIT 1", columnNamesAsString(
-                    c -> c.getTable().getName() + "." + c.getName() + " AS " + c.getTable().getName() + c.getName()),
-                    // columnNamesAsString(c -> "typeof(" + c.getTable().getName() + "." +
-                    // c.getName() + ")")
-                    tableNamesAsString());
+        public MySQLRowValue getRandomRowValue(MySQLGlobalState globalState) throws SQLException {
+            MySQLStateToReproduce state = (MySQLStateToReproduce) globalState.getState();
+            List<MySQLConstant> row = getRandomRow(globalState, "RAND()", this::readRow);
+            if (row == null) {
+                throw new AssertionError("could not find random row! " + tableNamesAsString() + "\n" + state);
+            }
             Map<MySQLColumn, MySQLConstant> values = new HashMap<>();
-            try (Statement s = con.createStatement()) {
-                ResultSet randomRowValues = s.executeQuery(randomRow);
-                if (!randomRowValues.next()) {
-                    throw new AssertionError("could not find random row! " + randomRow + "\n" + state);
-                }
-                for (int i = 0; i < getColumns().size(); i++) {
-                    MySQLColumn column = getColumns().get(i);
-                    Object value;
-                    int columnIndex = randomRowValues.findColumn(column.getTable().getName() + column.getName());
-                    assert columnIndex == i + 1;
-                    // String typeString = randomRowValues.getString(columnIndex + getColumns().size());
-                    // MySQLDataType valueType = getColumnType(typeString);
-                    MySQLConstant constant;
-                    // if (randomRowValues.getString(columnIndex) == null) {
-                    // value = null;
-                    // constant = MySQLConstant.createNullConstant();
-                    // } else {
-                    // switch (valueType) {
-                    // case INT:
-                    if (randomRowValues.getString(columnIndex) == null) {
-                        constant = MySQLConstant.createNullConstant();
-                    } else {
-                        switch (column.getType()) {
-                        case INT:
-                            value = randomRowValues.getLong(columnIndex);
-                            constant = MySQLConstant.createIntConstant((long) value);
-                            break;
-                        case VARCHAR:
-                            value = randomRowValues.getString(columnIndex);
-                            constant = MySQLConstant.createStringConstant((String) value);
-                            break;
-                        default:
-                            throw new AssertionError(column.getType());
-                        }
+            for (int i = 0; i < getColumns().size(); i++) {
+                values.put(getColumns().get(i), row.get(i));
+            }
+            state.randomRowValues = values;
+            return new MySQLRowValue(this, values);
+        }
+
+        private List<MySQLConstant> readRow(ResultSet randomRowValues) throws SQLException {
+            List<MySQLConstant> row = new ArrayList<>(getColumns().size());
+            for (int i = 0; i < getColumns().size(); i++) {
+                MySQLColumn column = getColumns().get(i);
+                Object value;
+                int columnIndex = randomRowValues.findColumn(column.getTable().getName() + column.getName());
+                assert columnIndex == i + 1;
+                // String typeString = randomRowValues.getString(columnIndex + getColumns().size());
+                // MySQLDataType valueType = getColumnType(typeString);
+                MySQLConstant constant;
+                // if (randomRowValues.getString(columnIndex) == null) {
+                // value = null;
+                // constant = MySQLConstant.createNullConstant();
+                // } else {
+                // switch (valueType) {
+                // case INT:
+                if (randomRowValues.getString(columnIndex) == null) {
+                    constant = MySQLConstant.createNullConstant();
+                } else {
+                    switch (column.getType()) {
+                    case INT:
+                        value = randomRowValues.getLong(columnIndex);
+                        constant = MySQLConstant.createIntConstant((long) value);
+                        break;
+                    case VARCHAR:
+                        value = randomRowValues.getString(columnIndex);
+                        constant = MySQLConstant.createStringConstant((String) value);
+                        break;
+                    default:
+                        throw new AssertionError(column.getType());
                     }
-                    // break;
-                    // default:
-                    // throw new AssertionError(valueType);
-                    // }
-                    // }
-                    values.put(column, constant);
                 }
-                assert !randomRowValues.next();
-                state.randomRowValues = values;
-                return new MySQLRowValue(this, values);
+                // break;
+                // default:
+                // throw new AssertionError(valueType);
+                // }
+                // }
+                row.add(constant);
             }
-
+            return row;
         }
 
     }
@@ -198,12 +198,12 @@ public class MySQLSchema extends AbstractSchema<MySQLTable> {
             return sb.toString();
         }
 
-        public String getRowValuesAsString() {
+        public String getRowValuesAsString(Randomly r) {
             List<MySQLColumn> columnsToCheck = tables.getColumns();
-            return getRowValuesAsString(columnsToCheck);
+            return getRowValuesAsString(columnsToCheck, r);
         }
 
-        public String getRowValuesAsString(List<MySQLColumn> columnsToCheck) {
+        public String getRowValuesAsString(List<MySQLColumn> columnsToCheck, Randomly r) {
             StringBuilder sb = new StringBuilder();
             Map<MySQLColumn, MySQLConstant> expectedValues = getValues();
             for (int i = 0; i < columnsToCheck.size(); i++) {
@@ -211,7 +211,7 @@ public class MySQLSchema extends AbstractSchema<MySQLTable> {
                     sb.append(", ");
                 }
                 MySQLConstant expectedColumnValue = expectedValues.get(columnsToCheck.get(i));
-                MySQLToStringVisitor visitor = new MySQLToStringVisitor();
+                MySQLToStringVisitor visitor = new MySQLToStringVisitor(r);
                 visitor.visit(expectedColumnValue);
                 sb.append(visitor.get());
             }
@@ -351,8 +351,8 @@ public class MySQLSchema extends AbstractSchema<MySQLTable> {
         super(databaseTables);
     }
 
-    public MySQLTables getRandomTableNonEmptyTables() {
-        return new MySQLTables(Randomly.nonEmptySubset(getDatabaseTables()));
+    public MySQLTables getRandomTableNonEmptyTables(Randomly r) {
+        return new MySQLTables(r.nonEmptySubset(getDatabaseTables()));
     }
 
 }
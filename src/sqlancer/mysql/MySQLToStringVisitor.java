@@ -26,6 +26,12 @@ import sqlancer.visitor.ToStringVisitor;
 
 public class MySQLToStringVisitor extends ToStringVisitor<MySQLExpression> implements MySQLVisitor {
 
+    private final Randomly r;
+
+    public MySQLToStringVisitor(Randomly r) {
+        this.r = r;
+    }
+
     int ref;
 
     @Override
@@ -41,7 +47,7 @@ public class MySQLToStringVisitor extends ToStringVisitor<MySQLExpression> imple
             sb.append("DISTINCT ");
             break;
         case ALL:
-            sb.append(Randomly.fromOptions("ALL ", ""));
+            sb.append(r.fromOptions("ALL ", ""));
             break;
         case DISTINCTROW:
             sb.append("DISTINCTROW ");
@@ -117,7 +123,7 @@ public class MySQLToStringVisitor extends ToStringVisitor<MySQLExpression> imple
 
     @Override
     public void visit(MySQLConstant constant) {
-        sb.append(constant.getTextRepresentation());
+        sb.append(constant.getTextRepresentation(r));
     }
 
     @Override
@@ -144,7 +150,7 @@ public class MySQLToStringVisitor extends ToStringVisitor<MySQLExpression> imple
             sb.append("FALSE");
             break;
         case IS_NULL:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append("UNKNOWN");
             } else {
                 sb.append("NULL");
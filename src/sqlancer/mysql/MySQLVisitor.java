@@ -1,5 +1,6 @@
 package sqlancer.mysql;
 
+import sqlancer.Randomly;
 import sqlancer.mysql.ast.MySQLBetweenOperation;
 import sqlancer.mysql.ast.MySQLBinaryComparisonOperation;
 import sqlancer.mysql.ast.MySQLBinaryLogicalOperation;
@@ -90,14 +91,18 @@ public interface MySQLVisitor {
         }
     }
 
-    static String asString(MySQLExpression expr) {
-        MySQLToStringVisitor visitor = new MySQLToStringVisitor();
-        visitor.visit(expr);
-        return visitor.get();
+    static String asString(MySQLExpression expr, Randomly r) {
+        MySQLToStringVisitor visitor = new MySQLToStringVisitor(r);
+        try {
+            visitor.visit(expr);
+            return visitor.get();
+        } finally {
+            visitor.release();
+        }
     }
 
-    static String asExpectedValues(MySQLExpression expr) {
-        MySQLExpectedValueVisitor visitor = new MySQLExpectedValueVisitor();
+    static String asExpectedValues(MySQLExpression expr, Randomly r) {
+        MySQLExpectedValueVisitor visitor = new MySQLExpectedValueVisitor(r);
         visitor.visit(expr);
         return visitor.get();
     }
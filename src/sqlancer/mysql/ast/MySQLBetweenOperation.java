@@ -1,6 +1,7 @@
 package sqlancer.mysql.ast;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.mysql.ast.MySQLBinaryComparisonOperation.BinaryComparisonOperator;
 import sqlancer.mysql.ast.MySQLBinaryLogicalOperation.MySQLBinaryLogicalOperator;
 
@@ -38,15 +39,14 @@ public class MySQLBetweenOperation implements MySQLExpression {
         /* workaround for https://bugs.mysql.com/bug.php?id=96006 */
         if (convertedLeft.isInt() && convertedLeft.getInt() < 0 || convertedRight.isInt() && convertedRight.getInt() < 0
                 || convertedExpr.isInt() && convertedExpr.getInt() < 0) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.KNOWN_BUG);
         }
         MySQLBinaryComparisonOperation leftComparison = new MySQLBinaryComparisonOperation(convertedLeft, convertedExpr,
                 BinaryComparisonOperator.LESS_EQUALS);
         MySQLBinaryComparisonOperation rightComparison = new MySQLBinaryComparisonOperation(convertedExpr,
                 convertedRight, BinaryComparisonOperator.LESS_EQUALS);
-        MySQLBinaryLogicalOperation andOperation = new MySQLBinaryLogicalOperation(leftComparison, rightComparison,
-                MySQLBinaryLogicalOperator.AND);
-        return andOperation.getExpectedValue();
+        return MySQLBinaryLogicalOperator.AND.apply(leftComparison.getExpectedValue(),
+                rightComparison.getExpectedValue());
     }
 
 }
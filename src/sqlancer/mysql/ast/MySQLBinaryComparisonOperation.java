@@ -114,8 +114,8 @@ public class MySQLBinaryComparisonOperation implements MySQLExpression {
 
         public abstract MySQLConstant getExpectedValue(MySQLConstant leftVal, MySQLConstant rightVal);
 
-        public static BinaryComparisonOperator getRandom() {
-            return Randomly.fromOptions(BinaryComparisonOperator.values());
+        public static BinaryComparisonOperator getRandom(Randomly r) {
+            return r.fromOptions(BinaryComparisonOperator.values());
         }
     }
 
@@ -63,22 +63,23 @@ public class MySQLBinaryLogicalOperation implements MySQLExpression {
             this.textRepresentations = textRepresentations.clone();
         }
 
-        String getTextRepresentation() {
-            return Randomly.fromOptions(textRepresentations);
+        String getTextRepresentation(Randomly r) {
+            return r.fromOptions(textRepresentations);
         }
 
         public abstract MySQLConstant apply(MySQLConstant left, MySQLConstant right);
 
-        public static MySQLBinaryLogicalOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static MySQLBinaryLogicalOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
-    public MySQLBinaryLogicalOperation(MySQLExpression left, MySQLExpression right, MySQLBinaryLogicalOperator op) {
+    public MySQLBinaryLogicalOperation(MySQLExpression left, MySQLExpression right, MySQLBinaryLogicalOperator op,
+            Randomly r) {
         this.left = left;
         this.right = right;
         this.op = op;
-        this.textRepresentation = op.getTextRepresentation();
+        this.textRepresentation = op.getTextRepresentation(r);
     }
 
     public MySQLExpression getLeft() {
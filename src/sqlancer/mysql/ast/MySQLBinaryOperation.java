@@ -3,6 +3,7 @@ package sqlancer.mysql.ast;
 import java.util.function.BinaryOperator;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.mysql.ast.MySQLCastOperation.CastType;
 
@@ -58,8 +59,8 @@ public class MySQLBinaryOperation implements MySQLExpression {
 
         public abstract MySQLConstant apply(MySQLConstant left, MySQLConstant right);
 
-        public static MySQLBinaryOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static MySQLBinaryOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
@@ -82,7 +83,7 @@ public class MySQLBinaryOperation implements MySQLExpression {
                 text = text.substring(1);
             }
             if (text.length() > 0 && (text.startsWith("\n") || text.startsWith("."))) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.UNSUPPORTED);
             }
         }
 
@@ -92,7 +93,7 @@ public class MySQLBinaryOperation implements MySQLExpression {
                 text = text.substring(1);
             }
             if (text.length() > 0 && (text.startsWith("\n") || text.startsWith("."))) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.UNSUPPORTED);
             }
         }
 
@@ -184,8 +184,8 @@ public class MySQLComputableFunction implements MySQLExpression {
 
         public abstract MySQLConstant apply(MySQLConstant[] evaluatedArgs, MySQLExpression... args);
 
-        public static MySQLFunction getRandomFunction() {
-            return Randomly.fromOptions(values());
+        public static MySQLFunction getRandomFunction(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
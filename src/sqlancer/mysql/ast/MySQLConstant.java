@@ -3,6 +3,7 @@ package sqlancer.mysql.ast;
 import java.math.BigInteger;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.mysql.MySQLSchema.MySQLDataType;
 import sqlancer.mysql.ast.MySQLCastOperation.CastType;
@@ -65,7 +66,7 @@ public abstract class MySQLConstant implements MySQLExpression {
             this.val = val;
             if (Double.isInfinite(val) || Double.isNaN(val)) {
                 // seems to not be supported by MySQL
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.UNSUPPORTED);
             }
         }
 
@@ -79,19 +80,16 @@ public abstract class MySQLConstant implements MySQLExpression {
     public static class MySQLTextConstant extends MySQLConstant {
 
         private final String value;
-        private final boolean singleQuotes;
 
         public MySQLTextConstant(String value) {
             this.value = value;
-            singleQuotes = Randomly.getBoolean();
-
         }
 
         private void checkIfSmallFloatingPointText() {
             boolean isSmallFloatingPointText = isString() && asBooleanNotNull()
                     && castAs(CastType.SIGNED).getInt() == 0;
             if (isSmallFloatingPointText) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.UNSUPPORTED);
             }
         }
 
@@ -113,6 +111,15 @@ public abstract class MySQLConstant implements MySQLExpression {
 
         @Override
         public String getTextRepresentation() {
+            return getTextRepresentation(true);
+        }
+
+        @Override
+        public String getTextRepresentation(Randomly r) {
+            return getTextRepresentation(r.getBoolean());
+        }
+
+        private String getTextRepresentation(boolean singleQuotes) {
             StringBuilder sb = new StringBuilder();
             String quotes = singleQuotes ? "'" : "\"";
             sb.append(quotes);
@@ -130,7 +137,7 @@ public abstract class MySQLConstant implements MySQLExpression {
                 checkIfSmallFloatingPointText();
                 if (asBooleanNotNull()) {
                     // TODO support SELECT .123 = '.123'; by converting to floating point
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.UNSUPPORTED);
                 }
                 return castAs(CastType.SIGNED).isEquals(rightVal);
             } else if (rightVal.isString()) {
@@ -157,7 +164,7 @@ public abstract class MySQLConstant implements MySQLExpression {
                 while (value.startsWith(" ") || value.startsWith("\t") || value.startsWith("\n")) {
                     if (value.startsWith("\n")) {
                         /* workaround for https://bugs.mysql.com/bug.php?id=96294 */
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.KNOWN_BUG);
                     }
                     value = value.substring(1);
                 }
@@ -193,14 +200,14 @@ public abstract class MySQLConstant implements MySQLExpression {
             } else if (rightVal.isInt()) {
                 if (asBooleanNotNull()) {
                     // TODO uspport floating point
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.UNSUPPORTED);
                 }
                 checkIfSmallFloatingPointText();
                 return castAs(rightVal.isSigned() ? CastType.SIGNED : CastType.UNSIGNED).isLessThan(rightVal);
             } else if (rightVal.isString()) {
                 // unexpected result for '-' < "!";
                 // return MySQLConstant.createBoolean(value.compareToIgnoreCase(rightVal.getString()) < 0);
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.UNSUPPORTED);
             } else {
                 throw new AssertionError(rightVal);
             }
@@ -213,27 +220,24 @@ public abstract class MySQLConstant implements MySQLExpression {
         private final long value;
         private final String stringRepresentation;
         private final boolean isSigned;
+        private final boolean canBeBoolean;
 
         public MySQLIntConstant(long value, boolean isSigned) {
             this.value = value;
             this.isSigned = isSigned;
-            if (value == 0 && Randomly.getBoolean()) {
-                stringRepresentation = "FALSE";
-            } else if (value == 1 && Randomly.getBoolean()) {
-                stringRepresentation = "TRUE";
+            if (isSigned) {
+                stringRepresentation = String.valueOf(value);
             } else {
-                if (isSigned) {
-                    stringRepresentation = String.valueOf(value);
-                } else {
-                    stringRepresentation = Long.toUnsignedString(value);
-                }
+                stringRepresentation = Long.toUnsignedString(value);
             }
+            canBeBoolean = true;
         }
 
         public MySQLIntConstant(long value, String stringRepresentation) {
             this.value = value;
             this.stringRepresentation = stringRepresentation;
             isSigned = true;
+            canBeBoolean = false;
         }
 
         @Override
@@ -256,6 +260,17 @@ public abstract class MySQLConstant implements MySQLExpression {
             return stringRepresentation;
         }
 
+        @Override
+        public String getTextRepresentation(Randomly r) {
+            if (canBeBoolean && value == 0 && r.getBoolean()) {
+                return "FALSE";
+            } else if (canBeBoolean && value == 1 && r.getBoolean()) {
+                return "TRUE";
+            } else {
+                return stringRepresentation;
+            }
+        }
+
         @Override
         public MySQLConstant isEquals(MySQLConstant rightVal) {
             if (rightVal.isInt()) {
@@ -266,7 +281,7 @@ public abstract class MySQLConstant implements MySQLExpression {
             } else if (rightVal.isString()) {
                 if (rightVal.asBooleanNotNull()) {
                     // TODO support SELECT .123 = '.123'; by converting to floating point
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.UNSUPPORTED);
                 }
                 return isEquals(rightVal.castAs(CastType.SIGNED));
             } else {
@@ -328,7 +343,7 @@ public abstract class MySQLConstant implements MySQLExpression {
             } else if (rightVal.isString()) {
                 if (rightVal.asBooleanNotNull()) {
                     // TODO support float
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.UNSUPPORTED);
                 }
                 return isLessThan(rightVal.castAs(isSigned ? CastType.SIGNED : CastType.UNSIGNED));
             } else {
@@ -427,6 +442,11 @@ public abstract class MySQLConstant implements MySQLExpression {
 
     public abstract String getTextRepresentation();
 
+    // the text representations can differ in their spelling, e.g., an integer 1 can be written as TRUE
+    public String getTextRepresentation(Randomly r) {
+        return getTextRepresentation();
+    }
+
     public static MySQLConstant createFalse() {
         return MySQLConstant.createIntConstant(0);
     }
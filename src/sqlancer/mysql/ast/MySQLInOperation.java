@@ -3,6 +3,7 @@ package sqlancer.mysql.ast;
 import java.util.List;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 
 /**
  * @see https://dev.mysql.com/doc/refman/8.0/en/comparison-operators.html#operator_in
@@ -35,7 +36,7 @@ public class MySQLInOperation implements MySQLExpression {
         }
         /* workaround for https://bugs.mysql.com/bug.php?id=95957 */
         if (leftVal.isInt() && !leftVal.isSigned()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.KNOWN_BUG);
         }
 
         boolean isNull = false;
@@ -44,7 +45,7 @@ public class MySQLInOperation implements MySQLExpression {
 
             /* workaround for https://bugs.mysql.com/bug.php?id=95957 */
             if (rightVal.isInt() && !rightVal.isSigned()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             MySQLConstant convertedRightVal = rightVal;
             MySQLConstant isEquals = leftVal.isEquals(convertedRightVal);
@@ -10,8 +10,8 @@ public class MySQLOrderByTerm implements MySQLExpression {
     public enum MySQLOrder {
         ASC, DESC;
 
-        public static MySQLOrder getRandomOrder() {
-            return Randomly.fromOptions(MySQLOrder.values());
+        public static MySQLOrder getRandomOrder(Randomly r) {
+            return r.fromOptions(MySQLOrder.values());
         }
     }
 
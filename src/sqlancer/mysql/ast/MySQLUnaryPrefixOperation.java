@@ -1,6 +1,7 @@
 package sqlancer.mysql.ast;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.ast.BinaryOperatorNode.Operator;
 import sqlancer.ast.UnaryOperatorNode;
@@ -27,11 +28,11 @@ public class MySQLUnaryPrefixOperation extends UnaryOperatorNode<MySQLExpression
             public MySQLConstant applyNotNull(MySQLConstant expr) {
                 if (expr.isString()) {
                     // TODO: implement floating points
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.UNSUPPORTED);
                 } else if (expr.isInt()) {
                     if (!expr.isSigned()) {
                         // TODO
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.UNSUPPORTED);
                     }
                     return MySQLConstant.createIntConstant(-expr.getInt());
                 } else {
@@ -48,18 +49,30 @@ public class MySQLUnaryPrefixOperation extends UnaryOperatorNode<MySQLExpression
 
         public abstract MySQLConstant applyNotNull(MySQLConstant expr);
 
-        public static MySQLUnaryPrefixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static MySQLUnaryPrefixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
         public String getTextRepresentation() {
-            return Randomly.fromOptions(textRepresentations);
+            return textRepresentations[0];
+        }
+
+        public String getTextRepresentation(Randomly r) {
+            return r.fromOptions(textRepresentations);
         }
     }
 
-    public MySQLUnaryPrefixOperation(MySQLExpression expr, MySQLUnaryPrefixOperator op) {
+    private final String textRepresentation;
+
+    public MySQLUnaryPrefixOperation(MySQLExpression expr, MySQLUnaryPrefixOperator op, Randomly r) {
         super(expr, op);
+        this.textRepresentation = op.getTextRepresentation(r);
+    }
+
+    @Override
+    public String getOperatorRepresentation() {
+        return textRepresentation;
     }
 
     @Override
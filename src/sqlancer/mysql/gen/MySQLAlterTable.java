@@ -25,7 +25,7 @@ public class MySQLAlterTable {
     }
 
     public static Query create(MySQLGlobalState globalState) {
-        return new MySQLAlterTable(globalState.getSchema()).create();
+        return new MySQLAlterTable(globalState.getSchema()).create(globalState.getRandomly());
     }
 
     private enum Action {
@@ -60,13 +60,13 @@ public class MySQLAlterTable {
 
     }
 
-    private Query create() {
+    private Query create(Randomly r) {
         List<String> errors = new ArrayList<>(
                 Arrays.asList("does not support the create option", "doesn't have this option",
                         "is not supported for this operation", "Data truncation", "Specified key was too long"));
         errors.add("Data truncated for functional index ");
         sb.append("ALTER TABLE ");
-        MySQLTable table = schema.getRandomTable();
+        MySQLTable table = schema.getRandomTable(r);
         sb.append(table.getName());
         sb.append(" ");
         List<Action> list = new ArrayList<>(Arrays.asList(Action.values()));
@@ -76,7 +76,7 @@ public class MySQLAlterTable {
         if (table.getColumns().size() == 1) {
             list.remove(Action.DROP_COLUMN);
         }
-        selectedActions = Randomly.subset(list);
+        selectedActions = r.subset(list);
         int i = 0;
         for (Action a : selectedActions) {
             if (i++ != 0) {
@@ -85,32 +85,32 @@ public class MySQLAlterTable {
             switch (a) {
             case ALGORITHM:
                 sb.append("ALGORITHM ");
-                sb.append(Randomly.fromOptions("INSTANT", "INPLACE", "COPY", "DEFAULT"));
+                sb.append(r.fromOptions("INSTANT", "INPLACE", "COPY", "DEFAULT"));
                 break;
             case CHECKSUM:
                 sb.append("CHECKSUM ");
-                sb.append(Randomly.fromOptions(0, 1));
+                sb.append(r.fromOptions(0, 1));
                 break;
             case COMPRESSION:
                 sb.append("COMPRESSION ");
                 sb.append("'");
-                sb.append(Randomly.fromOptions("ZLIB", "LZ4", "NONE"));
+                sb.append(r.fromOptions("ZLIB", "LZ4", "NONE"));
                 sb.append("'");
                 break;
             case DELAY_KEY_WRITE:
                 sb.append("DELAY_KEY_WRITE ");
-                sb.append(Randomly.fromOptions(0, 1));
+                sb.append(r.fromOptions(0, 1));
                 break;
             case DROP_COLUMN:
                 sb.append("DROP ");
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append("COLUMN ");
                 }
-                sb.append(table.getRandomColumn().getName());
+                sb.append(table.getRandomColumn(r).getName());
                 couldAffectSchema = true;
                 break;
             case DISABLE_ENABLE_KEYS:
-                sb.append(Randomly.fromOptions("DISABLE", "ENABLE"));
+                sb.append(r.fromOptions("DISABLE", "ENABLE"));
                 sb.append(" KEYS");
                 break;
             case DROP_PRIMARY_KEY:
@@ -123,23 +123,23 @@ public class MySQLAlterTable {
                 break;
             case INSERT_METHOD:
                 sb.append("INSERT_METHOD ");
-                sb.append(Randomly.fromOptions("NO", "FIRST", "LAST"));
+                sb.append(r.fromOptions("NO", "FIRST", "LAST"));
                 break;
             case ROW_FORMAT:
                 sb.append("ROW_FORMAT ");
-                sb.append(Randomly.fromOptions("DEFAULT", "DYNAMIC", "FIXED", "COMPRESSED", "REDUNDANT", "COMPACT"));
+                sb.append(r.fromOptions("DEFAULT", "DYNAMIC", "FIXED", "COMPRESSED", "REDUNDANT", "COMPACT"));
                 break;
             case STATS_AUTO_RECALC:
                 sb.append("STATS_AUTO_RECALC ");
-                sb.append(Randomly.fromOptions(0, 1, "DEFAULT"));
+                sb.append(r.fromOptions(0, 1, "DEFAULT"));
                 break;
             case STATS_PERSISTENT:
                 sb.append("STATS_PERSISTENT ");
-                sb.append(Randomly.fromOptions(0, 1, "DEFAULT"));
+                sb.append(r.fromOptions(0, 1, "DEFAULT"));
                 break;
             case PACK_KEYS:
                 sb.append("PACK_KEYS ");
-                sb.append(Randomly.fromOptions(0, 1, "DEFAULT"));
+                sb.append(r.fromOptions(0, 1, "DEFAULT"));
                 break;
             // not relevant:
             // case WITH_WITHOUT_VALIDATION:
@@ -148,24 +148,24 @@ public class MySQLAlterTable {
             // break;
             case RENAME:
                 sb.append("RENAME ");
-                if (Randomly.getBoolean()) {
-                    sb.append(Randomly.fromOptions("TO", "AS"));
+                if (r.getBoolean()) {
+                    sb.append(r.fromOptions("TO", "AS"));
                     sb.append(" ");
                 }
-                sb.append("t" + Randomly.smallNumber());
+                sb.append("t" + r.smallNumber());
                 couldAffectSchema = true;
                 break;
             default:
                 throw new AssertionError(a);
             }
         }
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (r.getBooleanWithSmallProbability()) {
             if (i != 0) {
                 sb.append(", ");
             }
             // should be given as last option
             sb.append(" ORDER BY ");
-            sb.append(table.getRandomNonEmptyColumnSubset().stream().map(c -> c.getName())
+            sb.append(table.getRandomNonEmptyColumnSubset(r).stream().map(c -> c.getName())
                     .collect(Collectors.joining(", ")));
         }
         for (Action a : selectedActions) {
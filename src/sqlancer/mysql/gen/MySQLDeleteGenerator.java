@@ -6,7 +6,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.mysql.MySQLErrors;
 import sqlancer.mysql.MySQLGlobalState;
 import sqlancer.mysql.MySQLSchema.MySQLTable;
@@ -26,25 +25,25 @@ public class MySQLDeleteGenerator {
     }
 
     private Query generate() {
-        MySQLTable randomTable = globalState.getSchema().getRandomTable();
+        MySQLTable randomTable = globalState.getSchema().getRandomTable(globalState.getRandomly());
         MySQLExpressionGenerator gen = new MySQLExpressionGenerator(globalState).setColumns(randomTable.getColumns());
         Set<String> errors = new HashSet<>();
         sb.append("DELETE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" LOW_PRIORITY");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" QUICK");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" IGNORE");
         }
         // TODO: support partitions
         sb.append(" FROM ");
         sb.append(randomTable.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
-            sb.append(MySQLVisitor.asString(gen.generateExpression()));
+            sb.append(MySQLVisitor.asString(gen.generateExpression(), globalState.getRandomly()));
             MySQLErrors.addExpressionErrors(errors);
         }
         errors.addAll(Arrays.asList("doesn't have this option",
@@ -3,9 +3,9 @@ package sqlancer.mysql.gen;
 import java.util.Arrays;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.mysql.MySQLGlobalState;
 import sqlancer.mysql.MySQLSchema.MySQLTable;
 
@@ -27,22 +27,22 @@ public final class MySQLDropIndex {
     // LOCK [=] {DEFAULT|NONE|SHARED|EXCLUSIVE}
 
     public static Query generate(MySQLGlobalState globalState) {
-        MySQLTable table = globalState.getSchema().getRandomTable();
+        MySQLTable table = globalState.getSchema().getRandomTable(globalState.getRandomly());
         if (!table.hasIndexes()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
         StringBuilder sb = new StringBuilder();
         sb.append("DROP INDEX ");
-        sb.append(table.getRandomIndex().getIndexName());
+        sb.append(table.getRandomIndex(globalState.getRandomly()).getIndexName());
         sb.append(" ON ");
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ALGORITHM=");
-            sb.append(Randomly.fromOptions("DEFAULT", "INPLACE", "COPY"));
+            sb.append(globalState.getRandomly().fromOptions("DEFAULT", "INPLACE", "COPY"));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" LOCK=");
-            sb.append(Randomly.fromOptions("DEFAULT", "NONE", "SHARED", "EXCLUSIVE"));
+            sb.append(globalState.getRandomly().fromOptions("DEFAULT", "NONE", "SHARED", "EXCLUSIVE"));
         }
         return new QueryAdapter(sb.toString(),
                 Arrays.asList("LOCK=NONE is not supported", "ALGORITHM=INPLACE is not supported", "Data truncation",
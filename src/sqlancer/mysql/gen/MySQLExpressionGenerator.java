@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.IgnoreMeException;
-import sqlancer.Randomly;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.gen.UntypedExpressionGenerator;
 import sqlancer.mysql.MySQLBugs;
 import sqlancer.mysql.MySQLGlobalState;
@@ -37,6 +37,7 @@ public class MySQLExpressionGenerator extends UntypedExpressionGenerator<MySQLEx
     private MySQLRowValue rowVal;
 
     public MySQLExpressionGenerator(MySQLGlobalState state) {
+        super(state.getRandomly());
         this.state = state;
     }
 
@@ -55,52 +56,52 @@ public class MySQLExpressionGenerator extends UntypedExpressionGenerator<MySQLEx
         if (depth >= state.getOptions().getMaxExpressionDepth()) {
             return generateLeafNode();
         }
-        switch (Randomly.fromOptions(Actions.values())) {
+        switch (state.getRandomly().fromOptions(Actions.values())) {
         case COLUMN:
             return generateColumn();
         case LITERAL:
             return generateConstant();
         case UNARY_PREFIX_OPERATION:
             MySQLExpression subExpr = generateExpression(depth + 1);
-            MySQLUnaryPrefixOperator random = MySQLUnaryPrefixOperator.getRandom();
+            MySQLUnaryPrefixOperator random = MySQLUnaryPrefixOperator.getRandom(r);
             if (random == MySQLUnaryPrefixOperator.MINUS) {
                 // workaround for https://bugs.mysql.com/bug.php?id=99122
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
-            return new MySQLUnaryPrefixOperation(subExpr, random);
+            return new MySQLUnaryPrefixOperation(subExpr, random, r);
         case UNARY_POSTFIX:
             return new MySQLUnaryPostfixOperation(generateExpression(depth + 1),
-                    Randomly.fromOptions(MySQLUnaryPostfixOperation.UnaryPostfixOperator.values()),
-                    Randomly.getBoolean());
+                    state.getRandomly().fromOptions(MySQLUnaryPostfixOperation.UnaryPostfixOperator.values()),
+                    state.getRandomly().getBoolean());
         case COMPUTABLE_FUNCTION:
             return getComputableFunction(depth + 1);
         case BINARY_LOGICAL_OPERATOR:
             return new MySQLBinaryLogicalOperation(generateExpression(depth + 1), generateExpression(depth + 1),
-                    MySQLBinaryLogicalOperator.getRandom());
+                    MySQLBinaryLogicalOperator.getRandom(r), r);
         case BINARY_COMPARISON_OPERATION:
             return new MySQLBinaryComparisonOperation(generateExpression(depth + 1), generateExpression(depth + 1),
-                    BinaryComparisonOperator.getRandom());
+                    BinaryComparisonOperator.getRandom(r));
         case CAST:
             return new MySQLCastOperation(generateExpression(depth + 1), MySQLCastOperation.CastType.getRandom());
         case IN_OPERATION:
             MySQLExpression expr = generateExpression(depth + 1);
             List<MySQLExpression> rightList = new ArrayList<>();
-            for (int i = 0; i < 1 + Randomly.smallNumber(); i++) {
+            for (int i = 0; i < 1 + state.getRandomly().smallNumber(); i++) {
                 rightList.add(generateExpression(depth + 1));
             }
-            return new MySQLInOperation(expr, rightList, Randomly.getBoolean());
+            return new MySQLInOperation(expr, rightList, state.getRandomly().getBoolean());
         case BINARY_OPERATION:
             if (MySQLBugs.bug99135) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             return new MySQLBinaryOperation(generateExpression(depth + 1), generateExpression(depth + 1),
-                    MySQLBinaryOperator.getRandom());
+                    MySQLBinaryOperator.getRandom(r));
         case EXISTS:
             return getExists();
         case BETWEEN_OPERATOR:
             if (MySQLBugs.bug99181) {
                 // TODO: there are a number of bugs that are triggered by the BETWEEN operator
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             return new MySQLBetweenOperation(generateExpression(depth + 1), generateExpression(depth + 1),
                     generateExpression(depth + 1));
@@ -110,7 +111,7 @@ public class MySQLExpressionGenerator extends UntypedExpressionGenerator<MySQLEx
     }
 
     private MySQLExpression getExists() {
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             return new MySQLExists(new MySQLStringExpression("SELECT 1", MySQLConstant.createTrue()));
         } else {
             return new MySQLExists(new MySQLStringExpression("SELECT 1 wHERE FALSE", MySQLConstant.createFalse()));
@@ -118,10 +119,10 @@ public class MySQLExpressionGenerator extends UntypedExpressionGenerator<MySQLEx
     }
 
     private MySQLExpression getComputableFunction(int depth) {
-        MySQLFunction func = MySQLFunction.getRandomFunction();
+        MySQLFunction func = MySQLFunction.getRandomFunction(r);
         int nrArgs = func.getNrArgs();
         if (func.isVariadic()) {
-            nrArgs += Randomly.smallNumber();
+            nrArgs += state.getRandomly().smallNumber();
         }
         MySQLExpression[] args = new MySQLExpression[nrArgs];
         for (int i = 0; i < args.length; i++) {
@@ -136,7 +137,7 @@ public class MySQLExpressionGenerator extends UntypedExpressionGenerator<MySQLEx
 
     @Override
     public MySQLExpression generateConstant() {
-        switch (Randomly.fromOptions(ConstantType.values())) {
+        switch (state.getRandomly().fromOptions(ConstantType.values())) {
         case INT:
             return MySQLConstant.createIntConstant((int) state.getRandomly().getInteger());
         case NULL:
@@ -145,11 +146,11 @@ public class MySQLExpressionGenerator extends UntypedExpressionGenerator<MySQLEx
             String string = state.getRandomly().getString();
             if (string.startsWith("\n")) {
                 // workaround for https://bugs.mysql.com/bug.php?id=99130
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             if (string.startsWith("-0") || string.startsWith("0.") || string.startsWith(".")) {
                 // https://bugs.mysql.com/bug.php?id=99145
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             MySQLConstant createStringConstant = MySQLConstant.createStringConstant(string);
             // if (Randomly.getBoolean()) {
@@ -157,18 +158,18 @@ public class MySQLExpressionGenerator extends UntypedExpressionGenerator<MySQLEx
             // }
             if (string.startsWith("1e")) {
                 // https://bugs.mysql.com/bug.php?id=99146
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             return createStringConstant;
         case DOUBLE:
             double val = state.getRandomly().getDouble();
             if (Math.abs(val) <= 1 && val != 0) {
                 // https://bugs.mysql.com/bug.php?id=99145
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             if (Math.abs(val) > 1.0E30) {
                 // https://bugs.mysql.com/bug.php?id=99146
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             return new MySQLDoubleConstant(val);
         default:
@@ -178,7 +179,7 @@ public class MySQLExpressionGenerator extends UntypedExpressionGenerator<MySQLEx
 
     @Override
     protected MySQLExpression generateColumn() {
-        MySQLColumn c = Randomly.fromList(columns);
+        MySQLColumn c = state.getRandomly().fromList(columns);
         MySQLConstant val;
         if (rowVal == null) {
             val = null;
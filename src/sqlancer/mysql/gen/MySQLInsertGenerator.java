@@ -8,7 +8,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.mysql.MySQLGlobalState;
 import sqlancer.mysql.MySQLSchema.MySQLColumn;
 import sqlancer.mysql.MySQLSchema.MySQLTable;
@@ -24,11 +23,11 @@ public class MySQLInsertGenerator {
 
     public MySQLInsertGenerator(MySQLGlobalState globalState) {
         this.globalState = globalState;
-        table = globalState.getSchema().getRandomTable();
+        table = globalState.getSchema().getRandomTable(globalState.getRandomly());
     }
 
     public static Query insertRow(MySQLGlobalState globalState) throws SQLException {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             return new MySQLInsertGenerator(globalState).generateInsert();
         } else {
             return new MySQLInsertGenerator(globalState).generateReplace();
@@ -38,9 +37,9 @@ public class MySQLInsertGenerator {
     private Query generateReplace() {
         canFail = true;
         sb.append("REPLACE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("LOW_PRIORITY", "DELAYED"));
+            sb.append(globalState.getRandomly().fromOptions("LOW_PRIORITY", "DELAYED"));
         }
         return generateInto();
 
@@ -48,11 +47,11 @@ public class MySQLInsertGenerator {
 
     private Query generateInsert() {
         sb.append("INSERT");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("LOW_PRIORITY", "DELAYED", "HIGH_PRIORITY"));
+            sb.append(globalState.getRandomly().fromOptions("LOW_PRIORITY", "DELAYED", "HIGH_PRIORITY"));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" IGNORE");
         } else {
             canFail = true;
@@ -63,17 +62,17 @@ public class MySQLInsertGenerator {
     private Query generateInto() {
         sb.append(" INTO ");
         sb.append(table.getName());
-        List<MySQLColumn> columns = table.getRandomNonEmptyColumnSubset();
+        List<MySQLColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         sb.append("(");
         sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
         sb.append(") ");
         sb.append("VALUES");
         MySQLExpressionGenerator gen = new MySQLExpressionGenerator(globalState);
         int nrRows;
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             nrRows = 1;
         } else {
-            nrRows = 1 + Randomly.smallNumber();
+            nrRows = 1 + globalState.getRandomly().smallNumber();
         }
         for (int row = 0; row < nrRows; row++) {
             if (row != 0) {
@@ -84,7 +83,7 @@ public class MySQLInsertGenerator {
                 if (c != 0) {
                     sb.append(", ");
                 }
-                sb.append(MySQLVisitor.asString(gen.generateConstant()));
+                sb.append(MySQLVisitor.asString(gen.generateConstant(), globalState.getRandomly()));
 
             }
             sb.append(")");
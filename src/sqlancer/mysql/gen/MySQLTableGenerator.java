@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
 import sqlancer.Randomly;
@@ -34,7 +35,7 @@ public class MySQLTableGenerator {
         this.tableName = tableName;
         this.r = r;
         this.schema = schema;
-        allowPrimaryKey = Randomly.getBoolean();
+        allowPrimaryKey = r.getBoolean();
     }
 
     public static Query generate(String tableName, Randomly r, MySQLSchema schema) {
@@ -47,17 +48,17 @@ public class MySQLTableGenerator {
         sb.append("CREATE");
         // TODO support temporary tables in the schema
         sb.append(" TABLE");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" IF NOT EXISTS");
         }
         sb.append(" " + tableName);
-        if (Randomly.getBoolean() && !schema.getDatabaseTables().isEmpty()) {
+        if (r.getBoolean() && !schema.getDatabaseTables().isEmpty()) {
             sb.append(" LIKE ");
-            sb.append(schema.getRandomTable().getName());
+            sb.append(schema.getRandomTable(r).getName());
             return new QueryAdapter(sb.toString());
         } else {
             sb.append("(");
-            for (int i = 0; i < 1 + Randomly.smallNumber(); i++) {
+            for (int i = 0; i < 1 + r.smallNumber(); i++) {
                 if (i != 0) {
                     sb.append(", ");
                 }
@@ -70,7 +71,7 @@ public class MySQLTableGenerator {
             if ((tableHasNullableColumn || setPrimaryKey) && engine == MySQLEngine.CSV) {
                 if (true) { // TODO
                     // results in an error
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.EXPECTED_ERROR);
                 }
             } else if ((tableHasNullableColumn || keysSpecified > 1) && engine == MySQLEngine.ARCHIVE) {
                 errors.add("Too many keys specified; max 1 keys allowed");
@@ -102,13 +103,13 @@ public class MySQLTableGenerator {
         if (engine != MySQLEngine.INNO_DB) {
             return;
         }
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             return;
         }
         sb.append(" PARTITION BY");
-        switch (Randomly.fromOptions(PartitionOptions.values())) {
+        switch (r.fromOptions(PartitionOptions.values())) {
         case HASH:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" LINEAR");
             }
             sb.append(" HASH(");
@@ -117,20 +118,20 @@ public class MySQLTableGenerator {
             // MySQLRandomExpressionGenerator.generateRandomExpression(Collections.emptyList(),
             // null, r);
             // sb.append(MySQLVisitor.asString(expr));
-            sb.append(Randomly.fromList(columns));
+            sb.append(r.fromList(columns));
             sb.append(")");
             break;
         case KEY:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" LINEAR");
             }
             sb.append(" KEY");
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" ALGORITHM=");
-                sb.append(Randomly.fromOptions(1, 2));
+                sb.append(r.fromOptions(1, 2));
             }
             sb.append(" (");
-            sb.append(Randomly.nonEmptySubset(columns).stream().collect(Collectors.joining(", ")));
+            sb.append(r.nonEmptySubset(columns).stream().collect(Collectors.joining(", ")));
             sb.append(")");
             break;
         default:
@@ -142,16 +143,16 @@ public class MySQLTableGenerator {
         AUTO_INCREMENT, AVG_ROW_LENGTH, CHECKSUM, COMPRESSION, DELAY_KEY_WRITE, /* ENCRYPTION, */ ENGINE, INSERT_METHOD,
         KEY_BLOCK_SIZE, MAX_ROWS, MIN_ROWS, PACK_KEYS, STATS_AUTO_RECALC, STATS_PERSISTENT, STATS_SAMPLE_PAGES;
 
-        public static List<TableOptions> getRandomTableOptions() {
+        public static List<TableOptions> getRandomTableOptions(Randomly r) {
             List<TableOptions> options;
             // try to ensure that usually, only a few of these options are generated
-            if (Randomly.getBooleanWithSmallProbability()) {
-                options = Randomly.subset(TableOptions.values());
+            if (r.getBooleanWithSmallProbability()) {
+                options = r.subset(TableOptions.values());
             } else {
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     options = Collections.emptyList();
                 } else {
-                    options = Randomly.nonEmptySubset(Arrays.asList(TableOptions.values()), Randomly.smallNumber());
+                    options = r.nonEmptySubset(Arrays.asList(TableOptions.values()), r.smallNumber());
                 }
             }
             return options;
@@ -159,7 +160,7 @@ public class MySQLTableGenerator {
     }
 
     private void appendTableOptions() {
-        List<TableOptions> tableOptions = TableOptions.getRandomTableOptions();
+        List<TableOptions> tableOptions = TableOptions.getRandomTableOptions(r);
         int i = 0;
         for (TableOptions o : tableOptions) {
             if (i++ != 0) {
@@ -177,12 +178,12 @@ public class MySQLTableGenerator {
                 break;
             case COMPRESSION:
                 sb.append("COMPRESSION = '");
-                sb.append(Randomly.fromOptions("ZLIB", "LZ4", "NONE"));
+                sb.append(r.fromOptions("ZLIB", "LZ4", "NONE"));
                 sb.append("'");
                 break;
             case DELAY_KEY_WRITE:
                 sb.append("DELAY_KEY_WRITE = ");
-                sb.append(Randomly.fromOptions(0, 1));
+                sb.append(r.fromOptions(0, 1));
                 break;
             case ENGINE:
                 // FEDERATED: java.sql.SQLSyntaxErrorException: Unknown storage engine
@@ -190,7 +191,7 @@ public class MySQLTableGenerator {
                 // "NDB": java.sql.SQLSyntaxErrorException: Unknown storage engine 'NDB'
                 // "EXAMPLE": java.sql.SQLSyntaxErrorException: Unknown storage engine 'EXAMPLE'
                 // "MERGE": java.sql.SQLException: Table 't0' is read only
-                String fromOptions = Randomly.fromOptions("InnoDB", "MyISAM", "MEMORY", "HEAP", "CSV", "ARCHIVE");
+                String fromOptions = r.fromOptions("InnoDB", "MyISAM", "MEMORY", "HEAP", "CSV", "ARCHIVE");
                 this.engine = MySQLEngine.get(fromOptions);
                 sb.append("ENGINE = " + fromOptions);
                 break;
@@ -201,7 +202,7 @@ public class MySQLTableGenerator {
             // break;
             case INSERT_METHOD:
                 sb.append("INSERT_METHOD = ");
-                sb.append(Randomly.fromOptions("NO", "FIRST", "LAST"));
+                sb.append(r.fromOptions("NO", "FIRST", "LAST"));
                 break;
             case KEY_BLOCK_SIZE:
                 sb.append("KEY_BLOCK_SIZE = ");
@@ -214,13 +215,13 @@ public class MySQLTableGenerator {
                 sb.append("MIN_ROWS = " + r.getLong(1, Long.MAX_VALUE));
                 break;
             case PACK_KEYS:
-                sb.append("PACK_KEYS = " + Randomly.fromOptions("1", "0", "DEFAULT"));
+                sb.append("PACK_KEYS = " + r.fromOptions("1", "0", "DEFAULT"));
                 break;
             case STATS_AUTO_RECALC:
-                sb.append("STATS_AUTO_RECALC = " + Randomly.fromOptions("1", "0", "DEFAULT"));
+                sb.append("STATS_AUTO_RECALC = " + r.fromOptions("1", "0", "DEFAULT"));
                 break;
             case STATS_PERSISTENT:
-                sb.append("STATS_PERSISTENT = " + Randomly.fromOptions("1", "0", "DEFAULT"));
+                sb.append("STATS_PERSISTENT = " + r.fromOptions("1", "0", "DEFAULT"));
                 break;
             case STATS_SAMPLE_PAGES:
                 sb.append("STATS_SAMPLE_PAGES = " + r.getInteger(1, Short.MAX_VALUE));
@@ -245,7 +246,7 @@ public class MySQLTableGenerator {
 
     private void appendColumnDefinition() {
         sb.append(" ");
-        MySQLDataType randomType = MySQLDataType.getRandom();
+        MySQLDataType randomType = MySQLDataType.getRandom(r);
         boolean isTextType = randomType == MySQLDataType.VARCHAR;
         appendTypeString(randomType);
         sb.append(" ");
@@ -257,7 +258,7 @@ public class MySQLTableGenerator {
         boolean isNull = false;
         boolean columnHasPrimaryKey = false;
 
-        List<ColumnOptions> columnOptions = Randomly.subset(ColumnOptions.values());
+        List<ColumnOptions> columnOptions = r.subset(ColumnOptions.values());
         if (!columnOptions.contains(ColumnOptions.NULL_OR_NOT_NULL)) {
             tableHasNullableColumn = true;
         }
@@ -272,7 +273,7 @@ public class MySQLTableGenerator {
             case NULL_OR_NOT_NULL:
                 // PRIMARY KEYs cannot be NULL
                 if (!columnHasPrimaryKey) {
-                    if (Randomly.getBoolean()) {
+                    if (r.getBoolean()) {
                         sb.append("NULL");
                     }
                     tableHasNullableColumn = true;
@@ -284,7 +285,7 @@ public class MySQLTableGenerator {
             case UNIQUE:
                 sb.append("UNIQUE");
                 keysSpecified++;
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append(" KEY");
                 }
                 break;
@@ -294,11 +295,11 @@ public class MySQLTableGenerator {
                 break;
             case COLUMN_FORMAT:
                 sb.append("COLUMN_FORMAT ");
-                sb.append(Randomly.fromOptions("FIXED", "DYNAMIC", "DEFAULT"));
+                sb.append(r.fromOptions("FIXED", "DYNAMIC", "DEFAULT"));
                 break;
             case STORAGE:
                 sb.append("STORAGE ");
-                sb.append(Randomly.fromOptions("DISK", "MEMORY"));
+                sb.append(r.fromOptions("DISK", "MEMORY"));
                 break;
             case PRIMARY_KEY:
                 // PRIMARY KEYs cannot be NULL
@@ -319,50 +320,50 @@ public class MySQLTableGenerator {
         switch (randomType) {
         case DECIMAL:
             sb.append("DECIMAL");
-            optionallyAddPrecisionAndScale(sb);
+            optionallyAddPrecisionAndScale(sb, r);
             break;
         case INT:
-            sb.append(Randomly.fromOptions("TINYINT", "SMALLINT", "MEDIUMINT", "INT", "BIGINT"));
-            if (Randomly.getBoolean()) {
+            sb.append(r.fromOptions("TINYINT", "SMALLINT", "MEDIUMINT", "INT", "BIGINT"));
+            if (r.getBoolean()) {
                 sb.append("(");
-                sb.append(Randomly.getNotCachedInteger(0, 255)); // Display width out of range for column 'c0' (max =
+                sb.append(r.getNotCachedInteger(0, 255)); // Display width out of range for column 'c0' (max =
                                                                  // 255)
                 sb.append(")");
             }
             break;
         case VARCHAR:
-            sb.append(Randomly.fromOptions("VARCHAR(500)", "TINYTEXT", "TEXT", "MEDIUMTEXT", "LONGTEXT"));
+            sb.append(r.fromOptions("VARCHAR(500)", "TINYTEXT", "TEXT", "MEDIUMTEXT", "LONGTEXT"));
             break;
         case FLOAT:
             sb.append("FLOAT");
-            optionallyAddPrecisionAndScale(sb);
+            optionallyAddPrecisionAndScale(sb, r);
             break;
         case DOUBLE:
-            sb.append(Randomly.fromOptions("DOUBLE", "FLOAT"));
-            optionallyAddPrecisionAndScale(sb);
+            sb.append(r.fromOptions("DOUBLE", "FLOAT"));
+            optionallyAddPrecisionAndScale(sb, r);
             break;
         default:
             throw new AssertionError();
         }
         if (randomType.isNumeric()) {
-            if (Randomly.getBoolean() && randomType != MySQLDataType.INT && !MySQLBugs.bug99127) {
+            if (r.getBoolean() && randomType != MySQLDataType.INT && !MySQLBugs.bug99127) {
                 sb.append(" UNSIGNED");
             }
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" ZEROFILL");
             }
         }
     }
 
-    public static void optionallyAddPrecisionAndScale(StringBuilder sb) {
-        if (Randomly.getBoolean() && !MySQLBugs.bug99183) {
+    public static void optionallyAddPrecisionAndScale(StringBuilder sb, Randomly r) {
+        if (r.getBoolean() && !MySQLBugs.bug99183) {
             sb.append("(");
             // The maximum number of digits (M) for DECIMAL is 65
-            long m = Randomly.getNotCachedInteger(1, 65);
+            long m = r.getNotCachedInteger(1, 65);
             sb.append(m);
             sb.append(", ");
             // The maximum number of supported decimals (D) is 30
-            long nCandidate = Randomly.getNotCachedInteger(1, 30);
+            long nCandidate = r.getNotCachedInteger(1, 30);
             // For float(M,D), double(M,D) or decimal(M,D), M must be >= D (column 'c0').
             long n = Math.min(nCandidate, m);
             sb.append(n);
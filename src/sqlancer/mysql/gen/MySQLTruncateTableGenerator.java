@@ -13,7 +13,7 @@ public final class MySQLTruncateTableGenerator {
 
     public static Query generate(MySQLGlobalState globalState) {
         StringBuilder sb = new StringBuilder("TRUNCATE TABLE ");
-        sb.append(globalState.getSchema().getRandomTable().getName());
+        sb.append(globalState.getSchema().getRandomTable(globalState.getRandomly()).getName());
         return new QueryAdapter(sb.toString(), Arrays.asList("doesn't have this option"));
     }
 
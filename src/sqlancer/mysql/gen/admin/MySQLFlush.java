@@ -22,24 +22,25 @@ public class MySQLFlush {
     }
 
     public static Query create(MySQLGlobalState globalState) {
-        return new MySQLFlush(globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty()).generate();
+        return new MySQLFlush(globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty(globalState.getRandomly()))
+                .generate(globalState.getRandomly());
     }
 
-    private Query generate() {
+    private Query generate(Randomly r) {
         sb.append("FLUSH");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("NO_WRITE_TO_BINLOG", "LOCAL"));
+            sb.append(r.fromOptions("NO_WRITE_TO_BINLOG", "LOCAL"));
             sb.append(" ");
             // TODO: | RELAY LOGS [FOR CHANNEL channel] not fully implemented
-            List<String> options = Randomly.nonEmptySubset("BINARY LOGS", "ENGINE LOGS", "ERROR LOGS", "GENERAL LOGS",
+            List<String> options = r.nonEmptySubset("BINARY LOGS", "ENGINE LOGS", "ERROR LOGS", "GENERAL LOGS",
                     "HOSTS", "LOGS", "PRIVILEGES", "OPTIMIZER_COSTS", "RELAY LOGS", "SLOW LOGS", "STATUS",
                     "USER_RESOURCES");
             sb.append(options.stream().collect(Collectors.joining(", ")));
         } else {
             sb.append(" ");
             sb.append("TABLES");
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" ");
                 sb.append(tables.stream().map(t -> t.getName()).collect(Collectors.joining(", ")));
                 // TODO implement READ LOCK and other variants
@@ -4,7 +4,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.mysql.MySQLGlobalState;
 
 public final class MySQLReset {
@@ -15,7 +14,8 @@ public final class MySQLReset {
     public static Query create(MySQLGlobalState globalState) {
         StringBuilder sb = new StringBuilder();
         sb.append("RESET ");
-        sb.append(Randomly.nonEmptySubset("MASTER", "SLAVE").stream().collect(Collectors.joining(", ")));
+        sb.append(globalState.getRandomly().nonEmptySubset("MASTER", "SLAVE").stream()
+                .collect(Collectors.joining(", ")));
         return new QueryAdapter(sb.toString());
     }
 
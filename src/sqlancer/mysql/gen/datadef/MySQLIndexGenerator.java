@@ -41,33 +41,33 @@ public class MySQLIndexGenerator {
         Set<String> errors = new HashSet<>();
         MySQLErrors.addExpressionErrors(errors);
         sb.append("CREATE ");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             // "FULLTEXT" TODO Column 'c3' cannot be part of FULLTEXT index
             // A SPATIAL index may only contain a geometrical type column
             sb.append("UNIQUE ");
             errors.add("Duplicate entry");
         }
         sb.append("INDEX ");
-        sb.append(globalState.getSchema().getFreeIndexName());
+        sb.append(globalState.getSchema().getFreeIndexName(r));
         indexType();
         sb.append(" ON ");
-        MySQLTable table = schema.getRandomTable();
+        MySQLTable table = schema.getRandomTable(r);
         MySQLExpressionGenerator gen = new MySQLExpressionGenerator(globalState).setColumns(table.getColumns());
         sb.append(table.getName());
         sb.append("(");
-        if (table.getEngine() == MySQLEngine.INNO_DB && Randomly.getBoolean()) {
-            for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        if (table.getEngine() == MySQLEngine.INNO_DB && r.getBoolean()) {
+            for (int i = 0; i < r.smallNumber() + 1; i++) {
                 if (i != 0) {
                     sb.append(", ");
                 }
                 sb.append("(");
                 MySQLExpression randExpr = gen.generateExpression();
-                sb.append(MySQLVisitor.asString(randExpr));
+                sb.append(MySQLVisitor.asString(randExpr, r));
                 sb.append(")");
 
             }
         } else {
-            List<MySQLColumn> randomColumn = table.getRandomNonEmptyColumnSubset();
+            List<MySQLColumn> randomColumn = table.getRandomNonEmptyColumnSubset(r);
             int i = 0;
             for (MySQLColumn c : randomColumn) {
                 if (i++ != 0) {
@@ -77,15 +77,15 @@ public class MySQLIndexGenerator {
                     columnIsPrimaryKey = true;
                 }
                 sb.append(c.getName());
-                if (Randomly.getBoolean() && c.getType() == MySQLDataType.VARCHAR) {
+                if (r.getBoolean() && c.getType() == MySQLDataType.VARCHAR) {
                     sb.append("(");
                     // TODO for string
                     sb.append(r.getInteger(1, 5));
                     sb.append(")");
                 }
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append(" ");
-                    sb.append(Randomly.fromOptions("ASC", "DESC"));
+                    sb.append(r.fromOptions("ASC", "DESC"));
                 }
             }
         }
@@ -120,13 +120,13 @@ public class MySQLIndexGenerator {
     }
 
     private void algorithmOption() {
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ALGORITHM");
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append("=");
             }
             sb.append(" ");
-            String fromOptions = Randomly.fromOptions("DEFAULT", "INPLACE", "COPY");
+            String fromOptions = r.fromOptions("DEFAULT", "INPLACE", "COPY");
             if (fromOptions.contentEquals("INPLACE")) {
                 containsInPlace = true;
             }
@@ -135,21 +135,21 @@ public class MySQLIndexGenerator {
     }
 
     private void indexOption() {
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ");
             if (columnIsPrimaryKey) {
                 // The explicit primary key cannot be made invisible.
                 sb.append("VISIBLE");
             } else {
-                sb.append(Randomly.fromOptions("VISIBLE", "INVISIBLE"));
+                sb.append(r.fromOptions("VISIBLE", "INVISIBLE"));
             }
         }
     }
 
     private void indexType() {
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" USING ");
-            sb.append(Randomly.fromOptions("BTREE", "HASH"));
+            sb.append(r.fromOptions("BTREE", "HASH"));
         }
     }
 
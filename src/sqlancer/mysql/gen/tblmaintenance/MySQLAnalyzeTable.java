@@ -25,20 +25,21 @@ public class MySQLAnalyzeTable {
     }
 
     public static Query analyze(MySQLGlobalState globalState) {
-        return new MySQLAnalyzeTable(globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty(),
+        return new MySQLAnalyzeTable(globalState.getSchema()
+                .getDatabaseTablesRandomSubsetNotEmpty(globalState.getRandomly()),
                 globalState.getRandomly()).generate();
     }
 
     private Query generate() {
         sb.append("ANALYZE ");
-        if (Randomly.getBoolean()) {
-            sb.append(Randomly.fromOptions("NO_WRITE_TO_BINLOG", "LOCAL"));
+        if (r.getBoolean()) {
+            sb.append(r.fromOptions("NO_WRITE_TO_BINLOG", "LOCAL"));
         }
         sb.append(" TABLE ");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             analyzeWithoutHistogram();
         } else {
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 dropHistogram();
             } else {
                 updateHistogram();
@@ -58,12 +59,12 @@ public class MySQLAnalyzeTable {
     // UPDATE HISTOGRAM ON col_name [, col_name] ...
     // [WITH N BUCKETS]
     private void updateHistogram() {
-        MySQLTable table = Randomly.fromList(tables);
+        MySQLTable table = r.fromList(tables);
         sb.append(table.getName());
         sb.append(" UPDATE HISTOGRAM ON ");
-        List<MySQLColumn> columns = table.getRandomNonEmptyColumnSubset();
+        List<MySQLColumn> columns = table.getRandomNonEmptyColumnSubset(r);
         sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" WITH ");
             sb.append(r.getInteger(1, 1024));
             sb.append(" BUCKETS");
@@ -74,10 +75,10 @@ public class MySQLAnalyzeTable {
     // TABLE tbl_name
     // DROP HISTOGRAM ON col_name [, col_name] ...
     private void dropHistogram() {
-        MySQLTable table = Randomly.fromList(tables);
+        MySQLTable table = r.fromList(tables);
         sb.append(table.getName());
         sb.append(" DROP HISTOGRAM ON ");
-        List<MySQLColumn> columns = table.getRandomNonEmptyColumnSubset();
+        List<MySQLColumn> columns = table.getRandomNonEmptyColumnSubset(r);
         sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
     }
 
@@ -22,7 +22,8 @@ public class MySQLCheckTable {
     }
 
     public static Query check(MySQLGlobalState globalState) {
-        return new MySQLCheckTable(globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty()).generate();
+        return new MySQLCheckTable(globalState.getSchema()
+                .getDatabaseTablesRandomSubsetNotEmpty(globalState.getRandomly())).generate(globalState.getRandomly());
     }
 
     // CHECK TABLE tbl_name [, tbl_name] ... [option] ...
@@ -35,11 +36,11 @@ public class MySQLCheckTable {
     // | EXTENDED
     // | CHANGED
     // }
-    private Query generate() {
+    private Query generate(Randomly r) {
         sb.append("CHECK TABLE ");
         sb.append(tables.stream().map(t -> t.getName()).collect(Collectors.joining(", ")));
         sb.append(" ");
-        List<String> options = Randomly.subset("FOR UPGRADE", "QUICK", "FAST", "MEDIUM", "EXTENDED", "CHANGED");
+        List<String> options = r.subset("FOR UPGRADE", "QUICK", "FAST", "MEDIUM", "EXTENDED", "CHANGED");
         sb.append(options.stream().collect(Collectors.joining(" ")));
         return new QueryAdapter(sb.toString());
     }
@@ -22,16 +22,17 @@ public class MySQLChecksum {
     }
 
     public static Query checksum(MySQLGlobalState globalState) {
-        return new MySQLChecksum(globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty()).checksum();
+        return new MySQLChecksum(globalState.getSchema()
+                .getDatabaseTablesRandomSubsetNotEmpty(globalState.getRandomly())).checksum(globalState.getRandomly());
     }
 
     // CHECKSUM TABLE tbl_name [, tbl_name] ... [QUICK | EXTENDED]
-    private Query checksum() {
+    private Query checksum(Randomly r) {
         sb.append("CHECKSUM TABLE ");
         sb.append(tables.stream().map(t -> t.getName()).collect(Collectors.joining(", ")));
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("QUICK", "EXTENDED"));
+            sb.append(r.fromOptions("QUICK", "EXTENDED"));
         }
         return new QueryAdapter(sb.toString());
     }
@@ -22,16 +22,17 @@ public class MySQLOptimize {
     }
 
     public static Query optimize(MySQLGlobalState globalState) {
-        return new MySQLOptimize(globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty()).optimize();
+        return new MySQLOptimize(globalState.getSchema()
+                .getDatabaseTablesRandomSubsetNotEmpty(globalState.getRandomly())).optimize(globalState.getRandomly());
     }
 
     // OPTIMIZE [NO_WRITE_TO_BINLOG | LOCAL]
     // TABLE tbl_name [, tbl_name] ...
-    private Query optimize() {
+    private Query optimize(Randomly r) {
         sb.append("OPTIMIZE");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("NO_WRITE_TO_BINLOG", "LOCAL"));
+            sb.append(r.fromOptions("NO_WRITE_TO_BINLOG", "LOCAL"));
         }
         sb.append(" TABLE ");
         sb.append(tables.stream().map(t -> t.getName()).collect(Collectors.joining(", ")));
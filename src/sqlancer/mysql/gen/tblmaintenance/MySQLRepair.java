@@ -23,34 +23,35 @@ public class MySQLRepair {
     }
 
     public static Query repair(MySQLGlobalState globalState) {
-        List<MySQLTable> tables = globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty();
+        List<MySQLTable> tables = globalState.getSchema()
+                .getDatabaseTablesRandomSubsetNotEmpty(globalState.getRandomly());
         for (MySQLTable table : tables) {
             // see https://bugs.mysql.com/bug.php?id=95820
             if (table.getEngine() == MySQLEngine.MY_ISAM) {
                 return new QueryAdapter("SELECT 1");
             }
         }
-        return new MySQLRepair(tables).repair();
+        return new MySQLRepair(tables).repair(globalState.getRandomly());
     }
 
     // REPAIR [NO_WRITE_TO_BINLOG | LOCAL]
     // TABLE tbl_name [, tbl_name] ...
     // [QUICK] [EXTENDED] [USE_FRM]
-    private Query repair() {
+    private Query repair(Randomly r) {
         sb.append("REPAIR");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("NO_WRITE_TO_BINLOG", "LOCAL"));
+            sb.append(r.fromOptions("NO_WRITE_TO_BINLOG", "LOCAL"));
         }
         sb.append(" TABLE ");
         sb.append(tables.stream().map(t -> t.getName()).collect(Collectors.joining(", ")));
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" QUICK");
         }
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" EXTENDED");
         }
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" USE_FRM");
         }
         return new QueryAdapter(sb.toString());
@@ -8,7 +8,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
 import sqlancer.StateToReproduce.MySQLStateToReproduce;
 import sqlancer.TestOracle;
 import sqlancer.mysql.MySQLGlobalState;
@@ -64,13 +63,13 @@ public class MySQLPivotedQuerySynthesisOracle implements TestOracle {
     }
 
     public String getQueryThatContainsAtLeastOneRow() throws SQLException {
-        MySQLTables randomFromTables = s.getRandomTableNonEmptyTables();
+        MySQLTables randomFromTables = s.getRandomTableNonEmptyTables(globalState.getRandomly());
         List<MySQLTable> tables = randomFromTables.getTables();
 
         state.queryTargetedTablesString = randomFromTables.tableNamesAsString();
 
         MySQLSelect selectStatement = new MySQLSelect();
-        selectStatement.setSelectType(Randomly.fromOptions(MySQLSelect.SelectType.values()));
+        selectStatement.setSelectType(globalState.getRandomly().fromOptions(MySQLSelect.SelectType.values()));
         state.whereClause = selectStatement;
         columns = randomFromTables.getColumns();
         // for (MySQLTable t : tables) {
@@ -78,7 +77,7 @@ public class MySQLPivotedQuerySynthesisOracle implements TestOracle {
         // columns.add(t.getRowid());
         // }
         // }
-        rw = randomFromTables.getRandomRowValue(globalState.getConnection(), state);
+        rw = randomFromTables.getRandomRowValue(globalState);
 
         // List<Join> joinStatements = new ArrayList<>();
         // for (int i = 1; i < tables.size(); i++) {
@@ -114,7 +113,8 @@ public class MySQLPivotedQuerySynthesisOracle implements TestOracle {
             MySQLExpression offsetClause = generateOffset();
             selectStatement.setOffsetClause(offsetClause);
         }
-        List<String> modifiers = Randomly.subset("STRAIGHT_JOIN", "SQL_SMALL_RESULT", "SQL_BIG_RESULT", "SQL_NO_CACHE"); // "SQL_BUFFER_RESULT",
+        List<String> modifiers = globalState.getRandomly()
+                .subset("STRAIGHT_JOIN", "SQL_SMALL_RESULT", "SQL_BIG_RESULT", "SQL_NO_CACHE"); // "SQL_BUFFER_RESULT",
                                                                                                                          // "SQL_CALC_FOUND_ROWS",
                                                                                                                          // "HIGH_PRIORITY"
         // TODO: Incorrect usage/placement of 'SQL_BUFFER_RESULT'
@@ -142,13 +142,13 @@ public class MySQLPivotedQuerySynthesisOracle implements TestOracle {
         sb2.append(") as result;");
         state.queryThatSelectsRow = sb2.toString();
 
-        MySQLToStringVisitor visitor = new MySQLToStringVisitor();
+        MySQLToStringVisitor visitor = new MySQLToStringVisitor(globalState.getRandomly());
         visitor.visit(selectStatement);
         return visitor.get();
     }
 
     private List<MySQLExpression> generateGroupByClause(List<MySQLColumn> columns, MySQLRowValue rw) {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             return columns.stream().map(c -> MySQLColumnReference.create(c, rw.getValues().get(c)))
                     .collect(Collectors.toList());
         } else {
@@ -158,15 +158,16 @@ public class MySQLPivotedQuerySynthesisOracle implements TestOracle {
 
     public List<MySQLExpression> generateOrderBy(List<MySQLColumn> columns) {
         List<MySQLExpression> orderBys = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber(); i++) {
-            orderBys.add(new MySQLOrderByTerm(MySQLColumnReference.create(Randomly.fromList(columns), null),
-                    MySQLOrder.getRandomOrder()));
+        for (int i = 0; i < globalState.getRandomly().smallNumber(); i++) {
+            orderBys.add(new MySQLOrderByTerm(
+                    MySQLColumnReference.create(globalState.getRandomly().fromList(columns), null),
+                    MySQLOrder.getRandomOrder(globalState.getRandomly())));
         }
         return orderBys;
     }
 
     private MySQLConstant generateLimit() {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             return MySQLConstant.createIntConstant(Integer.MAX_VALUE);
         } else {
             return null;
@@ -174,7 +175,7 @@ public class MySQLPivotedQuerySynthesisOracle implements TestOracle {
     }
 
     private MySQLExpression generateOffset() {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             // OFFSET 0
             return MySQLConstant.createIntConstantNotAsBoolean(0);
         } else {
@@ -191,7 +192,7 @@ public class MySQLPivotedQuerySynthesisOracle implements TestOracle {
         } else if (expectedValue.asBooleanNotNull()) {
             return expression;
         } else {
-            return new MySQLUnaryPrefixOperation(expression, MySQLUnaryPrefixOperator.NOT);
+            return new MySQLUnaryPrefixOperation(expression, MySQLUnaryPrefixOperator.NOT, globalState.getRandomly());
         }
     }
 
@@ -2,11 +2,10 @@ package sqlancer.mysql.oracle;
 
 import java.sql.SQLException;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import sqlancer.ExpectedErrors;
 import sqlancer.TestOracle;
 import sqlancer.mysql.MySQLErrors;
 import sqlancer.mysql.MySQLGlobalState;
@@ -25,7 +24,7 @@ import sqlancer.mysql.gen.MySQLExpressionGenerator;
 public abstract class MySQLQueryPartitioningBase implements TestOracle {
 
     final MySQLGlobalState state;
-    final Set<String> errors = new HashSet<>();
+    final ExpectedErrors errors = new ExpectedErrors();
 
     MySQLSchema s;
     MySQLTables targetTables;
@@ -43,7 +42,7 @@ public abstract class MySQLQueryPartitioningBase implements TestOracle {
     @Override
     public void check() throws SQLException {
         s = state.getSchema();
-        targetTables = s.getRandomTableNonEmptyTables();
+        targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new MySQLExpressionGenerator(state).setColumns(targetTables.getColumns());
         select = new MySQLSelect();
         select.setFetchColumns(generateFetchColumns());
@@ -55,7 +54,7 @@ public abstract class MySQLQueryPartitioningBase implements TestOracle {
         select.setWhereClause(null);
         // select.setJoins(joins);
         predicate = generatePredicate();
-        negatedPredicate = new MySQLUnaryPrefixOperation(predicate, MySQLUnaryPrefixOperator.NOT);
+        negatedPredicate = new MySQLUnaryPrefixOperation(predicate, MySQLUnaryPrefixOperator.NOT, state.getRandomly());
         isNullPredicate = new MySQLUnaryPostfixOperation(predicate,
                 MySQLUnaryPostfixOperation.UnaryPostfixOperator.IS_NULL, false);
     }
@@ -6,7 +6,7 @@ import java.util.Collections;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.mysql.MySQLGlobalState;
 import sqlancer.mysql.MySQLVisitor;
 
@@ -20,25 +20,25 @@ public class MySQLTLPWhereOracle extends MySQLQueryPartitioningBase {
     public void check() throws SQLException {
         super.check();
         select.setWhereClause(null);
-        String originalQueryString = MySQLVisitor.asString(select);
+        String originalQueryString = MySQLVisitor.asString(select, state.getRandomly());
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
         select.setOrderByExpressions(Collections.emptyList());
         select.setWhereClause(predicate);
-        String firstQueryString = MySQLVisitor.asString(select);
+        String firstQueryString = MySQLVisitor.asString(select, state.getRandomly());
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = MySQLVisitor.asString(select);
+        String secondQueryString = MySQLVisitor.asString(select, state.getRandomly());
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = MySQLVisitor.asString(select);
+        String thirdQueryString = MySQLVisitor.asString(select, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, Randomly.getBoolean(), state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, state.getRandomly().getBoolean(), state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
 }
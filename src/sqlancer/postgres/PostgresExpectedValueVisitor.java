@@ -1,5 +1,6 @@
 package sqlancer.postgres;
 
+import sqlancer.Randomly;
 import sqlancer.postgres.ast.PostgresAggregate;
 import sqlancer.postgres.ast.PostgresBetweenOperation;
 import sqlancer.postgres.ast.PostgresCastOperation;
@@ -21,15 +22,25 @@ import sqlancer.postgres.ast.PostgresSimilarTo;
 public final class PostgresExpectedValueVisitor implements PostgresVisitor {
 
     private final StringBuilder sb = new StringBuilder();
+    private final PostgresToStringVisitor renderer;
     private static final int NR_TABS = 0;
 
+    public PostgresExpectedValueVisitor(Randomly r) {
+        renderer = new PostgresToStringVisitor(r);
+        renderer.recordSubtrees();
+    }
+
     private void print(PostgresExpression expr) {
-        PostgresToStringVisitor v = new PostgresToStringVisitor();
-        v.visit(expr);
+        CharSequence text = renderer.getText(expr);
+        if (text == null) {
+            // rendering the expression also records the text of its subexpressions, which are printed next
+            renderer.visit(expr);
+            text = renderer.getText(expr);
+        }
         for (int i = 0; i < NR_TABS; i++) {
             sb.append("\t");
         }
-        sb.append(v.get());
+        sb.append(text);
         sb.append(" -- " + expr.getExpectedValue());
         sb.append("\n");
     }
@@ -5,30 +5,49 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import sqlancer.GlobalState;
+import sqlancer.MetadataCache;
 import sqlancer.Randomly;
 
 public class PostgresGlobalState extends GlobalState<PostgresOptions> {
 
+    // identifies the server in the metadata cache; the catalogs are the same for all databases
+    private static final String SERVER_URL = "jdbc:postgresql://localhost:5432";
+
     private List<String> operators;
     private List<String> collates;
     private List<String> opClasses;
     private PostgresSchema schema;
+    private boolean createdFromTemplate;
 
     @Override
     public void setConnection(Connection con) {
         super.setConnection(con);
         try {
-            this.opClasses = getOpclasses(getConnection());
-            this.operators = getOperators(getConnection());
-            this.collates = getCollnames(getConnection());
+            loadCatalogs(getConnection());
         } catch (SQLException e) {
             throw new AssertionError(e);
         }
     }
 
+    private void loadCatalogs(Connection con) throws SQLException {
+        String version = con.getMetaData().getDatabaseProductVersion();
+        this.opClasses = MetadataCache.get(SERVER_URL, version, "pg_opclass", () -> getOpclasses(con));
+        this.operators = MetadataCache.get(SERVER_URL, version, "pg_operator", () -> getOperators(con));
+        this.collates = loadCollates(con);
+    }
+
+    /**
+     * Returns the names of the collations that can be used for columns and databases.
+     */
+    public static List<String> loadCollates(Connection con) throws SQLException {
+        return MetadataCache.get(SERVER_URL, con.getMetaData().getDatabaseProductVersion(), "pg_collation",
+                () -> getCollnames(con));
+    }
+
     public void setSchema(PostgresSchema schema) {
         this.schema = schema;
     }
@@ -37,7 +56,19 @@ public class PostgresGlobalState extends GlobalState<PostgresOptions> {
         return schema;
     }
 
-    private List<String> getCollnames(Connection con) throws SQLException {
+    public void setCreatedFromTemplate(boolean createdFromTemplate) {
+        this.createdFromTemplate = createdFromTemplate;
+    }
+
+    /**
+     * Returns whether the database was cloned from a template database of a previous test run (see
+     * --template-database-reuse), in which case it already contains tables and data.
+     */
+    public boolean isCreatedFromTemplate() {
+        return createdFromTemplate;
+    }
+
+    private static List<String> getCollnames(Connection con) throws SQLException {
         List<String> opClasses = new ArrayList<>();
         try (Statement s = con.createStatement()) {
             try (ResultSet rs = s
@@ -47,10 +78,10 @@ public class PostgresGlobalState extends GlobalState<PostgresOptions> {
                 }
             }
         }
-        return opClasses;
+        return Collections.unmodifiableList(opClasses);
     }
 
-    private List<String> getOpclasses(Connection con) throws SQLException {
+    private static List<String> getOpclasses(Connection con) throws SQLException {
         List<String> opClasses = new ArrayList<>();
         try (Statement s = con.createStatement()) {
             try (ResultSet rs = s.executeQuery("select opcname FROM pg_opclass;")) {
@@ -59,10 +90,10 @@ public class PostgresGlobalState extends GlobalState<PostgresOptions> {
                 }
             }
         }
-        return opClasses;
+        return Collections.unmodifiableList(opClasses);
     }
 
-    private List<String> getOperators(Connection con) throws SQLException {
+    private static List<String> getOperators(Connection con) throws SQLException {
         List<String> opClasses = new ArrayList<>();
         try (Statement s = con.createStatement()) {
             try (ResultSet rs = s.executeQuery("SELECT oprname FROM pg_operator;")) {
@@ -71,31 +102,36 @@ public class PostgresGlobalState extends GlobalState<PostgresOptions> {
                 }
             }
         }
-        return opClasses;
+        return Collections.unmodifiableList(opClasses);
     }
 
     public List<String> getOperators() {
         return operators;
     }
 
-    public String getRandomOperator() {
-        return Randomly.fromList(operators);
+    public String getRandomOperator(Randomly r) {
+        return r.fromList(operators);
     }
 
     public List<String> getCollates() {
         return collates;
     }
 
-    public String getRandomCollate() {
-        return Randomly.fromList(collates);
+    public String getRandomCollate(Randomly r) {
+        return r.fromList(collates);
     }
 
     public List<String> getOpClasses() {
-        return opClasses;
+        return Collections.unmodifiableList(opClasses);
     }
 
-    public String getRandomOpclass() {
-        return Randomly.fromList(opClasses);
+    public String getRandomOpclass(Randomly r) {
+        return r.fromList(opClasses);
+    }
+
+    @Override
+    public String getResultDigestQuery(String queryString) {
+        return PostgresVisitor.asResultDigest(queryString);
     }
 
 }
@@ -29,6 +29,9 @@ public class PostgresOptions {
     @Parameter(names = "--test-collations", arity = 1)
     public boolean testCollations = true;
 
+    @Parameter(names = "--template-database-reuse", description = "Specifies in how many subsequent test runs a thread clones its last generated database (using CREATE DATABASE ... TEMPLATE) and only executes a few additional statements, before it generates a new database from scratch (0 = disabled)")
+    public int templateDatabaseReuse;
+
     public enum PostgresOracle {
         NOREC {
             @Override
@@ -4,19 +4,24 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.AbstractAction;
 import sqlancer.CompositeTestOracle;
+import sqlancer.ConnectionPool;
 import sqlancer.GlobalState;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.QueryManager;
 import sqlancer.Main.StateLogger;
 import sqlancer.MainOptions;
+import sqlancer.ParallelOracleExecutor;
 import sqlancer.ProviderAdapter;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
@@ -31,6 +36,7 @@ import sqlancer.postgres.PostgresSchema.PostgresTable;
 import sqlancer.postgres.ast.PostgresExpression;
 import sqlancer.postgres.gen.PostgresAlterTableGenerator;
 import sqlancer.postgres.gen.PostgresAnalyzeGenerator;
+import sqlancer.postgres.gen.PostgresBulkLoader;
 import sqlancer.postgres.gen.PostgresClusterGenerator;
 import sqlancer.postgres.gen.PostgresCommentGenerator;
 import sqlancer.postgres.gen.PostgresDeleteGenerator;
@@ -58,7 +64,11 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
 
     public static boolean generateOnlyKnown;
 
-    private PostgresGlobalState globalState;
+    // the CREATE DATABASE statement of the database that the current thread can recycle (see --recycle-databases)
+    private static final ThreadLocal<String> RECYCLED_DATABASE_COMMAND = new ThreadLocal<>();
+
+    // the database that the current thread last generated from scratch (see --template-database-reuse)
+    private static final ThreadLocal<TemplateDatabase> TEMPLATE_DATABASE = new ThreadLocal<>();
 
     public PostgresProvider() {
         super(PostgresGlobalState.class, PostgresOptions.class);
@@ -66,20 +76,20 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
 
     public enum Action implements AbstractAction<PostgresGlobalState> {
         ANALYZE(PostgresAnalyzeGenerator::create), //
-        ALTER_TABLE(g -> PostgresAlterTableGenerator.create(g.getSchema().getRandomTable(t -> !t.isView()), g,
-                generateOnlyKnown)), //
+        ALTER_TABLE(g -> PostgresAlterTableGenerator.create(
+                g.getSchema().getRandomTable(t -> !t.isView(), g.getRandomly()), g, generateOnlyKnown)), //
         CLUSTER(PostgresClusterGenerator::create), //
         COMMIT(g -> {
             Query query;
-            if (Randomly.getBoolean()) {
+            if (g.getRandomly().getBoolean()) {
                 query = new QueryAdapter("COMMIT") {
                     @Override
                     public boolean couldAffectSchema() {
                         return true;
                     }
                 };
-            } else if (Randomly.getBoolean()) {
-                query = PostgresTransactionGenerator.executeBegin();
+            } else if (g.getRandomly().getBoolean()) {
+                query = PostgresTransactionGenerator.executeBegin(g.getRandomly());
             } else {
                 query = new QueryAdapter("ROLLBACK") {
                     @Override
@@ -105,7 +115,7 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
         SET_CONSTRAINTS((g) -> {
             StringBuilder sb = new StringBuilder();
             sb.append("SET CONSTRAINTS ALL ");
-            sb.append(Randomly.fromOptions("DEFERRED", "IMMEDIATE"));
+            sb.append(g.getRandomly().fromOptions("DEFERRED", "IMMEDIATE"));
             return new QueryAdapter(sb.toString());
         }), //
         RESET_ROLE((g) -> new QueryAdapter("RESET ROLE")), //
@@ -115,11 +125,11 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
                                                     * configuration parameter
                                                     */), //
         NOTIFY(PostgresNotifyGenerator::createNotify), //
-        LISTEN((g) -> PostgresNotifyGenerator.createListen()), //
-        UNLISTEN((g) -> PostgresNotifyGenerator.createUnlisten()), //
+        LISTEN((g) -> PostgresNotifyGenerator.createListen(g.getRandomly())), //
+        UNLISTEN((g) -> PostgresNotifyGenerator.createUnlisten(g.getRandomly())), //
         CREATE_SEQUENCE(PostgresSequenceGenerator::createSequence), //
         CREATE_VIEW(PostgresViewGenerator::create), //
-        QUERY_CATALOG((g) -> PostgresQueryCatalogGenerator.query());
+        QUERY_CATALOG((g) -> PostgresQueryCatalogGenerator.query(g.getRandomly()));
 
         private final QueryProvider<PostgresGlobalState> queryProvider;
 
@@ -133,6 +143,25 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
         }
     }
 
+    private static final class TemplateDatabase {
+
+        // the statements that generated the template database, which are needed to reproduce its clones
+        private final List<Query> statements;
+        private int nrRemainingUses;
+        private boolean registered;
+
+        TemplateDatabase(List<Query> statements, int nrRemainingUses) {
+            this.statements = statements;
+            this.nrRemainingUses = nrRemainingUses;
+        }
+
+    }
+
+    private static int mapDeltaActions(PostgresGlobalState globalState, Action a) {
+        // the cloned database already contains data, so every action is performed at most once
+        return Math.min(mapActions(globalState, a), 1);
+    }
+
     private static int mapActions(PostgresGlobalState globalState, Action a) {
         Randomly r = globalState.getRandomly();
         int nrPerformed;
@@ -221,13 +250,27 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
             }
         }
 
+        if (options.getNrBulkLoadRows() != 0 && !globalState.isCreatedFromTemplate()) {
+            for (PostgresTable table : globalState.getSchema().getDatabaseTables()) {
+                if (table.isInsertable()) {
+                    List<PostgresColumn> columns = table.getColumns().stream().filter(c -> !c.isGenerated())
+                            .collect(Collectors.toList());
+                    if (!columns.isEmpty()) {
+                        new PostgresBulkLoader(globalState).load(table.getName(), columns,
+                                options.getNrBulkLoadRows());
+                    }
+                }
+            }
+        }
+
         StatementExecutor<PostgresGlobalState, Action> se = new StatementExecutor<>(globalState, Action.values(),
-                PostgresProvider::mapActions, (q) -> {
+                globalState.isCreatedFromTemplate() ? PostgresProvider::mapDeltaActions : PostgresProvider::mapActions,
+                (q) -> {
                     if (q.couldAffectSchema()) {
                         globalState.setSchema(PostgresSchema.fromConnection(con, databaseName));
                     }
                     if (globalState.getSchema().getDatabaseTables().isEmpty()) {
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                     }
                 });
         // TODO: transactions broke during refactoring
@@ -244,9 +287,21 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
         manager.incrementCreateDatabase();
         manager.execute(new QueryAdapter("COMMIT"));
         globalState.setSchema(PostgresSchema.fromConnection(con, databaseName));
+        int templateDatabaseReuse = globalState.getDmbsSpecificOptions().templateDatabaseReuse;
+        if (templateDatabaseReuse > 0 && !globalState.isCreatedFromTemplate()) {
+            TEMPLATE_DATABASE.set(new TemplateDatabase(new ArrayList<>(state.getStatements()), templateDatabaseReuse));
+        }
 
         manager.execute(new QueryAdapter("SET SESSION statement_timeout = 5000;\n"));
 
+        boolean hasTemporaryTables = globalState.getSchema().getDatabaseTables().stream()
+                .anyMatch(t -> t.getTableType() == PostgresTable.TableType.TEMPORARY);
+        ParallelOracleExecutor.executeChecks(globalState, createOracle(globalState),
+                hasTemporaryTables ? null : PostgresProvider::createWorker, PostgresProvider::createOracle);
+
+    }
+
+    private static CompositeTestOracle createOracle(PostgresGlobalState globalState) {
         List<TestOracle> oracles = globalState.getDmbsSpecificOptions().oracle.stream().map(o -> {
             try {
                 return o.create(globalState);
@@ -254,30 +309,53 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
                 throw new AssertionError(e1);
             }
         }).collect(Collectors.toList());
-        CompositeTestOracle oracle = new CompositeTestOracle(oracles);
+        return new CompositeTestOracle(oracles);
+    }
 
-        for (int i = 0; i < options.getNrQueries(); i++) {
-            try {
-                oracle.check();
-            } catch (IgnoreMeException e) {
-                continue;
-            }
-            manager.incrementSelectQueryCount();
-        }
+    /**
+     * Creates an oracle worker on another session to the database (see --oracle-workers). Since temporary tables are
+     * only visible in the session that created them, databases with temporary tables are checked without workers.
+     */
+    private static PostgresGlobalState createWorker(PostgresGlobalState globalState, long seed) throws SQLException {
+        Connection con = ParallelOracleExecutor.openSession(globalState, PostgresProvider::isSessionStatement);
+        PostgresGlobalState worker = new PostgresGlobalState();
+        globalState.initializeWorker(worker, con, new Randomly(seed),
+                new PostgresStateToReproduce(globalState.getDatabaseName()));
+        worker.setSchema(globalState.getSchema());
+        worker.setCreatedFromTemplate(globalState.isCreatedFromTemplate());
+        return worker;
+    }
 
+    private static boolean isSessionStatement(String s) {
+        String statement = s.trim().toUpperCase();
+        return statement.startsWith("SET ") || statement.startsWith("RESET ") || statement.startsWith("DISCARD ");
     }
 
     @Override
     public Connection createDatabase(PostgresGlobalState globalState) throws SQLException {
-        String url = "jdbc:postgresql://localhost:5432/test";
         String databaseName = globalState.getDatabaseName();
-        Connection con = DriverManager.getConnection(url, globalState.getOptions().getUserName(),
-                globalState.getOptions().getPassword());
-        globalState.getState().statements.add(new QueryAdapter("\\c test;"));
-        globalState.getState().statements.add(new QueryAdapter("DROP DATABASE IF EXISTS " + databaseName));
+        MainOptions options = globalState.getOptions();
+        String databaseUrl = "jdbc:postgresql://localhost:5432/" + databaseName;
+        TemplateDatabase template = TEMPLATE_DATABASE.get();
+        if (template != null && template.nrRemainingUses > 0) {
+            template.nrRemainingUses--;
+            return cloneTemplateDatabase(globalState, template);
+        }
+        TEMPLATE_DATABASE.remove();
+        boolean useTemplates = globalState.getDmbsSpecificOptions().templateDatabaseReuse > 0;
+        String recycledDatabaseCommand = RECYCLED_DATABASE_COMMAND.get();
+        if (options.recycleDatabases() && !useTemplates && recycledDatabaseCommand != null
+                && ConnectionPool.hasConnection(databaseUrl)) {
+            // the cleaned-up database has none of the objects of the previous run, but is not identical to a new one
+            // (see recycleDatabase()); the log records the CREATE DATABASE that reproduces the run
+            logCreateDatabase(globalState, recycledDatabaseCommand);
+            Connection con = ConnectionPool.getConnection(databaseUrl, options);
+            recycleDatabase(con);
+            return con;
+        }
+        Connection con = ConnectionPool.getAdminConnection("jdbc:postgresql://localhost:5432/test", options);
         String createDatabaseCommand = getCreateDatabaseCommand(databaseName, con, globalState);
-        globalState.getState().statements.add(new QueryAdapter(createDatabaseCommand));
-        globalState.getState().statements.add(new QueryAdapter("\\c " + databaseName));
+        logCreateDatabase(globalState, createDatabaseCommand);
         try (Statement s = con.createStatement()) {
             s.execute("DROP DATABASE IF EXISTS " + databaseName);
         }
@@ -285,25 +363,121 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
             s.execute(createDatabaseCommand);
         }
         con.close();
-        con = DriverManager.getConnection("jdbc:postgresql://localhost:5432/" + databaseName,
-                globalState.getOptions().getUserName(), globalState.getOptions().getPassword());
-        return con;
+        if (options.recycleDatabases() && !useTemplates) {
+            RECYCLED_DATABASE_COMMAND.set(createDatabaseCommand);
+            return ConnectionPool.getConnection(databaseUrl, options);
+        }
+        return DriverManager.getConnection(databaseUrl, options.getUserName(), options.getPassword());
+    }
+
+    /**
+     * Creates the database as a copy of the database that the previous test run of this thread generated from scratch.
+     * The generated database is registered as a template first, since CREATE DATABASE ... TEMPLATE requires the source
+     * database to be idle and the clones replace it.
+     */
+    private static Connection cloneTemplateDatabase(PostgresGlobalState globalState, TemplateDatabase template)
+            throws SQLException {
+        String databaseName = globalState.getDatabaseName();
+        String templateName = databaseName + "_template";
+        MainOptions options = globalState.getOptions();
+        List<Query> statements = globalState.getState().statements;
+        statements.addAll(template.statements);
+        statements.add(new QueryAdapter("\\c test;"));
+        List<String> registerTemplate = Arrays.asList("DROP DATABASE IF EXISTS " + templateName,
+                "CREATE DATABASE " + templateName + " TEMPLATE " + databaseName);
+        List<String> cloneTemplate = Arrays.asList("DROP DATABASE IF EXISTS " + databaseName,
+                "CREATE DATABASE " + databaseName + " TEMPLATE " + templateName);
+        try (Connection con = ConnectionPool.getAdminConnection("jdbc:postgresql://localhost:5432/test", options);
+                Statement s = con.createStatement()) {
+            for (String registerStatement : registerTemplate) {
+                statements.add(new QueryAdapter(registerStatement));
+                if (!template.registered) {
+                    s.execute(registerStatement);
+                }
+            }
+            template.registered = true;
+            for (String cloneStatement : cloneTemplate) {
+                statements.add(new QueryAdapter(cloneStatement));
+                s.execute(cloneStatement);
+            }
+        } catch (SQLException e) {
+            TEMPLATE_DATABASE.remove();
+            throw e;
+        }
+        statements.add(new QueryAdapter("\\c " + databaseName));
+        globalState.setCreatedFromTemplate(true);
+        return DriverManager.getConnection("jdbc:postgresql://localhost:5432/" + databaseName, options.getUserName(),
+                options.getPassword());
+    }
+
+    private static void logCreateDatabase(PostgresGlobalState globalState, String createDatabaseCommand) {
+        String databaseName = globalState.getDatabaseName();
+        globalState.getState().statements.add(new QueryAdapter("\\c test;"));
+        globalState.getState().statements.add(new QueryAdapter("DROP DATABASE IF EXISTS " + databaseName));
+        globalState.getState().statements.add(new QueryAdapter(createDatabaseCommand));
+        globalState.getState().statements.add(new QueryAdapter("\\c " + databaseName));
+    }
+
+    /**
+     * Resets the session and drops every kind of object that the generators create in the public schema (tables,
+     * partitioned and foreign tables, views, materialized views, and sequences); indexes, statistics objects, comments,
+     * and triggers are dropped together with their tables. The database is not identical to a newly created one: for
+     * example, OIDs, transaction IDs, and the cumulative statistics (pg_stat_*) of the database carry over.
+     */
+    private static void recycleDatabase(Connection con) throws SQLException {
+        try (Statement s = con.createStatement()) {
+            try {
+                s.execute("ROLLBACK");
+            } catch (SQLException e) {
+                // there is no transaction in progress
+            }
+            s.execute("DISCARD ALL");
+            List<String> dropStatements = new ArrayList<>();
+            try (ResultSet rs = s.executeQuery(
+                    "SELECT c.relname, c.relkind FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = 'public' AND c.relkind IN ('r', 'p', 'f', 'v', 'm', 'S')")) {
+                while (rs.next()) {
+                    String kind;
+                    switch (rs.getString(2)) {
+                    case "v":
+                        kind = "VIEW";
+                        break;
+                    case "m":
+                        kind = "MATERIALIZED VIEW";
+                        break;
+                    case "S":
+                        kind = "SEQUENCE";
+                        break;
+                    case "f":
+                        kind = "FOREIGN TABLE";
+                        break;
+                    default:
+                        kind = "TABLE";
+                        break;
+                    }
+                    dropStatements.add(String.format("DROP %s IF EXISTS %s CASCADE", kind, rs.getString(1)));
+                }
+            }
+            for (String dropStatement : dropStatements) {
+                s.execute(dropStatement);
+            }
+        }
     }
 
-    private String getCreateDatabaseCommand(String databaseName, Connection con, GlobalState<?> state) {
+    private String getCreateDatabaseCommand(String databaseName, Connection con, GlobalState<?> state)
+            throws SQLException {
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE DATABASE " + databaseName + " ");
-        if (Randomly.getBoolean() && ((PostgresOptions) state.getDmbsSpecificOptions()).testCollations) {
-            if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean() && ((PostgresOptions) state.getDmbsSpecificOptions()).testCollations) {
+            if (state.getRandomly().getBoolean()) {
                 sb.append("WITH ENCODING '");
-                sb.append(Randomly.fromOptions("utf8"));
+                sb.append(state.getRandomly().fromOptions("utf8"));
                 sb.append("' ");
             }
             for (String lc : Arrays.asList("LC_COLLATE", "LC_CTYPE")) {
-                if (Randomly.getBoolean()) {
-                    globalState = new PostgresGlobalState();
-                    globalState.setConnection(con);
-                    sb.append(String.format(" %s = '%s'", lc, Randomly.fromList(globalState.getCollates())));
+                if (state.getRandomly().getBoolean()) {
+                    sb.append(
+                            String.format(" %s = '%s'", lc,
+                            state.getRandomly().fromList(PostgresGlobalState.loadCollates(con))));
                 }
             }
             sb.append(" TEMPLATE template0");
@@ -340,7 +514,9 @@ public final class PostgresProvider extends ProviderAdapter<PostgresGlobalState,
             sb.append("expected values: \n");
             PostgresExpression whereClause = ((PostgresStateToReproduce) state).getWhereClause();
             if (whereClause != null) {
-                sb.append(PostgresVisitor.asExpectedValues(whereClause).replace("\n", "\n-- "));
+                // the spelling of the rendered values does not matter here, so a fresh generator suffices
+                sb.append(PostgresVisitor.asExpectedValues(whereClause, new Randomly(state.getSeedValue()))
+                        .replace("\n", "\n-- "));
             }
         }
         try {
@@ -15,6 +15,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.StateToReproduce.PostgresStateToReproduce;
 import sqlancer.postgres.PostgresSchema.PostgresTable.TableType;
@@ -32,7 +33,7 @@ public class PostgresSchema {
     public enum PostgresDataType {
         INT, BOOLEAN, TEXT, DECIMAL, FLOAT, REAL, RANGE, MONEY, BIT, INET;
 
-        public static PostgresDataType getRandomType() {
+        public static PostgresDataType getRandomType(Randomly r) {
             List<PostgresDataType> dataTypes = Arrays.asList(values());
             if (PostgresProvider.generateOnlyKnown) {
                 dataTypes.remove(PostgresDataType.DECIMAL);
@@ -40,14 +41,39 @@ public class PostgresSchema {
                 dataTypes.remove(PostgresDataType.REAL);
                 dataTypes.remove(PostgresDataType.INET);
             }
-            return Randomly.fromList(dataTypes);
+            return r.fromList(dataTypes);
         }
     }
 
     public static class PostgresColumn extends AbstractTableColumn<PostgresTable, PostgresDataType> {
 
+        private final boolean isGenerated;
+        private final int maxLength;
+
         public PostgresColumn(String name, PostgresDataType columnType) {
+            this(name, columnType, false, -1);
+        }
+
+        public PostgresColumn(String name, PostgresDataType columnType, boolean isGenerated, int maxLength) {
             super(name, null, columnType);
+            this.isGenerated = isGenerated;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Returns whether the values of the column are always generated, so that they cannot be inserted (i.e., a
+         * GENERATED ALWAYS AS (...) STORED or GENERATED ALWAYS AS IDENTITY column).
+         */
+        public boolean isGenerated() {
+            return isGenerated;
+        }
+
+        /**
+         * Returns the declared length of a bit string or character column (e.g., 3 for BIT(3) or VARCHAR(3)), or -1 if
+         * the column's length is not restricted.
+         */
+        public int getMaxLength() {
+            return maxLength;
         }
 
     }
@@ -58,47 +84,47 @@ public class PostgresSchema {
             super(tables);
         }
 
-        public PostgresRowValue getRandomRowValue(Connection con, PostgresStateToReproduce state) throws SQLException {
-            String randomRow = String.format("SELECT %s FROM %s ORDER BY RANDOM() LIMIT 1", columnNamesAsString(
-                    c -> c.getTable().getName() + "." + c.getName() + " AS " + c.getTable().getName() + c.getName()),
-                    // columnNamesAsString(c -> "typeof(" + c.getTable().getName() + "." +
-                    // c.getName() + ")")
-                    tableNamesAsString());
+        public PostgresRowValue getRandomRowValue(PostgresGlobalState globalState) throws SQLException {
+            PostgresStateToReproduce state = (PostgresStateToReproduce) globalState.getState();
+            List<PostgresConstant> row = getRandomRow(globalState, "RANDOM()", this::readRow);
+            if (row == null) {
+                throw new AssertionError("could not find random row! " + tableNamesAsString() + "\n" + state);
+            }
             Map<PostgresColumn, PostgresConstant> values = new HashMap<>();
-            try (Statement s = con.createStatement()) {
-                ResultSet randomRowValues = s.executeQuery(randomRow);
-                if (!randomRowValues.next()) {
-                    throw new AssertionError("could not find random row! " + randomRow + "\n" + state);
-                }
-                for (int i = 0; i < getColumns().size(); i++) {
-                    PostgresColumn column = getColumns().get(i);
-                    int columnIndex = randomRowValues.findColumn(column.getTable().getName() + column.getName());
-                    assert columnIndex == i + 1;
-                    PostgresConstant constant;
-                    if (randomRowValues.getString(columnIndex) == null) {
-                        constant = PostgresConstant.createNullConstant();
-                    } else {
-                        switch (column.getType()) {
-                        case INT:
-                            constant = PostgresConstant.createIntConstant(randomRowValues.getLong(columnIndex));
-                            break;
-                        case BOOLEAN:
-                            constant = PostgresConstant.createBooleanConstant(randomRowValues.getBoolean(columnIndex));
-                            break;
-                        case TEXT:
-                            constant = PostgresConstant.createTextConstant(randomRowValues.getString(columnIndex));
-                            break;
-                        default:
-                            throw new AssertionError(column.getType());
-                        }
+            for (int i = 0; i < getColumns().size(); i++) {
+                values.put(getColumns().get(i), row.get(i));
+            }
+            state.randomRowValues = values;
+            return new PostgresRowValue(this, values);
+        }
+
+        private List<PostgresConstant> readRow(ResultSet randomRowValues) throws SQLException {
+            List<PostgresConstant> row = new ArrayList<>(getColumns().size());
+            for (int i = 0; i < getColumns().size(); i++) {
+                PostgresColumn column = getColumns().get(i);
+                int columnIndex = randomRowValues.findColumn(column.getTable().getName() + column.getName());
+                assert columnIndex == i + 1;
+                PostgresConstant constant;
+                if (randomRowValues.getString(columnIndex) == null) {
+                    constant = PostgresConstant.createNullConstant();
+                } else {
+                    switch (column.getType()) {
+                    case INT:
+                        constant = PostgresConstant.createIntConstant(randomRowValues.getLong(columnIndex));
+                        break;
+                    case BOOLEAN:
+                        constant = PostgresConstant.createBooleanConstant(randomRowValues.getBoolean(columnIndex));
+                        break;
+                    case TEXT:
+                        constant = PostgresConstant.createTextConstant(randomRowValues.getString(columnIndex));
+                        break;
+                    default:
+                        throw new AssertionError(column.getType());
                     }
-                    values.put(column, constant);
                 }
-                assert !randomRowValues.next();
-                state.randomRowValues = values;
-                return new PostgresRowValue(this, values);
+                row.add(constant);
             }
-
+            return row;
         }
 
     }
@@ -167,12 +193,12 @@ public class PostgresSchema {
             return sb.toString();
         }
 
-        public String getRowValuesAsString() {
+        public String getRowValuesAsString(Randomly r) {
             List<PostgresColumn> columnsToCheck = tables.getColumns();
-            return getRowValuesAsString(columnsToCheck);
+            return getRowValuesAsString(columnsToCheck, r);
         }
 
-        public String getRowValuesAsString(List<PostgresColumn> columnsToCheck) {
+        public String getRowValuesAsString(List<PostgresColumn> columnsToCheck, Randomly r) {
             StringBuilder sb = new StringBuilder();
             Map<PostgresColumn, PostgresConstant> expectedValues = getValues();
             for (int i = 0; i < columnsToCheck.size(); i++) {
@@ -180,7 +206,7 @@ public class PostgresSchema {
                     sb.append(", ");
                 }
                 PostgresConstant expectedColumnValue = expectedValues.get(columnsToCheck.get(i));
-                PostgresToStringVisitor visitor = new PostgresToStringVisitor();
+                PostgresToStringVisitor visitor = new PostgresToStringVisitor(r);
                 visitor.visit(expectedColumnValue);
                 sb.append(visitor.get());
             }
@@ -335,13 +361,20 @@ public class PostgresSchema {
     private static List<PostgresColumn> getTableColumns(Connection con, String tableName) throws SQLException {
         List<PostgresColumn> columns = new ArrayList<>();
         try (Statement s = con.createStatement()) {
-            try (ResultSet rs = s
-                    .executeQuery("select column_name, data_type from INFORMATION_SCHEMA.COLUMNS where table_name = '"
-                            + tableName + "'")) {
+            try (ResultSet rs = s.executeQuery(
+                    "select column_name, data_type, is_generated, identity_generation, character_maximum_length "
+                            + "from INFORMATION_SCHEMA.COLUMNS where table_name = '" + tableName + "'")) {
                 while (rs.next()) {
                     String columnName = rs.getString("column_name");
                     String dataType = rs.getString("data_type");
-                    PostgresColumn c = new PostgresColumn(columnName, getColumnType(dataType));
+                    boolean isGenerated = "ALWAYS".equals(rs.getString("is_generated"))
+                            || "ALWAYS".equals(rs.getString("identity_generation"));
+                    int maxLength = rs.getInt("character_maximum_length");
+                    if (rs.wasNull()) {
+                        maxLength = -1;
+                    }
+                    PostgresColumn c = new PostgresColumn(columnName, getColumnType(dataType), isGenerated,
+                            maxLength);
                     columns.add(c);
                 }
             }
@@ -363,33 +396,33 @@ public class PostgresSchema {
         return sb.toString();
     }
 
-    public PostgresTable getRandomTable() {
-        return Randomly.fromList(getDatabaseTables());
+    public PostgresTable getRandomTable(Randomly r) {
+        return r.fromList(getDatabaseTables());
     }
 
-    public PostgresTables getRandomTableNonEmptyTables() {
-        return new PostgresTables(Randomly.nonEmptySubset(databaseTables));
+    public PostgresTables getRandomTableNonEmptyTables(Randomly r) {
+        return new PostgresTables(r.nonEmptySubset(databaseTables));
     }
 
     public List<PostgresTable> getDatabaseTables() {
         return databaseTables;
     }
 
-    public List<PostgresTable> getDatabaseTablesRandomSubsetNotEmpty() {
-        return Randomly.nonEmptySubset(databaseTables);
+    public List<PostgresTable> getDatabaseTablesRandomSubsetNotEmpty(Randomly r) {
+        return r.nonEmptySubset(databaseTables);
     }
 
     public String getDatabaseName() {
         return databaseName;
     }
 
-    public PostgresTable getRandomTable(Function<PostgresTable, Boolean> f) {
+    public PostgresTable getRandomTable(Function<PostgresTable, Boolean> f, Randomly r) {
         List<PostgresTable> relevantTables = databaseTables.stream().filter(t -> f.apply(t))
                 .collect(Collectors.toList());
         if (relevantTables.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
-        return Randomly.fromList(relevantTables);
+        return r.fromList(relevantTables);
     }
 
 }
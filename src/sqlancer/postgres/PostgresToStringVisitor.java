@@ -27,6 +27,12 @@ import sqlancer.visitor.ToStringVisitor;
 
 public final class PostgresToStringVisitor extends ToStringVisitor<PostgresExpression> implements PostgresVisitor {
 
+    private final Randomly r;
+
+    public PostgresToStringVisitor(Randomly r) {
+        this.r = r;
+    }
+
     @Override
     public void visitSpecific(PostgresExpression expr) {
         PostgresVisitor.super.visit(expr);
@@ -70,7 +76,7 @@ public final class PostgresToStringVisitor extends ToStringVisitor<PostgresExpre
             sb.append("ONLY ");
         }
         sb.append(from.getTable().getName());
-        if (!from.isOnly() && Randomly.getBoolean()) {
+        if (!from.isOnly() && r.getBoolean()) {
             sb.append("*");
         }
     }
@@ -88,7 +94,7 @@ public final class PostgresToStringVisitor extends ToStringVisitor<PostgresExpre
             }
             break;
         case ALL:
-            sb.append(Randomly.fromOptions("ALL ", ""));
+            sb.append(r.fromOptions("ALL ", ""));
             break;
         default:
             throw new AssertionError();
@@ -105,7 +111,7 @@ public final class PostgresToStringVisitor extends ToStringVisitor<PostgresExpre
             sb.append(" ");
             switch (j.getType()) {
             case INNER:
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append("INNER ");
                 }
                 sb.append("JOIN");
@@ -184,7 +190,7 @@ public final class PostgresToStringVisitor extends ToStringVisitor<PostgresExpre
 
     @Override
     public void visit(PostgresCastOperation cast) {
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append("CAST(");
             visit(cast.getExpression());
             sb.append(" AS ");
@@ -209,7 +215,7 @@ public final class PostgresToStringVisitor extends ToStringVisitor<PostgresExpre
             break;
         case TEXT:
             // TODO: append TEXT, CHAR
-            sb.append(Randomly.fromOptions("VARCHAR"));
+            sb.append(r.fromOptions("VARCHAR"));
             break;
         case REAL:
             sb.append("FLOAT");
@@ -231,9 +237,9 @@ public final class PostgresToStringVisitor extends ToStringVisitor<PostgresExpre
             break;
         case BIT:
             sb.append("BIT");
-            // if (Randomly.getBoolean()) {
+            // if (r.getBoolean()) {
             // sb.append("(");
-            // sb.append(Randomly.getNotCachedInteger(1, 100));
+            // sb.append(r.getNotCachedInteger(1, 100));
             // sb.append(")");
             // }
             break;
@@ -2,6 +2,7 @@ package sqlancer.postgres;
 
 import java.util.List;
 
+import sqlancer.Randomly;
 import sqlancer.postgres.PostgresSchema.PostgresColumn;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
 import sqlancer.postgres.ast.PostgresAggregate;
@@ -95,21 +96,33 @@ public interface PostgresVisitor {
         }
     }
 
-    static String asString(PostgresExpression expr) {
-        PostgresToStringVisitor visitor = new PostgresToStringVisitor();
-        visitor.visit(expr);
-        return visitor.get();
+    static String asString(PostgresExpression expr, Randomly r) {
+        PostgresToStringVisitor visitor = new PostgresToStringVisitor(r);
+        try {
+            visitor.visit(expr);
+            return visitor.get();
+        } finally {
+            visitor.release();
+        }
+    }
+
+    static String asResultDigest(String query) {
+        return "SELECT COUNT(*), SUM(hashtext(r::text)), SUM(hashtext('#' || r::text)) FROM (" + query + ") AS r";
+    }
+
+    static String asRowCount(String query) {
+        return "SELECT COUNT(*) FROM (" + query + ") AS r";
     }
 
-    static String asExpectedValues(PostgresExpression expr) {
-        PostgresExpectedValueVisitor v = new PostgresExpectedValueVisitor();
+    static String asExpectedValues(PostgresExpression expr, Randomly r) {
+        PostgresExpectedValueVisitor v = new PostgresExpectedValueVisitor(r);
         v.visit(expr);
         return v.get();
     }
 
     static String getExpressionAsString(PostgresGlobalState globalState, PostgresDataType type) {
         PostgresExpression expression = PostgresExpressionGenerator.generateExpression(globalState, type);
-        PostgresToStringVisitor visitor = new PostgresToStringVisitor();
+        PostgresToStringVisitor visitor = new PostgresToStringVisitor(globalState.getRandomly());
         visitor.visit(expression);
         return visitor.get();
     }
@@ -117,7 +130,7 @@ public interface PostgresVisitor {
     static String getExpressionAsString(PostgresGlobalState globalState, PostgresDataType type,
             List<PostgresColumn> columns) {
         PostgresExpression expression = PostgresExpressionGenerator.generateExpression(globalState, columns, type);
-        PostgresToStringVisitor visitor = new PostgresToStringVisitor();
+        PostgresToStringVisitor visitor = new PostgresToStringVisitor(globalState.getRandomly());
         visitor.visit(expression);
         return visitor.get();
     }
@@ -28,12 +28,12 @@ public class PostgresAggregate extends FunctionNode<PostgresAggregateFunction, P
             this.supportedReturnTypes = supportedReturnTypes.clone();
         }
 
-        public static PostgresAggregateFunction getRandom() {
-            return Randomly.fromOptions(values());
+        public static PostgresAggregateFunction getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
-        public static PostgresAggregateFunction getRandom(PostgresDataType type) {
-            return Randomly.fromOptions(values());
+        public static PostgresAggregateFunction getRandom(PostgresDataType type, Randomly r) {
+            return r.fromOptions(values());
         }
 
         public List<PostgresDataType> getTypes(PostgresDataType returnType) {
@@ -50,11 +50,11 @@ public class PostgresAggregate extends FunctionNode<PostgresAggregateFunction, P
                     .collect(Collectors.toList());
         }
 
-        public PostgresDataType getRandomReturnType() {
+        public PostgresDataType getRandomReturnType(Randomly r) {
             if (supportedReturnTypes.length == 0) {
-                return Randomly.fromOptions(PostgresDataType.getRandomType());
+                return r.fromOptions(PostgresDataType.getRandomType(r));
             } else {
-                return Randomly.fromOptions(supportedReturnTypes);
+                return r.fromOptions(supportedReturnTypes);
             }
         }
 
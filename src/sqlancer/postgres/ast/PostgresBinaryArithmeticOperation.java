@@ -82,8 +82,8 @@ public class PostgresBinaryArithmeticOperation extends BinaryOperatorNode<Postgr
 
         public abstract PostgresConstant apply(PostgresConstant left, PostgresConstant right);
 
-        public static PostgresBinaryOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static PostgresBinaryOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
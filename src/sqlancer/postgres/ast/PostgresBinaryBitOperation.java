@@ -23,8 +23,8 @@ public class PostgresBinaryBitOperation extends BinaryOperatorNode<PostgresExpre
             this.text = text;
         }
 
-        public static PostgresBinaryBitOperator getRandom() {
-            return Randomly.fromOptions(PostgresBinaryBitOperator.values());
+        public static PostgresBinaryBitOperator getRandom(Randomly r) {
+            return r.fromOptions(PostgresBinaryBitOperator.values());
         }
 
         @Override
@@ -110,8 +110,8 @@ public class PostgresBinaryComparisonOperation
 
         public abstract PostgresConstant getExpectedValue(PostgresConstant leftVal, PostgresConstant rightVal);
 
-        public static PostgresBinaryComparisonOperator getRandom() {
-            return Randomly.fromOptions(PostgresBinaryComparisonOperator.values());
+        public static PostgresBinaryComparisonOperator getRandom(Randomly r) {
+            return r.fromOptions(PostgresBinaryComparisonOperator.values());
         }
 
     }
@@ -56,8 +56,8 @@ public class PostgresBinaryLogicalOperation extends BinaryOperatorNode<PostgresE
 
         public abstract PostgresConstant apply(PostgresConstant left, PostgresConstant right);
 
-        public static BinaryLogicalOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static BinaryLogicalOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
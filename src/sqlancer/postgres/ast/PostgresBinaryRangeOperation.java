@@ -23,8 +23,8 @@ public class PostgresBinaryRangeOperation extends BinaryNode<PostgresExpression>
             return textRepresentation;
         }
 
-        public static PostgresBinaryRangeOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static PostgresBinaryRangeOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
@@ -43,8 +43,8 @@ public class PostgresBinaryRangeOperation extends BinaryNode<PostgresExpression>
             return textRepresentation;
         }
 
-        public static PostgresBinaryRangeComparisonOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static PostgresBinaryRangeComparisonOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
@@ -3,6 +3,7 @@ package sqlancer.postgres.ast;
 import java.math.BigDecimal;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
 
 public abstract class PostgresConstant implements PostgresExpression {
@@ -292,7 +293,7 @@ public abstract class PostgresConstant implements PostgresExpression {
             } else if (rightVal.isString()) {
                 return PostgresConstant.createBooleanConstant(val < rightVal.cast(PostgresDataType.INT).asInt());
             } else {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.UNSUPPORTED);
             }
 
         }
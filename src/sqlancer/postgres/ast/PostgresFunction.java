@@ -51,7 +51,8 @@ public class PostgresFunction implements PostgresExpression {
             }
 
             @Override
-            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments) {
+            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments,
+                    Randomly r) {
                 return new PostgresDataType[] { returnType };
             }
 
@@ -74,7 +75,8 @@ public class PostgresFunction implements PostgresExpression {
             }
 
             @Override
-            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments) {
+            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments,
+                    Randomly r) {
                 return new PostgresDataType[] { PostgresDataType.TEXT };
             }
 
@@ -95,7 +97,8 @@ public class PostgresFunction implements PostgresExpression {
             }
 
             @Override
-            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments) {
+            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments,
+                    Randomly r) {
                 return new PostgresDataType[] { PostgresDataType.TEXT };
             }
         },
@@ -117,7 +120,8 @@ public class PostgresFunction implements PostgresExpression {
             }
 
             @Override
-            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments) {
+            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments,
+                    Randomly r) {
                 return new PostgresDataType[] { PostgresDataType.TEXT };
             }
 
@@ -169,8 +173,9 @@ public class PostgresFunction implements PostgresExpression {
             }
 
             @Override
-            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments) {
-                return getRandomTypes(nrArguments);
+            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments,
+                    Randomly r) {
+                return getRandomTypes(nrArguments, r);
             }
 
             @Override
@@ -197,8 +202,9 @@ public class PostgresFunction implements PostgresExpression {
             }
 
             @Override
-            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments) {
-                return getRandomTypes(nrArguments);
+            public PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments,
+                    Randomly r) {
+                return getRandomTypes(nrArguments, r);
             }
 
             @Override
@@ -217,10 +223,10 @@ public class PostgresFunction implements PostgresExpression {
         final int nrArgs;
         private final boolean variadic;
 
-        public PostgresDataType[] getRandomTypes(int nr) {
+        public PostgresDataType[] getRandomTypes(int nr, Randomly r) {
             PostgresDataType[] types = new PostgresDataType[nr];
             for (int i = 0; i < types.length; i++) {
-                types[i] = PostgresDataType.getRandomType();
+                types[i] = PostgresDataType.getRandomType(r);
             }
             return types;
         }
@@ -255,8 +261,8 @@ public class PostgresFunction implements PostgresExpression {
 
         public abstract PostgresConstant apply(PostgresConstant[] evaluatedArgs, PostgresExpression... args);
 
-        public static PostgresFunctionWithResult getRandomFunction() {
-            return Randomly.fromOptions(values());
+        public static PostgresFunctionWithResult getRandomFunction(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -274,7 +280,8 @@ public class PostgresFunction implements PostgresExpression {
 
         public abstract boolean supportsReturnType(PostgresDataType type);
 
-        public abstract PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments);
+        public abstract PostgresDataType[] getInputTypesForReturnType(PostgresDataType returnType, int nrArguments,
+                Randomly r);
 
         public boolean checkArguments(PostgresExpression... constants) {
             return true;
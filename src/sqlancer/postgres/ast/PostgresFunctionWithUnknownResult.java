@@ -3,7 +3,6 @@ package sqlancer.postgres.ast;
 import java.util.ArrayList;
 import java.util.List;
 
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
 import sqlancer.postgres.gen.PostgresExpressionGenerator;
 
@@ -43,7 +42,7 @@ public enum PostgresFunctionWithUnknownResult {
         public PostgresExpression[] getArguments(PostgresDataType returnType, PostgresExpressionGenerator gen,
                 int depth) {
             PostgresExpression[] args = super.getArguments(returnType, gen, depth);
-            args[0] = gen.generateExpression(PostgresDataType.getRandomType());
+            args[0] = gen.generateExpression(PostgresDataType.getRandomType(gen.getGlobalState().getRandomly()));
             return args;
         }
     },
@@ -57,7 +56,8 @@ public enum PostgresFunctionWithUnknownResult {
         public PostgresExpression[] getArguments(PostgresDataType returnType, PostgresExpressionGenerator gen,
                 int depth) {
             PostgresExpression[] args = super.getArguments(returnType, gen, depth);
-            args[1] = PostgresConstant.createTextConstant(Randomly.fromOptions("UTF8", "LATIN1"));
+            args[1] = PostgresConstant
+                    .createTextConstant(gen.getGlobalState().getRandomly().fromOptions("UTF8", "LATIN1"));
             return args;
         }
     },
@@ -9,8 +9,8 @@ public class PostgresJoin implements PostgresExpression {
     public enum PostgresJoinType {
         INNER, LEFT, RIGHT, FULL, CROSS;
 
-        public static PostgresJoinType getRandom() {
-            return Randomly.fromOptions(values());
+        public static PostgresJoinType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
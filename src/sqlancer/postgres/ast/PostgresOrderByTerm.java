@@ -11,8 +11,8 @@ public class PostgresOrderByTerm implements PostgresExpression {
     public enum PostgresOrder {
         ASC, DESC;
 
-        public static PostgresOrder getRandomOrder() {
-            return Randomly.fromOptions(PostgresOrder.values());
+        public static PostgresOrder getRandomOrder(Randomly r) {
+            return r.fromOptions(PostgresOrder.values());
         }
     }
 
@@ -24,8 +24,8 @@ public class PostgresPOSIXRegularExpression implements PostgresExpression {
             return repr;
         }
 
-        public static POSIXRegex getRandom() {
-            return Randomly.fromOptions(values());
+        public static POSIXRegex getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -106,8 +106,8 @@ public class PostgresPostfixOperation implements PostgresExpression {
 
         public abstract PostgresDataType[] getInputDataTypes();
 
-        public static PostfixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static PostfixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -116,9 +116,9 @@ public class PostgresPostfixOperation implements PostgresExpression {
         }
     }
 
-    public PostgresPostfixOperation(PostgresExpression expr, PostfixOperator op) {
+    public PostgresPostfixOperation(PostgresExpression expr, PostfixOperator op, Randomly r) {
         this.expr = expr;
-        this.operatorTextRepresentation = Randomly.fromOptions(op.textRepresentations);
+        this.operatorTextRepresentation = r.fromOptions(op.textRepresentations);
         this.op = op;
     }
 
@@ -136,8 +136,8 @@ public class PostgresPostfixOperation implements PostgresExpression {
         return operatorTextRepresentation;
     }
 
-    public static PostgresExpression create(PostgresExpression expr, PostfixOperator op) {
-        return new PostgresPostfixOperation(expr, op);
+    public static PostgresExpression create(PostgresExpression expr, PostfixOperator op, Randomly r) {
+        return new PostgresPostfixOperation(expr, op, r);
     }
 
     public PostgresExpression getExpression() {
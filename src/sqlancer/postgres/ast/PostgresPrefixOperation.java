@@ -1,6 +1,7 @@
 package sqlancer.postgres.ast;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.ast.BinaryOperatorNode.Operator;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
 
@@ -49,7 +50,7 @@ public class PostgresPrefixOperation implements PostgresExpression {
             protected PostgresConstant getExpectedValue(PostgresConstant expectedValue) {
                 if (expectedValue.isNull()) {
                     // TODO
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.UNSUPPORTED);
                 }
                 return PostgresConstant.createIntConstant(-expectedValue.asInt());
             }
@@ -28,8 +28,8 @@ public class PostgresSelect extends SelectBase<PostgresExpression> implements Po
             return textRepresentation;
         }
 
-        public static ForClause getRandom() {
-            return Randomly.fromOptions(values());
+        public static ForClause getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
@@ -59,8 +59,8 @@ public class PostgresSelect extends SelectBase<PostgresExpression> implements Po
     public enum SelectType {
         DISTINCT, ALL;
 
-        public static SelectType getRandom() {
-            return Randomly.fromOptions(values());
+        public static SelectType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
 import sqlancer.Randomly;
@@ -95,7 +96,7 @@ public class PostgresAlterTableGenerator {
         errors.add("constraints on permanent tables may reference only permanent tables");
         StringBuilder sb = new StringBuilder();
         sb.append("ALTER TABLE ");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ONLY");
             errors.add("cannot use ONLY for foreign key on partitioned table");
         }
@@ -104,11 +105,11 @@ public class PostgresAlterTableGenerator {
         sb.append(" ");
         int i = 0;
         List<Action> action;
-        if (Randomly.getBoolean()) {
-            action = Randomly.nonEmptySubset(Action.values());
+        if (r.getBoolean()) {
+            action = r.nonEmptySubset(Action.values());
         } else {
             // make it more likely that the ALTER TABLE succeeds
-            action = Randomly.subset(Randomly.smallNumber(), Action.values());
+            action = r.subset(r.smallNumber(), Action.values());
         }
         if (randomTable.getColumns().size() == 1) {
             action.remove(Action.ALTER_TABLE_DROP_COLUMN);
@@ -119,7 +120,7 @@ public class PostgresAlterTableGenerator {
         }
         action.remove(Action.SET_WITH_OIDS);
         if (action.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
         for (Action a : action) {
             if (i++ != 0) {
@@ -128,27 +129,27 @@ public class PostgresAlterTableGenerator {
             switch (a) {
             case ALTER_TABLE_DROP_COLUMN:
                 sb.append("DROP ");
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append(" IF EXISTS ");
                 }
-                sb.append(randomTable.getRandomColumn().getName());
+                sb.append(randomTable.getRandomColumn(r).getName());
                 errors.add("because other objects depend on it");
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append(" ");
-                    sb.append(Randomly.fromOptions("RESTRICT", "CASCADE"));
+                    sb.append(r.fromOptions("RESTRICT", "CASCADE"));
                 }
                 errors.add("does not exist");
                 errors.add("cannot drop column");
                 errors.add("cannot drop inherited column");
                 break;
             case ALTER_COLUMN_TYPE:
-                alterColumn(randomTable, sb);
-                if (Randomly.getBoolean()) {
+                alterColumn(randomTable, sb, r);
+                if (r.getBoolean()) {
                     sb.append(" SET DATA");
                 }
                 sb.append(" TYPE ");
-                PostgresDataType randomType = PostgresDataType.getRandomType();
-                PostgresCommon.appendDataType(randomType, sb, false, generateOnlyKnown, opClasses);
+                PostgresDataType randomType = PostgresDataType.getRandomType(r);
+                PostgresCommon.appendDataType(randomType, sb, false, generateOnlyKnown, opClasses, r);
                 // TODO [ COLLATE collation ] [ USING expression ]
                 errors.add("cannot alter type of a column used by a view or rule");
                 errors.add("cannot convert infinity to numeric");
@@ -176,13 +177,13 @@ public class PostgresAlterTableGenerator {
                 errors.add("cannot alter type of a column used by a generated column");
                 break;
             case ALTER_COLUMN_SET_DROP_DEFAULT:
-                alterColumn(randomTable, sb);
-                if (Randomly.getBoolean()) {
+                alterColumn(randomTable, sb, r);
+                if (r.getBoolean()) {
                     sb.append("DROP DEFAULT");
                 } else {
                     sb.append("SET DEFAULT ");
                     sb.append(PostgresVisitor.asString(
-                            PostgresExpressionGenerator.generateExpression(globalState, randomColumn.getType())));
+                            PostgresExpressionGenerator.generateExpression(globalState, randomColumn.getType()), r));
                     errors.add("is out of range");
                     errors.add("but default expression is of type");
                     errors.add("cannot cast");
@@ -191,8 +192,8 @@ public class PostgresAlterTableGenerator {
                 errors.add("is an identity column");
                 break;
             case ALTER_COLUMN_SET_DROP_NULL:
-                alterColumn(randomTable, sb);
-                if (Randomly.getBoolean()) {
+                alterColumn(randomTable, sb, r);
+                if (r.getBoolean()) {
                     sb.append("SET NOT NULL");
                     errors.add("contains null values");
                 } else {
@@ -202,14 +203,14 @@ public class PostgresAlterTableGenerator {
                 }
                 break;
             case ALTER_COLUMN_SET_STATISTICS:
-                alterColumn(randomTable, sb);
+                alterColumn(randomTable, sb, r);
                 sb.append("SET STATISTICS ");
                 sb.append(r.getInteger(0, 10000));
                 break;
             case ALTER_COLUMN_SET_ATTRIBUTE_OPTION:
-                alterColumn(randomTable, sb);
+                alterColumn(randomTable, sb, r);
                 sb.append(" SET(");
-                List<Attribute> subset = Randomly.nonEmptySubset(Attribute.values());
+                List<Attribute> subset = r.nonEmptySubset(Attribute.values());
                 int j = 0;
                 for (Attribute attr : subset) {
                     if (j++ != 0) {
@@ -217,15 +218,15 @@ public class PostgresAlterTableGenerator {
                     }
                     sb.append(attr.val);
                     sb.append("=");
-                    sb.append(Randomly.fromOptions(-1, -0.8, -0.5, -0.2, -0.1, -0.00001, -0.0000000001, 0, 0.000000001,
+                    sb.append(r.fromOptions(-1, -0.8, -0.5, -0.2, -0.1, -0.00001, -0.0000000001, 0, 0.000000001,
                             0.0001, 0.1, 1));
                 }
                 sb.append(")");
                 break;
             case ALTER_COLUMN_RESET_ATTRIBUTE_OPTION:
-                alterColumn(randomTable, sb);
+                alterColumn(randomTable, sb, r);
                 sb.append(" RESET(");
-                subset = Randomly.nonEmptySubset(Attribute.values());
+                subset = r.nonEmptySubset(Attribute.values());
                 j = 0;
                 for (Attribute attr : subset) {
                     if (j++ != 0) {
@@ -236,9 +237,9 @@ public class PostgresAlterTableGenerator {
                 sb.append(")");
                 break;
             case ALTER_COLUMN_SET_STORAGE:
-                alterColumn(randomTable, sb);
+                alterColumn(randomTable, sb, r);
                 sb.append("SET STORAGE ");
-                sb.append(Randomly.fromOptions("PLAIN", "EXTERNAL", "EXTENDED", "MAIN"));
+                sb.append(r.fromOptions("PLAIN", "EXTERNAL", "EXTENDED", "MAIN"));
                 errors.add("can only have storage");
                 errors.add("is an identity column");
                 break;
@@ -263,7 +264,7 @@ public class PostgresAlterTableGenerator {
                 errors.add("violates foreign key constraint");
                 errors.add("unsupported ON COMMIT and foreign key combination");
                 errors.add("USING INDEX is not supported on partitioned tables");
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append(" NOT VALID");
                     errors.add("cannot be marked NOT VALID");
                     errors.add("cannot add NOT VALID foreign key on partitioned table");
@@ -274,10 +275,10 @@ public class PostgresAlterTableGenerator {
             case ADD_TABLE_CONSTRAINT_USING_INDEX:
                 sb.append("ADD ");
                 // sb.append("CONSTRAINT 'asdf' ");
-                sb.append(Randomly.fromOptions("UNIQUE", "PRIMARY KEY"));
+                sb.append(r.fromOptions("UNIQUE", "PRIMARY KEY"));
                 errors.add("not valid");
                 sb.append(" USING INDEX ");
-                sb.append(randomTable.getRandomIndex().getIndexName());
+                sb.append(randomTable.getRandomIndex(r).getIndexName());
                 errors.add("is not a unique index");
                 errors.add("is already associated with a constraint");
                 errors.add("Cannot create a primary key or unique constraint using such an index");
@@ -307,7 +308,7 @@ public class PostgresAlterTableGenerator {
                 break;
             case CLUSTER_ON:
                 sb.append("CLUSTER ON ");
-                sb.append(randomTable.getRandomIndex().getIndexName());
+                sb.append(randomTable.getRandomIndex(r).getIndexName());
                 errors.add("cannot cluster on");
                 errors.add("cannot mark index clustered in partitioned table");
                 errors.add("not valid");
@@ -325,7 +326,7 @@ public class PostgresAlterTableGenerator {
                 break;
             case SET_LOGGED_UNLOGGED:
                 sb.append("SET ");
-                sb.append(Randomly.fromOptions("LOGGED", "UNLOGGED"));
+                sb.append(r.fromOptions("LOGGED", "UNLOGGED"));
                 errors.add("because it is temporary");
                 errors.add("to logged because it references unlogged table");
                 errors.add("to unlogged because it references logged table");
@@ -337,14 +338,14 @@ public class PostgresAlterTableGenerator {
             case OWNER_TO:
                 sb.append("OWNER TO ");
                 // TODO: new_owner
-                sb.append(Randomly.fromOptions("CURRENT_USER", "SESSION_USER"));
+                sb.append(r.fromOptions("CURRENT_USER", "SESSION_USER"));
                 break;
             case REPLICA_IDENTITY:
                 sb.append("REPLICA IDENTITY ");
-                if (Randomly.getBoolean() || randomTable.getIndexes().isEmpty()) {
-                    sb.append(Randomly.fromOptions("DEFAULT", "FULL", "NOTHING"));
+                if (r.getBoolean() || randomTable.getIndexes().isEmpty()) {
+                    sb.append(r.fromOptions("DEFAULT", "FULL", "NOTHING"));
                 } else {
-                    sb.append("USING INDEX " + randomTable.getRandomIndex().getIndexName());
+                    sb.append("USING INDEX " + randomTable.getRandomIndex(r).getIndexName());
                     errors.add("cannot be used as replica identity");
                     errors.add("cannot use non-unique index");
                     errors.add("cannot use expression index");
@@ -360,9 +361,9 @@ public class PostgresAlterTableGenerator {
         return new QueryAdapter(sb.toString(), errors, true);
     }
 
-    private static void alterColumn(PostgresTable randomTable, StringBuilder sb) {
+    private static void alterColumn(PostgresTable randomTable, StringBuilder sb, Randomly r) {
         sb.append("ALTER ");
-        randomColumn = randomTable.getRandomColumn();
+        randomColumn = randomTable.getRandomColumn(r);
         sb.append(randomColumn.getName());
         sb.append(" ");
     }
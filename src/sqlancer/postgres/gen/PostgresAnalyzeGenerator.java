@@ -5,7 +5,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresTable;
 
@@ -15,23 +14,23 @@ public final class PostgresAnalyzeGenerator {
     }
 
     public static Query create(PostgresGlobalState globalState) {
-        PostgresTable table = globalState.getSchema().getRandomTable();
+        PostgresTable table = globalState.getSchema().getRandomTable(globalState.getRandomly());
         StringBuilder sb = new StringBuilder("ANALYZE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("(");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" VERBOSE");
             } else {
                 sb.append(" SKIP_LOCKED");
             }
             sb.append(")");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
             sb.append(table.getName());
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("(");
-                sb.append(table.getRandomNonEmptyColumnSubset().stream().map(c -> c.getName())
+                sb.append(table.getRandomNonEmptyColumnSubset(globalState.getRandomly()).stream().map(c -> c.getName())
                         .collect(Collectors.joining(", ")));
                 sb.append(")");
             }
@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresTable;
 
@@ -20,12 +19,12 @@ public final class PostgresClusterGenerator {
         errors.add("cannot cluster a partitioned table");
         errors.add("access method does not support clustering");
         StringBuilder sb = new StringBuilder("CLUSTER ");
-        if (Randomly.getBoolean()) {
-            PostgresTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        if (globalState.getRandomly().getBoolean()) {
+            PostgresTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
             sb.append(table.getName());
-            if (Randomly.getBoolean() && !table.getIndexes().isEmpty()) {
+            if (globalState.getRandomly().getBoolean() && !table.getIndexes().isEmpty()) {
                 sb.append(" USING ");
-                sb.append(table.getRandomIndex().getIndexName());
+                sb.append(table.getRandomIndex(globalState.getRandomly()).getIndexName());
                 errors.add("cannot cluster on partial index");
             }
         }
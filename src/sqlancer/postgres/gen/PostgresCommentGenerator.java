@@ -1,9 +1,9 @@
 package sqlancer.postgres.gen;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresTable;
 
@@ -22,25 +22,25 @@ public final class PostgresCommentGenerator {
     public static Query generate(PostgresGlobalState globalState) {
         StringBuilder sb = new StringBuilder();
         sb.append("COMMENT ON ");
-        Action type = Randomly.fromOptions(Action.values());
-        PostgresTable randomTable = globalState.getSchema().getRandomTable();
+        Action type = globalState.getRandomly().fromOptions(Action.values());
+        PostgresTable randomTable = globalState.getSchema().getRandomTable(globalState.getRandomly());
         switch (type) {
         case INDEX:
             sb.append("INDEX ");
             if (randomTable.getIndexes().isEmpty()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             } else {
-                sb.append(randomTable.getRandomIndex().getIndexName());
+                sb.append(randomTable.getRandomIndex(globalState.getRandomly()).getIndexName());
             }
             break;
         case COLUMN:
             sb.append("COLUMN ");
-            sb.append(randomTable.getRandomColumn().getFullQualifiedName());
+            sb.append(randomTable.getRandomColumn(globalState.getRandomly()).getFullQualifiedName());
             break;
         case STATISTICS:
             sb.append("STATISTICS ");
             if (randomTable.getStatistics().isEmpty()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             } else {
                 sb.append(randomTable.getStatistics().get(0).getName());
             }
@@ -48,7 +48,7 @@ public final class PostgresCommentGenerator {
         case TABLE:
             sb.append("TABLE ");
             if (randomTable.isView()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
             sb.append(randomTable.getName());
             break;
@@ -56,7 +56,7 @@ public final class PostgresCommentGenerator {
             throw new AssertionError(type);
         }
         sb.append(" IS ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("NULL");
         } else {
             sb.append("'");
@@ -4,11 +4,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresProvider;
@@ -118,39 +118,39 @@ public final class PostgresCommon {
     }
 
     public static boolean appendDataType(PostgresDataType type, StringBuilder sb, boolean allowSerial,
-            boolean generateOnlyKnown, List<String> opClasses) throws AssertionError {
+            boolean generateOnlyKnown, List<String> opClasses, Randomly r) throws AssertionError {
         boolean serial = false;
         switch (type) {
         case BOOLEAN:
             sb.append("boolean");
             break;
         case INT:
-            if (Randomly.getBoolean() && allowSerial) {
+            if (r.getBoolean() && allowSerial) {
                 serial = true;
-                sb.append(Randomly.fromOptions("serial", "bigserial"));
+                sb.append(r.fromOptions("serial", "bigserial"));
             } else {
-                sb.append(Randomly.fromOptions("smallint", "integer", "bigint"));
+                sb.append(r.fromOptions("smallint", "integer", "bigint"));
             }
             break;
         case TEXT:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append("TEXT");
-            } else if (Randomly.getBoolean()) {
+            } else if (r.getBoolean()) {
                 // TODO: support CHAR (without VAR)
-                if (PostgresProvider.generateOnlyKnown || Randomly.getBoolean()) {
+                if (PostgresProvider.generateOnlyKnown || r.getBoolean()) {
                     sb.append("VAR");
                 }
                 sb.append("CHAR");
                 sb.append("(");
-                sb.append(ThreadLocalRandom.current().nextInt(1, 500));
+                sb.append(r.getInteger(1, 500));
                 sb.append(")");
             } else {
                 sb.append("name");
             }
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" COLLATE ");
                 sb.append('"');
-                sb.append(Randomly.fromList(opClasses));
+                sb.append(r.fromList(opClasses));
                 sb.append('"');
             }
             break;
@@ -164,7 +164,7 @@ public final class PostgresCommon {
             sb.append("FLOAT");
             break;
         case RANGE:
-            sb.append(Randomly.fromOptions("int4range", "int4range")); // , "int8range", "numrange"
+            sb.append(r.fromOptions("int4range", "int4range")); // , "int8range", "numrange"
             break;
         case MONEY:
             sb.append("money");
@@ -175,7 +175,7 @@ public final class PostgresCommon {
             sb.append(" VARYING");
             // }
             sb.append("(");
-            sb.append(Randomly.getNotCachedInteger(1, 500));
+            sb.append(r.getNotCachedInteger(1, 500));
             sb.append(")");
             break;
         case INET:
@@ -195,14 +195,14 @@ public final class PostgresCommon {
         FILLFACTOR("fillfactor", (r) -> r.getInteger(10, 100)),
         // toast_tuple_target
         PARALLEL_WORKERS("parallel_workers", (r) -> r.getInteger(0, 1024)),
-        AUTOVACUUM_ENABLED("autovacuum_enabled", (r) -> Randomly.fromOptions(0, 1)),
+        AUTOVACUUM_ENABLED("autovacuum_enabled", (r) -> r.fromOptions(0, 1)),
         AUTOVACUUM_VACUUM_THRESHOLD("autovacuum_vacuum_threshold", (r) -> r.getInteger(0, 2147483647)),
-        OIDS("oids", (r) -> Randomly.fromOptions(0, 1)),
+        OIDS("oids", (r) -> r.fromOptions(0, 1)),
         AUTOVACUUM_VACUUM_SCALE_FACTOR("autovacuum_vacuum_scale_factor",
-                (r) -> Randomly.fromOptions(0, 0.00001, 0.01, 0.1, 0.2, 0.5, 0.8, 0.9, 1)),
+                (r) -> r.fromOptions(0, 0.00001, 0.01, 0.1, 0.2, 0.5, 0.8, 0.9, 1)),
         AUTOVACUUM_ANALYZE_THRESHOLD("autovacuum_analyze_threshold", (r) -> r.getLong(0, Integer.MAX_VALUE)),
         AUTOVACUUM_ANALYZE_SCALE_FACTOR("autovacuum_analyze_scale_factor",
-                (r) -> Randomly.fromOptions(0, 0.00001, 0.01, 0.1, 0.2, 0.5, 0.8, 0.9, 1)),
+                (r) -> r.fromOptions(0, 0.00001, 0.01, 0.1, 0.2, 0.5, 0.8, 0.9, 1)),
         AUTOVACUUM_VACUUM_COST_DELAY("autovacuum_vacuum_cost_delay", (r) -> r.getLong(0, 100)),
         AUTOVACUUM_VACUUM_COST_LIMIT("autovacuum_vacuum_cost_limit", (r) -> r.getLong(1, 10000)),
         AUTOVACUUM_FREEZE_MIN_AGE("autovacuum_freeze_min_age", (r) -> r.getLong(0, 1000000000)),
@@ -220,13 +220,13 @@ public final class PostgresCommon {
     }
 
     public static void generateWith(StringBuilder sb, PostgresGlobalState globalState, Set<String> errors) {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WITH (");
             ArrayList<StorageParameters> values = new ArrayList<>(Arrays.asList(StorageParameters.values()));
             values.remove(StorageParameters.OIDS);
             errors.add("unrecognized parameter");
             errors.add("ALTER TABLE / ADD CONSTRAINT USING INDEX is not supported on partitioned tables");
-            List<StorageParameters> subset = Randomly.nonEmptySubset(values);
+            List<StorageParameters> subset = globalState.getRandomly().nonEmptySubset(values);
             int i = 0;
             for (StorageParameters parameter : subset) {
                 if (i++ != 0) {
@@ -243,7 +243,7 @@ public final class PostgresCommon {
     public static void addTableConstraints(boolean excludePrimaryKey, StringBuilder sb, PostgresTable table,
             PostgresGlobalState globalState, Set<String> errors) {
         // TODO constraint name
-        List<TableConstraints> tableConstraints = Randomly.nonEmptySubset(TableConstraints.values());
+        List<TableConstraints> tableConstraints = globalState.getRandomly().nonEmptySubset(TableConstraints.values());
         if (excludePrimaryKey) {
             tableConstraints.remove(TableConstraints.PRIMARY_KEY);
         }
@@ -259,12 +259,14 @@ public final class PostgresCommon {
 
     public static void addTableConstraint(StringBuilder sb, PostgresTable table, PostgresGlobalState globalState,
             Set<String> errors) {
-        addTableConstraint(sb, table, globalState, Randomly.fromOptions(TableConstraints.values()), errors);
+        addTableConstraint(sb, table, globalState, globalState.getRandomly().fromOptions(TableConstraints.values()),
+                errors);
     }
 
     private static void addTableConstraint(StringBuilder sb, PostgresTable table, PostgresGlobalState globalState,
             TableConstraints t, Set<String> errors) {
-        List<PostgresColumn> randomNonEmptyColumnSubset = table.getRandomNonEmptyColumnSubset();
+        List<PostgresColumn> randomNonEmptyColumnSubset = table
+                .getRandomNonEmptyColumnSubset(globalState.getRandomly());
         List<PostgresColumn> otherColumns;
         PostgresCommon.addCommonExpressionErrors(errors);
         switch (t) {
@@ -291,36 +293,38 @@ public final class PostgresCommon {
             sb.append("FOREIGN KEY (");
             sb.append(randomNonEmptyColumnSubset.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(") REFERENCES ");
-            PostgresTable randomOtherTable = globalState.getSchema().getRandomTable(tab -> !tab.isView());
+            PostgresTable randomOtherTable = globalState.getSchema()
+                    .getRandomTable(tab -> !tab.isView(), globalState.getRandomly());
             sb.append(randomOtherTable.getName());
             if (randomOtherTable.getColumns().size() < randomNonEmptyColumnSubset.size()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
-            otherColumns = randomOtherTable.getRandomNonEmptyColumnSubset(randomNonEmptyColumnSubset.size());
+            otherColumns = randomOtherTable.getRandomNonEmptyColumnSubset(randomNonEmptyColumnSubset.size(),
+                    globalState.getRandomly());
             sb.append("(");
             sb.append(otherColumns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(")");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" ");
-                sb.append(Randomly.fromOptions("MATCH FULL", "MATCH SIMPLE"));
+                sb.append(globalState.getRandomly().fromOptions("MATCH FULL", "MATCH SIMPLE"));
             }
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" ON DELETE ");
                 errors.add("ERROR: invalid ON DELETE action for foreign key constraint containing generated column");
-                deleteOrUpdateAction(sb);
+                deleteOrUpdateAction(sb, globalState.getRandomly());
             }
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" ON UPDATE ");
                 errors.add("invalid ON UPDATE action for foreign key constraint containing generated column");
-                deleteOrUpdateAction(sb);
+                deleteOrUpdateAction(sb, globalState.getRandomly());
             }
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" ");
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     sb.append("DEFERRABLE");
-                    if (Randomly.getBoolean()) {
+                    if (globalState.getRandomly().getBoolean()) {
                         sb.append(" ");
-                        sb.append(Randomly.fromOptions("INITIALLY DEFERRED", "INITIALLY IMMEDIATE"));
+                        sb.append(globalState.getRandomly().fromOptions("INITIALLY DEFERRED", "INITIALLY IMMEDIATE"));
                     }
                 } else {
                     sb.append("NOT DEFERRABLE");
@@ -331,13 +335,13 @@ public final class PostgresCommon {
             sb.append("EXCLUDE ");
             sb.append("(");
             // TODO [USING index_method ]
-            for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
                 if (i != 0) {
                     sb.append(", ");
                 }
                 appendExcludeElement(sb, globalState, table.getColumns());
                 sb.append(" WITH ");
-                appendOperator(sb, globalState.getOperators());
+                appendOperator(sb, globalState.getOperators(), globalState.getRandomly());
             }
             sb.append(")");
             appendIndexParameters(sb, globalState, errors);
@@ -349,11 +353,11 @@ public final class PostgresCommon {
             errors.add("The exclusion operator must be related to the index operator class for the constraint");
             errors.add("could not create exclusion constraint");
             // TODO: index parameters
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" WHERE ");
                 sb.append("(");
                 sb.append(PostgresVisitor.asString(PostgresExpressionGenerator.generateExpression(globalState,
-                        table.getColumns(), PostgresDataType.BOOLEAN)));
+                        table.getColumns(), PostgresDataType.BOOLEAN), globalState.getRandomly()));
                 sb.append(")");
             }
             break;
@@ -363,44 +367,45 @@ public final class PostgresCommon {
     }
 
     private static void appendIndexParameters(StringBuilder sb, PostgresGlobalState globalState, Set<String> errors) {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             generateWith(sb, globalState, errors);
         }
         // TODO: [ USING INDEX TABLESPACE tablespace ]
     }
 
-    private static void appendOperator(StringBuilder sb, List<String> operators) {
-        sb.append(Randomly.fromList(operators));
+    private static void appendOperator(StringBuilder sb, List<String> operators, Randomly r) {
+        sb.append(r.fromList(operators));
     }
 
     // complete
     private static void appendExcludeElement(StringBuilder sb, PostgresGlobalState globalState,
             List<PostgresColumn> columns) {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             // append column name
-            sb.append(Randomly.fromList(columns).getName());
+            sb.append(globalState.getRandomly().fromList(columns).getName());
         } else {
             // append expression
             sb.append("(");
-            sb.append(PostgresVisitor.asString(PostgresExpressionGenerator.generateExpression(globalState, columns)));
+            sb.append(PostgresVisitor.asString(PostgresExpressionGenerator.generateExpression(globalState, columns),
+                    globalState.getRandomly()));
             sb.append(")");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromList(globalState.getOpClasses()));
+            sb.append(globalState.getRandomly().fromList(globalState.getOpClasses()));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("ASC", "DESC"));
+            sb.append(globalState.getRandomly().fromOptions("ASC", "DESC"));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" NULLS ");
-            sb.append(Randomly.fromOptions("FIRST", "LAST"));
+            sb.append(globalState.getRandomly().fromOptions("FIRST", "LAST"));
         }
     }
 
-    private static void deleteOrUpdateAction(StringBuilder sb) {
-        sb.append(Randomly.fromOptions("NO ACTION", "RESTRICT", "CASCADE", "SET NULL", "SET DEFAULT"));
+    private static void deleteOrUpdateAction(StringBuilder sb, Randomly r) {
+        sb.append(r.fromOptions("NO ACTION", "RESTRICT", "CASCADE", "SET NULL", "SET DEFAULT"));
     }
 
     public static void addGroupingErrors(Set<String> errors) {
@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
 import sqlancer.postgres.PostgresSchema.PostgresTable;
@@ -17,26 +16,27 @@ public final class PostgresDeleteGenerator {
     }
 
     public static Query create(PostgresGlobalState globalState) {
-        PostgresTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        PostgresTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         Set<String> errors = new HashSet<>();
         errors.add("violates foreign key constraint");
         errors.add("violates not-null constraint");
         errors.add("could not determine which collation to use for string comparison");
         StringBuilder sb = new StringBuilder("DELETE FROM");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ONLY");
         }
         sb.append(" ");
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
             sb.append(PostgresVisitor.asString(PostgresExpressionGenerator.generateExpression(globalState,
-                    table.getColumns(), PostgresDataType.BOOLEAN)));
+                    table.getColumns(), PostgresDataType.BOOLEAN), globalState.getRandomly()));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" RETURNING ");
-            sb.append(PostgresVisitor
-                    .asString(PostgresExpressionGenerator.generateExpression(globalState, table.getColumns())));
+            sb.append(PostgresVisitor.asString(
+                    PostgresExpressionGenerator.generateExpression(globalState, table.getColumns()),
+                    globalState.getRandomly()));
         }
         PostgresCommon.addCommonExpressionErrors(errors);
         errors.add("out of range");
@@ -4,7 +4,6 @@ import java.util.Arrays;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresTable.TableType;
 
@@ -21,9 +20,9 @@ public final class PostgresDiscardGenerator {
                 .anyMatch(t -> t.getTableType() == TableType.STANDARD);
         String what;
         if (hasNonTempTables) {
-            what = Randomly.fromOptions("ALL", "PLANS", "SEQUENCES", "TEMPORARY", "TEMP");
+            what = globalState.getRandomly().fromOptions("ALL", "PLANS", "SEQUENCES", "TEMPORARY", "TEMP");
         } else {
-            what = Randomly.fromOptions("PLANS", "SEQUENCES");
+            what = globalState.getRandomly().fromOptions("PLANS", "SEQUENCES");
         }
         sb.append(what);
         return new QueryAdapter(sb.toString(), Arrays.asList("cannot run inside a transaction block")) {
@@ -5,7 +5,6 @@ import java.util.List;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresIndex;
 import sqlancer.sqlite3.gen.SQLite3Common;
@@ -16,32 +15,32 @@ public final class PostgresDropIndexGenerator {
     }
 
     public static Query create(PostgresGlobalState globalState) {
-        List<PostgresIndex> indexes = globalState.getSchema().getRandomTable().getIndexes();
+        List<PostgresIndex> indexes = globalState.getSchema().getRandomTable(globalState.getRandomly()).getIndexes();
         StringBuilder sb = new StringBuilder();
         sb.append("DROP INDEX ");
-        if (Randomly.getBoolean() || indexes.isEmpty()) {
+        if (globalState.getRandomly().getBoolean() || indexes.isEmpty()) {
             sb.append("IF EXISTS ");
-            for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
                 if (i != 0) {
                     sb.append(", ");
                 }
-                if (indexes.isEmpty() || Randomly.getBoolean()) {
-                    sb.append(SQLite3Common.createIndexName(Randomly.smallNumber()));
+                if (indexes.isEmpty() || globalState.getRandomly().getBoolean()) {
+                    sb.append(SQLite3Common.createIndexName(globalState.getRandomly().smallNumber()));
                 } else {
-                    sb.append(Randomly.fromList(indexes).getIndexName());
+                    sb.append(globalState.getRandomly().fromList(indexes).getIndexName());
                 }
             }
         } else {
-            for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
                 if (i != 0) {
                     sb.append(", ");
                 }
-                sb.append(Randomly.fromList(indexes).getIndexName());
+                sb.append(globalState.getRandomly().fromList(indexes).getIndexName());
             }
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("CASCADE", "RESTRICT"));
+            sb.append(globalState.getRandomly().fromOptions("CASCADE", "RESTRICT"));
         }
         return new QueryAdapter(sb.toString(),
                 Arrays.asList("cannot drop desired object(s) because other objects depend on them", "cannot drop index",
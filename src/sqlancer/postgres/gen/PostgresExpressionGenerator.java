@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.postgres.PostgresCompoundDataType;
 import sqlancer.postgres.PostgresGlobalState;
@@ -71,6 +72,10 @@ public class PostgresExpressionGenerator {
         this.globalState = globalState;
     }
 
+    public PostgresGlobalState getGlobalState() {
+        return globalState;
+    }
+
     public PostgresExpressionGenerator setColumns(List<PostgresColumn> columns) {
         this.columns = columns;
         return this;
@@ -91,14 +96,14 @@ public class PostgresExpressionGenerator {
     }
 
     PostgresExpression generateExpression(int depth) {
-        return generateExpression(depth, PostgresDataType.getRandomType());
+        return generateExpression(depth, PostgresDataType.getRandomType(r));
     }
 
     public List<PostgresExpression> generateOrderBy() {
         List<PostgresExpression> orderBys = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber(); i++) {
-            orderBys.add(new PostgresOrderByTerm(PostgresColumnValue.create(Randomly.fromList(columns), null),
-                    PostgresOrder.getRandomOrder()));
+        for (int i = 0; i < r.smallNumber(); i++) {
+            orderBys.add(new PostgresOrderByTerm(PostgresColumnValue.create(r.fromList(columns), null),
+                    PostgresOrder.getRandomOrder(r)));
         }
         return orderBys;
     }
@@ -112,9 +117,9 @@ public class PostgresExpressionGenerator {
         List<PostgresFunctionWithUnknownResult> supportedFunctions = PostgresFunctionWithUnknownResult
                 .getSupportedFunctions(type);
         if (supportedFunctions.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
-        PostgresFunctionWithUnknownResult randomFunction = Randomly.fromList(supportedFunctions);
+        PostgresFunctionWithUnknownResult randomFunction = r.fromList(supportedFunctions);
         return new PostgresFunction(randomFunction, type, randomFunction.getArguments(type, this, depth + 1));
     }
 
@@ -122,14 +127,14 @@ public class PostgresExpressionGenerator {
         List<PostgresFunctionWithResult> functions = Stream.of(PostgresFunction.PostgresFunctionWithResult.values())
                 .filter(f -> f.supportsReturnType(type)).collect(Collectors.toList());
         if (functions.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
-        PostgresFunctionWithResult randomFunction = Randomly.fromList(functions);
+        PostgresFunctionWithResult randomFunction = r.fromList(functions);
         int nrArgs = randomFunction.getNrArgs();
         if (randomFunction.isVariadic()) {
-            nrArgs += Randomly.smallNumber();
+            nrArgs += r.smallNumber();
         }
-        PostgresDataType[] argTypes = randomFunction.getInputTypesForReturnType(type, nrArgs);
+        PostgresDataType[] argTypes = randomFunction.getInputTypesForReturnType(type, nrArgs, r);
         PostgresExpression[] args = new PostgresExpression[nrArgs];
         do {
             for (int i = 0; i < args.length; i++) {
@@ -146,12 +151,12 @@ public class PostgresExpressionGenerator {
             validOptions.remove(BooleanExpression.POSIX_REGEX);
             validOptions.remove(BooleanExpression.BINARY_RANGE_COMPARISON);
         }
-        BooleanExpression option = Randomly.fromList(validOptions);
+        BooleanExpression option = r.fromList(validOptions);
         switch (option) {
         case POSTFIX_OPERATOR:
-            PostfixOperator random = PostfixOperator.getRandom();
+            PostfixOperator random = PostfixOperator.getRandom(r);
             return PostgresPostfixOperation
-                    .create(generateExpression(depth + 1, Randomly.fromOptions(random.getInputDataTypes())), random);
+                    .create(generateExpression(depth + 1, r.fromOptions(random.getInputDataTypes())), random, r);
         case IN_OPERATION:
             return inOperation(depth + 1);
         case NOT:
@@ -159,10 +164,10 @@ public class PostgresExpressionGenerator {
                     PrefixOperator.NOT);
         case BINARY_LOGICAL_OPERATOR:
             PostgresExpression first = generateExpression(depth + 1, PostgresDataType.BOOLEAN);
-            int nr = Randomly.smallNumber() + 1;
+            int nr = r.smallNumber() + 1;
             for (int i = 0; i < nr; i++) {
                 first = new PostgresBinaryLogicalOperation(first,
-                        generateExpression(depth + 1, PostgresDataType.BOOLEAN), BinaryLogicalOperator.getRandom());
+                        generateExpression(depth + 1, PostgresDataType.BOOLEAN), BinaryLogicalOperator.getRandom(r));
             }
             return first;
         case BINARY_COMPARISON:
@@ -170,7 +175,7 @@ public class PostgresExpressionGenerator {
             return generateComparison(depth, dataType);
         case CAST:
             return new PostgresCastOperation(generateExpression(depth + 1),
-                    getCompoundDataType(PostgresDataType.BOOLEAN));
+                    getCompoundDataType(PostgresDataType.BOOLEAN, r));
         case FUNCTION:
             return generateFunction(depth + 1, PostgresDataType.BOOLEAN);
         case LIKE:
@@ -179,7 +184,7 @@ public class PostgresExpressionGenerator {
         case BETWEEN:
             PostgresDataType type = getMeaningfulType();
             return new PostgresBetweenOperation(generateExpression(depth + 1, type),
-                    generateExpression(depth + 1, type), generateExpression(depth + 1, type), Randomly.getBoolean());
+                    generateExpression(depth + 1, type), generateExpression(depth + 1, type), r.getBoolean());
         case SIMILAR_TO:
             assert !expectedResult;
             // TODO also generate the escape character
@@ -188,10 +193,10 @@ public class PostgresExpressionGenerator {
         case POSIX_REGEX:
             assert !expectedResult;
             return new PostgresPOSIXRegularExpression(generateExpression(depth + 1, PostgresDataType.TEXT),
-                    generateExpression(depth + 1, PostgresDataType.TEXT), POSIXRegex.getRandom());
+                    generateExpression(depth + 1, PostgresDataType.TEXT), POSIXRegex.getRandom(r));
         case BINARY_RANGE_COMPARISON:
             // TODO element check
-            return new PostgresBinaryRangeOperation(PostgresBinaryRangeComparisonOperator.getRandom(),
+            return new PostgresBinaryRangeOperation(PostgresBinaryRangeComparisonOperator.getRandom(r),
                     generateExpression(depth + 1, PostgresDataType.RANGE),
                     generateExpression(depth + 1, PostgresDataType.RANGE));
         default:
@@ -202,15 +207,15 @@ public class PostgresExpressionGenerator {
     private PostgresDataType getMeaningfulType() {
         // make it more likely that the expression does not only consist of constant
         // expressions
-        if (Randomly.getBooleanWithSmallProbability() || columns == null || columns.isEmpty()) {
-            return PostgresDataType.getRandomType();
+        if (r.getBooleanWithSmallProbability() || columns == null || columns.isEmpty()) {
+            return PostgresDataType.getRandomType(r);
         } else {
-            return Randomly.fromList(columns).getType();
+            return r.fromList(columns).getType();
         }
     }
 
     private PostgresExpression generateFunction(int depth, PostgresDataType type) {
-        if (PostgresProvider.generateOnlyKnown || Randomly.getBoolean()) {
+        if (PostgresProvider.generateOnlyKnown || r.getBoolean()) {
             return generateFunctionWithKnownResult(depth, type);
         } else {
             return generateFunctionWithUnknownResult(depth, type);
@@ -225,7 +230,7 @@ public class PostgresExpressionGenerator {
 
     private PostgresExpression getComparison(PostgresExpression leftExpr, PostgresExpression rightExpr) {
         PostgresBinaryComparisonOperation op = new PostgresBinaryComparisonOperation(leftExpr, rightExpr,
-                PostgresBinaryComparisonOperation.PostgresBinaryComparisonOperator.getRandom());
+                PostgresBinaryComparisonOperation.PostgresBinaryComparisonOperator.getRandom(r));
         if (PostgresProvider.generateOnlyKnown && op.getLeft().getExpressionType() == PostgresDataType.TEXT
                 && op.getRight().getExpressionType() == PostgresDataType.TEXT) {
             return new PostgresCollate(op, "C");
@@ -234,13 +239,13 @@ public class PostgresExpressionGenerator {
     }
 
     private PostgresExpression inOperation(int depth) {
-        PostgresDataType type = PostgresDataType.getRandomType();
+        PostgresDataType type = PostgresDataType.getRandomType(r);
         PostgresExpression leftExpr = generateExpression(depth + 1, type);
         List<PostgresExpression> rightExpr = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < r.smallNumber() + 1; i++) {
             rightExpr.add(generateExpression(depth + 1, type));
         }
-        return new PostgresInOperation(leftExpr, rightExpr, Randomly.getBoolean());
+        return new PostgresInOperation(leftExpr, rightExpr, r.getBoolean());
     }
 
     public static PostgresExpression generateExpression(PostgresGlobalState globalState, PostgresDataType type) {
@@ -249,23 +254,23 @@ public class PostgresExpressionGenerator {
 
     public PostgresExpression generateExpression(int depth, PostgresDataType originalType) {
         PostgresDataType dataType = originalType;
-        if (dataType == PostgresDataType.REAL && Randomly.getBoolean()) {
-            dataType = Randomly.fromOptions(PostgresDataType.INT, PostgresDataType.FLOAT);
+        if (dataType == PostgresDataType.REAL && r.getBoolean()) {
+            dataType = r.fromOptions(PostgresDataType.INT, PostgresDataType.FLOAT);
         }
-        if (dataType == PostgresDataType.FLOAT && Randomly.getBoolean()) {
+        if (dataType == PostgresDataType.FLOAT && r.getBoolean()) {
             dataType = PostgresDataType.INT;
         }
-        if (!filterColumns(dataType).isEmpty() && Randomly.getBoolean()) {
+        if (!filterColumns(dataType).isEmpty() && r.getBoolean()) {
             return createColumnOfType(dataType);
         }
-        if (allowAggregateFunctions && Randomly.getBoolean()) {
+        if (allowAggregateFunctions && r.getBoolean()) {
             allowAggregateFunctions = false; // aggregate function calls cannot be nested
             return getAggregate(dataType);
         }
-        if (Randomly.getBooleanWithRatherLowProbability() || depth > maxDepth) {
+        if (r.getBooleanWithRatherLowProbability() || depth > maxDepth) {
             // generic expression
-            if (Randomly.getBoolean() || depth > maxDepth) {
-                if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (r.getBoolean() || depth > maxDepth) {
+                if (r.getBooleanWithRatherLowProbability()) {
                     return generateConstant(r, dataType);
                 } else {
                     if (filterColumns(dataType).isEmpty()) {
@@ -275,8 +280,8 @@ public class PostgresExpressionGenerator {
                     }
                 }
             } else {
-                if (Randomly.getBoolean()) {
-                    return new PostgresCastOperation(generateExpression(depth + 1), getCompoundDataType(dataType));
+                if (r.getBoolean()) {
+                    return new PostgresCastOperation(generateExpression(depth + 1), getCompoundDataType(dataType, r));
                 } else {
                     return generateFunctionWithUnknownResult(depth, dataType);
                 }
@@ -305,7 +310,7 @@ public class PostgresExpressionGenerator {
         }
     }
 
-    private static PostgresCompoundDataType getCompoundDataType(PostgresDataType type) {
+    private static PostgresCompoundDataType getCompoundDataType(PostgresDataType type, Randomly r) {
         switch (type) {
         case BOOLEAN:
         case DECIMAL: // TODO
@@ -318,10 +323,10 @@ public class PostgresExpressionGenerator {
             return PostgresCompoundDataType.create(type);
         case TEXT: // TODO
         case BIT:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 return PostgresCompoundDataType.create(type);
             } else {
-                return PostgresCompoundDataType.create(type, (int) Randomly.getNotCachedInteger(1, 1000));
+                return PostgresCompoundDataType.create(type, (int) r.getNotCachedInteger(1, 1000));
             }
         default:
             throw new AssertionError(type);
@@ -336,10 +341,10 @@ public class PostgresExpressionGenerator {
     private PostgresExpression generateRangeExpression(int depth) {
         RangeExpression option;
         List<RangeExpression> validOptions = new ArrayList<>(Arrays.asList(RangeExpression.values()));
-        option = Randomly.fromList(validOptions);
+        option = r.fromList(validOptions);
         switch (option) {
         case BINARY_OP:
-            return new PostgresBinaryRangeOperation(PostgresBinaryRangeOperator.getRandom(),
+            return new PostgresBinaryRangeOperation(PostgresBinaryRangeOperator.getRandom(r),
                     generateExpression(depth + 1, PostgresDataType.RANGE),
                     generateExpression(depth + 1, PostgresDataType.RANGE));
         default:
@@ -360,11 +365,12 @@ public class PostgresExpressionGenerator {
         if (!globalState.getDmbsSpecificOptions().testCollations) {
             validOptions.remove(TextExpression.COLLATE);
         }
-        option = Randomly.fromList(validOptions);
+        option = r.fromList(validOptions);
 
         switch (option) {
         case CAST:
-            return new PostgresCastOperation(generateExpression(depth + 1), getCompoundDataType(PostgresDataType.TEXT));
+            return new PostgresCastOperation(generateExpression(depth + 1),
+                    getCompoundDataType(PostgresDataType.TEXT, r));
         case FUNCTION:
             return generateFunction(depth + 1, PostgresDataType.TEXT);
         case CONCAT:
@@ -372,7 +378,7 @@ public class PostgresExpressionGenerator {
         case COLLATE:
             assert !expectedResult;
             return new PostgresCollate(generateExpression(depth + 1, PostgresDataType.TEXT), globalState == null
-                    ? Randomly.fromOptions("C", "POSIX", "de_CH.utf8", "es_CR.utf8") : globalState.getRandomCollate());
+                    ? r.fromOptions("C", "POSIX", "de_CH.utf8", "es_CR.utf8") : globalState.getRandomCollate(r));
         default:
             throw new AssertionError();
         }
@@ -390,10 +396,10 @@ public class PostgresExpressionGenerator {
 
     private PostgresExpression generateBitExpression(int depth) {
         BitExpression option;
-        option = Randomly.fromOptions(BitExpression.values());
+        option = r.fromOptions(BitExpression.values());
         switch (option) {
         case BINARY_OPERATION:
-            return new PostgresBinaryBitOperation(PostgresBinaryBitOperator.getRandom(),
+            return new PostgresBinaryBitOperation(PostgresBinaryBitOperator.getRandom(r),
                     generateExpression(depth + 1, PostgresDataType.BIT),
                     generateExpression(depth + 1, PostgresDataType.BIT));
         default:
@@ -407,19 +413,20 @@ public class PostgresExpressionGenerator {
 
     private PostgresExpression generateIntExpression(int depth) {
         IntExpression option;
-        option = Randomly.fromOptions(IntExpression.values());
+        option = r.fromOptions(IntExpression.values());
         switch (option) {
         case CAST:
-            return new PostgresCastOperation(generateExpression(depth + 1), getCompoundDataType(PostgresDataType.INT));
+            return new PostgresCastOperation(generateExpression(depth + 1),
+                    getCompoundDataType(PostgresDataType.INT, r));
         case UNARY_OPERATION:
             PostgresExpression intExpression = generateExpression(depth + 1, PostgresDataType.INT);
             return new PostgresPrefixOperation(intExpression,
-                    Randomly.getBoolean() ? PrefixOperator.UNARY_PLUS : PrefixOperator.UNARY_MINUS);
+                    r.getBoolean() ? PrefixOperator.UNARY_PLUS : PrefixOperator.UNARY_MINUS);
         case FUNCTION:
             return generateFunction(depth + 1, PostgresDataType.INT);
         case BINARY_ARITHMETIC_EXPRESSION:
             return new PostgresBinaryArithmeticOperation(generateExpression(depth + 1, PostgresDataType.INT),
-                    generateExpression(depth + 1, PostgresDataType.INT), PostgresBinaryOperator.getRandom());
+                    generateExpression(depth + 1, PostgresDataType.INT), PostgresBinaryOperator.getRandom(r));
         default:
             throw new AssertionError();
         }
@@ -427,7 +434,7 @@ public class PostgresExpressionGenerator {
 
     private PostgresExpression createColumnOfType(PostgresDataType type) {
         List<PostgresColumn> columns = filterColumns(type);
-        PostgresColumn fromList = Randomly.fromList(columns);
+        PostgresColumn fromList = r.fromList(columns);
         PostgresConstant value = rw == null ? null : rw.getValues().get(fromList);
         return PostgresColumnValue.create(fromList, value);
     }
@@ -441,7 +448,7 @@ public class PostgresExpressionGenerator {
     }
 
     public static PostgresExpression generateConstant(Randomly r) {
-        return generateConstant(r, Randomly.fromOptions(PostgresDataType.values()));
+        return generateConstant(r, r.fromOptions(PostgresDataType.values()));
     }
 
     public static PostgresExpression generateTrueCondition(List<PostgresColumn> columns, PostgresRowValue rw,
@@ -449,14 +456,14 @@ public class PostgresExpressionGenerator {
         PostgresExpression expr = new PostgresExpressionGenerator(globalState).setColumns(columns).setRowValue(rw)
                 .expectedResult().generateExpression(0, PostgresDataType.BOOLEAN);
         if (expr.getExpectedValue().isNull()) {
-            return PostgresPostfixOperation.create(expr, PostfixOperator.IS_NULL);
+            return PostgresPostfixOperation.create(expr, PostfixOperator.IS_NULL, globalState.getRandomly());
         }
         return PostgresPostfixOperation.create(expr, expr.getExpectedValue().cast(PostgresDataType.BOOLEAN).asBoolean()
-                ? PostfixOperator.IS_TRUE : PostfixOperator.IS_FALSE);
+                ? PostfixOperator.IS_TRUE : PostfixOperator.IS_FALSE, globalState.getRandomly());
     }
 
     public static PostgresExpression generateConstant(Randomly r, PostgresDataType type) {
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (r.getBooleanWithSmallProbability()) {
             return PostgresConstant.createNullConstant();
         }
         // if (Randomly.getBooleanWithSmallProbability()) {
@@ -464,17 +471,17 @@ public class PostgresExpressionGenerator {
         // }
         switch (type) {
         case INT:
-            if (Randomly.getBooleanWithSmallProbability()) {
+            if (r.getBooleanWithSmallProbability()) {
                 return PostgresConstant.createTextConstant(String.valueOf(r.getInteger()));
             } else {
                 return PostgresConstant.createIntConstant(r.getInteger());
             }
         case BOOLEAN:
-            if (Randomly.getBooleanWithSmallProbability()) {
+            if (r.getBooleanWithSmallProbability()) {
                 return PostgresConstant
-                        .createTextConstant(Randomly.fromOptions("TR", "TRUE", "FA", "FALSE", "0", "1", "ON", "off"));
+                        .createTextConstant(r.fromOptions("TR", "TRUE", "FA", "FALSE", "0", "1", "ON", "off"));
             } else {
-                return PostgresConstant.createBooleanConstant(Randomly.getBoolean());
+                return PostgresConstant.createBooleanConstant(r.getBoolean());
             }
         case TEXT:
             return PostgresConstant.createTextConstant(r.getString());
@@ -485,11 +492,11 @@ public class PostgresExpressionGenerator {
         case REAL:
             return PostgresConstant.createDoubleConstant(r.getDouble());
         case RANGE:
-            return PostgresConstant.createRange(r.getInteger(), Randomly.getBoolean(), r.getInteger(),
-                    Randomly.getBoolean());
+            return PostgresConstant.createRange(r.getInteger(), r.getBoolean(), r.getInteger(),
+                    r.getBoolean());
         case MONEY:
             return new PostgresCastOperation(generateConstant(r, PostgresDataType.FLOAT),
-                    getCompoundDataType(PostgresDataType.MONEY));
+                    getCompoundDataType(PostgresDataType.MONEY, r));
         case INET:
             return PostgresConstant.createInetConstant(getRandomInet(r));
         case BIT:
@@ -551,12 +558,12 @@ public class PostgresExpressionGenerator {
     }
 
     public PostgresExpression generateAggregate() {
-        return getAggregate(PostgresDataType.getRandomType());
+        return getAggregate(PostgresDataType.getRandomType(r));
     }
 
     private PostgresExpression getAggregate(PostgresDataType dataType) {
         List<PostgresAggregateFunction> aggregates = PostgresAggregateFunction.getAggregates(dataType);
-        PostgresAggregateFunction agg = Randomly.fromList(aggregates);
+        PostgresAggregateFunction agg = r.fromList(aggregates);
         return generateArgsForAggregate(dataType, agg);
     }
 
@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresColumn;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
@@ -30,7 +29,7 @@ public final class PostgresIndexGenerator {
         Set<String> errors = new HashSet<>();
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" UNIQUE");
         }
         sb.append(" INDEX ");
@@ -41,19 +40,20 @@ public final class PostgresIndexGenerator {
         // if (Randomly.getBoolean()) {
         // sb.append("CONCURRENTLY ");
         // }
-        PostgresTable randomTable = globalState.getSchema().getRandomTable(t -> !t.isView()); // TODO: materialized
+        PostgresTable randomTable = globalState.getSchema()
+                .getRandomTable(t -> !t.isView(), globalState.getRandomly()); // TODO: materialized
                                                                                               // views
         String indexName = getNewIndexName(randomTable);
         sb.append(indexName);
         sb.append(" ON ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("ONLY ");
         }
         sb.append(randomTable.getName());
         IndexType method;
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" USING ");
-            method = Randomly.fromOptions(IndexType.values());
+            method = globalState.getRandomly().fromOptions(IndexType.values());
             sb.append(method);
         } else {
             method = IndexType.BTREE;
@@ -61,19 +61,19 @@ public final class PostgresIndexGenerator {
 
         sb.append("(");
         if (method == IndexType.HASH) {
-            sb.append(randomTable.getRandomColumn().getName());
+            sb.append(randomTable.getRandomColumn(globalState.getRandomly()).getName());
         } else {
-            for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
                 if (i != 0) {
                     sb.append(", ");
                 }
-                if (Randomly.getBoolean()) {
-                    sb.append(randomTable.getRandomColumn().getName());
+                if (globalState.getRandomly().getBoolean()) {
+                    sb.append(randomTable.getRandomColumn(globalState.getRandomly()).getName());
                 } else {
                     sb.append("(");
                     PostgresExpression expression = PostgresExpressionGenerator.generateExpression(globalState,
                             randomTable.getColumns());
-                    sb.append(PostgresVisitor.asString(expression));
+                    sb.append(PostgresVisitor.asString(expression, globalState.getRandomly()));
                     sb.append(")");
                 }
 
@@ -82,35 +82,35 @@ public final class PostgresIndexGenerator {
                 // sb.append("COLLATE ");
                 // sb.append(Randomly.fromOptions("C", "POSIX"));
                 // }
-                if (Randomly.getBooleanWithRatherLowProbability()) {
+                if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                     sb.append(" ");
-                    sb.append(globalState.getRandomOpclass());
+                    sb.append(globalState.getRandomOpclass(globalState.getRandomly()));
                     errors.add("does not accept");
                     errors.add("does not exist for access method");
                 }
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     sb.append(" ");
-                    sb.append(Randomly.fromOptions("ASC", "DESC"));
+                    sb.append(globalState.getRandomly().fromOptions("ASC", "DESC"));
                 }
-                if (Randomly.getBooleanWithRatherLowProbability()) {
+                if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
                     sb.append(" NULLS ");
-                    sb.append(Randomly.fromOptions("FIRST", "LAST"));
+                    sb.append(globalState.getRandomly().fromOptions("FIRST", "LAST"));
                 }
             }
         }
 
         sb.append(")");
-        if (Randomly.getBoolean() && method != IndexType.HASH) {
+        if (globalState.getRandomly().getBoolean() && method != IndexType.HASH) {
             sb.append(" INCLUDE(");
-            List<PostgresColumn> columns = randomTable.getRandomNonEmptyColumnSubset();
+            List<PostgresColumn> columns = randomTable.getRandomNonEmptyColumnSubset(globalState.getRandomly());
             sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(")");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
             PostgresExpression expr = new PostgresExpressionGenerator(globalState).setColumns(randomTable.getColumns())
                     .setGlobalState(globalState).generateExpression(PostgresDataType.BOOLEAN);
-            sb.append(PostgresVisitor.asString(expr));
+            sb.append(PostgresVisitor.asString(expr, globalState.getRandomly()));
         }
         errors.add("already contains data"); // CONCURRENT INDEX failed
         errors.add("You might need to add explicit type casts");
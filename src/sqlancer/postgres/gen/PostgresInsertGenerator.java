@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresColumn;
 import sqlancer.postgres.PostgresSchema.PostgresTable;
@@ -20,7 +19,7 @@ public final class PostgresInsertGenerator {
     }
 
     public static Query insert(PostgresGlobalState globalState) {
-        PostgresTable table = globalState.getSchema().getRandomTable(t -> t.isInsertable());
+        PostgresTable table = globalState.getSchema().getRandomTable(t -> t.isInsertable(), globalState.getRandomly());
         Set<String> errors = new HashSet<>();
         errors.add("cannot insert into column");
         PostgresCommon.addCommonExpressionErrors(errors);
@@ -39,19 +38,20 @@ public final class PostgresInsertGenerator {
         StringBuilder sb = new StringBuilder();
         sb.append("INSERT INTO ");
         sb.append(table.getName());
-        List<PostgresColumn> columns = table.getRandomNonEmptyColumnSubset();
+        List<PostgresColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         sb.append("(");
         sb.append(columns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
         sb.append(")");
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             sb.append(" OVERRIDING");
             sb.append(" ");
-            sb.append(Randomly.fromOptions("SYSTEM", "USER"));
+            sb.append(globalState.getRandomly().fromOptions("SYSTEM", "USER"));
             sb.append(" VALUE");
         }
         sb.append(" VALUES");
 
-        if (globalState.getDmbsSpecificOptions().allowBulkInsert && Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getDmbsSpecificOptions().allowBulkInsert
+                && globalState.getRandomly().getBooleanWithSmallProbability()) {
             StringBuilder sbRowValue = new StringBuilder();
             sbRowValue.append("(");
             for (int i = 0; i < columns.size(); i++) {
@@ -59,11 +59,12 @@ public final class PostgresInsertGenerator {
                     sbRowValue.append(", ");
                 }
                 sbRowValue.append(PostgresVisitor.asString(PostgresExpressionGenerator
-                        .generateConstant(globalState.getRandomly(), columns.get(i).getType())));
+                        .generateConstant(globalState.getRandomly(), columns.get(i).getType()),
+                        globalState.getRandomly()));
             }
             sbRowValue.append(")");
 
-            int n = (int) Randomly.getNotCachedInteger(100, 1000);
+            int n = (int) globalState.getRandomly().getNotCachedInteger(100, 1000);
             for (int i = 0; i < n; i++) {
                 if (i != 0) {
                     sb.append(", ");
@@ -71,7 +72,7 @@ public final class PostgresInsertGenerator {
                 sb.append(sbRowValue);
             }
         } else {
-            int n = Randomly.smallNumber() + 1;
+            int n = globalState.getRandomly().smallNumber() + 1;
             for (int i = 0; i < n; i++) {
                 if (i != 0) {
                     sb.append(", ");
@@ -79,11 +80,11 @@ public final class PostgresInsertGenerator {
                 insertRow(globalState, sb, columns, n == 1);
             }
         }
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             sb.append(" ON CONFLICT ");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("(");
-                sb.append(table.getRandomColumn().getName());
+                sb.append(table.getRandomColumn(globalState.getRandomly()).getName());
                 sb.append(")");
                 errors.add("there is no unique or exclusion constraint matching the ON CONFLICT specification");
             }
@@ -108,16 +109,16 @@ public final class PostgresInsertGenerator {
             if (i != 0) {
                 sb.append(", ");
             }
-            if (!Randomly.getBooleanWithSmallProbability() || !canBeDefault) {
+            if (!globalState.getRandomly().getBooleanWithSmallProbability() || !canBeDefault) {
                 PostgresExpression generateConstant;
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     generateConstant = PostgresExpressionGenerator.generateConstant(globalState.getRandomly(),
                             columns.get(i).getType());
                 } else {
                     generateConstant = new PostgresExpressionGenerator(globalState)
                             .generateExpression(columns.get(i).getType());
                 }
-                sb.append(PostgresVisitor.asString(generateConstant));
+                sb.append(PostgresVisitor.asString(generateConstant, globalState.getRandomly()));
             } else {
                 sb.append("DEFAULT");
             }
@@ -10,15 +10,15 @@ public final class PostgresNotifyGenerator {
     private PostgresNotifyGenerator() {
     }
 
-    private static String getChannel() {
-        return Randomly.fromOptions("asdf", "test");
+    private static String getChannel(Randomly r) {
+        return r.fromOptions("asdf", "test");
     }
 
     public static Query createNotify(PostgresGlobalState globalState) {
         StringBuilder sb = new StringBuilder();
         sb.append("NOTIFY ");
-        sb.append(getChannel());
-        if (Randomly.getBoolean()) {
+        sb.append(getChannel(globalState.getRandomly()));
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(", ");
             sb.append("'");
             sb.append(globalState.getRandomly().getString().replace("'", "''"));
@@ -27,18 +27,18 @@ public final class PostgresNotifyGenerator {
         return new QueryAdapter(sb.toString());
     }
 
-    public static Query createListen() {
+    public static Query createListen(Randomly r) {
         StringBuilder sb = new StringBuilder();
         sb.append("LISTEN ");
-        sb.append(getChannel());
+        sb.append(getChannel(r));
         return new QueryAdapter(sb.toString());
     }
 
-    public static Query createUnlisten() {
+    public static Query createUnlisten(Randomly r) {
         StringBuilder sb = new StringBuilder();
         sb.append("UNLISTEN ");
-        if (Randomly.getBoolean()) {
-            sb.append(getChannel());
+        if (r.getBoolean()) {
+            sb.append(getChannel(r));
         } else {
             sb.append("*");
         }
@@ -14,11 +14,11 @@ public final class PostgresQueryCatalogGenerator {
     private PostgresQueryCatalogGenerator() {
     }
 
-    public static Query query() {
+    public static Query query(Randomly r) {
         StringBuilder sb = new StringBuilder();
         sb.append("SELECT * FROM ");
         sb.append(
-                Randomly.fromOptions("pg_aggregate", "pg_am", "pg_amop", "pg_amproc", "pg_attrdef", "pg_attribute",
+                r.fromOptions("pg_aggregate", "pg_am", "pg_amop", "pg_amproc", "pg_attrdef", "pg_attribute",
                         "pg_authid", "pg_auth_members", "pg_cast", "pg_class", "pg_collation", "pg_constraint",
                         "pg_conversion", "pg_database", "pg_db_role_setting", "pg_default_acl", "pg_depend",
                         "pg_description", "pg_enum", "pg_event_trigger", "pg_extension", "pg_foreign_data_wrapper",
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
 import sqlancer.postgres.PostgresSchema.PostgresTables;
@@ -22,40 +21,42 @@ public final class PostgresRandomQueryGenerator {
 
     public static PostgresSelect createRandomQuery(int nrColumns, PostgresGlobalState globalState) {
         List<PostgresExpression> columns = new ArrayList<>();
-        PostgresTables tables = globalState.getSchema().getRandomTableNonEmptyTables();
+        PostgresTables tables = globalState.getSchema().getRandomTableNonEmptyTables(globalState.getRandomly());
         PostgresExpressionGenerator gen = new PostgresExpressionGenerator(globalState).setColumns(tables.getColumns());
         for (int i = 0; i < nrColumns; i++) {
             columns.add(gen.generateExpression(0));
         }
         PostgresSelect select = new PostgresSelect();
-        select.setSelectType(SelectType.getRandom());
-        if (select.getSelectOption() == SelectType.DISTINCT && Randomly.getBoolean()) {
+        select.setSelectType(SelectType.getRandom(globalState.getRandomly()));
+        if (select.getSelectOption() == SelectType.DISTINCT && globalState.getRandomly().getBoolean()) {
             select.setDistinctOnClause(gen.generateExpression(0));
         }
-        select.setFromList(tables.getTables().stream().map(t -> new PostgresFromTable(t, Randomly.getBoolean()))
+        select.setFromList(tables.getTables().stream()
+                .map(t -> new PostgresFromTable(t, globalState.getRandomly().getBoolean()))
                 .collect(Collectors.toList()));
         select.setFetchColumns(columns);
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setWhereClause(gen.generateExpression(0, PostgresDataType.BOOLEAN));
         }
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            select.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
-            if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+            select.setGroupByExpressions(gen.generateExpressions(globalState.getRandomly().smallNumber() + 1));
+            if (globalState.getRandomly().getBoolean()) {
                 select.setHavingClause(gen.generateHavingClause());
             }
         }
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setOrderByExpressions(gen.generateOrderBy());
         }
-        if (Randomly.getBoolean()) {
-            select.setLimitClause(PostgresConstant.createIntConstant(Randomly.getPositiveOrZeroNonCachedInteger()));
-            if (Randomly.getBoolean()) {
-                select.setOffsetClause(
-                        PostgresConstant.createIntConstant(Randomly.getPositiveOrZeroNonCachedInteger()));
+        if (globalState.getRandomly().getBoolean()) {
+            select.setLimitClause(PostgresConstant
+                    .createIntConstant(globalState.getRandomly().getPositiveOrZeroNonCachedInteger()));
+            if (globalState.getRandomly().getBoolean()) {
+                select.setOffsetClause(PostgresConstant
+                        .createIntConstant(globalState.getRandomly().getPositiveOrZeroNonCachedInteger()));
             }
         }
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            select.setForClause(ForClause.getRandom());
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+            select.setForClause(ForClause.getRandom(globalState.getRandomly()));
         }
         return select;
     }
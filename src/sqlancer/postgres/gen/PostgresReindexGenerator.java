@@ -5,9 +5,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresIndex;
 
@@ -29,29 +29,30 @@ public final class PostgresReindexGenerator {
         // sb.append(" VERBOSE");
         // }
         sb.append(" ");
-        Scope scope = Randomly.fromOptions(Scope.values());
+        Scope scope = globalState.getRandomly().fromOptions(Scope.values());
         switch (scope) {
         case INDEX:
             sb.append("INDEX ");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("CONCURRENTLY ");
             }
-            List<PostgresIndex> indexes = globalState.getSchema().getRandomTable().getIndexes();
+            List<PostgresIndex> indexes = globalState.getSchema().getRandomTable(globalState.getRandomly())
+                    .getIndexes();
             if (indexes.isEmpty()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
             sb.append(indexes.stream().map(i -> i.getIndexName()).collect(Collectors.joining()));
             break;
         case TABLE:
             sb.append("TABLE ");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("CONCURRENTLY ");
             }
-            sb.append(globalState.getSchema().getRandomTable(t -> !t.isView()).getName());
+            sb.append(globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly()).getName());
             break;
         case DATABASE:
             sb.append("DATABASE ");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("CONCURRENTLY ");
             }
             sb.append(globalState.getSchema().getDatabaseName());
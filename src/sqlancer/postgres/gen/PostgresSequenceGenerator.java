@@ -5,7 +5,6 @@ import java.util.List;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 
 public final class PostgresSequenceGenerator {
@@ -16,30 +15,30 @@ public final class PostgresSequenceGenerator {
     public static Query createSequence(PostgresGlobalState globalState) {
         List<String> errors = new ArrayList<>();
         StringBuilder sb = new StringBuilder("CREATE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("TEMPORARY", "TEMP"));
+            sb.append(globalState.getRandomly().fromOptions("TEMPORARY", "TEMP"));
         }
         sb.append(" SEQUENCE");
         // TODO keep track of sequences
         sb.append(" IF NOT EXISTS");
         // TODO generate sequence names
         sb.append(" seq");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" AS ");
-            sb.append(Randomly.fromOptions("smallint", "integer", "bigint"));
+            sb.append(globalState.getRandomly().fromOptions("smallint", "integer", "bigint"));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" INCREMENT");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" BY");
             }
             sb.append(" ");
             sb.append(globalState.getRandomly().getInteger());
             errors.add("INCREMENT must not be zero");
         }
-        if (Randomly.getBoolean()) {
-            if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" MINVALUE");
                 sb.append(" ");
                 sb.append(globalState.getRandomly().getInteger());
@@ -48,8 +47,8 @@ public final class PostgresSequenceGenerator {
             }
             errors.add("must be less than MAXVALUE");
         }
-        if (Randomly.getBoolean()) {
-            if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" MAXVALUE");
                 sb.append(" ");
                 sb.append(globalState.getRandomly().getInteger());
@@ -58,9 +57,9 @@ public final class PostgresSequenceGenerator {
             }
             errors.add("must be less than MAXVALUE");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" START");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" WITH");
             }
             sb.append(" ");
@@ -68,18 +67,18 @@ public final class PostgresSequenceGenerator {
             errors.add("cannot be less than MINVALUE");
             errors.add("cannot be greater than MAXVALUE");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" CACHE ");
             sb.append(globalState.getRandomly().getPositiveIntegerNotNull());
         }
         errors.add("is out of range");
-        if (Randomly.getBoolean()) {
-            if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" NO");
             }
             sb.append(" CYCLE");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" OWNED BY ");
             // if (Randomly.getBoolean()) {
             sb.append("NONE");
@@ -5,9 +5,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresColumn;
 import sqlancer.postgres.PostgresSchema.PostgresStatisticsObject;
@@ -21,25 +21,26 @@ public final class PostgresStatisticsGenerator {
     public static Query insert(PostgresGlobalState globalState) {
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE STATISTICS ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" IF NOT EXISTS");
         }
-        PostgresTable randomTable = globalState.getSchema().getRandomTable(t -> !t.isView()); // TODO materialized view
+        PostgresTable randomTable = globalState.getSchema()
+                .getRandomTable(t -> !t.isView(), globalState.getRandomly()); // TODO materialized view
         if (randomTable.getColumns().size() < 2) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
         sb.append(" ");
         sb.append(getNewStatisticsName(randomTable));
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" (");
             List<String> statsSubset;
-            statsSubset = Randomly.nonEmptySubset("ndistinct", "dependencies", "mcv");
+            statsSubset = globalState.getRandomly().nonEmptySubset("ndistinct", "dependencies", "mcv");
             sb.append(statsSubset.stream().collect(Collectors.joining(", ")));
             sb.append(")");
         }
 
         List<PostgresColumn> randomColumns = randomTable.getRandomNonEmptyColumnSubset(
-                globalState.getRandomly().getInteger(2, randomTable.getColumns().size()));
+                globalState.getRandomly().getInteger(2, randomTable.getColumns().size()), globalState.getRandomly());
         sb.append(" ON ");
         sb.append(randomColumns.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
         sb.append(" FROM ");
@@ -49,12 +50,12 @@ public final class PostgresStatisticsGenerator {
 
     public static Query remove(PostgresGlobalState globalState) {
         StringBuilder sb = new StringBuilder("DROP STATISTICS ");
-        PostgresTable randomTable = globalState.getSchema().getRandomTable();
+        PostgresTable randomTable = globalState.getSchema().getRandomTable(globalState.getRandomly());
         List<PostgresStatisticsObject> statistics = randomTable.getStatistics();
         if (statistics.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
-        sb.append(Randomly.fromList(statistics).getName());
+        sb.append(globalState.getRandomly().fromList(statistics).getName());
         return new QueryAdapter(sb.toString(), true);
     }
 
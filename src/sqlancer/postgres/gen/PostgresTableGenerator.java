@@ -8,7 +8,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema;
 import sqlancer.postgres.PostgresSchema.PostgresColumn;
@@ -65,20 +64,20 @@ public class PostgresTableGenerator {
     private Query generate() {
         columnCanHavePrimaryKey = true;
         sb.append("CREATE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
             isTemporaryTable = true;
-            sb.append(Randomly.fromOptions("TEMPORARY", "TEMP"));
-        } else if (Randomly.getBoolean()) {
+            sb.append(globalState.getRandomly().fromOptions("TEMPORARY", "TEMP"));
+        } else if (globalState.getRandomly().getBoolean()) {
             sb.append(" UNLOGGED");
         }
         sb.append(" TABLE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" IF NOT EXISTS");
         }
         sb.append(" ");
         sb.append(tableName);
-        if (Randomly.getBoolean() && !newSchema.getDatabaseTables().isEmpty()) {
+        if (globalState.getRandomly().getBoolean() && !newSchema.getDatabaseTables().isEmpty()) {
             createLike();
         } else {
             createStandard();
@@ -88,14 +87,14 @@ public class PostgresTableGenerator {
 
     private void createStandard() throws AssertionError {
         sb.append("(");
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
             if (i != 0) {
                 sb.append(", ");
             }
             String name = SQLite3Common.createColumnName(i);
             createColumn(name);
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             errors.add("constraints on temporary tables may reference only temporary tables");
             errors.add("constraints on unlogged tables may reference only permanent or unlogged tables");
             errors.add("constraints on permanent tables may reference only permanent tables");
@@ -111,9 +110,9 @@ public class PostgresTableGenerator {
         generateInherits();
         generatePartitionBy();
         PostgresCommon.generateWith(sb, globalState, errors);
-        if (Randomly.getBoolean() && isTemporaryTable) {
+        if (globalState.getRandomly().getBoolean() && isTemporaryTable) {
             sb.append(" ON COMMIT ");
-            sb.append(Randomly.fromOptions("PRESERVE ROWS", "DELETE ROWS", "DROP"));
+            sb.append(globalState.getRandomly().fromOptions("PRESERVE ROWS", "DELETE ROWS", "DROP"));
             sb.append(" ");
         }
     }
@@ -121,13 +120,14 @@ public class PostgresTableGenerator {
     private void createLike() {
         sb.append("(");
         sb.append("LIKE ");
-        sb.append(newSchema.getRandomTable().getName());
-        if (Randomly.getBoolean()) {
-            for (int i = 0; i < Randomly.smallNumber(); i++) {
-                String option = Randomly.fromOptions("DEFAULTS", "CONSTRAINTS", "INDEXES", "STORAGE", "COMMENTS",
+        sb.append(newSchema.getRandomTable(globalState.getRandomly()).getName());
+        if (globalState.getRandomly().getBoolean()) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber(); i++) {
+                String option = globalState.getRandomly()
+                        .fromOptions("DEFAULTS", "CONSTRAINTS", "INDEXES", "STORAGE", "COMMENTS",
                         "GENERATED", "IDENTITY", "STATISTICS", "STORAGE", "ALL");
                 sb.append(" ");
-                sb.append(Randomly.fromOptions("INCLUDING", "EXCLUDING"));
+                sb.append(globalState.getRandomly().fromOptions("INCLUDING", "EXCLUDING"));
                 sb.append(" ");
                 sb.append(option);
             }
@@ -138,24 +138,25 @@ public class PostgresTableGenerator {
     private void createColumn(String name) throws AssertionError {
         sb.append(name);
         sb.append(" ");
-        PostgresDataType type = PostgresDataType.getRandomType();
-        boolean serial = PostgresCommon.appendDataType(type, sb, true, generateOnlyKnown, globalState.getCollates());
+        PostgresDataType type = PostgresDataType.getRandomType(globalState.getRandomly());
+        boolean serial = PostgresCommon.appendDataType(type, sb, true, generateOnlyKnown, globalState.getCollates(),
+                globalState.getRandomly());
         PostgresColumn c = new PostgresColumn(name, type);
         c.setTable(table);
         columnsToBeAdded.add(c);
         sb.append(" ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             createColumnConstraint(type, serial);
         }
     }
 
     private void generatePartitionBy() {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             return;
         }
         sb.append(" PARTITION BY ");
         // TODO "RANGE",
-        String partitionOption = Randomly.fromOptions("RANGE", "LIST", "HASH");
+        String partitionOption = globalState.getRandomly().fromOptions("RANGE", "LIST", "HASH");
         sb.append(partitionOption);
         sb.append("(");
         errors.add("unrecognized parameter");
@@ -166,7 +167,7 @@ public class PostgresTableGenerator {
         errors.add("which is part of the partition key.");
         errors.add("unsupported UNIQUE constraint with partition key definition");
         errors.add("does not accept data type");
-        int n = partitionOption.contentEquals("LIST") ? 1 : Randomly.smallNumber() + 1;
+        int n = partitionOption.contentEquals("LIST") ? 1 : globalState.getRandomly().smallNumber() + 1;
         PostgresCommon.addCommonExpressionErrors(errors);
         for (int i = 0; i < n; i++) {
             if (i != 0) {
@@ -174,10 +175,10 @@ public class PostgresTableGenerator {
             }
             sb.append("(");
             PostgresExpression expr = PostgresExpressionGenerator.generateExpression(globalState, columnsToBeAdded);
-            sb.append(PostgresVisitor.asString(expr));
+            sb.append(PostgresVisitor.asString(expr, globalState.getRandomly()));
             sb.append(")");
-            if (Randomly.getBoolean()) {
-                sb.append(globalState.getRandomOpclass());
+            if (globalState.getRandomly().getBoolean()) {
+                sb.append(globalState.getRandomOpclass(globalState.getRandomly()));
                 errors.add("does not exist for access method");
             }
         }
@@ -185,9 +186,10 @@ public class PostgresTableGenerator {
     }
 
     private void generateInherits() {
-        if (Randomly.getBoolean() && !newSchema.getDatabaseTables().isEmpty()) {
+        if (globalState.getRandomly().getBoolean() && !newSchema.getDatabaseTables().isEmpty()) {
             sb.append(" INHERITS(");
-            sb.append(newSchema.getDatabaseTablesRandomSubsetNotEmpty().stream().map(t -> t.getName())
+            sb.append(newSchema.getDatabaseTablesRandomSubsetNotEmpty(globalState.getRandomly()).stream()
+                    .map(t -> t.getName())
                     .collect(Collectors.joining(", ")));
             sb.append(")");
             errors.add("has a type conflict");
@@ -204,8 +206,8 @@ public class PostgresTableGenerator {
     };
 
     private void createColumnConstraint(PostgresDataType type, boolean serial) {
-        List<ColumnConstraint> constraintSubset = Randomly.nonEmptySubset(ColumnConstraint.values());
-        if (Randomly.getBoolean()) {
+        List<ColumnConstraint> constraintSubset = globalState.getRandomly().nonEmptySubset(ColumnConstraint.values());
+        if (globalState.getRandomly().getBoolean()) {
             // make checks constraints less likely
             constraintSubset.remove(ColumnConstraint.CHECK);
         }
@@ -215,7 +217,8 @@ public class PostgresTableGenerator {
         if (constraintSubset.contains(ColumnConstraint.GENERATED)
                 && constraintSubset.contains(ColumnConstraint.DEFAULT)) {
             // otherwise: ERROR: both default and identity specified for column
-            constraintSubset.remove(Randomly.fromOptions(ColumnConstraint.GENERATED, ColumnConstraint.DEFAULT));
+            constraintSubset.remove(
+                    globalState.getRandomly().fromOptions(ColumnConstraint.GENERATED, ColumnConstraint.DEFAULT));
         }
         if (constraintSubset.contains(ColumnConstraint.GENERATED) && type != PostgresDataType.INT) {
             // otherwise: ERROR: identity column type must be smallint, integer, or bigint
@@ -231,7 +234,7 @@ public class PostgresTableGenerator {
             sb.append(" ");
             switch (c) {
             case NULL_OR_NOT_NULL:
-                sb.append(Randomly.fromOptions("NOT NULL", "NULL"));
+                sb.append(globalState.getRandomly().fromOptions("NOT NULL", "NULL"));
                 break;
             case UNIQUE:
                 sb.append("UNIQUE");
@@ -243,7 +246,8 @@ public class PostgresTableGenerator {
             case DEFAULT:
                 sb.append("DEFAULT");
                 sb.append(" (");
-                sb.append(PostgresVisitor.asString(PostgresExpressionGenerator.generateExpression(globalState, type)));
+                sb.append(PostgresVisitor.asString(PostgresExpressionGenerator.generateExpression(globalState, type),
+                        globalState.getRandomly()));
                 sb.append(")");
                 // CREATE TEMPORARY TABLE t1(c0 smallint DEFAULT ('566963878'));
                 errors.add("out of range");
@@ -252,26 +256,27 @@ public class PostgresTableGenerator {
             case CHECK:
                 sb.append("CHECK (");
                 sb.append(PostgresVisitor.asString(PostgresExpressionGenerator.generateExpression(globalState,
-                        columnsToBeAdded, PostgresDataType.BOOLEAN)));
+                        columnsToBeAdded, PostgresDataType.BOOLEAN), globalState.getRandomly()));
                 sb.append(")");
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     sb.append(" NO INHERIT");
                 }
                 errors.add("out of range");
                 break;
             case GENERATED:
                 sb.append("GENERATED ");
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     sb.append(" ALWAYS AS (");
                     sb.append(PostgresVisitor.asString(
-                            PostgresExpressionGenerator.generateExpression(globalState, columnsToBeAdded, type)));
+                            PostgresExpressionGenerator.generateExpression(globalState, columnsToBeAdded, type),
+                            globalState.getRandomly()));
                     sb.append(") STORED");
                     errors.add("A generated column cannot reference another generated column.");
                     errors.add("cannot use generated column in partition key");
                     errors.add("generation expression is not immutable");
                     errors.add("cannot use column reference in DEFAULT expression");
                 } else {
-                    sb.append(Randomly.fromOptions("ALWAYS", "BY DEFAULT"));
+                    sb.append(globalState.getRandomly().fromOptions("ALWAYS", "BY DEFAULT"));
                     sb.append(" AS IDENTITY");
                 }
                 break;
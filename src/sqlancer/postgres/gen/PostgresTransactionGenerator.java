@@ -12,13 +12,13 @@ public final class PostgresTransactionGenerator {
     private PostgresTransactionGenerator() {
     }
 
-    public static Query executeBegin() {
+    public static Query executeBegin(Randomly r) {
         List<String> errors = new ArrayList<>();
         StringBuilder sb = new StringBuilder("BEGIN");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             errors.add("SET TRANSACTION ISOLATION LEVEL must be called before any query");
             sb.append(" ISOLATION LEVEL ");
-            sb.append(Randomly.fromOptions("SERIALIZABLE", "REPEATABLE READ", "READ COMMITTED", "READ UNCOMMITTED"));
+            sb.append(r.fromOptions("SERIALIZABLE", "REPEATABLE READ", "READ COMMITTED", "READ UNCOMMITTED"));
             // if (Randomly.getBoolean()) {
             // sb.append(" ");
             // sb.append(Randomly.fromOptions("READ WRITE", "READ ONLY"));
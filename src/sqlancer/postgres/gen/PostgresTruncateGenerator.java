@@ -5,7 +5,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 
 public final class PostgresTruncateGenerator {
@@ -16,7 +15,7 @@ public final class PostgresTruncateGenerator {
     public static Query create(PostgresGlobalState globalState) {
         StringBuilder sb = new StringBuilder();
         sb.append("TRUNCATE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" TABLE");
         }
         // TODO partitions
@@ -24,15 +23,16 @@ public final class PostgresTruncateGenerator {
         // sb.append(" ONLY");
         // }
         sb.append(" ");
-        sb.append(globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty().stream().map(t -> t.getName())
+        sb.append(globalState.getSchema().getDatabaseTablesRandomSubsetNotEmpty(globalState.getRandomly()).stream()
+                .map(t -> t.getName())
                 .collect(Collectors.joining(", ")));
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("RESTART IDENTITY", "CONTINUE IDENTITY"));
+            sb.append(globalState.getRandomly().fromOptions("RESTART IDENTITY", "CONTINUE IDENTITY"));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("CASCADE", "RESTRICT"));
+            sb.append(globalState.getRandomly().fromOptions("CASCADE", "RESTRICT"));
         }
         return new QueryAdapter(sb.toString(),
                 Arrays.asList("cannot truncate a table referenced in a foreign key constraint", "is not a table"));
@@ -7,7 +7,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresColumn;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
@@ -21,7 +20,8 @@ public final class PostgresUpdateGenerator {
     }
 
     public static Query create(PostgresGlobalState globalState) {
-        PostgresTable randomTable = globalState.getSchema().getRandomTable(t -> t.isInsertable());
+        PostgresTable randomTable = globalState.getSchema()
+                .getRandomTable(t -> t.isInsertable(), globalState.getRandomly());
         StringBuilder sb = new StringBuilder();
         sb.append("UPDATE ");
         sb.append(randomTable.getName());
@@ -34,7 +34,7 @@ public final class PostgresUpdateGenerator {
                 "View columns that are not columns of their base relation are not updatable"));
         errors.add("multiple assignments to same column"); // view whose columns refer to a column in the referenced
                                                            // table multiple times
-        List<PostgresColumn> columns = randomTable.getRandomNonEmptyColumnSubset();
+        List<PostgresColumn> columns = randomTable.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         PostgresCommon.addCommonInsertUpdateErrors(errors);
 
         for (int i = 0; i < columns.size(); i++) {
@@ -44,18 +44,18 @@ public final class PostgresUpdateGenerator {
             PostgresColumn column = columns.get(i);
             sb.append(column.getName());
             sb.append(" = ");
-            if (!Randomly.getBoolean()) {
+            if (!globalState.getRandomly().getBoolean()) {
                 PostgresExpression constant = PostgresExpressionGenerator.generateConstant(globalState.getRandomly(),
                         column.getType());
-                sb.append(PostgresVisitor.asString(constant));
-            } else if (Randomly.getBoolean()) {
+                sb.append(PostgresVisitor.asString(constant, globalState.getRandomly()));
+            } else if (globalState.getRandomly().getBoolean()) {
                 sb.append("DEFAULT");
             } else {
                 sb.append("(");
                 PostgresExpression expr = PostgresExpressionGenerator.generateExpression(globalState,
                         randomTable.getColumns(), column.getType());
                 // caused by casts
-                sb.append(PostgresVisitor.asString(expr));
+                sb.append(PostgresVisitor.asString(expr, globalState.getRandomly()));
                 sb.append(")");
             }
         }
@@ -65,11 +65,11 @@ public final class PostgresUpdateGenerator {
         errors.add("could not determine which collation to use for string comparison");
         errors.add("but expression is of type");
         PostgresCommon.addCommonExpressionErrors(errors);
-        if (!Randomly.getBooleanWithSmallProbability()) {
+        if (!globalState.getRandomly().getBooleanWithSmallProbability()) {
             sb.append(" WHERE ");
             PostgresExpression where = PostgresExpressionGenerator.generateExpression(globalState,
                     randomTable.getColumns(), PostgresDataType.BOOLEAN);
-            sb.append(PostgresVisitor.asString(where));
+            sb.append(PostgresVisitor.asString(where, globalState.getRandomly()));
         }
 
         return new QueryAdapter(sb.toString(), errors, true);
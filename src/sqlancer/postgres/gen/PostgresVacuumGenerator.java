@@ -17,37 +17,37 @@ public final class PostgresVacuumGenerator {
     }
 
     public static Query create(PostgresGlobalState globalState) {
-        PostgresTable table = globalState.getSchema().getRandomTable();
+        PostgresTable table = globalState.getSchema().getRandomTable(globalState.getRandomly());
         StringBuilder sb = new StringBuilder("VACUUM ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             // VACUUM [ ( { FULL | FREEZE | VERBOSE | ANALYZE | DISABLE_PAGE_SKIPPING } [,
             // ...] ) ] [ table_name [ (column_name [, ...] ) ] ]
             sb.append("(");
-            for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
                 ArrayList<String> opts = new ArrayList<>(Arrays.asList("FULL", "FREEZE", "ANALYZE", "VERBOSE",
                         "DISABLE_PAGE_SKIPPING", "SKIP_LOCKED", "INDEX_CLEANUP", "TRUNCATE"));
-                String option = Randomly.fromList(opts);
+                String option = globalState.getRandomly().fromList(opts);
                 if (i != 0) {
                     sb.append(", ");
                 }
                 sb.append(option);
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     sb.append(" ");
-                    sb.append(Randomly.fromOptions(1, 0));
+                    sb.append(globalState.getRandomly().fromOptions(1, 0));
                 }
             }
             sb.append(")");
-            if (Randomly.getBoolean()) {
-                addTableAndColumns(table, sb);
+            if (globalState.getRandomly().getBoolean()) {
+                addTableAndColumns(table, sb, globalState.getRandomly());
             }
         } else {
-            String firstOption = Randomly.fromOptions("FULL", "FREEZE", "VERBOSE");
+            String firstOption = globalState.getRandomly().fromOptions("FULL", "FREEZE", "VERBOSE");
             sb.append(firstOption);
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" ANALYZE");
-                addTableAndColumns(table, sb);
+                addTableAndColumns(table, sb, globalState.getRandomly());
             } else {
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     sb.append(" ");
                     sb.append(table.getName());
                 }
@@ -64,12 +64,12 @@ public final class PostgresVacuumGenerator {
         return new QueryAdapter(sb.toString(), errors);
     }
 
-    private static void addTableAndColumns(PostgresTable table, StringBuilder sb) {
+    private static void addTableAndColumns(PostgresTable table, StringBuilder sb, Randomly r) {
         sb.append(" ");
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append("(");
-            sb.append(table.getRandomNonEmptyColumnSubset().stream().map(c -> c.getName())
+            sb.append(table.getRandomNonEmptyColumnSubset(r).stream().map(c -> c.getName())
                     .collect(Collectors.joining(", ")));
             sb.append(")");
         }
@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresVisitor;
 import sqlancer.postgres.ast.PostgresSelect;
@@ -21,17 +20,17 @@ public final class PostgresViewGenerator {
         StringBuilder sb = new StringBuilder("CREATE");
         boolean materialized;
         boolean recursive = false;
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" MATERIALIZED");
             materialized = true;
         } else {
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" OR REPLACE");
             }
-            if (Randomly.getBoolean()) {
-                sb.append(Randomly.fromOptions(" TEMP", " TEMPORARY"));
+            if (globalState.getRandomly().getBoolean()) {
+                sb.append(globalState.getRandomly().fromOptions(" TEMP", " TEMPORARY"));
             }
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" RECURSIVE");
                 recursive = true;
             }
@@ -49,7 +48,7 @@ public final class PostgresViewGenerator {
         }
         sb.append(name[0]);
         sb.append("(");
-        int nrColumns = Randomly.smallNumber() + 1;
+        int nrColumns = globalState.getRandomly().smallNumber() + 1;
         for (i = 0; i < nrColumns; i++) {
             if (i != 0) {
                 sb.append(", ");
@@ -68,11 +67,11 @@ public final class PostgresViewGenerator {
         // }
         sb.append(" AS (");
         PostgresSelect select = PostgresRandomQueryGenerator.createRandomQuery(nrColumns, globalState);
-        sb.append(PostgresVisitor.asString(select));
+        sb.append(PostgresVisitor.asString(select, globalState.getRandomly()));
         sb.append(")");
-        if (Randomly.getBoolean() && !materialized && !recursive) {
+        if (globalState.getRandomly().getBoolean() && !materialized && !recursive) {
             sb.append(" WITH ");
-            sb.append(Randomly.fromOptions("CASCADED", "LOCAL"));
+            sb.append(globalState.getRandomly().fromOptions("CASCADED", "LOCAL"));
             sb.append(" CHECK OPTION");
             errors.add("WITH CHECK OPTION is supported only on automatically updatable views");
         }
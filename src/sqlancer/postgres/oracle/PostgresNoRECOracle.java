@@ -6,17 +6,18 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import sqlancer.CountCheckBatch;
+import sqlancer.CountCheckBatch.CountCheck;
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.StateLogger;
 import sqlancer.MainOptions;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.StateToReproduce.PostgresStateToReproduce;
 import sqlancer.TestOracle;
 import sqlancer.postgres.PostgresCompoundDataType;
@@ -44,12 +45,11 @@ public class PostgresNoRECOracle implements TestOracle {
     private final PostgresSchema s;
     private final Connection con;
     private final PostgresStateToReproduce state;
-    private String firstQueryString;
-    private String secondQueryString;
     private final StateLogger logger;
     private final MainOptions options;
-    private final Set<String> errors = new HashSet<>();
+    private final ExpectedErrors errors = new ExpectedErrors();
     private final PostgresGlobalState globalState;
+    private final CountCheckBatch batch;
 
     public PostgresNoRECOracle(PostgresGlobalState globalState) {
         this.s = globalState.getSchema();
@@ -58,30 +58,46 @@ public class PostgresNoRECOracle implements TestOracle {
         this.logger = globalState.getLogger();
         this.options = globalState.getOptions();
         this.globalState = globalState;
+        errors.add("canceling statement due to statement timeout");
+        this.batch = new CountCheckBatch(globalState, errors);
     }
 
     @Override
     public void check() throws SQLException {
         PostgresCommon.addCommonExpressionErrors(errors);
         PostgresCommon.addCommonFetchErrors(errors);
-        PostgresTables randomTables = s.getRandomTableNonEmptyTables();
+        PostgresTables randomTables = s.getRandomTableNonEmptyTables(globalState.getRandomly());
         List<PostgresColumn> columns = randomTables.getColumns();
         PostgresExpression randomWhereCondition = getRandomWhereCondition(columns);
         List<PostgresTable> tables = randomTables.getTables();
 
         List<PostgresJoin> joinStatements = getJoinStatements(globalState, columns, tables);
-        List<PostgresExpression> fromTables = tables.stream().map(t -> new PostgresFromTable(t, Randomly.getBoolean()))
+        List<PostgresExpression> fromTables = tables.stream()
+                .map(t -> new PostgresFromTable(t, globalState.getRandomly().getBoolean()))
                 .collect(Collectors.toList());
-        int secondCount = getUnoptimizedQueryCount(fromTables, randomWhereCondition, joinStatements);
-        int firstCount = getOptimizedQueryCount(fromTables, columns, randomWhereCondition, joinStatements);
-        if (firstCount == -1 || secondCount == -1) {
-            throw new IgnoreMeException();
-        }
-        if (firstCount != secondCount) {
-            state.queryString = firstCount + " " + secondCount + " " + firstQueryString + ";\n" + secondQueryString
-                    + ";";
-            throw new AssertionError(firstQueryString + secondQueryString + firstCount + " " + secondCount);
-        }
+        String unoptimizedQuery = getUnoptimizedQuery(fromTables, randomWhereCondition, joinStatements);
+        String optimizedQuery = getOptimizedQuery(fromTables, columns, randomWhereCondition, joinStatements);
+        batch.add(new CountCheck(PostgresVisitor.asRowCount(optimizedQuery), unoptimizedQuery, () -> {
+            int secondCount = getUnoptimizedQueryCount(unoptimizedQuery);
+            int firstCount = getRowCount(optimizedQuery, options.useServerSideDigests());
+            if (firstCount == -1 || secondCount == -1) {
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
+            }
+            if (firstCount != secondCount && options.useServerSideDigests()) {
+                // the optimized query's rows were counted by the DBMS, which could be affected by the wrapping query
+                firstCount = getRowCount(optimizedQuery, false);
+            }
+            if (firstCount != secondCount) {
+                state.queryString = firstCount + " " + secondCount + " " + optimizedQuery + ";\n" + unoptimizedQuery
+                        + ";";
+                throw new AssertionError(optimizedQuery + unoptimizedQuery + firstCount + " " + secondCount);
+            }
+        }));
+    }
+
+    @Override
+    public void finishChecks() throws SQLException {
+        batch.flush();
     }
 
     public static List<PostgresJoin> getJoinStatements(PostgresGlobalState globalState, List<PostgresColumn> columns,
@@ -90,9 +106,9 @@ public class PostgresNoRECOracle implements TestOracle {
         PostgresExpressionGenerator gen = new PostgresExpressionGenerator(globalState).setColumns(columns);
         for (int i = 1; i < tables.size(); i++) {
             PostgresExpression joinClause = gen.generateExpression(PostgresDataType.BOOLEAN);
-            PostgresTable table = Randomly.fromList(tables);
+            PostgresTable table = globalState.getRandomly().fromList(tables);
             tables.remove(table);
-            PostgresJoinType options = PostgresJoinType.getRandom();
+            PostgresJoinType options = PostgresJoinType.getRandom(globalState.getRandomly());
             PostgresJoin j = new PostgresJoin(table, joinClause, options);
             joinStatements.add(j);
         }
@@ -104,8 +120,8 @@ public class PostgresNoRECOracle implements TestOracle {
                 .generateExpression(PostgresDataType.BOOLEAN);
     }
 
-    private int getUnoptimizedQueryCount(List<PostgresExpression> fromTables, PostgresExpression randomWhereCondition,
-            List<PostgresJoin> joinStatements) throws SQLException {
+    private String getUnoptimizedQuery(List<PostgresExpression> fromTables, PostgresExpression randomWhereCondition,
+            List<PostgresJoin> joinStatements) {
         PostgresSelect select = new PostgresSelect();
         PostgresCastOperation isTrue = new PostgresCastOperation(randomWhereCondition,
                 PostgresCompoundDataType.create(PostgresDataType.INT));
@@ -114,18 +130,20 @@ public class PostgresNoRECOracle implements TestOracle {
         select.setFromList(fromTables);
         select.setSelectType(SelectType.ALL);
         select.setJoinClauses(joinStatements);
+        return "SELECT SUM(count) FROM (" + PostgresVisitor.asString(select, globalState.getRandomly()) + ") as res";
+    }
+
+    private int getUnoptimizedQueryCount(String queryString) throws SQLException {
         int secondCount = 0;
-        secondQueryString = "SELECT SUM(count) FROM (" + PostgresVisitor.asString(select) + ") as res";
         if (options.logEachSelect()) {
-            logger.writeCurrent(secondQueryString);
+            logger.writeCurrent(queryString);
         }
-        errors.add("canceling statement due to statement timeout");
-        Query q = new QueryAdapter(secondQueryString, errors);
+        Query q = new QueryAdapter(queryString, errors);
         ResultSet rs;
         try {
             rs = q.executeAndGet(globalState);
         } catch (Exception e) {
-            throw new AssertionError(secondQueryString, e);
+            throw new AssertionError(queryString, e);
         }
         if (rs == null) {
             return -1;
@@ -137,32 +155,41 @@ public class PostgresNoRECOracle implements TestOracle {
         return secondCount;
     }
 
-    private int getOptimizedQueryCount(List<PostgresExpression> randomTables, List<PostgresColumn> columns,
-            PostgresExpression randomWhereCondition, List<PostgresJoin> joinStatements) throws SQLException {
+    private String getOptimizedQuery(List<PostgresExpression> randomTables, List<PostgresColumn> columns,
+            PostgresExpression randomWhereCondition, List<PostgresJoin> joinStatements) {
         PostgresSelect select = new PostgresSelect();
-        PostgresColumnValue allColumns = new PostgresColumnValue(Randomly.fromList(columns), null);
+        PostgresColumnValue allColumns = new PostgresColumnValue(globalState.getRandomly().fromList(columns), null);
         select.setFetchColumns(Arrays.asList(allColumns));
         select.setFromList(randomTables);
         select.setWhereClause(randomWhereCondition);
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
             select.setOrderByExpressions(new PostgresExpressionGenerator(globalState).setColumns(columns)
                     .setGlobalState(globalState).generateOrderBy());
         }
         select.setSelectType(SelectType.ALL);
         select.setJoinClauses(joinStatements);
+        return PostgresVisitor.asString(select, globalState.getRandomly());
+    }
+
+    private int getRowCount(String optimizedQuery, boolean countOnServer) {
         int firstCount = 0;
         try (Statement stat = con.createStatement()) {
-            firstQueryString = PostgresVisitor.asString(select);
+            String queryString = countOnServer ? PostgresVisitor.asRowCount(optimizedQuery) : optimizedQuery;
             if (options.logEachSelect()) {
-                logger.writeCurrent(firstQueryString);
+                logger.writeCurrent(queryString);
             }
-            try (ResultSet rs = stat.executeQuery(firstQueryString)) {
-                while (rs.next()) {
-                    firstCount++;
+            try (ResultSet rs = stat.executeQuery(queryString)) {
+                if (countOnServer) {
+                    rs.next();
+                    firstCount = rs.getInt(1);
+                } else {
+                    while (rs.next()) {
+                        firstCount++;
+                    }
                 }
             }
         } catch (SQLException e) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.EXPECTED_ERROR);
         }
         return firstCount;
     }
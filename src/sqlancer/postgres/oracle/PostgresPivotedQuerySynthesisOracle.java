@@ -10,9 +10,9 @@ import java.util.stream.Collectors;
 
 import org.postgresql.util.PSQLException;
 
+import sqlancer.ExpectedErrors;
 import sqlancer.Main.StateLogger;
 import sqlancer.MainOptions;
-import sqlancer.Randomly;
 import sqlancer.StateToReproduce.PostgresStateToReproduce;
 import sqlancer.TestOracle;
 import sqlancer.postgres.PostgresGlobalState;
@@ -30,6 +30,12 @@ import sqlancer.postgres.gen.PostgresExpressionGenerator;
 
 public class PostgresPivotedQuerySynthesisOracle implements TestOracle {
 
+    private static final ExpectedErrors CONTAINMENT_ERRORS = ExpectedErrors.compile("out of range", "cannot cast",
+            "invalid input syntax for ", "must be type", "operator does not exist",
+            "Could not choose a best candidate function.", "division by zero",
+            "zero raised to a negative power is undefined", "canceling statement due to statement timeout",
+            "operator is not unique", "could not determine which collation to use for string comparison");
+
     private PostgresStateToReproduce state;
     private PostgresRowValue rw;
     private final Connection database;
@@ -64,14 +70,14 @@ public class PostgresPivotedQuerySynthesisOracle implements TestOracle {
 
     public String getQueryThatContainsAtLeastOneRow(PostgresStateToReproduce state) throws SQLException {
         this.state = state;
-        PostgresTables randomFromTables = s.getRandomTableNonEmptyTables();
+        PostgresTables randomFromTables = s.getRandomTableNonEmptyTables(globalState.getRandomly());
 
         state.queryTargetedTablesString = randomFromTables.tableNamesAsString();
 
         PostgresSelect selectStatement = new PostgresSelect();
-        selectStatement.setSelectType(Randomly.fromOptions(PostgresSelect.SelectType.values()));
+        selectStatement.setSelectType(globalState.getRandomly().fromOptions(PostgresSelect.SelectType.values()));
         List<PostgresColumn> columns = randomFromTables.getColumns();
-        rw = randomFromTables.getRandomRowValue(database, state);
+        rw = randomFromTables.getRandomRowValue(globalState);
 
         fetchColumns = columns;
         selectStatement.setFromList(randomFromTables.getTables().stream().map(t -> new PostgresFromTable(t, false))
@@ -115,13 +121,13 @@ public class PostgresPivotedQuerySynthesisOracle implements TestOracle {
         sb2.append(") as result;");
         state.queryThatSelectsRow = sb2.toString();
 
-        PostgresToStringVisitor visitor = new PostgresToStringVisitor();
+        PostgresToStringVisitor visitor = new PostgresToStringVisitor(globalState.getRandomly());
         visitor.visit(selectStatement);
         return visitor.get();
     }
 
     private List<PostgresExpression> generateGroupByClause(List<PostgresColumn> columns, PostgresRowValue rw) {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             return columns.stream().map(c -> PostgresColumnValue.create(c, rw.getValues().get(c)))
                     .collect(Collectors.toList());
         } else {
@@ -130,7 +136,7 @@ public class PostgresPivotedQuerySynthesisOracle implements TestOracle {
     }
 
     private PostgresConstant generateLimit() {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             return PostgresConstant.createIntConstant(Integer.MAX_VALUE);
         } else {
             return null;
@@ -138,7 +144,7 @@ public class PostgresPivotedQuerySynthesisOracle implements TestOracle {
     }
 
     private PostgresExpression generateOffset() {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             // OFFSET 0
             return PostgresConstant.createIntConstant(0);
         } else {
@@ -182,15 +188,7 @@ public class PostgresPivotedQuerySynthesisOracle implements TestOracle {
             createStatement.close();
             return isContainedIn;
         } catch (PSQLException e) {
-            if (e.getMessage().contains("out of range") || e.getMessage().contains("cannot cast")
-                    || e.getMessage().contains("invalid input syntax for ") || e.getMessage().contains("must be type")
-                    || e.getMessage().contains("operator does not exist")
-                    || e.getMessage().contains("Could not choose a best candidate function.")
-                    || e.getMessage().contains("division by zero")
-                    || e.getMessage().contains("zero raised to a negative power is undefined")
-                    || e.getMessage().contains("canceling statement due to statement timeout")
-                    || e.getMessage().contains("operator is not unique")
-                    || e.getMessage().contains("could not determine which collation to use for string comparison")) {
+            if (CONTAINMENT_ERRORS.errorIsExpected(e.getMessage())) {
                 return true;
             } else {
                 throw e;
@@ -10,9 +10,8 @@ import org.postgresql.util.PSQLException;
 
 import sqlancer.ComparatorHelper;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
-import sqlancer.TestOracle;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
 import sqlancer.postgres.PostgresVisitor;
@@ -28,12 +27,7 @@ import sqlancer.postgres.ast.PostgresPrefixOperation.PrefixOperator;
 import sqlancer.postgres.ast.PostgresSelect;
 import sqlancer.postgres.gen.PostgresCommon;
 
-public class PostgresTLPAggregateOracle extends PostgresTLPBase implements TestOracle {
-
-    private String firstResult;
-    private String secondResult;
-    private String originalQuery;
-    private String metamorphicQuery;
+public class PostgresTLPAggregateOracle extends PostgresTLPBase {
 
     public PostgresTLPAggregateOracle(PostgresGlobalState state) {
         super(state);
@@ -41,39 +35,41 @@ public class PostgresTLPAggregateOracle extends PostgresTLPBase implements TestO
     }
 
     @Override
-    public void check() throws SQLException {
-        super.check();
-        PostgresAggregateFunction aggregateFunction = Randomly.fromOptions(PostgresAggregateFunction.MAX,
+    public CheckExecution generateCheck() throws SQLException {
+        generateSelect();
+        PostgresAggregateFunction aggregateFunction = state.getRandomly().fromOptions(PostgresAggregateFunction.MAX,
                 PostgresAggregateFunction.MIN, PostgresAggregateFunction.SUM, PostgresAggregateFunction.BIT_AND,
                 PostgresAggregateFunction.BIT_OR, PostgresAggregateFunction.BOOL_AND, PostgresAggregateFunction.BOOL_OR,
                 PostgresAggregateFunction.COUNT);
-        PostgresAggregate aggregate = gen.generateArgsForAggregate(aggregateFunction.getRandomReturnType(),
+        PostgresAggregate aggregate = gen
+                .generateArgsForAggregate(aggregateFunction.getRandomReturnType(state.getRandomly()),
                 aggregateFunction);
         List<PostgresExpression> fetchColumns = new ArrayList<>();
         fetchColumns.add(aggregate);
-        while (Randomly.getBooleanWithRatherLowProbability()) {
+        while (state.getRandomly().getBooleanWithRatherLowProbability()) {
             fetchColumns.add(gen.generateAggregate());
         }
         select.setFetchColumns(Arrays.asList(aggregate));
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (state.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setOrderByExpressions(gen.generateOrderBy());
         }
-        originalQuery = PostgresVisitor.asString(select);
-        firstResult = getAggregateResult(originalQuery);
-        metamorphicQuery = createMetamorphicUnionQuery(select, aggregate, select.getFromList());
-        secondResult = getAggregateResult(metamorphicQuery);
-
-        state.getState().queryString = "--" + originalQuery + ";\n--" + metamorphicQuery + "\n-- " + firstResult
-                + "\n-- " + secondResult;
-        if (firstResult == null && secondResult != null
-                || firstResult != null && (!firstResult.contentEquals(secondResult)
-                        && !ComparatorHelper.isEqualDouble(firstResult, secondResult))) {
-            if (secondResult.contains("Inf")) {
-                throw new IgnoreMeException(); // FIXME: average computation
+        String originalQuery = PostgresVisitor.asString(select, state.getRandomly());
+        String metamorphicQuery = createMetamorphicUnionQuery(select, aggregate, select.getFromList());
+        return () -> {
+            String firstResult = getAggregateResult(originalQuery);
+            String secondResult = getAggregateResult(metamorphicQuery);
+
+            state.getState().queryString = "--" + originalQuery + ";\n--" + metamorphicQuery + "\n-- " + firstResult
+                    + "\n-- " + secondResult;
+            if (firstResult == null && secondResult != null
+                    || firstResult != null && (!firstResult.contentEquals(secondResult)
+                            && !ComparatorHelper.isEqualDouble(firstResult, secondResult))) {
+                if (secondResult.contains("Inf")) {
+                    throw new IgnoreMeException(Reason.UNSUPPORTED); // FIXME: average computation
+                }
+                throw new AssertionError();
             }
-            throw new AssertionError();
-        }
-
+        };
     }
 
     private String createMetamorphicUnionQuery(PostgresSelect select, PostgresAggregate aggregate,
@@ -81,14 +77,16 @@ public class PostgresTLPAggregateOracle extends PostgresTLPBase implements TestO
         String metamorphicQuery;
         PostgresExpression whereClause = gen.generateExpression(PostgresDataType.BOOLEAN);
         PostgresExpression negatedClause = new PostgresPrefixOperation(whereClause, PrefixOperator.NOT);
-        PostgresExpression notNullClause = new PostgresPostfixOperation(whereClause, PostfixOperator.IS_NULL);
+        PostgresExpression notNullClause = new PostgresPostfixOperation(whereClause, PostfixOperator.IS_NULL,
+                state.getRandomly());
         List<PostgresExpression> mappedAggregate = mapped(aggregate);
         PostgresSelect leftSelect = getSelect(mappedAggregate, from, whereClause, select.getJoinClauses());
         PostgresSelect middleSelect = getSelect(mappedAggregate, from, negatedClause, select.getJoinClauses());
         PostgresSelect rightSelect = getSelect(mappedAggregate, from, notNullClause, select.getJoinClauses());
         metamorphicQuery = "SELECT " + getOuterAggregateFunction(aggregate).toString() + " FROM (";
-        metamorphicQuery += PostgresVisitor.asString(leftSelect) + " UNION ALL "
-                + PostgresVisitor.asString(middleSelect) + " UNION ALL " + PostgresVisitor.asString(rightSelect);
+        metamorphicQuery += PostgresVisitor.asString(leftSelect, state.getRandomly()) + " UNION ALL "
+                + PostgresVisitor.asString(middleSelect, state.getRandomly()) + " UNION ALL "
+                + PostgresVisitor.asString(rightSelect, state.getRandomly());
         metamorphicQuery += ") as asdf";
         return metamorphicQuery;
     }
@@ -98,7 +96,7 @@ public class PostgresTLPAggregateOracle extends PostgresTLPBase implements TestO
         QueryAdapter q = new QueryAdapter(queryString, errors);
         try (ResultSet result = q.executeAndGet(state)) {
             if (result == null) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
             if (!result.next()) {
                 resultString = null;
@@ -164,8 +162,8 @@ public class PostgresTLPAggregateOracle extends PostgresTLPBase implements TestO
         leftSelect.setFromList(from);
         leftSelect.setWhereClause(whereClause);
         leftSelect.setJoinClauses(joinList);
-        if (Randomly.getBooleanWithSmallProbability()) {
-            leftSelect.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        if (state.getRandomly().getBooleanWithSmallProbability()) {
+            leftSelect.setGroupByExpressions(gen.generateExpressions(state.getRandomly().smallNumber() + 1));
         }
         return leftSelect;
     }
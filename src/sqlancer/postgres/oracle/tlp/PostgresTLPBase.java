@@ -1,14 +1,11 @@
 package sqlancer.postgres.oracle.tlp;
 
-import java.sql.SQLException;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
-import sqlancer.TestOracle;
+import sqlancer.ExpectedErrors;
+import sqlancer.PipelinedTestOracle;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
@@ -27,10 +24,10 @@ import sqlancer.postgres.gen.PostgresCommon;
 import sqlancer.postgres.gen.PostgresExpressionGenerator;
 import sqlancer.postgres.oracle.PostgresNoRECOracle;
 
-public class PostgresTLPBase implements TestOracle {
+public abstract class PostgresTLPBase implements PipelinedTestOracle {
 
     final PostgresGlobalState state;
-    final Set<String> errors = new HashSet<>();
+    final ExpectedErrors errors = new ExpectedErrors();
 
     PostgresSchema s;
     PostgresTables targetTables;
@@ -46,16 +43,16 @@ public class PostgresTLPBase implements TestOracle {
         PostgresCommon.addCommonFetchErrors(errors);
     }
 
-    @Override
-    public void check() throws SQLException {
+    void generateSelect() {
         s = state.getSchema();
-        targetTables = s.getRandomTableNonEmptyTables();
+        targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new PostgresExpressionGenerator(state).setColumns(targetTables.getColumns());
         select = new PostgresSelect();
         select.setFetchColumns(generateFetchColumns());
         List<PostgresTable> tables = targetTables.getTables();
         List<PostgresJoin> joins = PostgresNoRECOracle.getJoinStatements(state, targetTables.getColumns(), tables);
-        List<PostgresExpression> tableList = tables.stream().map(t -> new PostgresFromTable(t, Randomly.getBoolean()))
+        List<PostgresExpression> tableList = tables.stream()
+                .map(t -> new PostgresFromTable(t, state.getRandomly().getBoolean()))
                 .collect(Collectors.toList());
         // TODO joins
         select.setFromList(tableList);
@@ -63,9 +60,9 @@ public class PostgresTLPBase implements TestOracle {
         select.setJoinClauses(joins);
         predicate = generatePredicate();
         negatedPredicate = new PostgresPrefixOperation(predicate, PostgresPrefixOperation.PrefixOperator.NOT);
-        isNullPredicate = new PostgresPostfixOperation(predicate, PostfixOperator.IS_NULL);
-        if (Randomly.getBoolean()) {
-            select.setForClause(ForClause.getRandom());
+        isNullPredicate = new PostgresPostfixOperation(predicate, PostfixOperator.IS_NULL, state.getRandomly());
+        if (state.getRandomly().getBoolean()) {
+            select.setForClause(ForClause.getRandom(state.getRandomly()));
         }
     }
 
@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresSchema.PostgresDataType;
 import sqlancer.postgres.PostgresVisitor;
@@ -20,31 +20,34 @@ public class PostgresTLPHavingOracle extends PostgresTLPBase {
     }
 
     @Override
-    public void check() throws SQLException {
-        super.check();
-        if (Randomly.getBoolean()) {
+    public CheckExecution generateCheck() throws SQLException {
+        generateSelect();
+        if (state.getRandomly().getBoolean()) {
             select.setWhereClause(gen.generateExpression(PostgresDataType.BOOLEAN));
         }
-        select.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        select.setGroupByExpressions(gen.generateExpressions(state.getRandomly().smallNumber() + 1));
         select.setHavingClause(null);
-        String originalQueryString = PostgresVisitor.asString(select);
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        String originalQueryString = PostgresVisitor.asString(select, state.getRandomly());
 
-        boolean orderBy = Randomly.getBoolean();
+        boolean orderBy = state.getRandomly().getBoolean();
         if (orderBy) {
             select.setOrderByExpressions(gen.generateOrderBy());
         }
         select.setHavingClause(predicate);
-        String firstQueryString = PostgresVisitor.asString(select);
+        String firstQueryString = PostgresVisitor.asString(select, state.getRandomly());
         select.setHavingClause(negatedPredicate);
-        String secondQueryString = PostgresVisitor.asString(select);
+        String secondQueryString = PostgresVisitor.asString(select, state.getRandomly());
         select.setHavingClause(isNullPredicate);
-        String thirdQueryString = PostgresVisitor.asString(select);
-        List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !orderBy, state, errors);
-        ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+        String thirdQueryString = PostgresVisitor.asString(select, state.getRandomly());
+        return () -> {
+            ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors,
+                    state);
+            List<String> combinedString = new ArrayList<>();
+            ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                    secondQueryString, thirdQueryString, combinedString, !orderBy, state, errors);
+            ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
+                    state, errors);
+        };
     }
 
     @Override
@@ -55,7 +58,7 @@ public class PostgresTLPHavingOracle extends PostgresTLPBase {
     @Override
     List<PostgresExpression> generateFetchColumns() {
         List<PostgresExpression> expressions = gen.allowAggregates(true)
-                .generateExpressions(Randomly.smallNumber() + 1);
+                .generateExpressions(state.getRandomly().smallNumber() + 1);
         gen.allowAggregates(false);
         return expressions;
     }
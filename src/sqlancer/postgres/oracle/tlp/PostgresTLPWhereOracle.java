@@ -6,7 +6,7 @@ import java.util.Collections;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.postgres.PostgresGlobalState;
 import sqlancer.postgres.PostgresVisitor;
 
@@ -17,25 +17,29 @@ public class PostgresTLPWhereOracle extends PostgresTLPBase {
     }
 
     @Override
-    public void check() throws SQLException {
-        super.check();
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+    public CheckExecution generateCheck() throws SQLException {
+        generateSelect();
+        if (state.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setOrderByExpressions(gen.generateOrderBy());
         }
-        String originalQueryString = PostgresVisitor.asString(select);
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        String originalQueryString = PostgresVisitor.asString(select, state.getRandomly());
 
         select.setOrderByExpressions(Collections.emptyList());
         select.setWhereClause(predicate);
-        String firstQueryString = PostgresVisitor.asString(select);
+        String firstQueryString = PostgresVisitor.asString(select, state.getRandomly());
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = PostgresVisitor.asString(select);
+        String secondQueryString = PostgresVisitor.asString(select, state.getRandomly());
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = PostgresVisitor.asString(select);
-        List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, Randomly.getBoolean(), state, errors);
-        ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+        String thirdQueryString = PostgresVisitor.asString(select, state.getRandomly());
+        boolean asUnion = state.getRandomly().getBoolean();
+        return () -> {
+            ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors,
+                    state);
+            List<String> combinedString = new ArrayList<>();
+            ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                    secondQueryString, thirdQueryString, combinedString, asUnion, state, errors);
+            ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
+                    state, errors);
+        };
     }
 }
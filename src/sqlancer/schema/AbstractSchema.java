@@ -24,26 +24,26 @@ public class AbstractSchema<A extends AbstractTable<?, ?>> {
         return sb.toString();
     }
 
-    public A getRandomTable() {
-        return Randomly.fromList(getDatabaseTables());
+    public A getRandomTable(Randomly r) {
+        return r.fromList(getDatabaseTables());
     }
 
-    public A getRandomTable(Predicate<A> predicate) {
-        return Randomly.fromList(getDatabaseTables().stream().filter(predicate).collect(Collectors.toList()));
+    public A getRandomTable(Predicate<A> predicate, Randomly r) {
+        return r.fromList(getDatabaseTables().stream().filter(predicate).collect(Collectors.toList()));
     }
 
     public List<A> getDatabaseTables() {
         return databaseTables;
     }
 
-    public List<A> getDatabaseTablesRandomSubsetNotEmpty() {
-        return Randomly.nonEmptySubset(databaseTables);
+    public List<A> getDatabaseTablesRandomSubsetNotEmpty(Randomly r) {
+        return r.nonEmptySubset(databaseTables);
     }
 
-    public String getFreeIndexName() {
+    public String getFreeIndexName(Randomly r) {
         int i = 0;
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            i = (int) Randomly.getNotCachedInteger(0, 100);
+        if (r.getBooleanWithRatherLowProbability()) {
+            i = (int) r.getNotCachedInteger(0, 100);
         }
         do {
             String indexName = String.format("i%d", i++);
@@ -60,10 +60,10 @@ public class AbstractSchema<A extends AbstractTable<?, ?>> {
         } while (true);
     }
 
-    public String getFreeTableName() {
+    public String getFreeTableName(Randomly r) {
         int i = 0;
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            i = (int) Randomly.getNotCachedInteger(0, 100);
+        if (r.getBooleanWithRatherLowProbability()) {
+            i = (int) r.getNotCachedInteger(0, 100);
         }
         do {
             String tableName = String.format("t%d", i++);
@@ -74,10 +74,10 @@ public class AbstractSchema<A extends AbstractTable<?, ?>> {
 
     }
 
-    public String getFreeViewName() {
+    public String getFreeViewName(Randomly r) {
         int i = 0;
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            i = (int) Randomly.getNotCachedInteger(0, 100);
+        if (r.getBooleanWithRatherLowProbability()) {
+            i = (int) r.getNotCachedInteger(0, 100);
         }
         do {
             String tableName = String.format("v%d", i++);
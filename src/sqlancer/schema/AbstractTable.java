@@ -57,34 +57,34 @@ public class AbstractTable<C extends AbstractTableColumn<?, ?>, I extends TableI
         return columns.stream().map(function).collect(Collectors.joining(", "));
     }
 
-    public C getRandomColumn() {
-        return Randomly.fromList(columns);
+    public C getRandomColumn(Randomly r) {
+        return r.fromList(columns);
     }
 
     public boolean hasIndexes() {
         return !indexes.isEmpty();
     }
 
-    public TableIndex getRandomIndex() {
-        return Randomly.fromList(indexes);
+    public TableIndex getRandomIndex(Randomly r) {
+        return r.fromList(indexes);
     }
 
-    public List<C> getRandomNonEmptyColumnSubset() {
-        return Randomly.nonEmptySubset(getColumns());
+    public List<C> getRandomNonEmptyColumnSubset(Randomly r) {
+        return r.nonEmptySubset(getColumns());
     }
 
-    public List<C> getRandomNonEmptyColumnSubset(int size) {
-        return Randomly.nonEmptySubset(getColumns(), size);
+    public List<C> getRandomNonEmptyColumnSubset(int size, Randomly r) {
+        return r.nonEmptySubset(getColumns(), size);
     }
 
     public boolean isView() {
         return isView;
     }
 
-    public String getFreeColumnName() {
+    public String getFreeColumnName(Randomly r) {
         int i = 0;
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            i = (int) Randomly.getNotCachedInteger(0, 100);
+        if (r.getBooleanWithRatherLowProbability()) {
+            i = (int) r.getNotCachedInteger(0, 100);
         }
         do {
             String columnName = String.format("c%d", i++);
@@ -1,10 +1,17 @@
 package sqlancer.schema;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import sqlancer.GlobalState;
+import sqlancer.PivotRowCache;
+import sqlancer.PivotRowCache.RowReader;
+
 public class AbstractTables<T extends AbstractTable<C, ?>, C extends AbstractTableColumn<?, ?>> {
 
     private final List<T> tables;
@@ -39,4 +46,51 @@ public class AbstractTables<T extends AbstractTable<C, ?>, C extends AbstractTab
         return getColumns().stream().map(function).collect(Collectors.joining(", "));
     }
 
+    /**
+     * Fetches a random row of the (cross product of the) tables, in which each column is aliased by its table name
+     * followed by its name.
+     *
+     * @param orderByRandom
+     *            the DBMS-specific expression to sort the rows randomly by, if no pivot rows are sampled
+     * @param reader
+     *            converts the row to a list of values in the order of {@link #getColumns()}
+     *
+     * @return the values of the row, or null if the tables are empty
+     */
+    protected <V> List<V> getRandomRow(GlobalState<?> globalState, String orderByRandom, RowReader<List<V>> reader)
+            throws SQLException {
+        return getRandomRow(globalState, null, orderByRandom, reader);
+    }
+
+    /**
+     * Fetches a random row like {@link #getRandomRow(GlobalState, String, RowReader)}, in which the given expressions
+     * follow the columns.
+     *
+     * @param additionalColumns
+     *            a comma-separated list of expressions, or null
+     */
+    protected <V> List<V> getRandomRow(GlobalState<?> globalState, String additionalColumns, String orderByRandom,
+            RowReader<List<V>> reader) throws SQLException {
+        String columnNames = columnNamesAsString(
+                c -> c.getTable().getName() + "." + c.getName() + " AS " + c.getTable().getName() + c.getName());
+        if (additionalColumns != null) {
+            columnNames += ", " + additionalColumns;
+        }
+        String query = String.format("SELECT %s FROM %s", columnNames, tableNamesAsString());
+        PivotRowCache cache = globalState.getPivotRowCache();
+        if (cache.isEnabled()) {
+            return cache.getRandomRow(globalState.getConnection(), query, reader, globalState.getRandomly());
+        }
+        try (Statement s = globalState.getConnection().createStatement()) {
+            try (ResultSet rs = s.executeQuery(query + " ORDER BY " + orderByRandom + " LIMIT 1")) {
+                if (!rs.next()) {
+                    return null;
+                }
+                List<V> row = reader.read(rs);
+                assert !rs.next();
+                return row;
+            }
+        }
+    }
+
 }
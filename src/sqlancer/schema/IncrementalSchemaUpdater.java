@@ -0,0 +1,92 @@
+package sqlancer.schema;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import sqlancer.Query;
+import sqlancer.SchemaUpdatingQueryAdapter;
+
+/**
+ * Keeps the in-memory schema up to date after schema-changing statements. Statements that know their effect on the
+ * schema (see {@link SchemaUpdatingQueryAdapter}) are applied directly to the current schema. The schema is re-read
+ * from the DBMS for all other statements (in particular, for every DROP and ALTER statement), for failed statements,
+ * and for statements whose effect cannot be determined from the current schema. Currently, only the CREATE TABLE and
+ * CREATE INDEX statements of DuckDB, the CREATE INDEX statements of TiDB, and the CREATE VIEW statements of CockroachDB
+ * are applied incrementally. Providers should also load the initial schema through {@link #loadSchema()}, so that all
+ * schemas come from the same loader.
+ *
+ * @param <S>
+ *            the schema type
+ */
+public class IncrementalSchemaUpdater<S extends AbstractSchema<?>> {
+
+    private final SchemaLoader<S> loader;
+    private final boolean incremental;
+    private final boolean verify;
+
+    @FunctionalInterface
+    public interface SchemaLoader<S> {
+        S load() throws SQLException;
+    }
+
+    /**
+     * @param loader
+     *            reads the full schema from the DBMS (e.g., a provider's fromConnection method)
+     * @param incremental
+     *            whether statements' known effects should be applied to the in-memory schema
+     * @param verify
+     *            whether each incrementally updated schema should be compared with the schema read from the DBMS
+     */
+    public IncrementalSchemaUpdater(SchemaLoader<S> loader, boolean incremental, boolean verify) {
+        this.loader = loader;
+        this.incremental = incremental;
+        this.verify = verify;
+    }
+
+    public S loadSchema() throws SQLException {
+        return loader.load();
+    }
+
+    public S getUpdatedSchema(Query query, S currentSchema) throws SQLException {
+        if (incremental && query instanceof SchemaUpdatingQueryAdapter) {
+            @SuppressWarnings("unchecked")
+            S updatedSchema = ((SchemaUpdatingQueryAdapter<S>) query).applyTo(currentSchema);
+            if (updatedSchema != null) {
+                if (verify) {
+                    verify(query, updatedSchema, loader.load());
+                }
+                return updatedSchema;
+            }
+        }
+        return loader.load();
+    }
+
+    private void verify(Query query, S incrementalSchema, S actualSchema) {
+        if (!describe(incrementalSchema).equals(describe(actualSchema))
+                || !getColumnTypes(incrementalSchema).equals(getColumnTypes(actualSchema))) {
+            throw new AssertionError(String.format(
+                    "the incrementally updated schema differs from the actual schema after %s\nincremental:\n%s\nactual:\n%s",
+                    query.getQueryString(), incrementalSchema, actualSchema));
+        }
+    }
+
+    private static List<String> describe(AbstractSchema<?> schema) {
+        return schema.getDatabaseTables().stream()
+                .map(t -> String.format("%s%s(%s) %s", t.getName(), t.isView() ? " [view]" : "", t.getColumnsAsString(),
+                        t.getIndexes().stream().map(i -> i.getIndexName()).sorted().collect(Collectors.toList())))
+                .sorted().collect(Collectors.toList());
+    }
+
+    // the types are compared using equals(), since their toString() methods can return any of the types' aliases
+    private static Map<String, List<Object>> getColumnTypes(AbstractSchema<?> schema) {
+        Map<String, List<Object>> columnTypes = new HashMap<>();
+        for (AbstractTable<?, ?> t : schema.getDatabaseTables()) {
+            columnTypes.put(t.getName(), t.getColumns().stream().map(c -> c.getType()).collect(Collectors.toList()));
+        }
+        return columnTypes;
+    }
+
+}
@@ -86,7 +86,7 @@ public final class SQLite3Errors {
         errors.add("ON clause references tables to its right");
     }
 
-    public static void addInsertNowErrors(List<String> errors) {
+    public static void addInsertNowErrors(Collection<String> errors) {
         errors.add("non-deterministic use of strftime()");
         errors.add("non-deterministic use of time()");
         errors.add("non-deterministic use of datetime()");
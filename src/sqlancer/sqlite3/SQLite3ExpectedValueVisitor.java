@@ -1,5 +1,6 @@
 package sqlancer.sqlite3;
 
+import sqlancer.Randomly;
 import sqlancer.sqlite3.ast.SQLite3Aggregate;
 import sqlancer.sqlite3.ast.SQLite3Case.CasePair;
 import sqlancer.sqlite3.ast.SQLite3Case.SQLite3CaseWithBaseExpression;
@@ -38,15 +39,25 @@ import sqlancer.sqlite3.ast.SQLite3WindowFunctionExpression.SQLite3WindowFunctio
 public class SQLite3ExpectedValueVisitor implements SQLite3Visitor {
 
     private final StringBuilder sb = new StringBuilder();
+    private final SQLite3ToStringVisitor renderer;
     private int nrTabs;
 
+    public SQLite3ExpectedValueVisitor(Randomly r) {
+        renderer = new SQLite3ToStringVisitor(r);
+        renderer.recordSubtrees();
+    }
+
     private void print(SQLite3Expression expr) {
-        SQLite3ToStringVisitor v = new SQLite3ToStringVisitor();
-        v.visit(expr);
+        CharSequence text = renderer.getText(expr);
+        if (text == null) {
+            // rendering the expression also records the text of its subexpressions, which are printed next
+            renderer.visit(expr);
+            text = renderer.getText(expr);
+        }
         for (int i = 0; i < nrTabs; i++) {
             sb.append("\t");
         }
-        sb.append(v.get());
+        sb.append(text);
         sb.append(" -- " + expr.getExpectedValue());
         sb.append(" explicit collate: " + expr.getExplicitCollateSequence());
         sb.append(" implicit collate: " + expr.getImplicitCollateSequence());
@@ -77,6 +77,14 @@ public class SQLite3Options {
             "--delete-existing-databases" }, description = "Delete a database file if it already exists", arity = 1)
     public boolean deleteIfExists = true;
 
+    @Parameter(names = {
+            "--storage" }, description = "Specifies where the databases are stored: DISK (in ./databases), TMPFS (in the --tmpfs-directory, from which they are deleted after testing unless a bug was found), or MEMORY (in-memory databases, which are written to ./databases when a bug is found)")
+    public SQLite3Storage storage = SQLite3Storage.DISK;
+
+    @Parameter(names = {
+            "--tmpfs-directory" }, description = "The directory in which the databases are stored when using --storage TMPFS")
+    public String tmpfsDirectory = "/dev/shm/sqlancer";
+
     @Parameter(names = {
             "--generate-new-database" }, description = "Specifies whether new databases should be generated", arity = 1)
     public boolean generateDatabase = true;
@@ -97,6 +105,10 @@ public class SQLite3Options {
             "--exit-after-first-database" }, description = "Specifies whether to stop SQLancer after creating and executing the test oracle on the first database", arity = 1)
     public boolean exitAfterFirstDatabase;
 
+    public enum SQLite3Storage {
+        DISK, TMPFS, MEMORY
+    }
+
     public enum SQLite3Oracle {
         PQS {
             @Override
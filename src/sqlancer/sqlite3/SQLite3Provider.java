@@ -11,12 +11,16 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import sqlancer.GlobalState;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.QueryManager;
 import sqlancer.Main.StateLogger;
 import sqlancer.MainOptions;
+import sqlancer.Metrics;
+import sqlancer.ParallelOracleExecutor;
 import sqlancer.ProviderAdapter;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
@@ -25,8 +29,10 @@ import sqlancer.Randomly;
 import sqlancer.StateToReproduce;
 import sqlancer.StateToReproduce.SQLite3StateToReproduce;
 import sqlancer.TestOracle;
+import sqlancer.sqlite3.SQLite3Options.SQLite3Storage;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.gen.SQLite3AnalyzeGenerator;
+import sqlancer.sqlite3.gen.SQLite3BulkLoader;
 import sqlancer.sqlite3.gen.SQLite3Common;
 import sqlancer.sqlite3.gen.SQLite3CreateVirtualRtreeTabelGenerator;
 import sqlancer.sqlite3.gen.SQLite3ExplainGenerator;
@@ -61,6 +67,8 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
 
     private SQLite3GlobalState globalState;
 
+    private static final File DATABASE_DIRECTORY = new File("." + File.separator + "databases");
+
     // PRAGMAS to achieve good performance
     private static final List<String> DEFAULT_PRAGMAS = Arrays.asList("PRAGMA cache_size = 50000;",
             "PRAGMA temp_store=MEMORY;", "PRAGMA synchronous=off;");
@@ -87,7 +95,8 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
         DROP_VIEW(SQLite3ViewGenerator::dropView), //
         EXPLAIN(SQLite3ExplainGenerator::explain), //
         CHECK_RTREE_TABLE((g) -> {
-            SQLite3Table table = g.getSchema().getRandomTableOrBailout(t -> t.getName().startsWith("r"));
+            SQLite3Table table = g.getSchema()
+                    .getRandomTableOrBailout(t -> t.getName().startsWith("r"), g.getRandomly());
             String format = String.format("SELECT rtreecheck('%s');", table.getName());
             return new QueryAdapter(format);
         }), //
@@ -97,7 +106,7 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
         MANIPULATE_STAT_TABLE((g) -> {
             List<SQLite3Column> columns = new ArrayList<>();
             SQLite3Table t = new SQLite3Table("sqlite_stat1", columns, TableKind.MAIN, false, 1, false, false, false);
-            if (Randomly.getBoolean()) {
+            if (g.getRandomly().getBoolean()) {
                 return SQLite3DeleteGenerator.deleteContent(g, t);
             } else {
                 StringBuilder sb = new StringBuilder();
@@ -107,41 +116,41 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
                     try (ResultSet rs = stat.executeQuery(
                             "SELECT name FROM sqlite_master WHERE type='index' ORDER BY RANDOM() LIMIT 1;")) {
                         if (rs.isClosed()) {
-                            throw new IgnoreMeException();
+                            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                         }
                         indexName = rs.getString("name");
                     }
                 }
                 sb.append(" VALUES");
                 sb.append("('");
-                sb.append(g.getSchema().getRandomTable().getName());
+                sb.append(g.getSchema().getRandomTable(g.getRandomly()).getName());
                 sb.append("', ");
                 sb.append("'");
-                if (Randomly.getBoolean()) {
+                if (g.getRandomly().getBoolean()) {
                     sb.append(indexName);
                 } else {
-                    sb.append(g.getSchema().getRandomTable().getName());
+                    sb.append(g.getSchema().getRandomTable(g.getRandomly()).getName());
                 }
                 sb.append("'");
                 sb.append(", '");
-                for (int i = 0; i < Randomly.smallNumber(); i++) {
+                for (int i = 0; i < g.getRandomly().smallNumber(); i++) {
                     if (i != 0) {
                         sb.append(" ");
                     }
-                    if (Randomly.getBoolean()) {
+                    if (g.getRandomly().getBoolean()) {
                         sb.append(g.getRandomly().getInteger());
                     } else {
-                        sb.append(Randomly.smallNumber());
+                        sb.append(g.getRandomly().smallNumber());
                     }
                 }
-                if (Randomly.getBoolean()) {
+                if (g.getRandomly().getBoolean()) {
                     sb.append(" sz=");
                     sb.append(g.getRandomly().getInteger());
                 }
-                if (Randomly.getBoolean()) {
+                if (g.getRandomly().getBoolean()) {
                     sb.append(" unordered");
                 }
-                if (Randomly.getBoolean()) {
+                if (g.getRandomly().getBoolean()) {
                     sb.append(" noskipscan");
                 }
                 sb.append("')");
@@ -189,12 +198,27 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
 
     @Override
     public void generateAndTestDatabase(SQLite3GlobalState globalState) throws SQLException {
+        try {
+            generateAndTest(globalState);
+        } catch (IgnoreMeException e) {
+            deleteTmpfsDatabase(globalState);
+            throw e;
+        } catch (Throwable t) {
+            if (globalState.getDmbsSpecificOptions().storage == SQLite3Storage.MEMORY) {
+                persistDatabase(globalState, t);
+            }
+            throw t;
+        }
+        deleteTmpfsDatabase(globalState);
+    }
+
+    private void generateAndTest(SQLite3GlobalState globalState) throws SQLException {
         this.globalState = globalState;
         SQLite3Options sqliteOptions = globalState.getDmbsSpecificOptions();
         QueryManager manager = globalState.getManager();
         MainOptions options = globalState.getOptions();
         this.databaseName = globalState.getDatabaseName();
-        Randomly r = new Randomly(SQLite3SpecialStringGenerator::generate);
+        Randomly r = new Randomly(SQLite3SpecialStringGenerator::generate, globalState.getRandomly());
         globalState.setSqliteOptions(sqliteOptions);
         globalState.setRandomly(r);
         StateLogger logger = globalState.getLogger();
@@ -204,10 +228,10 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
 
             addSensiblePragmaDefaults(globalState);
             int nrTablesToCreate = 1;
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 nrTablesToCreate++;
             }
-            while (Randomly.getBooleanWithSmallProbability()) {
+            while (r.getBooleanWithSmallProbability()) {
                 nrTablesToCreate++;
             }
             int i = 0;
@@ -220,7 +244,16 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
             } while (globalState.getSchema().getDatabaseTables().size() != nrTablesToCreate);
             assert globalState.getSchema().getTables().getTables().size() == nrTablesToCreate;
             checkTablesForGeneratedColumnLoops(globalState);
-            if (globalState.getDmbsSpecificOptions().testDBStats && Randomly.getBooleanWithSmallProbability()) {
+            if (options.getNrBulkLoadRows() != 0) {
+                for (SQLite3Table table : globalState.getSchema().getDatabaseTables()) {
+                    if (!table.isView() && !table.isVirtual() && !table.isReadOnly()) {
+                        List<SQLite3Column> columns = table.getColumns().stream().filter(c -> !c.isGenerated())
+                                .collect(Collectors.toList());
+                        new SQLite3BulkLoader(globalState).load(table.getName(), columns, options.getNrBulkLoadRows());
+                    }
+                }
+            }
+            if (globalState.getDmbsSpecificOptions().testDBStats && r.getBooleanWithSmallProbability()) {
                 QueryAdapter tableQuery = new QueryAdapter(
                         "CREATE VIRTUAL TABLE IF NOT EXISTS stat USING dbstat(main)");
                 executeStatement(globalState, manager, tableQuery);
@@ -305,19 +338,22 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
                 assert nrRemaining[nextAction.ordinal()] > 0;
                 nrRemaining[nextAction.ordinal()]--;
                 Query query = null;
+                long start = Metrics.startAction();
+                Boolean success = null;
                 try {
                     query = nextAction.getQuery(globalState);
                     if (options.logEachSelect()) {
                         logger.writeCurrent(query.getQueryString());
                     }
-                    executeStatement(globalState, manager, query);
+                    success = executeStatement(globalState, manager, query);
                 } catch (IgnoreMeException e) {
 
                 }
+                Metrics.recordAction(nextAction, start, success);
                 if (query != null && query.couldAffectSchema()) {
                     globalState.setSchema(SQLite3Schema.fromConnection(globalState));
                     if (globalState.getSchema().getDatabaseTables().isEmpty()) {
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                     }
                 }
                 total--;
@@ -338,35 +374,29 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
             for (SQLite3Table table : globalState.getSchema().getDatabaseTables()) {
                 int nrRows = SQLite3Schema.getNrRows(globalState, table.getName());
                 if (nrRows == 0) {
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.EMPTY_TABLE);
                 }
             }
         }
-        for (int i = 0; i < options.getNrQueries(); i++) {
-            try {
-                oracle.check();
-                manager.incrementSelectQueryCount();
-            } catch (IgnoreMeException e) {
-
-            }
-        }
+        File snapshot = createSnapshot(globalState);
         try {
-            if (options.logEachSelect()) {
-                logger.getCurrentFileWriter().close();
-                logger.currentFileWriter = null;
+            ParallelOracleExecutor.executeChecks(globalState, oracle,
+                    snapshot == null ? null : (g, seed) -> createWorker(g, snapshot, seed),
+                    g -> g.getSqliteOptions().oracle.create(g));
+        } finally {
+            if (snapshot != null) {
+                snapshot.delete();
             }
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
         }
+        logger.closeCurrentFile();
         if (globalState.getDmbsSpecificOptions().exitAfterFirstDatabase) {
             System.exit(0);
         }
     }
 
-    private void executeStatement(SQLite3GlobalState globalState, QueryManager manager, Query tableQuery)
+    private boolean executeStatement(SQLite3GlobalState globalState, QueryManager manager, Query tableQuery)
             throws SQLException {
-        manager.execute(tableQuery);
+        boolean success = manager.execute(tableQuery);
         if (globalState.getDmbsSpecificOptions().printStatements) {
             String s = tableQuery.getQueryString();
             if (!s.endsWith(";")) {
@@ -374,6 +404,7 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
             }
             System.out.println(s);
         }
+        return success;
     }
 
     private void checkTablesForGeneratedColumnLoops(SQLite3GlobalState globalState) throws SQLException {
@@ -383,7 +414,7 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
                             "generated column loop", "integer overflow", "malformed JSON",
                             "JSON cannot hold BLOB values", "JSON path error", "labels must be TEXT"));
             if (!q.execute(globalState)) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
         }
     }
@@ -397,7 +428,7 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
         if (!globalState.getSqliteOptions().testRtree) {
             options.remove(TableType.RTREE);
         }
-        switch (Randomly.fromList(options)) {
+        switch (r.fromList(options)) {
         case NORMAL:
             String tableName = SQLite3Common.createTableName(i);
             tableQuery = SQLite3TableGenerator.createTableStatement(tableName, globalState);
@@ -418,15 +449,15 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
 
     private void addSensiblePragmaDefaults(SQLite3GlobalState globalState) throws SQLException {
         List<String> pragmasToExecute = new ArrayList<>();
-        if (!Randomly.getBooleanWithSmallProbability()) {
+        if (!globalState.getRandomly().getBooleanWithSmallProbability()) {
             pragmasToExecute.addAll(DEFAULT_PRAGMAS);
         }
-        if (Randomly.getBoolean() && !mustKnowResult) {
+        if (globalState.getRandomly().getBoolean() && !mustKnowResult) {
             pragmasToExecute.add("PRAGMA case_sensitive_like=ON;");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             pragmasToExecute.add(String.format("PRAGMA encoding = '%s';",
-                    Randomly.fromOptions("UTF-8", "UTF-16", "UTF-16le", "UTF-16be")));
+                    globalState.getRandomly().fromOptions("UTF-8", "UTF-16", "UTF-16le", "UTF-16be")));
         }
         for (String s : pragmasToExecute) {
             if (globalState.getDmbsSpecificOptions().printStatements) {
@@ -440,16 +471,117 @@ public class SQLite3Provider extends ProviderAdapter<SQLite3GlobalState, SQLite3
 
     @Override
     public Connection createDatabase(SQLite3GlobalState globalState) throws SQLException {
-        File dir = new File("." + File.separator + "databases");
+        SQLite3Options options = globalState.getDmbsSpecificOptions();
+        String url;
+        switch (options.storage) {
+        case MEMORY:
+            url = "jdbc:sqlite::memory:";
+            break;
+        case TMPFS:
+            url = "jdbc:sqlite:" + getDatabaseFile(globalState, new File(options.tmpfsDirectory)).getAbsolutePath();
+            break;
+        case DISK:
+            url = "jdbc:sqlite:" + getDatabaseFile(globalState, DATABASE_DIRECTORY).getAbsolutePath();
+            break;
+        default:
+            throw new AssertionError(options.storage);
+        }
+        return DriverManager.getConnection(url);
+    }
+
+    private static File getDatabaseFile(SQLite3GlobalState globalState, File dir) {
         if (!dir.exists()) {
-            dir.mkdir();
+            dir.mkdirs();
         }
         File dataBase = new File(dir, globalState.getDatabaseName() + ".db");
-        if (dataBase.exists() && ((SQLite3GlobalState) globalState).getDmbsSpecificOptions().deleteIfExists) {
+        if (dataBase.exists() && globalState.getDmbsSpecificOptions().deleteIfExists) {
             dataBase.delete();
         }
-        String url = "jdbc:sqlite:" + dataBase.getAbsolutePath();
-        return DriverManager.getConnection(url);
+        return dataBase;
+    }
+
+    /**
+     * Deletes a database that is stored in the --tmpfs-directory and in which no bug was found, since the databases
+     * would otherwise fill up the memory that backs the directory.
+     */
+    private static void deleteTmpfsDatabase(SQLite3GlobalState globalState) throws SQLException {
+        SQLite3Options options = globalState.getDmbsSpecificOptions();
+        if (options.storage != SQLite3Storage.TMPFS) {
+            return;
+        }
+        // closing the connection again in Main has no effect
+        globalState.getConnection().close();
+        String dataBase = new File(options.tmpfsDirectory, globalState.getDatabaseName() + ".db").getPath();
+        for (String suffix : Arrays.asList("", "-journal", "-wal", "-shm")) {
+            new File(dataBase + suffix).delete();
+        }
+    }
+
+    /**
+     * Writes an in-memory database to ./databases using SQLite's online backup API, so that the database in which a
+     * bug was found can still be inspected.
+     */
+    private static void persistDatabase(SQLite3GlobalState globalState, Throwable bug) {
+        File dataBase = getDatabaseFile(globalState, DATABASE_DIRECTORY);
+        try (Statement s = globalState.getConnection().createStatement()) {
+            s.executeUpdate(String.format("backup to '%s'", dataBase.getAbsolutePath()));
+        } catch (SQLException e) {
+            bug.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Copies the database to a temporary file using SQLite's online backup API, from which each oracle worker restores
+     * its own in-memory database (see --oracle-workers).
+     *
+     * @return the file, or null if there are no workers or the database has temporary objects, which are not copied
+     */
+    private static File createSnapshot(SQLite3GlobalState globalState) throws SQLException {
+        if (globalState.getOptions().getNrOracleWorkers() == 0) {
+            return null;
+        }
+        try (Statement s = globalState.getConnection().createStatement()) {
+            try (ResultSet rs = s.executeQuery("SELECT COUNT(*) FROM sqlite_temp_master")) {
+                rs.next();
+                if (rs.getInt(1) != 0) {
+                    return null;
+                }
+            }
+            SQLite3Options options = globalState.getDmbsSpecificOptions();
+            File dir = options.storage == SQLite3Storage.TMPFS ? new File(options.tmpfsDirectory) : null;
+            File snapshot;
+            try {
+                snapshot = File.createTempFile(globalState.getDatabaseName() + "-snapshot", ".db", dir);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            s.executeUpdate(String.format("backup to '%s'", snapshot.getAbsolutePath()));
+            return snapshot;
+        }
+    }
+
+    private static SQLite3GlobalState createWorker(SQLite3GlobalState globalState, File snapshot, long seed)
+            throws SQLException {
+        Connection con = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement s = con.createStatement()) {
+            s.executeUpdate(String.format("restore from '%s'", snapshot.getAbsolutePath()));
+        }
+        // some pragmas (e.g., case_sensitive_like) are set for the connection rather than stored in the database
+        for (Query q : globalState.getState().getStatements()) {
+            if (q.getQueryString().startsWith("PRAGMA")) {
+                try (Statement s = con.createStatement()) {
+                    s.execute(q.getQueryString());
+                } catch (SQLException e) {
+                    // the pragma also failed when generating the database, or cannot be changed anymore
+                }
+            }
+        }
+        SQLite3GlobalState worker = new SQLite3GlobalState();
+        globalState.initializeWorker(worker, con, new Randomly(SQLite3SpecialStringGenerator::generate, seed),
+                new SQLite3StateToReproduce(globalState.getDatabaseName()));
+        worker.setSqliteOptions(globalState.getSqliteOptions());
+        worker.setSchema(globalState.getSchema());
+        return worker;
     }
 
     @Override
@@ -37,6 +37,12 @@ import sqlancer.visitor.ToStringVisitor;
 
 public class SQLite3ToStringVisitor extends ToStringVisitor<SQLite3Expression> implements SQLite3Visitor {
 
+    private final Randomly r;
+
+    public SQLite3ToStringVisitor(Randomly r) {
+        this.r = r;
+    }
+
     public boolean fullyQualifiedNames = true;
 
     @Override
@@ -47,7 +53,7 @@ public class SQLite3ToStringVisitor extends ToStringVisitor<SQLite3Expression> i
     protected void asHexString(long intVal) {
         String hexVal = Long.toHexString(intVal);
         String prefix;
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             prefix = "0x";
         } else {
             prefix = "0X";
@@ -104,7 +110,7 @@ public class SQLite3ToStringVisitor extends ToStringVisitor<SQLite3Expression> i
             sb.append("DISTINCT ");
             break;
         case ALL:
-            sb.append(Randomly.fromOptions("ALL ", ""));
+            sb.append(r.fromOptions("ALL ", ""));
             break;
         default:
             throw new AssertionError(s.getFromOptions());
@@ -172,11 +178,11 @@ public class SQLite3ToStringVisitor extends ToStringVisitor<SQLite3Expression> i
         } else {
             switch (c.getDataType()) {
             case INT:
-                // if ((c.asInt() == 0 || c.asInt() == 1) && Randomly.getBoolean()) {
+                // if ((c.asInt() == 0 || c.asInt() == 1) && r.getBoolean()) {
                 // sb.append(c.asInt() == 1 ? "TRUE" : "FALSE");
                 // } else {
                 // - 0X8000000000000000 results in an error message otherwise
-                if (Randomly.getBoolean() || c.asInt() == Long.MIN_VALUE) {
+                if (r.getBoolean() || c.asInt() == Long.MIN_VALUE) {
                     sb.append(c.asInt());
                 } else {
                     long intVal = c.asInt();
@@ -452,7 +458,7 @@ public class SQLite3ToStringVisitor extends ToStringVisitor<SQLite3Expression> i
     public void visit(SQLite3TableReference tableReference) {
         sb.append(tableReference.getTable().getName());
         if (tableReference.getIndexedBy() == null) {
-            if (Randomly.getBooleanWithSmallProbability()) {
+            if (r.getBooleanWithSmallProbability()) {
                 sb.append(" NOT INDEXED");
             }
         } else {
@@ -468,11 +474,11 @@ public class SQLite3ToStringVisitor extends ToStringVisitor<SQLite3Expression> i
     @Override
     public void visit(SQLite3SetClause set) {
         // do not print parentheses
-        sb.append(SQLite3Visitor.asString(set.getLeft()));
+        sb.append(SQLite3Visitor.asString(set.getLeft(), r));
         sb.append(" ");
         sb.append(set.getType().getTextRepresentation());
         sb.append(" ");
-        sb.append(SQLite3Visitor.asString(set.getRight()));
+        sb.append(SQLite3Visitor.asString(set.getRight(), r));
     }
 
 }
@@ -1,5 +1,6 @@
 package sqlancer.sqlite3;
 
+import sqlancer.Randomly;
 import sqlancer.sqlite3.ast.SQLite3Aggregate;
 import sqlancer.sqlite3.ast.SQLite3Case.SQLite3CaseWithBaseExpression;
 import sqlancer.sqlite3.ast.SQLite3Case.SQLite3CaseWithoutBaseExpression;
@@ -33,6 +34,7 @@ import sqlancer.sqlite3.ast.SQLite3WindowFunction;
 import sqlancer.sqlite3.ast.SQLite3WindowFunctionExpression;
 import sqlancer.sqlite3.ast.SQLite3WindowFunctionExpression.SQLite3WindowFunctionFrameSpecBetween;
 import sqlancer.sqlite3.ast.SQLite3WindowFunctionExpression.SQLite3WindowFunctionFrameSpecTerm;
+import sqlancer.visitor.RenderCache;
 
 public interface SQLite3Visitor {
 
@@ -198,21 +200,30 @@ public interface SQLite3Visitor {
         }
     }
 
-    static String asString(SQLite3Expression expr) {
+    static String asString(SQLite3Expression expr, Randomly r) {
+        return asString(expr, null, r);
+    }
+
+    static String asString(SQLite3Expression expr, RenderCache<SQLite3Expression> renderCache, Randomly r) {
         if (expr == null) {
             throw new AssertionError();
         }
-        SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor();
-        if (expr instanceof SQLite3Select) {
-            visitor.visit((SQLite3Select) expr, false);
-        } else {
-            visitor.visit(expr);
+        SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor(r);
+        visitor.setRenderCache(renderCache);
+        try {
+            if (expr instanceof SQLite3Select) {
+                visitor.visit((SQLite3Select) expr, false);
+            } else {
+                visitor.visit(expr);
+            }
+            return visitor.get();
+        } finally {
+            visitor.release();
         }
-        return visitor.get();
     }
 
-    static String asExpectedValues(SQLite3Expression expr) {
-        SQLite3ExpectedValueVisitor visitor = new SQLite3ExpectedValueVisitor();
+    static String asExpectedValues(SQLite3Expression expr, Randomly r) {
+        SQLite3ExpectedValueVisitor visitor = new SQLite3ExpectedValueVisitor(r);
         visitor.visit(expr);
         return visitor.get();
     }
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider;
 import sqlancer.sqlite3.schema.SQLite3DataType;
@@ -49,7 +50,7 @@ public class SQLite3Aggregate extends SQLite3Expression {
             public SQLite3Constant apply(SQLite3Constant exprVal) {
                 SQLite3Constant castToText = SQLite3Cast.castToText(exprVal);
                 if (castToText == null && SQLite3Provider.mustKnowResult) {
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.UNSUPPORTED);
                 }
                 return castToText;
             }
@@ -87,18 +88,18 @@ public class SQLite3Aggregate extends SQLite3Expression {
 
         public abstract SQLite3Constant apply(SQLite3Constant exprVal);
 
-        public static SQLite3AggregateFunction getRandom() {
+        public static SQLite3AggregateFunction getRandom(Randomly r) {
             List<SQLite3AggregateFunction> functions = new ArrayList<>(Arrays.asList(values()));
             if (SQLite3Provider.mustKnowResult) {
                 functions.remove(SQLite3AggregateFunction.SUM);
                 functions.remove(SQLite3AggregateFunction.TOTAL);
                 functions.remove(SQLite3AggregateFunction.GROUP_CONCAT);
             }
-            return Randomly.fromOptions(values());
+            return r.fromOptions(values());
         }
 
-        public static SQLite3AggregateFunction getRandom(SQLite3DataType type) {
-            return Randomly.fromOptions(values());
+        public static SQLite3AggregateFunction getRandom(SQLite3DataType type, Randomly r) {
+            return r.fromOptions(values());
         }
 
     }
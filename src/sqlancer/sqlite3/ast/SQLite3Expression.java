@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.LikeImplementationHelper;
 import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3CollateHelper;
@@ -414,8 +415,8 @@ public abstract class SQLite3Expression {
         public enum Ordering {
             ASC, DESC;
 
-            public static Ordering getRandomValue() {
-                return Randomly.fromOptions(Ordering.values());
+            public static Ordering getRandomValue(Randomly r) {
+                return r.fromOptions(Ordering.values());
             }
         }
 
@@ -552,8 +553,8 @@ public abstract class SQLite3Expression {
                 return textRepresentation;
             }
 
-            public static PostfixUnaryOperator getRandomOperator() {
-                return Randomly.fromOptions(values());
+            public static PostfixUnaryOperator getRandomOperator(Randomly r) {
+                return r.fromOptions(values());
             }
 
             public abstract SQLite3Constant apply(SQLite3Constant expectedValue);
@@ -714,12 +715,24 @@ public abstract class SQLite3Expression {
         private final BinaryComparisonOperator operation;
         private final SQLite3Expression left;
         private final SQLite3Expression right;
+        private final String textRepresentation;
 
         public BinaryComparisonOperation(SQLite3Expression left, SQLite3Expression right,
                 BinaryComparisonOperator operation) {
+            this(left, right, operation, operation.getTextRepresentation());
+        }
+
+        public BinaryComparisonOperation(SQLite3Expression left, SQLite3Expression right,
+                BinaryComparisonOperator operation, Randomly r) {
+            this(left, right, operation, operation.getTextRepresentation(r));
+        }
+
+        private BinaryComparisonOperation(SQLite3Expression left, SQLite3Expression right,
+                BinaryComparisonOperator operation, String textRepresentation) {
             this.left = left;
             this.right = right;
             this.operation = operation;
+            this.textRepresentation = textRepresentation;
         }
 
         public BinaryComparisonOperator getOperator() {
@@ -750,8 +763,8 @@ public abstract class SQLite3Expression {
         }
 
         public static BinaryComparisonOperation create(SQLite3Expression leftVal, SQLite3Expression rightVal,
-                BinaryComparisonOperator op) {
-            return new BinaryComparisonOperation(leftVal, rightVal, op);
+                BinaryComparisonOperator op, Randomly r) {
+            return new BinaryComparisonOperation(leftVal, rightVal, op, r);
         }
 
         public enum BinaryComparisonOperator {
@@ -1029,16 +1042,20 @@ public abstract class SQLite3Expression {
                 this.textRepresentation = textRepresentation.clone();
             }
 
-            public static BinaryComparisonOperator getRandomOperator() {
-                return Randomly.fromOptions(values());
+            public static BinaryComparisonOperator getRandomOperator(Randomly r) {
+                return r.fromOptions(values());
             }
 
-            public static BinaryComparisonOperator getRandomRowValueOperator() {
-                return Randomly.fromOptions(SMALLER, SMALLER_EQUALS, GREATER, GREATER_EQUALS, EQUALS, NOT_EQUALS);
+            public static BinaryComparisonOperator getRandomRowValueOperator(Randomly r) {
+                return r.fromOptions(SMALLER, SMALLER_EQUALS, GREATER, GREATER_EQUALS, EQUALS, NOT_EQUALS);
             }
 
             public String getTextRepresentation() {
-                return Randomly.fromOptions(textRepresentation);
+                return textRepresentation[0];
+            }
+
+            public String getTextRepresentation(Randomly r) {
+                return r.fromOptions(textRepresentation);
             }
 
             public SQLite3Constant applyOperand(SQLite3Constant leftBeforeAffinity, TypeAffinity leftAffinity,
@@ -1094,7 +1111,7 @@ public abstract class SQLite3Expression {
 
         @Override
         public String getOperatorRepresentation() {
-            return operation.getTextRepresentation();
+            return textRepresentation;
         }
 
     }
@@ -1110,7 +1127,7 @@ public abstract class SQLite3Expression {
                     }
                     if (!SQLite3Provider.allowFloatingPointFp && (left.getDataType() == SQLite3DataType.REAL
                             || right.getDataType() == SQLite3DataType.REAL)) {
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.DISABLED_BY_OPTION);
                     }
                     if (left.getExpectedValue().isNull() || right.getExpectedValue().isNull()) {
                         return SQLite3Constant.createNullConstant();
@@ -1465,12 +1482,16 @@ public abstract class SQLite3Expression {
                 this.textRepresentation = textRepresentation.clone();
             }
 
-            public static BinaryOperator getRandomOperator() {
-                return Randomly.fromOptions(values());
+            public static BinaryOperator getRandomOperator(Randomly r) {
+                return r.fromOptions(values());
             }
 
             public String getTextRepresentation() {
-                return Randomly.fromOptions(textRepresentation);
+                return textRepresentation[0];
+            }
+
+            public String getTextRepresentation(Randomly r) {
+                return r.fromOptions(textRepresentation);
             }
 
             public SQLite3Constant applyOperand(SQLite3Constant left, TypeAffinity leftAffinity, SQLite3Constant right,
@@ -1498,6 +1519,7 @@ public abstract class SQLite3Expression {
         private final BinaryOperator operation;
         private final SQLite3Expression left;
         private final SQLite3Expression right;
+        private final String textRepresentation;
 
         @Override
         public SQLite3CollateSequence getExplicitCollateSequence() {
@@ -1509,9 +1531,20 @@ public abstract class SQLite3Expression {
         }
 
         public Sqlite3BinaryOperation(SQLite3Expression left, SQLite3Expression right, BinaryOperator operation) {
+            this(left, right, operation, operation.getTextRepresentation());
+        }
+
+        public Sqlite3BinaryOperation(SQLite3Expression left, SQLite3Expression right, BinaryOperator operation,
+                Randomly r) {
+            this(left, right, operation, operation.getTextRepresentation(r));
+        }
+
+        private Sqlite3BinaryOperation(SQLite3Expression left, SQLite3Expression right, BinaryOperator operation,
+                String textRepresentation) {
             this.left = left;
             this.right = right;
             this.operation = operation;
+            this.textRepresentation = textRepresentation;
         }
 
         public BinaryOperator getOperator() {
@@ -1538,13 +1571,13 @@ public abstract class SQLite3Expression {
         }
 
         public static Sqlite3BinaryOperation create(SQLite3Expression leftVal, SQLite3Expression rightVal,
-                BinaryOperator op) {
-            return new Sqlite3BinaryOperation(leftVal, rightVal, op);
+                BinaryOperator op, Randomly r) {
+            return new Sqlite3BinaryOperation(leftVal, rightVal, op, r);
         }
 
         @Override
         public String getOperatorRepresentation() {
-            return Randomly.fromOptions(operation.textRepresentation);
+            return textRepresentation;
         }
 
     }
@@ -1,6 +1,7 @@
 package sqlancer.sqlite3.ast;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.sqlite3.ast.SQLite3Constant.SQLite3TextConstant;
 import sqlancer.sqlite3.schema.SQLite3DataType;
@@ -23,8 +24,8 @@ public class SQLite3Function extends SQLite3Expression {
             public SQLite3Constant apply(SQLite3Constant... args) {
                 SQLite3Constant castValue;
                 if (args[0].getDataType() == SQLite3DataType.BINARY) {
-                    throw new IgnoreMeException(); // TODO
-                                                   // implement
+                    throw new IgnoreMeException(Reason.UNSUPPORTED); // TODO
+                    // implement
                 }
                 if (args[0].getDataType() == SQLite3DataType.INT) {
                     castValue = SQLite3Cast.castToInt(args[0]);
@@ -286,8 +287,8 @@ public class SQLite3Function extends SQLite3Expression {
             return apply(evaluatedArgs);
         }
 
-        public static ComputableFunction getRandomFunction() {
-            return Randomly.fromOptions(ComputableFunction.values());
+        public static ComputableFunction getRandomFunction(Randomly r) {
+            return r.fromOptions(ComputableFunction.values());
         }
 
         @Override
@@ -18,8 +18,8 @@ public class SQLite3SetClause extends SQLite3Expression {
             this.textRepresentation = textRepresentation;
         }
 
-        public static SQLite3ClauseType getRandom() {
-            return Randomly.fromOptions(values());
+        public static SQLite3ClauseType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         public String getTextRepresentation() {
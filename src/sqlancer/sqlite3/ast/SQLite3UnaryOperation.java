@@ -114,8 +114,8 @@ public class SQLite3UnaryOperation extends SQLite3Expression implements UnaryOpe
             return textRepresentation;
         }
 
-        public SQLite3UnaryOperation.UnaryOperator getRandomOperator() {
-            return Randomly.fromOptions(values());
+        public SQLite3UnaryOperation.UnaryOperator getRandomOperator(Randomly r) {
+            return r.fromOptions(values());
         }
 
         public abstract SQLite3Constant apply(SQLite3Constant constant);
@@ -3,7 +3,7 @@ package sqlancer.sqlite3.ast;
 import java.util.List;
 
 import sqlancer.IgnoreMeException;
-import sqlancer.Randomly;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.sqlite3.SQLite3Provider;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.gen.SQLite3ExpressionGenerator;
@@ -16,7 +16,7 @@ public class SQLite3WindowFunction extends SQLite3Expression {
     private SQLite3Expression[] args;
 
     public static SQLite3WindowFunction getRandom(List<SQLite3Column> columns, SQLite3GlobalState globalState) {
-        WindowFunction func = Randomly.fromOptions(WindowFunction.values());
+        WindowFunction func = globalState.getRandomly().fromOptions(WindowFunction.values());
         SQLite3Expression[] args = new SQLite3Expression[func.nrArgs];
         for (int i = 0; i < args.length; i++) {
             args[i] = new SQLite3ExpressionGenerator(globalState).setColumns(columns).generateExpression();
@@ -134,7 +134,7 @@ public class SQLite3WindowFunction extends SQLite3Expression {
         for (int i = 0; i < evaluatedConst.length; i++) {
             evaluatedConst[i] = args[i].getExpectedValue();
             if (evaluatedConst[i] == null) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.UNSUPPORTED);
             }
         }
         return func.apply(evaluatedConst);
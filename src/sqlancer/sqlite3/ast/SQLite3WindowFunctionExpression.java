@@ -99,8 +99,8 @@ public class SQLite3WindowFunctionExpression extends SQLite3Expression {
             this.s = s;
         }
 
-        public static SQLite3FrameSpecExclude getRandom() {
-            return Randomly.fromOptions(values());
+        public static SQLite3FrameSpecExclude getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         public String getString() {
@@ -111,8 +111,8 @@ public class SQLite3WindowFunctionExpression extends SQLite3Expression {
     public enum SQLite3FrameSpecKind {
         RANGE, ROWS, GROUPS;
 
-        public static SQLite3FrameSpecKind getRandom() {
-            return Randomly.fromOptions(SQLite3FrameSpecKind.values());
+        public static SQLite3FrameSpecKind getRandom(Randomly r) {
+            return r.fromOptions(SQLite3FrameSpecKind.values());
         }
     }
 
@@ -2,7 +2,6 @@ package sqlancer.sqlite3.gen;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 
 public final class SQLite3AnalyzeGenerator {
@@ -16,20 +15,20 @@ public final class SQLite3AnalyzeGenerator {
 
     public static Query generateAnalyze(SQLite3GlobalState globalState) {
         final StringBuilder sb = new StringBuilder("ANALYZE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            switch (Randomly.fromOptions(AnalyzeTarget.values())) {
+            switch (globalState.getRandomly().fromOptions(AnalyzeTarget.values())) {
             case INDEX:
-                sb.append(globalState.getSchema().getRandomIndexOrBailout());
+                sb.append(globalState.getSchema().getRandomIndexOrBailout(globalState.getRandomly()));
                 break;
             case SCHEMA:
-                sb.append(Randomly.fromOptions("main", "temp"));
+                sb.append(globalState.getRandomly().fromOptions("main", "temp"));
                 break;
             case SQL_MASTER:
                 sb.append("sqlite_master");
                 break;
             case TABLE:
-                sb.append(globalState.getSchema().getRandomTableOrBailout().getName());
+                sb.append(globalState.getSchema().getRandomTableOrBailout(globalState.getRandomly()).getName());
                 break;
             default:
                 throw new AssertionError();
@@ -0,0 +1,47 @@
+package sqlancer.sqlite3.gen;
+
+import java.nio.charset.StandardCharsets;
+
+import sqlancer.gen.AbstractBulkLoader;
+import sqlancer.sqlite3.SQLite3Errors;
+import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
+import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Column;
+
+/**
+ * Loads rows using batched prepared statements in a transaction, which avoids parsing a statement and syncing the
+ * journal for every row.
+ */
+public class SQLite3BulkLoader extends AbstractBulkLoader<SQLite3Column> {
+
+    public SQLite3BulkLoader(SQLite3GlobalState globalState) {
+        super(globalState);
+        errors.add("[SQLITE_CONSTRAINT]");
+        errors.add("[SQLITE_FULL]");
+        errors.add("[SQLITE_ERROR] SQL error or missing database (foreign key mismatch");
+        errors.add("ON CONFLICT clause does not match any PRIMARY KEY or UNIQUE constraint"); // trigger
+        errors.add("no such column"); // trigger
+        errors.add("values were supplied"); // trigger
+        errors.add("Data type mismatch (datatype mismatch)"); // trigger
+        errors.add("too many levels of trigger recursion");
+        errors.add("String or BLOB exceeds size limit");
+        errors.add("A table in the database is locked");
+        errors.add("load_extension() prohibited in triggers and views");
+        SQLite3Errors.addInsertNowErrors(errors);
+        SQLite3Errors.addExpectedExpressionErrors(errors);
+    }
+
+    @Override
+    protected Object getValue(SQLite3Column column, long number) {
+        switch (column.getType()) {
+        case TEXT:
+            return String.valueOf(number);
+        case REAL:
+            return number / 4.0;
+        case BINARY:
+            return Long.toHexString(number).getBytes(StandardCharsets.UTF_8);
+        default:
+            return number;
+        }
+    }
+
+}
@@ -40,12 +40,12 @@ public class SQLite3ColumnBuilder {
     public String createColumn(String columnName, SQLite3GlobalState globalState, List<SQLite3Column> columns) {
         sb.append(columnName);
         sb.append(" ");
-        String dataType = Randomly.fromOptions("INT", "TEXT", "BLOB", "REAL", "INTEGER");
+        String dataType = globalState.getRandomly().fromOptions("INT", "TEXT", "BLOB", "REAL", "INTEGER");
         sb.append(dataType);
 
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            List<Constraints> constraints = Randomly.subset(Constraints.values());
-            if (!Randomly.getBooleanWithSmallProbability()
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
+            List<Constraints> constraints = globalState.getRandomly().subset(Constraints.values());
+            if (!globalState.getRandomly().getBooleanWithSmallProbability()
                     || globalState.getDmbsSpecificOptions().testGeneratedColumns) {
                 constraints.remove(Constraints.GENERATED_AS);
             }
@@ -60,7 +60,7 @@ public class SQLite3ColumnBuilder {
                     sb.append(SQLite3Visitor.asString(new SQLite3ExpressionGenerator(globalState)
                             .deterministicOnly().setColumns(columns.stream()
                                     .filter(p -> !p.getName().contentEquals(columnName)).collect(Collectors.toList()))
-                            .generateExpression()));
+                            .generateExpression(), globalState.getRandomly()));
                     sb.append(")");
                     break;
                 case PRIMARY_KEY:
@@ -68,18 +68,18 @@ public class SQLite3ColumnBuilder {
                     if (allowPrimaryKey) {
                         sb.append(" PRIMARY KEY");
                         containsPrimaryKey = true;
-                        boolean hasOrdering = Randomly.getBoolean();
+                        boolean hasOrdering = globalState.getRandomly().getBoolean();
                         if (hasOrdering) {
-                            if (Randomly.getBoolean()) {
+                            if (globalState.getRandomly().getBoolean()) {
                                 sb.append(" ASC");
                             } else {
                                 sb.append(" DESC");
                             }
                         }
-                        if (Randomly.getBoolean()) {
-                            insertOnConflictClause();
+                        if (globalState.getRandomly().getBoolean()) {
+                            insertOnConflictClause(globalState.getRandomly());
                         }
-                        if (!hasOrdering && dataType.equals("INTEGER") && Randomly.getBoolean()) {
+                        if (!hasOrdering && dataType.equals("INTEGER") && globalState.getRandomly().getBoolean()) {
                             containsAutoIncrement = true;
                             sb.append(" AUTOINCREMENT");
                         }
@@ -88,16 +88,16 @@ public class SQLite3ColumnBuilder {
                 case UNIQUE:
                     if (allowUnique) {
                         sb.append(" UNIQUE");
-                        if (Randomly.getBoolean()) {
-                            insertOnConflictClause();
+                        if (globalState.getRandomly().getBoolean()) {
+                            insertOnConflictClause(globalState.getRandomly());
                         }
                     }
                     break;
                 case NOT_NULL:
                     if (allowNotNull) {
                         sb.append(" NOT NULL");
-                        if (Randomly.getBoolean()) {
-                            insertOnConflictClause();
+                        if (globalState.getRandomly().getBoolean()) {
+                            insertOnConflictClause(globalState.getRandomly());
                         }
                     }
                     break;
@@ -111,22 +111,22 @@ public class SQLite3ColumnBuilder {
                 }
             }
         }
-        if (allowDefaultValue && Randomly.getBooleanWithSmallProbability()) {
-            sb.append(" DEFAULT "
-                    + SQLite3Visitor.asString(SQLite3ExpressionGenerator.getRandomLiteralValue(globalState)));
+        if (allowDefaultValue && globalState.getRandomly().getBooleanWithSmallProbability()) {
+            sb.append(" DEFAULT " + SQLite3Visitor.asString(
+                    SQLite3ExpressionGenerator.getRandomLiteralValue(globalState), globalState.getRandomly()));
         }
-        if (Randomly.getBooleanWithSmallProbability()) {
-            String randomCollate = SQLite3Common.getRandomCollate();
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
+            String randomCollate = SQLite3Common.getRandomCollate(globalState.getRandomly());
             sb.append(randomCollate);
         }
         return sb.toString();
     }
 
     // it seems that only one conflict clause can be inserted
-    private void insertOnConflictClause() {
+    private void insertOnConflictClause(Randomly r) {
         if (!conflictClauseInserted) {
             sb.append(" ON CONFLICT ");
-            sb.append(Randomly.fromOptions("ROLLBACK", "ABORT", "FAIL", "IGNORE", "REPLACE"));
+            sb.append(r.fromOptions("ROLLBACK", "ABORT", "FAIL", "IGNORE", "REPLACE"));
             conflictClauseInserted = true;
         }
     }
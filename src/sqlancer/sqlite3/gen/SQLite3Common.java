@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.SQLite3Visitor;
@@ -24,8 +25,8 @@ public final class SQLite3Common {
     private SQLite3Common() {
     }
 
-    public static String getRandomCollate() {
-        return Randomly.fromOptions(" COLLATE BINARY", " COLLATE RTRIM", " COLLATE NOCASE"/* , " COLLATE UINT" */);
+    public static String getRandomCollate(Randomly r) {
+        return r.fromOptions(" COLLATE BINARY", " COLLATE RTRIM", " COLLATE NOCASE"/* , " COLLATE UINT" */);
     }
 
     public static String createTableName(int nr) {
@@ -43,7 +44,7 @@ public final class SQLite3Common {
     public static String getCheckConstraint(SQLite3GlobalState globalState, List<SQLite3Column> columns) {
         SQLite3Expression expression = new SQLite3ExpressionGenerator(globalState).setColumns(columns)
                 .generateExpression();
-        return " CHECK ( " + SQLite3Visitor.asString(expression) + ")";
+        return " CHECK ( " + SQLite3Visitor.asString(expression, globalState.getRandomly()) + ")";
     }
 
     public static SQLite3Expression getTrueExpression(List<SQLite3Column> columns, SQLite3GlobalState globalState) {
@@ -51,7 +52,7 @@ public final class SQLite3Common {
                 .generateExpression();
         SQLite3Constant expectedValue = randomExpression.getExpectedValue();
         if (expectedValue == null) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
         Optional<Boolean> val = SQLite3Cast.isTrue(expectedValue);
         if (!val.isPresent()) {
@@ -70,13 +71,13 @@ public final class SQLite3Common {
     public static String getOrderingTerm(List<SQLite3Column> columns, SQLite3GlobalState globalState) {
         SQLite3Expression randExpr = new SQLite3ExpressionGenerator(globalState).setColumns(columns)
                 .generateExpression();
-        StringBuilder sb = new StringBuilder(SQLite3Visitor.asString(randExpr));
+        StringBuilder sb = new StringBuilder(SQLite3Visitor.asString(randExpr, globalState.getRandomly()));
         sb.append(" ");
-        if (Randomly.getBoolean()) {
-            sb.append(SQLite3Common.getRandomCollate());
+        if (globalState.getRandomly().getBoolean()) {
+            sb.append(SQLite3Common.getRandomCollate(globalState.getRandomly()));
         }
-        if (Randomly.getBoolean()) {
-            if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" ASC");
             } else {
                 sb.append(" DESC");
@@ -85,9 +86,9 @@ public final class SQLite3Common {
         return sb.toString();
     }
 
-    public static String getIndexedClause(String indexName) {
+    public static String getIndexedClause(String indexName, Randomly r) {
         StringBuilder sb = new StringBuilder();
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append("INDEXED BY ");
             sb.append(indexName);
         } else {
@@ -114,20 +115,20 @@ public final class SQLite3Common {
         return name[0];
     }
 
-    public static String getFreeIndexName(SQLite3Schema s) {
+    public static String getFreeIndexName(SQLite3Schema s, Randomly r) {
         List<String> indexNames = s.getIndexNames();
         String candidateName;
         do {
-            candidateName = SQLite3Common.createIndexName((int) Randomly.getNotCachedInteger(0, 100));
+            candidateName = SQLite3Common.createIndexName((int) r.getNotCachedInteger(0, 100));
         } while (indexNames.contains(candidateName));
         return candidateName;
     }
 
-    public static String getFreeColumnName(SQLite3Table t) {
+    public static String getFreeColumnName(SQLite3Table t, Randomly r) {
         List<SQLite3Column> indexNames = t.getColumns();
         final String[] candidateName = new String[1];
         do {
-            candidateName[0] = SQLite3Common.createColumnName((int) Randomly.getNotCachedInteger(0, 100));
+            candidateName[0] = SQLite3Common.createColumnName((int) r.getNotCachedInteger(0, 100));
         } while (indexNames.stream().anyMatch(c -> c.getName().contentEquals(candidateName[0])));
         return candidateName[0];
     }
@@ -136,11 +137,11 @@ public final class SQLite3Common {
         StringBuilder sb = new StringBuilder();
         SQLite3ExpressionGenerator gen = new SQLite3ExpressionGenerator(globalState).setColumns(columns);
         sb.append(" ORDER BY ");
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
             if (i != 0) {
                 sb.append(", ");
             }
-            sb.append(SQLite3Visitor.asString(gen.generateOrderingTerm()));
+            sb.append(SQLite3Visitor.asString(gen.generateOrderingTerm(), globalState.getRandomly()));
         }
         return sb.toString();
     }
@@ -148,7 +149,7 @@ public final class SQLite3Common {
     public static List<SQLite3Expression> getOrderBy(List<SQLite3Column> columns, SQLite3GlobalState globalState) {
         SQLite3ExpressionGenerator gen = new SQLite3ExpressionGenerator(globalState).setColumns(columns);
         List<SQLite3Expression> list = new ArrayList<>();
-        for (int i = 0; i < 1 + Randomly.smallNumber(); i++) {
+        for (int i = 0; i < 1 + globalState.getRandomly().smallNumber(); i++) {
             list.add(gen.generateOrderingTerm());
         }
         return list;
@@ -159,12 +160,12 @@ public final class SQLite3Common {
         return new SQLite3Column(createColumnName(i), SQLite3DataType.NONE, false, false, null);
     }
 
-    public static List<SQLite3Expression> getTableRefs(List<SQLite3Table> tables, SQLite3Schema s) {
+    public static List<SQLite3Expression> getTableRefs(List<SQLite3Table> tables, SQLite3Schema s, Randomly r) {
         List<SQLite3Expression> tableRefs = new ArrayList<>();
         for (SQLite3Table t : tables) {
             SQLite3TableReference tableRef;
-            if (Randomly.getBooleanWithSmallProbability() && !s.getIndexNames().isEmpty()) {
-                tableRef = new SQLite3TableReference(s.getRandomIndexOrBailout(), t);
+            if (r.getBooleanWithSmallProbability() && !s.getIndexNames().isEmpty()) {
+                tableRef = new SQLite3TableReference(s.getRandomIndexOrBailout(r), t);
             } else {
                 tableRef = new SQLite3TableReference(t);
             }
@@ -7,7 +7,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Column;
 
@@ -22,9 +21,9 @@ public final class SQLite3CreateVirtualRtreeTabelGenerator {
         StringBuilder sb = new StringBuilder("CREATE VIRTUAL TABLE ");
         sb.append(rTreeTableName);
         sb.append(" USING ");
-        sb.append(Randomly.fromOptions("rtree_i32", "rtree"));
+        sb.append(globalState.getRandomly().fromOptions("rtree_i32", "rtree"));
         sb.append("(");
-        int size = 3 + Randomly.smallNumber();
+        int size = 3 + globalState.getRandomly().smallNumber();
         for (int i = 0; i < size; i++) {
             if (i != 0) {
                 sb.append(", ");
@@ -33,7 +32,7 @@ public final class SQLite3CreateVirtualRtreeTabelGenerator {
             columns.add(c);
             sb.append(c.getName());
         }
-        for (int i = 0; i < Randomly.smallNumber(); i++) {
+        for (int i = 0; i < globalState.getRandomly().smallNumber(); i++) {
             sb.append(", ");
             sb.append("+");
             String columnName = SQLite3Common.createColumnName(size + i);
@@ -4,7 +4,6 @@ import java.sql.SQLException;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider;
 import sqlancer.sqlite3.SQLite3Provider.Action;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
@@ -17,12 +16,12 @@ public final class SQLite3ExplainGenerator {
     public static Query explain(SQLite3GlobalState globalState) throws SQLException {
         StringBuilder sb = new StringBuilder();
         sb.append("EXPLAIN ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("QUERY PLAN ");
         }
         Action action;
         do {
-            action = Randomly.fromOptions(SQLite3Provider.Action.values());
+            action = globalState.getRandomly().fromOptions(SQLite3Provider.Action.values());
         } while (action == Action.EXPLAIN);
         Query query = action.getQuery(globalState);
         sb.append(query);
@@ -106,7 +106,7 @@ public class SQLite3ExpressionGenerator {
 
     public List<SQLite3Expression> generateOrderBys() {
         List<SQLite3Expression> expressions = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < r.smallNumber() + 1; i++) {
             expressions.add(generateOrderingTerm());
         }
         return expressions;
@@ -117,14 +117,14 @@ public class SQLite3ExpressionGenerator {
         if (!globalState.getDmbsSpecificOptions().testJoins) {
             return joinStatements;
         }
-        if (Randomly.getBoolean() && tables.size() > 1) {
-            int nrJoinClauses = (int) Randomly.getNotCachedInteger(0, tables.size());
+        if (r.getBoolean() && tables.size() > 1) {
+            int nrJoinClauses = (int) r.getNotCachedInteger(0, tables.size());
             for (int i = 0; i < nrJoinClauses; i++) {
                 SQLite3Expression joinClause = generateExpression();
-                SQLite3Table table = Randomly.fromList(tables);
+                SQLite3Table table = r.fromList(tables);
                 tables.remove(table);
                 JoinType options;
-                options = Randomly.fromOptions(JoinType.INNER, JoinType.CROSS, JoinType.OUTER, JoinType.NATURAL);
+                options = r.fromOptions(JoinType.INNER, JoinType.CROSS, JoinType.OUTER, JoinType.NATURAL);
                 if (options == JoinType.NATURAL) {
                     // NATURAL joins do not have an ON clause
                     joinClause = null;
@@ -140,11 +140,11 @@ public class SQLite3ExpressionGenerator {
     public SQLite3Expression generateOrderingTerm() {
         SQLite3Expression expr = generateExpression();
         // COLLATE is potentially already generated
-        if (Randomly.getBoolean()) {
-            expr = new SQLite3OrderingTerm(expr, Ordering.getRandomValue());
+        if (r.getBoolean()) {
+            expr = new SQLite3OrderingTerm(expr, Ordering.getRandomValue(r));
         }
-        if (globalState.getDmbsSpecificOptions().testNullsFirstLast && Randomly.getBoolean()) {
-            expr = new SQLite3PostfixText(expr, Randomly.fromOptions(" NULLS FIRST", " NULLS LAST"),
+        if (globalState.getDmbsSpecificOptions().testNullsFirstLast && r.getBoolean()) {
+            expr = new SQLite3PostfixText(expr, r.fromOptions(" NULLS FIRST", " NULLS LAST"),
                     null /* expr.getExpectedValue() */) {
                 @Override
                 public boolean omitBracketsWhenPrinting() {
@@ -162,10 +162,10 @@ public class SQLite3ExpressionGenerator {
      * @return
      */
     private SQLite3Expression getRandomLiteralValueInternal(Randomly r) {
-        LiteralValueType randomLiteral = Randomly.fromOptions(LiteralValueType.values());
+        LiteralValueType randomLiteral = r.fromOptions(LiteralValueType.values());
         switch (randomLiteral) {
         case INTEGER:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 return SQLite3Constant.createIntConstant(r.getInteger());
             } else {
                 return SQLite3Constant.createTextConstant(String.valueOf(r.getInteger()));
@@ -210,11 +210,11 @@ public class SQLite3ExpressionGenerator {
     }
 
     public SQLite3Expression getRandomExpression(int depth) {
-        if (allowAggreates && Randomly.getBoolean()) {
+        if (allowAggreates && r.getBoolean()) {
             return getAggregateFunction(depth + 1);
         }
         if (depth >= globalState.getOptions().getMaxExpressionDepth()) {
-            if (Randomly.getBooleanWithRatherLowProbability() || columns.isEmpty()) {
+            if (r.getBooleanWithRatherLowProbability() || columns.isEmpty()) {
                 return getRandomLiteralValue(globalState);
             } else {
                 return getRandomColumn();
@@ -240,7 +240,7 @@ public class SQLite3ExpressionGenerator {
         if (!globalState.getDmbsSpecificOptions().testMatch) {
             list.remove(ExpressionType.MATCH);
         }
-        ExpressionType randomExpressionType = Randomly.fromList(list);
+        ExpressionType randomExpressionType = r.fromList(list);
         switch (randomExpressionType) {
         case AND_OR_CHAIN:
             return getAndOrChain(depth + 1);
@@ -265,7 +265,7 @@ public class SQLite3ExpressionGenerator {
         case IN_OPERATOR:
             return getInOperator(depth + 1);
         case COLLATE:
-            return new CollateOperation(getRandomExpression(depth + 1), SQLite3CollateSequence.random());
+            return new CollateOperation(getRandomExpression(depth + 1), SQLite3CollateSequence.random(r));
         case CASE_OPERATOR:
             return getCaseOperator(depth + 1);
         case MATCH:
@@ -284,29 +284,29 @@ public class SQLite3ExpressionGenerator {
     }
 
     private SQLite3Expression getAndOrChain(int depth) {
-        int num = Randomly.smallNumber() + 2;
+        int num = r.smallNumber() + 2;
         SQLite3Expression expr = getRandomExpression(depth + 1);
         for (int i = 0; i < num; i++) {
-            BinaryOperator operator = Randomly.fromOptions(BinaryOperator.AND, BinaryOperator.OR);
+            BinaryOperator operator = r.fromOptions(BinaryOperator.AND, BinaryOperator.OR);
             expr = new Sqlite3BinaryOperation(expr, getRandomExpression(depth + 1), operator);
         }
         return expr;
     }
 
     public SQLite3Expression getAggregateFunction(boolean asWindowFunction) {
-        SQLite3AggregateFunction random = SQLite3AggregateFunction.getRandom();
+        SQLite3AggregateFunction random = SQLite3AggregateFunction.getRandom(r);
         if (asWindowFunction) {
             while (/* random == SQLite3AggregateFunction.ZIPFILE || */random == SQLite3AggregateFunction.MAX
                     || random == SQLite3AggregateFunction.MIN) {
                 // ZIPFILE() may not be used as a window function
-                random = SQLite3AggregateFunction.getRandom();
+                random = SQLite3AggregateFunction.getRandom(r);
             }
         }
         return getAggregate(0, random);
     }
 
     private SQLite3Expression getAggregateFunction(int depth) {
-        SQLite3AggregateFunction random = SQLite3AggregateFunction.getRandom();
+        SQLite3AggregateFunction random = SQLite3AggregateFunction.getRandom(r);
         return getAggregate(depth, random);
     }
 
@@ -329,7 +329,7 @@ public class SQLite3ExpressionGenerator {
      * https://www.sqlite.org/rowvalue.html
      */
     private SQLite3Expression getRowValueComparison(int depth) {
-        int size = Randomly.smallNumber() + 1;
+        int size = r.smallNumber() + 1;
         List<SQLite3Expression> left = getRandomExpressions(size, depth + 1);
         List<SQLite3Expression> right = getRandomExpressions(size, depth + 1);
         RowValueComparison randomOption;
@@ -337,15 +337,15 @@ public class SQLite3ExpressionGenerator {
         // // for the right hand side a random query is required, which is expensive
         // randomOption = RowValueComparison.IN;
         // } else {
-        randomOption = Randomly.fromOptions(RowValueComparison.STANDARD_COMPARISON, RowValueComparison.BETWEEN);
+        randomOption = r.fromOptions(RowValueComparison.STANDARD_COMPARISON, RowValueComparison.BETWEEN);
         // }
         switch (randomOption) {
         // TODO case
         case STANDARD_COMPARISON:
             return new BinaryComparisonOperation(new SQLite3RowValueExpression(left),
-                    new SQLite3RowValueExpression(right), BinaryComparisonOperator.getRandomRowValueOperator());
+                    new SQLite3RowValueExpression(right), BinaryComparisonOperator.getRandomRowValueOperator(r));
         case BETWEEN:
-            return new BetweenOperation(getRandomRowValue(depth + 1, size), Randomly.getBoolean(),
+            return new BetweenOperation(getRandomRowValue(depth + 1, size), r.getBoolean(),
                     new SQLite3RowValueExpression(left), new SQLite3RowValueExpression(right));
         // case IN:
         // return new SQLite3Expression.InOperation(new SQLite3RowValue(left),
@@ -362,7 +362,7 @@ public class SQLite3ExpressionGenerator {
     private SQLite3Expression getMatchClause(int depth) {
         SQLite3Expression left = getRandomExpression(depth + 1);
         SQLite3Expression right;
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             right = getRandomExpression(depth + 1);
         } else {
             right = SQLite3Constant.createTextConstant(SQLite3MatchStringGenerator.generateMatchString(r));
@@ -371,7 +371,7 @@ public class SQLite3ExpressionGenerator {
     }
 
     private SQLite3Expression getRandomColumn() {
-        SQLite3Column c = Randomly.fromList(columns);
+        SQLite3Column c = r.fromList(columns);
         return new SQLite3ColumnName(c, rw == null ? null : rw.getValues().get(c));
     }
 
@@ -477,7 +477,7 @@ public class SQLite3ExpressionGenerator {
         }
 
         static AnyFunction getRandom(SQLite3GlobalState globalState) {
-            return Randomly.fromList(getAllFunctions(globalState));
+            return globalState.getRandomly().fromList(getAllFunctions(globalState));
         }
 
         private static List<AnyFunction> getAllFunctions(SQLite3GlobalState globalState) {
@@ -492,7 +492,7 @@ public class SQLite3ExpressionGenerator {
         }
 
         static AnyFunction getRandomDeterministic(SQLite3GlobalState globalState) {
-            return Randomly.fromList(
+            return globalState.getRandomly().fromList(
                     getAllFunctions(globalState).stream().filter(f -> f.deterministic).collect(Collectors.toList()));
         }
 
@@ -511,7 +511,7 @@ public class SQLite3ExpressionGenerator {
     }
 
     private SQLite3Expression getFunction(SQLite3GlobalState globalState, int depth) {
-        if (tryToGenerateKnownResult || Randomly.getBoolean()) {
+        if (tryToGenerateKnownResult || globalState.getRandomly().getBoolean()) {
             return getComputableFunction(depth + 1);
         } else {
             AnyFunction randomFunction;
@@ -522,7 +522,7 @@ public class SQLite3ExpressionGenerator {
             }
             int nrArgs = randomFunction.getMinNrArgs();
             if (randomFunction.isVariadic()) {
-                nrArgs += Randomly.smallNumber();
+                nrArgs += globalState.getRandomly().smallNumber();
             }
             List<SQLite3Expression> expressions = randomFunction.generateArguments(nrArgs, depth + 1, this);
             return new SQLite3Expression.Function(randomFunction.toString(),
@@ -540,7 +540,7 @@ public class SQLite3ExpressionGenerator {
     }
 
     private SQLite3Expression getCaseOperator(int depth) {
-        int nrCaseExpressions = 1 + Randomly.smallNumber();
+        int nrCaseExpressions = 1 + r.smallNumber();
         CasePair[] pairs = new CasePair[nrCaseExpressions];
         for (int i = 0; i < pairs.length; i++) {
             SQLite3Expression whenExpr = getRandomExpression(depth + 1);
@@ -549,12 +549,12 @@ public class SQLite3ExpressionGenerator {
             pairs[i] = pair;
         }
         SQLite3Expression elseExpr;
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             elseExpr = getRandomExpression(depth + 1);
         } else {
             elseExpr = null;
         }
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             return new SQLite3CaseWithoutBaseExpression(pairs, elseExpr);
         } else {
             SQLite3Expression baseExpr = getRandomExpression(depth + 1);
@@ -565,20 +565,20 @@ public class SQLite3ExpressionGenerator {
     private SQLite3Expression getCastOperator(int depth) {
         SQLite3Expression expr = getRandomExpression(depth + 1);
         TypeLiteral type = new SQLite3Expression.TypeLiteral(
-                Randomly.fromOptions(SQLite3Expression.TypeLiteral.Type.values()));
+                r.fromOptions(SQLite3Expression.TypeLiteral.Type.values()));
         return new SQLite3Expression.Cast(type, expr);
     }
 
     private SQLite3Expression getComputableFunction(int depth) {
-        ComputableFunction func = ComputableFunction.getRandomFunction();
+        ComputableFunction func = ComputableFunction.getRandomFunction(r);
         int nrArgs = func.getNrArgs();
         if (func.isVariadic()) {
-            nrArgs += Randomly.smallNumber();
+            nrArgs += r.smallNumber();
         }
         SQLite3Expression[] args = new SQLite3Expression[nrArgs];
         for (int i = 0; i < args.length; i++) {
             args[i] = getRandomExpression(depth + 1);
-            if (i == 0 && Randomly.getBoolean()) {
+            if (i == 0 && r.getBoolean()) {
                 args[i] = new SQLite3Distinct(args[i]);
             }
         }
@@ -586,7 +586,7 @@ public class SQLite3ExpressionGenerator {
     }
 
     private SQLite3Expression getBetweenOperator(int depth) {
-        boolean tr = Randomly.getBoolean();
+        boolean tr = r.getBoolean();
         SQLite3Expression expr = getRandomExpression(depth + 1);
         SQLite3Expression left = getRandomExpression(depth + 1);
         SQLite3Expression right = getRandomExpression(depth + 1);
@@ -597,7 +597,7 @@ public class SQLite3ExpressionGenerator {
     private SQLite3Expression getBinaryOperator(int depth) {
         SQLite3Expression leftExpression = getRandomExpression(depth + 1);
         // TODO: operators
-        BinaryOperator operator = BinaryOperator.getRandomOperator();
+        BinaryOperator operator = BinaryOperator.getRandomOperator(r);
         // while (operator == BinaryOperator.DIVIDE) {
         // operator = BinaryOperator.getRandomOperator();
         // }
@@ -608,7 +608,7 @@ public class SQLite3ExpressionGenerator {
     private SQLite3Expression getInOperator(int depth) {
         SQLite3Expression leftExpression = getRandomExpression(depth + 1);
         List<SQLite3Expression> right = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber(); i++) {
+        for (int i = 0; i < r.smallNumber(); i++) {
             right.add(getRandomExpression(depth + 1));
         }
         return new SQLite3Expression.InOperation(leftExpression, right);
@@ -616,7 +616,7 @@ public class SQLite3ExpressionGenerator {
 
     private SQLite3Expression getBinaryComparisonOperator(int depth) {
         SQLite3Expression leftExpression = getRandomExpression(depth + 1);
-        BinaryComparisonOperator operator = BinaryComparisonOperator.getRandomOperator();
+        BinaryComparisonOperator operator = BinaryComparisonOperator.getRandomOperator(r);
         SQLite3Expression rightExpression = getRandomExpression(depth + 1);
         return new SQLite3Expression.BinaryComparisonOperation(leftExpression, rightExpression, operator);
     }
@@ -624,14 +624,14 @@ public class SQLite3ExpressionGenerator {
     // complete
     private SQLite3Expression getRandomPostfixUnaryOperator(int depth) {
         SQLite3Expression subExpression = getRandomExpression(depth + 1);
-        PostfixUnaryOperator operator = PostfixUnaryOperator.getRandomOperator();
+        PostfixUnaryOperator operator = PostfixUnaryOperator.getRandomOperator(r);
         return new SQLite3Expression.SQLite3PostfixUnaryOperation(operator, subExpression);
     }
 
     // complete
     public SQLite3Expression getRandomUnaryOperator(int depth) {
         SQLite3Expression subExpression = getRandomExpression(depth + 1);
-        UnaryOperator unaryOperation = Randomly.fromOptions(UnaryOperator.values());
+        UnaryOperator unaryOperation = r.fromOptions(UnaryOperator.values());
         return new SQLite3UnaryOperation(unaryOperation, subExpression);
     }
 
@@ -25,7 +25,7 @@ public class SQLite3MatchStringGenerator {
 
     private void generate() {
         if (depth == 0) {
-            for (int i = 0; i < Randomly.smallNumber(); i++) {
+            for (int i = 0; i < r.smallNumber(); i++) {
                 if (i != 0) {
                     sb.append(" ");
                 }
@@ -33,7 +33,7 @@ public class SQLite3MatchStringGenerator {
             }
         } else {
             depth--;
-            MatchAction action = Randomly.fromOptions(MatchAction.values());
+            MatchAction action = r.fromOptions(MatchAction.values());
             switch (action) {
             case STRING:
                 sb.append(r.getString());
@@ -44,11 +44,11 @@ public class SQLite3MatchStringGenerator {
                 break;
             case COLUMN:
                 sb.append("c");
-                sb.append(Randomly.smallNumber());
+                sb.append(r.smallNumber());
                 break;
             case NEAR:
                 generate();
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append(" NEAR ");
                 } else {
                     sb.append(String.format("NEAR/%d", r.getInteger()));
@@ -58,12 +58,12 @@ public class SQLite3MatchStringGenerator {
             case LOGICAL_BINARY_OPERATOR:
                 generate();
                 sb.append(" ");
-                sb.append(Randomly.fromOptions("AND", "OR", "+"));
+                sb.append(r.fromOptions("AND", "OR", "+"));
                 sb.append(" ");
                 generate();
                 break;
             case NOT:
-                sb.append(Randomly.fromOptions("-", "NOT"));
+                sb.append(r.fromOptions("-", "NOT"));
                 sb.append(" ");
                 generate();
                 break;
@@ -74,15 +74,15 @@ public class SQLite3MatchStringGenerator {
     }
 
     private void appendColspec() {
-        boolean braces = Randomly.getBoolean();
+        boolean braces = r.getBoolean();
         if (braces) {
             sb.append("{");
         }
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < r.smallNumber() + 1; i++) {
             if (i != 0) {
                 sb.append(", ");
             }
-            sb.append("c" + Randomly.smallNumber());
+            sb.append("c" + r.smallNumber());
         }
         if (braces) {
             sb.append("}");
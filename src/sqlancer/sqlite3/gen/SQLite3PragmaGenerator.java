@@ -61,13 +61,18 @@ public class SQLite3PragmaGenerator {
 
     private final StringBuilder sb = new StringBuilder();
     private final Set<String> errors = new HashSet<>();
+    private final Randomly r;
+
+    public SQLite3PragmaGenerator(Randomly r) {
+        this.r = r;
+    }
 
     public void createPragma(String pragmaName, Supplier<Object> supplier) {
-        boolean setSchema = Randomly.getBoolean();
-        boolean setValue = Randomly.getBoolean();
+        boolean setSchema = r.getBoolean();
+        boolean setValue = r.getBoolean();
         sb.append("PRAGMA ");
         if (setSchema) {
-            sb.append(Randomly.fromOptions("main.", "temp."));
+            sb.append(r.fromOptions("main.", "temp."));
         }
         sb.append(pragmaName);
         if (setValue) {
@@ -80,34 +85,33 @@ public class SQLite3PragmaGenerator {
     }
 
     public QueryAdapter insert(SQLite3GlobalState globalState) {
-        Randomly r = globalState.getRandomly();
-        Pragma p = Randomly.fromOptions(Pragma.values());
+        Pragma p = r.fromOptions(Pragma.values());
         switch (p) {
         case APPLICATION_ID:
-            createPragma("application_id", () -> Randomly.getNonCachedInteger());
+            createPragma("application_id", () -> r.getNonCachedInteger());
             break;
         case AUTO_VACUUM:
-            createPragma("auto_vacuum", () -> Randomly.fromOptions("NONE", "FULL", "INCREMENTAL"));
+            createPragma("auto_vacuum", () -> r.fromOptions("NONE", "FULL", "INCREMENTAL"));
             break;
         case AUTOMATIC_INDEX:
             createPragma("automatic_index", () -> getRandomTextBoolean());
             break;
         case BUSY_TIMEOUT:
             createPragma("busy_timeout", () -> {
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     return 0;
                 } else {
-                    return Math.max(10000, Randomly.getNonCachedInteger());
+                    return Math.max(10000, r.getNonCachedInteger());
                 }
 
             });
             break;
         case CACHE_SIZE:
             createPragma("cache_size", () -> {
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     return 0;
                 } else {
-                    return Randomly.getNonCachedInteger();
+                    return r.getNonCachedInteger();
                 }
             });
             break;
@@ -115,7 +119,7 @@ public class SQLite3PragmaGenerator {
             createPragma("cache_spill", () -> getRandomTextBoolean());
             break;
         case CACHE_SPILL_SIZE:
-            createPragma("cache_spill", () -> Randomly.getNonCachedInteger());
+            createPragma("cache_spill", () -> r.getNonCachedInteger());
             break;
         case CELL_SIZE_CHECK:
             createPragma("cell_size_check", () -> getRandomTextBoolean());
@@ -147,7 +151,7 @@ public class SQLite3PragmaGenerator {
             createPragma("ignore_check_constraints", () -> getRandomTextBoolean());
             break;
         case INCREMENTAL_VACUUM:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 createPragma("incremental_vacuum", () -> null);
             } else {
                 sb.append(String.format("PRAGMA incremental_vacuum(%d)", r.getInteger()));
@@ -161,7 +165,7 @@ public class SQLite3PragmaGenerator {
             // errors.add("needs an odd number of arguments");
             // errors.add("overflow");
             // errors.add("JSON path error");
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 createPragma("integrity_check", () -> null);
             } else {
                 sb.append(String.format("PRAGMA integrity_check(%d)", r.getInteger()));
@@ -170,15 +174,15 @@ public class SQLite3PragmaGenerator {
         case JOURNAL_MODE:
             // OFF is no longer generated, since it might corrupt the database upon failed
             // index creation, see https://www.sqlite.org/src/tktview?name=f4ec250930.
-            createPragma("journal_mode", () -> Randomly.fromOptions("DELETE", "TRUNCATE", "PERSIST", "MEMORY", "WAL"));
+            createPragma("journal_mode", () -> r.fromOptions("DELETE", "TRUNCATE", "PERSIST", "MEMORY", "WAL"));
             errors.add("from within a transaction");
             break;
         case JOURNAL_SIZE_LIMIT:
             createPragma("journal_size_limit", () -> {
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     return 0;
                 } else {
-                    return Randomly.getNonCachedInteger();
+                    return r.getNonCachedInteger();
                 }
 
             });
@@ -187,10 +191,10 @@ public class SQLite3PragmaGenerator {
             createPragma("legacy_file_format", () -> getRandomTextBoolean());
             break;
         case LOCKING_MODE:
-            createPragma("locking_mode", () -> Randomly.fromOptions("NORMAL", "EXCLUSIVE"));
+            createPragma("locking_mode", () -> r.fromOptions("NORMAL", "EXCLUSIVE"));
             break;
         case MMAP_SIZE:
-            createPragma("mmap_size", () -> Randomly.getNonCachedInteger());
+            createPragma("mmap_size", () -> r.getNonCachedInteger());
             break;
         case OPTIMIZE:
             createPragma("optimize", () -> null);
@@ -202,7 +206,7 @@ public class SQLite3PragmaGenerator {
             createPragma("reverse_unordered_selects", () -> getRandomTextBoolean());
             break;
         case SECURE_DELETE:
-            createPragma("secure_delete", () -> Randomly.fromOptions("true", "false", "FAST"));
+            createPragma("secure_delete", () -> r.fromOptions("true", "false", "FAST"));
             break;
         case SHORT_COLUMN_NAMES:
             createPragma("short_column_names", () -> getRandomTextBoolean());
@@ -212,7 +216,7 @@ public class SQLite3PragmaGenerator {
             break;
         case SOFT_HEAP_LIMIT:
             createPragma("soft_heap_limit", () -> {
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     return 0;
                 } else {
                     return r.getPositiveInteger();
@@ -226,14 +230,14 @@ public class SQLite3PragmaGenerator {
         // createPragma("temp_store", () -> Randomly.fromOptions("DEFAULT", "FILE", "MEMORY"));
         // break;
         case THREADS:
-            createPragma("threads", () -> Randomly.getNonCachedInteger());
+            createPragma("threads", () -> r.getNonCachedInteger());
             break;
         case WAL_AUTOCHECKPOINT:
-            createPragma("wal_autocheckpoint", () -> Randomly.getNonCachedInteger());
+            createPragma("wal_autocheckpoint", () -> r.getNonCachedInteger());
             break;
         case WAL_CHECKPOINT:
             sb.append("PRAGMA wal_checkpoint(");
-            sb.append(Randomly.fromOptions("PASSIVE", "FULL", "RESTART", "TRUNCATE"));
+            sb.append(r.fromOptions("PASSIVE", "FULL", "RESTART", "TRUNCATE"));
             sb.append(")");
             errors.add("database table is locked");
             break;
@@ -247,11 +251,11 @@ public class SQLite3PragmaGenerator {
     }
 
     public static QueryAdapter insertPragma(SQLite3GlobalState globalState) throws SQLException {
-        return new SQLite3PragmaGenerator().insert(globalState);
+        return new SQLite3PragmaGenerator(globalState.getRandomly()).insert(globalState);
     }
 
-    private static String getRandomTextBoolean() {
-        return Randomly.fromOptions("true", "false");
+    private String getRandomTextBoolean() {
+        return r.fromOptions("true", "false");
     }
 
 }
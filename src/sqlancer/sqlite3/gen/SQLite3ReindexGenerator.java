@@ -5,7 +5,6 @@ import java.util.List;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.schema.SQLite3Schema;
 
@@ -25,21 +24,22 @@ public final class SQLite3ReindexGenerator {
         SQLite3Schema s = globalState.getSchema();
         StringBuilder sb = new StringBuilder("REINDEX");
         List<String> errors = new ArrayList<>();
-        Target t = Randomly.fromOptions(Target.values());
-        if (Randomly.getBoolean()) {
+        Target t = globalState.getRandomly().fromOptions(Target.values());
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
             switch (t) {
             case INDEX:
-                sb.append(s.getRandomIndexOrBailout());
+                sb.append(s.getRandomIndexOrBailout(globalState.getRandomly()));
                 // temp table
                 errors.add("unable to identify the object to be reindexed");
                 break;
             case COLLATION_NAME:
-                sb.append(Randomly.fromOptions("BINARY", "NOCASE", "RTRIM"));
+                sb.append(globalState.getRandomly().fromOptions("BINARY", "NOCASE", "RTRIM"));
                 break;
             case TABLE:
                 sb.append(" ");
-                sb.append(s.getRandomTableOrBailout(tab -> !tab.isTemp() && !tab.isView()).getName());
+                sb.append(s.getRandomTableOrBailout(tab -> !tab.isTemp() && !tab.isView(), globalState.getRandomly())
+                        .getName());
                 break;
             default:
                 throw new AssertionError(t);
@@ -4,7 +4,6 @@ import java.util.Arrays;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 
 public final class SQLite3TransactionGenerator {
@@ -14,8 +13,8 @@ public final class SQLite3TransactionGenerator {
 
     public static Query generateCommit(SQLite3GlobalState globalState) {
         StringBuilder sb = new StringBuilder();
-        sb.append(Randomly.fromOptions("COMMIT", "END"));
-        if (Randomly.getBoolean()) {
+        sb.append(globalState.getRandomly().fromOptions("COMMIT", "END"));
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" TRANSACTION");
         }
         return new QueryAdapter(sb.toString(),
@@ -25,8 +24,8 @@ public final class SQLite3TransactionGenerator {
     public static Query generateBeginTransaction(SQLite3GlobalState globalState) {
         StringBuilder sb = new StringBuilder();
         sb.append("BEGIN ");
-        if (Randomly.getBoolean()) {
-            sb.append(Randomly.fromOptions("DEFERRED", "IMMEDIATE", "EXCLUSIVE"));
+        if (globalState.getRandomly().getBoolean()) {
+            sb.append(globalState.getRandomly().fromOptions("DEFERRED", "IMMEDIATE", "EXCLUSIVE"));
         }
         sb.append(" TRANSACTION;");
         return new QueryAdapter(sb.toString(), Arrays.asList("cannot start a transaction within a transaction"));
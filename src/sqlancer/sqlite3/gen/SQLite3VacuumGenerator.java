@@ -4,7 +4,6 @@ import java.util.Arrays;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 
 /**
@@ -17,9 +16,9 @@ public final class SQLite3VacuumGenerator {
 
     public static Query executeVacuum(SQLite3GlobalState globalState) {
         StringBuilder sb = new StringBuilder("VACUUM");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("temp", "main"));
+            sb.append(globalState.getRandomly().fromOptions("temp", "main"));
         }
         return new QueryAdapter(sb.toString(), Arrays.asList("cannot VACUUM from within a transaction"));
     }
@@ -33,8 +33,8 @@ public class SQLite3VirtualFTSTableCommandGenerator {
 
     private Query generate() {
         errors.add("has no column named rank");
-        SQLite3Table vTable = s.getRandomTableOrBailout(t -> t.isVirtual() && t.getName().startsWith("vt"));
-        Action a = Randomly.fromOptions(Action.values());
+        SQLite3Table vTable = s.getRandomTableOrBailout(t -> t.isVirtual() && t.getName().startsWith("vt"), r);
+        Action a = r.fromOptions(Action.values());
         switch (a) {
         case AUTOMERGE:
         case CRISISMERGE:
@@ -42,7 +42,7 @@ public class SQLite3VirtualFTSTableCommandGenerator {
             sb.append("INSERT INTO ");
             sb.append(vTable.getName());
             if (a == Action.AUTOMERGE) {
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     // FTS5 syntax
                     sb.append(String.format("(%s, rank)", vTable.getName()));
                     sb.append(String.format(" VALUES('automerge', %d)", r.getInteger(0, 16)));
@@ -65,7 +65,7 @@ public class SQLite3VirtualFTSTableCommandGenerator {
                     String.format("INSERT INTO %s(%s) VALUES('integrity-check');", vTable.getName(), vTable.getName()));
             break;
         case MERGE:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 // FTS5 syntax
                 sb.append(String.format("INSERT INTO %s(%s, rank) VALUES('merge', %d);\n", vTable.getName(),
                         vTable.getName(), r.getInteger()));
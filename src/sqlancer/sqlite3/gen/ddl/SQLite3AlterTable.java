@@ -6,7 +6,6 @@ import java.util.List;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.gen.SQLite3ColumnBuilder;
 import sqlancer.sqlite3.gen.SQLite3Common;
@@ -47,8 +46,9 @@ public class SQLite3AlterTable {
         errors.add("subqueries prohibited in CHECK constraints");
         errors.add("subqueries prohibited in index expressions");
         errors.add("parser stack overflow");
-        Option option = Randomly.fromOptions(Option.values());
-        SQLite3Table t = s.getRandomTableOrBailout(tab -> !tab.isView() && !tab.isVirtual() && !tab.isReadOnly());
+        Option option = globalState.getRandomly().fromOptions(Option.values());
+        SQLite3Table t = s.getRandomTableOrBailout(tab -> !tab.isView() && !tab.isVirtual() && !tab.isReadOnly(),
+                globalState.getRandomly());
         sb.append("ALTER TABLE ");
         sb.append(t.getName());
         switch (option) {
@@ -57,15 +57,15 @@ public class SQLite3AlterTable {
             sb.append(SQLite3Common.getFreeTableName(s));
             break;
         case RENAME_COLUMN:
-            SQLite3Column c = t.getRandomColumn();
+            SQLite3Column c = t.getRandomColumn(globalState.getRandomly());
             sb.append(" RENAME COLUMN ");
             sb.append(c.getName());
             sb.append(" TO ");
-            sb.append(SQLite3Common.getFreeColumnName(t));
+            sb.append(SQLite3Common.getFreeColumnName(t, globalState.getRandomly()));
             break;
         case ADD_COLUMN:
             sb.append(" ADD COLUMN ");
-            String name = SQLite3Common.getFreeColumnName(t);
+            String name = SQLite3Common.getFreeColumnName(t, globalState.getRandomly());
             // The column may not have a PRIMARY KEY or UNIQUE constraint.
             // The column may not have a default value of CURRENT_TIME, CURRENT_DATE,
             // CURRENT_TIMESTAMP, or an expression in parentheses.
@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
 import sqlancer.Randomly;
@@ -34,24 +35,24 @@ public final class SQLite3CreateTriggerGenerator {
     public static Query create(SQLite3GlobalState globalState) throws SQLException {
         SQLite3Schema s = globalState.getSchema();
         StringBuilder sb = new StringBuilder();
-        SQLite3Table table = s.getRandomTableOrBailout(t -> !t.isVirtual());
+        SQLite3Table table = s.getRandomTableOrBailout(t -> !t.isVirtual(), globalState.getRandomly());
         sb.append("CREATE");
         if (table.isTemp()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("TEMP", "TEMPORARY"));
+            sb.append(globalState.getRandomly().fromOptions("TEMP", "TEMPORARY"));
         }
         sb.append(" TRIGGER");
         sb.append(" IF NOT EXISTS ");
-        sb.append("tr" + Randomly.smallNumber());
+        sb.append("tr" + globalState.getRandomly().smallNumber());
         sb.append(" ");
         if (table.isView()) {
             sb.append("INSTEAD OF");
         } else {
-            sb.append(Randomly.fromOptions("BEFORE", "AFTER"));
+            sb.append(globalState.getRandomly().fromOptions("BEFORE", "AFTER"));
         }
         sb.append(" ");
 
-        OnAction randomAction = Randomly.fromOptions(OnAction.values());
+        OnAction randomAction = globalState.getRandomly().fromOptions(OnAction.values());
         switch (randomAction) {
         case INSERT:
             sb.append("INSERT ON ");
@@ -61,13 +62,13 @@ public final class SQLite3CreateTriggerGenerator {
             break;
         case UPDATE:
             sb.append("UPDATE ");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("OF ");
-                for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+                for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
                     if (i != 0) {
                         sb.append(", ");
                     }
-                    sb.append(table.getRandomColumn().getName());
+                    sb.append(table.getRandomColumn(globalState.getRandomly()).getName());
                 }
                 sb.append(" ");
             }
@@ -78,10 +79,10 @@ public final class SQLite3CreateTriggerGenerator {
         }
         appendTableNameAndWhen(globalState, sb, table);
 
-        SQLite3Table randomActionTable = s.getRandomTableNoViewOrBailout();
+        SQLite3Table randomActionTable = s.getRandomTableNoViewOrBailout(globalState.getRandomly());
         sb.append(" BEGIN ");
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
-            switch (Randomly.fromOptions(TriggerAction.values())) {
+        for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
+            switch (globalState.getRandomly().fromOptions(TriggerAction.values())) {
             case DELETE:
                 sb.append(SQLite3DeleteGenerator.deleteContent(globalState, randomActionTable));
                 break;
@@ -93,10 +94,10 @@ public final class SQLite3CreateTriggerGenerator {
                 break;
             case RAISE:
                 sb.append("SELECT RAISE(");
-                if (Randomly.getBoolean()) {
+                if (globalState.getRandomly().getBoolean()) {
                     sb.append("IGNORE");
                 } else {
-                    sb.append(Randomly.fromOptions("ROLLBACK", "ABORT", "FAIL"));
+                    sb.append(globalState.getRandomly().fromOptions("ROLLBACK", "ABORT", "FAIL"));
                     sb.append(", 'asdf'");
                 }
                 sb.append(")");
@@ -114,32 +115,34 @@ public final class SQLite3CreateTriggerGenerator {
 
     private static void appendTableNameAndWhen(SQLite3GlobalState globalState, StringBuilder sb, SQLite3Table table) {
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" FOR EACH ROW ");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHEN ");
             sb.append(SQLite3Visitor.asString(
-                    new SQLite3ExpressionGenerator(globalState).setColumns(table.getColumns()).generateExpression()));
+                    new SQLite3ExpressionGenerator(globalState).setColumns(table.getColumns()).generateExpression(),
+                    globalState.getRandomly()));
         }
     }
 
     private static String getQueryString(SQLite3Schema s, SQLite3GlobalState globalState) throws SQLException {
         String q;
         do {
-            q = SQLite3InsertGenerator.insertRow(globalState, getTableNotEqualsTo(s, s.getRandomTableNoViewOrBailout()))
+            q = SQLite3InsertGenerator.insertRow(globalState, getTableNotEqualsTo(s,
+                    s.getRandomTableNoViewOrBailout(globalState.getRandomly()), globalState.getRandomly()))
                     .getQueryString();
         } while (q.contains("DEFAULT VALUES"));
         return q;
     }
 
-    private static SQLite3Table getTableNotEqualsTo(SQLite3Schema s, SQLite3Table table) {
+    private static SQLite3Table getTableNotEqualsTo(SQLite3Schema s, SQLite3Table table, Randomly r) {
         List<SQLite3Table> tables = new ArrayList<>(s.getDatabaseTablesWithoutViews());
         tables.remove(table);
         if (tables.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
-        return Randomly.fromList(tables);
+        return r.fromList(tables);
     }
 
 }
@@ -40,7 +40,7 @@ public class SQLite3CreateVirtualFTSTableGenerator {
         sb.append("CREATE VIRTUAL TABLE ");
         sb.append(tableName);
         sb.append(" USING ");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             createFts4Table();
         } else {
             createFts5Table();
@@ -50,14 +50,14 @@ public class SQLite3CreateVirtualFTSTableGenerator {
 
     private void createFts4Table() {
         createTable("fts4", () -> {
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" UNINDEXED");
             }
         }, () -> {
             List<Fts4Options> possibleActions = new ArrayList<>(Arrays.asList(Fts4Options.values()));
-            for (int i = 0; i < Randomly.smallNumber(); i++) {
+            for (int i = 0; i < r.smallNumber(); i++) {
                 sb.append(", ");
-                Fts4Options option = Randomly.fromList(possibleActions);
+                Fts4Options option = r.fromList(possibleActions);
                 switch (option) {
                 case COMPRESS:
                     sb.append("compress=likely, uncompress=likely");
@@ -67,7 +67,7 @@ public class SQLite3CreateVirtualFTSTableGenerator {
                     break;
                 case TOKENIZE:
                     sb.append("tokenize=");
-                    sb.append(Randomly.fromOptions("simple", "porter", "unicode61"));
+                    sb.append(r.fromOptions("simple", "porter", "unicode61"));
                     possibleActions.remove(Fts4Options.TOKENIZE);
                     break;
                 case PREFIX:
@@ -77,7 +77,7 @@ public class SQLite3CreateVirtualFTSTableGenerator {
                     break;
                 case ORDER:
                     sb.append("order=");
-                    sb.append(Randomly.fromOptions("ASC", "DESC"));
+                    sb.append(r.fromOptions("ASC", "DESC"));
                     break;
                 case LANGUAGEID:
                     sb.append("languageid=\"lid\"");
@@ -100,25 +100,25 @@ public class SQLite3CreateVirtualFTSTableGenerator {
 
     private void createFts5Table() throws AssertionError {
         createTable("fts5", () -> {
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 // 4.1. The UNINDEXED column option
                 sb.append(" UNINDEXED");
             }
         }, () -> {
             List<Fts5Options> possibleActions = new ArrayList<>(Arrays.asList(Fts5Options.values()));
-            for (int i = 0; i < Randomly.smallNumber(); i++) {
-                Fts5Options option = Randomly.fromList(possibleActions);
+            for (int i = 0; i < r.smallNumber(); i++) {
+                Fts5Options option = r.fromList(possibleActions);
                 sb.append(", ");
                 switch (option) {
                 case COLUMNSIZE:
-                    if (Randomly.getBoolean()) {
+                    if (r.getBoolean()) {
                         sb.append(", columnsize=");
-                        sb.append(Randomly.fromOptions(0, 1));
+                        sb.append(r.fromOptions(0, 1));
                     }
                     break;
                 case DETAIL:
                     sb.append("detail=");
-                    sb.append(Randomly.fromOptions("full", "column", "none"));
+                    sb.append(r.fromOptions("full", "column", "none"));
                     break;
                 case PREFIX:
                     prefix();
@@ -126,18 +126,18 @@ public class SQLite3CreateVirtualFTSTableGenerator {
                 case TOKENIZE:
                     sb.append("tokenize = ");
                     sb.append("\"");
-                    String tokenizer = Randomly.fromOptions("porter ascii", "porter", "unicode61", "ascii");
+                    String tokenizer = r.fromOptions("porter ascii", "porter", "unicode61", "ascii");
                     sb.append(tokenizer);
                     if (tokenizer.contentEquals("unicode61")) {
-                        if (Randomly.getBoolean()) {
+                        if (r.getBoolean()) {
                             sb.append(" remove_diacritics ");
-                            sb.append(Randomly.fromOptions(0, 1, 2));
+                            sb.append(r.fromOptions(0, 1, 2));
                         }
-                        if (Randomly.getBoolean()) {
+                        if (r.getBoolean()) {
                             sb.append(" tokenchars ");
                             getString();
                         }
-                        if (Randomly.getBoolean()) {
+                        if (r.getBoolean()) {
                             sb.append(" separators ");
                             getString();
                         }
@@ -169,7 +169,7 @@ public class SQLite3CreateVirtualFTSTableGenerator {
     private void createTable(String ftsVersion, Ac columnAction, Ac tableAction) {
         sb.append(ftsVersion);
         sb.append("(");
-        for (int i = 0; i < 1 + Randomly.smallNumber(); i++) {
+        for (int i = 0; i < 1 + r.smallNumber(); i++) {
             if (i != 0) {
                 sb.append(", ");
             }
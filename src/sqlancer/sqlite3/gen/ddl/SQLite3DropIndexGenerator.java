@@ -4,7 +4,6 @@ import java.util.Arrays;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 
 // see https://www.sqlite.org/lang_dropindex.html
@@ -14,10 +13,10 @@ public final class SQLite3DropIndexGenerator {
     }
 
     public static Query dropIndex(SQLite3GlobalState globalState) {
-        String indexName = globalState.getSchema().getRandomIndexOrBailout();
+        String indexName = globalState.getSchema().getRandomIndexOrBailout(globalState.getRandomly());
         StringBuilder sb = new StringBuilder();
         sb.append("DROP INDEX ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("IF EXISTS ");
         }
         sb.append('"');
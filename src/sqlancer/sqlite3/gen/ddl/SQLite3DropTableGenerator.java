@@ -3,9 +3,9 @@ package sqlancer.sqlite3.gen.ddl;
 import java.util.Arrays;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 
 public final class SQLite3DropTableGenerator {
@@ -15,13 +15,14 @@ public final class SQLite3DropTableGenerator {
 
     public static Query dropTable(SQLite3GlobalState globalState) {
         if (globalState.getSchema().getTables(t -> !t.isView()).size() == 1) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
         StringBuilder sb = new StringBuilder("DROP TABLE ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("IF EXISTS ");
         }
-        sb.append(globalState.getSchema().getRandomTableOrBailout(t -> !t.isView()).getName());
+        sb.append(globalState.getSchema().getRandomTableOrBailout(t -> !t.isView(), globalState.getRandomly())
+                .getName());
         return new QueryAdapter(sb.toString(),
                 Arrays.asList("[SQLITE_ERROR] SQL error or missing database (foreign key mismatch",
                         "Abort due to constraint violation (FOREIGN KEY constraint failed)",
@@ -7,7 +7,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Errors;
 import sqlancer.sqlite3.SQLite3Provider;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
@@ -33,8 +32,8 @@ public class SQLite3IndexGenerator {
     }
 
     private Query create() throws SQLException {
-        SQLite3Table t = globalState.getSchema()
-                .getRandomTableOrBailout(tab -> !tab.isView() && !tab.isVirtual() && !tab.isReadOnly());
+        SQLite3Table t = globalState.getSchema().getRandomTableOrBailout(
+                tab -> !tab.isView() && !tab.isVirtual() && !tab.isReadOnly(), globalState.getRandomly());
         String q = createIndex(t, t.getColumns());
         errors.add("no such collation sequence: UINT");
         errors.add("[SQLITE_ERROR] SQL error or missing database (parser stack overflow)");
@@ -64,15 +63,15 @@ public class SQLite3IndexGenerator {
     private String createIndex(SQLite3Table t, List<SQLite3Column> columns) {
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             errors.add("[SQLITE_CONSTRAINT]  Abort due to constraint violation (UNIQUE constraint failed");
             sb.append(" UNIQUE");
         }
         sb.append(" INDEX");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" IF NOT EXISTS");
         }
-        sb.append(" " + SQLite3Common.getFreeIndexName(globalState.getSchema()));
+        sb.append(" " + SQLite3Common.getFreeIndexName(globalState.getSchema(), globalState.getRandomly()));
         sb.append(" ON");
         sb.append(" " + t.getName());
         sb.append("(");
@@ -82,21 +81,21 @@ public class SQLite3IndexGenerator {
             }
             SQLite3Expression expr = new SQLite3ExpressionGenerator(globalState).setColumns(columns).deterministicOnly()
                     .generateExpression();
-            SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor();
+            SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor(globalState.getRandomly());
             visitor.fullyQualifiedNames = false;
             visitor.visit(expr);
             sb.append(visitor.get());
-            if (Randomly.getBoolean()) {
-                sb.append(SQLite3Common.getRandomCollate());
+            if (globalState.getRandomly().getBoolean()) {
+                sb.append(SQLite3Common.getRandomCollate(globalState.getRandomly()));
             }
             appendPotentialOrdering(sb);
         }
         sb.append(")");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
             SQLite3Expression expr = new SQLite3ExpressionGenerator(globalState).setColumns(columns).deterministicOnly()
                     .generateExpression();
-            SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor();
+            SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor(globalState.getRandomly());
             visitor.fullyQualifiedNames = false;
             visitor.visit(expr);
             sb.append(visitor.get());
@@ -108,8 +107,8 @@ public class SQLite3IndexGenerator {
      * Appends ASC, DESC, or nothing
      */
     private void appendPotentialOrdering(StringBuilder sb) {
-        if (Randomly.getBoolean()) {
-            if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" ASC");
             } else {
                 sb.append(" DESC");
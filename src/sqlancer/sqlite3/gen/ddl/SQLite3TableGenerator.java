@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Errors;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.gen.SQLite3ColumnBuilder;
@@ -60,22 +59,22 @@ public class SQLite3TableGenerator {
 
     public void start() {
         sb.append("CREATE ");
-        if (globalState.getDmbsSpecificOptions().testTempTables && Randomly.getBoolean()) {
+        if (globalState.getDmbsSpecificOptions().testTempTables && globalState.getRandomly().getBoolean()) {
             tempTable = true;
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append("TEMP ");
             } else {
                 sb.append("TEMPORARY ");
             }
         }
         sb.append("TABLE ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("IF NOT EXISTS ");
         }
         sb.append(tableName + " ");
         sb.append("(");
-        boolean allowPrimaryKeyInColumn = Randomly.getBoolean();
-        int nrColumns = 1 + Randomly.smallNumber();
+        boolean allowPrimaryKeyInColumn = globalState.getRandomly().getBoolean();
+        int nrColumns = 1 + globalState.getRandomly().smallNumber();
         for (int i = 0; i < nrColumns; i++) {
             columns.add(SQLite3Column.createDummy(SQLite3Common.createColumnName(i)));
         }
@@ -98,28 +97,29 @@ public class SQLite3TableGenerator {
             columnNames.add(columnName);
             columnId++;
         }
-        if (!containsPrimaryKey && Randomly.getBooleanWithSmallProbability()) {
+        if (!containsPrimaryKey && globalState.getRandomly().getBooleanWithSmallProbability()) {
             addColumnConstraints("PRIMARY KEY");
             containsPrimaryKey = true;
         }
-        if (Randomly.getBooleanWithSmallProbability()) {
-            for (int i = 0; i < Randomly.smallNumber(); i++) {
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
+            for (int i = 0; i < globalState.getRandomly().smallNumber(); i++) {
                 addColumnConstraints("UNIQUE");
             }
         }
 
-        if (globalState.getDmbsSpecificOptions().testForeignKeys && Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getDmbsSpecificOptions().testForeignKeys
+                && globalState.getRandomly().getBooleanWithSmallProbability()) {
             addForeignKey();
         }
 
         if (globalState.getDmbsSpecificOptions().testCheckConstraints
-                && Randomly.getBooleanWithRatherLowProbability()) {
+                && globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             sb.append(SQLite3Common.getCheckConstraint(globalState, columns));
         }
 
         sb.append(")");
         if (globalState.getDmbsSpecificOptions().testWithoutRowids && containsPrimaryKey && !containsAutoIncrement
-                && Randomly.getBoolean()) {
+                && globalState.getRandomly().getBoolean()) {
             // see https://sqlite.org/withoutrowid.html
             sb.append(" WITHOUT ROWID");
         }
@@ -127,13 +127,13 @@ public class SQLite3TableGenerator {
 
     private void addColumnConstraints(String s) {
         sb.append(", " + s + " (");
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < globalState.getRandomly().smallNumber() + 1; i++) {
             if (i != 0) {
                 sb.append(", ");
             }
-            sb.append(Randomly.fromList(columnNames));
-            if (Randomly.getBoolean()) {
-                sb.append(Randomly.fromOptions(" ASC", " DESC"));
+            sb.append(globalState.getRandomly().fromList(columnNames));
+            if (globalState.getRandomly().getBoolean()) {
+                sb.append(globalState.getRandomly().fromOptions(" ASC", " DESC"));
             }
         }
         sb.append(")");
@@ -145,13 +145,13 @@ public class SQLite3TableGenerator {
     private void addForeignKey() {
         assert globalState.getDmbsSpecificOptions().testForeignKeys;
         List<String> foreignKeyColumns = new ArrayList<>();
-        if (Randomly.getBoolean()) {
-            foreignKeyColumns = Arrays.asList(Randomly.fromList(columnNames));
+        if (globalState.getRandomly().getBoolean()) {
+            foreignKeyColumns = Arrays.asList(globalState.getRandomly().fromList(columnNames));
         } else {
             foreignKeyColumns = new ArrayList<>();
             do {
-                foreignKeyColumns.add(Randomly.fromList(columnNames));
-            } while (Randomly.getBoolean());
+                foreignKeyColumns.add(globalState.getRandomly().fromList(columnNames));
+            } while (globalState.getRandomly().getBoolean());
         }
         sb.append(", FOREIGN KEY(");
         sb.append(foreignKeyColumns.stream().collect(Collectors.joining(", ")));
@@ -159,11 +159,12 @@ public class SQLite3TableGenerator {
         sb.append(" REFERENCES ");
         String referencedTableName;
         List<String> columns = new ArrayList<>();
-        if (existingSchema.getDatabaseTables().isEmpty() || Randomly.getBooleanWithSmallProbability()) {
+        if (existingSchema.getDatabaseTables().isEmpty()
+                || globalState.getRandomly().getBooleanWithSmallProbability()) {
             // the foreign key references our own table
             referencedTableName = tableName;
             for (int i = 0; i < foreignKeyColumns.size(); i++) {
-                columns.add(Randomly.fromList(columnNames));
+                columns.add(globalState.getRandomly().fromList(columnNames));
             }
         } else {
             final TableKind type = tempTable ? TableKind.TEMP : TableKind.MAIN;
@@ -172,13 +173,13 @@ public class SQLite3TableGenerator {
             if (applicableTables.isEmpty()) {
                 referencedTableName = tableName;
                 for (int i = 0; i < foreignKeyColumns.size(); i++) {
-                    columns.add(Randomly.fromList(columnNames));
+                    columns.add(globalState.getRandomly().fromList(columnNames));
                 }
             } else {
-                SQLite3Table randomTable = Randomly.fromList(applicableTables);
+                SQLite3Table randomTable = globalState.getRandomly().fromList(applicableTables);
                 referencedTableName = randomTable.getName();
                 for (int i = 0; i < foreignKeyColumns.size(); i++) {
-                    columns.add(randomTable.getRandomColumn().getName());
+                    columns.add(randomTable.getRandomColumn(globalState.getRandomly()).getName());
                 }
             }
         }
@@ -188,10 +189,10 @@ public class SQLite3TableGenerator {
         sb.append(")");
         addActionClause(" ON DELETE ");
         addActionClause(" ON UPDATE ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             // add a deferrable clause
             sb.append(" ");
-            String deferrable = Randomly.fromOptions("DEFERRABLE INITIALLY DEFERRED",
+            String deferrable = globalState.getRandomly().fromOptions("DEFERRABLE INITIALLY DEFERRED",
                     "NOT DEFERRABLE INITIALLY DEFERRED", "NOT DEFERRABLE INITIALLY IMMEDIATE", "NOT DEFERRABLE",
                     "DEFERRABLE INITIALLY IMMEDIATE", "DEFERRABLE");
             sb.append(deferrable);
@@ -199,10 +200,11 @@ public class SQLite3TableGenerator {
     }
 
     private void addActionClause(String string) {
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             // add an ON DELETE or ON ACTION clause
             sb.append(string);
-            sb.append(Randomly.fromOptions("NO ACTION", "RESTRICT", "SET NULL", "SET DEFAULT", "CASCADE"));
+            sb.append(globalState.getRandomly()
+                    .fromOptions("NO ACTION", "RESTRICT", "SET NULL", "SET DEFAULT", "CASCADE"));
         }
     }
 
@@ -5,9 +5,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.SQLite3Visitor;
 import sqlancer.sqlite3.ast.SQLite3Expression;
@@ -26,26 +26,26 @@ public final class SQLite3ViewGenerator {
     public static Query dropView(SQLite3GlobalState globalState) {
         SQLite3Schema s = globalState.getSchema();
         StringBuilder sb = new StringBuilder("DROP VIEW ");
-        sb.append(s.getRandomViewOrBailout().getName());
+        sb.append(s.getRandomViewOrBailout(globalState.getRandomly()).getName());
         return new QueryAdapter(sb.toString(), true);
     }
 
     public static Query generate(SQLite3GlobalState globalState) throws SQLException {
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("TEMP", "TEMPORARY"));
+            sb.append(globalState.getRandomly().fromOptions("TEMP", "TEMPORARY"));
         }
         sb.append(" VIEW ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" IF NOT EXISTS ");
         }
         sb.append(SQLite3Common.getFreeViewName(globalState.getSchema()));
         List<String> errors = new ArrayList<>();
         errors.add("is circularly defined");
         errors.add("unsupported frame specification");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             SQLite3PivotedQuerySynthesisOracle queryGen = new SQLite3PivotedQuerySynthesisOracle(globalState);
             try {
                 SQLite3Select q = queryGen.getQuery(globalState);
@@ -60,17 +60,17 @@ public final class SQLite3ViewGenerator {
                 }
                 int size = q.getFetchColumns().size();
                 columnNamesAs(sb, size);
-                sb.append(SQLite3Visitor.asString(q));
+                sb.append(SQLite3Visitor.asString(q, globalState.getRandomly()));
                 SQLite3PivotedQuerySynthesisOracle.addExpectedErrors(errors);
                 return new QueryAdapter(sb.toString(), errors, true);
             } catch (AssertionError e) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.UNSUPPORTED);
             }
         } else {
-            int size = 1 + Randomly.smallNumber();
+            int size = 1 + globalState.getRandomly().smallNumber();
             columnNamesAs(sb, size);
             SQLite3Expression randomQuery = SQLite3RandomQuerySynthesizer.generate(globalState, size);
-            sb.append(SQLite3Visitor.asString(randomQuery));
+            sb.append(SQLite3Visitor.asString(randomQuery, globalState.getRandomly()));
             SQLite3PivotedQuerySynthesisOracle.addExpectedErrors(errors);
             return new QueryAdapter(sb.toString(), errors, true);
         }
@@ -6,7 +6,6 @@ import java.util.List;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.sqlite3.SQLite3Errors;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.SQLite3Visitor;
@@ -19,7 +18,8 @@ public final class SQLite3DeleteGenerator {
     }
 
     public static Query deleteContent(SQLite3GlobalState globalState) {
-        SQLite3Table tableName = globalState.getSchema().getRandomTable(t -> !t.isView() && !t.isReadOnly());
+        SQLite3Table tableName = globalState.getSchema()
+                .getRandomTable(t -> !t.isView() && !t.isReadOnly(), globalState.getRandomly());
         return deleteContent(globalState, tableName);
     }
 
@@ -27,10 +27,10 @@ public final class SQLite3DeleteGenerator {
         StringBuilder sb = new StringBuilder();
         sb.append("DELETE FROM ");
         sb.append(tableName.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
             sb.append(SQLite3Visitor.asString(new SQLite3ExpressionGenerator(globalState)
-                    .setColumns(tableName.getColumns()).generateExpression()));
+                    .setColumns(tableName.getColumns()).generateExpression(), globalState.getRandomly()));
         }
         List<String> errors = new ArrayList<>();
         SQLite3Errors.addExpectedExpressionErrors(errors);
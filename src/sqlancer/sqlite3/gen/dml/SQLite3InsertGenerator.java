@@ -31,7 +31,8 @@ public class SQLite3InsertGenerator {
     }
 
     public static Query insertRow(SQLite3GlobalState globalState) throws SQLException {
-        SQLite3Table randomTable = globalState.getSchema().getRandomTableOrBailout(t -> !t.isView() && !t.isReadOnly());
+        SQLite3Table randomTable = globalState.getSchema()
+                .getRandomTableOrBailout(t -> !t.isView() && !t.isReadOnly(), globalState.getRandomly());
         return insertRow(globalState, randomTable);
     }
 
@@ -64,16 +65,16 @@ public class SQLite3InsertGenerator {
         SQLite3Errors.addExpectedExpressionErrors(errors);
         StringBuilder sb = new StringBuilder();
         sb.append("INSERT ");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append("OR IGNORE "); // TODO: try to generate REPLACE
         } else {
-            String fromOptions = Randomly.fromOptions("OR REPLACE ", "OR ABORT ", "OR FAIL ", "OR ROLLBACK ");
+            String fromOptions = r.fromOptions("OR REPLACE ", "OR ABORT ", "OR FAIL ", "OR ROLLBACK ");
             sb.append(fromOptions);
         }
         boolean defaultValues = false;
         sb.append("INTO " + table.getName());
-        List<SQLite3Column> cols = table.getRandomNonEmptyColumnSubset();
-        if (cols.size() != table.getColumns().size() || Randomly.getBoolean()) {
+        List<SQLite3Column> cols = table.getRandomNonEmptyColumnSubset(r);
+        if (cols.size() != table.getColumns().size() || r.getBoolean()) {
             sb.append("(");
             appendColumnNames(cols, sb);
             sb.append(")");
@@ -85,47 +86,47 @@ public class SQLite3InsertGenerator {
             assert cols.size() == table.getColumns().size();
         }
         sb.append(" VALUES ");
-        int nrRows = 1 + Randomly.smallNumber();
+        int nrRows = 1 + r.smallNumber();
         appendNrValues(sb, cols, nrRows);
-        boolean columnsInConflictClause = Randomly.getBoolean();
-        if (!defaultValues && Randomly.getBooleanWithSmallProbability() && !table.isVirtual()) {
+        boolean columnsInConflictClause = r.getBoolean();
+        if (!defaultValues && r.getBooleanWithSmallProbability() && !table.isVirtual()) {
             sb.append(" ON CONFLICT");
             if (columnsInConflictClause) {
                 sb.append("(");
-                sb.append(table.getRandomNonEmptyColumnSubset().stream().map(c -> c.getName())
+                sb.append(table.getRandomNonEmptyColumnSubset(r).stream().map(c -> c.getName())
                         .collect(Collectors.joining(", ")));
                 sb.append(")");
                 errors.add("ON CONFLICT clause does not match any PRIMARY KEY or UNIQUE constraint");
             }
             sb.append(" DO ");
-            if (Randomly.getBoolean() || !columnsInConflictClause) {
+            if (r.getBoolean() || !columnsInConflictClause) {
                 sb.append("NOTHING");
             } else {
                 sb.append("UPDATE SET ");
-                List<SQLite3Column> columns = table.getRandomNonEmptyColumnSubset();
+                List<SQLite3Column> columns = table.getRandomNonEmptyColumnSubset(r);
                 for (int i = 0; i < columns.size(); i++) {
                     if (i != 0) {
                         sb.append(", ");
                     }
                     sb.append(columns.get(i).getName());
                     sb.append("=");
-                    if (Randomly.getBoolean()) {
-                        sb.append(
-                                SQLite3Visitor.asString(SQLite3ExpressionGenerator.getRandomLiteralValue(globalState)));
+                    if (r.getBoolean()) {
+                        sb.append(SQLite3Visitor.asString(SQLite3ExpressionGenerator.getRandomLiteralValue(globalState),
+                                r));
                     } else {
-                        if (Randomly.getBoolean()) {
+                        if (r.getBoolean()) {
                             sb.append("excluded.");
                         }
-                        sb.append(table.getRandomColumn().getName());
+                        sb.append(table.getRandomColumn(r).getName());
                     }
 
                 }
                 errors.add("Abort due to constraint violation");
                 errors.add("Data type mismatch (datatype mismatch)");
-                if (Randomly.getBoolean()) {
+                if (r.getBoolean()) {
                     sb.append(" WHERE ");
                     sb.append(SQLite3Visitor.asString(new SQLite3ExpressionGenerator(globalState)
-                            .setColumns(table.getColumns()).generateExpression()));
+                            .setColumns(table.getColumns()).generateExpression(), r));
                 }
             }
         }
@@ -152,13 +153,13 @@ public class SQLite3InsertGenerator {
             if (columns.get(i).isIntegerPrimaryKey()) {
                 literal = SQLite3Constant.createIntConstant(r.getInteger(0, 1000));
             } else {
-                if (Randomly.getBooleanWithSmallProbability()) {
+                if (r.getBooleanWithSmallProbability()) {
                     literal = new SQLite3ExpressionGenerator(globalState).generateExpression();
                 } else {
                     literal = SQLite3ExpressionGenerator.getRandomLiteralValue(globalState);
                 }
             }
-            SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor();
+            SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor(r);
             visitor.visit(literal);
             sb.append(visitor.get());
         }
@@ -29,7 +29,7 @@ public class SQLite3UpdateGenerator {
 
     public static Query updateRow(SQLite3GlobalState globalState) {
         SQLite3Table randomTableNoViewOrBailout = globalState.getSchema()
-                .getRandomTable(t -> !t.isView() && !t.isReadOnly());
+                .getRandomTable(t -> !t.isView() && !t.isReadOnly(), globalState.getRandomly());
         return updateRow(globalState, randomTableNoViewOrBailout);
     }
 
@@ -40,11 +40,11 @@ public class SQLite3UpdateGenerator {
 
     private Query update(SQLite3Table table) {
         sb.append("UPDATE ");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append("OR IGNORE ");
         } else {
-            if (Randomly.getBoolean()) {
-                String fromOptions = Randomly.fromOptions("OR ROLLBACK", "OR ABORT", "OR REPLACE", "OR FAIL");
+            if (r.getBoolean()) {
+                String fromOptions = r.fromOptions("OR ROLLBACK", "OR ABORT", "OR REPLACE", "OR FAIL");
                 sb.append(fromOptions);
                 sb.append(" ");
             }
@@ -56,8 +56,8 @@ public class SQLite3UpdateGenerator {
 
         sb.append(table.getName());
         sb.append(" SET ");
-        List<SQLite3Column> columnsToUpdate = Randomly.nonEmptySubsetPotentialDuplicates(table.getColumns());
-        if (Randomly.getBoolean()) {
+        List<SQLite3Column> columnsToUpdate = r.nonEmptySubsetPotentialDuplicates(table.getColumns());
+        if (r.getBoolean()) {
             sb.append("(");
             sb.append(columnsToUpdate.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(")");
@@ -82,10 +82,10 @@ public class SQLite3UpdateGenerator {
             }
         }
 
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" WHERE ");
             String whereClause = SQLite3Visitor.asString(
-                    new SQLite3ExpressionGenerator(globalState).setColumns(table.getColumns()).generateExpression());
+                    new SQLite3ExpressionGenerator(globalState).setColumns(table.getColumns()).generateExpression(), r);
             sb.append(whereClause);
         }
 
@@ -122,9 +122,9 @@ public class SQLite3UpdateGenerator {
 
     private void getToUpdateValue(List<SQLite3Column> columnsToUpdate, int i) {
         if (columnsToUpdate.get(i).isIntegerPrimaryKey()) {
-            sb.append(SQLite3Visitor.asString(SQLite3Constant.createIntConstant(r.getInteger())));
+            sb.append(SQLite3Visitor.asString(SQLite3Constant.createIntConstant(r.getInteger()), r));
         } else {
-            sb.append(SQLite3Visitor.asString(SQLite3ExpressionGenerator.getRandomLiteralValue(globalState)));
+            sb.append(SQLite3Visitor.asString(SQLite3ExpressionGenerator.getRandomLiteralValue(globalState), r));
         }
     }
 
@@ -4,7 +4,6 @@ import java.sql.SQLException;
 
 import sqlancer.MainOptions;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.TestOracle;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.SQLite3Visitor;
@@ -20,8 +19,9 @@ public class SQLite3Fuzzer implements TestOracle {
 
     @Override
     public void check() throws SQLException {
-        String s = SQLite3Visitor
-                .asString(SQLite3RandomQuerySynthesizer.generate(globalState, Randomly.smallNumber() + 1)) + ";";
+        String s = SQLite3Visitor.asString(
+                SQLite3RandomQuerySynthesizer.generate(globalState, globalState.getRandomly().smallNumber() + 1),
+                globalState.getRandomly()) + ";";
         MainOptions options = globalState.getOptions();
         try {
             if (options.logEachSelect()) {
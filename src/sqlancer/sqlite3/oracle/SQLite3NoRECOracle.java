@@ -4,15 +4,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
+import sqlancer.CountCheckBatch;
+import sqlancer.CountCheckBatch.CountCheck;
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.StateLogger;
 import sqlancer.MainOptions;
+import sqlancer.PipelinedTestOracle.CheckExecution;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.StateToReproduce.SQLite3StateToReproduce;
 import sqlancer.TestOracle;
 import sqlancer.sqlite3.SQLite3Errors;
@@ -38,13 +40,12 @@ public class SQLite3NoRECOracle implements TestOracle {
     private static final int NO_VALID_RESULT = -1;
     private final SQLite3Schema s;
     private final SQLite3StateToReproduce state;
-    private final Set<String> errors = new HashSet<>();
+    private final ExpectedErrors errors = new ExpectedErrors();
     private final StateLogger logger;
     private final MainOptions options;
     private final SQLite3GlobalState globalState;
+    private final CountCheckBatch batch;
     private SQLite3ExpressionGenerator gen;
-    private String firstQueryString;
-    private String secondQueryString;
 
     public SQLite3NoRECOracle(SQLite3GlobalState globalState) {
         this.s = globalState.getSchema();
@@ -61,50 +62,61 @@ public class SQLite3NoRECOracle implements TestOracle {
         errors.add("no such table");
         errors.add("no query solution");
         errors.add("unable to use function MATCH in the requested context");
+        batch = new CountCheckBatch(globalState, errors);
     }
 
     @Override
     public void check() throws SQLException {
-        SQLite3Tables randomTables = s.getRandomTableNonEmptyTables();
+        SQLite3Tables randomTables = s.getRandomTableNonEmptyTables(globalState.getRandomly());
         List<SQLite3Column> columns = randomTables.getColumns();
         gen = new SQLite3ExpressionGenerator(globalState).setColumns(columns);
         SQLite3Expression randomWhereCondition = gen.generateExpression();
         List<SQLite3Table> tables = randomTables.getTables();
         List<Join> joinStatements = gen.getRandomJoinClauses(tables);
-        List<SQLite3Expression> tableRefs = SQLite3Common.getTableRefs(tables, s);
+        List<SQLite3Expression> tableRefs = SQLite3Common.getTableRefs(tables, s, globalState.getRandomly());
         SQLite3Select select = new SQLite3Select();
         select.setFromTables(tableRefs);
         select.setJoinClauses(joinStatements);
 
-        int optimizedCount = getOptimizedQuery(select, randomWhereCondition);
-        int unoptimizedCount = getUnoptimizedQuery(select, randomWhereCondition);
-        if (optimizedCount == NO_VALID_RESULT || unoptimizedCount == NO_VALID_RESULT) {
-            throw new IgnoreMeException();
-        }
-        if (optimizedCount != unoptimizedCount) {
-            state.queryString = firstQueryString + ";\n" + secondQueryString + ";";
-            throw new AssertionError(optimizedCount + " " + unoptimizedCount);
+        boolean useAggregate = globalState.getRandomly().getBoolean();
+        String optimizedQuery = getOptimizedQuery(select, randomWhereCondition, useAggregate);
+        String unoptimizedQuery = getUnoptimizedQuery(select, randomWhereCondition);
+        CheckExecution check = () -> {
+            int optimizedCount = useAggregate ? extractCounts(optimizedQuery) : countRows(optimizedQuery);
+            int unoptimizedCount = extractCounts(unoptimizedQuery);
+            if (optimizedCount == NO_VALID_RESULT || unoptimizedCount == NO_VALID_RESULT) {
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
+            }
+            if (optimizedCount != unoptimizedCount) {
+                state.queryString = optimizedQuery + ";\n" + unoptimizedQuery + ";";
+                throw new AssertionError(optimizedCount + " " + unoptimizedCount);
+            }
+        };
+        if (useAggregate) {
+            batch.add(new CountCheck(optimizedQuery, unoptimizedQuery, check));
+        } else {
+            // counting the rows in a SELECT COUNT(*) FROM (...) subquery would change the tested query
+            check.execute();
         }
+    }
 
+    @Override
+    public void finishChecks() throws SQLException {
+        batch.flush();
     }
 
-    private int getUnoptimizedQuery(SQLite3Select select, SQLite3Expression randomWhereCondition) throws SQLException {
+    private String getUnoptimizedQuery(SQLite3Select select, SQLite3Expression randomWhereCondition) {
         SQLite3PostfixUnaryOperation isTrue = new SQLite3PostfixUnaryOperation(PostfixUnaryOperator.IS_TRUE,
                 randomWhereCondition);
         SQLite3PostfixText asText = new SQLite3PostfixText(isTrue, " as count", null);
         select.setFetchColumns(Arrays.asList(asText));
         select.setWhereClause(null);
-        secondQueryString = "SELECT SUM(count) FROM (" + SQLite3Visitor.asString(select) + ")";
-        if (options.logEachSelect()) {
-            logger.writeCurrent(secondQueryString);
-        }
-        QueryAdapter q = new QueryAdapter(secondQueryString, errors);
-        return extractCounts(q);
+        return "SELECT SUM(count) FROM (" + SQLite3Visitor.asString(select, globalState.getRandomly()) + ")";
     }
 
-    private int getOptimizedQuery(SQLite3Select select, SQLite3Expression randomWhereCondition) throws SQLException {
-        boolean useAggregate = Randomly.getBoolean();
-        if (Randomly.getBoolean()) {
+    private String getOptimizedQuery(SQLite3Select select, SQLite3Expression randomWhereCondition,
+            boolean useAggregate) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
         if (useAggregate) {
@@ -115,15 +127,14 @@ public class SQLite3NoRECOracle implements TestOracle {
             select.setFetchColumns(Arrays.asList(aggr));
         }
         select.setWhereClause(randomWhereCondition);
-        firstQueryString = SQLite3Visitor.asString(select);
-        if (options.logEachSelect()) {
-            logger.writeCurrent(firstQueryString);
-        }
-        QueryAdapter q = new QueryAdapter(firstQueryString, errors);
-        return useAggregate ? extractCounts(q) : countRows(q);
+        return SQLite3Visitor.asString(select, globalState.getRandomly());
     }
 
-    private int countRows(QueryAdapter q) {
+    private int countRows(String queryString) {
+        if (options.logEachSelect()) {
+            logger.writeCurrent(queryString);
+        }
+        QueryAdapter q = new QueryAdapter(queryString, errors);
         int count = 0;
         try (ResultSet rs = q.executeAndGet(globalState)) {
             if (rs == null) {
@@ -142,12 +153,16 @@ public class SQLite3NoRECOracle implements TestOracle {
             if (e instanceof IgnoreMeException) {
                 throw (IgnoreMeException) e;
             }
-            throw new AssertionError(secondQueryString, e);
+            throw new AssertionError(queryString, e);
         }
         return count;
     }
 
-    private int extractCounts(QueryAdapter q) {
+    private int extractCounts(String queryString) {
+        if (options.logEachSelect()) {
+            logger.writeCurrent(queryString);
+        }
+        QueryAdapter q = new QueryAdapter(queryString, errors);
         int count = 0;
         try (ResultSet rs = q.executeAndGet(globalState)) {
             if (rs == null) {
@@ -166,7 +181,7 @@ public class SQLite3NoRECOracle implements TestOracle {
             if (e instanceof IgnoreMeException) {
                 throw (IgnoreMeException) e;
             }
-            throw new AssertionError(secondQueryString, e);
+            throw new AssertionError(queryString, e);
         }
         return count;
     }
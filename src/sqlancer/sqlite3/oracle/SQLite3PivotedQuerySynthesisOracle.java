@@ -6,11 +6,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
 import sqlancer.Randomly;
@@ -53,7 +56,7 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
     private SQLite3StateToReproduce state;
     private SQLite3RowValue rw;
     private List<SQLite3Column> fetchColumns;
-    private final List<String> errors = new ArrayList<>();
+    private final ExpectedErrors errors = new ExpectedErrors();
     private List<SQLite3Expression> colExpressions;
     private final SQLite3GlobalState globalState;
 
@@ -78,14 +81,14 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
 
     public Query getQueryThatContainsAtLeastOneRow(SQLite3GlobalState state) throws SQLException {
         SQLite3Select selectStatement = getQuery(state);
-        SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor();
+        SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor(state.getRandomly());
         visitor.visit(selectStatement);
         String queryString = visitor.get();
         addExpectedErrors(errors);
         return new QueryAdapter(queryString, errors);
     }
 
-    public static void addExpectedErrors(List<String> errors) {
+    public static void addExpectedErrors(Collection<String> errors) {
         errors.add("no such index");
         errors.add("no query solution");
         errors.add(
@@ -100,29 +103,29 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
     public SQLite3Select getQuery(SQLite3GlobalState globalState) throws SQLException {
         this.state = (SQLite3StateToReproduce) globalState.getState();
         if (s.getDatabaseTables().isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
-        SQLite3Tables randomFromTables = s.getRandomTableNonEmptyTables();
+        SQLite3Tables randomFromTables = s.getRandomTableNonEmptyTables(globalState.getRandomly());
         List<SQLite3Table> tables = randomFromTables.getTables();
 
         globalState.getState().queryTargetedTablesString = randomFromTables.tableNamesAsString();
         SQLite3Select selectStatement = new SQLite3Select();
-        selectStatement.setSelectType(Randomly.fromOptions(SQLite3Select.SelectType.values()));
+        selectStatement.setSelectType(globalState.getRandomly().fromOptions(SQLite3Select.SelectType.values()));
         List<SQLite3Column> columns = randomFromTables.getColumns();
         for (SQLite3Table t : tables) {
             if (t.getRowid() != null) {
                 columns.add(t.getRowid());
             }
         }
-        rw = randomFromTables.getRandomRowValue(database, (SQLite3StateToReproduce) globalState.getState());
+        rw = randomFromTables.getRandomRowValue(globalState);
 
         List<Join> joinStatements = new ArrayList<>();
         for (int i = 1; i < tables.size(); i++) {
             SQLite3Expression joinClause = generateWhereClauseThatContainsRowValue(columns, rw);
-            SQLite3Table table = Randomly.fromList(tables);
+            SQLite3Table table = globalState.getRandomly().fromList(tables);
             tables.remove(table);
             JoinType options;
-            options = Randomly.fromOptions(JoinType.INNER, JoinType.CROSS, JoinType.OUTER);
+            options = globalState.getRandomly().fromOptions(JoinType.INNER, JoinType.CROSS, JoinType.OUTER);
             if (options == JoinType.OUTER && tables.size() > 2) {
                 errors.add("ON clause references tables to its right");
             }
@@ -130,14 +133,14 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
             joinStatements.add(j);
         }
         selectStatement.setJoinClauses(joinStatements);
-        selectStatement.setFromTables(SQLite3Common.getTableRefs(tables, s));
+        selectStatement.setFromTables(SQLite3Common.getTableRefs(tables, s, globalState.getRandomly()));
 
         // TODO: also implement a wild-card check (*)
         // filter out row ids from the select because the hinder the reduction process
         // once a bug is found
         List<SQLite3Column> columnsWithoutRowid = columns.stream().filter(c -> !c.getName().matches("rowid"))
                 .collect(Collectors.toList());
-        fetchColumns = Randomly.nonEmptySubset(columnsWithoutRowid);
+        fetchColumns = globalState.getRandomly().nonEmptySubset(columnsWithoutRowid);
         colExpressions = new ArrayList<>();
         List<SQLite3Table> allTables = new ArrayList<>();
         allTables.addAll(tables);
@@ -145,19 +148,20 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
         boolean allTablesContainOneRow = allTables.stream().allMatch(t -> t.getNrRows() == 1);
         for (SQLite3Column c : fetchColumns) {
             SQLite3Expression colName = new SQLite3ColumnName(c, rw.getValues().get(c));
-            if (allTablesContainOneRow && Randomly.getBoolean()) {
-                boolean generateDistinct = Randomly.getBoolean();
+            if (allTablesContainOneRow && globalState.getRandomly().getBoolean()) {
+                boolean generateDistinct = globalState.getRandomly().getBoolean();
                 if (generateDistinct) {
                     colName = new SQLite3Distinct(colName);
                 }
-                SQLite3AggregateFunction aggFunc = SQLite3AggregateFunction.getRandom(c.getType());
+                SQLite3AggregateFunction aggFunc = SQLite3AggregateFunction
+                        .getRandom(c.getType(), globalState.getRandomly());
                 colName = new SQLite3Aggregate(Arrays.asList(colName), aggFunc);
-                if (Randomly.getBoolean() && !generateDistinct) {
+                if (globalState.getRandomly().getBoolean() && !generateDistinct) {
                     colName = generateWindowFunction(columns, colName, true);
                 }
                 errors.add("second argument to nth_value must be a positive integer");
             }
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 SQLite3Expression randomExpression;
                 do {
                     randomExpression = new SQLite3ExpressionGenerator(globalState).setColumns(columns)
@@ -168,7 +172,7 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
                 colExpressions.add(colName);
             }
         }
-        if (Randomly.getBoolean() && allTablesContainOneRow) {
+        if (globalState.getRandomly().getBoolean() && allTablesContainOneRow) {
             SQLite3WindowFunction windowFunction = SQLite3WindowFunction.getRandom(columnsWithoutRowid, globalState);
             SQLite3Expression windowExpr = generateWindowFunction(columnsWithoutRowid, windowFunction, false);
             colExpressions.add(windowExpr);
@@ -190,10 +194,10 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
         }
         List<SQLite3Expression> orderBy = generateOrderBy(columns);
         selectStatement.setOrderByExpressions(orderBy);
-        if (!groupByClause.isEmpty() && Randomly.getBoolean()) {
+        if (!groupByClause.isEmpty() && globalState.getRandomly().getBoolean()) {
             SQLite3Expression randomExpression = SQLite3Common.getTrueExpression(columns, globalState);
-            if (Randomly.getBoolean()) {
-                SQLite3AggregateFunction aggFunc = SQLite3AggregateFunction.getRandom();
+            if (globalState.getRandomly().getBoolean()) {
+                SQLite3AggregateFunction aggFunc = SQLite3AggregateFunction.getRandom(globalState.getRandomly());
                 randomExpression = new SQLite3Aggregate(Arrays.asList(randomExpression), aggFunc);
             }
             selectStatement.setHavingClause(randomExpression);
@@ -202,7 +206,7 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
     }
 
     private SQLite3Expression generateOffset() {
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             // OFFSET 0
             return SQLite3Constant.createIntConstant(0);
         } else {
@@ -239,10 +243,8 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
             createStatement.close();
             return isContainedIn;
         } catch (SQLException e) {
-            for (String exp : finalQuery.getExpectedErrors()) {
-                if (e.getMessage().contains(exp)) {
-                    return true;
-                }
+            if (ExpectedErrors.from(finalQuery.getExpectedErrors()).errorIsExpected(e.getMessage())) {
+                return true;
             }
             throw e;
         }
@@ -254,16 +256,16 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
                 sb.append(", ");
             }
             SQLite3Constant expectedValue = colExpressions.get(i).getExpectedValue();
-            sb.append(SQLite3Visitor.asString(expectedValue));
+            sb.append(SQLite3Visitor.asString(expectedValue, r));
         }
     }
 
     public List<SQLite3Expression> generateOrderBy(List<SQLite3Column> columns) {
         List<SQLite3Expression> orderBys = new ArrayList<>();
-        for (int i = 0; i < Randomly.smallNumber(); i++) {
+        for (int i = 0; i < r.smallNumber(); i++) {
             SQLite3Expression expr;
             expr = new SQLite3ExpressionGenerator(globalState).setColumns(columns).generateExpression();
-            Ordering order = Randomly.fromOptions(Ordering.ASC, Ordering.DESC);
+            Ordering order = r.fromOptions(Ordering.ASC, Ordering.DESC);
             orderBys.add(new SQLite3OrderingTerm(expr, order));
             // TODO RANDOM()
         }
@@ -273,7 +275,7 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
     }
 
     private SQLite3Expression generateLimit(long l) {
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             return SQLite3Constant.createIntConstant(r.getLong(l, Long.MAX_VALUE));
         } else {
             return null;
@@ -283,20 +285,20 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
     private List<SQLite3Expression> generateGroupByClause(List<SQLite3Column> columns, SQLite3RowValue rw,
             boolean allTablesContainOneRow) {
         errors.add("GROUP BY term out of range");
-        if (allTablesContainOneRow && Randomly.getBoolean()) {
+        if (allTablesContainOneRow && r.getBoolean()) {
             List<SQLite3Expression> collect = new ArrayList<>();
-            for (int i = 0; i < Randomly.smallNumber(); i++) {
+            for (int i = 0; i < r.smallNumber(); i++) {
                 collect.add(new SQLite3ExpressionGenerator(globalState).setColumns(columns).setRowValue(rw)
                         .generateExpression());
             }
             return collect;
         }
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             // ensure that we GROUP BY all columns
             List<SQLite3Expression> collect = columns.stream().map(c -> new SQLite3ColumnName(c, rw.getValues().get(c)))
                     .collect(Collectors.toList());
-            if (Randomly.getBoolean()) {
-                for (int i = 0; i < Randomly.smallNumber(); i++) {
+            if (r.getBoolean()) {
+                for (int i = 0; i < r.smallNumber(); i++) {
                     collect.add(new SQLite3ExpressionGenerator(globalState).setColumns(columns).setRowValue(rw)
                             .generateExpression());
                 }
@@ -334,22 +336,22 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
     private SQLite3Expression generateWindowFunction(List<SQLite3Column> columns, SQLite3Expression colName,
             boolean allowFilter) {
         StringBuilder sb = new StringBuilder();
-        if (Randomly.getBoolean() && allowFilter) {
+        if (r.getBoolean() && allowFilter) {
             appendFilter(columns, sb);
         }
         sb.append(" OVER ");
         sb.append("(");
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             appendPartitionBy(columns, sb);
         }
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(SQLite3Common.getOrderByAsString(columns, globalState));
         }
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("RANGE", "ROWS", "GROUPS"));
+            sb.append(r.fromOptions("RANGE", "ROWS", "GROUPS"));
             sb.append(" ");
-            switch (Randomly.fromOptions(FrameSpec.values())) {
+            switch (r.fromOptions(FrameSpec.values())) {
             case BETWEEN:
                 sb.append("BETWEEN");
                 sb.append(" UNBOUNDED PRECEDING AND CURRENT ROW");
@@ -364,10 +366,10 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
                 throw new AssertionError();
             }
             // sb.append(" BETWEEN CURRENT ROW AND UNBOUNDED FOLLOWING");
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" EXCLUDE ");
                 // "CURRENT ROW", "GROUP"
-                sb.append(Randomly.fromOptions("NO OTHERS", "TIES"));
+                sb.append(r.fromOptions("NO OTHERS", "TIES"));
             }
         }
         sb.append(")");
@@ -378,13 +380,13 @@ public class SQLite3PivotedQuerySynthesisOracle implements TestOracle {
 
     private void appendFilter(List<SQLite3Column> columns, StringBuilder sb) {
         sb.append(" FILTER (WHERE ");
-        sb.append(SQLite3Visitor.asString(generateWhereClauseThatContainsRowValue(columns, rw)));
+        sb.append(SQLite3Visitor.asString(generateWhereClauseThatContainsRowValue(columns, rw), r));
         sb.append(")");
     }
 
     private void appendPartitionBy(List<SQLite3Column> columns, StringBuilder sb) {
         sb.append(" PARTITION BY ");
-        for (int i = 0; i < Randomly.smallNumber() + 1; i++) {
+        for (int i = 0; i < r.smallNumber() + 1; i++) {
             if (i != 0) {
                 sb.append(", ");
             }
@@ -34,7 +34,7 @@ public final class SQLite3RandomQuerySynthesizer {
     public static SQLite3Expression generate(SQLite3GlobalState globalState, int size) {
         Randomly r = globalState.getRandomly();
         SQLite3Schema s = globalState.getSchema();
-        SQLite3Tables targetTables = s.getRandomTableNonEmptyTables();
+        SQLite3Tables targetTables = s.getRandomTableNonEmptyTables(r);
         List<SQLite3Expression> expressions = new ArrayList<>();
         SQLite3ExpressionGenerator gen = new SQLite3ExpressionGenerator(globalState)
                 .setColumns(s.getTables().getColumns());
@@ -45,11 +45,11 @@ public final class SQLite3RandomQuerySynthesizer {
         // SELECT
         SQLite3Select select = new SQLite3Select();
         // DISTINCT or ALL
-        select.setSelectType(Randomly.fromOptions(SelectType.values()));
+        select.setSelectType(r.fromOptions(SelectType.values()));
         for (int i = 0; i < size; i++) {
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (r.getBooleanWithRatherLowProbability()) {
                 SQLite3Expression baseWindowFunction;
-                boolean normalAggregateFunction = Randomly.getBoolean();
+                boolean normalAggregateFunction = r.getBoolean();
                 if (!normalAggregateFunction) {
                     baseWindowFunction = SQLite3WindowFunction.getRandom(targetTables.getColumns(), globalState);
                 } else {
@@ -58,33 +58,33 @@ public final class SQLite3RandomQuerySynthesizer {
                 }
                 SQLite3WindowFunctionExpression windowFunction = new SQLite3WindowFunctionExpression(
                         baseWindowFunction);
-                if (Randomly.getBooleanWithRatherLowProbability() && normalAggregateFunction) {
+                if (r.getBooleanWithRatherLowProbability() && normalAggregateFunction) {
                     windowFunction.setFilterClause(gen.generateExpression());
                 }
-                if (Randomly.getBooleanWithRatherLowProbability()) {
+                if (r.getBooleanWithRatherLowProbability()) {
                     windowFunction.setOrderBy(gen.generateOrderBys());
                 }
-                if (Randomly.getBooleanWithRatherLowProbability()) {
-                    windowFunction.setPartitionBy(gen.getRandomExpressions(Randomly.smallNumber()));
+                if (r.getBooleanWithRatherLowProbability()) {
+                    windowFunction.setPartitionBy(gen.getRandomExpressions(r.smallNumber()));
                 }
-                if (Randomly.getBooleanWithRatherLowProbability()) {
-                    windowFunction.setFrameSpecKind(SQLite3FrameSpecKind.getRandom());
+                if (r.getBooleanWithRatherLowProbability()) {
+                    windowFunction.setFrameSpecKind(SQLite3FrameSpecKind.getRandom(r));
                     SQLite3Expression windowFunctionTerm;
-                    if (Randomly.getBoolean()) {
+                    if (r.getBoolean()) {
                         windowFunctionTerm = new SQLite3WindowFunctionFrameSpecTerm(
-                                Randomly.fromOptions(SQLite3WindowFunctionFrameSpecTermKind.UNBOUNDED_PRECEDING,
+                                r.fromOptions(SQLite3WindowFunctionFrameSpecTermKind.UNBOUNDED_PRECEDING,
                                         SQLite3WindowFunctionFrameSpecTermKind.CURRENT_ROW));
-                    } else if (Randomly.getBoolean()) {
+                    } else if (r.getBoolean()) {
                         windowFunctionTerm = new SQLite3WindowFunctionFrameSpecTerm(gen.generateExpression(),
                                 SQLite3WindowFunctionFrameSpecTermKind.EXPR_PRECEDING);
                     } else {
-                        SQLite3WindowFunctionFrameSpecTerm left = getTerm(true, gen);
-                        SQLite3WindowFunctionFrameSpecTerm right = getTerm(false, gen);
+                        SQLite3WindowFunctionFrameSpecTerm left = getTerm(true, gen, r);
+                        SQLite3WindowFunctionFrameSpecTerm right = getTerm(false, gen, r);
                         windowFunctionTerm = new SQLite3WindowFunctionFrameSpecBetween(left, right);
                     }
                     windowFunction.setFrameSpec(windowFunctionTerm);
-                    if (Randomly.getBoolean()) {
-                        windowFunction.setExclude(SQLite3FrameSpecExclude.getRandom());
+                    if (r.getBoolean()) {
+                        windowFunction.setExclude(SQLite3FrameSpecExclude.getRandom(r));
                     }
                 }
                 expressions.add(windowFunction);
@@ -94,57 +94,58 @@ public final class SQLite3RandomQuerySynthesizer {
         }
         select.setFetchColumns(expressions);
         List<SQLite3Table> tables = targetTables.getTables();
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (r.getBooleanWithRatherLowProbability()) {
             // JOIN ... (might remove tables)
             select.setJoinClauses(gen.getRandomJoinClauses(tables));
         }
         // FROM ...
-        select.setFromList(SQLite3Common.getTableRefs(tables, s));
+        select.setFromList(SQLite3Common.getTableRefs(tables, s, r));
         // TODO: no values are referenced from this sub query yet
         // if (Randomly.getBooleanWithSmallProbability()) {
         // select.getFromList().add(SQLite3RandomQuerySynthesizer.generate(globalState, Randomly.smallNumber() + 1));
         // }
 
         // WHERE
-        if (Randomly.getBoolean()) {
+        if (r.getBoolean()) {
             select.setWhereClause(whereClauseGen.generateExpression());
         }
-        boolean groupBy = Randomly.getBooleanWithRatherLowProbability();
+        boolean groupBy = r.getBooleanWithRatherLowProbability();
         if (groupBy) {
             // GROUP BY
-            select.setGroupByClause(gen.getRandomExpressions(Randomly.smallNumber() + 1));
-            if (Randomly.getBoolean()) {
+            select.setGroupByClause(gen.getRandomExpressions(r.smallNumber() + 1));
+            if (r.getBoolean()) {
                 // HAVING
                 select.setHavingClause(aggregateGen.generateExpression());
             }
         }
-        boolean orderBy = Randomly.getBooleanWithRatherLowProbability();
+        boolean orderBy = r.getBooleanWithRatherLowProbability();
         if (orderBy) {
             // ORDER BY
             select.setOrderByExpressions(gen.generateOrderBys());
         }
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (r.getBooleanWithRatherLowProbability()) {
             // LIMIT
             select.setLimitClause(SQLite3Constant.createIntConstant(r.getInteger()));
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 // OFFSET
                 select.setOffsetClause(SQLite3Constant.createIntConstant(r.getInteger()));
             }
         }
-        if (!orderBy && !groupBy && Randomly.getBooleanWithSmallProbability()) {
-            return new SQLite3SetClause(select, generate(globalState, size), SQLite3ClauseType.getRandom());
+        if (!orderBy && !groupBy && r.getBooleanWithSmallProbability()) {
+            return new SQLite3SetClause(select, generate(globalState, size), SQLite3ClauseType.getRandom(r));
         }
         return select;
     }
 
-    private static SQLite3WindowFunctionFrameSpecTerm getTerm(boolean isLeftTerm, SQLite3ExpressionGenerator gen) {
-        if (Randomly.getBoolean()) {
+    private static SQLite3WindowFunctionFrameSpecTerm getTerm(boolean isLeftTerm, SQLite3ExpressionGenerator gen,
+            Randomly r) {
+        if (r.getBoolean()) {
             SQLite3Expression expr = gen.generateExpression();
-            SQLite3WindowFunctionFrameSpecTermKind kind = Randomly.fromOptions(
+            SQLite3WindowFunctionFrameSpecTermKind kind = r.fromOptions(
                     SQLite3WindowFunctionFrameSpecTermKind.EXPR_FOLLOWING,
                     SQLite3WindowFunctionFrameSpecTermKind.EXPR_PRECEDING);
             return new SQLite3WindowFunctionFrameSpecTerm(expr, kind);
-        } else if (Randomly.getBoolean()) {
+        } else if (r.getBoolean()) {
             return new SQLite3WindowFunctionFrameSpecTerm(SQLite3WindowFunctionFrameSpecTermKind.CURRENT_ROW);
         } else {
             if (isLeftTerm) {
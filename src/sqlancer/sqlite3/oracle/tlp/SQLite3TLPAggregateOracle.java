@@ -2,14 +2,14 @@ package sqlancer.sqlite3.oracle.tlp;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.TestOracle;
 import sqlancer.sqlite3.SQLite3Errors;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
@@ -31,7 +31,7 @@ import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Tables;
 public class SQLite3TLPAggregateOracle implements TestOracle {
 
     private final SQLite3GlobalState state;
-    private final List<String> errors = new ArrayList<>();
+    private final ExpectedErrors errors = new ExpectedErrors();
     private SQLite3ExpressionGenerator gen;
 
     public SQLite3TLPAggregateOracle(SQLite3GlobalState state) {
@@ -42,20 +42,21 @@ public class SQLite3TLPAggregateOracle implements TestOracle {
     @Override
     public void check() throws SQLException {
         SQLite3Schema s = state.getSchema();
-        SQLite3Tables targetTables = s.getRandomTableNonEmptyTables();
+        SQLite3Tables targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new SQLite3ExpressionGenerator(state).setColumns(targetTables.getColumns());
         SQLite3Select select = new SQLite3Select();
-        SQLite3AggregateFunction windowFunction = Randomly.fromOptions(SQLite3Aggregate.SQLite3AggregateFunction.MIN,
+        SQLite3AggregateFunction windowFunction = state.getRandomly()
+                .fromOptions(SQLite3Aggregate.SQLite3AggregateFunction.MIN,
                 SQLite3Aggregate.SQLite3AggregateFunction.MAX, SQLite3AggregateFunction.SUM,
                 SQLite3AggregateFunction.TOTAL);
         SQLite3Aggregate aggregate = new SQLite3Aggregate(gen.getRandomExpressions(1), windowFunction);
         select.setFetchColumns(Arrays.asList(aggregate));
-        List<SQLite3Expression> from = SQLite3Common.getTableRefs(targetTables.getTables(), s);
+        List<SQLite3Expression> from = SQLite3Common.getTableRefs(targetTables.getTables(), s, state.getRandomly());
         select.setFromList(from);
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
-        String originalQuery = SQLite3Visitor.asString(select);
+        String originalQuery = SQLite3Visitor.asString(select, state.getRandomly());
 
         SQLite3Expression whereClause = gen.generateExpression();
         SQLite3UnaryOperation negatedClause = new SQLite3UnaryOperation(UnaryOperator.NOT, whereClause);
@@ -66,8 +67,9 @@ public class SQLite3TLPAggregateOracle implements TestOracle {
         SQLite3Select middleSelect = getSelect(aggregate, from, negatedClause);
         SQLite3Select rightSelect = getSelect(aggregate, from, notNullClause);
         String metamorphicText = "SELECT " + aggregate.getFunc().toString() + "(aggr) FROM (";
-        metamorphicText += SQLite3Visitor.asString(leftSelect) + " UNION ALL " + SQLite3Visitor.asString(middleSelect)
-                + " UNION ALL " + SQLite3Visitor.asString(rightSelect);
+        metamorphicText += SQLite3Visitor.asString(leftSelect, state.getRandomly()) + " UNION ALL "
+                + SQLite3Visitor.asString(middleSelect, state.getRandomly())
+                + " UNION ALL " + SQLite3Visitor.asString(rightSelect, state.getRandomly());
         metamorphicText += ")";
 
         // String finalText = originalQuery + " INTERSECT " + metamorphicText;
@@ -77,23 +79,23 @@ public class SQLite3TLPAggregateOracle implements TestOracle {
         QueryAdapter q = new QueryAdapter(originalQuery, errors);
         try (ResultSet result = q.executeAndGet(state)) {
             if (result == null) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
             firstResult = result.getString(1);
         } catch (Exception e) {
             // TODO
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.EXPECTED_ERROR);
         }
 
         QueryAdapter q2 = new QueryAdapter(metamorphicText, errors);
         try (ResultSet result = q2.executeAndGet(state)) {
             if (result == null) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
             secondResult = result.getString(1);
         } catch (Exception e) {
             // TODO
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.EXPECTED_ERROR);
         }
         state.getState().queryString = "--" + originalQuery + "\n--" + metamorphicText + "\n-- " + firstResult + "\n-- "
                 + secondResult;
@@ -113,10 +115,10 @@ public class SQLite3TLPAggregateOracle implements TestOracle {
         leftSelect.setFetchColumns(Arrays.asList(new SQLite3PostfixText(aggregate, " as aggr", null)));
         leftSelect.setFromList(from);
         leftSelect.setWhereClause(whereClause);
-        if (Randomly.getBooleanWithRatherLowProbability()) {
-            leftSelect.setGroupByClause(gen.getRandomExpressions(Randomly.smallNumber() + 1));
+        if (state.getRandomly().getBooleanWithRatherLowProbability()) {
+            leftSelect.setGroupByClause(gen.getRandomExpressions(state.getRandomly().smallNumber() + 1));
         }
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             leftSelect.setOrderByExpressions(gen.generateOrderBys());
         }
         return leftSelect;
@@ -2,12 +2,10 @@ package sqlancer.sqlite3.oracle.tlp;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
+import sqlancer.ExpectedErrors;
 import sqlancer.TestOracle;
 import sqlancer.sqlite3.SQLite3Errors;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
@@ -25,11 +23,12 @@ import sqlancer.sqlite3.schema.SQLite3Schema;
 import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Column;
 import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Table;
 import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Tables;
+import sqlancer.visitor.RenderCache;
 
 public class SQLite3TLPBase implements TestOracle {
 
     final SQLite3GlobalState state;
-    final Set<String> errors = new HashSet<>();
+    final ExpectedErrors errors = new ExpectedErrors();
 
     SQLite3Schema s;
     SQLite3Tables targetTables;
@@ -38,6 +37,7 @@ public class SQLite3TLPBase implements TestOracle {
     SQLite3Expression predicate;
     SQLite3Expression negatedPredicate;
     SQLite3Expression isNullPredicate;
+    RenderCache<SQLite3Expression> renderCache;
 
     public SQLite3TLPBase(SQLite3GlobalState state) {
         this.state = state;
@@ -48,27 +48,31 @@ public class SQLite3TLPBase implements TestOracle {
     @Override
     public void check() throws SQLException {
         s = state.getSchema();
-        targetTables = s.getRandomTableNonEmptyTables();
+        targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new SQLite3ExpressionGenerator(state).setColumns(targetTables.getColumns());
         select = new SQLite3Select();
         select.setFetchColumns(generateFetchColumns());
         List<SQLite3Table> tables = targetTables.getTables();
         List<Join> joinStatements = gen.getRandomJoinClauses(tables);
-        List<SQLite3Expression> tableRefs = SQLite3Common.getTableRefs(tables, s);
+        List<SQLite3Expression> tableRefs = SQLite3Common.getTableRefs(tables, s, state.getRandomly());
         select.setJoinClauses(joinStatements.stream().collect(Collectors.toList()));
         select.setFromTables(tableRefs);
         select.setWhereClause(null);
         predicate = generatePredicate();
         negatedPredicate = new SQLite3UnaryOperation(UnaryOperator.NOT, predicate);
         isNullPredicate = new SQLite3PostfixUnaryOperation(PostfixUnaryOperator.ISNULL, predicate);
+        // the tables and joins are rendered again for each query, since their rendering randomly varies the query plan
+        renderCache = new RenderCache<>();
+        renderCache.addAll(select.getFetchColumns());
+        renderCache.add(predicate);
     }
 
     List<SQLite3Expression> generateFetchColumns() {
         List<SQLite3Expression> columns = new ArrayList<>();
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             columns.add(new SQLite3ColumnName(SQLite3Column.createDummy("*"), null));
         } else {
-            columns = Randomly.nonEmptySubset(targetTables.getColumns()).stream()
+            columns = state.getRandomly().nonEmptySubset(targetTables.getColumns()).stream()
                     .map(c -> new SQLite3ColumnName(c, null)).collect(Collectors.toList());
         }
         return columns;
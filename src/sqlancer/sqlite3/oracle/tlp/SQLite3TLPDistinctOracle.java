@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.SQLite3Visitor;
 import sqlancer.sqlite3.ast.SQLite3Select.SelectType;
@@ -20,21 +21,21 @@ public class SQLite3TLPDistinctOracle extends SQLite3TLPBase {
         super.check();
         select.setSelectType(SelectType.DISTINCT);
         select.setWhereClause(null);
-        String originalQueryString = SQLite3Visitor.asString(select);
+        String originalQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         select.setWhereClause(predicate);
-        String firstQueryString = SQLite3Visitor.asString(select);
+        String firstQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = SQLite3Visitor.asString(select);
+        String secondQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = SQLite3Visitor.asString(select);
+        String thirdQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
                 secondQueryString, thirdQueryString, combinedString, true, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
 }
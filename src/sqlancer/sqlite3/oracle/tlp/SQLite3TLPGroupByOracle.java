@@ -6,7 +6,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.SQLite3Visitor;
 import sqlancer.sqlite3.ast.SQLite3Expression;
@@ -23,27 +23,28 @@ public class SQLite3TLPGroupByOracle extends SQLite3TLPBase {
         super.check();
         select.setGroupByClause(select.getFetchColumns());
         select.setWhereClause(null);
-        String originalQueryString = SQLite3Visitor.asString(select);
+        String originalQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         select.setWhereClause(predicate);
-        String firstQueryString = SQLite3Visitor.asString(select);
+        String firstQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = SQLite3Visitor.asString(select);
+        String secondQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = SQLite3Visitor.asString(select);
+        String thirdQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSetNoDuplicates(firstQueryString,
                 secondQueryString, thirdQueryString, combinedString, true, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     @Override
     List<SQLite3Expression> generateFetchColumns() {
         List<SQLite3Expression> columns = new ArrayList<>();
-        columns = Randomly.nonEmptySubset(targetTables.getColumns()).stream().map(c -> new SQLite3ColumnName(c, null))
+        columns = state.getRandomly().nonEmptySubset(targetTables.getColumns()).stream()
+                .map(c -> new SQLite3ColumnName(c, null))
                 .collect(Collectors.toList());
         return columns;
     }
@@ -1,14 +1,15 @@
 package sqlancer.sqlite3.oracle.tlp;
 
 import java.sql.SQLException;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import sqlancer.ComparatorHelper;
+import sqlancer.ExpectedErrors;
 import sqlancer.IgnoreMeException;
-import sqlancer.Randomly;
+import sqlancer.IgnoreMeException.Reason;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.TestOracle;
 import sqlancer.sqlite3.SQLite3Errors;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
@@ -28,11 +29,12 @@ import sqlancer.sqlite3.schema.SQLite3Schema;
 import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Column;
 import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Table;
 import sqlancer.sqlite3.schema.SQLite3Schema.SQLite3Tables;
+import sqlancer.visitor.RenderCache;
 
 public class SQLite3TLPHavingOracle implements TestOracle {
 
     private final SQLite3GlobalState state;
-    private final Set<String> errors = new HashSet<>();
+    private final ExpectedErrors errors = new ExpectedErrors();
 
     public SQLite3TLPHavingOracle(SQLite3GlobalState state) {
         this.state = state;
@@ -44,8 +46,8 @@ public class SQLite3TLPHavingOracle implements TestOracle {
     @Override
     public void check() throws SQLException {
         SQLite3Schema s = state.getSchema();
-        SQLite3Tables targetTables = s.getRandomTableNonEmptyTables();
-        List<SQLite3Expression> groupByColumns = Randomly.nonEmptySubset(targetTables.getColumns()).stream()
+        SQLite3Tables targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
+        List<SQLite3Expression> groupByColumns = state.getRandomly().nonEmptySubset(targetTables.getColumns()).stream()
                 .map(c -> new SQLite3ColumnName(c, null)).collect(Collectors.toList());
         List<SQLite3Column> columns = targetTables.getColumns();
         SQLite3ExpressionGenerator gen = new SQLite3ExpressionGenerator(state).setColumns(columns);
@@ -53,35 +55,35 @@ public class SQLite3TLPHavingOracle implements TestOracle {
         select.setFetchColumns(groupByColumns);
         List<SQLite3Table> tables = targetTables.getTables();
         List<Join> joinStatements = gen.getRandomJoinClauses(tables);
-        List<SQLite3Expression> from = SQLite3Common.getTableRefs(tables, state.getSchema());
+        List<SQLite3Expression> from = SQLite3Common.getTableRefs(tables, state.getSchema(), state.getRandomly());
         select.setJoinClauses(joinStatements);
         select.setSelectType(SelectType.ALL);
         select.setFromTables(from);
         // TODO order by?
         select.setGroupByClause(groupByColumns);
         select.setHavingClause(null);
-        String originalQueryString = SQLite3Visitor.asString(select);
-
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        RenderCache<SQLite3Expression> renderCache = new RenderCache<>();
+        renderCache.addAll(groupByColumns);
+        String originalQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
 
         SQLite3Expression predicate = gen.getHavingClause();
+        renderCache.add(predicate);
         select.setHavingClause(predicate);
-        String firstQueryString = SQLite3Visitor.asString(select);
+        String firstQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         select.setHavingClause(new SQLite3UnaryOperation(UnaryOperator.NOT, predicate));
-        String secondQueryString = SQLite3Visitor.asString(select);
+        String secondQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         select.setHavingClause(new SQLite3PostfixUnaryOperation(PostfixUnaryOperator.ISNULL, predicate));
-        String thirdQueryString = SQLite3Visitor.asString(select);
-        String combinedString = firstQueryString + " UNION ALL " + secondQueryString + " UNION ALL " + thirdQueryString;
-        if (combinedString.contains("EXIST")) {
-            throw new IgnoreMeException();
-        }
-        List<String> secondResultSet = ComparatorHelper.getResultSetFirstColumnAsString(combinedString, errors, state);
-        if (state.getOptions().logEachSelect()) {
-            state.getLogger().writeCurrent(originalQueryString);
-            state.getLogger().writeCurrent(combinedString);
-        }
-        if (new HashSet<>(resultSet).size() != new HashSet<>(secondResultSet).size()) {
-            throw new AssertionError(originalQueryString + ";\n" + combinedString + ";");
+        String thirdQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
+        if (firstQueryString.contains("EXIST") || secondQueryString.contains("EXIST")
+                || thirdQueryString.contains("EXIST")) {
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
+        // each group is in exactly one of the partitions, so the result sets are compared as multisets
+        List<String> combinedString = new ArrayList<>();
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, true, state, errors);
+        ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
+                state, errors);
     }
 }
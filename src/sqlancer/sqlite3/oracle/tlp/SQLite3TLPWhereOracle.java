@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
 import sqlancer.sqlite3.SQLite3Visitor;
 
@@ -19,25 +19,25 @@ public class SQLite3TLPWhereOracle extends SQLite3TLPBase {
     public void check() throws SQLException {
         super.check();
         select.setWhereClause(null);
-        String originalQueryString = SQLite3Visitor.asString(select);
+        String originalQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
-        boolean orderBy = Randomly.getBooleanWithSmallProbability();
+        boolean orderBy = state.getRandomly().getBooleanWithSmallProbability();
         if (orderBy) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
         select.setWhereClause(predicate);
-        String firstQueryString = SQLite3Visitor.asString(select);
+        String firstQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = SQLite3Visitor.asString(select);
+        String secondQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = SQLite3Visitor.asString(select);
+        String thirdQueryString = SQLite3Visitor.asString(select, renderCache, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !orderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !orderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
 }
@@ -10,16 +10,17 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.QueryAdapter;
 import sqlancer.Randomly;
 import sqlancer.StateToReproduce.SQLite3StateToReproduce;
 import sqlancer.schema.AbstractTable;
 import sqlancer.schema.AbstractTableColumn;
+import sqlancer.schema.AbstractTables;
 import sqlancer.schema.TableIndex;
 import sqlancer.sqlite3.SQLite3Errors;
 import sqlancer.sqlite3.SQLite3Provider.SQLite3GlobalState;
@@ -37,19 +38,19 @@ public class SQLite3Schema {
         return indexNames;
     }
 
-    public String getRandomIndexOrBailout() {
+    public String getRandomIndexOrBailout(Randomly r) {
         if (indexNames.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         } else {
-            return Randomly.fromList(indexNames);
+            return r.fromList(indexNames);
         }
     }
 
-    public SQLite3Table getRandomTableOrBailout() {
+    public SQLite3Table getRandomTableOrBailout(Randomly r) {
         if (databaseTables.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         } else {
-            return Randomly.fromList(getDatabaseTables());
+            return r.fromList(getDatabaseTables());
         }
     }
 
@@ -63,8 +64,8 @@ public class SQLite3Schema {
         public enum SQLite3CollateSequence {
             NOCASE, RTRIM, BINARY;
 
-            public static SQLite3CollateSequence random() {
-                return Randomly.fromOptions(values());
+            public static SQLite3CollateSequence random(Randomly r) {
+                return r.fromOptions(values());
             }
         }
 
@@ -148,69 +149,43 @@ public class SQLite3Schema {
         return constant;
     }
 
-    public static class SQLite3Tables {
-        private final List<SQLite3Table> tables;
-        private final List<SQLite3Column> columns;
+    public static class SQLite3Tables extends AbstractTables<SQLite3Table, SQLite3Column> {
 
         public SQLite3Tables(List<SQLite3Table> tables) {
-            this.tables = tables;
-            columns = new ArrayList<>();
-            for (SQLite3Table t : tables) {
-                columns.addAll(t.getColumns());
-            }
-        }
-
-        public String tableNamesAsString() {
-            return tables.stream().map(t -> t.getName()).collect(Collectors.joining(", "));
-        }
-
-        public List<SQLite3Table> getTables() {
-            return tables;
-        }
-
-        public List<SQLite3Column> getColumns() {
-            return columns;
-        }
-
-        public String columnNamesAsString() {
-            return getColumns().stream().map(t -> t.getTable().getName() + "." + t.getName())
-                    .collect(Collectors.joining(", "));
+            super(tables);
         }
 
-        public String columnNamesAsString(Function<SQLite3Column, String> function) {
-            return getColumns().stream().map(function).collect(Collectors.joining(", "));
-        }
-
-        public SQLite3RowValue getRandomRowValue(Connection con, SQLite3StateToReproduce state) throws SQLException {
-            String randomRow = String.format("SELECT %s, %s FROM %s ORDER BY RANDOM() LIMIT 1", columnNamesAsString(
-                    c -> c.getTable().getName() + "." + c.getName() + " AS " + c.getTable().getName() + c.getName()),
-                    columnNamesAsString(c -> "typeof(" + c.getTable().getName() + "." + c.getName() + ")"),
-                    tableNamesAsString());
+        public SQLite3RowValue getRandomRowValue(SQLite3GlobalState globalState) throws SQLException {
+            SQLite3StateToReproduce state = (SQLite3StateToReproduce) globalState.getState();
+            String typeNames = columnNamesAsString(c -> "typeof(" + c.getTable().getName() + "." + c.getName() + ")");
+            List<SQLite3Constant> row;
+            try {
+                row = getRandomRow(globalState, typeNames, "RANDOM()", this::readRow);
+            } catch (SQLException e) {
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
+            }
+            if (row == null) {
+                throw new AssertionError("could not find random row! " + tableNamesAsString() + "\n" + state);
+            }
             Map<SQLite3Column, SQLite3Constant> values = new HashMap<>();
-            try (Statement s = con.createStatement()) {
-                ResultSet randomRowValues;
-                try {
-                    randomRowValues = s.executeQuery(randomRow);
-                } catch (SQLException e) {
-                    throw new IgnoreMeException();
-                }
-                if (!randomRowValues.next()) {
-                    throw new AssertionError("could not find random row! " + randomRow + "\n" + state);
-                }
-                for (int i = 0; i < getColumns().size(); i++) {
-                    SQLite3Column column = getColumns().get(i);
-                    int columnIndex = randomRowValues.findColumn(column.getTable().getName() + column.getName());
-                    assert columnIndex == i + 1;
-                    String typeString = randomRowValues.getString(columnIndex + getColumns().size());
-                    SQLite3DataType valueType = getColumnType(typeString);
-                    SQLite3Constant constant = getConstant(randomRowValues, columnIndex, valueType);
-                    values.put(column, constant);
-                }
-                assert !randomRowValues.next();
-                state.randomRowValues = values;
-                return new SQLite3RowValue(this, values);
+            for (int i = 0; i < getColumns().size(); i++) {
+                values.put(getColumns().get(i), row.get(i));
             }
-
+            state.randomRowValues = values;
+            return new SQLite3RowValue(this, values);
+        }
+
+        private List<SQLite3Constant> readRow(ResultSet randomRowValues) throws SQLException {
+            List<SQLite3Constant> row = new ArrayList<>(getColumns().size());
+            for (int i = 0; i < getColumns().size(); i++) {
+                SQLite3Column column = getColumns().get(i);
+                int columnIndex = randomRowValues.findColumn(column.getTable().getName() + column.getName());
+                assert columnIndex == i + 1;
+                String typeString = randomRowValues.getString(columnIndex + getColumns().size());
+                SQLite3DataType valueType = getColumnType(typeString);
+                row.add(getConstant(randomRowValues, columnIndex, valueType));
+            }
+            return row;
         }
 
     }
@@ -307,12 +282,12 @@ public class SQLite3Schema {
             return sb.toString();
         }
 
-        public String getRowValuesAsString() {
+        public String getRowValuesAsString(Randomly r) {
             List<SQLite3Column> columnsToCheck = tables.getColumns();
-            return getRowValuesAsString(columnsToCheck);
+            return getRowValuesAsString(columnsToCheck, r);
         }
 
-        public String getRowValuesAsString(List<SQLite3Column> columnsToCheck) {
+        public String getRowValuesAsString(List<SQLite3Column> columnsToCheck, Randomly r) {
             StringBuilder sb = new StringBuilder();
             Map<SQLite3Column, SQLite3Constant> expectedValues = getValues();
             for (int i = 0; i < columnsToCheck.size(); i++) {
@@ -320,7 +295,7 @@ public class SQLite3Schema {
                     sb.append(", ");
                 }
                 SQLite3Constant expectedColumnValue = expectedValues.get(columnsToCheck.get(i));
-                SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor();
+                SQLite3ToStringVisitor visitor = new SQLite3ToStringVisitor(r);
                 visitor.visit(expectedColumnValue);
                 sb.append(visitor.get());
             }
@@ -355,7 +330,7 @@ public class SQLite3Schema {
         QueryAdapter q = new QueryAdapter(string, errors);
         try (ResultSet query = q.executeAndGet(globalState)) {
             if (query == null) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.EXPECTED_ERROR);
             }
             query.next();
             int int1 = query.getInt(1);
@@ -412,7 +387,7 @@ public class SQLite3Schema {
                             tableType.contentEquals("temp_table") ? TableKind.TEMP : TableKind.MAIN, withoutRowid,
                             nrRows, isView, isVirtual, isReadOnly);
                     if (isRowIdTable(withoutRowid, isView, isVirtual)) {
-                        String rowId = Randomly.fromOptions("rowid", "_rowid_", "oid");
+                        String rowId = globalState.getRandomly().fromOptions("rowid", "_rowid_", "oid");
                         SQLite3Column rowid = new SQLite3Column(rowId, SQLite3DataType.INT, true, null, true);
                         t.addRowid(rowid);
                         rowid.setTable(t);
@@ -481,7 +456,7 @@ public class SQLite3Schema {
         }
         if (databaseColumns.isEmpty()) {
             // only generated columns
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
         assert !databaseColumns.isEmpty() : tableName;
         return databaseColumns;
@@ -538,33 +513,33 @@ public class SQLite3Schema {
         return columnType;
     }
 
-    public SQLite3Table getRandomTable() {
-        return Randomly.fromList(getDatabaseTables());
+    public SQLite3Table getRandomTable(Randomly r) {
+        return r.fromList(getDatabaseTables());
     }
 
-    public SQLite3Table getRandomTable(Predicate<SQLite3Table> predicate) {
+    public SQLite3Table getRandomTable(Predicate<SQLite3Table> predicate, Randomly r) {
         List<SQLite3Table> collect = databaseTables.stream().filter(predicate).collect(Collectors.toList());
         if (collect.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
-        return Randomly.fromList(collect);
+        return r.fromList(collect);
     }
 
     public List<SQLite3Table> getTables(Predicate<SQLite3Table> predicate) {
         return databaseTables.stream().filter(predicate).collect(Collectors.toList());
     }
 
-    public SQLite3Table getRandomTableOrBailout(Predicate<SQLite3Table> predicate) {
+    public SQLite3Table getRandomTableOrBailout(Predicate<SQLite3Table> predicate, Randomly r) {
         List<SQLite3Table> tables = databaseTables.stream().filter(predicate).collect(Collectors.toList());
         if (tables.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         } else {
-            return Randomly.fromList(tables);
+            return r.fromList(tables);
         }
     }
 
-    public SQLite3Table getRandomVirtualTable() {
-        return getRandomTable(p -> p.isVirtual);
+    public SQLite3Table getRandomVirtualTable(Randomly r) {
+        return getRandomTable(p -> p.isVirtual, r);
     }
 
     public List<SQLite3Table> getDatabaseTables() {
@@ -575,23 +550,23 @@ public class SQLite3Schema {
         return new SQLite3Tables(databaseTables);
     }
 
-    public SQLite3Tables getRandomTableNonEmptyTables() {
+    public SQLite3Tables getRandomTableNonEmptyTables(Randomly r) {
         if (databaseTables.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
-        return new SQLite3Tables(Randomly.nonEmptySubset(databaseTables));
+        return new SQLite3Tables(r.nonEmptySubset(databaseTables));
     }
 
-    public SQLite3Table getRandomTableNoViewOrBailout() {
+    public SQLite3Table getRandomTableNoViewOrBailout(Randomly r) {
         List<SQLite3Table> databaseTablesWithoutViews = getDatabaseTablesWithoutViews();
         if (databaseTablesWithoutViews.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
-        return Randomly.fromList(databaseTablesWithoutViews);
+        return r.fromList(databaseTablesWithoutViews);
     }
 
-    public SQLite3Table getRandomTableNoViewNoVirtualTable() {
-        return Randomly.fromList(getDatabaseTablesWithoutViewsWithoutVirtualTables());
+    public SQLite3Table getRandomTableNoViewNoVirtualTable(Randomly r) {
+        return r.fromList(getDatabaseTablesWithoutViewsWithoutVirtualTables());
     }
 
     public List<SQLite3Table> getDatabaseTablesWithoutViews() {
@@ -602,11 +577,11 @@ public class SQLite3Schema {
         return databaseTables.stream().filter(t -> t.isView()).collect(Collectors.toList());
     }
 
-    public SQLite3Table getRandomViewOrBailout() {
+    public SQLite3Table getRandomViewOrBailout(Randomly r) {
         if (getViews().isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         } else {
-            return Randomly.fromList(getViews());
+            return r.fromList(getViews());
         }
     }
 
@@ -5,7 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import sqlancer.IgnoreMeException;
-import sqlancer.Randomly;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.gen.UntypedExpressionGenerator;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
 import sqlancer.tidb.TiDBSchema.TiDBColumn;
@@ -39,6 +39,7 @@ public class TiDBExpressionGenerator extends UntypedExpressionGenerator<TiDBExpr
     private final TiDBGlobalState globalState;
 
     public TiDBExpressionGenerator(TiDBGlobalState globalState) {
+        super(globalState.getRandomly());
         this.globalState = globalState;
     }
 
@@ -53,28 +54,28 @@ public class TiDBExpressionGenerator extends UntypedExpressionGenerator<TiDBExpr
 
     @Override
     protected TiDBExpression generateExpression(int depth) {
-        if (depth >= globalState.getOptions().getMaxExpressionDepth() || Randomly.getBoolean()) {
+        if (depth >= globalState.getOptions().getMaxExpressionDepth() || globalState.getRandomly().getBoolean()) {
             return generateLeafNode();
         }
-        if (allowAggregates && Randomly.getBoolean()) {
+        if (allowAggregates && globalState.getRandomly().getBoolean()) {
             allowAggregates = false;
-            TiDBAggregateFunction func = TiDBAggregateFunction.getRandom();
+            TiDBAggregateFunction func = TiDBAggregateFunction.getRandom(r);
             List<TiDBExpression> args = generateExpressions(func.getNrArgs());
             return new TiDBAggregate(args, func);
         }
-        switch (Randomly.fromOptions(Gen.values())) {
+        switch (globalState.getRandomly().fromOptions(Gen.values())) {
         case DEFAULT:
             if (TiDBBugs.bug15) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             if (globalState.getSchema().getDatabaseTables().isEmpty()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
             return new TiDBFunctionCall(TiDBFunction.DEFAULT, Arrays.asList(generateColumn()));
         case UNARY_POSTFIX:
-            return new TiDBUnaryPostfixOperation(generateExpression(depth + 1), TiDBUnaryPostfixOperator.getRandom());
+            return new TiDBUnaryPostfixOperation(generateExpression(depth + 1), TiDBUnaryPostfixOperator.getRandom(r));
         case UNARY_PREFIX:
-            TiDBUnaryPrefixOperator rand = TiDBUnaryPrefixOperator.getRandom();
+            TiDBUnaryPrefixOperator rand = TiDBUnaryPrefixOperator.getRandom(r);
             return new TiDBUnaryPrefixOperation(generateExpression(depth + 1), rand);
         case COLUMN:
             return generateColumn();
@@ -82,30 +83,30 @@ public class TiDBExpressionGenerator extends UntypedExpressionGenerator<TiDBExpr
             return generateConstant();
         case COMPARISON:
             return new TiDBBinaryComparisonOperation(generateExpression(depth + 1), generateExpression(depth + 1),
-                    TiDBComparisonOperator.getRandom());
+                    TiDBComparisonOperator.getRandom(r));
         case REGEX:
             return new TiDBRegexOperation(generateExpression(depth + 1), generateExpression(depth + 1),
-                    TiDBRegexOperator.getRandom());
+                    TiDBRegexOperator.getRandom(r));
         case COLLATE:
-            return new TiDBCollate(generateExpression(depth + 1),
-                    Randomly.fromOptions("utf8mb4_bin", "latin1_bin", "binary", "ascii_bin", "utf8_bin"));
+            return new TiDBCollate(generateExpression(depth + 1), globalState.getRandomly()
+                    .fromOptions("utf8mb4_bin", "latin1_bin", "binary", "ascii_bin", "utf8_bin"));
         case FUNCTION:
-            TiDBFunction func = TiDBFunction.getRandom();
-            return new TiDBFunctionCall(func, generateExpressions(depth, func.getNrArgs()));
+            TiDBFunction func = TiDBFunction.getRandom(r);
+            return new TiDBFunctionCall(func, generateExpressions(depth, func.getNrArgs(r)));
         case BINARY_BIT:
             return new TiDBBinaryBitOperation(generateExpression(depth + 1), generateExpression(depth + 1),
-                    TiDBBinaryBitOperator.getRandom());
+                    TiDBBinaryBitOperator.getRandom(r));
         case BINARY_LOGICAL:
             if (TiDBBugs.bug48) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             return new TiDBBinaryLogicalOperation(generateExpression(depth + 1), generateExpression(depth + 1),
-                    TiDBBinaryLogicalOperator.getRandom());
+                    TiDBBinaryLogicalOperator.getRandom(r));
         // case BINARY_ARITHMETIC:
         // return new TiDBBinaryArithmeticOperation(generateExpression(depth + 1), generateExpression(depth + 1),
         // TiDBBinaryArithmeticOperator.getRandom());
         case CAST:
-            return new TiDBCastOperation(generateExpression(depth + 1), Randomly.fromOptions(
+            return new TiDBCastOperation(generateExpression(depth + 1), globalState.getRandomly().fromOptions(
                     /*
                      * "BINARY" https://github.com/tidb-challenge-program/bug-hunting-issue/issues/52
                      */ "CHAR",
@@ -114,9 +115,9 @@ public class TiDBExpressionGenerator extends UntypedExpressionGenerator<TiDBExpr
                      */ "DECIMAL", "SIGNED"/* , "UNSIGNED" https://github.com/pingcap/tidb/issues/16028 */));
         case CASE:
             if (TiDBBugs.bug19) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
-            int nr = Randomly.fromOptions(1, 2);
+            int nr = globalState.getRandomly().fromOptions(1, 2);
             return new TiDBCase(generateExpression(depth + 1), generateExpressions(depth + 1, nr),
                     generateExpressions(depth + 1, nr), generateExpression(depth + 1));
         default:
@@ -126,14 +127,14 @@ public class TiDBExpressionGenerator extends UntypedExpressionGenerator<TiDBExpr
 
     @Override
     protected TiDBExpression generateColumn() {
-        TiDBColumn column = Randomly.fromList(columns);
+        TiDBColumn column = globalState.getRandomly().fromList(columns);
         return new TiDBColumnReference(column);
     }
 
     @Override
     public TiDBExpression generateConstant() {
-        TiDBDataType type = TiDBDataType.getRandom();
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        TiDBDataType type = TiDBDataType.getRandom(r);
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             return TiDBConstant.createNullConstant();
         }
         switch (type) {
@@ -143,7 +144,7 @@ public class TiDBExpressionGenerator extends UntypedExpressionGenerator<TiDBExpr
         case TEXT:
             return TiDBConstant.createStringConstant(globalState.getRandomly().getString());
         case BOOL:
-            return TiDBConstant.createBooleanConstant(Randomly.getBoolean());
+            return TiDBConstant.createBooleanConstant(globalState.getRandomly().getBoolean());
         case FLOATING:
             return TiDBConstant.createFloatConstant(globalState.getRandomly().getDouble());
         case CHAR:
@@ -162,8 +163,8 @@ public class TiDBExpressionGenerator extends UntypedExpressionGenerator<TiDBExpr
         List<TiDBExpression> newExpressions = new ArrayList<>();
         for (TiDBExpression expr : expressions) {
             TiDBExpression newExpr = expr;
-            if (Randomly.getBoolean()) {
-                newExpr = new TiDBOrderingTerm(expr, Randomly.getBoolean());
+            if (globalState.getRandomly().getBoolean()) {
+                newExpr = new TiDBOrderingTerm(expr, globalState.getRandomly().getBoolean());
             }
             newExpressions.add(newExpr);
         }
@@ -1,6 +1,5 @@
 package sqlancer.tidb;
 
-import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -12,10 +11,13 @@ import java.util.stream.Collectors;
 
 import sqlancer.AbstractAction;
 import sqlancer.CompositeTestOracle;
+import sqlancer.ConnectionPool;
 import sqlancer.GlobalState;
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Main.QueryManager;
 import sqlancer.Main.StateLogger;
+import sqlancer.ParallelOracleExecutor;
 import sqlancer.ProviderAdapter;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
@@ -24,6 +26,7 @@ import sqlancer.Randomly;
 import sqlancer.StateToReproduce;
 import sqlancer.StatementExecutor;
 import sqlancer.TestOracle;
+import sqlancer.schema.IncrementalSchemaUpdater;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
 import sqlancer.tidb.gen.TiDBAlterTableGenerator;
 import sqlancer.tidb.gen.TiDBAnalyzeTableGenerator;
@@ -45,13 +48,15 @@ public class TiDBProvider extends ProviderAdapter<TiDBGlobalState, TiDBOptions>
     public enum Action implements AbstractAction<TiDBGlobalState> {
         INSERT(TiDBInsertGenerator::getQuery), //
         ANALYZE_TABLE(TiDBAnalyzeTableGenerator::getQuery), //
-        TRUNCATE((g) -> new QueryAdapter("TRUNCATE " + g.getSchema().getRandomTable(t -> !t.isView()).getName())), //
+        TRUNCATE((g) -> new QueryAdapter("TRUNCATE "
+                + g.getSchema().getRandomTable(t -> !t.isView(), g.getRandomly()).getName())), //
         CREATE_INDEX(TiDBIndexGenerator::getQuery), //
         DELETE(TiDBDeleteGenerator::getQuery), //
         SET(TiDBSetGenerator::getQuery), //
         UPDATE(TiDBUpdateGenerator::getQuery), //
         ADMIN_CHECKSUM_TABLE(
-                (g) -> new QueryAdapter("ADMIN CHECKSUM TABLE " + g.getSchema().getRandomTable().getName())), //
+                (g) -> new QueryAdapter("ADMIN CHECKSUM TABLE "
+                + g.getSchema().getRandomTable(g.getRandomly()).getName())), //
         VIEW_GENERATOR(TiDBViewGenerator::getQuery), //
         ALTER_TABLE(TiDBAlterTableGenerator::getQuery), //
         EXPLAIN((g) -> {
@@ -59,7 +64,8 @@ public class TiDBProvider extends ProviderAdapter<TiDBGlobalState, TiDBOptions>
             TiDBErrors.addExpressionErrors(errors);
             TiDBErrors.addExpressionHavingErrors(errors);
             return new QueryAdapter(
-                    "EXPLAIN " + TiDBRandomQuerySynthesizer.generate(g, Randomly.smallNumber() + 1).getQueryString(),
+                    "EXPLAIN "
+                    + TiDBRandomQuerySynthesizer.generate(g, g.getRandomly().smallNumber() + 1).getQueryString(),
                     errors);
         });
 
@@ -121,47 +127,51 @@ public class TiDBProvider extends ProviderAdapter<TiDBGlobalState, TiDBOptions>
         QueryManager manager = globalState.getManager();
         Connection con = globalState.getConnection();
         String databaseName = globalState.getDatabaseName();
-        globalState.setSchema(TiDBSchema.fromConnection(con, databaseName));
+        IncrementalSchemaUpdater<TiDBSchema> schemaUpdater = new IncrementalSchemaUpdater<>(
+                () -> TiDBSchema.fromConnection(con, databaseName), globalState.getOptions().useIncrementalSchema(),
+                globalState.getOptions().verifyIncrementalSchema());
+        globalState.setSchema(schemaUpdater.loadSchema());
         StateLogger logger = globalState.getLogger();
         StateToReproduce state = globalState.getState();
-        for (int i = 0; i < Randomly.fromOptions(1, 2); i++) {
+        for (int i = 0; i < globalState.getRandomly().fromOptions(1, 2); i++) {
             boolean success = false;
             do {
                 Query qt = new TiDBTableGenerator().getQuery(globalState);
                 success = manager.execute(qt);
                 logger.writeCurrent(state);
-                globalState.setSchema(TiDBSchema.fromConnection(con, databaseName));
-                try {
-                    logger.getCurrentFileWriter().close();
-                } catch (IOException e) {
-                    // TODO Auto-generated catch block
-                    e.printStackTrace();
-                }
-                logger.currentFileWriter = null;
+                globalState.setSchema(schemaUpdater.getUpdatedSchema(qt, globalState.getSchema()));
+                logger.closeCurrentFile();
             } while (!success);
         }
-        globalState.setSchema(TiDBSchema.fromConnection(con, databaseName));
+        globalState.setSchema(schemaUpdater.loadSchema());
 
         StatementExecutor<TiDBGlobalState, Action> se = new StatementExecutor<>(globalState, Action.values(),
                 TiDBProvider::mapActions, (q) -> {
                     if (q.couldAffectSchema()) {
                         try {
-                            globalState.setSchema(TiDBSchema.fromConnection(con, databaseName));
+                            globalState.setSchema(schemaUpdater.getUpdatedSchema(q, globalState.getSchema()));
                         } catch (SQLException e) {
                             if (q.getQueryString().contains("CREATE VIEW") || e.getMessage().contains(
                                     "references invalid table(s) or column(s) or function(s) or definer/invoker of view lack rights to use them")) {
-                                throw new IgnoreMeException(); // TODO: drop view instead
+                                throw new IgnoreMeException(Reason.EXPECTED_ERROR); // TODO: drop view instead
                             } else {
                                 throw new AssertionError(e);
                             }
                         }
                     }
                     if (globalState.getSchema().getDatabaseTables().isEmpty()) {
-                        throw new IgnoreMeException();
+                        throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
                     }
                 });
         se.executeStatements();
         manager.incrementCreateDatabase();
+        ParallelOracleExecutor.executeChecks(globalState, createOracle(globalState), TiDBProvider::createWorker,
+                TiDBProvider::createOracle);
+        logger.closeCurrentFile();
+
+    }
+
+    private static CompositeTestOracle createOracle(TiDBGlobalState globalState) {
         List<TestOracle> oracles = globalState.getDmbsSpecificOptions().oracle.stream().map(o -> {
             try {
                 return o.create(globalState);
@@ -169,34 +179,31 @@ public class TiDBProvider extends ProviderAdapter<TiDBGlobalState, TiDBOptions>
                 throw new AssertionError(e1);
             }
         }).collect(Collectors.toList());
-        CompositeTestOracle oracle = new CompositeTestOracle(oracles);
-
-        for (int i = 0; i < globalState.getOptions().getNrQueries(); i++) {
-            try {
-                oracle.check();
-                manager.incrementSelectQueryCount();
-            } catch (IgnoreMeException e) {
+        return new CompositeTestOracle(oracles);
+    }
 
-            }
-        }
-        try {
-            if (globalState.getOptions().logEachSelect()) {
-                logger.getCurrentFileWriter().close();
-                logger.currentFileWriter = null;
-            }
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+    /**
+     * Creates an oracle worker on another session to the database (see --oracle-workers).
+     */
+    private static TiDBGlobalState createWorker(TiDBGlobalState globalState, long seed) throws SQLException {
+        Connection con = ParallelOracleExecutor.openSession(globalState, TiDBProvider::isSessionStatement);
+        TiDBGlobalState worker = new TiDBGlobalState();
+        globalState.initializeWorker(worker, con, new Randomly(seed),
+                new StateToReproduce(globalState.getDatabaseName()));
+        worker.setSchema(globalState.getSchema());
+        return worker;
+    }
 
+    private static boolean isSessionStatement(String s) {
+        String statement = s.trim().toUpperCase();
+        return statement.startsWith("SET @@") || statement.startsWith("USE ");
     }
 
     @Override
     public Connection createDatabase(TiDBGlobalState globalState) throws SQLException {
         String databaseName = globalState.getDatabaseName();
         String url = "jdbc:mysql://127.0.0.1:4000/";
-        Connection con = DriverManager.getConnection(url, globalState.getOptions().getUserName(),
-                globalState.getOptions().getPassword());
+        Connection con = ConnectionPool.getAdminConnection(url, globalState.getOptions());
         globalState.getState().statements.add(new QueryAdapter("USE test"));
         globalState.getState().statements.add(new QueryAdapter("DROP DATABASE IF EXISTS " + databaseName));
         String createDatabaseCommand = "CREATE DATABASE " + databaseName;
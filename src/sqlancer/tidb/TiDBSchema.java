@@ -31,8 +31,8 @@ public class TiDBSchema extends AbstractSchema<TiDBTable> {
             this.isPrimitive = isPrimitive;
         }
 
-        public static TiDBDataType getRandom() {
-            return Randomly.fromOptions(values());
+        public static TiDBDataType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         public boolean isPrimitive() {
@@ -88,15 +88,15 @@ public class TiDBSchema extends AbstractSchema<TiDBTable> {
             return new TiDBCompositeDataType(TiDBDataType.INT, size);
         }
 
-        public static TiDBCompositeDataType getRandom() {
-            TiDBDataType primitiveType = TiDBDataType.getRandom();
+        public static TiDBCompositeDataType getRandom(Randomly r) {
+            TiDBDataType primitiveType = TiDBDataType.getRandom(r);
             int size = -1;
             switch (primitiveType) {
             case INT:
-                size = Randomly.fromOptions(1, 2, 4, 8);
+                size = r.fromOptions(1, 2, 4, 8);
                 break;
             case FLOATING:
-                size = Randomly.fromOptions(4, 8);
+                size = r.fromOptions(4, 8);
                 break;
             default:
                 break;
@@ -104,6 +104,20 @@ public class TiDBSchema extends AbstractSchema<TiDBTable> {
             return new TiDBCompositeDataType(primitiveType, size);
         }
 
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TiDBCompositeDataType)) {
+                return false;
+            }
+            TiDBCompositeDataType other = (TiDBCompositeDataType) obj;
+            return dataType == other.dataType && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return dataType.hashCode() + 31 * size;
+        }
+
         @Override
         public String toString() {
             switch (getPrimitiveDataType()) {
@@ -171,8 +185,8 @@ public class TiDBSchema extends AbstractSchema<TiDBTable> {
         super(databaseTables);
     }
 
-    public TiDBTables getRandomTableNonEmptyTables() {
-        return new TiDBTables(Randomly.nonEmptySubset(getDatabaseTables()));
+    public TiDBTables getRandomTableNonEmptyTables(Randomly r) {
+        return new TiDBTables(r.nonEmptySubset(getDatabaseTables()));
     }
 
     private static TiDBCompositeDataType getColumnType(String typeString) {
@@ -259,6 +273,38 @@ public class TiDBSchema extends AbstractSchema<TiDBTable> {
         return new TiDBSchema(databaseTables);
     }
 
+    public TiDBSchema addIndex(String tableName, String indexName, int nrIndexedColumns) {
+        List<TiDBTable> tables = new ArrayList<>();
+        boolean foundTable = false;
+        for (TiDBTable t : getDatabaseTables()) {
+            if (t.getName().equals(tableName)) {
+                foundTable = true;
+                List<TableIndex> indexes = new ArrayList<>(t.getIndexes());
+                // like getIndexes(), which receives one row per indexed column from SHOW INDEX
+                for (int i = 0; i < nrIndexedColumns; i++) {
+                    indexes.add(TableIndex.create(indexName));
+                }
+                // copy the columns, since they are shared with the table of the current schema
+                List<TiDBColumn> columns = new ArrayList<>();
+                for (TiDBColumn c : t.getColumns()) {
+                    columns.add(new TiDBColumn(c.getName(), c.getType(), c.isPrimaryKey(), c.isNullable()));
+                }
+                TiDBTable updatedTable = new TiDBTable(t.getName(), columns, indexes, t.isView());
+                for (TiDBColumn c : columns) {
+                    c.setTable(updatedTable);
+                }
+                tables.add(updatedTable);
+            } else {
+                tables.add(t);
+            }
+        }
+        if (!foundTable) {
+            // the in-memory schema does not match the database, so the effect of the statement is unknown
+            return null;
+        }
+        return new TiDBSchema(tables);
+    }
+
     private static List<String> getTableNames(Connection con) throws SQLException {
         List<String> tableNames = new ArrayList<>();
         try (Statement s = con.createStatement()) {
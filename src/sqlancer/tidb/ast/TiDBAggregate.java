@@ -21,8 +21,8 @@ public class TiDBAggregate extends FunctionNode<TiDBAggregateFunction, TiDBExpre
             this.nrArgs = nrArgs;
         }
 
-        public static TiDBAggregateFunction getRandom() {
-            return Randomly.fromOptions(values());
+        public static TiDBAggregateFunction getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         public int getNrArgs() {
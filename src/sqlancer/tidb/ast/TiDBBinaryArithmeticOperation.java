@@ -22,8 +22,8 @@ public class TiDBBinaryArithmeticOperation extends BinaryOperatorNode<TiDBExpres
             this.textRepresentation = textRepresentation;
         }
 
-        public static TiDBBinaryArithmeticOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static TiDBBinaryArithmeticOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
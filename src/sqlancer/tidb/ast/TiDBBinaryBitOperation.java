@@ -21,8 +21,8 @@ public class TiDBBinaryBitOperation extends BinaryOperatorNode<TiDBExpression, T
             this.textRepresentation = textRepresentation;
         }
 
-        public static TiDBBinaryBitOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static TiDBBinaryBitOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
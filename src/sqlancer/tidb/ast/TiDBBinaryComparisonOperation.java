@@ -23,8 +23,8 @@ public class TiDBBinaryComparisonOperation extends BinaryOperatorNode<TiDBExpres
             this.textRepr = textRepr;
         }
 
-        public static TiDBComparisonOperator getRandom() {
-            return Randomly.fromOptions(TiDBComparisonOperator.values());
+        public static TiDBComparisonOperator getRandom(Randomly r) {
+            return r.fromOptions(TiDBComparisonOperator.values());
         }
 
         @Override
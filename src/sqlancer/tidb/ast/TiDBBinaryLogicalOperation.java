@@ -18,8 +18,8 @@ public class TiDBBinaryLogicalOperation extends BinaryOperatorNode<TiDBExpressio
             this.textRepresentation = textRepresentation;
         }
 
-        public static TiDBBinaryLogicalOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static TiDBBinaryLogicalOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -76,8 +76,8 @@ public class TiDBFunctionCall implements TiDBExpression {
         ELT(2, true), //
         EXPORT_SET(0) {
             @Override
-            public int getNrArgs() {
-                return Randomly.fromOptions(3, 4, 5);
+            public int getNrArgs(Randomly r) {
+                return r.fromOptions(3, 4, 5);
             }
         },
         // [...]
@@ -135,18 +135,18 @@ public class TiDBFunctionCall implements TiDBExpression {
             this.isVariadic = true;
         }
 
-        public static TiDBFunction getRandom() {
+        public static TiDBFunction getRandom(Randomly r) {
             while (true) {
-                TiDBFunction func = Randomly.fromOptions(values());
-                if (func.getNrArgs() != -1) {
+                TiDBFunction func = r.fromOptions(values());
+                if (func.getNrArgs(r) != -1) {
                     // special functions that need to be created manually (e.g., DEFAULT)
                     return func;
                 }
             }
         }
 
-        public int getNrArgs() {
-            return nrArgs + (isVariadic() ? Randomly.smallNumber() : 0);
+        public int getNrArgs(Randomly r) {
+            return nrArgs + (isVariadic() ? r.smallNumber() : 0);
         }
 
         public boolean isVariadic() {
@@ -19,16 +19,16 @@ public class TiDBJoin implements TiDBExpression {
     public enum JoinType {
         INNER, NATURAL, STRAIGHT, LEFT, RIGHT;
 
-        public static JoinType getRandom() {
-            return Randomly.fromOptions(values());
+        public static JoinType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
     public enum NaturalJoinType {
         INNER, LEFT, RIGHT;
 
-        public static NaturalJoinType getRandom() {
-            return Randomly.fromOptions(values());
+        public static NaturalJoinType getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
     }
 
@@ -88,18 +88,19 @@ public class TiDBJoin implements TiDBExpression {
 
     public static List<TiDBExpression> getJoins(List<TiDBExpression> tableList, TiDBGlobalState globalState) {
         List<TiDBExpression> joinExpressions = new ArrayList<>();
-        while (tableList.size() >= 2 && Randomly.getBoolean()) {
+        while (tableList.size() >= 2 && globalState.getRandomly().getBoolean()) {
             TiDBTableReference leftTable = (TiDBTableReference) tableList.remove(0);
             TiDBTableReference rightTable = (TiDBTableReference) tableList.remove(0);
             List<TiDBColumn> columns = new ArrayList<>(leftTable.getTable().getColumns());
             columns.addAll(rightTable.getTable().getColumns());
             TiDBExpressionGenerator joinGen = new TiDBExpressionGenerator(globalState).setColumns(columns);
-            switch (TiDBJoin.JoinType.getRandom()) {
+            switch (TiDBJoin.JoinType.getRandom(globalState.getRandomly())) {
             case INNER:
                 joinExpressions.add(TiDBJoin.createInnerJoin(leftTable, rightTable, joinGen.generateExpression()));
                 break;
             case NATURAL:
-                joinExpressions.add(TiDBJoin.createNaturalJoin(leftTable, rightTable, NaturalJoinType.getRandom()));
+                joinExpressions.add(TiDBJoin.createNaturalJoin(leftTable, rightTable,
+                        NaturalJoinType.getRandom(globalState.getRandomly())));
                 break;
             case STRAIGHT:
                 joinExpressions.add(TiDBJoin.createStraightJoin(leftTable, rightTable, joinGen.generateExpression()));
@@ -20,8 +20,8 @@ public class TiDBRegexOperation extends BinaryOperatorNode<TiDBExpression, TiDBR
             this.textRepr = textRepr;
         }
 
-        public static TiDBRegexOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static TiDBRegexOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
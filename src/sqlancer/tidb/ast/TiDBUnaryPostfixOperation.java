@@ -18,8 +18,8 @@ public class TiDBUnaryPostfixOperation extends UnaryOperatorNode<TiDBExpression,
             this.s = s;
         }
 
-        public static TiDBUnaryPostfixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static TiDBUnaryPostfixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
@@ -21,8 +21,8 @@ public class TiDBUnaryPrefixOperation extends UnaryOperatorNode<TiDBExpression,
             this.s = s;
         }
 
-        public static TiDBUnaryPrefixOperator getRandom() {
-            return Randomly.fromOptions(values());
+        public static TiDBUnaryPrefixOperator getRandom(Randomly r) {
+            return r.fromOptions(values());
         }
 
         @Override
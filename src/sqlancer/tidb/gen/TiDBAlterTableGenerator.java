@@ -5,9 +5,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.tidb.TiDBBugs;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
 import sqlancer.tidb.TiDBSchema.TiDBColumn;
@@ -26,26 +26,26 @@ public final class TiDBAlterTableGenerator {
     public static Query getQuery(TiDBGlobalState globalState) {
         Set<String> errors = new HashSet<>();
         StringBuilder sb = new StringBuilder("ALTER TABLE ");
-        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
-        TiDBColumn column = table.getRandomColumn();
+        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        TiDBColumn column = table.getRandomColumn(globalState.getRandomly());
         sb.append(table.getName());
-        Action a = Randomly.fromOptions(Action.values());
+        Action a = globalState.getRandomly().fromOptions(Action.values());
         sb.append(" ");
         switch (a) {
         case MODIFY_COLUMN:
             if (TiDBBugs.bug10) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             sb.append("MODIFY ");
             sb.append(column.getName());
             sb.append(" ");
-            sb.append(TiDBDataType.getRandom());
+            sb.append(TiDBDataType.getRandom(globalState.getRandomly()));
             errors.add("Unsupported modify column");
             break;
         case DROP_COLUMN:
             sb.append(" DROP ");
             if (table.getColumns().size() <= 1) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
             sb.append(column.getName());
             errors.add("with index covered now");
@@ -55,7 +55,7 @@ public final class TiDBAlterTableGenerator {
                     "references invalid table(s) or column(s) or function(s) or definer/invoker of view lack rights to use them");
             break;
         case ENABLE_DISABLE_KEYS:
-            sb.append(Randomly.fromOptions("ENABLE", "DISABLE"));
+            sb.append(globalState.getRandomly().fromOptions("ENABLE", "DISABLE"));
             sb.append(" KEYS");
             break;
         case FORCE:
@@ -63,7 +63,7 @@ public final class TiDBAlterTableGenerator {
             break;
         case DROP_PRIMARY_KEY:
             if (!column.isPrimaryKey()) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
             errors.add("Unsupported drop integer primary key");
             errors.add("Unsupported drop primary key when alter-primary-key is false");
@@ -71,7 +71,7 @@ public final class TiDBAlterTableGenerator {
             break;
         case ADD_PRIMARY_KEY:
             sb.append("ADD PRIMARY KEY(");
-            sb.append(table.getRandomNonEmptyColumnSubset().stream().map(c -> c.getName())
+            sb.append(table.getRandomNonEmptyColumnSubset(globalState.getRandomly()).stream().map(c -> c.getName())
                     .collect(Collectors.joining(", ")));
             sb.append(")");
             errors.add("Unsupported add primary key, alter-primary-key is false");
@@ -79,7 +79,7 @@ public final class TiDBAlterTableGenerator {
             break;
         case CHANGE:
             if (TiDBBugs.bug10) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             sb.append(" CHANGE ");
             sb.append(column.getName());
@@ -94,8 +94,8 @@ public final class TiDBAlterTableGenerator {
             break;
         case ORDER_BY:
             sb.append(" ORDER BY ");
-            sb.append(table.getRandomNonEmptyColumnSubset().stream()
-                    .map(c -> c.getName() + Randomly.fromOptions("", " ASC", " DESC"))
+            sb.append(table.getRandomNonEmptyColumnSubset(globalState.getRandomly()).stream()
+                    .map(c -> c.getName() + globalState.getRandomly().fromOptions("", " ASC", " DESC"))
                     .collect(Collectors.joining(", ")));
             break;
         default:
@@ -5,7 +5,6 @@ import java.util.Arrays;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
 import sqlancer.tidb.TiDBSchema.TiDBTable;
 
@@ -15,21 +14,21 @@ public final class TiDBAnalyzeTableGenerator {
     }
 
     public static Query getQuery(TiDBGlobalState globalState) throws SQLException {
-        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
-        boolean analyzeIndex = !table.getIndexes().isEmpty() && Randomly.getBoolean();
+        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        boolean analyzeIndex = !table.getIndexes().isEmpty() && globalState.getRandomly().getBoolean();
         StringBuilder sb = new StringBuilder("ANALYZE ");
-        if (analyzeIndex && Randomly.getBoolean()) {
+        if (analyzeIndex && globalState.getRandomly().getBoolean()) {
             sb.append("INCREMENTAL ");
         }
         sb.append("TABLE ");
         sb.append(table.getName());
         if (analyzeIndex) {
             sb.append(" INDEX ");
-            sb.append(table.getRandomIndex().getIndexName());
+            sb.append(table.getRandomIndex(globalState.getRandomly()).getIndexName());
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WITH ");
-            sb.append(Randomly.getNotCachedInteger(1, 1024));
+            sb.append(globalState.getRandomly().getNotCachedInteger(1, 1024));
             sb.append(" BUCKETS");
         }
         return new QueryAdapter(sb.toString(), Arrays.asList("https://github.com/pingcap/tidb/issues/15993",
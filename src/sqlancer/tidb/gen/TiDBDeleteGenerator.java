@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.tidb.TiDBErrors;
 import sqlancer.tidb.TiDBExpressionGenerator;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
@@ -21,36 +20,36 @@ public final class TiDBDeleteGenerator {
 
     public static Query getQuery(TiDBGlobalState globalState) throws SQLException {
         Set<String> errors = new HashSet<>();
-        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         TiDBExpressionGenerator gen = new TiDBExpressionGenerator(globalState).setColumns(table.getColumns());
         StringBuilder sb = new StringBuilder("DELETE ");
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
             sb.append("LOW_PRIORITY ");
         }
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
             sb.append("QUICK ");
         }
-        if (Randomly.getBooleanWithSmallProbability()) {
+        if (globalState.getRandomly().getBooleanWithSmallProbability()) {
             sb.append("IGNORE ");
         }
         sb.append("FROM ");
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
-            sb.append(TiDBVisitor.asString(gen.generateExpression()));
+            sb.append(TiDBVisitor.asString(gen.generateExpression(), globalState.getRandomly()));
             errors.add("Truncated incorrect");
             errors.add("Data truncation");
             errors.add("Truncated incorrect FLOAT value");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" ORDER BY ");
             TiDBErrors.addExpressionErrors(errors);
-            sb.append(gen.generateOrderBys().stream().map(o -> TiDBVisitor.asString(o))
+            sb.append(gen.generateOrderBys().stream().map(o -> TiDBVisitor.asString(o, globalState.getRandomly()))
                     .collect(Collectors.joining(", ")));
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" LIMIT ");
-            sb.append(Randomly.getNotCachedInteger(0, Integer.MAX_VALUE));
+            sb.append(globalState.getRandomly().getNotCachedInteger(0, Integer.MAX_VALUE));
         }
         errors.add("Bad Number");
         errors.add("Division by 0");
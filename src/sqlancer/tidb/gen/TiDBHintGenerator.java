@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.schema.TableIndex;
 import sqlancer.tidb.TiDBBugs;
@@ -15,6 +16,7 @@ public class TiDBHintGenerator {
 
     private final TiDBSelect select;
     private final List<TiDBTable> tables;
+    private final Randomly r;
     private final StringBuilder sb = new StringBuilder();
 
     enum IndexHint {
@@ -34,19 +36,20 @@ public class TiDBHintGenerator {
         USE_TOJA;
     }
 
-    public TiDBHintGenerator(TiDBSelect select, List<TiDBTable> tables) {
+    public TiDBHintGenerator(TiDBSelect select, List<TiDBTable> tables, Randomly r) {
         this.select = select;
         this.tables = tables;
+        this.r = r;
     }
 
-    public static void generateHints(TiDBSelect select, List<TiDBTable> tables) {
-        new TiDBHintGenerator(select, tables).generate();
+    public static void generateHints(TiDBSelect select, List<TiDBTable> tables, Randomly r) {
+        new TiDBHintGenerator(select, tables, r).generate();
 
     }
 
     private void generate() {
-        TiDBTable table = Randomly.fromList(tables);
-        switch (Randomly.fromOptions(IndexHint.values())) {
+        TiDBTable table = r.fromList(tables);
+        switch (r.fromOptions(IndexHint.values())) {
         case MERGE_JOIN:
             tablesHint("MERGE_JOIN");
             break;
@@ -55,7 +58,7 @@ public class TiDBHintGenerator {
             break;
         case INL_HASH_JOIN:
             if (TiDBBugs.bug50) {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.KNOWN_BUG);
             }
             tablesHint("INL_HASH_JOIN");
             break;
@@ -85,11 +88,11 @@ public class TiDBHintGenerator {
                 sb.append("USE_INDEX_MERGE(");
                 sb.append(table.getName());
                 sb.append(", ");
-                List<TableIndex> indexes = Randomly.nonEmptySubset(table.getIndexes());
+                List<TableIndex> indexes = r.nonEmptySubset(table.getIndexes());
                 sb.append(indexes.stream().map(i -> i.getIndexName()).collect(Collectors.joining(", ")));
                 sb.append(")");
             } else {
-                throw new IgnoreMeException();
+                throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
             }
             break;
         case NO_INDEX_MERGE:
@@ -97,7 +100,7 @@ public class TiDBHintGenerator {
             break;
         case USE_TOJA:
             sb.append("USE_TOJA(");
-            sb.append(Randomly.getBoolean());
+            sb.append(r.getBoolean());
             sb.append(")");
             break;
         default:
@@ -110,12 +113,12 @@ public class TiDBHintGenerator {
         sb.append(string);
         sb.append("(");
         // FIXME: select one table
-        TiDBTable table = Randomly.fromList(tables);
+        TiDBTable table = r.fromList(tables);
         List<TableIndex> allIndexes = table.getIndexes();
         if (allIndexes.isEmpty()) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.MISSING_SCHEMA_OBJECT);
         }
-        List<TableIndex> indexSubset = Randomly.nonEmptySubset(allIndexes);
+        List<TableIndex> indexSubset = r.nonEmptySubset(allIndexes);
         sb.append(table.getName());
         sb.append(", ");
         sb.append(indexSubset.stream().map(i -> i.getIndexName()).distinct().collect(Collectors.joining(", ")));
@@ -130,7 +133,7 @@ public class TiDBHintGenerator {
     }
 
     private void appendTables() {
-        List<TiDBTable> tableSubset = Randomly.nonEmptySubset(tables);
+        List<TiDBTable> tableSubset = r.nonEmptySubset(tables);
         sb.append(tableSubset.stream().map(t -> t.getName()).collect(Collectors.joining(", ")));
     }
 
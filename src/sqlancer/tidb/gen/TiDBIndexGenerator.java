@@ -6,9 +6,9 @@ import java.util.List;
 import java.util.Set;
 
 import sqlancer.Query;
-import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
+import sqlancer.SchemaUpdatingQueryAdapter;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
+import sqlancer.tidb.TiDBSchema;
 import sqlancer.tidb.TiDBSchema.TiDBColumn;
 import sqlancer.tidb.TiDBSchema.TiDBTable;
 
@@ -20,10 +20,10 @@ public final class TiDBIndexGenerator {
     public static Query getQuery(TiDBGlobalState globalState) throws SQLException {
         Set<String> errors = new HashSet<>();
 
-        TiDBTable randomTable = globalState.getSchema().getRandomTable(t -> !t.isView());
-        String indexName = globalState.getSchema().getFreeIndexName();
+        TiDBTable randomTable = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
+        String indexName = globalState.getSchema().getFreeIndexName(globalState.getRandomly());
         StringBuilder sb = new StringBuilder("CREATE ");
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             sb.append("UNIQUE ");
             errors.add("Duplicate for key");
             errors.add("Duplicate entry ");
@@ -34,8 +34,8 @@ public final class TiDBIndexGenerator {
         sb.append(" ON ");
         sb.append(randomTable.getName());
         sb.append("(");
-        int nr = Math.min(Randomly.smallNumber() + 1, randomTable.getColumns().size());
-        List<TiDBColumn> subset = Randomly.extractNrRandomColumns(randomTable.getColumns(), nr);
+        int nr = Math.min(globalState.getRandomly().smallNumber() + 1, randomTable.getColumns().size());
+        List<TiDBColumn> subset = globalState.getRandomly().extractNrRandomColumns(randomTable.getColumns(), nr);
         for (int i = 0; i < subset.size(); i++) {
             if (i != 0) {
                 sb.append(", ");
@@ -45,21 +45,23 @@ public final class TiDBIndexGenerator {
                 // TODO: otherwise: Incorrect prefix key; the used key part isn't a string, the
                 // used length is longer than the key part, or the storage engine doesn't
                 // support unique prefix keys
-                TiDBTableGenerator.appendSpecifiers(sb, subset.get(i).getType().getPrimitiveDataType());
+                TiDBTableGenerator.appendSpecifiers(sb, subset.get(i).getType().getPrimitiveDataType(),
+                        globalState.getRandomly());
             }
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(" ");
-                sb.append(Randomly.fromOptions("ASC", "DESC"));
+                sb.append(globalState.getRandomly().fromOptions("ASC", "DESC"));
             }
         }
         sb.append(")");
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             sb.append(" KEY_BLOCK_SIZE ");
-            sb.append(Randomly.getPositiveOrZeroNonCachedInteger());
+            sb.append(globalState.getRandomly().getPositiveOrZeroNonCachedInteger());
         }
         errors.add("Cannot decode index value, because"); // invalid value for generated column
         errors.add("index already exist");
-        return new QueryAdapter(sb.toString(), errors, true);
+        return new SchemaUpdatingQueryAdapter<TiDBSchema>(sb.toString(), errors,
+                s -> s.addIndex(randomTable.getName(), indexName, subset.size()));
     }
 
 }
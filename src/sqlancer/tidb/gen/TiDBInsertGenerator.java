@@ -6,9 +6,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import sqlancer.InsertQueryAdapter;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.tidb.TiDBErrors;
 import sqlancer.tidb.TiDBExpressionGenerator;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
@@ -32,47 +32,52 @@ public class TiDBInsertGenerator {
     }
 
     private Query get() {
-        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         gen = new TiDBExpressionGenerator(globalState).setColumns(table.getColumns());
         StringBuilder sb = new StringBuilder();
-        boolean isInsert = Randomly.getBoolean();
+        boolean isInsert = globalState.getRandomly().getBoolean();
         if (isInsert) {
             sb.append("INSERT");
         } else {
             sb.append("REPLACE");
         }
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             sb.append(" ");
-            sb.append(Randomly.fromOptions("LOW_PRIORITY", "HIGH_PRIORITY", "DELAYED"));
+            sb.append(globalState.getRandomly().fromOptions("LOW_PRIORITY", "HIGH_PRIORITY", "DELAYED"));
         }
-        if (isInsert && Randomly.getBoolean()) {
+        if (isInsert && globalState.getRandomly().getBoolean()) {
             sb.append(" IGNORE ");
         }
         sb.append(" INTO ");
         sb.append(table.getName());
-        if (Randomly.getBoolean()) {
+        int rowsStart;
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" VALUES ");
+            rowsStart = sb.length();
             List<TiDBColumn> columns = table.getColumns();
             insertColumns(sb, columns);
         } else {
-            List<TiDBColumn> columnSubset = table.getRandomNonEmptyColumnSubset();
+            List<TiDBColumn> columnSubset = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
             sb.append("(");
             sb.append(columnSubset.stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(") VALUES ");
+            rowsStart = sb.length();
             insertColumns(sb, columnSubset);
         }
-        if (isInsert && Randomly.getBoolean()) {
+        errors.add("Illegal mix of collations");
+        if (isInsert && globalState.getRandomly().getBoolean()) {
             sb.append(" ON DUPLICATE KEY UPDATE ");
-            sb.append(table.getRandomColumn().getName());
+            sb.append(table.getRandomColumn(globalState.getRandomly()).getName());
             sb.append("=");
-            sb.append(TiDBVisitor.asString(gen.generateExpression()));
+            sb.append(TiDBVisitor.asString(gen.generateExpression(), globalState.getRandomly()));
+            return new QueryAdapter(sb.toString(), errors);
         }
-        errors.add("Illegal mix of collations");
-        return new QueryAdapter(sb.toString(), errors);
+        // TiDB executes statements atomically, so rows of different statements can be merged
+        return new InsertQueryAdapter(sb.substring(0, rowsStart), sb.substring(rowsStart), errors);
     }
 
     private void insertColumns(StringBuilder sb, List<TiDBColumn> columns) {
-        for (int nrRows = 0; nrRows < Randomly.smallNumber() + 1; nrRows++) {
+        for (int nrRows = 0; nrRows < globalState.getRandomly().smallNumber() + 1; nrRows++) {
             if (nrRows != 0) {
                 sb.append(", ");
             }
@@ -6,7 +6,6 @@ import java.util.stream.Collectors;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.tidb.TiDBExpressionGenerator;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
 import sqlancer.tidb.TiDBSchema.TiDBTables;
@@ -22,11 +21,11 @@ public final class TiDBRandomQuerySynthesizer {
 
     public static Query generate(TiDBGlobalState globalState, int nrColumns) {
         TiDBSelect select = generateSelect(globalState, nrColumns);
-        return new QueryAdapter(TiDBVisitor.asString(select));
+        return new QueryAdapter(TiDBVisitor.asString(select, globalState.getRandomly()));
     }
 
     public static TiDBSelect generateSelect(TiDBGlobalState globalState, int nrColumns) {
-        TiDBTables tables = globalState.getSchema().getRandomTableNonEmptyTables();
+        TiDBTables tables = globalState.getSchema().getRandomTableNonEmptyTables(globalState.getRandomly());
         TiDBExpressionGenerator gen = new TiDBExpressionGenerator(globalState).setColumns(tables.getColumns());
         TiDBSelect select = new TiDBSelect();
         // select.setDistinct(Randomly.getBoolean());
@@ -38,22 +37,22 @@ public final class TiDBRandomQuerySynthesizer {
                 .collect(Collectors.toList());
         // TODO: generate joins
         select.setFromList(tableList);
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setWhereClause(gen.generateExpression());
         }
-        if (Randomly.getBooleanWithRatherLowProbability()) {
+        if (globalState.getRandomly().getBooleanWithRatherLowProbability()) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
-        if (Randomly.getBoolean()) {
-            select.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
-            if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
+            select.setGroupByExpressions(gen.generateExpressions(globalState.getRandomly().smallNumber() + 1));
+            if (globalState.getRandomly().getBoolean()) {
                 select.setHavingClause(gen.generateHavingClause());
             }
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setLimitClause(gen.generateExpression());
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             select.setOffsetClause(gen.generateExpression());
         }
         return select;
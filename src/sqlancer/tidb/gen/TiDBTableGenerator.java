@@ -8,6 +8,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
 import sqlancer.Randomly;
@@ -29,10 +30,10 @@ public class TiDBTableGenerator {
 
     public Query getQuery(TiDBGlobalState globalState) throws SQLException {
         errors.add("Information schema is changed during the execution of the statement");
-        String tableName = globalState.getSchema().getFreeTableName();
-        int nrColumns = Randomly.smallNumber() + 1;
-        allowPrimaryKey = Randomly.getBoolean();
-        primaryKeyAsTableConstraints = allowPrimaryKey && Randomly.getBoolean();
+        String tableName = globalState.getSchema().getFreeTableName(globalState.getRandomly());
+        int nrColumns = globalState.getRandomly().smallNumber() + 1;
+        allowPrimaryKey = globalState.getRandomly().getBoolean();
+        primaryKeyAsTableConstraints = allowPrimaryKey && globalState.getRandomly().getBoolean();
         for (int i = 0; i < nrColumns; i++) {
             TiDBColumn fakeColumn = new TiDBColumn("c" + i, null, false, false);
             columns.add(fakeColumn);
@@ -42,17 +43,17 @@ public class TiDBTableGenerator {
         StringBuilder sb = new StringBuilder("CREATE TABLE ");
         sb.append(tableName);
 
-        if (Randomly.getBoolean() && globalState.getSchema().getDatabaseTables().size() > 0) {
+        if (globalState.getRandomly().getBoolean() && globalState.getSchema().getDatabaseTables().size() > 0) {
             sb.append(" LIKE ");
-            TiDBTable otherTable = globalState.getSchema().getRandomTable();
+            TiDBTable otherTable = globalState.getSchema().getRandomTable(globalState.getRandomly());
             sb.append(otherTable.getName());
         } else {
-            createNewTable(gen, sb);
+            createNewTable(gen, sb, globalState.getRandomly());
         }
         return new QueryAdapter(sb.toString(), errors, true);
     }
 
-    private void createNewTable(TiDBExpressionGenerator gen, StringBuilder sb) {
+    private void createNewTable(TiDBExpressionGenerator gen, StringBuilder sb, Randomly r) {
         sb.append("(");
         for (int i = 0; i < columns.size(); i++) {
             if (i != 0) {
@@ -62,17 +63,17 @@ public class TiDBTableGenerator {
             sb.append(" ");
             TiDBCompositeDataType type;
             do {
-                type = TiDBCompositeDataType.getRandom();
+                type = TiDBCompositeDataType.getRandom(r);
             } while (type.getPrimitiveDataType() == TiDBDataType.INT && type.getSize() < 4
                     || type.getPrimitiveDataType() == TiDBDataType.BOOL); // https://github.com/tidb-challenge-program/bug-hunting-issue/issues/49
-            appendType(sb, type);
+            appendType(sb, type, r);
             sb.append(" ");
-            boolean isGeneratedColumn = Randomly.getBooleanWithRatherLowProbability();
+            boolean isGeneratedColumn = r.getBooleanWithRatherLowProbability();
             if (isGeneratedColumn) {
                 sb.append(" AS (");
-                sb.append(TiDBVisitor.asString(gen.generateExpression()));
+                sb.append(TiDBVisitor.asString(gen.generateExpression(), r));
                 sb.append(") ");
-                sb.append(Randomly.fromOptions("STORED", "VIRTUAL"));
+                sb.append(r.fromOptions("STORED", "VIRTUAL"));
                 sb.append(" ");
                 errors.add("You have an error in your SQL syntax"); // https://github.com/tidb-challenge-program/bug-hunting-issue/issues/53
                 errors.add("Generated column can refer only to generated columns defined prior to it");
@@ -81,32 +82,32 @@ public class TiDBTableGenerator {
                 errors.add("contains a disallowed function.");
                 errors.add("cannot refer to auto-increment column");
             }
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (r.getBooleanWithRatherLowProbability()) {
                 sb.append("CHECK (");
-                sb.append(TiDBVisitor.asString(gen.generateExpression()));
+                sb.append(TiDBVisitor.asString(gen.generateExpression(), r));
                 sb.append(") ");
             }
-            if (Randomly.getBooleanWithRatherLowProbability()) {
+            if (r.getBooleanWithRatherLowProbability()) {
                 sb.append("NOT NULL ");
             }
-            if (Randomly.getBoolean() && type.getPrimitiveDataType() != TiDBDataType.TEXT
+            if (r.getBoolean() && type.getPrimitiveDataType() != TiDBDataType.TEXT
                     && type.getPrimitiveDataType() != TiDBDataType.BLOB && !isGeneratedColumn) {
                 sb.append("DEFAULT ");
-                sb.append(TiDBVisitor.asString(gen.generateConstant()));
+                sb.append(TiDBVisitor.asString(gen.generateConstant(), r));
                 sb.append(" ");
                 errors.add("Invalid default value");
                 errors.add(
                         "All parts of a PRIMARY KEY must be NOT NULL; if you need NULL in a key, use UNIQUE instead");
             }
-            if (type.getPrimitiveDataType() == TiDBDataType.INT && Randomly.getBooleanWithRatherLowProbability()
+            if (type.getPrimitiveDataType() == TiDBDataType.INT && r.getBooleanWithRatherLowProbability()
                     && !isGeneratedColumn) {
                 sb.append(" AUTO_INCREMENT ");
                 errors.add("there can be only one auto column and it must be defined as a key");
             }
-            if (Randomly.getBooleanWithRatherLowProbability() && canUseAsUnique(type)) {
+            if (r.getBooleanWithRatherLowProbability() && canUseAsUnique(type)) {
                 sb.append("UNIQUE ");
             }
-            if (Randomly.getBooleanWithRatherLowProbability() && allowPrimaryKey && !primaryKeyAsTableConstraints
+            if (r.getBooleanWithRatherLowProbability() && allowPrimaryKey && !primaryKeyAsTableConstraints
                     && canUseAsUnique(type) && !isGeneratedColumn) {
                 sb.append("PRIMARY KEY ");
                 allowPrimaryKey = false;
@@ -115,19 +116,19 @@ public class TiDBTableGenerator {
         if (primaryKeyAsTableConstraints) {
             sb.append(", PRIMARY KEY(");
             sb.append(
-                    Randomly.nonEmptySubset(columns).stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
+                    r.nonEmptySubset(columns).stream().map(c -> c.getName()).collect(Collectors.joining(", ")));
             sb.append(")");
             // TODO: do nto include blob/text columns here
             errors.add(" used in key specification without a key length");
         }
         sb.append(")");
-        if (Randomly.getBooleanWithRatherLowProbability()
+        if (r.getBooleanWithRatherLowProbability()
                 && !TiDBBugs.bug14 /* there are also a number of unresolved other partitioning bugs */) {
             sb.append("PARTITION BY HASH(");
-            sb.append(TiDBVisitor.asString(gen.generateExpression()));
+            sb.append(TiDBVisitor.asString(gen.generateExpression(), r));
             sb.append(") ");
             sb.append("PARTITIONS ");
-            sb.append(Randomly.getNotCachedInteger(1, 100));
+            sb.append(r.getNotCachedInteger(1, 100));
             errors.add(
                     "Constant, random or timezone-dependent expressions in (sub)partitioning function are not allowed");
             errors.add("This partition function is not allowed");
@@ -139,21 +140,21 @@ public class TiDBTableGenerator {
                 errors.add("UnknownType: *ast.WhenClause");
             }
         }
-        List<Action> actions = Randomly.nonEmptySubset(Action.values());
+        List<Action> actions = r.nonEmptySubset(Action.values());
         for (Action a : actions) {
             sb.append(" ");
             switch (a) {
             case AUTO_INCREMENT:
                 sb.append("AUTO_INCREMENT=");
-                sb.append(Randomly.getNotCachedInteger(0, Integer.MAX_VALUE));
+                sb.append(r.getNotCachedInteger(0, Integer.MAX_VALUE));
                 break;
             case PRE_SPLIT_REGIONS:
                 sb.append("PRE_SPLIT_REGIONS=");
-                sb.append(Randomly.getNotCachedInteger(0, Integer.MAX_VALUE));
+                sb.append(r.getNotCachedInteger(0, Integer.MAX_VALUE));
                 break;
             case SHARD_ROW_ID_BITS:
                 sb.append("SHARD_ROW_ID_BITS=");
-                sb.append(Randomly.getNotCachedInteger(0, Integer.MAX_VALUE));
+                sb.append(r.getNotCachedInteger(0, Integer.MAX_VALUE));
                 errors.add("Unsupported shard_row_id_bits for table with primary key as row id");
                 break;
             default:
@@ -166,33 +167,33 @@ public class TiDBTableGenerator {
         return type.getPrimitiveDataType() != TiDBDataType.TEXT && type.getPrimitiveDataType() != TiDBDataType.BLOB;
     }
 
-    private void appendType(StringBuilder sb, TiDBCompositeDataType type) {
+    private void appendType(StringBuilder sb, TiDBCompositeDataType type, Randomly r) {
         if (type.getPrimitiveDataType() == TiDBDataType.CHAR) {
-            throw new IgnoreMeException();
+            throw new IgnoreMeException(Reason.UNSUPPORTED);
         }
         sb.append(type.toString());
-        appendSpecifiers(sb, type.getPrimitiveDataType());
-        appendSizeSpecifiers(sb, type.getPrimitiveDataType());
+        appendSpecifiers(sb, type.getPrimitiveDataType(), r);
+        appendSizeSpecifiers(sb, type.getPrimitiveDataType(), r);
     }
 
     private enum Action {
         AUTO_INCREMENT, PRE_SPLIT_REGIONS, SHARD_ROW_ID_BITS
     }
 
-    private void appendSizeSpecifiers(StringBuilder sb, TiDBDataType type) {
-        if (type.isNumeric() && Randomly.getBoolean() && !TiDBBugs.bug16028) {
+    private void appendSizeSpecifiers(StringBuilder sb, TiDBDataType type, Randomly r) {
+        if (type.isNumeric() && r.getBoolean() && !TiDBBugs.bug16028) {
             sb.append(" UNSIGNED");
         }
-        if (type.isNumeric() && Randomly.getBoolean()
+        if (type.isNumeric() && r.getBoolean()
                 && !TiDBBugs.bug16028 /* seems to be the same bug as https://github.com/pingcap/tidb/issues/16028 */) {
             sb.append(" ZEROFILL");
         }
     }
 
-    static void appendSpecifiers(StringBuilder sb, TiDBDataType type) {
+    static void appendSpecifiers(StringBuilder sb, TiDBDataType type, Randomly r) {
         if (type == TiDBDataType.TEXT || type == TiDBDataType.BLOB) {
             sb.append("(");
-            sb.append(Randomly.getNotCachedInteger(1, 500));
+            sb.append(r.getNotCachedInteger(1, 500));
             sb.append(")");
         }
     }
@@ -7,7 +7,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.tidb.TiDBErrors;
 import sqlancer.tidb.TiDBExpressionGenerator;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
@@ -22,29 +21,29 @@ public final class TiDBUpdateGenerator {
 
     public static Query getQuery(TiDBGlobalState globalState) throws SQLException {
         Set<String> errors = new HashSet<>();
-        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView());
+        TiDBTable table = globalState.getSchema().getRandomTable(t -> !t.isView(), globalState.getRandomly());
         TiDBExpressionGenerator gen = new TiDBExpressionGenerator(globalState).setColumns(table.getColumns());
         StringBuilder sb = new StringBuilder("UPDATE ");
         sb.append(table.getName());
         sb.append(" SET ");
-        List<TiDBColumn> columns = table.getRandomNonEmptyColumnSubset();
+        List<TiDBColumn> columns = table.getRandomNonEmptyColumnSubset(globalState.getRandomly());
         for (int i = 0; i < columns.size(); i++) {
             if (i != 0) {
                 sb.append(", ");
             }
             sb.append(columns.get(i).getName());
             sb.append("=");
-            if (Randomly.getBoolean()) {
+            if (globalState.getRandomly().getBoolean()) {
                 sb.append(gen.generateConstant());
             } else {
-                sb.append(TiDBVisitor.asString(gen.generateExpression()));
+                sb.append(TiDBVisitor.asString(gen.generateExpression(), globalState.getRandomly()));
                 TiDBErrors.addExpressionErrors(errors);
             }
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WHERE ");
             TiDBErrors.addExpressionErrors(errors);
-            sb.append(TiDBVisitor.asString(gen.generateExpression()));
+            sb.append(TiDBVisitor.asString(gen.generateExpression(), globalState.getRandomly()));
             errors.add("Data Too Long"); // https://github.com/tidb-challenge-program/bug-hunting-issue/issues/43
         }
         TiDBErrors.addInsertErrors(errors);
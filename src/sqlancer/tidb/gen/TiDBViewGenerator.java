@@ -5,7 +5,6 @@ import java.util.Set;
 
 import sqlancer.Query;
 import sqlancer.QueryAdapter;
-import sqlancer.Randomly;
 import sqlancer.tidb.TiDBErrors;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
 
@@ -15,18 +14,18 @@ public final class TiDBViewGenerator {
     }
 
     public static Query getQuery(TiDBGlobalState globalState) {
-        int nrColumns = Randomly.smallNumber() + 1;
+        int nrColumns = globalState.getRandomly().smallNumber() + 1;
         StringBuilder sb = new StringBuilder("CREATE ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("OR REPLACE ");
         }
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append("ALGORITHM=");
-            sb.append(Randomly.fromOptions("UNDEFINED", "MERGE", "TEMPTABLE"));
+            sb.append(globalState.getRandomly().fromOptions("UNDEFINED", "MERGE", "TEMPTABLE"));
             sb.append(" ");
         }
         sb.append("VIEW ");
-        sb.append(globalState.getSchema().getFreeViewName());
+        sb.append(globalState.getSchema().getFreeViewName(globalState.getRandomly()));
         sb.append("(");
         for (int i = 0; i < nrColumns; i++) {
             if (i != 0) {
@@ -41,9 +40,9 @@ public final class TiDBViewGenerator {
         errors.add(
                 "references invalid table(s) or column(s) or function(s) or definer/invoker of view lack rights to use them");
         errors.add("Unknown column ");
-        if (Randomly.getBoolean()) {
+        if (globalState.getRandomly().getBoolean()) {
             sb.append(" WITH ");
-            sb.append(Randomly.fromOptions("CASCADED", "LOCAL"));
+            sb.append(globalState.getRandomly().fromOptions("CASCADED", "LOCAL"));
             sb.append(" ");
             sb.append(" CHECK OPTION");
         }
@@ -2,12 +2,10 @@ package sqlancer.tidb.oracle;
 
 import java.sql.SQLException;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import sqlancer.Randomly;
+import sqlancer.ExpectedErrors;
 import sqlancer.TestOracle;
 import sqlancer.tidb.TiDBErrors;
 import sqlancer.tidb.TiDBExpressionGenerator;
@@ -29,7 +27,7 @@ import sqlancer.tidb.gen.TiDBHintGenerator;
 public abstract class TiDBTLPBase implements TestOracle {
 
     final TiDBGlobalState state;
-    final Set<String> errors = new HashSet<>();
+    final ExpectedErrors errors = new ExpectedErrors();
 
     TiDBSchema s;
     TiDBTables targetTables;
@@ -47,13 +45,13 @@ public abstract class TiDBTLPBase implements TestOracle {
     @Override
     public void check() throws SQLException {
         s = state.getSchema();
-        targetTables = s.getRandomTableNonEmptyTables();
+        targetTables = s.getRandomTableNonEmptyTables(state.getRandomly());
         gen = new TiDBExpressionGenerator(state).setColumns(targetTables.getColumns());
         select = new TiDBSelect();
         select.setFetchColumns(generateFetchColumns());
         List<TiDBTable> tables = targetTables.getTables();
-        if (Randomly.getBoolean()) {
-            TiDBHintGenerator.generateHints(select, tables);
+        if (state.getRandomly().getBoolean()) {
+            TiDBHintGenerator.generateHints(select, tables, state.getRandomly());
         }
 
         List<TiDBExpression> tableList = tables.stream().map(t -> new TiDBTableReference(t))
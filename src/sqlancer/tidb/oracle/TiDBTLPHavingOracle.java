@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.TestOracle;
 import sqlancer.tidb.TiDBErrors;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
@@ -22,29 +22,29 @@ public class TiDBTLPHavingOracle extends TiDBTLPBase implements TestOracle {
     @Override
     public void check() throws SQLException {
         super.check();
-        if (Randomly.getBoolean()) {
+        if (state.getRandomly().getBoolean()) {
             select.setWhereClause(gen.generateExpression());
         }
-        boolean orderBy = Randomly.getBoolean();
+        boolean orderBy = state.getRandomly().getBoolean();
         if (orderBy) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
-        select.setGroupByExpressions(gen.generateExpressions(Randomly.smallNumber() + 1));
+        select.setGroupByExpressions(gen.generateExpressions(state.getRandomly().smallNumber() + 1));
         select.setHavingClause(null);
-        String originalQueryString = TiDBVisitor.asString(select);
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        String originalQueryString = TiDBVisitor.asString(select, state.getRandomly());
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
         select.setHavingClause(predicate);
-        String firstQueryString = TiDBVisitor.asString(select);
+        String firstQueryString = TiDBVisitor.asString(select, state.getRandomly());
         select.setHavingClause(negatedPredicate);
-        String secondQueryString = TiDBVisitor.asString(select);
+        String secondQueryString = TiDBVisitor.asString(select, state.getRandomly());
         select.setHavingClause(isNullPredicate);
-        String thirdQueryString = TiDBVisitor.asString(select);
+        String thirdQueryString = TiDBVisitor.asString(select, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !orderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !orderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
     @Override
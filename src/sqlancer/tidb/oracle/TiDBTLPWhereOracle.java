@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import sqlancer.ComparatorHelper;
-import sqlancer.Randomly;
+import sqlancer.ResultSetFingerprint;
 import sqlancer.tidb.TiDBErrors;
 import sqlancer.tidb.TiDBProvider.TiDBGlobalState;
 import sqlancer.tidb.visitor.TiDBVisitor;
@@ -21,25 +21,25 @@ public class TiDBTLPWhereOracle extends TiDBTLPBase {
     public void check() throws SQLException {
         super.check();
         select.setWhereClause(null);
-        String originalQueryString = TiDBVisitor.asString(select);
+        String originalQueryString = TiDBVisitor.asString(select, state.getRandomly());
 
-        List<String> resultSet = ComparatorHelper.getResultSetFirstColumnAsString(originalQueryString, errors, state);
+        ResultSetFingerprint resultSet = ComparatorHelper.getResultSetFingerprint(originalQueryString, errors, state);
 
-        boolean orderBy = Randomly.getBooleanWithRatherLowProbability();
+        boolean orderBy = state.getRandomly().getBooleanWithRatherLowProbability();
         if (orderBy) {
             select.setOrderByExpressions(gen.generateOrderBys());
         }
         select.setWhereClause(predicate);
-        String firstQueryString = TiDBVisitor.asString(select);
+        String firstQueryString = TiDBVisitor.asString(select, state.getRandomly());
         select.setWhereClause(negatedPredicate);
-        String secondQueryString = TiDBVisitor.asString(select);
+        String secondQueryString = TiDBVisitor.asString(select, state.getRandomly());
         select.setWhereClause(isNullPredicate);
-        String thirdQueryString = TiDBVisitor.asString(select);
+        String thirdQueryString = TiDBVisitor.asString(select, state.getRandomly());
         List<String> combinedString = new ArrayList<>();
-        List<String> secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString, secondQueryString,
-                thirdQueryString, combinedString, !orderBy, state, errors);
+        ResultSetFingerprint secondResultSet = ComparatorHelper.getCombinedResultSet(firstQueryString,
+                secondQueryString, thirdQueryString, combinedString, !orderBy, state, errors);
         ComparatorHelper.assumeResultSetsAreEqual(resultSet, secondResultSet, originalQueryString, combinedString,
-                state);
+                state, errors);
     }
 
 }
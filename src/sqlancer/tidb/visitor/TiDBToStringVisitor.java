@@ -1,6 +1,7 @@
 package sqlancer.tidb.visitor;
 
 import sqlancer.IgnoreMeException;
+import sqlancer.IgnoreMeException.Reason;
 import sqlancer.Randomly;
 import sqlancer.tidb.TiDBBugs;
 import sqlancer.tidb.ast.TiDBAggregate;
@@ -19,6 +20,12 @@ import sqlancer.visitor.ToStringVisitor;
 
 public class TiDBToStringVisitor extends ToStringVisitor<TiDBExpression> implements TiDBVisitor {
 
+    private final Randomly r;
+
+    public TiDBToStringVisitor(Randomly r) {
+        this.r = r;
+    }
+
     @Override
     public void visitSpecific(TiDBExpression expr) {
         TiDBVisitor.super.visit(expr);
@@ -97,7 +104,7 @@ public class TiDBToStringVisitor extends ToStringVisitor<TiDBExpression> impleme
         sb.append(" ");
         switch (join.getJoinType()) {
         case INNER:
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append("INNER ");
             } else {
                 sb.append("CROSS ");
@@ -106,14 +113,14 @@ public class TiDBToStringVisitor extends ToStringVisitor<TiDBExpression> impleme
             break;
         case LEFT:
             sb.append("LEFT ");
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" OUTER ");
             }
             sb.append("JOIN ");
             break;
         case RIGHT:
             sb.append("RIGHT ");
-            if (Randomly.getBoolean()) {
+            if (r.getBoolean()) {
                 sb.append(" OUTER ");
             }
             sb.append("JOIN ");
@@ -131,7 +138,7 @@ public class TiDBToStringVisitor extends ToStringVisitor<TiDBExpression> impleme
                 break;
             case RIGHT:
                 if (TiDBBugs.bug15844) {
-                    throw new IgnoreMeException();
+                    throw new IgnoreMeException(Reason.KNOWN_BUG);
                 }
                 sb.append("RIGHT ");
                 break;
@@ -1,5 +1,6 @@
 package sqlancer.tidb.visitor;
 
+import sqlancer.Randomly;
 import sqlancer.tidb.ast.TiDBAggregate;
 import sqlancer.tidb.ast.TiDBCase;
 import sqlancer.tidb.ast.TiDBCastOperation;
@@ -60,10 +61,14 @@ public interface TiDBVisitor {
 
     void visit(TiDBText text);
 
-    static String asString(TiDBExpression expr) {
-        TiDBToStringVisitor v = new TiDBToStringVisitor();
-        v.visit(expr);
-        return v.getString();
+    static String asString(TiDBExpression expr, Randomly r) {
+        TiDBToStringVisitor v = new TiDBToStringVisitor(r);
+        try {
+            v.visit(expr);
+            return v.getString();
+        } finally {
+            v.release();
+        }
     }
 
 }
@@ -0,0 +1,40 @@
+package sqlancer.visitor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A per-thread pool of the buffers into which the to-string visitors render SQL. Rendering into a buffer that has
+ * already grown to the size of typical statements avoids resizing (and copying) a new buffer for every statement, so
+ * that the only copy is the final string that is passed to JDBC.
+ */
+public final class RenderBuffers {
+
+    private static final int INITIAL_CAPACITY = 256;
+    // buffers that grew for unusually large statements are not kept
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+    // visitors can render nested statements (e.g., subqueries), each of which needs its own buffer
+    private static final int MAX_RETAINED_BUFFERS = 8;
+
+    private static final ThreadLocal<Deque<StringBuilder>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private RenderBuffers() {
+    }
+
+    public static StringBuilder acquire() {
+        StringBuilder sb = POOL.get().poll();
+        return sb == null ? new StringBuilder(INITIAL_CAPACITY) : sb;
+    }
+
+    /**
+     * Returns the buffer to the pool of the current thread. The buffer must not be used after it has been released.
+     */
+    public static void release(StringBuilder sb) {
+        Deque<StringBuilder> pool = POOL.get();
+        if (sb.capacity() <= MAX_RETAINED_CAPACITY && pool.size() < MAX_RETAINED_BUFFERS) {
+            sb.setLength(0);
+            pool.push(sb);
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package sqlancer.visitor;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Caches the text of selected AST subtrees across the rendering of several statements. Test oracles that render
+ * variants of the same query (e.g., the TLP oracles, which render the query once for each partition) add the subtrees
+ * that do not change between the variants, such as the fetch columns, tables, joins, and the partitioning predicate.
+ * Each of these subtrees is then rendered only once and spliced into the following statements.
+ *
+ * The cache is keyed on the identity of the subtrees, so a subtree must not be modified after it has been rendered.
+ */
+public final class RenderCache<T> {
+
+    // denotes subtrees that have been added, but not rendered yet (compared by identity)
+    private static final String NOT_RENDERED = "<not rendered>";
+
+    private final Map<T, String> texts = new IdentityHashMap<>(16);
+
+    public void add(T subtree) {
+        if (subtree != null) {
+            texts.putIfAbsent(subtree, NOT_RENDERED);
+        }
+    }
+
+    public void addAll(Collection<? extends T> subtrees) {
+        for (T subtree : subtrees) {
+            add(subtree);
+        }
+    }
+
+    /**
+     * Returns the text of the subtree, or null if the subtree has not been added or not been rendered yet.
+     */
+    public String get(T subtree) {
+        String text = texts.get(subtree);
+        return text == NOT_RENDERED ? null : text;
+    }
+
+    /**
+     * Appends the cached text of the subtree to the buffer. If the subtree has not been rendered yet, the renderer
+     * appends it, and its text is cached if the subtree has been added.
+     */
+    public void render(T subtree, StringBuilder sb, Consumer<T> renderer) {
+        String text = texts.get(subtree);
+        if (text == null) {
+            renderer.accept(subtree);
+        } else if (text == NOT_RENDERED) {
+            int start = sb.length();
+            renderer.accept(subtree);
+            texts.put(subtree, sb.substring(start));
+        } else {
+            sb.append(text);
+        }
+    }
+
+}
@@ -1,12 +1,21 @@
 package sqlancer.visitor;
 
+import java.nio.CharBuffer;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import sqlancer.visitor.UnaryOperation.OperatorKind;
 
 public abstract class ToStringVisitor<T> extends NodeVisitor<T> {
 
-    protected final StringBuilder sb = new StringBuilder();
+    protected final StringBuilder sb = RenderBuffers.acquire();
+    // the start and end offsets of the rendered subtrees, if enabled by recordSubtrees()
+    private Map<T, int[]> subtrees;
+    private RenderCache<T> renderCache;
+    private Consumer<T> dispatcher;
+    private boolean released;
 
     public void visit(BinaryOperation<T> op) {
         sb.append('(');
@@ -44,9 +53,21 @@ public abstract class ToStringVisitor<T> extends NodeVisitor<T> {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public void visit(T expr) {
         assert expr != null;
+        int start = sb.length();
+        if (renderCache == null) {
+            dispatch(expr);
+        } else {
+            renderCache.render(expr, sb, dispatcher);
+        }
+        if (subtrees != null) {
+            subtrees.putIfAbsent(expr, new int[] { start, sb.length() });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(T expr) {
         if (expr instanceof BinaryOperation<?>) {
             visit((BinaryOperation<T>) expr);
         } else if (expr instanceof UnaryOperation<?>) {
@@ -67,8 +88,41 @@ public abstract class ToStringVisitor<T> extends NodeVisitor<T> {
         }
     }
 
+    public void setRenderCache(RenderCache<T> renderCache) {
+        this.renderCache = renderCache;
+        dispatcher = this::dispatch;
+    }
+
+    /**
+     * Records the text of each subtree that is rendered from now on, so that it can be obtained by
+     * {@link #getText(Object)} without rendering the subtree again.
+     */
+    public void recordSubtrees() {
+        subtrees = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns a view of the text of an already rendered subtree (see {@link #recordSubtrees()}), or null if the subtree
+     * has not been rendered. The view is valid until the visitor is released.
+     */
+    public CharSequence getText(T expr) {
+        int[] span = subtrees == null ? null : subtrees.get(expr);
+        return span == null ? null : CharBuffer.wrap(sb, span[0], span[1]);
+    }
+
     public String get() {
         return sb.toString();
     }
 
+    /**
+     * Returns the rendering buffer to the pool of the current thread (see {@link RenderBuffers}). The visitor must not
+     * be used afterwards.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            RenderBuffers.release(sb);
+        }
+    }
+
 }
@@ -0,0 +1,36 @@
+package sqlancer;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.beust.jcommander.JCommander;
+
+/**
+ * Creates the global state that the tests of the DBMS-independent components pass to them.
+ */
+final class GlobalStateFixture {
+
+    private GlobalStateFixture() {
+    }
+
+    /**
+     * Creates a global state for database0 with the given connection (which can be null) and the given command-line
+     * options; executed statements are not logged.
+     */
+    static GlobalState<Object> createGlobalState(Connection con, String... options) {
+        List<String> args = new ArrayList<>(Arrays.asList(options));
+        args.add("--log-each-select");
+        args.add("false");
+        MainOptions mainOptions = new MainOptions();
+        JCommander.newBuilder().addObject(mainOptions).build().parse(args.toArray(new String[0]));
+        GlobalState<Object> globalState = new GlobalState<>();
+        globalState.setMainOptions(mainOptions);
+        globalState.setState(new StateToReproduce("database0"));
+        globalState.setManager(new Main.QueryManager(globalState));
+        globalState.setConnection(con);
+        return globalState;
+    }
+
+}
@@ -0,0 +1,68 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.jupiter.api.Test;
+
+public class TestBinaryStatementLog {
+
+    private static final int NR_STATEMENTS = 10000;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        File file = File.createTempFile("sqlancer", ".sqlrlog");
+        try {
+            try (BinaryStatementLog.Writer writer = new BinaryStatementLog.Writer(file, "database0", 42)) {
+                for (int i = 0; i < NR_STATEMENTS; i++) {
+                    writer.write("INSERT INTO t0(c0) VALUES ('ä" + i + "')", i % 3 != 0);
+                }
+            }
+            try (BinaryStatementLog.Reader reader = new BinaryStatementLog.Reader(file)) {
+                assertEquals("database0", reader.getDatabaseName());
+                assertEquals(42, reader.getSeed());
+                for (int i = 0; i < NR_STATEMENTS; i++) {
+                    BinaryStatementLog.Record record = reader.next();
+                    assertEquals("INSERT INTO t0(c0) VALUES ('ä" + i + "')", record.getStatement());
+                    assertEquals(i % 3 != 0, record.isSuccess());
+                    assertEquals(42, record.getSeed());
+                    assertEquals(Thread.currentThread().getName(), record.getThread());
+                }
+                assertNull(reader.next());
+                assertTrue(reader.isComplete());
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testTruncatedLog() throws IOException {
+        File file = File.createTempFile("sqlancer", ".sqlrlog");
+        try {
+            BinaryStatementLog.Writer writer = new BinaryStatementLog.Writer(file, "database0", 42);
+            writer.write("CREATE TABLE t0(c0 INT)", true);
+            writer.flush();
+            long length = file.length();
+            writer.write("INSERT INTO t0(c0) VALUES (1)", true);
+            writer.close();
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(length + 5);
+            }
+            try (BinaryStatementLog.Reader reader = new BinaryStatementLog.Reader(file)) {
+                assertEquals("CREATE TABLE t0(c0 INT)", reader.next().getStatement());
+                assertNull(reader.next());
+                assertFalse(reader.isComplete());
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import sqlancer.CountCheckBatch.CountCheck;
+
+public class TestCountCheckBatch {
+
+    private static GlobalState<Object> createGlobalState(Connection con, int batchSize) {
+        return GlobalStateFixture.createGlobalState(con, "--check-batch-size", String.valueOf(batchSize));
+    }
+
+    @Test
+    public void testOnlyFailingChecksAreExecutedIndividually() throws SQLException {
+        try (Connection con = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            try (Statement s = con.createStatement()) {
+                s.execute("CREATE TABLE t0(c0)");
+                s.execute("INSERT INTO t0 VALUES (1), (2), (NULL)");
+            }
+            CountCheckBatch batch = new CountCheckBatch(createGlobalState(con, 3), Arrays.asList("no such table"));
+            AtomicInteger executions = new AtomicInteger();
+            batch.add(new CountCheck("SELECT COUNT(*) FROM t0 WHERE c0 > 1", "SELECT SUM(c0 > 1 IS TRUE) FROM t0",
+                    executions::incrementAndGet));
+            batch.add(
+                    new CountCheck("SELECT COUNT(*) FROM t0", "SELECT COUNT(c0) FROM t0", executions::incrementAndGet));
+            assertEquals(0, executions.get());
+            batch.add(new CountCheck("SELECT COUNT(*) FROM t0", "SELECT 3", executions::incrementAndGet));
+            // only the second check computes different counts
+            assertEquals(1, executions.get());
+            batch.add(new CountCheck("SELECT COUNT(*) FROM t1", "SELECT 0", executions::incrementAndGet));
+            batch.add(new CountCheck("SELECT 1", "SELECT 1", executions::incrementAndGet));
+            batch.flush();
+            // the batch fails due to the first check, so both checks are executed individually
+            assertEquals(3, executions.get());
+            batch.flush();
+            assertEquals(3, executions.get());
+        }
+    }
+
+    @Test
+    public void testWithoutBatching() throws SQLException {
+        CountCheckBatch batch = new CountCheckBatch(createGlobalState(null, 1), Arrays.asList());
+        AtomicInteger executions = new AtomicInteger();
+        batch.add(new CountCheck("SELECT 1", "SELECT 1", executions::incrementAndGet));
+        assertEquals(1, executions.get());
+    }
+
+}
@@ -0,0 +1,64 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+public class TestExpectedErrors {
+
+    @Test
+    public void testOverlappingErrors() {
+        ExpectedErrors errors = ExpectedErrors.compile("division by zero", "by zero raised", "sion", "out of range");
+        assertEquals("sion", errors.findMatch("division by zero"));
+        assertEquals("out of range", errors.findMatch("integer out of range"));
+        assertEquals("by zero raised", errors.findMatch("zero by zero raised to"));
+        assertNull(errors.findMatch("out of rang"));
+        assertNull(errors.findMatch("syntax error"));
+        assertFalse(errors.errorIsExpected(null));
+        assertTrue(errors.errorIsExpected("[SQLITE_ERROR] integer out of range"));
+    }
+
+    @Test
+    public void testFailureTransitions() {
+        ExpectedErrors errors = ExpectedErrors.compile("aab", "abc");
+        assertEquals("aab", errors.findMatch("aaab"));
+        assertEquals("abc", errors.findMatch("aaxabc"));
+        assertNull(errors.findMatch("aac"));
+    }
+
+    @Test
+    public void testEmptySets() {
+        assertNull(ExpectedErrors.compile().findMatch("error"));
+        assertEquals("", ExpectedErrors.compile("").findMatch(null));
+    }
+
+    @Test
+    public void testInterning() {
+        ExpectedErrors errors = ExpectedErrors.compile("no such table", "no such column");
+        assertSame(errors, ExpectedErrors.from(new HashSet<>(Arrays.asList("no such column", "no such table"))));
+        assertSame(errors, ExpectedErrors.from(errors));
+        assertEquals(2, errors.size());
+        assertTrue(errors.contains("no such table"));
+    }
+
+    @Test
+    public void testMutableErrors() {
+        ExpectedErrors errors = new ExpectedErrors();
+        errors.add("no such table");
+        assertSame(errors, ExpectedErrors.from(errors));
+        assertEquals("no such table", errors.findMatch("no such table: t0"));
+        assertNull(errors.findMatch("no such column: c0"));
+        errors.add("no such column");
+        assertEquals("no such column", errors.findMatch("no such column: c0"));
+        assertThrows(UnsupportedOperationException.class, () -> ExpectedErrors.compile("no such table").add("error"));
+    }
+
+}
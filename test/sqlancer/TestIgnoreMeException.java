@@ -0,0 +1,27 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import sqlancer.IgnoreMeException.Reason;
+
+public class TestIgnoreMeException {
+
+    @Test
+    public void testReasonsAreCounted() {
+        long nrKnownBugs = Metrics.getNrIgnored(Reason.KNOWN_BUG);
+        long nrUnspecified = Metrics.getNrIgnored(Reason.UNSPECIFIED);
+        IgnoreMeException e = new IgnoreMeException(Reason.KNOWN_BUG);
+        new IgnoreMeException();
+        assertEquals(Reason.KNOWN_BUG, e.getReason());
+        assertEquals(nrKnownBugs + 1, Metrics.getNrIgnored(Reason.KNOWN_BUG));
+        assertEquals(nrUnspecified + 1, Metrics.getNrIgnored(Reason.UNSPECIFIED));
+    }
+
+    @Test
+    public void testNoStackTrace() {
+        assertEquals(0, new IgnoreMeException(Reason.EMPTY_TABLE).getStackTrace().length);
+    }
+
+}
@@ -0,0 +1,35 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class TestMetadataCache {
+
+    @Test
+    public void testLoadedOncePerServer() throws SQLException {
+        AtomicInteger nrLoads = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("a", MetadataCache.get("jdbc:test://server1", "1.0", "test", () -> {
+                nrLoads.incrementAndGet();
+                return "a";
+            }));
+        }
+        assertEquals(1, nrLoads.get());
+        assertEquals("b", MetadataCache.get("jdbc:test://server1", "2.0", "test", () -> "b"));
+        assertEquals("c", MetadataCache.get("jdbc:test://server2", "1.0", "test", () -> "c"));
+    }
+
+    @Test
+    public void testInvalidate() throws SQLException {
+        MetadataCache.get("jdbc:test://server3", "1.0", "test", () -> "a");
+        MetadataCache.get("jdbc:test://server4", "1.0", "test", () -> "a");
+        MetadataCache.invalidate("jdbc:test://server3");
+        assertEquals("b", MetadataCache.get("jdbc:test://server3", "1.0", "test", () -> "b"));
+        assertEquals("a", MetadataCache.get("jdbc:test://server4", "1.0", "test", () -> "b"));
+    }
+
+}
@@ -0,0 +1,115 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import sqlancer.ParallelOracleExecutor.WorkerFactory;
+
+public class TestParallelOracleExecutor {
+
+    private final List<Connection> workerConnections = new CopyOnWriteArrayList<>();
+
+    private static GlobalState<Object> createGlobalState(int nrWorkers, int nrQueries) {
+        return GlobalStateFixture.createGlobalState(null, "--oracle-workers", String.valueOf(nrWorkers),
+                "--num-queries", String.valueOf(nrQueries));
+    }
+
+    private WorkerFactory<GlobalState<Object>> getWorkerFactory() {
+        return (g, seed) -> {
+            Connection con = DriverManager.getConnection("jdbc:sqlite::memory:");
+            workerConnections.add(con);
+            GlobalState<Object> worker = new GlobalState<>();
+            g.initializeWorker(worker, con, new Randomly(seed), new StateToReproduce(g.getDatabaseName()));
+            return worker;
+        };
+    }
+
+    @Test
+    public void testChecksAreDistributed() throws SQLException {
+        AtomicInteger nrChecks = new AtomicInteger();
+        ParallelOracleExecutor.executeChecks(createGlobalState(4, 10), null, getWorkerFactory(),
+                g -> nrChecks::incrementAndGet);
+        assertEquals(10, nrChecks.get());
+        assertEquals(4, workerConnections.size());
+        for (Connection con : workerConnections) {
+            assertTrue(con.isClosed());
+        }
+    }
+
+    @Test
+    public void testChecksAreDeterministic() throws SQLException {
+        List<Long> firstValues = getCheckValues(4);
+        assertEquals(100, firstValues.size());
+        assertEquals(firstValues, getCheckValues(4));
+        assertEquals(firstValues, getCheckValues(1));
+    }
+
+    private List<Long> getCheckValues(int nrWorkers) throws SQLException {
+        List<Long> values = new CopyOnWriteArrayList<>();
+        ParallelOracleExecutor.executeChecks(createGlobalState(nrWorkers, 100), null, getWorkerFactory(),
+                g -> () -> values.add(g.getRandomly().getNonCachedInteger()));
+        List<Long> sortedValues = new ArrayList<>(values);
+        Collections.sort(sortedValues);
+        return sortedValues;
+    }
+
+    @Test
+    public void testBugIsMergedIntoState() {
+        GlobalState<Object> globalState = createGlobalState(2, 100);
+        assertThrows(AssertionError.class,
+                () -> ParallelOracleExecutor.executeChecks(globalState, null, getWorkerFactory(), g -> () -> {
+                    g.getState().queryString = "SELECT 1";
+                    throw new AssertionError();
+                }));
+        assertEquals("SELECT 1", globalState.getState().getQueryString());
+    }
+
+    @Test
+    public void testWithoutWorkers() throws SQLException {
+        AtomicInteger nrChecks = new AtomicInteger();
+        ParallelOracleExecutor.executeChecks(createGlobalState(2, 10), nrChecks::incrementAndGet, null, null);
+        assertEquals(10, nrChecks.get());
+    }
+
+    @Test
+    public void testSessionStatementsAreReplayed() throws SQLException, IOException {
+        File database = File.createTempFile("database", ".db");
+        try (Connection con = DriverManager.getConnection("jdbc:sqlite:" + database.getAbsolutePath())) {
+            GlobalState<Object> globalState = createGlobalState(1, 1);
+            globalState.setConnection(con);
+            globalState.getState().statements.add(new QueryAdapter("CREATE TABLE t0(c0)"));
+            globalState.getState().statements.add(new QueryAdapter("CREATE TEMP TABLE t1(c0)"));
+            try (Connection session = ParallelOracleExecutor.openSession(globalState,
+                    s -> s.startsWith("CREATE TEMP"))) {
+                try (Statement s = session.createStatement()) {
+                    try (ResultSet rs = s.executeQuery("SELECT name FROM sqlite_master UNION ALL "
+                            + "SELECT name FROM sqlite_temp_master")) {
+                        assertTrue(rs.next());
+                        assertEquals("t1", rs.getString(1));
+                        assertFalse(rs.next());
+                    }
+                }
+            }
+        } finally {
+            database.delete();
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TestPivotRowCache {
+
+    private static final String QUERY = "SELECT c0 FROM t0";
+
+    @Test
+    public void testSampleContainsOnlyRowsOfTable() throws SQLException {
+        try (Connection con = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            execute(con, "CREATE TABLE t0(c0 INT)");
+            for (int i = 0; i < 100; i++) {
+                execute(con, "INSERT INTO t0(c0) VALUES (" + i + ")");
+            }
+            PivotRowCache cache = new PivotRowCache(10);
+            Randomly r = new Randomly();
+            Set<Integer> rows = new HashSet<>();
+            for (int i = 0; i < 1000; i++) {
+                int row = cache.getRandomRow(con, QUERY, rs -> rs.getInt(1), r);
+                assertTrue(row >= 0 && row < 100);
+                rows.add(row);
+            }
+            assertEquals(10, rows.size());
+        }
+    }
+
+    @Test
+    public void testInvalidate() throws SQLException {
+        try (Connection con = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            execute(con, "CREATE TABLE t0(c0 INT)");
+            execute(con, "CREATE TABLE t1(c0 INT)");
+            // the trigger inserts into t0, although the statement only refers to t1
+            execute(con, "CREATE TRIGGER tr0 AFTER INSERT ON t1 BEGIN INSERT INTO t0(c0) VALUES (NEW.c0); END");
+            PivotRowCache cache = new PivotRowCache(10);
+            Randomly r = new Randomly();
+            assertNull(cache.getRandomRow(con, QUERY, rs -> rs.getInt(1), r));
+            execute(con, "INSERT INTO t1(c0) VALUES (1)");
+            cache.invalidate(new QueryAdapter("SELECT * FROM t0"));
+            assertNull(cache.getRandomRow(con, QUERY, rs -> rs.getInt(1), r));
+            cache.invalidate(new QueryAdapter("INSERT INTO t1(c0) VALUES (1)"));
+            assertEquals(1, (int) cache.getRandomRow(con, QUERY, rs -> rs.getInt(1), r));
+        }
+    }
+
+    private static void execute(Connection con, String sql) throws SQLException {
+        try (Statement s = con.createStatement()) {
+            s.execute(sql);
+        }
+    }
+
+}
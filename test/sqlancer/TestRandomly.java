@@ -22,10 +22,11 @@ public class TestRandomly {
 
     @Test // test that every option is picked
     public void testFromOptions() {
+        Randomly r = new Randomly();
         Integer[] options = { 1, 2, 3 };
         List<Integer> remainingOptions = new ArrayList<>(Arrays.asList(options));
         while (!remainingOptions.isEmpty()) {
-            Integer pickedOption = Randomly.fromOptions(options);
+            Integer pickedOption = r.fromOptions(options);
             remainingOptions.remove(pickedOption);
         }
         assertTrue(remainingOptions.isEmpty());
@@ -33,13 +34,14 @@ public class TestRandomly {
 
     @Test
     public void testSubset() {
+        Randomly r = new Randomly();
         boolean encounteredEmptySubset = false;
         boolean encounteredOriginalSet = false;
         boolean encounteredStrictSubsetNonEmpty = false;
         Integer[] options = { 1, 2, 3 };
         List<Integer> optionList = new ArrayList<>(Arrays.asList(options));
         do {
-            List<Integer> subset = Randomly.subset(optionList);
+            List<Integer> subset = r.subset(optionList);
             assertEquals(optionList.size(), 3); // check that the original set hasn't been modified
             assertTrue(optionList.containsAll(subset));
             if (subset.isEmpty()) {
@@ -163,9 +165,10 @@ public class TestRandomly {
 
     @Test
     public void testNonCachedInteger() {
-        assertEquals(0, Randomly.getNotCachedInteger(0, 1));
-        assertEquals(0, Randomly.getNotCachedInteger(0, 0));
-        assertThrows(Exception.class, () -> Randomly.getNotCachedInteger(5, 0));
+        Randomly r = new Randomly();
+        assertEquals(0, r.getNotCachedInteger(0, 1));
+        assertEquals(0, r.getNotCachedInteger(0, 0));
+        assertThrows(Exception.class, () -> r.getNotCachedInteger(5, 0));
     }
 
     @Test
@@ -223,13 +226,47 @@ public class TestRandomly {
         }
     }
 
+    @Test // the same seed must always result in the same values, independently of other generators
+    public void testRandomSourceSeed() {
+        RandomSource first = new RandomSource(1);
+        RandomSource second = new RandomSource(1);
+        for (int i = 0; i < NR_MIN_RUNS; i++) {
+            new RandomSource(i).nextLong();
+            assertEquals(first.nextLong(), second.nextLong());
+            assertEquals(first.nextGaussian(), second.nextGaussian());
+        }
+    }
+
+    @Test
+    public void testRandomSourceBounds() {
+        RandomSource source = new RandomSource(0);
+        boolean encounteredLower = false;
+        for (int i = 0; i < NR_MIN_RUNS; i++) {
+            long val = source.nextLong(-5, 5);
+            assertTrue(val >= -5 && val < 5);
+            encounteredLower |= val == -5;
+            long large = source.nextLong(Long.MIN_VALUE, Long.MAX_VALUE);
+            assertTrue(large < Long.MAX_VALUE);
+            int small = source.nextInt(3);
+            assertTrue(small >= 0 && small < 3);
+        }
+        assertTrue(encounteredLower);
+    }
+
+    @Test
+    public void testRandomSourceInvalidBound() {
+        RandomSource source = new RandomSource(0);
+        assertThrows(IllegalArgumentException.class, () -> source.nextInt(0));
+        assertThrows(IllegalArgumentException.class, () -> source.nextInt(-1));
+    }
+
     private List<String> getRandomValueList(Randomly r) {
         List<String> values = new ArrayList<>();
         for (int i = 0; i < 1000; i++) {
             values.add(String.valueOf(r.getDouble()));
             values.add(String.valueOf(r.getInteger()));
             values.add(String.valueOf(r.getString()));
-            values.add(String.valueOf(Randomly.getBoolean()));
+            values.add(String.valueOf(r.getBoolean()));
         }
         return values;
     }
@@ -0,0 +1,48 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+public class TestResultSetFingerprint {
+
+    @Test
+    public void testOrderDoesNotMatter() throws SQLException {
+        assertEquals(getFingerprint("VALUES (1, 'a'), (2, 'b'), (NULL, 'c')"),
+                getFingerprint("VALUES (NULL, 'c'), (1, 'a'), (2, 'b')"));
+    }
+
+    @Test
+    public void testDuplicatesMatter() throws SQLException {
+        assertNotEquals(getFingerprint("VALUES (1), (1), (2)"), getFingerprint("VALUES (1), (2), (2)"));
+    }
+
+    @Test
+    public void testAllColumnsMatter() throws SQLException {
+        assertNotEquals(getFingerprint("VALUES (1, 'a')"), getFingerprint("VALUES (1, 'b')"));
+        assertNotEquals(getFingerprint("VALUES ('a', 'bc')"), getFingerprint("VALUES ('ab', 'c')"));
+        assertNotEquals(getFingerprint("VALUES (NULL)"), getFingerprint("VALUES ('')"));
+    }
+
+    private static ResultSetFingerprint getFingerprint(String query) throws SQLException {
+        ResultSetFingerprint fingerprint = new ResultSetFingerprint();
+        try (Connection con = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            try (Statement s = con.createStatement()) {
+                try (ResultSet rs = s.executeQuery(query)) {
+                    while (rs.next()) {
+                        fingerprint.addRow(rs, rs.getMetaData().getColumnCount());
+                    }
+                }
+            }
+        }
+        return fingerprint;
+    }
+
+}
@@ -0,0 +1,72 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the partitioning of the TLP join oracle (see CockroachDBTLPJoinOracle) on a left row that matches a right
+ * row under p and another one under NOT p.
+ */
+public class TestTLPJoinPartitioning {
+
+    private static final String ORIGINAL_QUERY = "SELECT t0.c0 FROM t0 LEFT JOIN t1 ON 1 UNION "
+            + "SELECT t0.c0 FROM t0 LEFT JOIN t1 ON 0";
+    private static final String FIRST_QUERY = "SELECT t0.c0 FROM t0 LEFT JOIN t1 ON t0.c0 = t1.c0";
+    private static final String SECOND_QUERY = "SELECT t0.c0 FROM t0 LEFT JOIN t1 ON NOT (t0.c0 = t1.c0)";
+    private static final String THIRD_QUERY = "SELECT t0.c0 FROM t0 LEFT JOIN t1 ON (t0.c0 = t1.c0) IS NULL";
+
+    @Test
+    public void testPartitionsAreEqualAsSet() throws SQLException {
+        try (Connection con = createDatabase()) {
+            GlobalState<Object> state = GlobalStateFixture.createGlobalState(con);
+            ResultSetFingerprint original = ComparatorHelper.getResultSetFingerprint(ORIGINAL_QUERY,
+                    Collections.emptySet(), state);
+            for (boolean asUnion : new boolean[] { true, false }) {
+                List<String> combinedString = new ArrayList<>();
+                ResultSetFingerprint combined = ComparatorHelper.getCombinedResultSetNoDuplicates(FIRST_QUERY,
+                        SECOND_QUERY, THIRD_QUERY, combinedString, asUnion, state, Collections.emptySet());
+                ComparatorHelper.assumeResultSetsAreEqual(original, combined, ORIGINAL_QUERY, combinedString, state,
+                        Collections.emptySet());
+            }
+        }
+    }
+
+    @Test
+    public void testPartitionsAreNotEqualAsMultiset() throws SQLException {
+        try (Connection con = createDatabase()) {
+            GlobalState<Object> state = GlobalStateFixture.createGlobalState(con);
+            String originalQuery = "SELECT t0.c0 FROM t0 LEFT JOIN t1 ON 1 UNION ALL "
+                    + "SELECT t0.c0 FROM t0 LEFT JOIN t1 ON 0 UNION ALL SELECT t0.c0 FROM t0 LEFT JOIN t1 ON 0";
+            ResultSetFingerprint original = ComparatorHelper.getResultSetFingerprint(originalQuery,
+                    Collections.emptySet(), state);
+            List<String> combinedString = new ArrayList<>();
+            ResultSetFingerprint combined = ComparatorHelper.getCombinedResultSet(FIRST_QUERY, SECOND_QUERY,
+                    THIRD_QUERY, combinedString, true, state, Collections.emptySet());
+            assertNotEquals(original.getNrRows(), combined.getNrRows());
+            assertThrows(AssertionError.class, () -> ComparatorHelper.assumeResultSetsAreEqual(original, combined,
+                    originalQuery, combinedString, state, Collections.emptySet()));
+        }
+    }
+
+    private static Connection createDatabase() throws SQLException {
+        Connection con = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement s = con.createStatement()) {
+            s.execute("CREATE TABLE t0(c0)");
+            s.execute("CREATE TABLE t1(c0)");
+            s.execute("INSERT INTO t0(c0) VALUES (1)");
+            s.execute("INSERT INTO t1(c0) VALUES (1), (2)");
+        }
+        return con;
+    }
+
+}
@@ -0,0 +1,113 @@
+package sqlancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import sqlancer.visitor.BinaryOperation;
+import sqlancer.visitor.RenderBuffers;
+import sqlancer.visitor.RenderCache;
+import sqlancer.visitor.ToStringVisitor;
+
+public class TestToStringVisitor {
+
+    private interface TestExpression {
+    }
+
+    private static class TestConstant implements TestExpression {
+
+        private final int value;
+
+        TestConstant(int value) {
+            this.value = value;
+        }
+
+    }
+
+    private static class TestAddition implements TestExpression, BinaryOperation<TestExpression> {
+
+        private final TestExpression left;
+        private final TestExpression right;
+
+        TestAddition(TestExpression left, TestExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public TestExpression getLeft() {
+            return left;
+        }
+
+        @Override
+        public TestExpression getRight() {
+            return right;
+        }
+
+        @Override
+        public String getOperatorRepresentation() {
+            return "+";
+        }
+
+    }
+
+    private static class TestToStringVisitorImpl extends ToStringVisitor<TestExpression> {
+
+        @Override
+        public void visitSpecific(TestExpression expr) {
+            sb.append(((TestConstant) expr).value);
+        }
+
+    }
+
+    @Test
+    public void testSubtreeText() {
+        TestExpression left = new TestAddition(new TestConstant(1), new TestConstant(2));
+        TestConstant right = new TestConstant(3);
+        TestExpression expr = new TestAddition(left, right);
+        TestToStringVisitorImpl visitor = new TestToStringVisitorImpl();
+        visitor.recordSubtrees();
+        assertNull(visitor.getText(expr));
+        visitor.visit(expr);
+        assertEquals("((((1)+(2)))+(3))", visitor.get());
+        assertEquals(visitor.get(), visitor.getText(expr).toString());
+        assertEquals("((1)+(2))", visitor.getText(left).toString());
+        assertEquals("3", visitor.getText(right).toString());
+        visitor.release();
+    }
+
+    @Test
+    public void testRenderCache() {
+        TestExpression predicate = new TestAddition(new TestConstant(1), new TestConstant(2));
+        RenderCache<TestExpression> renderCache = new RenderCache<>();
+        renderCache.add(predicate);
+        TestToStringVisitorImpl first = new TestToStringVisitorImpl();
+        first.setRenderCache(renderCache);
+        TestExpression firstQuery = new TestAddition(predicate, new TestConstant(3));
+        first.visit(firstQuery);
+        assertEquals("((1)+(2))", renderCache.get(predicate));
+        TestToStringVisitorImpl second = new TestToStringVisitorImpl();
+        second.setRenderCache(renderCache);
+        TestExpression secondQuery = new TestAddition(new TestConstant(4), predicate);
+        second.visit(secondQuery);
+        assertEquals("((4)+(((1)+(2))))", second.get());
+    }
+
+    @Test
+    public void testBuffersAreReused() {
+        StringBuilder first = RenderBuffers.acquire();
+        StringBuilder second = RenderBuffers.acquire();
+        assertNotSame(first, second);
+        first.append("SELECT 1");
+        RenderBuffers.release(first);
+        StringBuilder reused = RenderBuffers.acquire();
+        assertSame(first, reused);
+        assertEquals(0, reused.length());
+        RenderBuffers.release(reused);
+        RenderBuffers.release(second);
+    }
+
+}
@@ -15,4 +15,10 @@ public class TestSQLite3 {
                 "--num-threads", "1", "--num-queries", "0", "sqlite3" }));
     }
 
+    @Test
+    public void testSqliteInMemory() {
+        assertEquals(0, Main.executeMain(new String[] { "--random-seed", "0", "--timeout-seconds", TestConfig.SECONDS,
+                "--num-threads", "1", "--num-queries", "0", "sqlite3", "--storage", "MEMORY" }));
+    }
+
 }